@@ -1,19 +1,157 @@
 package com.truvis.controller.master;
 
+import com.truvis.common.response.ApiResponse;
+import com.truvis.master.application.MasterApplicationService;
+import com.truvis.master.domain.backtest.EntryRule;
+import com.truvis.master.domain.backtest.StrategyParameters;
+import com.truvis.master.model.BacktestResponse;
+import com.truvis.master.model.MasterAnalysisResponse;
+import com.truvis.master.model.MasterResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * 거장 REST API
  * - GET /api/masters - 거장 목록 조회
  * - GET /api/masters/{masterId} - 거장 상세 조회
- * - POST /api/masters/{masterId}/analyze - 종목 분석 요청
- * 
- * TODO: 구현 필요
- * - @RestController
- * - @RequestMapping("/api/masters")
- * - API 엔드포인트 구현
+ * - POST /api/masters/{masterId}/analyze - 종목 분석 요청 (기준별 값/통과 여부, 점수, 투자 의견)
+ * - GET /api/masters/{masterId}/picks - 거장 기준 추천 종목
+ * - POST /api/masters/backtests - 거장 전략 백테스트 (기본 전략 + 파라미터 세트 병렬 실행)
  */
+@RestController
+@RequestMapping("/api/masters")
+@RequiredArgsConstructor
+@Slf4j
 public class MasterController {
-    
-    // TODO: ApplicationService 의존성 주입
-    
-    // TODO: API 엔드포인트 구현
+
+    private static final BigDecimal DEFAULT_INITIAL_CASH = new BigDecimal("10000000");
+
+    private final MasterApplicationService masterApplicationService;
+
+    /**
+     * 거장 목록 조회
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<MasterResponse>>> getAllMasters() {
+        return ResponseEntity.ok(
+                ApiResponse.success(masterApplicationService.getAllMasters())
+        );
+    }
+
+    /**
+     * 거장 상세 조회 (투자 기준 포함)
+     */
+    @GetMapping("/{masterId}")
+    public ResponseEntity<ApiResponse<MasterResponse>> getMasterDetail(@PathVariable String masterId) {
+        return ResponseEntity.ok(
+                ApiResponse.success(masterApplicationService.getMasterDetail(masterId))
+        );
+    }
+
+    /**
+     * 거장 기준 종목 분석
+     */
+    @PostMapping("/{masterId}/analyze")
+    public ResponseEntity<ApiResponse<MasterAnalysisResponse>> analyzeStock(
+            @PathVariable String masterId,
+            @RequestBody AnalyzeRequest request
+    ) {
+        log.info("🔵 [API] 거장 종목 분석 요청: masterId={}, stockCode={}", masterId, request.stockCode());
+
+        return ResponseEntity.ok(
+                ApiResponse.success(masterApplicationService.analyzeStock(masterId, request.stockCode()))
+        );
+    }
+
+    /**
+     * 거장 기준 추천 종목
+     * - 필수 기준을 모두 통과한 종목을 점수순으로, limit: 최대 100
+     */
+    @GetMapping("/{masterId}/picks")
+    public ResponseEntity<ApiResponse<List<MasterAnalysisResponse>>> getPicks(
+            @PathVariable String masterId,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        log.debug("🔵 [API] 거장 추천 종목 조회: masterId={}, limit={}", masterId, limit);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(masterApplicationService.getPicks(masterId, limit))
+        );
+    }
+
+    /**
+     * 거장 전략 백테스트
+     * - from/to 생략 시 최근 3년, initialCash 생략 시 1,000만 원
+     * - styles(기본 전략)와 strategies(직접 정한 파라미터)가 모두 비어 있으면 모든 기본 전략
+     */
+    @PostMapping("/backtests")
+    public ResponseEntity<ApiResponse<BacktestResponse>> backtest(@RequestBody BacktestRequest request) {
+        LocalDate to = request.to() != null ? request.to() : LocalDate.now();
+        LocalDate from = request.from() != null ? request.from() : to.minusYears(3);
+        List<String> styles = request.styles() != null ? request.styles() : List.of();
+        List<StrategyParameters> strategies = request.strategies() != null
+                ? request.strategies().stream().map(StrategyRequest::toParameters).toList()
+                : List.of();
+        log.info("🔵 [API] 백테스트 요청: styles={}, 파라미터 {}세트, from={}, to={}",
+                styles, strategies.size(), from, to);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(masterApplicationService.backtest(
+                        styles,
+                        strategies,
+                        from,
+                        to,
+                        request.initialCash() != null ? request.initialCash() : DEFAULT_INITIAL_CASH,
+                        request.includeDetails()))
+        );
+    }
+}
+
+record AnalyzeRequest(
+        String stockCode  // 종목 코드 (예: "005930")
+) {
+}
+
+record BacktestRequest(
+        List<String> styles,  // 거장 스타일 기본 전략 (예: "VALUE", "GROWTH")
+        List<StrategyRequest> strategies,
+        LocalDate from,
+        LocalDate to,
+        BigDecimal initialCash,
+        boolean includeDetails  // 평가금액 곡선 + 체결 내역 포함 여부
+) {
+}
+
+record StrategyRequest(
+        String name,
+        String entryRule,  // "TREND_FOLLOWING" or "DIP_BUYING"
+        int shortWindow,
+        int longWindow,
+        double entryDrawdown,
+        double takeProfit,
+        double stopLoss,
+        double trailingStop,
+        int maxHoldingDays,
+        int maxPositions
+) {
+    StrategyParameters toParameters() {
+        return new StrategyParameters(
+                name != null ? name : entryRule + "-" + shortWindow + "/" + longWindow,
+                EntryRule.valueOf(entryRule),
+                shortWindow,
+                longWindow,
+                entryDrawdown,
+                takeProfit,
+                stopLoss,
+                trailingStop,
+                maxHoldingDays,
+                maxPositions
+        );
+    }
 }
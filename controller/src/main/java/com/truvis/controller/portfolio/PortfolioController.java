@@ -0,0 +1,201 @@
+package com.truvis.controller.portfolio;
+
+import com.truvis.common.response.ApiResponse;
+import com.truvis.portfolio.application.PortfolioApplicationService;
+import com.truvis.portfolio.model.LeaderboardEntryResponse;
+import com.truvis.portfolio.model.LeaderboardRankResponse;
+import com.truvis.portfolio.model.PortfolioResponse;
+import com.truvis.portfolio.model.PortfolioReturnsResponse;
+import com.truvis.portfolio.model.PortfolioRiskResponse;
+import com.truvis.portfolio.model.PortfolioSnapshotResponse;
+import com.truvis.portfolio.model.RebalancePlanResponse;
+import com.truvis.user.application.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포트폴리오 API
+ * - GET /api/portfolios/users/{userId} - 사용자 포트폴리오 조회
+ * - GET /api/portfolios/users/{userId}/snapshots - 일별 평가 추이 (기본 최근 1년)
+ * - GET /api/portfolios/users/{userId}/returns - 기간 수익률 TWR/XIRR (기본 최근 1년)
+ * - GET /api/portfolios/users/{userId}/risk - 위험 지표 (변동성, 베타, 1일 95% VaR)
+ * - PUT /api/portfolios/users/{userId}/master-style - 따라 하는 거장 스타일 지정/해제 (본인만)
+ * - GET /api/portfolios/leaderboard - 수익률 상위 순위 (style 지정 시 거장 스타일별)
+ * - GET /api/portfolios/users/{userId}/leaderboard - 내 순위와 위아래 순위
+ * - POST /api/portfolios/users/{userId}/rebalance-plan - 리밸런싱 계획 (목표 비중 또는 거장 스타일 기준, 본인만)
+ *
+ * 거장 스타일 포트폴리오 전체 리밸런싱 계획은 API로 열지 않고 RebalancePlanner가 장 마감 후 실행
+ */
+@RestController
+@RequestMapping("/api/portfolios")
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioController {
+
+    private final PortfolioApplicationService portfolioApplicationService;
+    private final UserService userService;
+
+    /**
+     * 사용자 포트폴리오 조회
+     */
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<ApiResponse<PortfolioResponse>> getPortfolio(@PathVariable Long userId) {
+        log.info("🔵 [API] 포트폴리오 조회: userId={}", userId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(portfolioApplicationService.getPortfolio(userId))
+        );
+    }
+
+    /**
+     * 일별 평가 추이 조회 (성과 차트용)
+     * - from/to: yyyy-MM-dd, 생략하면 최근 1년
+     */
+    @GetMapping("/users/{userId}/snapshots")
+    public ResponseEntity<ApiResponse<List<PortfolioSnapshotResponse>>> getSnapshots(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        log.debug("🔵 [API] 포트폴리오 평가 추이 조회: userId={}, from={}, to={}", userId, start, end);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(portfolioApplicationService.getSnapshots(userId, start, end))
+        );
+    }
+
+    /**
+     * 기간 수익률 조회 (시간가중 TWR, 금액가중 XIRR)
+     * - from/to: yyyy-MM-dd, 생략하면 최근 1년
+     */
+    @GetMapping("/users/{userId}/returns")
+    public ResponseEntity<ApiResponse<PortfolioReturnsResponse>> getReturns(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        log.info("🔵 [API] 포트폴리오 수익률 조회: userId={}, from={}, to={}", userId, start, end);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(portfolioApplicationService.getReturns(userId, start, end))
+        );
+    }
+
+    /**
+     * 위험 지표 조회 (최근 1년 일간 수익률 기준)
+     */
+    @GetMapping("/users/{userId}/risk")
+    public ResponseEntity<ApiResponse<PortfolioRiskResponse>> getRisk(@PathVariable Long userId) {
+        log.info("🔵 [API] 포트폴리오 위험 지표 조회: userId={}", userId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(portfolioApplicationService.analyzePortfolio(userId))
+        );
+    }
+
+    /**
+     * 거장 스타일 지정 (빈 값이면 해제)
+     * - 로그인한 사용자 본인의 포트폴리오만 (다르면 403)
+     */
+    @PutMapping("/users/{userId}/master-style")
+    public ResponseEntity<ApiResponse<Void>> changeMasterStyle(
+            @PathVariable Long userId,
+            @RequestBody MasterStyleRequest request,
+            @AuthenticationPrincipal String email
+    ) {
+        log.info("🔵 [API] 거장 스타일 변경: userId={}, masterStyle={}", userId, request.masterStyle());
+        checkOwner(userId, email);
+
+        portfolioApplicationService.changeMasterStyle(userId, request.masterStyle());
+        return ResponseEntity.ok(ApiResponse.success("거장 스타일이 변경되었습니다"));
+    }
+
+    /**
+     * 수익률 상위 순위
+     * - style: 거장 스타일 (생략하면 전체 순위), limit: 최대 100
+     */
+    @GetMapping("/leaderboard")
+    public ResponseEntity<ApiResponse<List<LeaderboardEntryResponse>>> getLeaderboard(
+            @RequestParam(required = false) String style,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        log.debug("🔵 [API] 수익률 순위 조회: style={}, limit={}", style, limit);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(portfolioApplicationService.getLeaderboard(style, limit))
+        );
+    }
+
+    /**
+     * 내 순위 조회
+     * - radius: 위아래로 같이 보여줄 인원 (최대 50)
+     */
+    @GetMapping("/users/{userId}/leaderboard")
+    public ResponseEntity<ApiResponse<LeaderboardRankResponse>> getLeaderboardRank(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String style,
+            @RequestParam(defaultValue = "5") int radius
+    ) {
+        log.debug("🔵 [API] 내 순위 조회: userId={}, style={}, radius={}", userId, style, radius);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(portfolioApplicationService.getLeaderboardRank(userId, style, radius))
+        );
+    }
+
+    /**
+     * 리밸런싱 계획 (주문은 내지 않음)
+     * - 로그인한 사용자 본인의 포트폴리오만 (다르면 403)
+     */
+    @PostMapping("/users/{userId}/rebalance-plan")
+    public ResponseEntity<ApiResponse<RebalancePlanResponse>> planRebalance(
+            @PathVariable Long userId,
+            @RequestBody RebalanceRequest request,
+            @AuthenticationPrincipal String email
+    ) {
+        log.info("🔵 [API] 리밸런싱 계획: userId={}, masterStyle={}, targets={}",
+                userId, request.masterStyle(), request.targetWeights() == null ? 0 : request.targetWeights().size());
+        checkOwner(userId, email);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(portfolioApplicationService.planRebalance(
+                        userId, request.masterStyle(), request.targetWeights(), request.cash()))
+        );
+    }
+
+    /**
+     * 경로의 userId가 로그인한 사용자(JWT 주체 이메일)인지 확인
+     */
+    private void checkOwner(Long userId, String email) {
+        if (email == null || !userId.equals(userService.getUserId(email))) {
+            log.warn("⚠️ [API] 다른 사용자의 포트폴리오 요청 거절: userId={}, email={}", userId, email);
+            throw new AccessDeniedException("본인의 포트폴리오만 요청할 수 있습니다");
+        }
+    }
+}
+
+record MasterStyleRequest(
+        String masterStyle  // 예: "VALUE", "GROWTH" (null이면 해제)
+) {
+}
+
+record RebalanceRequest(
+        String masterStyle,                     // 목표 비중이 없을 때 쓸 거장 스타일 (생략하면 포트폴리오의 거장 스타일)
+        Map<String, BigDecimal> targetWeights,  // 종목 코드 → 목표 비중 (0.1 = 10%, 합계 1 이하)
+        BigDecimal cash                         // 추가로 쓸 수 있는 현금 (생략하면 매도 대금으로만 매수)
+) {
+}
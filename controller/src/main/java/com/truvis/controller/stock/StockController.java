@@ -1,20 +1,246 @@
 package com.truvis.controller.stock;
 
+import com.truvis.common.response.ApiResponse;
+import com.truvis.stock.application.StockApplicationService;
+import com.truvis.stock.domain.Market;
+import com.truvis.stock.domain.ScreenCriteria;
+import com.truvis.stock.domain.ScreenerField;
+import com.truvis.stock.model.CandleResponse;
+import com.truvis.stock.model.PriceAlertResponse;
+import com.truvis.stock.model.ScreenResponse;
+import com.truvis.stock.model.StockResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.security.Principal;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * 종목 REST API
- * - GET /api/stocks/search - 종목 검색
+ * - GET /api/stocks/search - 종목 검색 (자동완성)
  * - GET /api/stocks/{symbol} - 종목 상세 조회
+ * - GET /api/stocks/{symbol}/candles - 봉(캔들) 조회
+ * - GET /api/stocks/watchlist - 관심 종목 목록
  * - POST /api/stocks/watchlist - 관심 종목 추가
  * - DELETE /api/stocks/watchlist/{symbol} - 관심 종목 제거
- * 
- * TODO: 구현 필요
- * - @RestController
- * - @RequestMapping("/api/stocks")
- * - API 엔드포인트 구현
+ * - GET /api/stocks/watchlist/stream - 관심 종목 실시간 시세 (SSE)
+ * - GET /api/stocks/alerts - 가격 알림 목록
+ * - POST /api/stocks/alerts - 가격 알림 등록
+ * - DELETE /api/stocks/alerts/{alertId} - 가격 알림 취소
+ * - POST /api/stocks/screen - 조건 검색 (스크리너)
  */
+@RestController
+@RequestMapping("/api/stocks")
+@RequiredArgsConstructor
+@Slf4j
 public class StockController {
-    
-    // TODO: ApplicationService 의존성 주입
-    
-    // TODO: API 엔드포인트 구현
+
+    private final StockApplicationService stockApplicationService;
+
+    /**
+     * 종목 검색 (자동완성)
+     * - 키 입력마다 호출되므로 로그는 debug 레벨
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<StockResponse>>> searchStocks(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        log.debug("🔵 [API] 종목 검색: query={}, limit={}", query, limit);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(stockApplicationService.searchStocks(query, limit))
+        );
+    }
+
+    /**
+     * 종목 상세 조회
+     */
+    @GetMapping("/{symbol}")
+    public ResponseEntity<ApiResponse<StockResponse>> getStockDetail(@PathVariable String symbol) {
+        log.info("🔵 [API] 종목 상세 조회: symbol={}", symbol);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(stockApplicationService.getStockDetail(symbol))
+        );
+    }
+
+    /**
+     * 봉(캔들) 조회
+     * - interval: 1s, 1m, 5m, 1h, 1d
+     */
+    @GetMapping("/{symbol}/candles")
+    public ResponseEntity<ApiResponse<List<CandleResponse>>> getCandles(
+            @PathVariable String symbol,
+            @RequestParam(defaultValue = "1m") String interval,
+            @RequestParam(defaultValue = "200") int limit
+    ) {
+        log.debug("🔵 [API] 봉 조회: symbol={}, interval={}, limit={}", symbol, interval, limit);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(stockApplicationService.getCandles(symbol, interval, limit))
+        );
+    }
+
+    /**
+     * 관심 종목 목록
+     */
+    @GetMapping("/watchlist")
+    public ResponseEntity<ApiResponse<List<StockResponse>>> getWatchlist(Principal principal) {
+        return ResponseEntity.ok(
+                ApiResponse.success(stockApplicationService.getWatchlist(principal.getName()))
+        );
+    }
+
+    /**
+     * 관심 종목 추가
+     */
+    @PostMapping("/watchlist")
+    public ResponseEntity<ApiResponse<Void>> addToWatchlist(
+            Principal principal,
+            @Valid @RequestBody WatchlistRequest request
+    ) {
+        log.info("🔵 [API] 관심 종목 추가: symbol={}", request.symbol());
+
+        stockApplicationService.addToWatchlist(principal.getName(), request.symbol());
+        return ResponseEntity.ok(ApiResponse.success("관심 종목에 추가되었습니다"));
+    }
+
+    /**
+     * 관심 종목 제거
+     */
+    @DeleteMapping("/watchlist/{symbol}")
+    public ResponseEntity<ApiResponse<Void>> removeFromWatchlist(
+            Principal principal,
+            @PathVariable String symbol
+    ) {
+        log.info("🔵 [API] 관심 종목 제거: symbol={}", symbol);
+
+        stockApplicationService.removeFromWatchlist(principal.getName(), symbol);
+        return ResponseEntity.ok(ApiResponse.success("관심 종목에서 제거되었습니다"));
+    }
+
+    /**
+     * 관심 종목 실시간 시세 (SSE)
+     * - 연결 직후 현재 시세, 이후 바뀐 종목만 "quote" 이벤트로 전송
+     */
+    @GetMapping(value = "/watchlist/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamWatchlist(Principal principal) {
+        return stockApplicationService.streamWatchlist(principal.getName());
+    }
+
+    /**
+     * 가격 알림 목록
+     */
+    @GetMapping("/alerts")
+    public ResponseEntity<ApiResponse<List<PriceAlertResponse>>> getPriceAlerts(Principal principal) {
+        return ResponseEntity.ok(
+                ApiResponse.success(stockApplicationService.getPriceAlerts(principal.getName()))
+        );
+    }
+
+    /**
+     * 가격 알림 등록
+     */
+    @PostMapping("/alerts")
+    public ResponseEntity<ApiResponse<PriceAlertResponse>> createPriceAlert(
+            Principal principal,
+            @Valid @RequestBody PriceAlertRequest request
+    ) {
+        log.info("🔵 [API] 가격 알림 등록: symbol={}, targetPrice={}", request.symbol(), request.targetPrice());
+
+        PriceAlertResponse response = stockApplicationService.createPriceAlert(
+                principal.getName(), request.symbol(), request.targetPrice());
+        return ResponseEntity.ok(ApiResponse.success(response, "가격 알림이 등록되었습니다"));
+    }
+
+    /**
+     * 가격 알림 취소
+     */
+    @DeleteMapping("/alerts/{alertId}")
+    public ResponseEntity<ApiResponse<Void>> cancelPriceAlert(
+            Principal principal,
+            @PathVariable long alertId
+    ) {
+        log.info("🔵 [API] 가격 알림 취소: alertId={}", alertId);
+
+        stockApplicationService.cancelPriceAlert(principal.getName(), alertId);
+        return ResponseEntity.ok(ApiResponse.success("가격 알림이 취소되었습니다"));
+    }
+
+    /**
+     * 조건 검색 (스크리너)
+     * - 시장/섹터는 값끼리 OR, 조건끼리는 AND
+     * - 예: {"markets":["KOSPI"], "ranges":[{"field":"per","max":10}, {"field":"roe","min":8}], "sortBy":"marketCap"}
+     */
+    @PostMapping("/screen")
+    public ResponseEntity<ApiResponse<ScreenResponse>> screenStocks(@Valid @RequestBody ScreenRequest request) {
+        log.info("🔵 [API] 종목 스크리닝: {}", request);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(stockApplicationService.screenStocks(request.toCriteria()))
+        );
+    }
+}
+
+record WatchlistRequest(
+        @NotBlank(message = "종목 코드는 필수입니다")
+        String symbol
+) {
+}
+
+record PriceAlertRequest(
+        @NotBlank(message = "종목 코드는 필수입니다")
+        String symbol,
+
+        @NotNull(message = "알림 가격은 필수입니다")
+        @Positive(message = "알림 가격은 0보다 커야 합니다")
+        BigDecimal targetPrice
+) {
+}
+
+/**
+ * 스크리너 요청
+ * - sortBy가 없으면 시가총액 순위순, ascending 기본값은 false (큰 값부터)
+ */
+record ScreenRequest(
+        List<String> markets,
+        List<String> sectors,
+        List<@Valid ScreenRangeRequest> ranges,
+        String sortBy,
+        Boolean ascending,
+        Integer limit
+) {
+
+    ScreenCriteria toCriteria() {
+        return new ScreenCriteria(
+                markets == null ? null : markets.stream().map(Market::fromCode).collect(Collectors.toSet()),
+                sectors == null ? null : Set.copyOf(sectors),
+                ranges == null ? null : ranges.stream()
+                        .map(range -> new ScreenCriteria.Range(ScreenerField.fromCode(range.field()), range.min(), range.max()))
+                        .toList(),
+                sortBy == null ? null : ScreenerField.fromCode(sortBy),
+                Boolean.TRUE.equals(ascending),
+                limit != null ? limit : 50
+        );
+    }
+}
+
+record ScreenRangeRequest(
+        @NotBlank(message = "스크리너 항목은 필수입니다")
+        String field,
+        BigDecimal min,
+        BigDecimal max
+) {
 }
@@ -1,6 +1,7 @@
 package com.truvis.controller.transaction;
 
 import com.truvis.common.response.ApiResponse;
+import com.truvis.portfolio.application.PortfolioWriteRetry;
 import com.truvis.transaction.application.TransactionService;
 import com.truvis.transaction.domain.Transaction;
 import com.truvis.transaction.domain.TransactionType;
@@ -18,9 +19,12 @@ import java.util.List;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final PortfolioWriteRetry portfolioWriteRetry;
 
     /**
      * 거래 실행
+     * - 같은 사용자의 매수가 동시에 들어와 포트폴리오 버전이 충돌하면 거래 트랜잭션을 통째로 다시 실행
+     *   (보유 종목 수 한도를 방금 커밋된 매수까지 세어서 다시 확인)
      */
     @PostMapping
     public ResponseEntity<ApiResponse<TransactionResponse>> executeTransaction(
@@ -28,13 +32,14 @@ public class TransactionController {
     ) {
         log.info("🔵 [API] 거래 실행 요청: {}", request);
 
-        Transaction transaction = transactionService.executeTransaction(
-                request.userId(),
-                request.stockCode(),
-                TransactionType.valueOf(request.type()),
-                request.quantity(),
-                request.price()
-        );
+        Transaction transaction = portfolioWriteRetry.execute(request.userId(), () ->
+                transactionService.executeTransaction(
+                        request.userId(),
+                        request.stockCode(),
+                        TransactionType.valueOf(request.type()),
+                        request.quantity(),
+                        request.price()
+                ));
 
         log.info("🔵 [API] 거래 실행 완료: id={}", transaction.getId());
 
@@ -1,32 +1,79 @@
 package com.truvis.controller.user;
 
 import com.truvis.user.application.SocialAuthService;
+import com.truvis.user.domain.SignUpType;
 import com.truvis.user.model.LoginResponse;
+import com.truvis.user.model.SocialAuthStateResponse;
 import com.truvis.user.model.SocialLoginRequest;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/auth/social")
 public class SocialAuthController {
 
+    /**
+     * state를 발급받은 브라우저에만 남는 쿠키 (HttpOnly + SameSite - 스크립트와 다른 사이트에서 읽거나 보낼 수 없음)
+     */
+    static final String STATE_COOKIE = "oauth2_state";
+    private static final String STATE_COOKIE_PATH = "/api/auth/social";
+
     private final SocialAuthService socialAuthService;
 
     public SocialAuthController(SocialAuthService socialAuthService) {
         this.socialAuthService = socialAuthService;
     }
 
+    /**
+     * 소셜 로그인 state 발급 (인가 요청 시작)
+     * POST /api/auth/social/{provider}/state
+     * - 프론트엔드는 인가 요청 URL에 이 state를 붙이고, 콜백의 state를 로그인 요청에 그대로 보낸다
+     * - 같은 값을 oauth2_state 쿠키(HttpOnly, SameSite=Lax)로도 내려준다 → 로그인 요청은 같은 브라우저에서 보내야 한다
+     * - IP별 요청 제한 (RateLimitRule.SOCIAL_STATE_BY_IP)
+     */
+    @PostMapping("/{provider}/state")
+    public ResponseEntity<SocialAuthStateResponse> issueState(@PathVariable SignUpType provider) {
+        SocialAuthStateResponse response = socialAuthService.issueState(provider);
+        ResponseCookie cookie = stateCookie(response.state(), Duration.ofSeconds(response.expiresInSeconds()));
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, cookie.toString())
+                .body(response);
+    }
+
     /**
      * 소셜 로그인 (카카오/네이버/구글 통합)
      * POST /api/auth/social/login
+     * - 프로바이더 응답을 기다리는 동안 요청 스레드를 점유하지 않도록 비동기 처리
+     * - state는 필수: 발급한 값과 다르거나, 이미 쓴 값이거나, oauth2_state 쿠키와 다르면 거절
+     * - 성공하면 state 쿠키를 지운다
      */
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> socialLogin(@Valid @RequestBody SocialLoginRequest request) {
+    public CompletableFuture<ResponseEntity<LoginResponse>> socialLogin(
+            @Valid @RequestBody SocialLoginRequest request,
+            @CookieValue(name = STATE_COOKIE, required = false) String browserState) {
         log.info("소셜 로그인 요청: provider={}, code={}", request.provider(), request.code());
-        LoginResponse response = socialAuthService.socialLogin(request.provider(), request.code());
-        return ResponseEntity.ok(response);
+        return socialAuthService.socialLoginAsync(
+                        request.provider(), request.code(), request.state(), browserState, request.deviceId())
+                .thenApply(response -> ResponseEntity.ok()
+                        .header(HttpHeaders.SET_COOKIE, stateCookie("", Duration.ZERO).toString())
+                        .body(response));
+    }
+
+    private static ResponseCookie stateCookie(String value, Duration maxAge) {
+        return ResponseCookie.from(STATE_COOKIE, value)
+                .httpOnly(true)
+                .secure(true)
+                .sameSite("Lax")
+                .path(STATE_COOKIE_PATH)
+                .maxAge(maxAge)
+                .build();
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import com.truvis.common.response.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -83,7 +84,18 @@ public class GlobalExceptionHandler {
     }
     
     /**
-     * 5️⃣ 예상하지 못한 모든 예외 처리 (최후의 보루)
+     * 5️⃣ 권한 없는 요청 처리 (다른 사용자의 자원)
+     * - 최후의 보루보다 먼저 잡아야 500이 아니라 403이 나간다
+     */
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException e) {
+        log.warn("권한 없는 요청: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+            .body(ErrorResponse.forbidden(e.getMessage()));
+    }
+    
+    /**
+     * 6️⃣ 예상하지 못한 모든 예외 처리 (최후의 보루)
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneralException(Exception e) {
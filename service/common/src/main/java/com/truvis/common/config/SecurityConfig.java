@@ -1,5 +1,8 @@
 package com.truvis.common.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.truvis.common.ratelimit.RateLimitFilter;
+import com.truvis.common.ratelimit.RateLimiter;
 import com.truvis.common.security.JwtAuthenticationFilter;
 import com.truvis.common.security.JwtTokenProvider;
 import com.truvis.common.security.TokenBlacklistService;
@@ -38,7 +41,11 @@ public class SecurityConfig {
     public SecurityFilterChain filterChain(
             HttpSecurity http, 
             JwtTokenProvider jwtTokenProvider,
-            TokenBlacklistService tokenBlacklistService) throws Exception {
+            TokenBlacklistService tokenBlacklistService,
+            RateLimiter rateLimiter,
+            ObjectMapper objectMapper,
+            @Value("${rate-limit.enabled:true}") boolean rateLimitEnabled,
+            @Value("${rate-limit.trust-forwarded-for:false}") boolean trustForwardedFor) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
 
@@ -64,6 +71,14 @@ public class SecurityConfig {
                         .frameOptions(frameOptions -> frameOptions.sameOrigin())
                 );
 
+        // 요청 제한은 JWT 인증보다 먼저 (인증/BCrypt/SMTP 비용이 들기 전에 차단)
+        if (rateLimitEnabled) {
+            http.addFilterBefore(
+                    new RateLimitFilter(rateLimiter, objectMapper, trustForwardedFor),
+                    JwtAuthenticationFilter.class
+            );
+        }
+
         return http.build();
     }
 }
\ No newline at end of file
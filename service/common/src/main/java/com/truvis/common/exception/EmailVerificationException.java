@@ -32,4 +32,8 @@ public class EmailVerificationException extends BusinessException {
     public static EmailVerificationException emailSendFailed(String email) {
         return new EmailVerificationException("EMAIL_SEND_FAILED", "이메일 전송에 실패했습니다: " + email);
     }
+    
+    public static EmailVerificationException tooManyAttempts() {
+        return new EmailVerificationException("TOO_MANY_VERIFICATION_ATTEMPTS", "인증번호 입력 횟수를 초과했습니다. 인증번호를 다시 요청해주세요");
+    }
 }
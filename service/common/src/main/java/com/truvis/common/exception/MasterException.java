@@ -0,0 +1,31 @@
+package com.truvis.common.exception;
+
+/**
+ * 거장 관련 예외
+ */
+public class MasterException extends BusinessException {
+
+    public MasterException(String message) {
+        super("MASTER_ERROR", message);
+    }
+
+    public MasterException(String errorCode, String message) {
+        super(errorCode, message);
+    }
+
+    public static MasterException invalidBacktestRange() {
+        return new MasterException("MASTER_001", "백테스트 기간에 거래일이 없습니다 (시작일은 종료일보다 늦을 수 없습니다)");
+    }
+
+    public static MasterException tooManyStrategies(int maxSize) {
+        return new MasterException("MASTER_002", "한 번에 백테스트할 수 있는 전략은 최대 " + maxSize + "개입니다");
+    }
+
+    public static MasterException unknownStyle(String masterStyle) {
+        return new MasterException("MASTER_003", "존재하지 않는 거장 스타일입니다: " + masterStyle);
+    }
+
+    public static MasterException masterNotFound(String masterId) {
+        return new MasterException("MASTER_004", "존재하지 않는 거장입니다: " + masterId);
+    }
+}
@@ -77,4 +77,16 @@ public class MemberException extends BusinessException {
     public static MemberException unsupportedSocialProvider(String provider) {
         return new MemberException("MEMBER_016", "지원하지 않는 소셜 프로바이더입니다: " + provider);
     }
+
+    public static MemberException socialProviderBusy(String provider) {
+        return new MemberException("MEMBER_017", provider + " 로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    public static MemberException socialProviderUnavailable(String provider) {
+        return new MemberException("MEMBER_018", provider + " 서버 응답이 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    public static MemberException invalidOAuthState() {
+        return new MemberException("MEMBER_019", "유효하지 않거나 만료된 소셜 로그인 요청입니다. 다시 로그인해주세요.");
+    }
 }
\ No newline at end of file
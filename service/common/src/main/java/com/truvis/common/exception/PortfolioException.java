@@ -0,0 +1,39 @@
+package com.truvis.common.exception;
+
+/**
+ * 포트폴리오 관련 예외
+ */
+public class PortfolioException extends BusinessException {
+
+    public PortfolioException(String message) {
+        super("PORTFOLIO_ERROR", message);
+    }
+
+    public PortfolioException(String errorCode, String message) {
+        super(errorCode, message);
+    }
+
+    public static PortfolioException invalidDateRange() {
+        return new PortfolioException("PORTFOLIO_001", "조회 시작일은 종료일보다 늦을 수 없습니다");
+    }
+
+    public static PortfolioException invalidMasterStyle(String masterStyle) {
+        return new PortfolioException("PORTFOLIO_002", "올바르지 않은 거장 스타일입니다: " + masterStyle);
+    }
+
+    public static PortfolioException portfolioNotFound(Long userId) {
+        return new PortfolioException("PORTFOLIO_003", "포트폴리오가 없습니다 (첫 거래 후 생성): userId=" + userId);
+    }
+
+    public static PortfolioException invalidTargetWeights(String reason) {
+        return new PortfolioException("PORTFOLIO_004", "올바르지 않은 목표 비중입니다: " + reason);
+    }
+
+    public static PortfolioException rebalanceTargetMissing() {
+        return new PortfolioException("PORTFOLIO_005", "목표 비중이나 거장 스타일이 필요합니다");
+    }
+
+    public static PortfolioException holdingLimitExceeded(int limit) {
+        return new PortfolioException("PORTFOLIO_006", "보유 종목은 최대 " + limit + "개입니다 (새 종목을 사려면 먼저 정리해 주세요)");
+    }
+}
@@ -0,0 +1,39 @@
+package com.truvis.common.exception;
+
+/**
+ * 종목 관련 예외
+ */
+public class StockException extends BusinessException {
+
+    public StockException(String message) {
+        super("STOCK_ERROR", message);
+    }
+
+    public StockException(String errorCode, String message) {
+        super(errorCode, message);
+    }
+
+    public static StockException stockNotFound(String symbol) {
+        return new StockException("STOCK_001", "존재하지 않는 종목입니다: " + symbol);
+    }
+
+    public static StockException invalidSearchQuery() {
+        return new StockException("STOCK_002", "검색어를 입력해주세요");
+    }
+
+    public static StockException watchlistFull(int maxSize) {
+        return new StockException("STOCK_003", "관심 종목은 최대 " + maxSize + "개까지 등록할 수 있습니다");
+    }
+
+    public static StockException alertLimitExceeded(int maxSize) {
+        return new StockException("STOCK_004", "가격 알림은 최대 " + maxSize + "개까지 등록할 수 있습니다");
+    }
+
+    public static StockException alertNotFound(long alertId) {
+        return new StockException("STOCK_005", "존재하지 않는 가격 알림입니다: " + alertId);
+    }
+
+    public static StockException invalidAlertPrice() {
+        return new StockException("STOCK_006", "알림 가격은 0보다 커야 합니다");
+    }
+}
@@ -0,0 +1,98 @@
+package com.truvis.common.ratelimit;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 요청 본문 앞부분을 미리 읽어두는 래퍼
+ * - 필터에서 이메일을 꺼내 본 뒤에도 컨트롤러가 본문을 그대로 읽을 수 있게 한다
+ * - 최대 maxCachedBytes 까지만 메모리에 올리고, 나머지는 원본 스트림에서 이어서 읽는다
+ */
+class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+    private final byte[] cachedPrefix;
+    private final boolean complete;
+
+    CachedBodyHttpServletRequest(HttpServletRequest request, int maxCachedBytes) throws IOException {
+        super(request);
+        this.cachedPrefix = request.getInputStream().readNBytes(maxCachedBytes + 1);
+        this.complete = cachedPrefix.length <= maxCachedBytes;
+    }
+
+    /**
+     * 본문 전체가 캐시되었으면 본문 바이트, 아니면 null
+     */
+    byte[] getCachedBodyIfComplete() {
+        return complete ? cachedPrefix : null;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        InputStream replay = new ByteArrayInputStream(cachedPrefix);
+        InputStream stream = complete
+                ? replay
+                : new SequenceInputStream(replay, super.getInputStream());
+        return new ReplayServletInputStream(stream);
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+
+    private static class ReplayServletInputStream extends ServletInputStream {
+
+        private final InputStream delegate;
+        private boolean finished = false;
+
+        ReplayServletInputStream(InputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = delegate.read();
+            if (value == -1) {
+                finished = true;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = delegate.read(buffer, offset, length);
+            if (count == -1) {
+                finished = true;
+            }
+            return count;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException("비동기 읽기는 지원하지 않습니다");
+        }
+    }
+}
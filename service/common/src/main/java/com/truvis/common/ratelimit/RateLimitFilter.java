@@ -0,0 +1,145 @@
+package com.truvis.common.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.truvis.common.response.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 요청 제한 필터
+ * - JwtAuthenticationFilter 앞에서 동작 (인증 전에 차단)
+ * - RateLimitRule에 등록된 POST 경로만 검사, 나머지는 그대로 통과
+ * - 이메일 기준 규칙이 있는 경로만 본문을 읽어서 email 필드를 꺼낸다
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_CACHED_BODY_BYTES = 16 * 1024;
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final boolean trustForwardedFor;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper, boolean trustForwardedFor) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.trustForwardedFor = trustForwardedFor;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        // 1. 적용 대상 규칙 조회 (대부분의 요청은 여기서 바로 통과)
+        List<RateLimitRule> rules = "POST".equals(request.getMethod())
+                ? RateLimitRule.forPath(resolvePath(request))
+                : List.of();
+
+        if (rules.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 2. 이메일 기준 규칙이 있으면 본문에서 이메일 추출
+        HttpServletRequest target = request;
+        String email = null;
+        if (requiresEmail(rules)) {
+            CachedBodyHttpServletRequest cached = new CachedBodyHttpServletRequest(request, MAX_CACHED_BODY_BYTES);
+            email = extractEmail(cached.getCachedBodyIfComplete());
+            target = cached;
+        }
+
+        // 3. 규칙별 검사 (하나라도 초과하면 거절)
+        String clientIp = resolveClientIp(request);
+        for (RateLimitRule rule : rules) {
+            String value = rule.getKeyType() == RateLimitKeyType.EMAIL ? email : clientIp;
+            if (value == null) {
+                continue;  // 이메일이 없는 요청은 Validation에서 걸러짐
+            }
+
+            long retryAfterMillis = rateLimiter.tryAcquire(rule, value);
+            if (retryAfterMillis > 0) {
+                log.warn("🚫 요청 제한: rule={}, {}={}, retryAfter={}ms",
+                        rule, rule.getKeyType().getDescription(), value, retryAfterMillis);
+                writeTooManyRequests(response, retryAfterMillis);
+                return;
+            }
+        }
+
+        // 4. 다음 필터로 전달
+        filterChain.doFilter(target, response);
+    }
+
+    private boolean requiresEmail(List<RateLimitRule> rules) {
+        for (RateLimitRule rule : rules) {
+            if (rule.getKeyType() == RateLimitKeyType.EMAIL) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * JSON 본문에서 email 필드 추출 (대소문자 무시로 정규화)
+     */
+    private String extractEmail(byte[] body) {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            if (email == null || !email.isTextual() || !StringUtils.hasText(email.asText())) {
+                return null;
+            }
+            return email.asText().trim().toLowerCase(Locale.ROOT);
+        } catch (IOException e) {
+            return null;  // 잘못된 JSON은 컨트롤러에서 400 처리
+        }
+    }
+
+    private String resolvePath(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /**
+     * 클라이언트 IP 추출
+     * - 프록시 뒤에 있을 때만 X-Forwarded-For 사용 (위조 방지)
+     */
+    private String resolveClientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (StringUtils.hasText(forwardedFor)) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, long retryAfterMillis) throws IOException {
+        long retryAfterSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        objectMapper.writeValue(response.getWriter(), ErrorResponse.tooManyRequests(retryAfterSeconds));
+    }
+}
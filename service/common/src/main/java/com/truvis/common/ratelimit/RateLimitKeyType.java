@@ -0,0 +1,20 @@
+package com.truvis.common.ratelimit;
+
+/**
+ * 요청 제한 키 종류
+ * - 무엇을 기준으로 요청 횟수를 셀지 구분
+ */
+public enum RateLimitKeyType {
+    IP("IP 주소"),
+    EMAIL("이메일");
+
+    private final String description;
+
+    RateLimitKeyType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
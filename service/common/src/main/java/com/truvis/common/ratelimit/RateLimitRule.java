@@ -0,0 +1,131 @@
+package com.truvis.common.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 요청 제한 규칙
+ * - BCrypt 검증(로그인), SMTP 발송(인증번호) 같은 비싼 경로 보호
+ * - limit / window: 클러스터 전체 기준 (Redis 슬라이딩 윈도우)
+ * - burst: 노드 로컬 토큰 버킷 용량 (순간 폭주 허용량)
+ *
+ * 모든 규칙은 POST 요청에만 적용된다.
+ */
+public enum RateLimitRule {
+
+    LOGIN_BY_IP(
+            List.of("/api/auth/login"),
+            RateLimitKeyType.IP,
+            30, Duration.ofMinutes(1), 10
+    ),
+    LOGIN_BY_EMAIL(
+            List.of("/api/auth/login"),
+            RateLimitKeyType.EMAIL,
+            10, Duration.ofMinutes(10), 5
+    ),
+    SOCIAL_LOGIN_BY_IP(
+            List.of("/api/auth/social/login"),
+            RateLimitKeyType.IP,
+            30, Duration.ofMinutes(1), 10
+    ),
+    SOCIAL_STATE_BY_IP(
+            List.of("/api/auth/social/KAKAO/state", "/api/auth/social/NAVER/state", "/api/auth/social/GOOGLE/state"),
+            RateLimitKeyType.IP,
+            30, Duration.ofMinutes(1), 10
+    ),
+    REFRESH_BY_IP(
+            List.of("/api/auth/refresh"),
+            RateLimitKeyType.IP,
+            60, Duration.ofMinutes(1), 20
+    ),
+    SIGNUP_BY_IP(
+            List.of("/api/user/signup"),
+            RateLimitKeyType.IP,
+            10, Duration.ofMinutes(1), 5
+    ),
+    EMAIL_CODE_BY_IP(
+            List.of("/api/user/email/verify", "/api/user/email/verify/resend"),
+            RateLimitKeyType.IP,
+            10, Duration.ofMinutes(10), 5
+    ),
+    EMAIL_CODE_BY_EMAIL(
+            List.of("/api/user/email/verify", "/api/user/email/verify/resend"),
+            RateLimitKeyType.EMAIL,
+            3, Duration.ofMinutes(10), 2
+    ),
+    EMAIL_CONFIRM_BY_IP(
+            List.of("/api/user/email/verify/confirm"),
+            RateLimitKeyType.IP,
+            60, Duration.ofMinutes(1), 20
+    ),
+    EMAIL_CONFIRM_BY_EMAIL(
+            List.of("/api/user/email/verify/confirm"),
+            RateLimitKeyType.EMAIL,
+            10, Duration.ofMinutes(10), 5
+    );
+
+    private static final Map<String, List<RateLimitRule>> RULES_BY_PATH = indexByPath();
+
+    private final List<String> paths;
+    private final RateLimitKeyType keyType;
+    private final int limit;
+    private final Duration window;
+    private final int burst;
+
+    RateLimitRule(List<String> paths, RateLimitKeyType keyType, int limit, Duration window, int burst) {
+        this.paths = paths;
+        this.keyType = keyType;
+        this.limit = limit;
+        this.window = window;
+        this.burst = burst;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public RateLimitKeyType getKeyType() {
+        return keyType;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * 토큰 1개가 충전되는 간격 (나노초)
+     */
+    public long emissionIntervalNanos() {
+        return window.toNanos() / limit;
+    }
+
+    /**
+     * 경로에 적용되는 규칙 목록 (없으면 빈 리스트)
+     */
+    public static List<RateLimitRule> forPath(String path) {
+        return RULES_BY_PATH.getOrDefault(path, Collections.emptyList());
+    }
+
+    private static Map<String, List<RateLimitRule>> indexByPath() {
+        Map<String, List<RateLimitRule>> index = new HashMap<>();
+        for (RateLimitRule rule : values()) {
+            for (String path : rule.paths) {
+                index.computeIfAbsent(path, p -> new ArrayList<>()).add(rule);
+            }
+        }
+        index.replaceAll((path, rules) -> List.copyOf(rules));
+        return Map.copyOf(index);
+    }
+}
@@ -0,0 +1,183 @@
+package com.truvis.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 제한기 (로컬 토큰 버킷 + Redis 슬라이딩 윈도우)
+ *
+ * 요청 경로에서는 메모리만 본다:
+ * 1. Redis 백스톱이 차단한 키인가? (blockedUntil)
+ * 2. 노드 로컬 토큰 버킷에 토큰이 있는가?
+ *
+ * 허용된 요청은 별도 스레드에서 Redis 윈도우에 기록하고,
+ * 클러스터 한도를 넘었다는 응답이 오면 해당 키를 로컬에서 차단한다.
+ * → 요청당 오버헤드는 해시 조회 + CAS 수준 (수 마이크로초 이하)
+ * → 다른 노드의 요청이 한도를 넘긴 직후 몇 건은 통과할 수 있다 (백스톱의 허용 오차)
+ *
+ * 로컬 버킷은 크기 제한 캐시(Caffeine, 최대 maxLocalKeys개)에 둔다.
+ * → 키를 바꿔가며 요청해도 맵이 한도를 넘지 않고, 넘칠 때 자주 쓰이지 않는 키부터 상수 시간에 밀려난다
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+
+    private final RedisSlidingWindowRateLimiter redisLimiter;
+    private final boolean redisBackstopEnabled;
+
+    private final Cache<String, TokenBucket> buckets;
+    private final ConcurrentHashMap<String, Long> blockedUntilNanos = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean(false);
+
+    // Redis 기록은 요청 스레드를 막지 않도록 작은 전용 풀에서 처리 (큐가 차면 버림 = fail-open)
+    private final ThreadPoolExecutor redisExecutor;
+
+    // 모니터링용 카운터
+    private final LongAdder allowedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder redisFailureCount = new LongAdder();
+
+    public RateLimiter(
+            RedisSlidingWindowRateLimiter redisLimiter,
+            @Value("${rate-limit.redis-backstop-enabled:true}") boolean redisBackstopEnabled,
+            @Value("${rate-limit.max-local-keys:100000}") int maxLocalKeys
+    ) {
+        this.redisLimiter = redisLimiter;
+        this.redisBackstopEnabled = redisBackstopEnabled;
+        // 축출은 요청 스레드에서 바로 처리 (건당 상수 비용, 공용 풀에 작업을 넘기지 않음)
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(Math.max(1, maxLocalKeys))
+                .executor(Runnable::run)
+                .build();
+        this.redisExecutor = new ThreadPoolExecutor(
+                1, 2, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(10_000),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "rate-limit-redis-" + THREAD_SEQUENCE.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy()
+        );
+    }
+
+    /**
+     * 요청 1건 허용 여부 판단
+     *
+     * @param rule 적용할 규칙
+     * @param value 키 값 (IP 주소, 이메일 등)
+     * @return 0이면 허용, 양수면 재시도까지 남은 시간 (ms)
+     */
+    public long tryAcquire(RateLimitRule rule, String value) {
+        String key = rule.name() + ":" + value;
+        long now = System.nanoTime();
+
+        // 1. Redis 백스톱이 차단한 키
+        Long blockedUntil = blockedUntilNanos.get(key);
+        if (blockedUntil != null) {
+            if (blockedUntil - now > 0) {
+                rejectedCount.increment();
+                return toMillis(blockedUntil - now);
+            }
+            blockedUntilNanos.remove(key, blockedUntil);
+        }
+
+        // 2. 노드 로컬 토큰 버킷
+        long waitNanos = buckets.get(key, k -> new TokenBucket(rule.emissionIntervalNanos(), rule.getBurst(), now))
+                .tryConsume(now);
+        if (waitNanos > 0) {
+            rejectedCount.increment();
+            return toMillis(waitNanos);
+        }
+
+        // 3. 클러스터 한도는 비동기로 기록/확인
+        if (redisBackstopEnabled) {
+            recordToRedis(key, rule);
+        }
+
+        allowedCount.increment();
+        return 0;
+    }
+
+    private void recordToRedis(String key, RateLimitRule rule) {
+        redisExecutor.execute(() -> {
+            try {
+                long retryAfterMillis = redisLimiter.tryAcquire(key, rule);
+                if (retryAfterMillis > 0) {
+                    blockedUntilNanos.put(key, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(retryAfterMillis));
+                    log.warn("🚫 요청 제한 (클러스터 한도 초과): rule={}, key={}, retryAfter={}ms",
+                            rule, key, retryAfterMillis);
+                }
+            } catch (Exception e) {
+                // Redis 장애 시에는 로컬 버킷만으로 계속 동작 (fail-open)
+                redisFailureCount.increment();
+                log.debug("요청 제한 Redis 기록 실패: key={}, error={}", key, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 🧹 가득 찬 버킷과 만료된 차단 정보 정리 (1분마다, 요청 경로에서는 호출하지 않음)
+     * - 가득 찬 버킷은 새로 만든 버킷과 동일하므로 지워도 동작이 같다
+     * - 크기 한도는 캐시가 지키므로 이 정리는 메모리를 일찍 돌려주는 용도
+     */
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void sweep() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            long now = System.nanoTime();
+            long before = buckets.estimatedSize();
+
+            buckets.asMap().values().removeIf(bucket -> bucket.isFull(now));
+            blockedUntilNanos.entrySet().removeIf(entry -> entry.getValue() - now <= 0);
+
+            log.debug("🧹 요청 제한 버킷 정리: {} → {} 개", before, buckets.estimatedSize());
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        redisExecutor.shutdown();
+    }
+
+    public long getAllowedCount() {
+        return allowedCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public long getRedisFailureCount() {
+        return redisFailureCount.sum();
+    }
+
+    public long getLocalKeyCount() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private static long toMillis(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(nanos + 999_999));
+    }
+}
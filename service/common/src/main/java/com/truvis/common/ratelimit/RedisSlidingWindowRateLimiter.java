@@ -0,0 +1,69 @@
+package com.truvis.common.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 슬라이딩 윈도우 요청 제한 (클러스터 공용 백스톱)
+ * - 키마다 ZSET에 요청 시각을 score로 기록
+ * - 윈도우 밖 기록 정리 + 개수 확인 + 기록 추가를 Lua 한 번으로 처리 (1 RTT)
+ */
+@Component
+@Slf4j
+public class RedisSlidingWindowRateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    /**
+     * KEYS[1] = 제한 키
+     * ARGV[1] = 현재 시각 (ms), ARGV[2] = 윈도우 (ms), ARGV[3] = 허용 횟수, ARGV[4] = 기록 member
+     * 반환: 0 = 허용, 양수 = 재시도까지 남은 시간 (ms)
+     */
+    private static final DefaultRedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local limit = tonumber(ARGV[3])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, now - window)
+            if redis.call('ZCARD', KEYS[1]) >= limit then
+                local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+                return math.max(1, tonumber(oldest[2]) + window - now)
+            end
+            redis.call('ZADD', KEYS[1], now, ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], window)
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // ZSET member 중복 방지용 (노드 ID + 순번)
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong sequence = new AtomicLong();
+
+    public RedisSlidingWindowRateLimiter(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 요청 1건 기록 시도
+     *
+     * @return 0이면 허용, 양수면 재시도까지 남은 시간 (ms)
+     */
+    public long tryAcquire(String key, RateLimitRule rule) {
+        Long retryAfterMillis = redisTemplate.execute(
+                SLIDING_WINDOW_SCRIPT,
+                List.of(KEY_PREFIX + key),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(rule.getWindow().toMillis()),
+                String.valueOf(rule.getLimit()),
+                nodeId + ":" + sequence.incrementAndGet()
+        );
+
+        return retryAfterMillis != null ? retryAfterMillis : 0;
+    }
+}
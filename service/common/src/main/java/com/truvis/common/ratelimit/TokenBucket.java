@@ -0,0 +1,54 @@
+package com.truvis.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드 로컬 토큰 버킷 (GCRA 방식)
+ * - 토큰 수/마지막 충전 시각 대신 "이론적 도착 시각(TAT)" 하나만 저장
+ * - AtomicLong 하나의 CAS로 동작 → 락 없음, 요청당 할당 없음
+ *
+ * 동작:
+ * - 요청마다 TAT를 emissionInterval 만큼 뒤로 민다
+ * - TAT가 현재보다 capacity × emissionInterval 이상 앞서 있으면 거절
+ * - TAT가 현재 이전이면 버킷이 가득 찬 상태 (삭제해도 의미가 같음)
+ */
+final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    TokenBucket(long emissionIntervalNanos, int capacity, long nowNanos) {
+        this.emissionIntervalNanos = emissionIntervalNanos;
+        this.toleranceNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 1개 소비 시도
+     *
+     * @return 0이면 허용, 양수면 다음 토큰까지 남은 시간 (나노초)
+     */
+    long tryConsume(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrivalNanos.get();
+            long newTat = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long ahead = newTat - nowNanos;
+
+            if (ahead > toleranceNanos) {
+                return ahead - toleranceNanos;
+            }
+
+            if (theoreticalArrivalNanos.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 상태인지 (정리 대상)
+     */
+    boolean isFull(long nowNanos) {
+        return theoreticalArrivalNanos.get() - nowNanos <= 0;
+    }
+}
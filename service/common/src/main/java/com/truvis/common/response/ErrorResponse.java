@@ -28,6 +28,10 @@ public class ErrorResponse {
         return of(message, "BAD_REQUEST");
     }
     
+    public static ErrorResponse forbidden(String message) {
+        return of(message, "FORBIDDEN");
+    }
+    
     public static ErrorResponse notFound(String message) {
         return of(message, "NOT_FOUND");
     }
@@ -47,4 +51,8 @@ public class ErrorResponse {
     public static ErrorResponse expiredVerificationCode() {
         return of("인증번호가 만료되었습니다", "EXPIRED_VERIFICATION_CODE");
     }
+    
+    public static ErrorResponse tooManyRequests(long retryAfterSeconds) {
+        return of("요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요", "TOO_MANY_REQUESTS");
+    }
 }
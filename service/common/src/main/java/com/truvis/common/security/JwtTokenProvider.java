@@ -9,9 +9,13 @@ import org.springframework.beans.factory.annotation.Value;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
 
 public class JwtTokenProvider {
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String SESSION_ID_CLAIM = "sid";
+
     private final Key key;
     private final long validityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
@@ -32,9 +36,19 @@ public class JwtTokenProvider {
         return createToken(email, validityInMilliseconds);
     }
 
-    // 2. RefreshToken 생성
-    public String createRefreshToken(String email) {
-        return createToken(email, refreshTokenValidityInMilliseconds);
+    // 2. RefreshToken 생성 (사용자 ID, 세션 ID 포함)
+    public String createRefreshToken(String email, Long userId, String sessionId) {
+        Date now = new Date();
+        Date validity = new Date(now.getTime() + refreshTokenValidityInMilliseconds);
+
+        return Jwts.builder()
+                .setSubject(email)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(SESSION_ID_CLAIM, sessionId)
+                .setIssuedAt(now)
+                .setExpiration(validity)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
     }
     
     // 3. 공통 토큰 생성 로직 (private)
@@ -71,6 +85,24 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * RefreshToken 파싱 (서명/만료 검증 + 클레임 추출을 한 번에)
+     * - 세션 정보가 없는 토큰(AccessToken, 이전 형식)은 empty
+     */
+    public Optional<RefreshTokenClaims> parseRefreshToken(String token) {
+        try {
+            Claims claims = getClaims(token);
+            Long userId = claims.get(USER_ID_CLAIM, Long.class);
+            String sessionId = claims.get(SESSION_ID_CLAIM, String.class);
+            if (userId == null || sessionId == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new RefreshTokenClaims(claims.getSubject(), userId, sessionId, claims.getExpiration()));
+        } catch (Exception e) {
+            return Optional.empty();  // 파싱 실패 또는 만료
+        }
+    }
+
     // 6. 토큰 파싱 (
     private Claims getClaims(String token) {
         return Jwts.parserBuilder()
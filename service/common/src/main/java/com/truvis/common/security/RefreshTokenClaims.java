@@ -0,0 +1,20 @@
+package com.truvis.common.security;
+
+import java.util.Date;
+
+/**
+ * RefreshToken 클레임
+ * - 한 번 파싱한 결과를 담아서 서명 검증/클레임 조회를 반복하지 않는다
+ *
+ * @param email 사용자 이메일 (subject)
+ * @param userId 사용자 ID
+ * @param sessionId 세션(기기) ID
+ * @param expiresAt 만료 시각
+ */
+public record RefreshTokenClaims(
+        String email,
+        Long userId,
+        String sessionId,
+        Date expiresAt
+) {
+}
@@ -0,0 +1,56 @@
+package com.truvis.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RateLimiter 로컬 버킷 테스트")
+class RateLimiterTest {
+
+    @Test
+    @DisplayName("버스트를 다 쓰면 거절하고 재시도 시간을 알려줌")
+    void rejectAfterBurst() {
+        // given (Redis 백스톱 없이 로컬 버킷만)
+        RateLimiter limiter = new RateLimiter(null, false, 100);
+        int burst = RateLimitRule.LOGIN_BY_IP.getBurst();
+
+        // when & then
+        for (int i = 0; i < burst; i++) {
+            assertThat(limiter.tryAcquire(RateLimitRule.LOGIN_BY_IP, "10.0.0.1")).isZero();
+        }
+        assertThat(limiter.tryAcquire(RateLimitRule.LOGIN_BY_IP, "10.0.0.1")).isPositive();
+        assertThat(limiter.tryAcquire(RateLimitRule.LOGIN_BY_IP, "10.0.0.2")).isZero();
+        assertThat(limiter.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키를 바꿔가며 요청해도 로컬 버킷 수는 한도를 넘지 않음")
+    void boundLocalKeysUnderKeyRotation() {
+        // given
+        RateLimiter limiter = new RateLimiter(null, false, 100);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire(RateLimitRule.LOGIN_BY_IP, "10.0." + (i / 256) + "." + (i % 256));
+        }
+
+        // then
+        assertThat(limiter.getLocalKeyCount()).isLessThanOrEqualTo(100);
+        assertThat(limiter.getAllowedCount()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("정리는 가득 찬 버킷만 지움")
+    void sweepRemovesFullBucketsOnly() {
+        // given
+        RateLimiter limiter = new RateLimiter(null, false, 100);
+        limiter.tryAcquire(RateLimitRule.LOGIN_BY_IP, "10.0.0.1");
+
+        // when
+        limiter.sweep();
+
+        // then (방금 토큰을 쓴 버킷은 아직 가득 차지 않음)
+        assertThat(limiter.getLocalKeyCount()).isEqualTo(1);
+    }
+}
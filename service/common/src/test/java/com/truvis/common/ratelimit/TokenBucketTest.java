@@ -0,0 +1,62 @@
+package com.truvis.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TokenBucket 테스트")
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("용량만큼은 한 번에 허용")
+    void allowBurstUpToCapacity() {
+        // given (초당 1개, 용량 3)
+        TokenBucket bucket = new TokenBucket(SECOND, 3, 0);
+
+        // when & then
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isEqualTo(SECOND);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰 충전")
+    void refillOverTime() {
+        // given
+        TokenBucket bucket = new TokenBucket(SECOND, 1, 0);
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isPositive();
+
+        // when & then
+        assertThat(bucket.tryConsume(SECOND)).isZero();
+    }
+
+    @Test
+    @DisplayName("충분히 쉬면 가득 찬 상태로 판단 (정리 대상)")
+    void fullAfterIdle() {
+        // given
+        TokenBucket bucket = new TokenBucket(SECOND, 5, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        // when & then
+        assertThat(bucket.isFull(0)).isFalse();
+        assertThat(bucket.isFull(2 * SECOND)).isTrue();
+    }
+
+    @Test
+    @DisplayName("경로별 규칙 조회")
+    void rulesForPath() {
+        assertThat(RateLimitRule.forPath("/api/auth/login"))
+                .containsExactlyInAnyOrder(RateLimitRule.LOGIN_BY_IP, RateLimitRule.LOGIN_BY_EMAIL);
+        assertThat(RateLimitRule.forPath("/api/auth/social/KAKAO/state"))
+                .containsExactly(RateLimitRule.SOCIAL_STATE_BY_IP);
+        assertThat(RateLimitRule.forPath("/api/stocks/search")).isEmpty();
+    }
+}
@@ -0,0 +1,44 @@
+package com.truvis.common.benchmark;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 벤치마크 결과 출력 (모듈 공통, SLF4J INFO)
+ * - 모든 줄은 "[벤치마크]"로 시작 → 로그에서 걸러 보기 쉽게
+ * - 숫자는 천 단위 구분 (%,d)
+ */
+public final class BenchmarkReporter {
+
+    private static final Logger log = LoggerFactory.getLogger(BenchmarkReporter.class);
+
+    private BenchmarkReporter() {
+    }
+
+    /**
+     * 처리량 (startNanos부터 지금까지 operations건)
+     */
+    public static void throughput(String name, long startNanos, long operations) {
+        double millis = elapsedMillis(startNanos);
+        log.info(String.format("[벤치마크] %-12s %,d건 %,.1fms (%,.0f건/초)",
+                name, operations, millis, operations / (millis / 1000.0)));
+    }
+
+    /**
+     * 걸린 시간 (startNanos부터 지금까지)
+     */
+    public static void elapsed(String name, long startNanos) {
+        log.info(String.format("[벤치마크] %s %,.1fms", name, elapsedMillis(startNanos)));
+    }
+
+    /**
+     * 그 밖의 결과 한 줄 (String.format 형식)
+     */
+    public static void report(String format, Object... args) {
+        log.info("[벤치마크] " + String.format(format, args));
+    }
+
+    private static double elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,227 @@
+package com.truvis.master.application;
+
+import com.truvis.common.exception.MasterException;
+import com.truvis.master.config.BacktestPoolConfig;
+import com.truvis.master.domain.backtest.BacktestPosition;
+import com.truvis.master.domain.backtest.BacktestReport;
+import com.truvis.master.domain.backtest.BacktestResult;
+import com.truvis.master.domain.backtest.BacktestSimulator;
+import com.truvis.master.domain.backtest.BacktestUniverse;
+import com.truvis.master.domain.backtest.FeeSchedule;
+import com.truvis.master.domain.backtest.ModelPortfolio;
+import com.truvis.master.domain.backtest.StrategyParameters;
+import com.truvis.master.infrastructure.backtest.BacktestUniverseLoader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 전략 여러 세트 병렬 백테스트
+ *
+ * - 가격 데이터(BacktestUniverse)는 하루에 한 번 만들어 모든 실행이 읽기만 한다 (복사 없음)
+ * - 전략 목록을 구간으로 쪼개 공유 fork-join 풀(BacktestPoolConfig)로 실행, 결과는 입력 순서 그대로 배열에 채운다
+ * - 처리량은 전략·년/초 (전략 수 × 기간 년수 ÷ 경과 시간)
+ * - 모델 포트폴리오: 전략을 최근 modelLookbackDays 거래일 동안 돌렸을 때 마지막 날 보유 종목과 비중
+ *   → 가격 데이터가 하루 단위라 전략별로 하루 한 번만 계산하고 같은 날 요청은 캐시에서 돌려준다
+ */
+@Service
+@Slf4j
+public class BacktestRunner {
+
+    private static final int STRATEGIES_PER_TASK = 2;
+    private static final double TRADING_DAYS_PER_YEAR = 252;
+
+    // 모델 포트폴리오 계산용 가상 원금 (정수 수량 반올림 영향이 비중에 거의 없을 만큼 크게)
+    private static final double MODEL_CASH = 1_000_000_000;
+
+    private final BacktestUniverseLoader universeLoader;
+    private final FeeSchedule fees;
+    private final ForkJoinPool pool;
+    private final int maxStrategies;
+    private final int modelLookbackDays;
+    private final ZoneId zone;
+
+    private volatile LoadedUniverse loaded;
+
+    public BacktestRunner(
+            BacktestUniverseLoader universeLoader,
+            @Value("${master.backtest.commission-rate:0.00015}") double commissionRate,
+            @Value("${master.backtest.sell-tax-rate:0.0018}") double sellTaxRate,
+            @Qualifier(BacktestPoolConfig.BACKTEST_POOL) ForkJoinPool pool,
+            @Value("${master.backtest.max-strategies:256}") int maxStrategies,
+            @Value("${master.backtest.model-lookback-days:252}") int modelLookbackDays,
+            @Value("${master.backtest.zone:Asia/Seoul}") String zone
+    ) {
+        this.universeLoader = universeLoader;
+        this.fees = new FeeSchedule(commissionRate, sellTaxRate);
+        this.pool = pool;
+        this.maxStrategies = Math.max(1, maxStrategies);
+        this.modelLookbackDays = Math.max(1, modelLookbackDays);
+        this.zone = ZoneId.of(zone);
+    }
+
+    /**
+     * 🧪 [from, to] 기간 백테스트
+     *
+     * @param recordTrades 체결 내역까지 남길지 (많은 파라미터를 훑을 때는 false)
+     */
+    public BacktestReport run(List<StrategyParameters> strategies, LocalDate from, LocalDate to,
+                              double initialCash, boolean recordTrades) {
+        return run(currentUniverse().universe(), strategies, from, to, initialCash, recordTrades);
+    }
+
+    /**
+     * 주어진 가격 데이터로 실행 (기간은 거래일로 맞춘다)
+     */
+    public BacktestReport run(BacktestUniverse prices, List<StrategyParameters> strategies, LocalDate from,
+                              LocalDate to, double initialCash, boolean recordTrades) {
+        if (strategies.size() > maxStrategies) {
+            throw MasterException.tooManyStrategies(maxStrategies);
+        }
+        int fromDay = prices.dayOnOrAfter(from);
+        int toDay = prices.dayOnOrAfter(to.plusDays(1)) - 1;
+        if (from.isAfter(to) || fromDay > toDay) {
+            throw MasterException.invalidBacktestRange();
+        }
+
+        long startedAt = System.nanoTime();
+        BacktestResult[] results = new BacktestResult[strategies.size()];
+        pool.invoke(new StrategyTask(
+                prices, strategies, fees, fromDay, toDay, initialCash, recordTrades, results,
+                0, strategies.size()));
+        long elapsedNanos = Math.max(1, System.nanoTime() - startedAt);
+
+        double strategyYears = strategies.size() * (toDay - fromDay + 1) / TRADING_DAYS_PER_YEAR;
+        double perSecond = strategyYears / (elapsedNanos / 1_000_000_000.0);
+        log.info("🧪 백테스트 완료: 전략 {}개, {} ~ {} ({}거래일), {}ms, {} 전략·년/초",
+                strategies.size(), prices.date(fromDay), prices.date(toDay), toDay - fromDay + 1,
+                elapsedNanos / 1_000_000, String.format("%.0f", perSecond));
+
+        List<LocalDate> dates = new ArrayList<>(toDay - fromDay + 1);
+        for (int day = fromDay; day <= toDay; day++) {
+            dates.add(prices.date(day));
+        }
+
+        return new BacktestReport(
+                prices.date(fromDay),
+                prices.date(toDay),
+                dates,
+                Arrays.asList(results),
+                elapsedNanos / 1_000_000,
+                strategyYears,
+                perSecond);
+    }
+
+    /**
+     * 📋 전략의 현재 모델 포트폴리오 (마지막 거래일 종가 기준, 오늘 가격 데이터로 한 번 계산 후 캐시)
+     */
+    public ModelPortfolio modelPortfolio(StrategyParameters strategy) {
+        LoadedUniverse current = currentUniverse();
+        return current.models().computeIfAbsent(strategy, key -> modelPortfolio(current.universe(), key));
+    }
+
+    /**
+     * 주어진 가격 데이터의 마지막 거래일 기준 모델 포트폴리오
+     */
+    public ModelPortfolio modelPortfolio(BacktestUniverse prices, StrategyParameters strategy) {
+        int toDay = prices.days() - 1;
+        if (toDay < 0) {
+            return new ModelPortfolio(strategy.name(), null, Map.of());
+        }
+        int fromDay = Math.max(0, toDay - modelLookbackDays + 1);
+        BacktestResult result = BacktestSimulator.run(prices, strategy, fees, fromDay, toDay, MODEL_CASH, false);
+
+        Map<String, Double> weights = new LinkedHashMap<>();
+        for (BacktestPosition position : result.positions()) {
+            weights.put(position.symbol(), position.weight());
+        }
+        return new ModelPortfolio(strategy.name(), prices.date(toDay), Collections.unmodifiableMap(weights));
+    }
+
+    /**
+     * 오늘 날짜의 가격 데이터 (없으면 만든다, 동시에 여러 요청이 와도 한 번만)
+     */
+    private LoadedUniverse currentUniverse() {
+        LocalDate today = LocalDate.now(zone);
+        LoadedUniverse current = loaded;
+        if (current != null && current.date().equals(today)) {
+            return current;
+        }
+        synchronized (this) {
+            current = loaded;
+            if (current == null || !current.date().equals(today)) {
+                current = new LoadedUniverse(today, universeLoader.load(today), new ConcurrentHashMap<>());
+                loaded = current;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * @param models 이 가격 데이터로 계산한 모델 포트폴리오 (날짜가 바뀌면 가격 데이터와 함께 버린다)
+     */
+    private record LoadedUniverse(LocalDate date, BacktestUniverse universe,
+                                  ConcurrentHashMap<StrategyParameters, ModelPortfolio> models) {
+    }
+
+    /**
+     * 전략 구간 [from, to) 실행
+     */
+    private static final class StrategyTask extends RecursiveAction {
+
+        private final BacktestUniverse prices;
+        private final List<StrategyParameters> strategies;
+        private final FeeSchedule fees;
+        private final int fromDay;
+        private final int toDay;
+        private final double initialCash;
+        private final boolean recordTrades;
+        private final BacktestResult[] results;
+        private final int from;
+        private final int to;
+
+        StrategyTask(BacktestUniverse prices, List<StrategyParameters> strategies, FeeSchedule fees,
+                     int fromDay, int toDay, double initialCash, boolean recordTrades,
+                     BacktestResult[] results, int from, int to) {
+            this.prices = prices;
+            this.strategies = strategies;
+            this.fees = fees;
+            this.fromDay = fromDay;
+            this.toDay = toDay;
+            this.initialCash = initialCash;
+            this.recordTrades = recordTrades;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= STRATEGIES_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    results[i] = BacktestSimulator.run(
+                            prices, strategies.get(i), fees, fromDay, toDay, initialCash, recordTrades);
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new StrategyTask(prices, strategies, fees, fromDay, toDay, initialCash, recordTrades, results, from, mid),
+                    new StrategyTask(prices, strategies, fees, fromDay, toDay, initialCash, recordTrades, results, mid, to));
+        }
+    }
+}
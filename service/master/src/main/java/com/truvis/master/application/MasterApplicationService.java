@@ -1,19 +1,124 @@
 package com.truvis.master.application;
 
+import com.truvis.common.exception.MasterException;
+import com.truvis.common.exception.StockException;
+import com.truvis.master.domain.InvestmentMaster;
+import com.truvis.master.domain.backtest.BacktestReport;
+import com.truvis.master.domain.backtest.MasterStrategies;
+import com.truvis.master.domain.backtest.ModelPortfolio;
+import com.truvis.master.domain.backtest.StrategyParameters;
+import com.truvis.master.domain.criteria.ScoreBoard;
+import com.truvis.master.model.BacktestResponse;
+import com.truvis.master.model.MasterAnalysisResponse;
+import com.truvis.master.model.MasterResponse;
+import com.truvis.master.repository.InvestmentMasterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 거장 분석 업무 흐름 처리
  * - 종목 분석 요청 처리
  * - 거장 목록 조회
  * - 거장 상세 정보 조회
- * 
- * TODO: 구현 필요
- * - analyzeStock() - 종목 분석
- * - getAllMasters() - 거장 목록 조회
- * - getMasterDetail() - 거장 상세 조회
+ * - 거장 전략 백테스트 (과거 일봉으로 진입/청산 규칙 모의 실행)
+ * - 거장 스타일 모델 포트폴리오 (포트폴리오 리밸런싱 목표 비중)
+ * - 거장 기준 추천 종목 (전체 종목 채점 결과에서 상위 종목)
  */
+@Service
+@Slf4j
+@RequiredArgsConstructor
 public class MasterApplicationService {
-    
-    // TODO: Repository 의존성 주입
-    
-    // TODO: 비즈니스 메서드 구현
+
+    private static final int MAX_PICKS = 100;
+
+    private final BacktestRunner backtestRunner;
+    private final InvestmentMasterRepository masterRepository;
+    private final MasterScoringEngine scoringEngine;
+
+    /**
+     * 거장 목록 조회
+     */
+    public List<MasterResponse> getAllMasters() {
+        return masterRepository.findAll().stream()
+                .map(MasterResponse::from)
+                .toList();
+    }
+
+    /**
+     * 거장 상세 조회
+     */
+    public MasterResponse getMasterDetail(String masterId) {
+        return MasterResponse.from(findMaster(masterId));
+    }
+
+    /**
+     * 🎯 거장 기준 종목 분석 (최신 채점 결과에서 조회)
+     */
+    public MasterAnalysisResponse analyzeStock(String masterId, String stockCode) {
+        InvestmentMaster master = findMaster(masterId);
+        ScoreBoard board = scoringEngine.currentBoard();
+        int stockId = board.columns().findId(stockCode);
+        if (stockId < 0) {
+            throw StockException.stockNotFound(stockCode);
+        }
+
+        MasterAnalysisResponse response = MasterAnalysisResponse.from(
+                board.analyze(scoringEngine.masterIndex(master), stockId));
+        log.info("🎯 거장 종목 분석: masterId={}, stockCode={}, score={}, opinion={}",
+                master.getId(), response.stockCode(), response.score(), response.opinion());
+        return response;
+    }
+
+    /**
+     * 거장 기준 추천 종목 (필수 기준 통과 + 점수순, 최대 100개)
+     */
+    public List<MasterAnalysisResponse> getPicks(String masterId, int limit) {
+        InvestmentMaster master = findMaster(masterId);
+        int size = Math.max(1, Math.min(limit, MAX_PICKS));
+        return scoringEngine.currentBoard().top(scoringEngine.masterIndex(master), size).stream()
+                .map(MasterAnalysisResponse::from)
+                .toList();
+    }
+
+    /**
+     * 거장 전략 백테스트
+     * - 거장 스타일 기본 전략 + 직접 정한 파라미터 세트를 함께 실행 (둘 다 비어 있으면 모든 기본 전략)
+     *
+     * @param includeDetails 평가금액 곡선과 체결 내역까지 돌려줄지 (파라미터를 많이 훑을 때는 false)
+     */
+    public BacktestResponse backtest(List<String> masterStyles, List<StrategyParameters> customStrategies,
+                                     LocalDate from, LocalDate to, BigDecimal initialCash, boolean includeDetails) {
+        List<StrategyParameters> strategies = new ArrayList<>();
+        for (String masterStyle : masterStyles) {
+            strategies.add(MasterStrategies.forStyle(masterStyle)
+                    .orElseThrow(() -> MasterException.unknownStyle(masterStyle)));
+        }
+        strategies.addAll(customStrategies);
+        if (strategies.isEmpty()) {
+            strategies.addAll(MasterStrategies.all());
+        }
+
+        BacktestReport report = backtestRunner.run(strategies, from, to, initialCash.doubleValue(), includeDetails);
+        return BacktestResponse.from(report, includeDetails);
+    }
+
+    /**
+     * 거장 스타일 모델 포트폴리오 (기본 전략이 지금 들고 있을 종목과 비중)
+     */
+    public ModelPortfolio getModelPortfolio(String masterStyle) {
+        StrategyParameters strategy = MasterStrategies.forStyle(masterStyle)
+                .orElseThrow(() -> MasterException.unknownStyle(masterStyle));
+        return backtestRunner.modelPortfolio(strategy);
+    }
+
+    private InvestmentMaster findMaster(String masterId) {
+        return masterRepository.findById(masterId)
+                .orElseThrow(() -> MasterException.masterNotFound(masterId));
+    }
 }
@@ -0,0 +1,143 @@
+package com.truvis.master.application;
+
+import com.truvis.master.config.BacktestPoolConfig;
+import com.truvis.master.domain.InvestmentMaster;
+import com.truvis.master.domain.criteria.CompiledCriteria;
+import com.truvis.master.domain.criteria.FundamentalColumns;
+import com.truvis.master.domain.criteria.ScoreBoard;
+import com.truvis.master.repository.InvestmentMasterRepository;
+import com.truvis.stock.infrastructure.screener.StockScreener;
+import com.truvis.stock.repository.StockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 거장 전체 × 종목 전체 채점
+ *
+ * - 거장 투자 기준은 기동 시 한 번만 컴파일 (CompiledCriteria)
+ * - 종목 재무 지표를 열 배열(FundamentalColumns)로 옮긴 뒤, 종목 구간을 공유 fork-join 풀(backtestPool)로 나눠 한 번에 채점
+ * - 결과는 불변 스냅샷(ScoreBoard)을 volatile 참조로 공개, 재채점은 새 스냅샷을 다 만든 뒤 참조만 교체
+ * - 종목 분석/추천 조회는 스냅샷을 읽기만 한다
+ */
+@Service
+@Slf4j
+public class MasterScoringEngine {
+
+    private static final int PARTITION_SIZE = 4_096;
+
+    private final StockRepository stockRepository;
+    private final StockScreener stockScreener;
+    private final CompiledCriteria criteria;
+    private final ForkJoinPool pool;
+
+    private volatile ScoreBoard board;
+
+    public MasterScoringEngine(
+            InvestmentMasterRepository masterRepository,
+            StockRepository stockRepository,
+            StockScreener stockScreener,
+            @Qualifier(BacktestPoolConfig.BACKTEST_POOL) ForkJoinPool pool
+    ) {
+        this.stockRepository = stockRepository;
+        this.stockScreener = stockScreener;
+        this.criteria = CompiledCriteria.compile(masterRepository.findAll());
+        this.pool = pool;
+    }
+
+    /**
+     * 최신 채점 결과 (처음 조회할 때 채점)
+     */
+    public ScoreBoard currentBoard() {
+        ScoreBoard current = board;
+        if (current == null) {
+            synchronized (this) {
+                current = board;
+                if (current == null) {
+                    current = refresh();
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 컴파일된 거장 순서상 번호 (없으면 -1)
+     */
+    public int masterIndex(InvestmentMaster master) {
+        return criteria.masters().indexOf(master);
+    }
+
+    /**
+     * 🔄 주기적 재채점 - 종목 마스터/재무 지표 갱신 반영 (실패하면 기존 결과 유지)
+     */
+    @Scheduled(
+            fixedDelayString = "${master.scoring.refresh-interval-ms:600000}",
+            initialDelayString = "${master.scoring.refresh-interval-ms:600000}"
+    )
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("❌ 거장 채점 실패 (기존 결과 유지)", e);
+        }
+    }
+
+    public synchronized ScoreBoard refresh() {
+        FundamentalColumns columns = FundamentalColumns.build(stockRepository.findAll(), stockScreener::findFundamentals);
+        ScoreBoard next = score(columns);
+        board = next;
+        return next;
+    }
+
+    /**
+     * 🏅 종목 전체 채점 (거장마다 기준 열을 종목 구간 단위로 훑는다)
+     */
+    public ScoreBoard score(FundamentalColumns columns) {
+        long startedAt = System.nanoTime();
+        int size = columns.size();
+        float[][] scores = new float[criteria.masterCount()][size];
+        int[][] passedMasks = new int[criteria.masterCount()][size];
+
+        pool.invoke(new ScoreTask(columns, scores, passedMasks, 0, size));
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("🏅 거장 채점 완료: 거장 {}명, 종목 {}개, {}ms", criteria.masterCount(), size, elapsedMillis);
+        return new ScoreBoard(criteria, columns, scores, passedMasks, elapsedMillis);
+    }
+
+    /**
+     * 종목 구간 [from, to) 채점 (PARTITION_SIZE 이하가 될 때까지 반으로 나눈다)
+     */
+    private final class ScoreTask extends RecursiveAction {
+
+        private final FundamentalColumns columns;
+        private final float[][] scores;
+        private final int[][] passedMasks;
+        private final int from;
+        private final int to;
+
+        ScoreTask(FundamentalColumns columns, float[][] scores, int[][] passedMasks, int from, int to) {
+            this.columns = columns;
+            this.scores = scores;
+            this.passedMasks = passedMasks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARTITION_SIZE) {
+                criteria.evaluate(columns, from, to, scores, passedMasks);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ScoreTask(columns, scores, passedMasks, from, mid),
+                    new ScoreTask(columns, scores, passedMasks, mid, to));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.truvis.master.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 공유 fork-join 풀
+ * - 백테스트 전략 병렬 실행, 거장 채점, 포트폴리오 평가 스냅샷/수익률/리밸런싱 일괄 계산이 같이 쓴다
+ * - 요청이나 실행마다 풀을 만들고 버리지 않고 하나를 공유 (동시 작업은 같은 스레드 수 안에서 나눠 쓴다)
+ */
+@Configuration
+public class BacktestPoolConfig {
+
+    public static final String BACKTEST_POOL = "backtestPool";
+
+    @Bean(name = BACKTEST_POOL, destroyMethod = "shutdown")
+    public ForkJoinPool backtestPool(@Value("${master.backtest.parallelism:4}") int parallelism) {
+        return new ForkJoinPool(Math.max(1, parallelism));
+    }
+}
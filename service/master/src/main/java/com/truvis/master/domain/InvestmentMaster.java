@@ -1,25 +1,88 @@
 package com.truvis.master.domain;
 
+import com.truvis.master.domain.criteria.InvestmentCriteria;
+
+import java.util.Locale;
+import java.util.Objects;
+
 /**
- * 투자 거장 집합체 루트
- * - 워렌 버핏, 피터 린치 등 투자 거장의 정보를 관리
- * - 종목 분석, 점수 계산 로직 포함
- * 
+ * 투자 거장 (불변)
+ * - 워렌 버핏, 피터 린치 등 투자 거장의 정보와 투자 기준
+ * - 투자 기준은 데이터로만 선언하고, 종목 평가는 CompiledCriteria로 컴파일해서 한꺼번에 한다
+ * - masterStyle: 포트폴리오/백테스트와 같은 거장 스타일 코드 (VALUE, GROWTH)
+ *
  * TODO: 구현 필요
- * - 거장 ID (MasterId)
- * - 투자 철학 (InvestmentPhilosophy)
- * - 투자 기준 (InvestmentCriteria)
+ * - 거장 ID (MasterId) 값 객체 - 지금은 대문자 코드 문자열
  * - 과거 성과 (HistoricalPerformance)
- * - 투자 스타일 (MasterStyle)
  */
-public class InvestmentMaster {
-    
-    // TODO: 필드 추가
-    
-    // TODO: 생성자 추가
-    
-    // TODO: 비즈니스 메서드 추가
-    // - 종목 분석
-    // - 점수 계산
-    // - 투자 의견 생성
+public final class InvestmentMaster {
+
+    private final String id;
+    private final String name;
+    private final String masterStyle;
+    private final String philosophy;
+    private final String description;
+    private final InvestmentCriteria criteria;
+
+    private InvestmentMaster(String id, String name, String masterStyle, String philosophy, String description,
+                             InvestmentCriteria criteria) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("거장 ID는 필수입니다");
+        }
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("거장 이름은 필수입니다: " + id);
+        }
+        this.id = id.strip().toUpperCase(Locale.ROOT);
+        this.name = name.strip();
+        this.masterStyle = Objects.requireNonNull(masterStyle, "거장 스타일은 필수입니다");
+        this.philosophy = philosophy;
+        this.description = description;
+        this.criteria = Objects.requireNonNull(criteria, "투자 기준은 필수입니다");
+    }
+
+    public static InvestmentMaster of(String id, String name, String masterStyle, String philosophy,
+                                      String description, InvestmentCriteria criteria) {
+        return new InvestmentMaster(id, name, masterStyle, philosophy, description, criteria);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getMasterStyle() {
+        return masterStyle;
+    }
+
+    public String getPhilosophy() {
+        return philosophy;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public InvestmentCriteria getCriteria() {
+        return criteria;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof InvestmentMaster master)) return false;
+        return id.equals(master.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "InvestmentMaster{" + id + ", " + name + "}";
+    }
 }
@@ -0,0 +1,76 @@
+package com.truvis.master.domain;
+
+import com.truvis.master.domain.criteria.InvestmentCriteria;
+
+import java.util.List;
+
+import static com.truvis.master.domain.criteria.Comparison.AT_LEAST;
+import static com.truvis.master.domain.criteria.Comparison.AT_MOST;
+import static com.truvis.master.domain.criteria.Comparison.GREATER_THAN;
+import static com.truvis.master.domain.criteria.Comparison.LESS_THAN;
+import static com.truvis.master.domain.criteria.CriterionRule.of;
+import static com.truvis.master.domain.criteria.CriterionRule.required;
+import static com.truvis.stock.domain.ScreenerField.DEBT_RATIO;
+import static com.truvis.stock.domain.ScreenerField.DIVIDEND_YIELD;
+import static com.truvis.stock.domain.ScreenerField.EPS_GROWTH;
+import static com.truvis.stock.domain.ScreenerField.PBR;
+import static com.truvis.stock.domain.ScreenerField.PER;
+import static com.truvis.stock.domain.ScreenerField.ROE;
+
+/**
+ * 거장 목록 (투자 기준은 여기서 데이터로만 선언)
+ * - 기준 수치는 각 거장의 저서/주주서한에서 널리 인용되는 값을 국내 시장 지표에 맞춰 옮긴 것
+ * - 가중치: 핵심 기준 3, 보조 기준 2, 참고 기준 1
+ */
+public final class InvestmentMasters {
+
+    public static final InvestmentMaster BUFFETT = InvestmentMaster.of(
+            "BUFFETT",
+            "워렌 버핏",
+            "VALUE",
+            "이해할 수 있는 사업을, 높은 자본수익률과 적은 부채로 꾸준히 이익을 늘리는 회사를 적정 가격에",
+            "높은 ROE와 낮은 부채비율, 꾸준한 이익 성장을 함께 보는 우량주 장기 투자",
+            InvestmentCriteria.of(
+                    required(ROE, GREATER_THAN, "15", 3),
+                    of(DEBT_RATIO, LESS_THAN, "50", 2),
+                    of(EPS_GROWTH, AT_LEAST, "7", 2),
+                    of(PER, AT_MOST, "25", 1)
+            ));
+
+    public static final InvestmentMaster GRAHAM = InvestmentMaster.of(
+            "GRAHAM",
+            "벤저민 그레이엄",
+            "VALUE",
+            "안전마진 - 내재가치보다 충분히 싸게 사면 틀려도 크게 잃지 않는다",
+            "낮은 PER·PBR, 건전한 재무, 배당을 갖춘 방어적 가치 투자",
+            InvestmentCriteria.of(
+                    required(PER, AT_MOST, "15", 3),
+                    of(PBR, AT_MOST, "1.5", 2),
+                    of(DEBT_RATIO, AT_MOST, "100", 2),
+                    of(DIVIDEND_YIELD, GREATER_THAN, "0", 1),
+                    of(EPS_GROWTH, AT_LEAST, "3", 1)
+            ));
+
+    public static final InvestmentMaster LYNCH = InvestmentMaster.of(
+            "LYNCH",
+            "피터 린치",
+            "GROWTH",
+            "잘 아는 회사 중에서 이익이 빠르게 늘지만 아직 비싸지 않은 종목을 찾는다",
+            "연 15~30% 이익 성장 종목을 성장률에 비해 낮은 PER로 사는 합리적 가격의 성장주 투자",
+            InvestmentCriteria.of(
+                    required(EPS_GROWTH, AT_LEAST, "15", 3),
+                    of(EPS_GROWTH, AT_MOST, "30", 1),
+                    of(PER, AT_MOST, "30", 2),
+                    of(DEBT_RATIO, LESS_THAN, "80", 2),
+                    of(ROE, AT_LEAST, "10", 1)
+            ));
+
+    private static final List<InvestmentMaster> ALL = List.of(BUFFETT, GRAHAM, LYNCH);
+
+    private InvestmentMasters() {
+    }
+
+    public static List<InvestmentMaster> all() {
+        return ALL;
+    }
+}
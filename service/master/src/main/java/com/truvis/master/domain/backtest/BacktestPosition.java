@@ -0,0 +1,13 @@
+package com.truvis.master.domain.backtest;
+
+/**
+ * 시뮬레이션 마지막 날 보유 종목
+ *
+ * @param weight 마지막 날 종가 평가금액 / 전체 평가금액 (0.1 = 10%)
+ */
+public record BacktestPosition(
+        String symbol,
+        int quantity,
+        double weight
+) {
+}
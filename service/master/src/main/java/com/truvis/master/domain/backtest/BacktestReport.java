@@ -0,0 +1,22 @@
+package com.truvis.master.domain.backtest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 여러 전략을 한 번에 돌린 결과
+ *
+ * @param dates                  시뮬레이션한 거래일 (평가금액 곡선의 x축)
+ * @param strategyYears          전략 수 × 기간(년)
+ * @param strategyYearsPerSecond 처리량 (전략·년 / 초)
+ */
+public record BacktestReport(
+        LocalDate from,
+        LocalDate to,
+        List<LocalDate> dates,
+        List<BacktestResult> results,
+        long elapsedMillis,
+        double strategyYears,
+        double strategyYearsPerSecond
+) {
+}
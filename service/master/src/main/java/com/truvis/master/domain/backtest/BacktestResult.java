@@ -0,0 +1,26 @@
+package com.truvis.master.domain.backtest;
+
+import java.util.List;
+
+/**
+ * 전략 1세트의 백테스트 결과
+ *
+ * @param equityCurve  거래일별 평가금액 (현금 + 보유 종목 종가 평가, 원 / BacktestReport.dates와 같은 순서)
+ * @param totalReturn  기간 수익률 (0.1 = 10%)
+ * @param cagr         연환산 수익률 (252거래일 = 1년)
+ * @param maxDrawdown  최대 낙폭 (0.2 = 고점 대비 20% 하락)
+ * @param tradeCount   체결 수 (매수 + 매도)
+ * @param trades       체결 내역 (기록하지 않고 돌렸으면 빈 목록)
+ * @param positions    마지막 날 보유 종목 (체결 내역 기록 여부와 상관없이 채운다)
+ */
+public record BacktestResult(
+        StrategyParameters parameters,
+        double[] equityCurve,
+        double totalReturn,
+        double cagr,
+        double maxDrawdown,
+        int tradeCount,
+        List<BacktestTrade> trades,
+        List<BacktestPosition> positions
+) {
+}
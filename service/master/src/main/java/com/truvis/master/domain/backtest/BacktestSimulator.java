@@ -0,0 +1,330 @@
+package com.truvis.master.domain.backtest;
+
+import com.truvis.transaction.domain.Money;
+import com.truvis.transaction.domain.Price;
+import com.truvis.transaction.domain.Quantity;
+import com.truvis.transaction.domain.TransactionType;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 전략 1세트 일봉 시뮬레이션 (인스턴스 하나 = 실행 하나, 스레드 간 공유하지 않음)
+ *
+ * - 하루 순서: 전날 신호 주문을 시가에 체결 (매도 먼저 → 들어온 현금으로 매수) → 종가 평가 → 다음 날 주문 결정
+ *   → 신호를 낸 날 종가로 체결하지 않는다 (미래 가격을 보지 않음)
+ * - 매수 금액은 전날 평가금액의 1/maxPositions (현금 한도 안), 수수료 포함해 살 수 있는 정수 수량만
+ * - 시가가 없는 날(거래정지)은 매도는 다음 날로 미루고 매수는 취소
+ * - 빈 자리보다 진입 신호가 많으면 신호가 강한 순으로 (추세: 이동평균 괴리, 하락 매수: 하락폭)
+ * - 상태는 모두 종목 수 크기의 기본형 배열 → 하루에 할당 없음 (체결 기록을 남길 때만 객체 생성)
+ */
+public final class BacktestSimulator {
+
+    private static final double TRADING_DAYS_PER_YEAR = 252;
+    private static final ExitReason[] EXIT_REASONS = ExitReason.values();
+
+    private final BacktestUniverse universe;
+    private final StrategyParameters parameters;
+    private final FeeSchedule fees;
+    private final boolean recordTrades;
+
+    // 종목별 상태
+    private final int[] shares;
+    private final double[] entryPrices;
+    private final double[] peakCloses;
+    private final int[] entryDays;
+    private final byte[] pendingSells;  // 청산 사유 순번 + 1 (0 = 주문 없음)
+
+    // 보유 종목, 다음 시가 주문 (모두 최대 maxPositions개)
+    private final int[] held;
+    private int heldCount;
+    private final int[] sellOrders;
+    private int sellCount;
+    private final int[] buyOrders;
+    private final double[] buyScores;
+    private int buyCount;
+
+    private double cash;
+    private int tradeCount;
+    private final List<BacktestTrade> trades = new ArrayList<>();
+
+    private BacktestSimulator(BacktestUniverse universe, StrategyParameters parameters,
+                              FeeSchedule fees, double initialCash, boolean recordTrades) {
+        this.universe = universe;
+        this.parameters = parameters;
+        this.fees = fees;
+        this.recordTrades = recordTrades;
+        this.cash = initialCash;
+
+        int symbols = universe.symbolCount();
+        this.shares = new int[symbols];
+        this.entryPrices = new double[symbols];
+        this.peakCloses = new double[symbols];
+        this.entryDays = new int[symbols];
+        this.pendingSells = new byte[symbols];
+
+        int slots = parameters.maxPositions();
+        this.held = new int[slots];
+        this.sellOrders = new int[slots];
+        this.buyOrders = new int[slots];
+        this.buyScores = new double[slots];
+    }
+
+    /**
+     * [fromDay, toDay] 거래일 구간 실행
+     *
+     * @param initialCash  시작 현금 (원)
+     * @param recordTrades 체결 내역 기록 여부 (파라미터 탐색처럼 결과 지표만 필요하면 false)
+     */
+    public static BacktestResult run(BacktestUniverse universe, StrategyParameters parameters, FeeSchedule fees,
+                                     int fromDay, int toDay, double initialCash, boolean recordTrades) {
+        if (fromDay < 0 || toDay >= universe.days() || fromDay > toDay) {
+            throw new IllegalArgumentException("백테스트 구간이 올바르지 않습니다: " + fromDay + " ~ " + toDay);
+        }
+        if (!(initialCash > 0)) {
+            throw new IllegalArgumentException("시작 금액은 0보다 커야 합니다");
+        }
+        return new BacktestSimulator(universe, parameters, fees, initialCash, recordTrades)
+                .simulate(fromDay, toDay, initialCash);
+    }
+
+    private BacktestResult simulate(int fromDay, int toDay, double initialCash) {
+        double[] equityCurve = new double[toDay - fromDay + 1];
+        double previousEquity = initialCash;
+
+        for (int day = fromDay; day <= toDay; day++) {
+            fillSells(day);
+            fillBuys(day, previousEquity);
+
+            double equity = markToMarket(day);
+            equityCurve[day - fromDay] = equity;
+            previousEquity = equity;
+
+            if (day < toDay) {
+                scheduleExits(day);
+                scheduleEntries(day);
+            }
+        }
+
+        return summarize(toDay, equityCurve, initialCash);
+    }
+
+    private void fillSells(int day) {
+        int remaining = 0;
+        for (int i = 0; i < sellCount; i++) {
+            int symbol = sellOrders[i];
+            double price = universe.open(day, symbol);
+            if (price <= 0) {
+                sellOrders[remaining++] = symbol;
+                continue;
+            }
+
+            int quantity = shares[symbol];
+            double amount = price * quantity;
+            double fee = fees.sellFee(amount);
+            cash += amount - fee;
+            record(day, symbol, TransactionType.SELL, price, quantity, fee, EXIT_REASONS[pendingSells[symbol] - 1]);
+
+            shares[symbol] = 0;
+            pendingSells[symbol] = 0;
+            removeHeld(symbol);
+        }
+        sellCount = remaining;
+    }
+
+    private void fillBuys(int day, double previousEquity) {
+        double budgetPerPosition = previousEquity / parameters.maxPositions();
+        for (int i = 0; i < buyCount && heldCount < held.length; i++) {
+            int symbol = buyOrders[i];
+            double price = universe.open(day, symbol);
+            if (price <= 0) {
+                continue;
+            }
+
+            int quantity = fees.affordableQuantity(Math.min(cash, budgetPerPosition), price);
+            double fee = fees.buyFee(price * quantity);
+            if (quantity > 0 && price * quantity + fee > cash) {
+                quantity--;
+                fee = fees.buyFee(price * quantity);
+            }
+            if (quantity <= 0) {
+                continue;
+            }
+
+            cash -= price * quantity + fee;
+            shares[symbol] = quantity;
+            entryPrices[symbol] = price;
+            peakCloses[symbol] = price;
+            entryDays[symbol] = day;
+            held[heldCount++] = symbol;
+            record(day, symbol, TransactionType.BUY, price, quantity, fee, null);
+        }
+        buyCount = 0;
+    }
+
+    private double markToMarket(int day) {
+        double equity = cash;
+        for (int i = 0; i < heldCount; i++) {
+            int symbol = held[i];
+            double close = universe.close(day, symbol);
+            if (close > peakCloses[symbol]) {
+                peakCloses[symbol] = close;
+            }
+            equity += shares[symbol] * close;
+        }
+        return equity;
+    }
+
+    private void scheduleExits(int day) {
+        for (int i = 0; i < heldCount; i++) {
+            int symbol = held[i];
+            if (pendingSells[symbol] != 0) {
+                continue;
+            }
+            ExitReason reason = exitReason(day, symbol);
+            if (reason != null) {
+                pendingSells[symbol] = (byte) (reason.ordinal() + 1);
+                sellOrders[sellCount++] = symbol;
+            }
+        }
+    }
+
+    private ExitReason exitReason(int day, int symbol) {
+        double close = universe.close(day, symbol);
+        double change = close / entryPrices[symbol] - 1;
+
+        if (parameters.takeProfit() > 0 && change >= parameters.takeProfit()) {
+            return ExitReason.TAKE_PROFIT;
+        }
+        if (parameters.stopLoss() > 0 && change <= -parameters.stopLoss()) {
+            return ExitReason.STOP_LOSS;
+        }
+        if (parameters.trailingStop() > 0 && close <= peakCloses[symbol] * (1 - parameters.trailingStop())) {
+            return ExitReason.TRAILING_STOP;
+        }
+        if (parameters.maxHoldingDays() > 0 && day - entryDays[symbol] >= parameters.maxHoldingDays()) {
+            return ExitReason.MAX_HOLDING;
+        }
+        if (parameters.entryRule() == EntryRule.TREND_FOLLOWING
+                && universe.movingAverage(day, symbol, parameters.shortWindow())
+                < universe.movingAverage(day, symbol, parameters.longWindow())) {
+            return ExitReason.TREND_REVERSAL;
+        }
+        return null;
+    }
+
+    /**
+     * 빈 자리 수만큼 신호가 강한 종목을 고른다 (빈 자리는 많아야 maxPositions개 → 삽입 정렬)
+     */
+    private void scheduleEntries(int day) {
+        int free = Math.min(held.length, held.length - heldCount + sellCount);
+        if (free <= 0 || day == 0) {
+            return;
+        }
+
+        for (int symbol = 0; symbol < shares.length; symbol++) {
+            if (shares[symbol] > 0) {
+                continue;
+            }
+            double score = entryScore(day, symbol);
+            if (Double.isNaN(score) || (buyCount == free && score <= buyScores[free - 1])) {
+                continue;
+            }
+
+            int position = Math.min(buyCount, free - 1);
+            while (position > 0 && buyScores[position - 1] < score) {
+                buyOrders[position] = buyOrders[position - 1];
+                buyScores[position] = buyScores[position - 1];
+                position--;
+            }
+            buyOrders[position] = symbol;
+            buyScores[position] = score;
+            if (buyCount < free) {
+                buyCount++;
+            }
+        }
+    }
+
+    /**
+     * @return 진입 신호 강도 (신호가 없으면 NaN)
+     */
+    private double entryScore(int day, int symbol) {
+        int shortWindow = parameters.shortWindow();
+
+        if (parameters.entryRule() == EntryRule.TREND_FOLLOWING) {
+            int longWindow = parameters.longWindow();
+            double shortNow = universe.movingAverage(day, symbol, shortWindow);
+            double longNow = universe.movingAverage(day, symbol, longWindow);
+            if (!(shortNow > longNow)) {
+                return Double.NaN;
+            }
+            double shortBefore = universe.movingAverage(day - 1, symbol, shortWindow);
+            double longBefore = universe.movingAverage(day - 1, symbol, longWindow);
+            return shortBefore <= longBefore ? shortNow / longNow - 1 : Double.NaN;
+        }
+
+        double close = universe.close(day, symbol);
+        if (close <= 0) {
+            return Double.NaN;
+        }
+        double drawdown = 1 - close / universe.high(day, symbol);
+        if (drawdown < parameters.entryDrawdown()) {
+            return Double.NaN;
+        }
+        double shortNow = universe.movingAverage(day, symbol, shortWindow);
+        double shortBefore = universe.movingAverage(day - 1, symbol, shortWindow);
+        return close > shortNow && universe.close(day - 1, symbol) <= shortBefore ? drawdown : Double.NaN;
+    }
+
+    private void removeHeld(int symbol) {
+        for (int i = 0; i < heldCount; i++) {
+            if (held[i] == symbol) {
+                held[i] = held[--heldCount];
+                return;
+            }
+        }
+    }
+
+    private void record(int day, int symbol, TransactionType type, double price, int quantity,
+                        double fee, ExitReason reason) {
+        tradeCount++;
+        if (recordTrades) {
+            trades.add(new BacktestTrade(
+                    universe.date(day),
+                    universe.symbol(symbol),
+                    type,
+                    Price.of(BigDecimal.valueOf(price)),
+                    Quantity.of(quantity),
+                    Money.of(BigDecimal.valueOf(fee)),
+                    reason));
+        }
+    }
+
+    private BacktestResult summarize(int lastDay, double[] equityCurve, double initialCash) {
+        double last = equityCurve[equityCurve.length - 1];
+        double totalReturn = last / initialCash - 1;
+        double years = equityCurve.length / TRADING_DAYS_PER_YEAR;
+        double cagr = last > 0 ? Math.pow(last / initialCash, 1 / years) - 1 : -1;
+
+        double peak = initialCash;
+        double maxDrawdown = 0;
+        for (double equity : equityCurve) {
+            peak = Math.max(peak, equity);
+            maxDrawdown = Math.max(maxDrawdown, 1 - equity / peak);
+        }
+
+        return new BacktestResult(parameters, equityCurve, totalReturn, cagr, maxDrawdown,
+                tradeCount, recordTrades ? List.copyOf(trades) : List.of(), positions(lastDay, last));
+    }
+
+    private List<BacktestPosition> positions(int day, double equity) {
+        List<BacktestPosition> positions = new ArrayList<>(heldCount);
+        for (int i = 0; i < heldCount; i++) {
+            int symbol = held[i];
+            double weight = equity > 0 ? shares[symbol] * universe.close(day, symbol) / equity : 0;
+            positions.add(new BacktestPosition(universe.symbol(symbol), shares[symbol], weight));
+        }
+        return List.copyOf(positions);
+    }
+}
@@ -0,0 +1,24 @@
+package com.truvis.master.domain.backtest;
+
+import com.truvis.transaction.domain.Money;
+import com.truvis.transaction.domain.Price;
+import com.truvis.transaction.domain.Quantity;
+import com.truvis.transaction.domain.TransactionType;
+
+import java.time.LocalDate;
+
+/**
+ * 모의 체결 1건 (실제 거래와 같은 값 객체 → 단가 > 0, 수량은 양의 정수, 금액은 소수 둘째 자리)
+ *
+ * @param exitReason 매도 사유 (매수면 null)
+ */
+public record BacktestTrade(
+        LocalDate date,
+        String symbol,
+        TransactionType type,
+        Price price,
+        Quantity quantity,
+        Money fee,
+        ExitReason exitReason
+) {
+}
@@ -0,0 +1,156 @@
+package com.truvis.master.domain.backtest;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 백테스트 공용 가격 데이터 (읽기 전용 → 여러 전략이 동시에 읽는다)
+ *
+ * - 일자 우선 배치 [day * symbolCount + symbol]: 시뮬레이션이 하루씩 전 종목을 훑으므로 연속 메모리로 읽는다
+ * - 시가가 0이면 그날 거래 없음 (체결 불가), 종가는 거래 없던 날 직전 종가를 이어 쓴다 (상장 전 0)
+ * - 전략마다 다시 계산하지 않도록 만들 때 한 번만 준비
+ *   · 종가 누적합 → 어떤 기간의 이동평균이든 O(1)
+ *   · 최근 250거래일 최고 종가 (52주 고가)
+ */
+public final class BacktestUniverse {
+
+    public static final int HIGH_WINDOW = 250;
+
+    private final String[] symbols;
+    private final LocalDate[] dates;
+    private final int symbolCount;
+    private final int days;
+
+    private final double[] opens;
+    private final double[] closes;
+    private final double[] highs;
+
+    // [(day + 1) * symbolCount + symbol] = closes[0..day] 합계
+    private final double[] closeSums;
+
+    // 종목별 첫 종가가 있는 날 (없으면 days)
+    private final int[] listedFrom;
+
+    private BacktestUniverse(String[] symbols, LocalDate[] dates, double[] opens, double[] closes) {
+        this.symbols = symbols;
+        this.dates = dates;
+        this.symbolCount = symbols.length;
+        this.days = dates.length;
+        this.opens = opens;
+        this.closes = closes;
+        this.listedFrom = listedFrom(closes, symbolCount, days);
+        this.closeSums = prefixSums(closes, symbolCount, days);
+        this.highs = rollingHighs(closes, symbolCount, days);
+    }
+
+    /**
+     * @param opens  일자 우선 시가 (원, 거래 없는 날 0)
+     * @param closes 일자 우선 종가 (원, 거래 없는 날 직전 종가, 상장 전 0)
+     */
+    public static BacktestUniverse of(String[] symbols, LocalDate[] dates, double[] opens, double[] closes) {
+        if (opens.length != symbols.length * dates.length || closes.length != opens.length) {
+            throw new IllegalArgumentException("가격 배열 크기가 종목 수 × 거래일 수와 다릅니다");
+        }
+        return new BacktestUniverse(symbols, dates, opens, closes);
+    }
+
+    public int symbolCount() {
+        return symbolCount;
+    }
+
+    public int days() {
+        return days;
+    }
+
+    public String symbol(int index) {
+        return symbols[index];
+    }
+
+    public LocalDate date(int day) {
+        return dates[day];
+    }
+
+    /**
+     * date 이후 첫 거래일 (없으면 days)
+     */
+    public int dayOnOrAfter(LocalDate date) {
+        int index = Arrays.binarySearch(dates, date);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    public double open(int day, int symbol) {
+        return opens[day * symbolCount + symbol];
+    }
+
+    public double close(int day, int symbol) {
+        return closes[day * symbolCount + symbol];
+    }
+
+    /**
+     * 최근 250거래일(상장 이후) 최고 종가
+     */
+    public double high(int day, int symbol) {
+        return highs[day * symbolCount + symbol];
+    }
+
+    /**
+     * day까지 window일 종가 이동평균 (상장 후 window일이 안 됐으면 NaN)
+     */
+    public double movingAverage(int day, int symbol, int window) {
+        if (day - window + 1 < listedFrom[symbol]) {
+            return Double.NaN;
+        }
+        return (closeSums[(day + 1) * symbolCount + symbol] - closeSums[(day + 1 - window) * symbolCount + symbol])
+                / window;
+    }
+
+    private static int[] listedFrom(double[] closes, int symbolCount, int days) {
+        int[] listed = new int[symbolCount];
+        Arrays.fill(listed, days);
+        for (int day = days - 1; day >= 0; day--) {
+            int row = day * symbolCount;
+            for (int s = 0; s < symbolCount; s++) {
+                if (closes[row + s] > 0) {
+                    listed[s] = day;
+                }
+            }
+        }
+        return listed;
+    }
+
+    private static double[] prefixSums(double[] closes, int symbolCount, int days) {
+        double[] sums = new double[(days + 1) * symbolCount];
+        for (int day = 0; day < days; day++) {
+            int from = day * symbolCount;
+            int to = from + symbolCount;
+            for (int s = 0; s < symbolCount; s++) {
+                sums[to + s] = sums[from + s] + closes[from + s];
+            }
+        }
+        return sums;
+    }
+
+    /**
+     * 종목별 단조 감소 덱으로 구간 최대값 (종목당 O(days))
+     */
+    private static double[] rollingHighs(double[] closes, int symbolCount, int days) {
+        double[] highs = new double[closes.length];
+        int[] deque = new int[Math.max(1, days)];
+        for (int s = 0; s < symbolCount; s++) {
+            int head = 0;
+            int tail = 0;
+            for (int day = 0; day < days; day++) {
+                double close = closes[day * symbolCount + s];
+                while (tail > head && closes[deque[tail - 1] * symbolCount + s] <= close) {
+                    tail--;
+                }
+                deque[tail++] = day;
+                if (deque[head] <= day - HIGH_WINDOW) {
+                    head++;
+                }
+                highs[day * symbolCount + s] = closes[deque[head] * symbolCount + s];
+            }
+        }
+        return highs;
+    }
+}
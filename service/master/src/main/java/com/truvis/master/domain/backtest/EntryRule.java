@@ -0,0 +1,19 @@
+package com.truvis.master.domain.backtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 진입 규칙 (신호는 그날 종가로 판단, 체결은 다음 거래일 시가)
+ * - TREND_FOLLOWING: 단기 이동평균이 장기 이동평균을 상향 돌파 (성장/모멘텀형)
+ * - DIP_BUYING: 52주 최고 종가 대비 일정 비율 이상 하락한 종목이 단기 이동평균을 회복 (가치형 - 싸게 사서 오래 보유)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EntryRule {
+
+    TREND_FOLLOWING("추세 추종"),
+    DIP_BUYING("하락 후 반등 매수");
+
+    private final String displayName;
+}
@@ -0,0 +1,20 @@
+package com.truvis.master.domain.backtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 청산 사유 (여러 개가 동시에 맞으면 위에 있는 것)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExitReason {
+
+    TAKE_PROFIT("목표 수익률 도달"),
+    STOP_LOSS("손절"),
+    TRAILING_STOP("고점 대비 하락"),
+    MAX_HOLDING("최대 보유 기간 경과"),
+    TREND_REVERSAL("단기 이동평균이 장기 이동평균 아래로");
+
+    private final String displayName;
+}
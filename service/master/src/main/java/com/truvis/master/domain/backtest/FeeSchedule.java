@@ -0,0 +1,40 @@
+package com.truvis.master.domain.backtest;
+
+/**
+ * 거래 비용
+ *
+ * @param commissionRate 매수/매도 수수료율 (0.00015 = 0.015%)
+ * @param sellTaxRate    매도 시 거래세율 (0.0018 = 0.18%)
+ */
+public record FeeSchedule(
+        double commissionRate,
+        double sellTaxRate
+) {
+
+    public FeeSchedule {
+        if (commissionRate < 0 || sellTaxRate < 0) {
+            throw new IllegalArgumentException("수수료율/거래세율은 0 이상이어야 합니다");
+        }
+    }
+
+    public double buyFee(double amount) {
+        return round(amount * commissionRate);
+    }
+
+    public double sellFee(double amount) {
+        return round(amount * (commissionRate + sellTaxRate));
+    }
+
+    /**
+     * 수수료까지 포함해 budget 안에서 살 수 있는 최대 수량
+     */
+    public int affordableQuantity(double budget, double price) {
+        double quantity = Math.floor(budget / (price * (1 + commissionRate)));
+        return quantity >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) Math.max(0, quantity);
+    }
+
+    // Money와 같은 소수 둘째 자리
+    private static double round(double amount) {
+        return Math.round(amount * 100) / 100.0;
+    }
+}
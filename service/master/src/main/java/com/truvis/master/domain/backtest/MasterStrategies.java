@@ -0,0 +1,38 @@
+package com.truvis.master.domain.backtest;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 거장 스타일별 기본 전략 (포트폴리오의 거장 스타일 코드와 같은 이름)
+ * - VALUE (버핏형): 크게 빠진 종목을 반등 확인 후 매수, 손절 없이 오래 보유, 목표 수익률에서 차익 실현
+ * - GROWTH (린치형): 추세가 꺾이기 전까지 보유, 고점 대비 하락/손절로 빠르게 정리
+ */
+public final class MasterStrategies {
+
+    public static final StrategyParameters VALUE = new StrategyParameters(
+            "VALUE", EntryRule.DIP_BUYING, 20, 200, 0.30, 0.60, 0, 0, 0, 10);
+
+    public static final StrategyParameters GROWTH = new StrategyParameters(
+            "GROWTH", EntryRule.TREND_FOLLOWING, 20, 60, 0, 0, 0.10, 0.15, 0, 10);
+
+    private static final List<StrategyParameters> ALL = List.of(VALUE, GROWTH);
+
+    private MasterStrategies() {
+    }
+
+    public static List<StrategyParameters> all() {
+        return ALL;
+    }
+
+    public static Optional<StrategyParameters> forStyle(String masterStyle) {
+        if (masterStyle == null) {
+            return Optional.empty();
+        }
+        String code = masterStyle.strip().toUpperCase(Locale.ROOT);
+        return ALL.stream()
+                .filter(strategy -> strategy.name().equals(code))
+                .findFirst();
+    }
+}
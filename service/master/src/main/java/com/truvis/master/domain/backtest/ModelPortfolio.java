@@ -0,0 +1,18 @@
+package com.truvis.master.domain.backtest;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 거장 스타일 모델 포트폴리오 (기본 전략을 최근 기간 돌렸을 때 지금 들고 있을 종목과 비중)
+ * - 비중 합계는 1 이하 (나머지는 현금)
+ *
+ * @param asOf    기준 거래일 (이날 종가 기준 비중)
+ * @param weights 종목 코드 → 비중 (0.1 = 10%)
+ */
+public record ModelPortfolio(
+        String masterStyle,
+        LocalDate asOf,
+        Map<String, Double> weights
+) {
+}
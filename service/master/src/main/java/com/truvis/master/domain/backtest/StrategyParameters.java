@@ -0,0 +1,46 @@
+package com.truvis.master.domain.backtest;
+
+import java.util.Objects;
+
+/**
+ * 전략 파라미터 1세트 (진입/청산 규칙을 데이터로 선언)
+ *
+ * @param entryDrawdown  DIP_BUYING 진입 조건: 52주 최고 종가 대비 하락률 (0.25 = 25% 이상 하락)
+ * @param takeProfit     매입가 대비 이 수익률 이상이면 청산 (0 = 사용 안 함)
+ * @param stopLoss       매입가 대비 이 손실률 이상이면 청산 (0 = 사용 안 함)
+ * @param trailingStop   보유 중 최고 종가 대비 이 하락률 이상이면 청산 (0 = 사용 안 함)
+ * @param maxHoldingDays 보유 거래일 수가 이 값이 되면 청산 (0 = 사용 안 함)
+ * @param maxPositions   동시에 보유하는 최대 종목 수 (종목당 평가금액의 1/maxPositions까지 매수)
+ */
+public record StrategyParameters(
+        String name,
+        EntryRule entryRule,
+        int shortWindow,
+        int longWindow,
+        double entryDrawdown,
+        double takeProfit,
+        double stopLoss,
+        double trailingStop,
+        int maxHoldingDays,
+        int maxPositions
+) {
+
+    public StrategyParameters {
+        Objects.requireNonNull(name, "전략 이름은 필수입니다");
+        Objects.requireNonNull(entryRule, "진입 규칙은 필수입니다");
+        if (shortWindow < 1 || longWindow <= shortWindow || longWindow > BacktestUniverse.HIGH_WINDOW) {
+            throw new IllegalArgumentException(
+                    "이동평균 기간은 1 ≤ 단기 < 장기 ≤ " + BacktestUniverse.HIGH_WINDOW + " 이어야 합니다");
+        }
+        if (!isRatio(entryDrawdown) || !isRatio(stopLoss) || !isRatio(trailingStop) || !(takeProfit >= 0)) {
+            throw new IllegalArgumentException("하락률/손절/추적 손절은 0 이상 1 미만, 목표 수익률은 0 이상이어야 합니다");
+        }
+        if (maxHoldingDays < 0 || maxPositions < 1) {
+            throw new IllegalArgumentException("최대 보유 기간은 0 이상, 최대 보유 종목 수는 1 이상이어야 합니다");
+        }
+    }
+
+    private static boolean isRatio(double value) {
+        return value >= 0 && value < 1;
+    }
+}
@@ -0,0 +1,19 @@
+package com.truvis.master.domain.criteria;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기준 비교 방식 (값이 없으면 어떤 비교든 불합격)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Comparison {
+
+    GREATER_THAN(">"),
+    AT_LEAST(">="),
+    LESS_THAN("<"),
+    AT_MOST("<=");
+
+    private final String symbol;
+}
@@ -0,0 +1,130 @@
+package com.truvis.master.domain.criteria;
+
+import com.truvis.master.domain.InvestmentMaster;
+import com.truvis.stock.domain.ScreenerField;
+
+import java.util.List;
+
+/**
+ * 거장 전체 투자 기준을 한 번에 컴파일한 평가기 (불변, 스레드 안전)
+ *
+ * - 기준마다 (항목 열, 닫힌 구간 [lower, upper], 가중치)로 바꿔 평평한 배열에 둔다
+ *   > 15 → [nextUp(15), +∞], < 50 → [-∞, nextDown(50)] 처럼 엄격한 비교도 닫힌 구간으로
+ * - 평가는 기준 하나마다 열 하나를 종목 구간 [from, to) 만큼 훑는 분기 없는 루프
+ *   (NaN은 어떤 비교도 false라 값 없는 종목은 자동으로 불합격)
+ * - 점수 = 통과한 기준 가중치 합 ÷ 전체 가중치 합 × 100, 통과 여부는 기준 순서대로 비트 마스크
+ */
+public final class CompiledCriteria {
+
+    private final List<InvestmentMaster> masters;
+    private final int[] ruleStart;          // 거장 m의 기준 = [ruleStart[m], ruleStart[m + 1])
+    private final ScreenerField[] fields;
+    private final double[] lowers;
+    private final double[] uppers;
+    private final float[] weights;
+    private final float[] totalWeights;
+    private final int[] requiredMasks;
+
+    private CompiledCriteria(List<InvestmentMaster> masters) {
+        this.masters = List.copyOf(masters);
+
+        int masterCount = this.masters.size();
+        int ruleCount = 0;
+        for (InvestmentMaster master : this.masters) {
+            ruleCount += master.getCriteria().rules().size();
+        }
+
+        this.ruleStart = new int[masterCount + 1];
+        this.fields = new ScreenerField[ruleCount];
+        this.lowers = new double[ruleCount];
+        this.uppers = new double[ruleCount];
+        this.weights = new float[ruleCount];
+        this.totalWeights = new float[masterCount];
+        this.requiredMasks = new int[masterCount];
+
+        int r = 0;
+        for (int m = 0; m < masterCount; m++) {
+            ruleStart[m] = r;
+            List<CriterionRule> rules = this.masters.get(m).getCriteria().rules();
+            for (int bit = 0; bit < rules.size(); bit++, r++) {
+                CriterionRule rule = rules.get(bit);
+                double threshold = rule.threshold().doubleValue();
+                fields[r] = rule.field();
+                lowers[r] = switch (rule.comparison()) {
+                    case GREATER_THAN -> Math.nextUp(threshold);
+                    case AT_LEAST -> threshold;
+                    case LESS_THAN, AT_MOST -> Double.NEGATIVE_INFINITY;
+                };
+                uppers[r] = switch (rule.comparison()) {
+                    case LESS_THAN -> Math.nextDown(threshold);
+                    case AT_MOST -> threshold;
+                    case GREATER_THAN, AT_LEAST -> Double.POSITIVE_INFINITY;
+                };
+                weights[r] = rule.weight();
+                totalWeights[m] += rule.weight();
+                if (rule.required()) {
+                    requiredMasks[m] |= 1 << bit;
+                }
+            }
+        }
+        ruleStart[masterCount] = r;
+    }
+
+    public static CompiledCriteria compile(List<InvestmentMaster> masters) {
+        return new CompiledCriteria(masters);
+    }
+
+    public List<InvestmentMaster> masters() {
+        return masters;
+    }
+
+    public int masterCount() {
+        return masters.size();
+    }
+
+    /**
+     * 종목 구간 [from, to) 평가 (구간끼리 겹치지 않으면 여러 스레드가 같은 배열에 동시에 써도 된다)
+     *
+     * @param scores      [거장][종목] 점수 (0~100)
+     * @param passedMasks [거장][종목] 통과한 기준 비트 마스크
+     */
+    public void evaluate(FundamentalColumns columns, int from, int to, float[][] scores, int[][] passedMasks) {
+        for (int m = 0; m < masters.size(); m++) {
+            float[] score = scores[m];
+            int[] passed = passedMasks[m];
+            for (int i = from; i < to; i++) {
+                score[i] = 0;
+                passed[i] = 0;
+            }
+
+            for (int r = ruleStart[m], bit = 0; r < ruleStart[m + 1]; r++, bit++) {
+                double[] column = columns.column(fields[r]);
+                double lower = lowers[r];
+                double upper = uppers[r];
+                float weight = weights[r];
+                for (int i = from; i < to; i++) {
+                    double value = column[i];
+                    int pass = value >= lower & value <= upper ? 1 : 0;
+                    passed[i] |= pass << bit;
+                    score[i] += pass * weight;
+                }
+            }
+
+            float scale = 100f / totalWeights[m];
+            for (int i = from; i < to; i++) {
+                score[i] *= scale;
+            }
+        }
+    }
+
+    /**
+     * 필수 기준을 모두 통과했는지
+     */
+    public boolean requiredPassed(int master, int passedMask) {
+        return (passedMask & requiredMasks[master]) == requiredMasks[master];
+    }
+
+    public InvestmentOpinion opinion(int master, float score, int passedMask) {
+        return InvestmentOpinion.of(score, requiredPassed(master, passedMask));
+    }
+}
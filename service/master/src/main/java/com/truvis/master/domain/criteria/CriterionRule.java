@@ -0,0 +1,45 @@
+package com.truvis.master.domain.criteria;
+
+import com.truvis.stock.domain.ScreenerField;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * 투자 기준 1개 (예: ROE(%) > 15)
+ *
+ * @param weight   점수 가중치 (통과한 기준 가중치 합 ÷ 전체 가중치 합 × 100 = 점수)
+ * @param required 필수 기준 (불합격이면 점수와 상관없이 부적합)
+ */
+public record CriterionRule(
+        ScreenerField field,
+        Comparison comparison,
+        BigDecimal threshold,
+        int weight,
+        boolean required
+) {
+
+    public CriterionRule {
+        Objects.requireNonNull(field, "기준 항목은 필수입니다");
+        Objects.requireNonNull(comparison, "비교 방식은 필수입니다");
+        Objects.requireNonNull(threshold, "기준값은 필수입니다");
+        if (weight <= 0) {
+            throw new IllegalArgumentException("기준 가중치는 1 이상이어야 합니다: " + field.getCode());
+        }
+    }
+
+    public static CriterionRule of(ScreenerField field, Comparison comparison, String threshold, int weight) {
+        return new CriterionRule(field, comparison, new BigDecimal(threshold), weight, false);
+    }
+
+    public static CriterionRule required(ScreenerField field, Comparison comparison, String threshold, int weight) {
+        return new CriterionRule(field, comparison, new BigDecimal(threshold), weight, true);
+    }
+
+    /**
+     * 화면 표시용 (예: "ROE(%) > 15")
+     */
+    public String describe() {
+        return field.getDescription() + " " + comparison.getSymbol() + " " + threshold.toPlainString();
+    }
+}
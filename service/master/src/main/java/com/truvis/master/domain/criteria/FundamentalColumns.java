@@ -0,0 +1,97 @@
+package com.truvis.master.domain.criteria;
+
+import com.truvis.stock.domain.ScreenerField;
+import com.truvis.stock.domain.Stock;
+import com.truvis.stock.domain.StockFundamentals;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 종목 전체 재무 지표 열 저장 (불변)
+ * - 종목 번호 = 입력 순서, 항목마다 double[] 한 줄 (ScreenerField 순서)
+ * - 값이 없으면 NaN → 어떤 비교도 통과하지 않는다
+ * - 채점 루프가 객체를 건드리지 않고 기본형 배열만 훑게 하려는 구조
+ */
+public final class FundamentalColumns {
+
+    private static final ScreenerField[] FIELDS = ScreenerField.values();
+
+    private final Stock[] stocks;
+    private final double[][] columns;
+    private final Map<String, Integer> idBySymbol;
+
+    private FundamentalColumns(Stock[] stocks, double[][] columns) {
+        this.stocks = stocks;
+        this.columns = columns;
+        this.idBySymbol = new HashMap<>(stocks.length * 2);
+        for (int id = 0; id < stocks.length; id++) {
+            idBySymbol.put(stocks[id].getSymbol(), id);
+        }
+    }
+
+    /**
+     * @param fundamentals 종목 코드 → 재무 지표 (없으면 null)
+     */
+    public static FundamentalColumns build(List<Stock> stocks, Function<String, StockFundamentals> fundamentals) {
+        int size = stocks.size();
+        double[][] columns = new double[FIELDS.length][size];
+        for (double[] column : columns) {
+            Arrays.fill(column, Double.NaN);
+        }
+
+        for (int id = 0; id < size; id++) {
+            StockFundamentals row = fundamentals.apply(stocks.get(id).getSymbol());
+            if (row == null) {
+                continue;
+            }
+            for (ScreenerField field : FIELDS) {
+                BigDecimal value = field.valueOf(row);
+                if (value != null) {
+                    columns[field.ordinal()][id] = value.doubleValue();
+                }
+            }
+        }
+        return new FundamentalColumns(stocks.toArray(new Stock[0]), columns);
+    }
+
+    public static FundamentalColumns empty() {
+        return new FundamentalColumns(new Stock[0], new double[FIELDS.length][0]);
+    }
+
+    public int size() {
+        return stocks.length;
+    }
+
+    public Stock stock(int id) {
+        return stocks[id];
+    }
+
+    /**
+     * 종목 번호 (없으면 -1)
+     */
+    public int findId(String symbol) {
+        return symbol == null ? -1 : idBySymbol.getOrDefault(symbol.strip().toUpperCase(Locale.ROOT), -1);
+    }
+
+    /**
+     * 항목 열 (읽기 전용으로만 쓸 것)
+     */
+    double[] column(ScreenerField field) {
+        return columns[field.ordinal()];
+    }
+
+    /**
+     * 값 1개 (없으면 null, 소수 자릿수는 항목 scale)
+     */
+    public BigDecimal value(ScreenerField field, int id) {
+        double value = columns[field.ordinal()][id];
+        return Double.isNaN(value) ? null : BigDecimal.valueOf(value).setScale(field.getScale(), RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,35 @@
+package com.truvis.master.domain.criteria;
+
+import java.util.List;
+
+/**
+ * 거장 1명의 투자 기준 (데이터로만 선언, 평가는 CompiledCriteria가 한다)
+ * - 기준끼리는 가중 합산 점수, 필수 기준은 하나라도 불합격이면 부적합
+ * - 통과 여부를 기준마다 비트 1개로 기록하므로 최대 32개
+ */
+public record InvestmentCriteria(List<CriterionRule> rules) {
+
+    public static final int MAX_RULES = Integer.SIZE;
+
+    public InvestmentCriteria {
+        if (rules == null || rules.isEmpty()) {
+            throw new IllegalArgumentException("투자 기준은 1개 이상이어야 합니다");
+        }
+        if (rules.size() > MAX_RULES) {
+            throw new IllegalArgumentException("투자 기준은 최대 " + MAX_RULES + "개입니다");
+        }
+        rules = List.copyOf(rules);
+    }
+
+    public static InvestmentCriteria of(CriterionRule... rules) {
+        return new InvestmentCriteria(List.of(rules));
+    }
+
+    public int totalWeight() {
+        int total = 0;
+        for (CriterionRule rule : rules) {
+            total += rule.weight();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,34 @@
+package com.truvis.master.domain.criteria;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 거장 기준 투자 의견
+ * - BUY: 필수 기준을 모두 통과하고 점수 80 이상
+ * - WATCH: 필수 기준을 모두 통과하고 점수 50 이상
+ * - AVOID: 그 밖 (필수 기준 하나라도 불합격이면 점수와 상관없이)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum InvestmentOpinion {
+
+    BUY("매수 검토"),
+    WATCH("관심"),
+    AVOID("부적합");
+
+    private static final double BUY_SCORE = 80;
+    private static final double WATCH_SCORE = 50;
+
+    private final String displayName;
+
+    public static InvestmentOpinion of(double score, boolean requiredPassed) {
+        if (!requiredPassed) {
+            return AVOID;
+        }
+        if (score >= BUY_SCORE) {
+            return BUY;
+        }
+        return score >= WATCH_SCORE ? WATCH : AVOID;
+    }
+}
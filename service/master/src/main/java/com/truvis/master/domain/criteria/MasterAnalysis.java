@@ -0,0 +1,25 @@
+package com.truvis.master.domain.criteria;
+
+import com.truvis.master.domain.InvestmentMaster;
+import com.truvis.stock.domain.Stock;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 거장 1명 기준으로 본 종목 1개 분석 결과
+ *
+ * @param score 0~100
+ * @param rules 기준 순서대로 실제 값과 통과 여부 (값이 없으면 null, 불합격)
+ */
+public record MasterAnalysis(
+        InvestmentMaster master,
+        Stock stock,
+        float score,
+        InvestmentOpinion opinion,
+        List<RuleResult> rules
+) {
+
+    public record RuleResult(CriterionRule rule, BigDecimal value, boolean passed) {
+    }
+}
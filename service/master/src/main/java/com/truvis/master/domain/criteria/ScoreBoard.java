@@ -0,0 +1,105 @@
+package com.truvis.master.domain.criteria;
+
+import com.truvis.master.domain.InvestmentMaster;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 거장 전체 × 종목 전체 채점 결과 (불변 스냅샷)
+ * - 점수/통과 마스크는 [거장][종목 번호] 기본형 배열
+ * - 종목 분석과 거장별 상위 종목은 이 스냅샷에서 바로 꺼낸다 (다시 채점하지 않음)
+ */
+public final class ScoreBoard {
+
+    private final CompiledCriteria criteria;
+    private final FundamentalColumns columns;
+    private final float[][] scores;
+    private final int[][] passedMasks;
+    private final long elapsedMillis;
+
+    public ScoreBoard(CompiledCriteria criteria, FundamentalColumns columns, float[][] scores, int[][] passedMasks,
+                      long elapsedMillis) {
+        this.criteria = criteria;
+        this.columns = columns;
+        this.scores = scores;
+        this.passedMasks = passedMasks;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public int stockCount() {
+        return columns.size();
+    }
+
+    public long elapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public FundamentalColumns columns() {
+        return columns;
+    }
+
+    public float score(int master, int stockId) {
+        return scores[master][stockId];
+    }
+
+    /**
+     * 종목 1개 분석 (기준마다 실제 값과 통과 여부)
+     */
+    public MasterAnalysis analyze(int master, int stockId) {
+        InvestmentMaster investmentMaster = criteria.masters().get(master);
+        int passed = passedMasks[master][stockId];
+        float score = scores[master][stockId];
+
+        List<CriterionRule> rules = investmentMaster.getCriteria().rules();
+        List<MasterAnalysis.RuleResult> results = new ArrayList<>(rules.size());
+        for (int bit = 0; bit < rules.size(); bit++) {
+            CriterionRule rule = rules.get(bit);
+            results.add(new MasterAnalysis.RuleResult(
+                    rule, columns.value(rule.field(), stockId), (passed >>> bit & 1) == 1));
+        }
+
+        return new MasterAnalysis(
+                investmentMaster,
+                columns.stock(stockId),
+                score,
+                criteria.opinion(master, score, passed),
+                results);
+    }
+
+    /**
+     * 거장 기준 상위 종목 (필수 기준 통과 + 점수순, 같은 점수면 종목 순위순)
+     * - 상위 limit개만 삽입 정렬로 유지 (전체 정렬 없음)
+     */
+    public List<MasterAnalysis> top(int master, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        float[] score = scores[master];
+        int[] passed = passedMasks[master];
+        int[] best = new int[limit];
+        int count = 0;
+
+        for (int id = 0; id < score.length; id++) {
+            if (score[id] <= 0 || !criteria.requiredPassed(master, passed[id])) {
+                continue;
+            }
+            if (count == best.length && score[best[count - 1]] >= score[id]) {
+                continue;
+            }
+
+            int position = count < best.length ? count++ : count - 1;
+            while (position > 0 && score[best[position - 1]] < score[id]) {
+                best[position] = best[position - 1];
+                position--;
+            }
+            best[position] = id;
+        }
+
+        List<MasterAnalysis> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(analyze(master, best[i]));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,47 @@
+package com.truvis.master.infrastructure;
+
+import com.truvis.master.domain.InvestmentMaster;
+import com.truvis.master.domain.InvestmentMasters;
+import com.truvis.master.repository.InvestmentMasterRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 거장 메모리 저장소
+ * - 코드에 선언된 거장 목록(InvestmentMasters)을 그대로 공개 (불변)
+ */
+@Repository
+public class InMemoryInvestmentMasterRepository implements InvestmentMasterRepository {
+
+    private final List<InvestmentMaster> masters = InvestmentMasters.all();
+
+    @Override
+    public Optional<InvestmentMaster> findById(String masterId) {
+        if (masterId == null) {
+            return Optional.empty();
+        }
+        String id = masterId.strip().toUpperCase(Locale.ROOT);
+        return masters.stream()
+                .filter(master -> master.getId().equals(id))
+                .findFirst();
+    }
+
+    @Override
+    public List<InvestmentMaster> findAll() {
+        return masters;
+    }
+
+    @Override
+    public List<InvestmentMaster> findByStyle(String masterStyle) {
+        if (masterStyle == null) {
+            return List.of();
+        }
+        String style = masterStyle.strip().toUpperCase(Locale.ROOT);
+        return masters.stream()
+                .filter(master -> master.getMasterStyle().equals(style))
+                .toList();
+    }
+}
@@ -0,0 +1,144 @@
+package com.truvis.master.infrastructure.backtest;
+
+import com.truvis.master.domain.backtest.BacktestUniverse;
+import com.truvis.stock.domain.CandleInterval;
+import com.truvis.stock.domain.Stock;
+import com.truvis.stock.infrastructure.history.ColumnarSeries;
+import com.truvis.stock.infrastructure.history.HistoricalPriceStore;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import com.truvis.stock.repository.StockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 과거 일봉 저장소 → 백테스트 공용 가격 데이터
+ *
+ * - 대상: 종목 마스터 중 국내 시장 종목 (일봉이 있는 종목만)
+ *   → 해외 종목은 통화와 거래일 달력이 달라 같은 원화 현금/같은 날짜 축에 섞을 수 없다
+ * - 기간: 기준일까지 최근 historyYears년 (앞부분은 이동평균/52주 고가 준비 구간으로도 쓰인다)
+ * - 거래일 달력은 종목들의 일봉 시각 합집합, 거래가 없던 날은 시가 0 + 직전 종가
+ * - 메모리: 종목 수 × 거래일 수 × 8바이트 × 4열 (2,500종목 × 10년 ≈ 200MB)
+ */
+@Component
+@Slf4j
+public class BacktestUniverseLoader {
+
+    private final HistoricalPriceStore historyStore;
+    private final StockRepository stockRepository;
+    private final int historyYears;
+    private final ZoneId zone;
+
+    public BacktestUniverseLoader(
+            HistoricalPriceStore historyStore,
+            StockRepository stockRepository,
+            @Value("${master.backtest.history-years:10}") int historyYears,
+            @Value("${master.backtest.zone:Asia/Seoul}") String zone
+    ) {
+        this.historyStore = historyStore;
+        this.stockRepository = stockRepository;
+        this.historyYears = Math.max(1, historyYears);
+        this.zone = ZoneId.of(zone);
+    }
+
+    /**
+     * asOf 종가까지의 일봉으로 생성
+     */
+    public BacktestUniverse load(LocalDate asOf) {
+        long startedAt = System.currentTimeMillis();
+        long from = asOf.minusYears(historyYears).atStartOfDay(zone).toInstant().toEpochMilli();
+        long to = asOf.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+
+        List<String> symbols = new ArrayList<>();
+        List<ColumnarSeries> series = new ArrayList<>();
+        for (Stock stock : stockRepository.findAll()) {
+            if (!stock.getMarket().isDomestic()) {
+                continue;
+            }
+            ColumnarSeries bars = openBars(stock.getSymbol(), from, to);
+            if (bars != null && !bars.isEmpty()) {
+                symbols.add(stock.getSymbol());
+                series.add(bars);
+            }
+        }
+
+        long[] calendar = calendar(series);
+        int symbolCount = symbols.size();
+        double[] opens = new double[calendar.length * symbolCount];
+        double[] closes = new double[opens.length];
+        for (int s = 0; s < symbolCount; s++) {
+            fill(series.get(s), calendar, s, symbolCount, opens, closes);
+        }
+
+        LocalDate[] dates = new LocalDate[calendar.length];
+        for (int day = 0; day < calendar.length; day++) {
+            dates[day] = Instant.ofEpochMilli(calendar[day]).atZone(zone).toLocalDate();
+        }
+
+        BacktestUniverse universe = BacktestUniverse.of(symbols.toArray(String[]::new), dates, opens, closes);
+        log.info("📚 백테스트 가격 데이터 생성: asOf={}, 종목 {}개, {}거래일, {}ms",
+                asOf, symbolCount, calendar.length, System.currentTimeMillis() - startedAt);
+        return universe;
+    }
+
+    /**
+     * 저장소에 쓸 수 없는 코드면 null
+     */
+    private ColumnarSeries openBars(String symbol, long from, long to) {
+        try {
+            return historyStore.open(symbol, CandleInterval.DAY_1).slice(from, to);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 전 종목 일봉 시각의 합집합 (오름차순)
+     */
+    private static long[] calendar(List<ColumnarSeries> series) {
+        int total = 0;
+        for (ColumnarSeries bars : series) {
+            total += bars.size();
+        }
+
+        long[] times = new long[total];
+        int length = 0;
+        for (ColumnarSeries bars : series) {
+            for (int i = 0; i < bars.size(); i++) {
+                times[length++] = bars.time(i);
+            }
+        }
+        Arrays.sort(times, 0, length);
+
+        int distinct = 0;
+        for (int i = 0; i < length; i++) {
+            if (distinct == 0 || times[distinct - 1] != times[i]) {
+                times[distinct++] = times[i];
+            }
+        }
+        return Arrays.copyOf(times, distinct);
+    }
+
+    private static void fill(ColumnarSeries bars, long[] calendar, int symbol, int symbolCount,
+                             double[] opens, double[] closes) {
+        double scale = QuoteStore.PRICE_SCALE;
+        int cursor = 0;
+        double previousClose = 0;
+        for (int day = 0; day < calendar.length; day++) {
+            int index = day * symbolCount + symbol;
+            if (cursor < bars.size() && bars.time(cursor) == calendar[day]) {
+                opens[index] = bars.open(cursor) / scale;
+                previousClose = bars.close(cursor) / scale;
+                cursor++;
+            }
+            closes[index] = previousClose;
+        }
+    }
+}
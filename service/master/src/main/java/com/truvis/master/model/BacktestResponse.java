@@ -0,0 +1,34 @@
+package com.truvis.master.model;
+
+import com.truvis.master.domain.backtest.BacktestReport;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 백테스트 응답 DTO
+ * - from/to: 실제 시뮬레이션한 첫/마지막 거래일
+ * - strategyYearsPerSecond: 처리량 (전략 수 × 기간 년수 ÷ 경과 초)
+ */
+public record BacktestResponse(
+        LocalDate from,
+        LocalDate to,
+        long elapsedMillis,
+        BigDecimal strategyYearsPerSecond,
+        List<BacktestResultResponse> results
+) {
+
+    public static BacktestResponse from(BacktestReport report, boolean includeCurves) {
+        return new BacktestResponse(
+                report.from(),
+                report.to(),
+                report.elapsedMillis(),
+                BigDecimal.valueOf(report.strategyYearsPerSecond()).setScale(1, RoundingMode.HALF_UP),
+                report.results().stream()
+                        .map(result -> BacktestResultResponse.from(result, report.dates(), includeCurves))
+                        .toList()
+        );
+    }
+}
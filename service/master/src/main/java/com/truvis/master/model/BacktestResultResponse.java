@@ -0,0 +1,87 @@
+package com.truvis.master.model;
+
+import com.truvis.master.domain.backtest.BacktestResult;
+import com.truvis.master.domain.backtest.BacktestTrade;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 전략 1세트 백테스트 결과 DTO
+ * - totalReturn / cagr / maxDrawdown: %
+ * - equityCurve: 거래일별 평가금액 (원, includeCurves = false면 빈 목록)
+ * - trades: 체결 내역 (체결 기록을 요청했을 때만)
+ */
+public record BacktestResultResponse(
+        String name,
+        String entryRule,
+        BigDecimal totalReturn,
+        BigDecimal cagr,
+        BigDecimal maxDrawdown,
+        int tradeCount,
+        List<EquityPoint> equityCurve,
+        List<Trade> trades
+) {
+
+    private static final int SCALE = 2;
+
+    public static BacktestResultResponse from(BacktestResult result, List<LocalDate> dates, boolean includeCurves) {
+        List<EquityPoint> curve = new ArrayList<>();
+        if (includeCurves) {
+            double[] equity = result.equityCurve();
+            for (int i = 0; i < equity.length; i++) {
+                curve.add(new EquityPoint(dates.get(i), scaled(equity[i])));
+            }
+        }
+
+        return new BacktestResultResponse(
+                result.parameters().name(),
+                result.parameters().entryRule().name(),
+                scaled(result.totalReturn() * 100),
+                scaled(result.cagr() * 100),
+                scaled(result.maxDrawdown() * 100),
+                result.tradeCount(),
+                curve,
+                result.trades().stream().map(Trade::from).toList()
+        );
+    }
+
+    private static BigDecimal scaled(double value) {
+        return BigDecimal.valueOf(value).setScale(SCALE, RoundingMode.HALF_UP);
+    }
+
+    public record EquityPoint(
+            LocalDate date,
+            BigDecimal equity
+    ) {
+    }
+
+    /**
+     * exitReason: 매도 사유 (매수면 null)
+     */
+    public record Trade(
+            LocalDate date,
+            String symbol,
+            String type,
+            BigDecimal price,
+            int quantity,
+            BigDecimal fee,
+            String exitReason
+    ) {
+
+        static Trade from(BacktestTrade trade) {
+            return new Trade(
+                    trade.date(),
+                    trade.symbol(),
+                    trade.type().name(),
+                    trade.price().getValue(),
+                    trade.quantity().getValue(),
+                    trade.fee().getValue(),
+                    trade.exitReason() != null ? trade.exitReason().name() : null
+            );
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.truvis.master.model;
+
+import com.truvis.master.domain.criteria.MasterAnalysis;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * 거장 기준 종목 분석 응답 DTO
+ * - score: 0~100 (통과한 기준 가중치 비율)
+ * - opinion: BUY / WATCH / AVOID
+ * - rules: 기준마다 실제 값 (값이 없으면 null)과 통과 여부
+ */
+public record MasterAnalysisResponse(
+        String masterId,
+        String masterName,
+        String stockCode,
+        String stockName,
+        BigDecimal score,
+        String opinion,
+        String opinionName,
+        List<Rule> rules
+) {
+
+    public static MasterAnalysisResponse from(MasterAnalysis analysis) {
+        return new MasterAnalysisResponse(
+                analysis.master().getId(),
+                analysis.master().getName(),
+                analysis.stock().getSymbol(),
+                analysis.stock().getName(),
+                BigDecimal.valueOf(analysis.score()).setScale(2, RoundingMode.HALF_UP),
+                analysis.opinion().name(),
+                analysis.opinion().getDisplayName(),
+                analysis.rules().stream().map(Rule::from).toList()
+        );
+    }
+
+    public record Rule(
+            String field,
+            String criterion,
+            BigDecimal value,
+            int weight,
+            boolean required,
+            boolean passed
+    ) {
+
+        static Rule from(MasterAnalysis.RuleResult result) {
+            return new Rule(
+                    result.rule().field().getCode(),
+                    result.rule().describe(),
+                    result.value(),
+                    result.rule().weight(),
+                    result.rule().required(),
+                    result.passed()
+            );
+        }
+    }
+}
@@ -1,19 +1,36 @@
 package com.truvis.master.model;
 
+import com.truvis.master.domain.InvestmentMaster;
+import com.truvis.master.domain.criteria.CriterionRule;
+
+import java.util.List;
+
 /**
  * 거장 정보 응답 DTO
  * - 거장 목록/상세 조회 시 사용
- * 
- * TODO: 구현 필요
- * - masterId (거장 ID)
- * - name (거장 이름)
- * - investmentStyle (투자 스타일)
- * - philosophy (투자 철학)
- * - description (간단 설명)
+ * - criteria: 투자 기준 설명 (예: "ROE(%) > 15", 필수 기준은 앞에 [필수])
  */
-public class MasterResponse {
-    
-    // TODO: 필드 추가
-    
-    // TODO: 생성자/Getter/Setter
+public record MasterResponse(
+        String masterId,
+        String name,
+        String investmentStyle,
+        String philosophy,
+        String description,
+        List<String> criteria
+) {
+
+    public static MasterResponse from(InvestmentMaster master) {
+        return new MasterResponse(
+                master.getId(),
+                master.getName(),
+                master.getMasterStyle(),
+                master.getPhilosophy(),
+                master.getDescription(),
+                master.getCriteria().rules().stream().map(MasterResponse::describe).toList()
+        );
+    }
+
+    private static String describe(CriterionRule rule) {
+        return rule.required() ? "[필수] " + rule.describe() : rule.describe();
+    }
 }
@@ -1,17 +1,32 @@
 package com.truvis.master.repository;
 
+import com.truvis.master.domain.InvestmentMaster;
+
+import java.util.List;
+import java.util.Optional;
+
 /**
- * 거장 저장/조회 인터페이스
+ * 거장 조회 인터페이스
  * - 도메인 레이어의 Repository 정의
  * - Infrastructure 레이어에서 구현
- * 
- * TODO: 구현 필요
- * - save() - 거장 정보 저장
- * - findById() - ID로 거장 조회
- * - findAll() - 모든 거장 조회
- * - findByStyle() - 스타일별 거장 조회
+ * - 거장과 투자 기준은 코드에 선언된 목록(InvestmentMasters)이 원본 (개별 저장 없음)
+ *
+ * TODO: 거장을 DB로 관리하게 되면 save() 추가 (JpaInvestmentMasterRepository)
  */
 public interface InvestmentMasterRepository {
-    
-    // TODO: 메서드 정의
+
+    /**
+     * 거장 ID로 조회 (대소문자 무시)
+     */
+    Optional<InvestmentMaster> findById(String masterId);
+
+    /**
+     * 전체 거장 (목록 순서)
+     */
+    List<InvestmentMaster> findAll();
+
+    /**
+     * 거장 스타일별 조회 (VALUE, GROWTH)
+     */
+    List<InvestmentMaster> findByStyle(String masterStyle);
 }
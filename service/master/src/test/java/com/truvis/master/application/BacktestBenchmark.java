@@ -0,0 +1,98 @@
+package com.truvis.master.application;
+
+import com.truvis.master.domain.backtest.BacktestReport;
+import com.truvis.master.domain.backtest.BacktestUniverse;
+import com.truvis.master.domain.backtest.EntryRule;
+import com.truvis.master.domain.backtest.StrategyParameters;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.truvis.common.benchmark.BenchmarkReporter.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 파라미터 세트 병렬 백테스트 처리량
+ * - 실행: ./gradlew :service:master:test --tests '*BacktestBenchmark' -Dbenchmark=true
+ * - 500종목 × 10년(2,520거래일) 무작위 보행 가격, 파라미터 64세트 (추세 32 + 하락 매수 32)
+ * - 결과 지표만 (체결 내역 기록 없음), fork-join (코어 수만큼)
+ */
+@DisplayName("BacktestRunner 벤치마크")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BacktestBenchmark {
+
+    private static final int SYMBOLS = 500;
+    private static final int DAYS = 2_520;
+
+    @Test
+    @DisplayName("500종목 × 10년, 파라미터 64세트")
+    void parameterSweep() {
+        // given
+        BacktestUniverse universe = randomWalk(new SplittableRandom(7));
+        List<StrategyParameters> strategies = grid();
+        BacktestRunner runner = new BacktestRunner(
+                null, 0.00015, 0.0018, new ForkJoinPool(Runtime.getRuntime().availableProcessors()),
+                256, 252, "Asia/Seoul");
+
+        // when
+        BacktestReport report = null;
+        for (int round = 0; round < 3; round++) {
+            report = runner.run(universe, strategies, universe.date(0), universe.date(DAYS - 1), 100_000_000, false);
+            report("백테스트 %d세트 × %.1f년 %,dms → %,.0f 전략·년/초",
+                    strategies.size(), report.strategyYears() / strategies.size(),
+                    report.elapsedMillis(), report.strategyYearsPerSecond());
+        }
+
+        // then
+        assertThat(report.results()).hasSize(strategies.size());
+        assertThat(report.results()).filteredOn(result -> result.tradeCount() > 0).hasSize(strategies.size());
+    }
+
+    private static List<StrategyParameters> grid() {
+        List<StrategyParameters> strategies = new ArrayList<>();
+        for (int shortWindow : new int[]{5, 10, 20, 40}) {
+            for (int longWindow : new int[]{60, 120}) {
+                for (double trailingStop : new double[]{0.1, 0.2}) {
+                    for (int maxPositions : new int[]{5, 20}) {
+                        strategies.add(new StrategyParameters("T" + strategies.size(), EntryRule.TREND_FOLLOWING,
+                                shortWindow, longWindow, 0, 0, 0.1, trailingStop, 0, maxPositions));
+                        strategies.add(new StrategyParameters("D" + strategies.size(), EntryRule.DIP_BUYING,
+                                shortWindow, longWindow, trailingStop + 0.1, 0.3, 0, 0, 120, maxPositions));
+                    }
+                }
+            }
+        }
+        return strategies;
+    }
+
+    private static BacktestUniverse randomWalk(SplittableRandom random) {
+        String[] symbols = new String[SYMBOLS];
+        double[] opens = new double[SYMBOLS * DAYS];
+        double[] closes = new double[SYMBOLS * DAYS];
+        double[] last = new double[SYMBOLS];
+        for (int s = 0; s < SYMBOLS; s++) {
+            symbols[s] = String.format("%06d", s);
+            last[s] = 10_000;
+        }
+
+        LocalDate[] dates = new LocalDate[DAYS];
+        for (int day = 0; day < DAYS; day++) {
+            dates[day] = LocalDate.of(2014, 1, 2).plusDays(day);
+            double market = random.nextDouble(-0.01, 0.0105);
+            for (int s = 0; s < SYMBOLS; s++) {
+                double open = Math.round(last[s] * (1 + random.nextDouble(-0.005, 0.005)));
+                double close = Math.max(100, Math.round(open * (1 + market + random.nextDouble(-0.02, 0.02))));
+                opens[day * SYMBOLS + s] = open;
+                closes[day * SYMBOLS + s] = close;
+                last[s] = close;
+            }
+        }
+        return BacktestUniverse.of(symbols, dates, opens, closes);
+    }
+}
@@ -0,0 +1,165 @@
+package com.truvis.master.application;
+
+import com.truvis.common.exception.MasterException;
+import com.truvis.master.domain.backtest.BacktestReport;
+import com.truvis.master.domain.backtest.BacktestResult;
+import com.truvis.master.domain.backtest.BacktestSimulator;
+import com.truvis.master.domain.backtest.BacktestUniverse;
+import com.truvis.master.domain.backtest.EntryRule;
+import com.truvis.master.domain.backtest.FeeSchedule;
+import com.truvis.master.domain.backtest.ModelPortfolio;
+import com.truvis.master.domain.backtest.StrategyParameters;
+import com.truvis.master.infrastructure.backtest.BacktestUniverseLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BacktestRunner 병렬 실행 테스트")
+class BacktestRunnerTest {
+
+    private static final double COMMISSION_RATE = 0.00015;
+    private static final double SELL_TAX_RATE = 0.0018;
+    private static final double CASH = 10_000_000;
+    private static final int FLAT_DAYS = 30;
+    private static final int DAYS = 130;
+
+    // 상승 전환 다음 날 시가에 사서 끝까지 보유 / 5% 수익 다음 날 시가에 청산 / 진입 조건이 안 맞아 거래 없음
+    private static final StrategyParameters HOLD = new StrategyParameters(
+            "HOLD", EntryRule.TREND_FOLLOWING, 5, 20, 0, 0, 0, 0, 0, 1);
+    private static final StrategyParameters TAKE_PROFIT = new StrategyParameters(
+            "TAKE_PROFIT", EntryRule.TREND_FOLLOWING, 5, 20, 0, 0.05, 0, 0, 0, 1);
+    private static final StrategyParameters IDLE = new StrategyParameters(
+            "IDLE", EntryRule.DIP_BUYING, 5, 20, 0.5, 0, 0, 0, 0, 1);
+
+    private ForkJoinPool pool;
+    private BacktestRunner runner;
+    private BacktestUniverse universe;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        runner = new BacktestRunner(null, COMMISSION_RATE, SELL_TAX_RATE, pool, 64, 252, "Asia/Seoul");
+        universe = flatThenRising();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("전략 40개를 공유 풀로 나눠 실행 - 결과는 입력 순서, 한 개씩 돌린 결과와 같음")
+    void fanOutKeepsInputOrder() {
+        // given
+        List<StrategyParameters> strategies = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            StrategyParameters base = List.of(HOLD, TAKE_PROFIT, IDLE).get(i % 3);
+            strategies.add(new StrategyParameters(base.name() + "-" + i, base.entryRule(), base.shortWindow(),
+                    base.longWindow() + i % 5, base.entryDrawdown(), base.takeProfit(), 0, 0, 0, 1));
+        }
+
+        // when
+        BacktestReport report = runner.run(universe, strategies, universe.date(0), universe.date(DAYS - 1), CASH, false);
+
+        // then
+        FeeSchedule fees = new FeeSchedule(COMMISSION_RATE, SELL_TAX_RATE);
+        assertThat(report.results()).hasSize(strategies.size());
+        for (int i = 0; i < strategies.size(); i++) {
+            BacktestResult result = report.results().get(i);
+            BacktestResult alone = BacktestSimulator.run(universe, strategies.get(i), fees, 0, DAYS - 1, CASH, false);
+            assertThat(result.parameters()).isSameAs(strategies.get(i));
+            assertThat(result.totalReturn()).isEqualTo(alone.totalReturn());
+            assertThat(result.tradeCount()).isEqualTo(alone.tradeCount());
+        }
+        assertThat(report.dates()).hasSize(DAYS);
+        assertThat(report.strategyYears()).isCloseTo(40 * DAYS / 252.0, within(1e-9));
+
+        // 요청이 끝나도 공유 풀은 그대로
+        assertThat(pool.isShutdown()).isFalse();
+    }
+
+    @Test
+    @DisplayName("수익률 순위 - 끝까지 보유 > 5% 청산 > 거래 없음")
+    void rankByTotalReturn() {
+        // when
+        BacktestReport report = runner.run(
+                universe, List.of(IDLE, TAKE_PROFIT, HOLD), universe.date(0), universe.date(DAYS - 1), CASH, true);
+
+        // then
+        List<BacktestResult> ranked = report.results().stream()
+                .sorted(Comparator.comparingDouble(BacktestResult::totalReturn).reversed())
+                .toList();
+        assertThat(ranked.stream().map(result -> result.parameters().name()).toList())
+                .containsExactly("HOLD", "TAKE_PROFIT", "IDLE");
+
+        assertThat(ranked.get(0).totalReturn()).isGreaterThan(0.5);
+        assertThat(ranked.get(1).totalReturn()).isBetween(0.05, 0.1);
+        assertThat(ranked.get(2).totalReturn()).isZero();
+        assertThat(ranked.get(2).tradeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("전략 수 한도 초과, 거래일 없는 기간은 거절")
+    void rejectInvalidRequests() {
+        List<StrategyParameters> tooMany = new ArrayList<>();
+        for (int i = 0; i < 65; i++) {
+            tooMany.add(HOLD);
+        }
+
+        assertThatThrownBy(() -> runner.run(universe, tooMany, universe.date(0), universe.date(DAYS - 1), CASH, false))
+                .isInstanceOf(MasterException.class);
+        assertThatThrownBy(() -> runner.run(universe, List.of(HOLD),
+                universe.date(DAYS - 1).plusDays(1), universe.date(DAYS - 1).plusDays(10), CASH, false))
+                .isInstanceOf(MasterException.class);
+    }
+
+    @Test
+    @DisplayName("모델 포트폴리오는 같은 날 전략마다 한 번만 계산")
+    void cacheModelPortfolioPerDay() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        BacktestUniverseLoader loader = new BacktestUniverseLoader(null, null, 1, "Asia/Seoul") {
+            @Override
+            public BacktestUniverse load(LocalDate asOf) {
+                loads.incrementAndGet();
+                return universe;
+            }
+        };
+        BacktestRunner cached = new BacktestRunner(loader, COMMISSION_RATE, SELL_TAX_RATE, pool, 64, 252, "Asia/Seoul");
+
+        // when
+        ModelPortfolio first = cached.modelPortfolio(HOLD);
+        ModelPortfolio second = cached.modelPortfolio(HOLD);
+        ModelPortfolio other = cached.modelPortfolio(TAKE_PROFIT);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+        assertThat(first.weights()).containsOnlyKeys("005930");
+        assertThat(other.weights()).isEmpty();
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    /**
+     * 1종목, 30거래일 100원 횡보 후 100거래일 동안 매일 1원씩 상승 (시가 = 종가)
+     */
+    private static BacktestUniverse flatThenRising() {
+        double[] closes = new double[DAYS];
+        LocalDate[] dates = new LocalDate[DAYS];
+        for (int day = 0; day < DAYS; day++) {
+            closes[day] = 100 + Math.max(0, day - FLAT_DAYS + 1);
+            dates[day] = LocalDate.of(2024, 1, 2).plusDays(day);
+        }
+        return BacktestUniverse.of(new String[]{"005930"}, dates, closes.clone(), closes);
+    }
+}
@@ -0,0 +1,86 @@
+package com.truvis.master.application;
+
+import com.truvis.master.domain.criteria.FundamentalColumns;
+import com.truvis.master.domain.criteria.ScoreBoard;
+import com.truvis.master.infrastructure.InMemoryInvestmentMasterRepository;
+import com.truvis.stock.domain.Market;
+import com.truvis.stock.domain.Stock;
+import com.truvis.stock.domain.StockFundamentals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.truvis.common.benchmark.BenchmarkReporter.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 거장 전체 × 종목 전체 채점 시간
+ * - 실행: ./gradlew :service:master:test --tests '*MasterScoringBenchmark' -Dbenchmark=true
+ * - 무작위 재무 지표 100,000종목 (항목마다 10%는 값 없음), 거장 목록 전체, fork-join (코어 수만큼)
+ */
+@DisplayName("MasterScoringEngine 벤치마크")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MasterScoringBenchmark {
+
+    private static final int STOCKS = 100_000;
+
+    @Test
+    @DisplayName("거장 전체 × 100,000종목")
+    void scoreUniverse() {
+        // given
+        FundamentalColumns columns = randomUniverse(new SplittableRandom(7));
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        MasterScoringEngine engine = new MasterScoringEngine(
+                new InMemoryInvestmentMasterRepository(), null, null, pool);
+
+        // when
+        ScoreBoard board = null;
+        try {
+            for (int round = 0; round < 5; round++) {
+                long startedAt = System.nanoTime();
+                board = engine.score(columns);
+                elapsed(String.format("거장 채점 %,d종목", board.stockCount()), startedAt);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        // then
+        assertThat(board.stockCount()).isEqualTo(STOCKS);
+        assertThat(board.top(0, 20)).hasSize(20);
+    }
+
+    private static FundamentalColumns randomUniverse(SplittableRandom random) {
+        List<Stock> stocks = new ArrayList<>(STOCKS);
+        Map<String, StockFundamentals> fundamentals = new HashMap<>(STOCKS * 2);
+        for (int i = 0; i < STOCKS; i++) {
+            String symbol = String.format("S%06d", i);
+            stocks.add(Stock.of(symbol, "종목" + i, Market.KOSPI, null));
+            fundamentals.put(symbol, new StockFundamentals(
+                    symbol,
+                    random.nextLong(1_000_000_000L, 500_000_000_000_000L),
+                    decimal(random, 2, 60),
+                    decimal(random, 0.2, 8),
+                    decimal(random, -10, 40),
+                    decimal(random, 0, 7),
+                    decimal(random, 5, 300),
+                    decimal(random, -10, 40)));
+        }
+        return FundamentalColumns.build(stocks, fundamentals::get);
+    }
+
+    private static BigDecimal decimal(SplittableRandom random, double from, double to) {
+        if (random.nextInt(10) == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(Math.round(random.nextDouble(from, to) * 100), 2);
+    }
+}
@@ -0,0 +1,79 @@
+package com.truvis.master.domain.backtest;
+
+import com.truvis.transaction.domain.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BacktestSimulator 모의 체결 테스트")
+class BacktestSimulatorTest {
+
+    private static final FeeSchedule FEES = new FeeSchedule(0.001, 0.002);
+
+    // 단기 2일 / 장기 3일 이동평균 상향 돌파 매수, 10% 수익 시 청산
+    private static final StrategyParameters TREND = new StrategyParameters(
+            "TREND", EntryRule.TREND_FOLLOWING, 2, 3, 0, 0.10, 0, 0, 0, 1);
+
+    @Test
+    @DisplayName("신호 다음 날 시가에 정수 수량으로 체결, 수수료/거래세 반영, 목표 수익률에서 청산")
+    void fillNextOpenWithFees() {
+        // given (4일째 종가에 돌파 → 5일째 시가 111원 매수, 6일째 종가 125원 → 7일째 시가 124원 매도)
+        BacktestUniverse universe = universe(
+                new double[]{100, 100, 100, 100, 110, 111, 125, 124},
+                new double[]{100, 100, 100, 100, 110, 112, 125, 126});
+
+        // when
+        BacktestResult result = BacktestSimulator.run(universe, TREND, FEES, 0, 7, 10_000, true);
+
+        // then (10,000 / (111 × 1.001) → 90주, 매수 수수료 9.99, 매도 비용 11,160 × 0.3% = 33.48)
+        List<BacktestTrade> trades = result.trades();
+        assertThat(trades).hasSize(2);
+
+        BacktestTrade buy = trades.get(0);
+        assertThat(buy.type()).isEqualTo(TransactionType.BUY);
+        assertThat(buy.date()).isEqualTo(universe.date(5));
+        assertThat(buy.price().getValue()).isEqualByComparingTo("111");
+        assertThat(buy.quantity().getValue()).isEqualTo(90);
+        assertThat(buy.fee().getValue()).isEqualByComparingTo("9.99");
+
+        BacktestTrade sell = trades.get(1);
+        assertThat(sell.exitReason()).isEqualTo(ExitReason.TAKE_PROFIT);
+        assertThat(sell.price().getValue()).isEqualByComparingTo("124");
+        assertThat(sell.fee().getValue()).isEqualByComparingTo("33.48");
+
+        assertThat(result.equityCurve()[4]).isEqualTo(10_000);
+        assertThat(result.equityCurve()[7]).isCloseTo(11_126.53, within(1e-6));
+        assertThat(result.totalReturn()).isCloseTo(0.112653, within(1e-6));
+        assertThat(result.tradeCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("시가가 없는 날(거래정지)은 매도를 다음 거래일로 미룸")
+    void deferSellWhileHalted() {
+        // given (7일째 거래정지)
+        BacktestUniverse universe = universe(
+                new double[]{100, 100, 100, 100, 110, 111, 125, 0, 120},
+                new double[]{100, 100, 100, 100, 110, 112, 125, 125, 121});
+
+        // when
+        BacktestResult result = BacktestSimulator.run(universe, TREND, FEES, 0, 8, 10_000, true);
+
+        // then
+        BacktestTrade sell = result.trades().get(1);
+        assertThat(sell.date()).isEqualTo(universe.date(8));
+        assertThat(sell.price().getValue()).isEqualByComparingTo("120");
+        assertThat(result.equityCurve()[7]).isCloseTo(0.01 + 90 * 125, within(1e-6));
+    }
+
+    private static BacktestUniverse universe(double[] opens, double[] closes) {
+        LocalDate[] dates = new LocalDate[closes.length];
+        for (int day = 0; day < dates.length; day++) {
+            dates[day] = LocalDate.of(2024, 1, 2).plusDays(day);
+        }
+        return BacktestUniverse.of(new String[]{"005930"}, dates, opens, closes);
+    }
+}
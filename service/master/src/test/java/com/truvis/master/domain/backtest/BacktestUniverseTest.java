@@ -0,0 +1,133 @@
+package com.truvis.master.domain.backtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BacktestUniverse 미리 계산한 열 테스트")
+class BacktestUniverseTest {
+
+    @Test
+    @DisplayName("이동평균은 누적합 차이로 계산, 상장 후 기간이 모자라면 NaN")
+    void movingAverage() {
+        // given (종목 A는 첫날부터, 종목 B는 3일째 상장)
+        double[] a = {10, 20, 30, 40, 50, 60};
+        double[] b = {0, 0, 100, 110, 120, 130};
+        BacktestUniverse universe = universe(a, b);
+
+        // then
+        assertThat(universe.movingAverage(2, 0, 3)).isEqualTo(20.0);
+        assertThat(universe.movingAverage(5, 0, 3)).isEqualTo(50.0);
+        assertThat(universe.movingAverage(5, 0, 6)).isEqualTo(35.0);
+        assertThat(universe.movingAverage(1, 0, 3)).isNaN();
+
+        assertThat(universe.movingAverage(4, 1, 3)).isEqualTo(110.0);
+        assertThat(universe.movingAverage(3, 1, 3)).isNaN();   // 상장 전 0이 섞이면 안 됨
+        assertThat(universe.movingAverage(5, 1, 1)).isEqualTo(130.0);
+    }
+
+    @Test
+    @DisplayName("이동평균은 매번 다시 더한 값과 같음")
+    void movingAverageMatchesNaiveSum() {
+        // given
+        int days = 400;
+        double[] closes = new double[days];
+        for (int day = 0; day < days; day++) {
+            closes[day] = 1000 + (day * 37 % 101) - (day % 7) * 3;
+        }
+        BacktestUniverse universe = universe(closes);
+
+        // then
+        for (int window : new int[]{1, 5, 20, 120, 250}) {
+            for (int day = window - 1; day < days; day += 13) {
+                double sum = 0;
+                for (int i = day - window + 1; i <= day; i++) {
+                    sum += closes[i];
+                }
+                assertThat(universe.movingAverage(day, 0, window)).isCloseTo(sum / window, within(1e-9));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("52주 고가는 최근 250거래일 최고 종가, 창을 벗어난 고점은 빠짐")
+    void rollingHighExpiresAfterWindow() {
+        // given (10일째 고점 500, 나머지는 100 → 이후 매일 1씩 상승)
+        int days = BacktestUniverse.HIGH_WINDOW + 20;
+        double[] closes = new double[days];
+        for (int day = 0; day < days; day++) {
+            closes[day] = day == 10 ? 500 : 100 + Math.max(0, day - 11) * 0.1;
+        }
+        BacktestUniverse universe = universe(closes);
+
+        // then
+        assertThat(universe.high(9, 0)).isEqualTo(100.0);
+        assertThat(universe.high(10, 0)).isEqualTo(500.0);
+        assertThat(universe.high(10 + BacktestUniverse.HIGH_WINDOW - 1, 0)).isEqualTo(500.0);
+        assertThat(universe.high(10 + BacktestUniverse.HIGH_WINDOW, 0))
+                .isEqualTo(closes[10 + BacktestUniverse.HIGH_WINDOW]);
+    }
+
+    @Test
+    @DisplayName("고가는 매번 창 전체를 훑은 최대값과 같음")
+    void rollingHighMatchesNaiveMax() {
+        // given
+        int days = 700;
+        double[] closes = new double[days];
+        for (int day = 0; day < days; day++) {
+            closes[day] = 1000 + Math.sin(day / 30.0) * 300 + (day * 53 % 17);
+        }
+        BacktestUniverse universe = universe(closes);
+
+        // then
+        for (int day = 0; day < days; day++) {
+            double max = 0;
+            for (int i = Math.max(0, day - BacktestUniverse.HIGH_WINDOW + 1); i <= day; i++) {
+                max = Math.max(max, closes[i]);
+            }
+            assertThat(universe.high(day, 0)).isEqualTo(max);
+        }
+    }
+
+    @Test
+    @DisplayName("날짜로 거래일 찾기 - 휴장일이면 다음 거래일, 범위 밖이면 days")
+    void dayOnOrAfter() {
+        // given (1/2 ~ 1/7 중 1/4 휴장)
+        LocalDate[] dates = {
+                LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 3), LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 7)};
+        BacktestUniverse universe = BacktestUniverse.of(
+                new String[]{"005930"}, dates, new double[]{1, 1, 1, 1}, new double[]{1, 1, 1, 1});
+
+        // then
+        assertThat(universe.dayOnOrAfter(LocalDate.of(2024, 1, 3))).isEqualTo(1);
+        assertThat(universe.dayOnOrAfter(LocalDate.of(2024, 1, 4))).isEqualTo(2);
+        assertThat(universe.dayOnOrAfter(LocalDate.of(2024, 1, 8))).isEqualTo(4);
+        assertThatThrownBy(() -> BacktestUniverse.of(new String[]{"005930"}, dates, new double[3], new double[3]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 종목별 종가 배열 → 일자 우선 배치 (시가 = 종가)
+     */
+    private static BacktestUniverse universe(double[]... closesBySymbol) {
+        int symbolCount = closesBySymbol.length;
+        int days = closesBySymbol[0].length;
+        String[] symbols = new String[symbolCount];
+        double[] closes = new double[days * symbolCount];
+        for (int s = 0; s < symbolCount; s++) {
+            symbols[s] = String.format("%06d", s);
+            for (int day = 0; day < days; day++) {
+                closes[day * symbolCount + s] = closesBySymbol[s][day];
+            }
+        }
+
+        LocalDate[] dates = new LocalDate[days];
+        for (int day = 0; day < days; day++) {
+            dates[day] = LocalDate.of(2020, 1, 1).plusDays(day);
+        }
+        return BacktestUniverse.of(symbols, dates, closes.clone(), closes);
+    }
+}
@@ -0,0 +1,108 @@
+package com.truvis.master.domain.criteria;
+
+import com.truvis.master.domain.InvestmentMaster;
+import com.truvis.stock.domain.Market;
+import com.truvis.stock.domain.Stock;
+import com.truvis.stock.domain.StockFundamentals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static com.truvis.master.domain.criteria.Comparison.AT_MOST;
+import static com.truvis.master.domain.criteria.Comparison.GREATER_THAN;
+import static com.truvis.master.domain.criteria.Comparison.LESS_THAN;
+import static com.truvis.stock.domain.ScreenerField.DEBT_RATIO;
+import static com.truvis.stock.domain.ScreenerField.PER;
+import static com.truvis.stock.domain.ScreenerField.ROE;
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CompiledCriteria 투자 기준 채점 테스트")
+class CompiledCriteriaTest {
+
+    // ROE > 15 (필수, 3) / 부채비율 < 50 (2) / PER <= 10 (1) → 만점 6
+    private static final InvestmentMaster MASTER = InvestmentMaster.of(
+            "TEST", "테스트 거장", "VALUE", "철학", "설명",
+            InvestmentCriteria.of(
+                    CriterionRule.required(ROE, GREATER_THAN, "15", 3),
+                    CriterionRule.of(DEBT_RATIO, LESS_THAN, "50", 2),
+                    CriterionRule.of(PER, AT_MOST, "10", 1)
+            ));
+
+    @Test
+    @DisplayName("초과/미만은 기준값 자체를 제외하고, 이하는 포함한다")
+    void strictAndInclusiveBounds() {
+        // given
+        FundamentalColumns columns = columns(Map.of(
+                "A", fundamentals("A", "15", "50", "10"),         // 경계값 그대로
+                "B", fundamentals("B", "15.01", "49.99", "10")));  // 경계 바로 안쪽
+
+        // when
+        ScoreBoard board = score(columns);
+
+        // then (A: PER만 통과 1/6, B: 전부 통과)
+        MasterAnalysis a = board.analyze(0, columns.findId("A"));
+        assertThat(a.rules()).extracting(MasterAnalysis.RuleResult::passed).containsExactly(false, false, true);
+        assertThat(a.score()).isCloseTo(100f / 6, within(1e-4f));
+
+        MasterAnalysis b = board.analyze(0, columns.findId("B"));
+        assertThat(b.rules()).extracting(MasterAnalysis.RuleResult::passed).containsExactly(true, true, true);
+        assertThat(b.score()).isCloseTo(100f, within(1e-4f));
+        assertThat(b.opinion()).isEqualTo(InvestmentOpinion.BUY);
+    }
+
+    @Test
+    @DisplayName("값이 없는 항목은 어떤 비교도 통과하지 않고, 필수 기준에서 떨어지면 점수와 상관없이 부적합")
+    void missingValueFailsAndRequiredRuleDecidesOpinion() {
+        // given (C: ROE 없음, D: 재무 지표 자체가 없음, E: 필수만 통과)
+        FundamentalColumns columns = columns(Map.of(
+                "C", fundamentals("C", null, "10", "5"),
+                "E", fundamentals("E", "20", "80", "30")));
+
+        // when
+        ScoreBoard board = score(columns);
+
+        // then
+        MasterAnalysis c = board.analyze(0, columns.findId("C"));
+        assertThat(c.rules().get(0).value()).isNull();
+        assertThat(c.score()).isCloseTo(50f, within(1e-4f));
+        assertThat(c.opinion()).isEqualTo(InvestmentOpinion.AVOID);
+
+        MasterAnalysis d = board.analyze(0, columns.findId("D"));
+        assertThat(d.score()).isZero();
+        assertThat(d.rules()).extracting(MasterAnalysis.RuleResult::passed).containsOnly(false);
+
+        MasterAnalysis e = board.analyze(0, columns.findId("E"));
+        assertThat(e.score()).isCloseTo(50f, within(1e-4f));
+        assertThat(e.opinion()).isEqualTo(InvestmentOpinion.WATCH);
+
+        // 추천 목록은 필수 기준 통과 종목만
+        assertThat(board.top(0, 10)).extracting(analysis -> analysis.stock().getSymbol()).containsExactly("E");
+    }
+
+    private static ScoreBoard score(FundamentalColumns columns) {
+        CompiledCriteria criteria = CompiledCriteria.compile(List.of(MASTER));
+        float[][] scores = new float[1][columns.size()];
+        int[][] passedMasks = new int[1][columns.size()];
+        criteria.evaluate(columns, 0, columns.size(), scores, passedMasks);
+        return new ScoreBoard(criteria, columns, scores, passedMasks, 0);
+    }
+
+    private static FundamentalColumns columns(Map<String, StockFundamentals> fundamentals) {
+        List<Stock> stocks = List.of("A", "B", "C", "D", "E").stream()
+                .map(symbol -> Stock.of(symbol, "종목" + symbol, Market.KOSPI, null))
+                .toList();
+        return FundamentalColumns.build(stocks, fundamentals::get);
+    }
+
+    private static StockFundamentals fundamentals(String symbol, String roe, String debtRatio, String per) {
+        return new StockFundamentals(symbol, 1_000_000L, decimal(per), null, decimal(roe), null,
+                decimal(debtRatio), null);
+    }
+
+    private static BigDecimal decimal(String value) {
+        return value == null ? null : new BigDecimal(value);
+    }
+}
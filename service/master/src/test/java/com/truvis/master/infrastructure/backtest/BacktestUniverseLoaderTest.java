@@ -0,0 +1,133 @@
+package com.truvis.master.infrastructure.backtest;
+
+import com.truvis.master.domain.backtest.BacktestUniverse;
+import com.truvis.stock.domain.CandleInterval;
+import com.truvis.stock.domain.Market;
+import com.truvis.stock.domain.Stock;
+import com.truvis.stock.infrastructure.history.BarColumns;
+import com.truvis.stock.infrastructure.history.HistoricalPriceStore;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import com.truvis.stock.repository.StockRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BacktestUniverseLoader 가격 데이터 생성 테스트")
+class BacktestUniverseLoaderTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDate AS_OF = LocalDate.of(2024, 1, 10);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("국내 종목만 싣고, 해외 종목의 거래일은 달력에 섞지 않음")
+    void loadDomesticOnly() {
+        // given: 국내 2종목(1/2~1/5), 나스닥 1종목(1/8, 1/9 - 국내 휴장일 가정)
+        HistoricalPriceStore store = new HistoricalPriceStore(tempDir.toString());
+        store.append("005930", CandleInterval.DAY_1, bars(LocalDate.of(2024, 1, 2), 70_000, 70_100, 70_200, 70_300));
+        store.append("035720", CandleInterval.DAY_1, bars(LocalDate.of(2024, 1, 3), 50_000, 50_500));
+        store.append("AAPL", CandleInterval.DAY_1, bars(LocalDate.of(2024, 1, 8), 185, 186));
+
+        StockRepository stockRepository = new InMemoryStockRepository(List.of(
+                Stock.of("005930", "삼성전자", Market.KOSPI, "반도체"),
+                Stock.of("AAPL", "Apple", Market.NASDAQ, "Technology"),
+                Stock.of("035720", "카카오", Market.KOSDAQ, "인터넷")));
+        BacktestUniverseLoader loader = new BacktestUniverseLoader(store, stockRepository, 1, ZONE.getId());
+
+        // when
+        BacktestUniverse universe = loader.load(AS_OF);
+
+        // then
+        assertThat(universe.symbolCount()).isEqualTo(2);
+        assertThat(universe.symbol(0)).isEqualTo("005930");
+        assertThat(universe.symbol(1)).isEqualTo("035720");
+
+        assertThat(universe.days()).isEqualTo(4);
+        assertThat(universe.date(0)).isEqualTo(LocalDate.of(2024, 1, 2));
+        assertThat(universe.date(3)).isEqualTo(LocalDate.of(2024, 1, 5));
+
+        // 상장 전은 시가 0, 종가 0 / 거래가 없던 날은 직전 종가
+        assertThat(universe.open(0, 1)).isZero();
+        assertThat(universe.close(1, 1)).isEqualTo(50_000.0);
+        assertThat(universe.open(3, 1)).isZero();
+        assertThat(universe.close(3, 1)).isEqualTo(50_500.0);
+        assertThat(universe.close(3, 0)).isEqualTo(70_300.0);
+    }
+
+    @Test
+    @DisplayName("일봉이 없는 국내 종목은 건너뜀")
+    void skipStocksWithoutBars() {
+        // given
+        HistoricalPriceStore store = new HistoricalPriceStore(tempDir.toString());
+        store.append("005930", CandleInterval.DAY_1, bars(LocalDate.of(2024, 1, 2), 70_000));
+
+        StockRepository stockRepository = new InMemoryStockRepository(List.of(
+                Stock.of("005930", "삼성전자", Market.KOSPI, "반도체"),
+                Stock.of("000660", "SK하이닉스", Market.KOSPI, "반도체")));
+        BacktestUniverseLoader loader = new BacktestUniverseLoader(store, stockRepository, 1, ZONE.getId());
+
+        // when
+        BacktestUniverse universe = loader.load(AS_OF);
+
+        // then
+        assertThat(universe.symbolCount()).isEqualTo(1);
+        assertThat(universe.symbol(0)).isEqualTo("005930");
+    }
+
+    /**
+     * first부터 하루 간격 일봉 (시가 = 종가)
+     */
+    private static BarColumns bars(LocalDate first, double... closes) {
+        BarColumns bars = BarColumns.withCapacity(closes.length);
+        for (int i = 0; i < closes.length; i++) {
+            long time = first.plusDays(i).atStartOfDay(ZONE).toInstant().toEpochMilli();
+            long price = Math.round(closes[i] * QuoteStore.PRICE_SCALE);
+            bars.add(time, price, price, price, price, 1_000);
+        }
+        return bars;
+    }
+
+    private static class InMemoryStockRepository implements StockRepository {
+
+        private final List<Stock> stocks;
+
+        InMemoryStockRepository(List<Stock> stocks) {
+            this.stocks = stocks;
+        }
+
+        @Override
+        public Optional<Stock> findBySymbol(String symbol) {
+            return stocks.stream().filter(stock -> stock.getSymbol().equals(symbol)).findFirst();
+        }
+
+        @Override
+        public List<Stock> search(String query, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<Stock> findByMarket(Market market) {
+            return stocks.stream().filter(stock -> stock.getMarket() == market).toList();
+        }
+
+        @Override
+        public List<Stock> findBySector(String sector) {
+            return stocks.stream().filter(stock -> stock.getSector().equals(sector)).toList();
+        }
+
+        @Override
+        public List<Stock> findAll() {
+            return stocks;
+        }
+    }
+}
@@ -33,6 +33,13 @@ public enum NotificationType {
             0,      // 유효시간 없음
             true    // 🎯 재시도 필수!
     ),
+    PRICE_ALERT(
+            "가격 알림",
+            "관심 종목이 설정한 가격에 도달했을 때 알림",
+            true,   // 긴급
+            0,      // 유효시간 없음
+            true    // 🎯 재시도 필수!
+    ),
     MARKETING(
             "마케팅",
             "프로모션 및 이벤트 안내",
@@ -103,7 +110,7 @@ public enum NotificationType {
         return switch (this) {
             case VERIFICATION_CODE, PASSWORD_RESET ->
                     channel == NotificationChannel.EMAIL || channel == NotificationChannel.SMS;
-            case TRANSACTION_ALERT ->
+            case TRANSACTION_ALERT, PRICE_ALERT ->
                     channel == NotificationChannel.EMAIL ||
                             channel == NotificationChannel.PUSH ||
                             channel == NotificationChannel.SMS;
@@ -73,6 +73,7 @@ public class EmailNotificationProvider implements NotificationProvider{
             case PASSWORD_RESET -> "[Truvis] 비밀번호 재설정 안내";
             case WELCOME -> "[Truvis] 가입을 환영합니다!";
             case TRANSACTION_ALERT -> "[Truvis] 거래 알림";
+            case PRICE_ALERT -> "[Truvis] 가격 알림";
             case MARKETING -> "[Truvis] 이벤트 안내";
         };
     }
@@ -0,0 +1,50 @@
+package com.truvis.portfolio.application;
+
+import com.truvis.common.exception.PortfolioException;
+import com.truvis.portfolio.domain.Portfolio;
+import com.truvis.portfolio.repository.PortfolioRepository;
+import com.truvis.transaction.domain.HoldingLimitPolicy;
+import com.truvis.transaction.domain.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 보유 종목 수 한도 (매수 접수 시점)
+ *
+ * - 보유 종목 프로젝션은 거래 완료 이벤트로 나중에 갱신되므로 한도는 거래 내역 기준으로 센다
+ *   (이미 가진 종목 추가 매수는 항상 허용, 새 종목은 보유 종목이 50개 미만일 때만)
+ * - 잠그지 않는다. 포트폴리오를 버전을 올리는 조회로 읽어서 한도 확인과 매수 저장을 같은 버전 검사로 묶는다
+ *   → 같은 사용자의 매수가 동시에 들어오면 커밋 시점에 하나만 성공하고, 나머지는 호출자가
+ *     PortfolioWriteRetry로 다시 실행해서 방금 커밋된 매수까지 센다 (동시에 새 종목 2개가 들어와도 한도를 넘지 않음)
+ * - 포트폴리오가 없으면 첫 매수에서 만든다 → 첫 매수끼리의 경쟁은 사용자당 1개 유일 제약으로 하나만 성공
+ * - 한도는 여기서만 확인한다. 저장된 거래는 프로젝션이 빠짐없이 반영
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class HoldingLimitGuard implements HoldingLimitPolicy {
+
+    private final PortfolioRepository portfolioRepository;
+    private final TransactionRepository transactionRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void checkBuy(Long userId, String stockCode) {
+        portfolioRepository.findByUserIdForWrite(userId)
+                .orElseGet(() -> portfolioRepository.save(Portfolio.createDefault(userId)));
+
+        List<String> openStockCodes = transactionRepository.findOpenStockCodes(userId);
+        if (openStockCodes.contains(stockCode) || openStockCodes.size() < Portfolio.MAX_OPEN_HOLDINGS) {
+            return;
+        }
+
+        log.warn("⚠️ 보유 종목 한도({}개) 초과 매수 거절: userId={}, stockCode={}",
+                Portfolio.MAX_OPEN_HOLDINGS, userId, stockCode);
+        throw PortfolioException.holdingLimitExceeded(Portfolio.MAX_OPEN_HOLDINGS);
+    }
+}
@@ -0,0 +1,149 @@
+package com.truvis.portfolio.application;
+
+import com.truvis.common.exception.PortfolioException;
+import com.truvis.portfolio.domain.ApplyResult;
+import com.truvis.portfolio.domain.Portfolio;
+import com.truvis.portfolio.domain.TransactionRecord;
+import com.truvis.portfolio.infrastructure.valuation.PortfolioValuationEngine;
+import com.truvis.portfolio.repository.AppliedTransactionRepository;
+import com.truvis.portfolio.repository.PortfolioRepository;
+import com.truvis.transaction.domain.Transaction;
+import com.truvis.transaction.domain.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 보유 종목 프로젝션 갱신
+ *
+ * - 거래 1건 = 보유 종목 1줄 증분 갱신 (수량, 매입원가, 실현손익)
+ * - 거래 ID로 중복 반영 방지 (AppliedTransaction)
+ * - 이미 더 나중 거래가 반영된 종목에 이전 거래가 오거나(순서 어긋남),
+ *   매수보다 매도가 먼저 오면(초과 매도) 그 종목만 거래 이력으로 다시 계산
+ * - 재계산에 쓴 거래는 모두 반영 완료로 기록 → 뒤늦게 도착한 이벤트는 중복으로 건너뜀
+ * - 이력으로도 반영할 수 없는 거래(앞선 매수 없는 초과 매도)는 건너뛰고 이상 거래로 경고를 남긴다
+ * - 거장 스타일 변경도 같은 방식으로 쓴다 (순위표 구분이 평가 엔진을 거쳐 반영되도록)
+ * - 바뀐 보유 종목은 커밋된 뒤에 실시간 평가 엔진에 반영 (충돌로 롤백된 시도는 반영하지 않음)
+ *
+ * 같은 사용자에 대한 동시 호출은 잠그지 않는다. 포트폴리오를 버전을 올리는 조회로 읽으므로
+ * 커밋 시점에 하나만 성공하고, 나머지는 호출자가 PortfolioWriteRetry로 다시 실행한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class HoldingsProjector {
+
+    private final PortfolioRepository portfolioRepository;
+    private final AppliedTransactionRepository appliedTransactionRepository;
+    private final TransactionRepository transactionRepository;
+    private final PortfolioValuationEngine valuationEngine;
+
+    /**
+     * 거래 1건 반영
+     *
+     * @return 반영 결과 (이미 반영된 거래면 null)
+     */
+    @Transactional
+    public ApplyResult apply(Long userId, TransactionRecord record) {
+        if (appliedTransactionRepository.isApplied(record.transactionId())) {
+            log.debug("이미 반영된 거래 건너뜀: transactionId={}", record.transactionId());
+            return null;
+        }
+
+        Portfolio portfolio = portfolioRepository.findByUserIdForWrite(userId)
+                .orElseGet(() -> portfolioRepository.save(Portfolio.createDefault(userId)));
+
+        ApplyResult result = portfolio.applyTransaction(
+                record.transactionId(), record.stockCode(), record.quantityChange(),
+                record.price(), record.executedAt());
+
+        if (result.requiresRebuild()) {
+            log.warn("⚠️ 보유 종목 증분 반영 불가 → 이력으로 재계산: userId={}, stockCode={}, transactionId={}, 사유={}",
+                    userId, record.stockCode(), record.transactionId(), result.getDescription());
+
+            List<TransactionRecord> history = toRecords(
+                    transactionRepository.findByUserIdAndStockCode(userId, record.stockCode()));
+            List<Long> skipped = portfolio.rebuildHolding(record.stockCode(), history);
+            warnAnomalies(userId, skipped);
+            appliedTransactionRepository.markApplied(portfolio.getId(), transactionIds(history));
+        } else {
+            appliedTransactionRepository.markApplied(portfolio.getId(), List.of(record.transactionId()));
+        }
+
+        portfolioRepository.save(portfolio);
+        trackAfterCommit(portfolio);
+        return result;
+    }
+
+    /**
+     * 사용자 포트폴리오 전체를 거래 이력으로 다시 계산
+     */
+    @Transactional
+    public void rebuild(Long userId) {
+        List<TransactionRecord> history = toRecords(transactionRepository.findByUserId(userId));
+
+        Portfolio portfolio = portfolioRepository.findByUserIdForWrite(userId)
+                .orElseGet(() -> portfolioRepository.save(Portfolio.createDefault(userId)));
+        warnAnomalies(userId, portfolio.rebuildAll(history));
+        appliedTransactionRepository.markApplied(portfolio.getId(), transactionIds(history));
+
+        portfolioRepository.save(portfolio);
+        trackAfterCommit(portfolio);
+    }
+
+    /**
+     * 거장 스타일 변경 (null이면 해제)
+     */
+    @Transactional
+    public void changeMasterStyle(Long userId, String masterStyle) {
+        Portfolio portfolio = portfolioRepository.findByUserIdForWrite(userId)
+                .orElseThrow(() -> PortfolioException.portfolioNotFound(userId));
+        portfolio.followMasterStyle(masterStyle);
+
+        portfolioRepository.save(portfolio);
+        trackAfterCommit(portfolio);
+    }
+
+    private static void warnAnomalies(Long userId, List<Long> skipped) {
+        if (!skipped.isEmpty()) {
+            log.warn("⚠️ 이상 거래 건너뜀 (보유 수량보다 많은 매도): userId={}, transactionIds={}", userId, skipped);
+        }
+    }
+
+    private void trackAfterCommit(Portfolio portfolio) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            valuationEngine.track(portfolio);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                valuationEngine.track(portfolio);
+            }
+        });
+    }
+
+    private static List<TransactionRecord> toRecords(List<Transaction> transactions) {
+        return transactions.stream()
+                .sorted(Comparator.comparing(Transaction::getId))
+                .map(transaction -> new TransactionRecord(
+                        transaction.getId(),
+                        transaction.getStockCode().getValue(),
+                        transaction.getQuantityChange(),
+                        transaction.getPrice().getValue(),
+                        transaction.getExecutedAt()))
+                .toList();
+    }
+
+    private static List<Long> transactionIds(List<TransactionRecord> history) {
+        return history.stream()
+                .map(TransactionRecord::transactionId)
+                .toList();
+    }
+}
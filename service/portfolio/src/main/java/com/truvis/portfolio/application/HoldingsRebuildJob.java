@@ -0,0 +1,167 @@
+package com.truvis.portfolio.application;
+
+import com.truvis.transaction.domain.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 보유 종목 프로젝션 전체 재구성 (거래 이력 기준)
+ *
+ * - 사용자 단위로 나눠서 병렬 처리 (사용자끼리는 독립, 사용자당 트랜잭션 1개)
+ * - 같은 사용자의 이벤트 반영과 겹치면 버전 충돌 → 재시도 (PortfolioWriteRetry)
+ * - 유실된 이벤트(비동기 큐 포화 등) 복구용: 기동 시 또는 cron으로 실행 (기본 꺼짐)
+ * - 반영에 실패한 이벤트(재시도 초과 등)는 그 사용자만 재구성 대기열에 올려서 짧은 주기로 재구성 (항상 켜짐)
+ */
+@Component
+@Slf4j
+public class HoldingsRebuildJob {
+
+    private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+
+    private final TransactionRepository transactionRepository;
+    private final HoldingsProjector holdingsProjector;
+    private final PortfolioWriteRetry writeRetry;
+    private final int parallelism;
+    private final boolean rebuildOnStartup;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // 반영에 실패한 이벤트의 사용자 (다음 주기에 거래 이력으로 재구성)
+    private final Set<Long> pendingUserIds = ConcurrentHashMap.newKeySet();
+
+    public HoldingsRebuildJob(
+            TransactionRepository transactionRepository,
+            HoldingsProjector holdingsProjector,
+            PortfolioWriteRetry writeRetry,
+            @Value("${portfolio.projection.rebuild-parallelism:4}") int parallelism,
+            @Value("${portfolio.projection.rebuild-on-startup:false}") boolean rebuildOnStartup
+    ) {
+        this.transactionRepository = transactionRepository;
+        this.holdingsProjector = holdingsProjector;
+        this.writeRetry = writeRetry;
+        this.parallelism = Math.max(1, parallelism);
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuildAll();
+        }
+    }
+
+    @Scheduled(cron = "${portfolio.projection.rebuild-cron:-}")
+    public void scheduledRebuild() {
+        rebuildAll();
+    }
+
+    @Scheduled(fixedDelayString = "${portfolio.projection.pending-rebuild-delay-ms:1000}")
+    public void scheduledPendingRebuild() {
+        rebuildPending();
+    }
+
+    /**
+     * 사용자를 재구성 대기열에 올린다 (이벤트 반영이 재시도를 다 쓰고 실패했을 때)
+     */
+    public void requestRebuild(Long userId) {
+        if (pendingUserIds.add(userId)) {
+            log.warn("⚠️ 포트폴리오 재구성 대기: userId={}", userId);
+        }
+    }
+
+    /**
+     * 대기열의 사용자만 재구성 (실패한 사용자는 대기열에 남겨서 다음 주기에 다시)
+     *
+     * @return 재구성에 성공한 사용자 수
+     */
+    public int rebuildPending() {
+        int rebuilt = 0;
+        for (Long userId : List.copyOf(pendingUserIds)) {
+            pendingUserIds.remove(userId);  // 재구성 중에 다시 실패한 이벤트는 다시 올라간다
+            try {
+                writeRetry.execute(userId, () -> holdingsProjector.rebuild(userId));
+                rebuilt++;
+            } catch (Exception e) {
+                pendingUserIds.add(userId);
+                log.error("❌ 포트폴리오 재구성 실패, 다음 주기에 다시: userId={}, error={}", userId, e.getMessage());
+            }
+        }
+        if (rebuilt > 0) {
+            log.info("✅ 대기 중이던 포트폴리오 재구성: {}명", rebuilt);
+        }
+        return rebuilt;
+    }
+
+    public int getPendingCount() {
+        return pendingUserIds.size();
+    }
+
+    /**
+     * 🔄 전체 사용자 재구성
+     *
+     * @return 실행 결과 (이미 실행 중이면 null)
+     */
+    public RebuildSummary rebuildAll() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("⚠️ 포트폴리오 재구성이 이미 실행 중입니다");
+            return null;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "portfolio-rebuild-" + THREAD_SEQUENCE.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Long> userIds = transactionRepository.findDistinctUserIds();
+            AtomicInteger failed = new AtomicInteger();
+            log.info("🔄 포트폴리오 재구성 시작: 사용자 {}명, 병렬 {}", userIds.size(), parallelism);
+
+            for (Long userId : userIds) {
+                executor.execute(() -> {
+                    try {
+                        writeRetry.execute(userId, () -> holdingsProjector.rebuild(userId));
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        log.error("❌ 포트폴리오 재구성 실패: userId={}, error={}", userId, e.getMessage(), e);
+                    }
+                });
+            }
+
+            executor.shutdown();
+            if (!executor.awaitTermination(1, TimeUnit.HOURS)) {
+                log.error("❌ 포트폴리오 재구성 시간 초과 (1시간)");
+            }
+
+            RebuildSummary summary = new RebuildSummary(
+                    userIds.size(), failed.get(), System.currentTimeMillis() - startedAt);
+            log.info("✅ 포트폴리오 재구성 완료: {}", summary);
+            return summary;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            executor.shutdownNow();
+            running.set(false);
+        }
+    }
+
+    public record RebuildSummary(int userCount, int failedCount, long elapsedMillis) {
+    }
+}
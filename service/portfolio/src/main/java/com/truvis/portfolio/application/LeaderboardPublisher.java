@@ -0,0 +1,155 @@
+package com.truvis.portfolio.application;
+
+import com.truvis.portfolio.domain.Portfolio;
+import com.truvis.portfolio.domain.leaderboard.Leaderboard;
+import com.truvis.portfolio.domain.leaderboard.LeaderboardUpdate;
+import com.truvis.portfolio.infrastructure.valuation.PortfolioValuationEngine;
+import com.truvis.portfolio.repository.LeaderboardRepository;
+import com.truvis.portfolio.repository.PortfolioRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 수익률 순위표 갱신 (실시간 평가 엔진 → Redis ZSET)
+ *
+ * - 틱마다 쓰지 않고 정해진 간격마다 그 사이 평가가 바뀐 포트폴리오만 모아서 한 번에 쓴다
+ *   → 인기 종목 틱이 몰려도 순위표 쓰기는 간격당 사용자 1건, Redis 왕복 1번
+ * - 순위 점수는 소수 둘째 자리 수익률, 마지막으로 쓴 값과 같으면 다시 쓰지 않는다
+ * - 보유 종목이 없거나 시세 없는 종목이 있는 포트폴리오는 순위표에서 뺀다
+ * - 거장 스타일을 바꾸면 이전 스타일 순위표에서 빼고 새 순위표에 넣는다
+ * - 이 노드의 평가 엔진이 추적 중인 포트폴리오만 갱신한다
+ *   → 기동 시 저장된 포트폴리오를 모두 추적시키고 순위표를 통째로 교체한다
+ *     (이전 실행이 남긴 항목, 그 사이 정리된 포트폴리오가 계속 남아 있지 않게)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class LeaderboardPublisher {
+
+    private static final double SCORE_UNIT = 100;
+    private static final int SEED_BATCH_SIZE = 1_000;
+
+    private final PortfolioValuationEngine valuationEngine;
+    private final LeaderboardRepository leaderboardRepository;
+    private final PortfolioRepository portfolioRepository;
+
+    // 사용자 ID → 마지막으로 순위표에 쓴 값 (flush 스레드만 사용)
+    private final Map<Long, Ranked> published = new HashMap<>();
+
+    // 저장에 실패한 갱신분 (다음 간격에 이어서 쓴다)
+    private LeaderboardUpdate pending = new LeaderboardUpdate();
+
+    @Scheduled(
+            fixedDelayString = "${portfolio.leaderboard.flush-interval-ms:1000}",
+            initialDelayString = "${portfolio.leaderboard.flush-interval-ms:1000}"
+    )
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("❌ 순위표 갱신 실패 (다음 간격에 재시도): pending={}, error={}", pending.size(), e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        try {
+            int seeded = seed();
+            log.info("🏆 순위표 초기화 완료: {}건", seeded);
+        } catch (Exception e) {
+            log.error("❌ 순위표 초기화 실패 (이후 바뀌는 포트폴리오만 갱신): error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 🏆 저장된 포트폴리오 전체로 순위표를 다시 만든다
+     * - 사용자 ID 구간 단위로 읽어 평가 엔진에 추적시킨 뒤, 순위에 들어갈 값 전체로 순위표를 교체
+     * - 교체에 실패하면 모은 갱신분은 다음 간격에 증분으로 쓴다 (남은 항목은 다음 기동 때 정리)
+     *
+     * @return 순위표(전체)에 들어간 사용자 수
+     */
+    public synchronized int seed() {
+        List<Long> userIds = portfolioRepository.findAllUserIds();
+        for (int from = 0; from < userIds.size(); from += SEED_BATCH_SIZE) {
+            int to = Math.min(userIds.size(), from + SEED_BATCH_SIZE);
+            for (Portfolio portfolio : portfolioRepository.findByUserIdBetween(userIds.get(from), userIds.get(to - 1))) {
+                valuationEngine.track(portfolio);
+            }
+        }
+
+        LeaderboardUpdate update = pending;
+        valuationEngine.drainChanged((userId, masterStyle, returnRate) -> collect(update, userId, masterStyle, returnRate));
+
+        LeaderboardUpdate snapshot = new LeaderboardUpdate();
+        published.forEach((userId, ranked) -> {
+            snapshot.put(Leaderboard.OVERALL, userId, ranked.score());
+            if (ranked.masterStyle() != null) {
+                snapshot.put(Leaderboard.of(ranked.masterStyle()), userId, ranked.score());
+            }
+        });
+
+        leaderboardRepository.replaceAll(snapshot);
+        pending = new LeaderboardUpdate();
+        return published.size();
+    }
+
+    /**
+     * 🏆 바뀐 수익률을 순위표에 반영
+     *
+     * @return 순위표에 쓴 건수
+     */
+    public synchronized int flush() {
+        LeaderboardUpdate update = pending;
+        valuationEngine.drainChanged((userId, masterStyle, returnRate) -> collect(update, userId, masterStyle, returnRate));
+        if (update.isEmpty()) {
+            return 0;
+        }
+
+        leaderboardRepository.apply(update);
+        pending = new LeaderboardUpdate();
+        log.debug("🏆 순위표 갱신: {}건", update.size());
+        return update.size();
+    }
+
+    private void collect(LeaderboardUpdate update, Long userId, String masterStyle, double returnRate) {
+        Ranked previous = published.get(userId);
+
+        if (Double.isNaN(returnRate)) {
+            if (previous != null) {
+                update.remove(Leaderboard.OVERALL, userId);
+                if (previous.masterStyle() != null) {
+                    update.remove(Leaderboard.of(previous.masterStyle()), userId);
+                }
+                published.remove(userId);
+            }
+            return;
+        }
+
+        double score = Math.round(returnRate * SCORE_UNIT) / SCORE_UNIT;
+        Ranked current = new Ranked(masterStyle, score);
+        if (current.equals(previous)) {
+            return;
+        }
+
+        update.put(Leaderboard.OVERALL, userId, score);
+        if (previous != null && previous.masterStyle() != null && !Objects.equals(previous.masterStyle(), masterStyle)) {
+            update.remove(Leaderboard.of(previous.masterStyle()), userId);
+        }
+        if (masterStyle != null) {
+            update.put(Leaderboard.of(masterStyle), userId, score);
+        }
+        published.put(userId, current);
+    }
+
+    private record Ranked(String masterStyle, double score) {
+    }
+}
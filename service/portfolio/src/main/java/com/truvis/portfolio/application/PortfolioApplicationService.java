@@ -1,20 +1,229 @@
 package com.truvis.portfolio.application;
 
+import com.truvis.common.exception.PortfolioException;
+import com.truvis.portfolio.domain.Portfolio;
+import com.truvis.portfolio.domain.PortfolioRisk;
+import com.truvis.portfolio.domain.leaderboard.Leaderboard;
+import com.truvis.portfolio.domain.leaderboard.LeaderboardEntry;
+import com.truvis.portfolio.domain.rebalance.RebalancePlan;
+import com.truvis.portfolio.infrastructure.snapshot.PortfolioSnapshotStore;
+import com.truvis.portfolio.infrastructure.valuation.PortfolioValuationEngine;
+import com.truvis.portfolio.model.LeaderboardEntryResponse;
+import com.truvis.portfolio.model.LeaderboardRankResponse;
+import com.truvis.portfolio.model.PortfolioResponse;
+import com.truvis.portfolio.model.PortfolioReturnsResponse;
+import com.truvis.portfolio.model.PortfolioRiskResponse;
+import com.truvis.portfolio.model.PortfolioSnapshotResponse;
+import com.truvis.portfolio.model.RebalancePlanResponse;
+import com.truvis.portfolio.repository.LeaderboardRepository;
+import com.truvis.portfolio.repository.PortfolioRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
 /**
  * 포트폴리오 업무 흐름 처리
- * - 포트폴리오 생성, 종목 추가/제거
- * - 포트폴리오 분석
- * 
- * TODO: 구현 필요
- * - createPortfolio() - 포트폴리오 생성
- * - addHolding() - 종목 추가
- * - removeHolding() - 종목 제거
- * - getPortfolio() - 포트폴리오 조회
- * - analyzePortfolio() - 포트폴리오 분석
+ * - 포트폴리오 조회 (보유 종목은 거래 이벤트로 갱신된 프로젝션을 그대로 읽는다)
+ * - 평가금액/평가손익은 틱마다 갱신되는 누계를 읽는다 (PortfolioValuationEngine)
+ * - 일별 평가 추이 조회 (장 마감 스냅샷)
+ * - 기간 수익률 조회 (TWR, XIRR)
+ * - 위험 분석 (변동성, 베타, VaR)
+ * - 수익률 순위 조회 (전체/거장 스타일별, Redis 순위표) 및 거장 스타일 지정
+ * - 리밸런싱 계획 (목표 비중 또는 거장 스타일 모델 포트폴리오 기준, 거장 스타일 포트폴리오 일괄 계획)
  */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class PortfolioApplicationService {
-    
-    // TODO: Repository 의존성 주입
-    
-    // TODO: 비즈니스 메서드 구현
+
+    public static final int MAX_LEADERBOARD_SIZE = 100;
+    public static final int MAX_AROUND_RADIUS = 50;
+
+    private static final double WEIGHT_TOLERANCE = 1e-6;
+
+    private static final Pattern MASTER_STYLE = Pattern.compile("[A-Z][A-Z0-9_]{0,29}");
+
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioValuationEngine valuationEngine;
+    private final PortfolioSnapshotStore snapshotStore;
+    private final PortfolioReturnsCalculator returnsCalculator;
+    private final PortfolioRiskAnalyzer riskAnalyzer;
+    private final LeaderboardRepository leaderboardRepository;
+    private final HoldingsProjector holdingsProjector;
+    private final PortfolioWriteRetry writeRetry;
+    private final RebalancePlanner rebalancePlanner;
+
+    /**
+     * 사용자 포트폴리오 조회 (거래가 없으면 빈 포트폴리오)
+     */
+    public PortfolioResponse getPortfolio(Long userId) {
+        return portfolioRepository.findByUserId(userId)
+                .map(portfolio -> PortfolioResponse.from(
+                        portfolio,
+                        valuationEngine.valuate(portfolio),
+                        returnsCalculator.getSinceInception(userId)))
+                .orElseGet(PortfolioResponse::empty);
+    }
+
+    /**
+     * 일별 평가 추이 조회 (기록이 있는 날만, 날짜 오름차순)
+     */
+    public List<PortfolioSnapshotResponse> getSnapshots(Long userId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw PortfolioException.invalidDateRange();
+        }
+
+        return snapshotStore.findRange(userId, from, to).stream()
+                .map(PortfolioSnapshotResponse::from)
+                .toList();
+    }
+
+    /**
+     * 기간 수익률 조회 (from 이전 마지막 장 마감 평가금액에서 시작)
+     */
+    public PortfolioReturnsResponse getReturns(Long userId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw PortfolioException.invalidDateRange();
+        }
+        return PortfolioReturnsResponse.from(returnsCalculator.calculate(userId, from, to));
+    }
+
+    /**
+     * 위험 지표 조회 (보유 종목이 없으면 빈 값)
+     */
+    public PortfolioRiskResponse analyzePortfolio(Long userId) {
+        return portfolioRepository.findByUserId(userId)
+                .map(riskAnalyzer::analyze)
+                .map(PortfolioRiskResponse::from)
+                .orElseGet(() -> PortfolioRiskResponse.from(PortfolioRisk.empty(null)));
+    }
+
+    /**
+     * 수익률 상위 순위 (masterStyle이 없으면 전체 순위)
+     */
+    public List<LeaderboardEntryResponse> getLeaderboard(String masterStyle, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LEADERBOARD_SIZE));
+        return leaderboardRepository.findTop(leaderboard(masterStyle), size).stream()
+                .map(LeaderboardEntryResponse::from)
+                .toList();
+    }
+
+    /**
+     * 내 순위와 위아래 radius명 (순위표에 없으면 me = null)
+     */
+    public LeaderboardRankResponse getLeaderboardRank(Long userId, String masterStyle, int radius) {
+        Leaderboard leaderboard = leaderboard(masterStyle);
+        List<LeaderboardEntry> around = leaderboardRepository.findAround(
+                leaderboard, userId, Math.max(0, Math.min(radius, MAX_AROUND_RADIUS)));
+
+        LeaderboardEntryResponse me = around.stream()
+                .filter(entry -> entry.userId().equals(userId))
+                .findFirst()
+                .map(LeaderboardEntryResponse::from)
+                .orElse(null);
+
+        return new LeaderboardRankResponse(
+                leaderboard.masterStyle(),
+                me,
+                around.stream().map(LeaderboardEntryResponse::from).toList());
+    }
+
+    /**
+     * 거장 스타일 지정 (빈 값이면 해제)
+     * - 포트폴리오 갱신이므로 충돌 시 재시도 (시도마다 새 트랜잭션)
+     * - 순위표에는 다음 순위표 갱신 때 반영
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void changeMasterStyle(Long userId, String masterStyle) {
+        String normalized = normalizeMasterStyle(masterStyle);
+        writeRetry.execute(userId, () -> holdingsProjector.changeMasterStyle(userId, normalized));
+        log.info("✅ 거장 스타일 변경: userId={}, masterStyle={}", userId, normalized);
+    }
+
+    /**
+     * 리밸런싱 계획 (주문은 내지 않음)
+     * - 목표 비중을 주면 그대로, 없으면 masterStyle(생략 시 포트폴리오의 거장 스타일) 모델 포트폴리오
+     * - 포트폴리오가 없으면 현금만으로 새로 담는 계획
+     * - 모델 포트폴리오 계산(첫 요청)이 DB 연결을 붙잡지 않도록 트랜잭션 밖에서 실행
+     *
+     * @param targetWeights 종목 코드 → 목표 비중 (0.1 = 10%, 합계 1 이하)
+     * @param cash          추가로 쓸 수 있는 현금 (null이면 0 → 매도 대금으로만 매수)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RebalancePlanResponse planRebalance(Long userId, String masterStyle,
+                                               Map<String, BigDecimal> targetWeights, BigDecimal cash) {
+        if (cash != null && cash.signum() < 0) {
+            throw new IllegalArgumentException("주문 가능 현금은 0 이상이어야 합니다");
+        }
+        Portfolio portfolio = portfolioRepository.findByUserId(userId)
+                .orElseGet(() -> Portfolio.createDefault(userId));
+
+        String style = null;
+        Map<String, Double> weights;
+        if (targetWeights != null && !targetWeights.isEmpty()) {
+            weights = validateWeights(targetWeights);
+        } else {
+            style = normalizeMasterStyle(masterStyle);
+            if (style == null) {
+                style = portfolio.getMasterStyle();
+            }
+            if (style == null) {
+                throw PortfolioException.rebalanceTargetMissing();
+            }
+            weights = rebalancePlanner.modelWeights(style);
+        }
+
+        RebalancePlan plan = rebalancePlanner.plan(
+                portfolio, style, weights, cash == null ? 0 : cash.doubleValue());
+        log.info("⚖️ 리밸런싱 계획: userId={}, masterStyle={}, orders={}, deviation={}% → {}%",
+                userId, style, plan.orders().size(), plan.deviationBefore(), plan.deviationAfter());
+        return RebalancePlanResponse.from(plan);
+    }
+
+    private static Map<String, Double> validateWeights(Map<String, BigDecimal> targetWeights) {
+        Map<String, Double> weights = new LinkedHashMap<>();
+        double sum = 0;
+        for (Map.Entry<String, BigDecimal> entry : targetWeights.entrySet()) {
+            String stockCode = entry.getKey() == null ? "" : entry.getKey().strip();
+            BigDecimal weight = entry.getValue();
+            if (stockCode.isEmpty()) {
+                throw PortfolioException.invalidTargetWeights("종목 코드가 비어 있습니다");
+            }
+            if (weight == null || weight.signum() < 0 || weight.compareTo(BigDecimal.ONE) > 0) {
+                throw PortfolioException.invalidTargetWeights(stockCode + " 비중은 0 ~ 1 사이여야 합니다");
+            }
+            weights.merge(stockCode, weight.doubleValue(), Double::sum);
+            sum += weight.doubleValue();
+        }
+        if (sum > 1 + WEIGHT_TOLERANCE) {
+            throw PortfolioException.invalidTargetWeights("비중 합계가 1을 넘습니다 (" + sum + ")");
+        }
+        return weights;
+    }
+
+    private static Leaderboard leaderboard(String masterStyle) {
+        return Leaderboard.of(normalizeMasterStyle(masterStyle));
+    }
+
+    private static String normalizeMasterStyle(String masterStyle) {
+        if (masterStyle == null || masterStyle.isBlank()) {
+            return null;
+        }
+        String normalized = masterStyle.strip().toUpperCase(Locale.ROOT);
+        if (!MASTER_STYLE.matcher(normalized).matches()) {
+            throw PortfolioException.invalidMasterStyle(masterStyle);
+        }
+        return normalized;
+    }
 }
@@ -0,0 +1,233 @@
+package com.truvis.portfolio.application;
+
+import com.truvis.master.config.BacktestPoolConfig;
+import com.truvis.portfolio.domain.PortfolioReturns;
+import com.truvis.portfolio.domain.performance.CashFlows;
+import com.truvis.portfolio.domain.performance.DailyValues;
+import com.truvis.portfolio.domain.performance.TimeWeightedReturn;
+import com.truvis.portfolio.domain.performance.Xirr;
+import com.truvis.portfolio.infrastructure.snapshot.PortfolioSnapshotStore;
+import com.truvis.portfolio.repository.PortfolioRepository;
+import com.truvis.transaction.domain.Transaction;
+import com.truvis.transaction.domain.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 포트폴리오 수익률 계산 (TWR, XIRR)
+ *
+ * - 평가금액: 장 마감 스냅샷 시계열 (PortfolioSnapshotStore)
+ * - 현금 흐름: 거래 내역 (매수 = 유입, 매도 = 유출, 체결일 기준 일별 합계)
+ * - 최초 매수부터의 수익률은 장 마감 스냅샷 뒤에 전체 포트폴리오를 일괄 계산해서 들고 있는다
+ *   (사용자 ID 구간으로 나눠 공유 fork-join 풀(backtestPool)에서 병렬, 구간마다 거래 조회 1번)
+ * - 일괄 계산 전에 조회된 포트폴리오는 그때 계산해서 넣어둔다
+ */
+@Service
+@Slf4j
+public class PortfolioReturnsCalculator {
+
+    private static final int PARTITION_SIZE = 500;
+
+    private final PortfolioRepository portfolioRepository;
+    private final TransactionRepository transactionRepository;
+    private final PortfolioSnapshotStore snapshotStore;
+    private final ForkJoinPool pool;
+    private final ZoneId zone;
+
+    // 사용자 ID → 최초 매수부터 마지막 스냅샷까지 수익률
+    private final ConcurrentHashMap<Long, PortfolioReturns> sinceInception = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public PortfolioReturnsCalculator(
+            PortfolioRepository portfolioRepository,
+            TransactionRepository transactionRepository,
+            PortfolioSnapshotStore snapshotStore,
+            @Qualifier(BacktestPoolConfig.BACKTEST_POOL) ForkJoinPool pool,
+            @Value("${portfolio.snapshot.zone:Asia/Seoul}") String zone
+    ) {
+        this.portfolioRepository = portfolioRepository;
+        this.transactionRepository = transactionRepository;
+        this.snapshotStore = snapshotStore;
+        this.pool = pool;
+        this.zone = ZoneId.of(zone);
+    }
+
+    /**
+     * 기간 수익률 계산 (from 이전 마지막 평가금액에서 시작)
+     */
+    public PortfolioReturns calculate(Long userId, LocalDate from, LocalDate to) {
+        DailyValues values = new DailyValues();
+        snapshotStore.readValues(userId, to, values);
+        CashFlows flows = loadCashFlows(userId);
+
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+        return PortfolioReturns.of(from, to,
+                TimeWeightedReturn.compute(values, flows, fromDay, toDay),
+                Xirr.compute(values, flows, fromDay, toDay));
+    }
+
+    /**
+     * 최초 매수부터의 수익률 (일괄 계산 결과, 없으면 지금 계산)
+     */
+    public PortfolioReturns getSinceInception(Long userId) {
+        PortfolioReturns cached = sinceInception.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        DailyValues values = new DailyValues();
+        snapshotStore.readValues(userId, LocalDate.now(zone), values);
+        CashFlows flows = loadCashFlows(userId);
+
+        PortfolioReturns returns = sinceInception(values, flows);
+        sinceInception.put(userId, returns);
+        return returns;
+    }
+
+    @Scheduled(cron = "${portfolio.returns.cron:0 50 15 * * MON-FRI}", zone = "${portfolio.snapshot.zone:Asia/Seoul}")
+    public void scheduledCalculation() {
+        calculateAll();
+    }
+
+    /**
+     * 📈 전체 포트폴리오 수익률 일괄 계산
+     *
+     * @return 실행 결과 (이미 실행 중이면 null)
+     */
+    public ReturnsSummary calculateAll() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("⚠️ 포트폴리오 수익률 계산이 이미 실행 중입니다");
+            return null;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            long[] userIds = portfolioRepository.findAllUserIds().stream()
+                    .mapToLong(Long::longValue)
+                    .toArray();
+            pool.invoke(new ReturnsTask(userIds, 0, userIds.length));
+
+            ReturnsSummary summary = new ReturnsSummary(userIds.length, System.currentTimeMillis() - startedAt);
+            log.info("📈 포트폴리오 수익률 계산 완료: {}", summary);
+            return summary;
+
+        } catch (Exception e) {
+            log.error("❌ 포트폴리오 수익률 계산 실패: error={}", e.getMessage(), e);
+            return null;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 사용자 구간 [from, to) 계산 (PARTITION_SIZE 이하가 될 때까지 반으로 나눈다)
+     */
+    private final class ReturnsTask extends RecursiveAction {
+
+        private final long[] userIds;
+        private final int from;
+        private final int to;
+
+        ReturnsTask(long[] userIds, int from, int to) {
+            this.userIds = userIds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARTITION_SIZE) {
+                calculateRange(userIds, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ReturnsTask(userIds, from, mid), new ReturnsTask(userIds, mid, to));
+        }
+    }
+
+    private void calculateRange(long[] userIds, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+
+        // 사용자 ID, 체결 시각 순
+        List<Transaction> transactions = transactionRepository.findByUserIdBetween(userIds[from], userIds[to - 1]);
+        LocalDate today = LocalDate.now(zone);
+
+        // 구간 안에서 재사용
+        DailyValues values = new DailyValues(256);
+        CashFlows flows = new CashFlows(64);
+
+        int cursor = 0;
+        for (int i = from; i < to; i++) {
+            long userId = userIds[i];
+            while (cursor < transactions.size() && transactions.get(cursor).getUserId() < userId) {
+                cursor++;
+            }
+
+            flows.clear();
+            cursor = addCashFlows(transactions, cursor, userId, flows);
+            snapshotStore.readValues(userId, today, values);
+
+            sinceInception.put(userId, sinceInception(values, flows));
+        }
+    }
+
+    private PortfolioReturns sinceInception(DailyValues values, CashFlows flows) {
+        if (values.size() == 0) {
+            return PortfolioReturns.of(null, null, Double.NaN, Double.NaN);
+        }
+
+        long firstDay = values.dayAt(0);
+        long lastDay = values.dayAt(values.size() - 1);
+        return PortfolioReturns.of(
+                LocalDate.ofEpochDay(firstDay),
+                LocalDate.ofEpochDay(lastDay),
+                TimeWeightedReturn.compute(values, flows, firstDay, lastDay),
+                Xirr.compute(values, flows, firstDay, lastDay));
+    }
+
+    private CashFlows loadCashFlows(Long userId) {
+        List<Transaction> transactions = transactionRepository.findByUserId(userId).stream()
+                .sorted(Comparator.comparing(Transaction::getExecutedAt).thenComparing(Transaction::getId))
+                .toList();
+
+        CashFlows flows = new CashFlows();
+        addCashFlows(transactions, 0, userId, flows);
+        return flows;
+    }
+
+    /**
+     * start부터 이어지는 userId의 거래를 현금 흐름으로 추가
+     *
+     * @return 다음 사용자의 첫 거래 위치
+     */
+    private static int addCashFlows(List<Transaction> transactions, int start, long userId, CashFlows flows) {
+        int index = start;
+        while (index < transactions.size() && transactions.get(index).getUserId() == userId) {
+            Transaction transaction = transactions.get(index);
+            BigDecimal amount = transaction.getPrice().getValue()
+                    .multiply(BigDecimal.valueOf(transaction.getQuantityChange()));
+            flows.add(transaction.getExecutedAt().toLocalDate().toEpochDay(), amount.doubleValue());
+            index++;
+        }
+        return index;
+    }
+
+    public record ReturnsSummary(int portfolioCount, long elapsedMillis) {
+    }
+}
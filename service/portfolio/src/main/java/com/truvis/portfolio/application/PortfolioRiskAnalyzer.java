@@ -0,0 +1,223 @@
+package com.truvis.portfolio.application;
+
+import com.truvis.portfolio.domain.Holding;
+import com.truvis.portfolio.domain.Portfolio;
+import com.truvis.portfolio.domain.PortfolioRisk;
+import com.truvis.portfolio.domain.risk.CovarianceMatrix;
+import com.truvis.portfolio.domain.risk.RiskModel;
+import com.truvis.portfolio.domain.risk.ValueAtRisk;
+import com.truvis.portfolio.infrastructure.risk.RiskModelLoader;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 포트폴리오 위험 분석 (변동성, 베타, 1일 95% VaR)
+ *
+ * - 종목 공분산은 모든 포트폴리오가 같이 쓰므로 거래일마다 한 번만 만들어 둔다 (RiskModel)
+ *   → 기동 직후와 장 마감 후 정해진 시각에 백그라운드에서 만들고, 다 만들어지면 교체
+ *   → 그 전에 날짜가 바뀌면 첫 조회가 백그라운드 생성을 걸고, 조회는 이전 모형으로 바로 응답
+ *   → 조회가 기다리는 건 기동 직후 첫 모형이 나오기 전뿐
+ * - 공분산 계산 fork-join 풀은 하나를 계속 쓴다 (생성은 한 번에 하나만)
+ * - 포트폴리오별 계산은 보유 종목 수(k)만큼의 부분 행렬만 본다 (wᵀΣw: k², 역사적 VaR: k × 거래일)
+ * - 비중은 현재가 기준 평가금액 (현재가가 없으면 마지막 종가)
+ * - 위험 모형에 없는 종목(신규 상장 등)은 제외하고 나머지 평가금액 기준으로 계산, 비중은 coverage로 알려준다
+ */
+@Service
+@Slf4j
+public class PortfolioRiskAnalyzer {
+
+    private final RiskModelLoader modelLoader;
+    private final QuoteStore quoteStore;
+    private final ZoneId zone;
+    private final ForkJoinPool pool;
+    private final ExecutorService builder;
+
+    private volatile RiskModel model;
+
+    // 생성 중인 모형 (없으면 null), 마지막으로 생성을 건 거래일
+    private final AtomicReference<CompletableFuture<RiskModel>> building = new AtomicReference<>();
+    private volatile LocalDate requestedDay;
+
+    public PortfolioRiskAnalyzer(
+            RiskModelLoader modelLoader,
+            QuoteStore quoteStore,
+            @Value("${portfolio.risk.parallelism:4}") int parallelism,
+            @Value("${portfolio.snapshot.zone:Asia/Seoul}") String zone
+    ) {
+        this.modelLoader = modelLoader;
+        this.quoteStore = quoteStore;
+        this.zone = ZoneId.of(zone);
+        this.pool = new ForkJoinPool(Math.max(1, parallelism));
+        this.builder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "risk-model-builder");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 🔥 기동 완료 후 첫 모형 생성 (백그라운드)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refreshAsync(LocalDate.now(zone));
+    }
+
+    /**
+     * 📐 장 마감 후 위험 모형 다시 만들기 (당일 종가 반영, 백그라운드)
+     */
+    @Scheduled(cron = "${portfolio.risk.cron:0 10 16 * * MON-FRI}", zone = "${portfolio.snapshot.zone:Asia/Seoul}")
+    public void scheduledRefresh() {
+        refreshAsync(LocalDate.now(zone));
+    }
+
+    public PortfolioRisk analyze(Portfolio portfolio) {
+        RiskModel current = currentModel();
+        List<Holding> holdings = portfolio.getOpenHoldings();
+        if (holdings.isEmpty()) {
+            return PortfolioRisk.empty(current.getTradingDay());
+        }
+
+        int[] indexes = new int[holdings.size()];
+        double[] weights = new double[holdings.size()];
+        int count = 0;
+        double totalValue = 0;
+        double coveredValue = 0;
+
+        for (Holding holding : holdings) {
+            int index = current.indexOf(holding.getStockCode());
+            double price = currentPrice(holding, current, index);
+            double value = holding.getQuantity() * price;
+
+            totalValue += value;
+            if (index != RiskModel.NO_SYMBOL) {
+                indexes[count] = index;
+                weights[count++] = value;
+                coveredValue += value;
+            }
+        }
+
+        if (count == 0 || coveredValue <= 0) {
+            return PortfolioRisk.of(current.getTradingDay(), 0, Double.NaN, Double.NaN, Double.NaN, Double.NaN, 0);
+        }
+        for (int a = 0; a < count; a++) {
+            weights[a] /= coveredValue;
+        }
+
+        CovarianceMatrix covariance = current.getCovariance();
+        double dailyVolatility = Math.sqrt(covariance.variance(indexes, weights, count));
+        double[] dailyReturns = current.getReturns().portfolioReturns(indexes, weights, count);
+
+        return PortfolioRisk.of(
+                current.getTradingDay(),
+                coveredValue,
+                dailyVolatility,
+                beta(current, indexes, weights, count),
+                ValueAtRisk.historical(dailyReturns),
+                ValueAtRisk.parametric(dailyVolatility),
+                coveredValue / totalValue);
+    }
+
+    /**
+     * 베타 = Cov(포트폴리오, 시장) / Var(시장)
+     */
+    private static double beta(RiskModel model, int[] indexes, double[] weights, int count) {
+        int benchmark = model.getBenchmarkIndex();
+        if (benchmark == RiskModel.NO_SYMBOL) {
+            return Double.NaN;
+        }
+        double marketVariance = model.getCovariance().get(benchmark, benchmark);
+        if (marketVariance <= 0) {
+            return Double.NaN;
+        }
+        return model.getCovariance().covarianceWith(indexes, weights, count, benchmark) / marketVariance;
+    }
+
+    private double currentPrice(Holding holding, RiskModel model, int index) {
+        int slot = quoteStore.findSlot(holding.getStockCode());
+        long lastPrice = slot == QuoteStore.NO_SLOT ? 0 : quoteStore.lastPrice(slot);
+        if (lastPrice > 0) {
+            return lastPrice / (double) QuoteStore.PRICE_SCALE;
+        }
+        if (index != RiskModel.NO_SYMBOL) {
+            return model.lastClose(index);
+        }
+        return holding.getAveragePrice().doubleValue();
+    }
+
+    /**
+     * 지금 쓸 위험 모형
+     * - 날짜가 지난 모형이면 오늘 모형 생성을 (하루 한 번) 걸어 두고 지난 모형을 그대로 쓴다
+     * - 아직 모형이 없을 때(기동 직후)만 생성 중인 모형을 기다린다
+     */
+    private RiskModel currentModel() {
+        LocalDate today = LocalDate.now(zone);
+        RiskModel current = model;
+        if (current == null) {
+            try {
+                return refreshAsync(today).join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        if (!current.getTradingDay().equals(today) && !today.equals(requestedDay)) {
+            refreshAsync(today);
+        }
+        return current;
+    }
+
+    /**
+     * 백그라운드 생성 (이미 생성 중이면 그 결과를 같이 기다린다)
+     */
+    CompletableFuture<RiskModel> refreshAsync(LocalDate tradingDay) {
+        CompletableFuture<RiskModel> next = new CompletableFuture<>();
+        CompletableFuture<RiskModel> inFlight = building.compareAndExchange(null, next);
+        if (inFlight != null) {
+            return inFlight;
+        }
+
+        requestedDay = tradingDay;
+        try {
+            builder.execute(() -> {
+                try {
+                    RiskModel loaded = modelLoader.load(tradingDay, pool);
+                    model = loaded;
+                    next.complete(loaded);
+                } catch (Throwable e) {
+                    log.error("❌ 위험 모형 생성 실패: tradingDay={}, error={}", tradingDay, e.getMessage(), e);
+                    next.completeExceptionally(e);
+                } finally {
+                    building.compareAndSet(next, null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            building.compareAndSet(next, null);
+            next.completeExceptionally(e);
+        }
+        return next;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        builder.shutdownNow();
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,208 @@
+package com.truvis.portfolio.application;
+
+import com.truvis.master.config.BacktestPoolConfig;
+import com.truvis.portfolio.domain.Holding;
+import com.truvis.portfolio.domain.Portfolio;
+import com.truvis.portfolio.infrastructure.snapshot.PortfolioSnapshotStore;
+import com.truvis.portfolio.repository.PortfolioRepository;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 장 마감 포트폴리오 평가 스냅샷 (일별 1회)
+ *
+ * - 사용자 ID 목록을 구간으로 쪼개 공유 fork-join 풀(backtestPool)에서 병렬 평가 (구간마다 DB 조회 1번)
+ * - 결과는 사용자 ID 순서 그대로 배열에 채운다 → 합치는 단계 없이 바로 저장
+ * - 평가는 그 시점의 현재가 기준, 시세가 없는 종목은 매입원가로 본다 (차트에 -100% 구간이 생기지 않게)
+ * - 보유 종목이 없는 포트폴리오는 기록하지 않는다 (전량 매도한 날만 0원으로 한 번 남겨 수익률 구간을 닫는다)
+ * - 같은 날짜는 한 번만 기록 (노드마다 자기 저장소에 기록)
+ */
+@Component
+@Slf4j
+public class PortfolioSnapshotJob {
+
+    private static final int PARTITION_SIZE = 500;
+
+    // QuoteStore 가격(원 × 10^4) → 원 × 100
+    private static final long PRICE_TO_CENTS = QuoteStore.PRICE_SCALE / 100;
+
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioSnapshotStore snapshotStore;
+    private final QuoteStore quoteStore;
+    private final ForkJoinPool pool;
+    private final ZoneId zone;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public PortfolioSnapshotJob(
+            PortfolioRepository portfolioRepository,
+            PortfolioSnapshotStore snapshotStore,
+            QuoteStore quoteStore,
+            @Qualifier(BacktestPoolConfig.BACKTEST_POOL) ForkJoinPool pool,
+            @Value("${portfolio.snapshot.zone:Asia/Seoul}") String zone
+    ) {
+        this.portfolioRepository = portfolioRepository;
+        this.snapshotStore = snapshotStore;
+        this.quoteStore = quoteStore;
+        this.pool = pool;
+        this.zone = ZoneId.of(zone);
+    }
+
+    @Scheduled(cron = "${portfolio.snapshot.cron:0 40 15 * * MON-FRI}", zone = "${portfolio.snapshot.zone:Asia/Seoul}")
+    public void scheduledSnapshot() {
+        takeSnapshot(LocalDate.now(zone));
+    }
+
+    /**
+     * 📸 전체 포트폴리오 평가 기록
+     *
+     * @return 실행 결과 (이미 기록된 날짜거나 실행 중이면 null)
+     */
+    public SnapshotSummary takeSnapshot(LocalDate date) {
+        if (snapshotStore.hasDay(date)) {
+            log.info("📸 이미 기록된 날짜입니다: {}", date);
+            return null;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.warn("⚠️ 포트폴리오 스냅샷이 이미 실행 중입니다");
+            return null;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            long[] userIds = portfolioRepository.findAllUserIds().stream()
+                    .mapToLong(Long::longValue)
+                    .toArray();
+            Snapshot snapshot = new Snapshot(userIds);
+
+            pool.invoke(new ValuationTask(snapshot, 0, userIds.length));
+            int count = snapshot.compact();
+            snapshotStore.saveDay(date, snapshot.userIds, snapshot.valueCents, snapshot.costCents, count);
+
+            SnapshotSummary summary = new SnapshotSummary(date, count, System.currentTimeMillis() - startedAt);
+            log.info("📸 포트폴리오 스냅샷 완료: {}", summary);
+            return summary;
+
+        } catch (Exception e) {
+            log.error("❌ 포트폴리오 스냅샷 실패: date={}, error={}", date, e.getMessage(), e);
+            return null;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 사용자 구간 [from, to) 평가 (PARTITION_SIZE 이하가 될 때까지 반으로 나눈다)
+     */
+    private final class ValuationTask extends RecursiveAction {
+
+        private final Snapshot snapshot;
+        private final int from;
+        private final int to;
+
+        ValuationTask(Snapshot snapshot, int from, int to) {
+            this.snapshot = snapshot;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARTITION_SIZE) {
+                valuateRange(snapshot, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ValuationTask(snapshot, from, mid), new ValuationTask(snapshot, mid, to));
+        }
+    }
+
+    private void valuateRange(Snapshot snapshot, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+
+        long[] userIds = snapshot.userIds;
+        List<Portfolio> portfolios = portfolioRepository.findByUserIdBetween(userIds[from], userIds[to - 1]);
+
+        for (Portfolio portfolio : portfolios) {
+            int index = Arrays.binarySearch(userIds, from, to, portfolio.getUserId());
+            if (index < 0) {
+                continue;  // 목록 조회 이후 생긴 포트폴리오는 다음 날부터
+            }
+
+            List<Holding> holdings = portfolio.getOpenHoldings();
+            long value = 0;
+            long cost = 0;
+            for (Holding holding : holdings) {
+                long holdingCost = holding.getTotalCost().movePointRight(2).longValueExact();
+                long price = lastPrice(holding.getStockCode());
+
+                cost += holdingCost;
+                value += price == 0
+                        ? holdingCost
+                        : (holding.getQuantity() * price + PRICE_TO_CENTS / 2) / PRICE_TO_CENTS;
+            }
+
+            snapshot.valueCents[index] = value;
+            snapshot.costCents[index] = cost;
+            snapshot.present[index] = !holdings.isEmpty() || snapshotStore.hasOpenValue(portfolio.getUserId());
+        }
+    }
+
+    private long lastPrice(String stockCode) {
+        int slot = quoteStore.findSlot(stockCode);
+        return slot == QuoteStore.NO_SLOT ? 0 : quoteStore.lastPrice(slot);
+    }
+
+    /**
+     * 하루치 평가 결과 (사용자 ID 순서, 구간마다 자기 칸만 채운다)
+     */
+    private static final class Snapshot {
+
+        private final long[] userIds;
+        private final long[] valueCents;
+        private final long[] costCents;
+        private final boolean[] present;
+
+        Snapshot(long[] userIds) {
+            this.userIds = userIds;
+            this.valueCents = new long[userIds.length];
+            this.costCents = new long[userIds.length];
+            this.present = new boolean[userIds.length];
+        }
+
+        /**
+         * 기록할 포트폴리오만 앞으로 모은다
+         *
+         * @return 기록할 건수
+         */
+        int compact() {
+            int count = 0;
+            for (int i = 0; i < userIds.length; i++) {
+                if (present[i]) {
+                    userIds[count] = userIds[i];
+                    valueCents[count] = valueCents[i];
+                    costCents[count] = costCents[i];
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    public record SnapshotSummary(LocalDate date, int portfolioCount, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,162 @@
+package com.truvis.portfolio.application;
+
+import com.truvis.portfolio.domain.Holding;
+import com.truvis.portfolio.domain.Portfolio;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 포트폴리오 갱신 낙관적 잠금 재시도
+ *
+ * - 잠금 없이 읽고 커밋 시점에 버전으로 충돌 감지 → 진 쪽만 트랜잭션을 통째로 다시 실행
+ *   (같은 사용자 갱신이 몰려도 읽기/계산은 병렬, 실패한 쪽만 다시 한다)
+ * - 재시도 사이 대기는 지수 증가 + 무작위 (같은 순간에 다시 부딪히지 않게), 최대 maxAttempts번
+ * - 유일 제약 위반은 행을 동시에 만드는 경쟁일 때만 재시도
+ *   (첫 거래가 동시에 포트폴리오를 만들거나, 같은 새 종목 거래가 동시에 보유 종목 줄을 만드는 경우)
+ *   그 밖의 무결성 위반은 다시 해도 똑같이 실패하므로 바로 던진다
+ * - 트랜잭션 바깥에서 호출해야 한다 (시도마다 새 트랜잭션)
+ */
+@Component
+@Slf4j
+public class PortfolioWriteRetry {
+
+    private static final long MAX_BACKOFF_MILLIS = 200;
+
+    private static final List<String> CREATION_RACE_CONSTRAINTS = List.of(
+            Portfolio.USER_ID_UNIQUE.toUpperCase(Locale.ROOT),
+            Holding.PORTFOLIO_STOCK_UNIQUE.toUpperCase(Locale.ROOT)
+    );
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    private final LongAdder attemptCount = new LongAdder();
+    private final LongAdder conflictCount = new LongAdder();
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder exhaustedCount = new LongAdder();
+
+    public PortfolioWriteRetry(
+            @Value("${portfolio.projection.max-attempts:10}") int maxAttempts,
+            @Value("${portfolio.projection.retry-backoff-ms:5}") long backoffMillis
+    ) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = Math.max(0, backoffMillis);
+    }
+
+    /**
+     * 충돌하면 재시도 (횟수를 다 쓰면 마지막 충돌 예외를 그대로 던진다)
+     */
+    public <T> T execute(Long userId, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            attemptCount.increment();
+            try {
+                T result = action.get();
+                successCount.increment();
+                return result;
+
+            } catch (OptimisticLockingFailureException e) {
+                onConflict(userId, attempt, e);
+            } catch (DataIntegrityViolationException e) {
+                if (!isCreationRace(e)) {
+                    throw e;
+                }
+                onConflict(userId, attempt, e);
+            }
+        }
+    }
+
+    public void execute(Long userId, Runnable action) {
+        execute(userId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 재시도할 수 있으면 대기 후 돌아오고, 횟수를 다 썼거나 인터럽트되면 충돌 예외를 던진다
+     */
+    private void onConflict(Long userId, int attempt, RuntimeException e) {
+        conflictCount.increment();
+        if (attempt >= maxAttempts) {
+            exhaustedCount.increment();
+            log.warn("⚠️ 포트폴리오 동시 갱신 충돌 재시도 초과: userId={}, attempts={}", userId, attempt);
+            throw e;
+        }
+        log.debug("포트폴리오 동시 갱신 충돌 → 재시도: userId={}, attempt={}", userId, attempt);
+        if (!backoff(attempt)) {
+            throw e;
+        }
+    }
+
+    /**
+     * 행을 동시에 만들다 걸린 유일 제약인지 (DB 오류 메시지에 제약 이름이 들어 있다)
+     */
+    static boolean isCreationRace(DataIntegrityViolationException e) {
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        if (message == null) {
+            return false;
+        }
+        String upper = message.toUpperCase(Locale.ROOT);
+        return CREATION_RACE_CONSTRAINTS.stream().anyMatch(upper::contains);
+    }
+
+    /**
+     * @return 인터럽트되면 false
+     */
+    private boolean backoff(int attempt) {
+        long limit = Math.min(MAX_BACKOFF_MILLIS, backoffMillis << Math.min(attempt - 1, 16));
+        if (limit == 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(limit + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 재시도 지표 조회
+     */
+    public Metrics getMetrics() {
+        long attempts = attemptCount.sum();
+        long conflicts = conflictCount.sum();
+        return new Metrics(
+                attempts,
+                conflicts,
+                successCount.sum(),
+                exhaustedCount.sum(),
+                attempts == 0 ? 0 : (double) conflicts / attempts
+        );
+    }
+
+    /**
+     * 재시도 지표 스냅샷
+     *
+     * @param attempts 트랜잭션 실행 횟수 (재시도 포함)
+     * @param conflicts 충돌로 롤백된 횟수
+     * @param succeeded 커밋까지 성공한 갱신 수
+     * @param exhausted 재시도를 다 쓰고 실패한 갱신 수 (재구성 대기열로 복구)
+     * @param conflictRate 충돌 비율 (conflicts / attempts)
+     */
+    public record Metrics(
+            long attempts,
+            long conflicts,
+            long succeeded,
+            long exhausted,
+            double conflictRate
+    ) {
+    }
+}
@@ -0,0 +1,285 @@
+package com.truvis.portfolio.application;
+
+import com.truvis.common.exception.BusinessException;
+import com.truvis.master.application.MasterApplicationService;
+import com.truvis.master.config.BacktestPoolConfig;
+import com.truvis.portfolio.domain.Holding;
+import com.truvis.portfolio.domain.Portfolio;
+import com.truvis.portfolio.domain.rebalance.RebalanceOrder;
+import com.truvis.portfolio.domain.rebalance.RebalancePlan;
+import com.truvis.portfolio.domain.rebalance.RebalanceSolver;
+import com.truvis.portfolio.repository.PortfolioRepository;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import com.truvis.transaction.domain.TransactionType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 목표 비중 리밸런싱 계획
+ *
+ * - 종목 목록 = 보유 종목 ∪ 목표 종목, 현재가는 실시간 시세 (시세가 없는 종목은 거래하지 않음)
+ * - 수량 계산은 RebalanceSolver (보유 종목 50개 한도, 주문 단위, 현금 한도, 수수료/세금)
+ * - 거장 스타일을 따르는 포트폴리오는 스타일의 모델 포트폴리오를 목표 비중으로 쓴다
+ * - 일괄 계획: 장 마감 후 하루 한 번, 거장 스타일이 있는 포트폴리오만 조회해 사용자 ID 구간으로 쪼개
+ *   공유 fork-join 풀(backtestPool)에서 계산 (모델 포트폴리오는 스타일마다 한 번만 가져오고,
+ *   추가 현금 없이 매도 대금으로만 매수)
+ * - 계획만 만들고 주문은 내지 않는다
+ */
+@Component
+@Slf4j
+public class RebalancePlanner {
+
+    private static final int PARTITION_SIZE = 500;
+
+    private final PortfolioRepository portfolioRepository;
+    private final QuoteStore quoteStore;
+    private final MasterApplicationService masterApplicationService;
+    private final RebalanceSolver solver;
+    private final int lotSize;
+    private final ForkJoinPool pool;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public RebalancePlanner(
+            PortfolioRepository portfolioRepository,
+            QuoteStore quoteStore,
+            MasterApplicationService masterApplicationService,
+            @Value("${portfolio.rebalance.drift-band:0.01}") double driftBand,
+            @Value("${portfolio.rebalance.commission-rate:0.00015}") double commissionRate,
+            @Value("${portfolio.rebalance.sell-tax-rate:0.0018}") double sellTaxRate,
+            @Value("${portfolio.rebalance.lot-size:1}") int lotSize,
+            @Qualifier(BacktestPoolConfig.BACKTEST_POOL) ForkJoinPool pool
+    ) {
+        this.portfolioRepository = portfolioRepository;
+        this.quoteStore = quoteStore;
+        this.masterApplicationService = masterApplicationService;
+        this.solver = new RebalanceSolver(
+                Portfolio.MAX_OPEN_HOLDINGS, driftBand, commissionRate, commissionRate + sellTaxRate);
+        this.lotSize = Math.max(1, lotSize);
+        this.pool = pool;
+    }
+
+    @Scheduled(cron = "${portfolio.rebalance.cron:0 20 16 * * MON-FRI}", zone = "${portfolio.snapshot.zone:Asia/Seoul}")
+    public void scheduledPlan() {
+        planSubscribed();
+    }
+
+    /**
+     * 거장 스타일의 현재 목표 비중 (종목 코드 → 비중)
+     */
+    public Map<String, Double> modelWeights(String masterStyle) {
+        return masterApplicationService.getModelPortfolio(masterStyle).weights();
+    }
+
+    /**
+     * 포트폴리오 1개 계획
+     *
+     * @param masterStyle   목표 비중 출처 (직접 정한 비중이면 null)
+     * @param targetWeights 종목 코드 → 목표 비중 (합계 1 이하)
+     * @param cash          주문 가능 현금 (원)
+     */
+    public RebalancePlan plan(Portfolio portfolio, String masterStyle, Map<String, Double> targetWeights,
+                              double cash) {
+        List<Holding> holdings = portfolio.getOpenHoldings();
+        Map<String, Integer> indexes = new LinkedHashMap<>();
+        for (Holding holding : holdings) {
+            indexes.putIfAbsent(holding.getStockCode(), indexes.size());
+        }
+        for (String stockCode : targetWeights.keySet()) {
+            indexes.putIfAbsent(stockCode, indexes.size());
+        }
+
+        int n = indexes.size();
+        String[] stockCodes = indexes.keySet().toArray(new String[0]);
+        long[] shares = new long[n];
+        double[] prices = new double[n];
+        int[] lotSizes = new int[n];
+        double[] weights = new double[n];
+
+        for (Holding holding : holdings) {
+            shares[indexes.get(holding.getStockCode())] = holding.getQuantity();
+        }
+        for (Map.Entry<String, Double> target : targetWeights.entrySet()) {
+            weights[indexes.get(target.getKey())] = target.getValue();
+        }
+        for (int i = 0; i < n; i++) {
+            prices[i] = currentPrice(stockCodes[i]);
+            lotSizes[i] = lotSize;
+        }
+
+        RebalanceSolver.Solution solution = solver.solve(shares, prices, lotSizes, weights, cash);
+        return RebalancePlan.of(
+                portfolio.getUserId(),
+                masterStyle,
+                solution.totalValue(),
+                cash,
+                solution.cash(),
+                solution.holdingCount(),
+                solution.deviationBefore(),
+                solution.deviationAfter(),
+                orders(stockCodes, prices, solution.quantityChanges()));
+    }
+
+    /**
+     * ⚖️ 거장 스타일이 있는 포트폴리오 전체 계획 (추가 현금 없이)
+     *
+     * @return 실행 결과 (실행 중이면 null)
+     */
+    public BatchResult planSubscribed() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("⚠️ 리밸런싱 일괄 계획이 이미 실행 중입니다");
+            return null;
+        }
+        try {
+            return planAll();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private BatchResult planAll() {
+        long startedAt = System.currentTimeMillis();
+        long[] userIds = portfolioRepository.findSubscribedUserIds().stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+
+        Batch batch = new Batch(userIds);
+        pool.invoke(new PlanTask(batch, 0, userIds.length));
+
+        int planned = 0;
+        List<RebalancePlan> withOrders = new ArrayList<>();
+        for (RebalancePlan plan : batch.plans) {
+            if (plan == null) {
+                continue;
+            }
+            planned++;
+            if (plan.hasOrders()) {
+                withOrders.add(plan);
+            }
+        }
+
+        BatchResult result = new BatchResult(planned, withOrders, System.currentTimeMillis() - startedAt);
+        log.info("⚖️ 리밸런싱 일괄 계획 완료: 포트폴리오 {}개, 주문 있는 포트폴리오 {}개, {}ms",
+                result.portfolioCount(), withOrders.size(), result.elapsedMillis());
+        return result;
+    }
+
+    /**
+     * 사용자 구간 [from, to) 계획 (PARTITION_SIZE 이하가 될 때까지 반으로 나눈다)
+     */
+    private final class PlanTask extends RecursiveAction {
+
+        private final Batch batch;
+        private final int from;
+        private final int to;
+
+        PlanTask(Batch batch, int from, int to) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARTITION_SIZE) {
+                planRange(batch, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new PlanTask(batch, from, mid), new PlanTask(batch, mid, to));
+        }
+    }
+
+    private void planRange(Batch batch, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+
+        long[] userIds = batch.userIds;
+        for (Portfolio portfolio : portfolioRepository.findSubscribedByUserIdBetween(userIds[from], userIds[to - 1])) {
+            // ID 목록을 읽은 뒤 스타일을 정한 포트폴리오는 다음 일괄 계획에서
+            int index = Arrays.binarySearch(userIds, from, to, portfolio.getUserId());
+            if (index < 0) {
+                continue;
+            }
+            String masterStyle = portfolio.getMasterStyle();
+            Optional<Map<String, Double>> weights = batch.modelWeights.computeIfAbsent(masterStyle, this::findModelWeights);
+            weights.ifPresent(targets -> batch.plans[index] = plan(portfolio, masterStyle, targets, 0));
+        }
+    }
+
+    private Optional<Map<String, Double>> findModelWeights(String masterStyle) {
+        try {
+            return Optional.of(modelWeights(masterStyle));
+        } catch (BusinessException e) {
+            log.warn("⚠️ 모델 포트폴리오가 없는 거장 스타일은 건너뜁니다: masterStyle={}, reason={}",
+                    masterStyle, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private List<RebalanceOrder> orders(String[] stockCodes, double[] prices, long[] changes) {
+        List<RebalanceOrder> sells = new ArrayList<>();
+        List<RebalanceOrder> buys = new ArrayList<>();
+        for (int i = 0; i < changes.length; i++) {
+            if (changes[i] == 0) {
+                continue;
+            }
+            BigDecimal price = BigDecimal.valueOf(prices[i]).setScale(2, RoundingMode.HALF_UP);
+            long quantity = Math.abs(changes[i]);
+            RebalanceOrder order = new RebalanceOrder(
+                    stockCodes[i],
+                    changes[i] > 0 ? TransactionType.BUY : TransactionType.SELL,
+                    quantity,
+                    price,
+                    price.multiply(BigDecimal.valueOf(quantity)));
+            (changes[i] > 0 ? buys : sells).add(order);
+        }
+        sells.addAll(buys);
+        return sells;
+    }
+
+    private double currentPrice(String stockCode) {
+        int slot = quoteStore.findSlot(stockCode);
+        long lastPrice = slot == QuoteStore.NO_SLOT ? 0 : quoteStore.lastPrice(slot);
+        return lastPrice / (double) QuoteStore.PRICE_SCALE;
+    }
+
+    /**
+     * 일괄 계획 작업 상태 (사용자 ID 순서, 구간마다 자기 칸만 채운다)
+     */
+    private static final class Batch {
+
+        private final long[] userIds;
+        private final RebalancePlan[] plans;
+        private final ConcurrentHashMap<String, Optional<Map<String, Double>>> modelWeights = new ConcurrentHashMap<>();
+
+        Batch(long[] userIds) {
+            this.userIds = userIds;
+            this.plans = new RebalancePlan[userIds.length];
+        }
+    }
+
+    /**
+     * @param portfolioCount 계획을 만든 포트폴리오 수 (거장 스타일이 있는 포트폴리오)
+     * @param plans          주문이 1건 이상 있는 계획만
+     */
+    public record BatchResult(int portfolioCount, List<RebalancePlan> plans, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.truvis.portfolio.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포트폴리오에 반영한 거래 ID (중복 반영 방지)
+ * - 같은 이벤트가 두 번 와도 PK 충돌로 한 번만 반영된다
+ * - ID를 직접 지정하므로 Persistable로 신규 여부를 알려서 저장 전 SELECT를 생략
+ */
+@Entity
+@Table(name = "portfolio_applied_transactions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AppliedTransaction implements Persistable<Long> {
+
+    @Id
+    @Column(name = "transaction_id")
+    private Long transactionId;
+
+    @Column(name = "portfolio_id", nullable = false)
+    private Long portfolioId;
+
+    @Column(nullable = false)
+    private LocalDateTime appliedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public AppliedTransaction(Long transactionId, Long portfolioId) {
+        this.transactionId = transactionId;
+        this.portfolioId = portfolioId;
+        this.appliedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public Long getId() {
+        return transactionId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,28 @@
+package com.truvis.portfolio.domain;
+
+/**
+ * 거래 1건을 보유 종목에 반영한 결과
+ */
+public enum ApplyResult {
+
+    APPLIED("반영"),
+    OUT_OF_ORDER("순서 어긋남 - 이미 더 나중 거래가 반영됨"),
+    OVERSOLD("보유 수량보다 많이 매도 - 앞선 매수가 아직 반영되지 않음");
+
+    private final String description;
+
+    ApplyResult(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 증분 반영이 불가능해서 거래 이력으로 다시 계산해야 하는지
+     */
+    public boolean requiresRebuild() {
+        return this == OUT_OF_ORDER || this == OVERSOLD;
+    }
+}
@@ -0,0 +1,134 @@
+package com.truvis.portfolio.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 보유 종목 (포트폴리오 프로젝션의 한 줄)
+ * - 거래가 들어올 때마다 수량/매입원가를 증분 갱신 → 조회 시 거래 내역을 합산하지 않는다
+ * - 매입원가는 이동평균법 (매도 시 평균단가만큼 원가 차감, 차익은 실현손익으로)
+ * - lastTransactionId: 마지막으로 반영한 거래 ID (순서 어긋남 감지용)
+ */
+@Entity
+@Table(
+        name = "holdings",
+        uniqueConstraints = @UniqueConstraint(
+                name = Holding.PORTFOLIO_STOCK_UNIQUE, columnNames = {"portfolio_id", "stock_code"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Holding {
+
+    /**
+     * 포트폴리오당 종목 1줄 유일 제약 이름 (같은 새 종목 거래가 동시에 행을 만들 때 걸린다 → PortfolioWriteRetry가 재시도)
+     */
+    public static final String PORTFOLIO_STOCK_UNIQUE = "uk_holdings_portfolio_stock";
+
+    private static final int SCALE = 2;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "portfolio_id", nullable = false)
+    private Portfolio portfolio;
+
+    @Column(name = "stock_code", nullable = false, length = 20)
+    private String stockCode;
+
+    @Column(nullable = false)
+    private long quantity;
+
+    /**
+     * 보유 수량의 매입원가 합계
+     */
+    @Column(name = "total_cost", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalCost;
+
+    /**
+     * 매도로 확정된 손익 누계
+     */
+    @Column(name = "realized_profit", nullable = false, precision = 19, scale = 2)
+    private BigDecimal realizedProfit;
+
+    @Column(name = "last_transaction_id")
+    private Long lastTransactionId;
+
+    @Column(name = "last_executed_at")
+    private LocalDateTime lastExecutedAt;
+
+    Holding(Portfolio portfolio, String stockCode) {
+        this.portfolio = Objects.requireNonNull(portfolio, "포트폴리오는 필수입니다");
+        this.stockCode = Objects.requireNonNull(stockCode, "종목 코드는 필수입니다");
+        this.quantity = 0;
+        this.totalCost = BigDecimal.ZERO.setScale(SCALE);
+        this.realizedProfit = BigDecimal.ZERO.setScale(SCALE);
+    }
+
+    /**
+     * 거래 1건 반영
+     *
+     * @param quantityChange 매수 +, 매도 -
+     * @return 반영 결과 (APPLIED가 아니면 아무것도 바뀌지 않음)
+     */
+    ApplyResult apply(long transactionId, int quantityChange, BigDecimal price, LocalDateTime executedAt) {
+        if (lastTransactionId != null && transactionId < lastTransactionId) {
+            return ApplyResult.OUT_OF_ORDER;
+        }
+        if (quantity + quantityChange < 0) {
+            return ApplyResult.OVERSOLD;
+        }
+
+        if (quantityChange > 0) {
+            totalCost = totalCost.add(price.multiply(BigDecimal.valueOf(quantityChange)))
+                    .setScale(SCALE, RoundingMode.HALF_UP);
+        } else if (quantityChange < 0) {
+            long sold = -quantityChange;
+            BigDecimal costOfSold = quantity + quantityChange == 0
+                    ? totalCost
+                    : totalCost.multiply(BigDecimal.valueOf(sold))
+                            .divide(BigDecimal.valueOf(quantity), SCALE, RoundingMode.HALF_UP);
+            realizedProfit = realizedProfit.add(price.multiply(BigDecimal.valueOf(sold)).subtract(costOfSold))
+                    .setScale(SCALE, RoundingMode.HALF_UP);
+            totalCost = totalCost.subtract(costOfSold);
+        }
+
+        quantity += quantityChange;
+        lastTransactionId = transactionId;
+        lastExecutedAt = executedAt;
+        return ApplyResult.APPLIED;
+    }
+
+    /**
+     * 이력 재계산 전 초기화
+     */
+    void reset() {
+        quantity = 0;
+        totalCost = BigDecimal.ZERO.setScale(SCALE);
+        realizedProfit = BigDecimal.ZERO.setScale(SCALE);
+        lastTransactionId = null;
+        lastExecutedAt = null;
+    }
+
+    /**
+     * 평균 매입단가 (보유 수량이 없으면 0)
+     */
+    public BigDecimal getAveragePrice() {
+        if (quantity == 0) {
+            return BigDecimal.ZERO.setScale(SCALE);
+        }
+        return totalCost.divide(BigDecimal.valueOf(quantity), SCALE, RoundingMode.HALF_UP);
+    }
+
+    public boolean isEmpty() {
+        return quantity == 0;
+    }
+}
@@ -1,33 +1,193 @@
 package com.truvis.portfolio.domain;
 
+import com.truvis.common.model.AggregateRoot;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
 /**
  * 포트폴리오 집합체 루트
- * - 종목 추가/제거, 50개 제한
- * - 포트폴리오 성과 계산
- * 
+ * - 사용자당 1개, 거래 완료 이벤트로 보유 종목을 증분 갱신하는 프로젝션
+ * - 전량 매도한 종목도 행은 남긴다 (실현손익, 마지막 반영 거래 ID 보존)
+ * - 현재가 기준 평가금액/평가손익은 PortfolioValuationEngine이 틱마다 누계로 유지
+ * - 보유 중인 종목은 최대 50개 - 매수 접수 시 HoldingLimitGuard가 거절한다
+ *   (프로젝션은 이미 저장된 거래를 그대로 반영할 뿐 한도로 거래를 빼지 않는다)
+ * - 낙관적 잠금 버전은 집합체 루트에 둔다
+ *   (보유 종목을 바꾸는 쪽은 버전을 올리는 조회로 읽는다 → 동시 갱신은 커밋 시점에 하나만 성공)
+ *
  * TODO: 구현 필요
- * - PortfolioId (포트폴리오 ID)
- * - Holding (보유 종목 엔티티)
- * - Quantity (수량 값 객체)
  * - PortfolioPerformance (성과 엔티티)
  */
-public class Portfolio {
-    
-    // TODO: 필드 추가
-    // - portfolioId
-    // - userId
-    // - name
-    // - description
-    // - holdings (List<Holding>)
-    // - createdAt
-    // - updatedAt
-    
-    // TODO: 생성자 추가
-    
-    // TODO: 비즈니스 메서드 추가
-    // - addHolding() - 종목 추가 (50개 제한)
-    // - removeHolding() - 종목 제거
-    // - updateHolding() - 보유량 수정
-    // - calculateTotalValue() - 전체 가치 계산
-    // - calculatePerformance() - 수익률 계산
+@Entity
+@Table(
+        name = "portfolios",
+        uniqueConstraints = @UniqueConstraint(name = Portfolio.USER_ID_UNIQUE, columnNames = "user_id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Portfolio extends AggregateRoot<Long> {
+
+    public static final int MAX_OPEN_HOLDINGS = 50;
+
+    /**
+     * 사용자당 1개 유일 제약 이름 (첫 거래가 동시에 포트폴리오를 만들 때 걸린다 → PortfolioWriteRetry가 재시도)
+     */
+    public static final String USER_ID_UNIQUE = "uk_portfolios_user_id";
+
+    private static final String DEFAULT_NAME = "기본 포트폴리오";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(length = 500)
+    private String description;
+
+    /**
+     * 따라 하는 거장 투자 스타일 (예: VALUE, GROWTH / 없으면 스타일별 순위에 들어가지 않음)
+     */
+    @Column(name = "master_style", length = 30)
+    private String masterStyle;
+
+    @OneToMany(mappedBy = "portfolio", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<Holding> holdings = new ArrayList<>();
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    private Portfolio(Long userId, String name) {
+        this.userId = Objects.requireNonNull(userId, "사용자 ID는 필수입니다");
+        this.name = name;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    /**
+     * 사용자 기본 포트폴리오 생성 (첫 거래 시)
+     */
+    public static Portfolio createDefault(Long userId) {
+        return new Portfolio(userId, DEFAULT_NAME);
+    }
+
+    /**
+     * 거장 스타일 지정 (null이면 해제)
+     */
+    public void followMasterStyle(String masterStyle) {
+        this.masterStyle = masterStyle;
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 거래 1건 반영 (매수 +, 매도 -)
+     * - 반영 결과가 APPLIED가 아니면 포트폴리오는 바뀌지 않는다 → 호출자가 이력으로 재구성
+     */
+    public ApplyResult applyTransaction(
+            long transactionId,
+            String stockCode,
+            int quantityChange,
+            BigDecimal price,
+            LocalDateTime executedAt) {
+
+        Holding holding = findHolding(stockCode).orElse(null);
+        boolean created = holding == null;
+        if (created) {
+            holding = new Holding(this, stockCode);
+        }
+
+        ApplyResult result = holding.apply(transactionId, quantityChange, price, executedAt);
+        if (result == ApplyResult.APPLIED) {
+            if (created) {
+                holdings.add(holding);
+            }
+            updatedAt = LocalDateTime.now();
+        }
+        return result;
+    }
+
+    /**
+     * 종목 1개를 거래 이력으로 다시 계산 (순서 어긋남/초과 매도 시)
+     *
+     * @param history 해당 종목의 전체 거래 (ID 오름차순)
+     * @return 이력 순서대로도 반영할 수 없어서 건너뛴 거래 ID (이상 거래)
+     */
+    public List<Long> rebuildHolding(String stockCode, List<TransactionRecord> history) {
+        findHolding(stockCode).ifPresent(Holding::reset);
+        return replay(history);
+    }
+
+    /**
+     * 포트폴리오 전체를 거래 이력으로 다시 계산
+     *
+     * @param history 사용자의 전체 거래 (ID 오름차순)
+     * @return 이력 순서대로도 반영할 수 없어서 건너뛴 거래 ID (이상 거래)
+     */
+    public List<Long> rebuildAll(List<TransactionRecord> history) {
+        holdings.forEach(Holding::reset);
+        return replay(history);
+    }
+
+    // 행을 지우고 새로 넣으면 flush 순서(INSERT → DELETE) 때문에 유니크 제약에 걸리므로 0으로 되돌린 뒤 재계산
+    // 이력에서도 보유 수량보다 많은 매도는 그 거래만 건너뛴다 (예외를 던지면 이후 모든 반영과 재계산이 같은 거래에서 막힘)
+    private List<Long> replay(List<TransactionRecord> history) {
+        List<Long> skipped = new ArrayList<>();
+        for (TransactionRecord record : history) {
+            ApplyResult result = applyTransaction(
+                    record.transactionId(), record.stockCode(), record.quantityChange(),
+                    record.price(), record.executedAt());
+            if (result != ApplyResult.APPLIED) {
+                skipped.add(record.transactionId());
+            }
+        }
+        updatedAt = LocalDateTime.now();
+        return skipped;
+    }
+
+    public Optional<Holding> findHolding(String stockCode) {
+        return holdings.stream()
+                .filter(holding -> holding.getStockCode().equals(stockCode))
+                .findFirst();
+    }
+
+    /**
+     * 현재 보유 중인 종목 (수량 > 0)
+     */
+    public List<Holding> getOpenHoldings() {
+        return holdings.stream()
+                .filter(holding -> !holding.isEmpty())
+                .toList();
+    }
+
+    public int countOpenHoldings() {
+        int count = 0;
+        for (Holding holding : holdings) {
+            if (!holding.isEmpty()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public List<Holding> getHoldings() {
+        return List.copyOf(holdings);
+    }
 }
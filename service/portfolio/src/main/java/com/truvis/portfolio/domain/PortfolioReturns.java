@@ -0,0 +1,37 @@
+package com.truvis.portfolio.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * 포트폴리오 기간 수익률 (장 마감 평가 기준)
+ *
+ * @param timeWeightedReturn  시간가중수익률 (%, 기간 누적) - 입출금 시점과 무관한 운용 성과
+ * @param moneyWeightedReturn 금액가중수익률 (%, 연율 XIRR) - 투자자가 실제로 얻은 수익률
+ *                            (계산할 수 없으면 null)
+ */
+public record PortfolioReturns(
+        LocalDate from,
+        LocalDate to,
+        BigDecimal timeWeightedReturn,
+        BigDecimal moneyWeightedReturn
+) {
+
+    private static final int SCALE = 2;
+
+    /**
+     * @param timeWeightedReturn  0.1 = 10%, NaN이면 null
+     * @param moneyWeightedReturn 0.1 = 10%, NaN이면 null
+     */
+    public static PortfolioReturns of(LocalDate from, LocalDate to, double timeWeightedReturn, double moneyWeightedReturn) {
+        return new PortfolioReturns(from, to, toPercent(timeWeightedReturn), toPercent(moneyWeightedReturn));
+    }
+
+    private static BigDecimal toPercent(double rate) {
+        if (Double.isNaN(rate) || Double.isInfinite(rate)) {
+            return null;
+        }
+        return BigDecimal.valueOf(rate * 100).setScale(SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,59 @@
+package com.truvis.portfolio.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * 포트폴리오 위험 지표 (위험 모형 기준일 종가까지의 일간 수익률 기준)
+ *
+ * @param marketValue     위험 계산에 포함된 평가금액 (원)
+ * @param volatility      연율 변동성 (%, 일간 표준편차 × √252)
+ * @param beta            시장 지표 종목 대비 베타 (계산할 수 없으면 null)
+ * @param historicalVar   1일 95% 역사적 VaR (원)
+ * @param parametricVar   1일 95% 모수적 VaR (원)
+ * @param coverage        전체 평가금액 중 위험 모형에 있는 종목 비중 (%)
+ */
+public record PortfolioRisk(
+        LocalDate asOf,
+        BigDecimal marketValue,
+        BigDecimal volatility,
+        BigDecimal beta,
+        BigDecimal historicalVar,
+        BigDecimal parametricVar,
+        BigDecimal coverage
+) {
+
+    private static final int SCALE = 2;
+    private static final int BETA_SCALE = 3;
+    private static final int TRADING_DAYS_PER_YEAR = 252;
+
+    /**
+     * @param dailyVolatility 일간 표준편차 (0.01 = 1%)
+     * @param historicalVar   손실률 (0.02 = 2%)
+     * @param parametricVar   손실률
+     * @param coverage        0.9 = 90%
+     */
+    public static PortfolioRisk of(LocalDate asOf, double marketValue, double dailyVolatility, double beta,
+                                   double historicalVar, double parametricVar, double coverage) {
+        return new PortfolioRisk(
+                asOf,
+                toScaled(marketValue, SCALE),
+                toScaled(dailyVolatility * Math.sqrt(TRADING_DAYS_PER_YEAR) * 100, SCALE),
+                toScaled(beta, BETA_SCALE),
+                toScaled(historicalVar * marketValue, SCALE),
+                toScaled(parametricVar * marketValue, SCALE),
+                toScaled(coverage * 100, SCALE));
+    }
+
+    public static PortfolioRisk empty(LocalDate asOf) {
+        return new PortfolioRisk(asOf, BigDecimal.ZERO, null, null, null, null, BigDecimal.ZERO);
+    }
+
+    private static BigDecimal toScaled(double value, int scale) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return null;
+        }
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,12 @@
+package com.truvis.portfolio.domain;
+
+import java.time.LocalDate;
+
+/**
+ * 장 마감 시점 포트폴리오 평가 (일별 1건)
+ */
+public record PortfolioSnapshot(
+        LocalDate date,
+        PortfolioValuation valuation
+) {
+}
@@ -0,0 +1,42 @@
+package com.truvis.portfolio.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 포트폴리오 평가 (현재가 기준)
+ *
+ * @param marketValue      보유 종목 평가금액 합계
+ * @param totalCost        보유 종목 매입원가 합계
+ * @param unrealizedProfit 평가손익 (평가금액 - 매입원가)
+ * @param returnRate       평가수익률 (%, 매입원가 대비)
+ * @param fullyPriced      모든 보유 종목에 시세가 있는지 (시세 없는 종목은 0원으로 평가)
+ */
+public record PortfolioValuation(
+        BigDecimal marketValue,
+        BigDecimal totalCost,
+        BigDecimal unrealizedProfit,
+        BigDecimal returnRate,
+        boolean fullyPriced
+) {
+
+    private static final int SCALE = 2;
+
+    public static PortfolioValuation of(BigDecimal marketValue, BigDecimal totalCost, boolean fullyPriced) {
+        BigDecimal value = marketValue.setScale(SCALE, RoundingMode.HALF_UP);
+        BigDecimal cost = totalCost.setScale(SCALE, RoundingMode.HALF_UP);
+        BigDecimal profit = value.subtract(cost);
+        BigDecimal returnRate = cost.signum() == 0
+                ? BigDecimal.ZERO.setScale(SCALE)
+                : profit.multiply(BigDecimal.valueOf(100)).divide(cost, SCALE, RoundingMode.HALF_UP);
+
+        return new PortfolioValuation(value, cost, profit, returnRate, fullyPriced);
+    }
+
+    /**
+     * 보유 종목이 없는 포트폴리오
+     */
+    public static PortfolioValuation empty() {
+        return of(BigDecimal.ZERO, BigDecimal.ZERO, true);
+    }
+}
@@ -0,0 +1,18 @@
+package com.truvis.portfolio.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 포트폴리오 반영에 필요한 거래 정보 (거래 모듈 엔티티와 분리)
+ *
+ * @param quantityChange 매수 +, 매도 -
+ */
+public record TransactionRecord(
+        long transactionId,
+        String stockCode,
+        int quantityChange,
+        BigDecimal price,
+        LocalDateTime executedAt
+) {
+}
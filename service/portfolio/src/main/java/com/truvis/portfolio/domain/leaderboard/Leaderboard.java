@@ -0,0 +1,19 @@
+package com.truvis.portfolio.domain.leaderboard;
+
+/**
+ * 순위표 구분 (전체 수익률 순위 / 거장 스타일별 수익률 순위)
+ *
+ * @param masterStyle 거장 스타일 (전체 순위면 null)
+ */
+public record Leaderboard(String masterStyle) {
+
+    public static final Leaderboard OVERALL = new Leaderboard(null);
+
+    public static Leaderboard of(String masterStyle) {
+        return masterStyle == null ? OVERALL : new Leaderboard(masterStyle);
+    }
+
+    public boolean isOverall() {
+        return masterStyle == null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.truvis.portfolio.domain.leaderboard;
+
+import java.math.BigDecimal;
+
+/**
+ * 순위표 한 줄
+ *
+ * @param rank       순위 (1부터, 수익률이 같으면 사용자 ID 문자열 역순)
+ * @param returnRate 평가수익률 (%)
+ */
+public record LeaderboardEntry(
+        long rank,
+        Long userId,
+        BigDecimal returnRate
+) {
+}
@@ -0,0 +1,45 @@
+package com.truvis.portfolio.domain.leaderboard;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 순위표 일괄 갱신분 (순위표 → 사용자 → 수익률)
+ * - 같은 사용자를 여러 번 넣으면 마지막 값만 남는다 (틱이 몰려도 갱신은 사용자당 1건)
+ * - 순위표에서 빼는 것은 NaN으로 표시 (넣기/빼기 순서가 섞여도 마지막 동작만 남게)
+ * - 저장에 실패하면 버리지 않고 다음 갱신분을 그대로 이어서 담는다
+ */
+public class LeaderboardUpdate {
+
+    private final Map<Leaderboard, Map<Long, Double>> changes = new HashMap<>();
+    private int size;
+
+    public void put(Leaderboard leaderboard, Long userId, double returnRate) {
+        record(leaderboard, userId, returnRate);
+    }
+
+    public void remove(Leaderboard leaderboard, Long userId) {
+        record(leaderboard, userId, Double.NaN);
+    }
+
+    private void record(Leaderboard leaderboard, Long userId, double value) {
+        if (changes.computeIfAbsent(leaderboard, key -> new HashMap<>()).put(userId, value) == null) {
+            size++;
+        }
+    }
+
+    /**
+     * @return 순위표 → (사용자 → 수익률, NaN이면 제외)
+     */
+    public Map<Leaderboard, Map<Long, Double>> getChanges() {
+        return changes;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,100 @@
+package com.truvis.portfolio.domain.performance;
+
+import java.util.Arrays;
+
+/**
+ * 포트폴리오 외부 현금 흐름 (일별 합계, 날짜 오름차순)
+ * - 매수 = 포트폴리오로 들어온 돈, 매도 = 포트폴리오에서 나간 돈
+ * - 같은 날 거래는 한 칸으로 합친다 → 수익률 계산은 객체 없이 배열만 훑는다
+ */
+public final class CashFlows {
+
+    private long[] days;
+    private double[] buys;
+    private double[] sells;
+    private int size;
+
+    public CashFlows() {
+        this(8);
+    }
+
+    public CashFlows(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.days = new long[capacity];
+        this.buys = new double[capacity];
+        this.sells = new double[capacity];
+    }
+
+    /**
+     * 거래 1건 추가 (날짜 오름차순으로 넣어야 한다)
+     *
+     * @param amount 매수 +, 매도 - (체결 금액)
+     */
+    public void add(long epochDay, double amount) {
+        if (size > 0 && epochDay < days[size - 1]) {
+            throw new IllegalArgumentException("현금 흐름은 날짜 순으로 추가해야 합니다: " + epochDay);
+        }
+
+        if (size == 0 || days[size - 1] != epochDay) {
+            if (size == days.length) {
+                int capacity = size * 2;
+                days = Arrays.copyOf(days, capacity);
+                buys = Arrays.copyOf(buys, capacity);
+                sells = Arrays.copyOf(sells, capacity);
+            }
+            days[size] = epochDay;
+            buys[size] = 0;
+            sells[size] = 0;
+            size++;
+        }
+
+        if (amount > 0) {
+            buys[size - 1] += amount;
+        } else {
+            sells[size - 1] -= amount;
+        }
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long dayAt(int index) {
+        return days[index];
+    }
+
+    /**
+     * 그날 매수 금액 합계 (0 이상)
+     */
+    public double buyAt(int index) {
+        return buys[index];
+    }
+
+    /**
+     * 그날 매도 금액 합계 (0 이상)
+     */
+    public double sellAt(int index) {
+        return sells[index];
+    }
+
+    /**
+     * day 이후(day 미포함) 첫 위치
+     */
+    public int upperBound(long day) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (days[mid] <= day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
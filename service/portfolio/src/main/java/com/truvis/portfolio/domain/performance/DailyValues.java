@@ -0,0 +1,72 @@
+package com.truvis.portfolio.domain.performance;
+
+import java.util.Arrays;
+
+/**
+ * 일별 평가금액 시계열 (날짜 오름차순, 장 마감 기준)
+ */
+public final class DailyValues {
+
+    private long[] days;
+    private double[] values;
+    private int size;
+
+    public DailyValues() {
+        this(16);
+    }
+
+    public DailyValues(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.days = new long[capacity];
+        this.values = new double[capacity];
+    }
+
+    /**
+     * 하루치 추가 (날짜 오름차순으로 넣어야 한다)
+     */
+    public void add(long epochDay, double value) {
+        if (size > 0 && epochDay <= days[size - 1]) {
+            throw new IllegalArgumentException("평가금액은 날짜 순으로 추가해야 합니다: " + epochDay);
+        }
+        if (size == days.length) {
+            days = Arrays.copyOf(days, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        days[size] = epochDay;
+        values[size] = value;
+        size++;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long dayAt(int index) {
+        return days[index];
+    }
+
+    public double valueAt(int index) {
+        return values[index];
+    }
+
+    /**
+     * day 이전(day 미포함) 마지막 위치, 없으면 -1
+     */
+    public int lastIndexBefore(long day) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (days[mid] < day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+}
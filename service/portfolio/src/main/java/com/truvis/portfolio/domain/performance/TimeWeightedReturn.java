@@ -0,0 +1,50 @@
+package com.truvis.portfolio.domain.performance;
+
+/**
+ * 시간가중수익률 (TWR)
+ *
+ * 평가일마다 구간 수익률을 구해서 곱한다 → 돈을 언제 얼마나 넣고 뺐는지와 무관한 운용 성과
+ * - 구간 배수 = (오늘 평가금액 + 오늘까지의 매도 금액) / (직전 평가금액 + 오늘까지의 매수 금액)
+ *   즉 매수는 구간 시작에, 매도는 구간 끝에 일어난 것으로 본다
+ *   (전량 매도한 날도 매도 금액으로 수익이 잡히고, 처음 매수한 날은 매수 금액이 기준이 된다)
+ * - 분모가 0인 구간(보유도 매수도 없음)은 건너뛴다
+ */
+public final class TimeWeightedReturn {
+
+    private TimeWeightedReturn() {
+    }
+
+    /**
+     * [fromDay, toDay] 구간 TWR
+     * - fromDay 이전 마지막 평가금액을 시작값으로, 없으면 0에서 시작 (최초 매수부터)
+     *
+     * @return 누적 수익률 (0.1 = 10%), 평가일이 없으면 NaN
+     */
+    public static double compute(DailyValues values, CashFlows flows, long fromDay, long toDay) {
+        int start = values.lastIndexBefore(fromDay);
+        double previous = start >= 0 ? values.valueAt(start) : 0;
+        int flow = start >= 0 ? flows.upperBound(values.dayAt(start)) : 0;
+
+        double growth = 1;
+        int periods = 0;
+        for (int i = start + 1; i < values.size() && values.dayAt(i) <= toDay; i++) {
+            long day = values.dayAt(i);
+            double bought = 0;
+            double sold = 0;
+            while (flow < flows.size() && flows.dayAt(flow) <= day) {
+                bought += flows.buyAt(flow);
+                sold += flows.sellAt(flow);
+                flow++;
+            }
+
+            double base = previous + bought;
+            if (base > 0) {
+                growth *= (values.valueAt(i) + sold) / base;
+                periods++;
+            }
+            previous = values.valueAt(i);
+        }
+
+        return periods == 0 ? Double.NaN : growth - 1;
+    }
+}
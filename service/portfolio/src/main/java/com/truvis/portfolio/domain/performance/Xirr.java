@@ -0,0 +1,147 @@
+package com.truvis.portfolio.domain.performance;
+
+/**
+ * 금액가중수익률 (XIRR, 연율)
+ *
+ * Σ amount_i / (1 + r)^((day_i - day_0) / 365) = 0 을 만족하는 r
+ * - 투자자 기준 부호: 넣은 돈(매수) -, 받은 돈(매도, 마지막 평가금액) +
+ * - 부호가 바뀌는 구간을 먼저 잡고, 그 안에서 뉴턴법 (구간을 벗어나거나 느리면 이분법으로 대신)
+ *   → 뉴턴법의 속도(보통 5~8회)와 이분법의 수렴 보장을 같이 가져간다
+ */
+public final class Xirr {
+
+    private static final double DAYS_PER_YEAR = 365.0;
+    private static final double MIN_RATE = -0.999999;
+    private static final double MAX_RATE = 1.0e6;
+    private static final double INITIAL_GUESS = 0.1;
+    private static final int MAX_ITERATIONS = 100;
+
+    private Xirr() {
+    }
+
+    /**
+     * [fromDay, toDay] 구간 XIRR
+     * - 시작: fromDay 이전 마지막 평가금액을 넣은 돈으로 (없으면 최초 매수부터)
+     * - 끝: 구간 마지막 평가금액을 받은 돈으로
+     *
+     * @return 연 수익률, 구간에 평가일이 없으면 NaN
+     */
+    public static double compute(DailyValues values, CashFlows flows, long fromDay, long toDay) {
+        int start = values.lastIndexBefore(fromDay);
+        int end = values.lastIndexBefore(toDay + 1);
+        if (end <= start) {
+            return Double.NaN;
+        }
+
+        long endDay = values.dayAt(end);
+        int firstFlow = start >= 0 ? flows.upperBound(values.dayAt(start)) : 0;
+        int lastFlow = flows.upperBound(endDay);
+
+        int capacity = lastFlow - firstFlow + 2;
+        long[] days = new long[capacity];
+        double[] amounts = new double[capacity];
+        int count = 0;
+
+        if (start >= 0) {
+            days[count] = values.dayAt(start);
+            amounts[count++] = -values.valueAt(start);
+        }
+        for (int i = firstFlow; i < lastFlow; i++) {
+            days[count] = flows.dayAt(i);
+            amounts[count++] = flows.sellAt(i) - flows.buyAt(i);
+        }
+        if (count > 0 && days[count - 1] == endDay) {
+            amounts[count - 1] += values.valueAt(end);
+        } else {
+            days[count] = endDay;
+            amounts[count++] = values.valueAt(end);
+        }
+
+        return solve(days, amounts, count);
+    }
+
+    /**
+     * @param days    날짜 (epochDay, 오름차순)
+     * @param amounts 금액 (투자자 기준 부호)
+     * @return 연 수익률 (0.1 = 10%), 해가 없으면 NaN (유입/유출 한쪽만 있는 경우 등)
+     */
+    public static double solve(long[] days, double[] amounts, int count) {
+        if (count < 2 || !hasBothSigns(amounts, count)) {
+            return Double.NaN;
+        }
+
+        double scale = 0;
+        for (int i = 0; i < count; i++) {
+            scale += Math.abs(amounts[i]);
+        }
+        double tolerance = scale * 1e-12;
+
+        // 1. 부호가 바뀌는 구간 찾기
+        double low = MIN_RATE;
+        double high = 1.0;
+        double npvLow = npv(days, amounts, count, low);
+        double npvHigh = npv(days, amounts, count, high);
+        while (npvLow * npvHigh > 0 && high < MAX_RATE) {
+            low = high;
+            npvLow = npvHigh;
+            high = high * 10;
+            npvHigh = npv(days, amounts, count, high);
+        }
+        if (Double.isNaN(npvLow) || Double.isNaN(npvHigh) || npvLow * npvHigh > 0) {
+            return Double.NaN;
+        }
+
+        // 2. 구간 안에서 뉴턴법 + 이분법
+        double rate = INITIAL_GUESS > low && INITIAL_GUESS < high ? INITIAL_GUESS : (low + high) / 2;
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            double value = 0;
+            double derivative = 0;
+            double logBase = Math.log1p(rate);
+            for (int i = 0; i < count; i++) {
+                double years = (days[i] - days[0]) / DAYS_PER_YEAR;
+                double discounted = amounts[i] * Math.exp(-years * logBase);
+                value += discounted;
+                derivative -= years * discounted / (1 + rate);
+            }
+
+            if (Math.abs(value) <= tolerance) {
+                return rate;
+            }
+            if ((value > 0) == (npvLow > 0)) {
+                low = rate;
+                npvLow = value;
+            } else {
+                high = rate;
+            }
+
+            double next = rate - value / derivative;
+            if (!(next > low && next < high)) {
+                next = (low + high) / 2;
+            }
+            if (Math.abs(next - rate) <= 1e-12 * (1 + Math.abs(rate))) {
+                return next;
+            }
+            rate = next;
+        }
+        return rate;
+    }
+
+    private static double npv(long[] days, double[] amounts, int count, double rate) {
+        double logBase = Math.log1p(rate);
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += amounts[i] * Math.exp(-(days[i] - days[0]) / DAYS_PER_YEAR * logBase);
+        }
+        return sum;
+    }
+
+    private static boolean hasBothSigns(double[] amounts, int count) {
+        boolean positive = false;
+        boolean negative = false;
+        for (int i = 0; i < count; i++) {
+            positive |= amounts[i] > 0;
+            negative |= amounts[i] < 0;
+        }
+        return positive && negative;
+    }
+}
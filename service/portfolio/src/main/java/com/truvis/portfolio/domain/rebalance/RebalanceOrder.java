@@ -0,0 +1,19 @@
+package com.truvis.portfolio.domain.rebalance;
+
+import com.truvis.transaction.domain.TransactionType;
+
+import java.math.BigDecimal;
+
+/**
+ * 리밸런싱 주문 1건 (현재가 기준 예상 금액)
+ *
+ * @param amount 현재가 × 수량 (원, 수수료 제외)
+ */
+public record RebalanceOrder(
+        String stockCode,
+        TransactionType type,
+        long quantity,
+        BigDecimal price,
+        BigDecimal amount
+) {
+}
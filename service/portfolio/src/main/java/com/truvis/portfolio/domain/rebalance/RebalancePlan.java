@@ -0,0 +1,58 @@
+package com.truvis.portfolio.domain.rebalance;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * 포트폴리오 1개의 리밸런싱 계획 (매도 주문 먼저, 그다음 매수 주문)
+ *
+ * @param masterStyle     목표 비중을 가져온 거장 스타일 (직접 정한 비중이면 null)
+ * @param totalValue      총액 (현재가 기준 보유 평가금액 + 주문 가능 현금, 원)
+ * @param cash            주문 가능 현금 (원)
+ * @param cashAfter       주문 후 남는 현금 (수수료/세금 차감 후, 원)
+ * @param holdingCount    주문 후 보유 종목 수
+ * @param deviationBefore 주문 전 목표 대비 괴리 (%, Σ|평가금액 - 목표 금액| ÷ 총액)
+ * @param deviationAfter  주문 후 목표 대비 괴리 (%)
+ */
+public record RebalancePlan(
+        Long userId,
+        String masterStyle,
+        BigDecimal totalValue,
+        BigDecimal cash,
+        BigDecimal cashAfter,
+        int holdingCount,
+        BigDecimal deviationBefore,
+        BigDecimal deviationAfter,
+        List<RebalanceOrder> orders
+) {
+
+    private static final int SCALE = 2;
+
+    /**
+     * @param deviationBefore 0.1 = 10%
+     * @param deviationAfter  0.1 = 10%
+     */
+    public static RebalancePlan of(Long userId, String masterStyle, double totalValue, double cash,
+                                   double cashAfter, int holdingCount, double deviationBefore,
+                                   double deviationAfter, List<RebalanceOrder> orders) {
+        return new RebalancePlan(
+                userId,
+                masterStyle,
+                toScaled(totalValue),
+                toScaled(cash),
+                toScaled(cashAfter),
+                holdingCount,
+                toScaled(deviationBefore * 100),
+                toScaled(deviationAfter * 100),
+                List.copyOf(orders));
+    }
+
+    public boolean hasOrders() {
+        return !orders.isEmpty();
+    }
+
+    private static BigDecimal toScaled(double value) {
+        return BigDecimal.valueOf(value).setScale(SCALE, RoundingMode.HALF_UP);
+    }
+}
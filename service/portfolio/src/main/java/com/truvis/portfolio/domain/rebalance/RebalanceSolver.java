@@ -0,0 +1,386 @@
+package com.truvis.portfolio.domain.rebalance;
+
+/**
+ * 목표 비중 리밸런싱 수량 계산 (종목 수 크기의 기본형 배열만 사용, 스레드 간 공유 가능)
+ *
+ * - 목표 평가금액 = 목표 비중 × 총액 (거래 가능한 보유 평가금액 + 현금)
+ * - 1단계 (탐욕): 목표와의 차이가 허용 범위(driftBand × 총액) 안인 종목은 건드리지 않는다 → 주문 수 최소화
+ *   범위를 벗어난 종목만 목표 수량(주문 단위로 내림)으로 맞춘다: 매도 먼저 → 들어온 현금으로 부족분이 큰 순서대로 매수
+ * - 2단계 (국소 개선): 주문이 있는 종목끼리 한 단위씩 옮겨 목표와의 차이(제곱합)가 줄어들면 반영, 더 줄지 않을 때까지
+ *   (남은 현금으로 한 단위 더 매수 / 한 종목을 한 단위 덜 사거나 더 팔아서 다른 종목 한 단위 매수)
+ * - 보유 종목 수 한도: 목표 종목이 많으면 비중이 큰 순으로 남기고 나머지는 목표 0 (보유 중이면 전량 매도)
+ * - 현재가가 없는 종목은 거래하지 않고 그대로 둔다 (총액에서 빠지고, 보유 중이면 한도에는 센다)
+ * - 매수는 금액 × buyFeeRate 만큼 현금이 더 들고, 매도는 sellFeeRate 만큼 덜 들어온다 → 현금은 음수가 되지 않는다
+ */
+public final class RebalanceSolver {
+
+    private static final int MAX_IMPROVEMENT_MOVES = 10_000;
+
+    private final int maxHoldings;
+    private final double driftBand;
+    private final double buyFeeRate;
+    private final double sellFeeRate;
+
+    /**
+     * @param driftBand   목표 대비 허용 괴리 (총액 대비, 0.01 = 1%)
+     * @param buyFeeRate  매수 수수료율
+     * @param sellFeeRate 매도 수수료율 + 거래세율
+     */
+    public RebalanceSolver(int maxHoldings, double driftBand, double buyFeeRate, double sellFeeRate) {
+        if (maxHoldings <= 0) {
+            throw new IllegalArgumentException("보유 종목 한도는 1 이상이어야 합니다");
+        }
+        if (driftBand < 0 || buyFeeRate < 0 || sellFeeRate < 0 || sellFeeRate >= 1) {
+            throw new IllegalArgumentException("허용 괴리와 수수료율은 0 이상이어야 합니다");
+        }
+        this.maxHoldings = maxHoldings;
+        this.driftBand = driftBand;
+        this.buyFeeRate = buyFeeRate;
+        this.sellFeeRate = sellFeeRate;
+    }
+
+    /**
+     * @param shares        현재 보유 수량
+     * @param prices        현재가 (0 이하면 거래하지 않음)
+     * @param lotSizes      주문 단위 수량 (1 이상)
+     * @param targetWeights 목표 비중 (합계 1 이하, 나머지는 현금)
+     * @param cash          주문에 쓸 수 있는 현금
+     */
+    public Solution solve(long[] shares, double[] prices, int[] lotSizes, double[] targetWeights, double cash) {
+        int n = shares.length;
+        if (prices.length != n || lotSizes.length != n || targetWeights.length != n) {
+            throw new IllegalArgumentException("종목별 배열 길이가 서로 다릅니다");
+        }
+        if (!(cash >= 0)) {
+            throw new IllegalArgumentException("주문 가능 현금은 0 이상이어야 합니다");
+        }
+
+        double total = cash;
+        int fixedHoldings = 0;
+        for (int i = 0; i < n; i++) {
+            if (lotSizes[i] <= 0) {
+                throw new IllegalArgumentException("주문 단위 수량은 1 이상이어야 합니다");
+            }
+            if (prices[i] > 0) {
+                total += shares[i] * prices[i];
+            } else if (shares[i] > 0) {
+                fixedHoldings++;
+            }
+        }
+
+        double[] targets = targetValues(shares, prices, targetWeights, total, maxHoldings - fixedHoldings);
+        return new Run(shares, prices, lotSizes, targets, cash, total, fixedHoldings).solve();
+    }
+
+    /**
+     * 한도 안에서 비중이 큰 순으로 목표 금액 배정 (같은 비중이면 이미 보유 중인 종목 먼저)
+     */
+    private static double[] targetValues(long[] shares, double[] prices, double[] weights, double total, int slots) {
+        int n = shares.length;
+        int[] ranked = new int[n];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (weights[i] > 0 && prices[i] > 0) {
+                ranked[count++] = i;
+            }
+        }
+
+        // 목표 종목은 많아야 수십 개 → 삽입 정렬
+        for (int a = 1; a < count; a++) {
+            int symbol = ranked[a];
+            int b = a;
+            while (b > 0 && ahead(symbol, ranked[b - 1], shares, weights)) {
+                ranked[b] = ranked[b - 1];
+                b--;
+            }
+            ranked[b] = symbol;
+        }
+
+        double[] targets = new double[n];
+        for (int a = 0; a < Math.min(count, Math.max(0, slots)); a++) {
+            int symbol = ranked[a];
+            targets[symbol] = weights[symbol] * total;
+        }
+        return targets;
+    }
+
+    private static boolean ahead(int symbol, int other, long[] shares, double[] weights) {
+        if (weights[symbol] != weights[other]) {
+            return weights[symbol] > weights[other];
+        }
+        return shares[symbol] > 0 && shares[other] == 0;
+    }
+
+    /**
+     * 계산 1번의 작업 상태 (solve 호출마다 새로 만든다)
+     */
+    private final class Run {
+
+        private final long[] shares;
+        private final double[] prices;
+        private final int[] lotSizes;
+        private final double[] targets;
+        private final double total;
+        private final int n;
+
+        private final long[] next;
+        private final boolean[] active;  // 허용 범위를 벗어나 주문 대상이 된 종목
+        private double cash;
+        private int holdings;
+
+        Run(long[] shares, double[] prices, int[] lotSizes, double[] targets, double cash, double total,
+            int fixedHoldings) {
+            this.shares = shares;
+            this.prices = prices;
+            this.lotSizes = lotSizes;
+            this.targets = targets;
+            this.total = total;
+            this.n = shares.length;
+            this.next = shares.clone();
+            this.active = new boolean[n];
+            this.cash = cash;
+
+            int tradable = 0;
+            for (int i = 0; i < n; i++) {
+                if (prices[i] > 0 && shares[i] > 0) {
+                    tradable++;
+                }
+            }
+            this.holdings = fixedHoldings + tradable;
+        }
+
+        Solution solve() {
+            double deviationBefore = deviation();
+            if (total > 0) {
+                long[] desired = desiredShares();
+                sellDown(desired);
+                buyUp(desired);
+                improve();
+            }
+
+            long[] changes = new long[n];
+            for (int i = 0; i < n; i++) {
+                changes[i] = next[i] - shares[i];
+            }
+            return new Solution(changes, cash, total, holdings, deviationBefore, deviation());
+        }
+
+        /**
+         * 허용 범위를 벗어난 종목의 목표 수량 (범위 안이면 현재 수량 그대로)
+         */
+        private long[] desiredShares() {
+            long[] desired = shares.clone();
+            double band = driftBand * total;
+            for (int i = 0; i < n; i++) {
+                if (prices[i] <= 0) {
+                    continue;
+                }
+                double value = shares[i] * prices[i];
+                boolean exit = targets[i] == 0 && shares[i] > 0;
+                if (!exit && Math.abs(value - targets[i]) <= band) {
+                    continue;
+                }
+                long lots = (long) Math.floor(targets[i] / (prices[i] * lotSizes[i]));
+                desired[i] = lots * lotSizes[i];
+                active[i] = desired[i] != shares[i] || targets[i] > 0;
+            }
+            return desired;
+        }
+
+        private void sellDown(long[] desired) {
+            for (int i = 0; i < n; i++) {
+                if (desired[i] < shares[i]) {
+                    cash += (shares[i] - desired[i]) * prices[i] * (1 - sellFeeRate);
+                    next[i] = desired[i];
+                    if (next[i] == 0) {
+                        holdings--;
+                    }
+                }
+            }
+        }
+
+        /**
+         * 부족분(목표 - 현재 평가금액)이 큰 종목부터 살 수 있는 만큼 매수
+         */
+        private void buyUp(long[] desired) {
+            int[] buys = new int[n];
+            int count = 0;
+            for (int i = 0; i < n; i++) {
+                if (desired[i] > shares[i]) {
+                    int position = count++;
+                    double shortfall = shortfall(i);
+                    while (position > 0 && shortfall(buys[position - 1]) < shortfall) {
+                        buys[position] = buys[position - 1];
+                        position--;
+                    }
+                    buys[position] = i;
+                }
+            }
+
+            for (int a = 0; a < count; a++) {
+                int i = buys[a];
+                if (next[i] == 0 && holdings >= maxHoldings) {
+                    continue;
+                }
+                long wantedLots = (desired[i] - next[i]) / lotSizes[i];
+                long affordableLots = (long) Math.floor(cash / lotCost(i));
+                long lots = Math.min(wantedLots, affordableLots);
+                if (lots > 0) {
+                    buy(i, lots);
+                }
+            }
+        }
+
+        /**
+         * 목표와의 차이 제곱합이 줄어드는 한 단위 이동을 가장 효과가 큰 것부터 반영
+         */
+        private void improve() {
+            for (int move = 0; move < MAX_IMPROVEMENT_MOVES; move++) {
+                if (!buyWithCash() && !swapLot()) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 남은 현금으로 한 단위 더 매수
+         */
+        private boolean buyWithCash() {
+            int best = -1;
+            double bestGain = 0;
+            for (int i = 0; i < n; i++) {
+                if (!canBuyLot(i) || lotCost(i) > cash) {
+                    continue;
+                }
+                double gain = buyGain(i);
+                if (gain > bestGain) {
+                    best = i;
+                    bestGain = gain;
+                }
+            }
+            if (best < 0) {
+                return false;
+            }
+            buy(best, 1);
+            return true;
+        }
+
+        /**
+         * j를 한 단위 팔아 생긴 현금으로 i를 한 단위 매수 (둘 다 주문 대상 종목일 때만)
+         */
+        private boolean swapLot() {
+            int bestSell = -1;
+            int bestBuy = -1;
+            double bestGain = 0;
+            for (int j = 0; j < n; j++) {
+                if (!active[j] || next[j] < lotSizes[j]) {
+                    continue;
+                }
+                double proceeds = lotSize(j) * (1 - sellFeeRate);
+                double sellGain = sellGain(j);
+                boolean closes = next[j] == lotSizes[j];
+
+                for (int i = 0; i < n; i++) {
+                    if (i == j || lotCost(i) > cash + proceeds) {
+                        continue;
+                    }
+                    if (!active[i] || targets[i] <= 0 || (next[i] == 0 && !closes && holdings >= maxHoldings)) {
+                        continue;
+                    }
+                    double gain = sellGain + buyGain(i);
+                    if (gain > bestGain) {
+                        bestSell = j;
+                        bestBuy = i;
+                        bestGain = gain;
+                    }
+                }
+            }
+            if (bestSell < 0) {
+                return false;
+            }
+            sell(bestSell);
+            buy(bestBuy, 1);
+            return true;
+        }
+
+        private boolean canBuyLot(int i) {
+            return active[i] && targets[i] > 0 && (next[i] > 0 || holdings < maxHoldings);
+        }
+
+        private void buy(int i, long lots) {
+            if (next[i] == 0) {
+                holdings++;
+            }
+            next[i] += lots * lotSizes[i];
+            cash = Math.max(0, cash - lots * lotCost(i));
+        }
+
+        private void sell(int j) {
+            next[j] -= lotSizes[j];
+            cash += lotSize(j) * (1 - sellFeeRate);
+            if (next[j] == 0) {
+                holdings--;
+            }
+        }
+
+        // 한 단위 매수 시 차이 제곱합 감소량
+        private double buyGain(int i) {
+            double gap = targets[i] - next[i] * prices[i];
+            double after = gap - lotSize(i);
+            return gap * gap - after * after;
+        }
+
+        // 한 단위 매도 시 차이 제곱합 감소량 (목표보다 적게 들고 있으면 음수)
+        private double sellGain(int j) {
+            double gap = next[j] * prices[j] - targets[j];
+            double after = gap - lotSize(j);
+            return gap * gap - after * after;
+        }
+
+        private double shortfall(int i) {
+            return targets[i] - shares[i] * prices[i];
+        }
+
+        private double lotSize(int i) {
+            return lotSizes[i] * prices[i];
+        }
+
+        private double lotCost(int i) {
+            return lotSize(i) * (1 + buyFeeRate);
+        }
+
+        /**
+         * 목표 대비 괴리 = Σ|평가금액 - 목표 금액| ÷ 총액 (거래 가능한 종목만)
+         */
+        private double deviation() {
+            if (total <= 0) {
+                return 0;
+            }
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                if (prices[i] > 0) {
+                    sum += Math.abs(next[i] * prices[i] - targets[i]);
+                }
+            }
+            return sum / total;
+        }
+    }
+
+    /**
+     * @param quantityChanges 종목별 수량 변화 (매수 +, 매도 -, 0 = 주문 없음)
+     * @param cash            주문 후 남는 현금 (수수료 차감 후)
+     * @param totalValue      총액 (거래 가능한 보유 평가금액 + 현금)
+     * @param holdingCount    주문 후 보유 종목 수 (현재가가 없어 그대로 둔 종목 포함)
+     * @param deviationBefore 주문 전 목표 대비 괴리 (0.1 = 10%)
+     * @param deviationAfter  주문 후 목표 대비 괴리
+     */
+    public record Solution(
+            long[] quantityChanges,
+            double cash,
+            double totalValue,
+            int holdingCount,
+            double deviationBefore,
+            double deviationAfter
+    ) {
+    }
+}
@@ -0,0 +1,178 @@
+package com.truvis.portfolio.domain.risk;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 종목 수익률 공분산 행렬 (표본 공분산, n × n 행 우선 double[])
+ *
+ * 계산: 종목마다 평균을 뺀 행렬 X로 Σ = X·Xᵀ / (T - 1)
+ * - 대칭이므로 아래 삼각 타일(BLOCK × BLOCK)만 계산하고 위쪽은 복사
+ * - 타일 안에서는 거래일을 DAY_BLOCK 단위로 끊어 두 종목 묶음의 같은 구간을 캐시에 올려둔 채 내적
+ * - 타일끼리는 쓰는 칸이 겹치지 않는다 → fork-join으로 타일 구간을 나눠 병렬 계산 (잠금 없음)
+ */
+public final class CovarianceMatrix {
+
+    private static final int BLOCK = 64;
+    private static final int DAY_BLOCK = 256;
+    private static final int TILES_PER_TASK = 4;
+
+    private final int size;
+    private final double[] values;
+
+    private CovarianceMatrix(int size, double[] values) {
+        this.size = size;
+        this.values = values;
+    }
+
+    /**
+     * 공분산 추정 (거래일이 2일 미만이면 0 행렬)
+     */
+    public static CovarianceMatrix estimate(ReturnMatrix returns, ForkJoinPool pool) {
+        int n = returns.symbolCount();
+        int days = returns.days();
+        double[] covariance = new double[n * n];
+        if (n == 0 || days < 2) {
+            return new CovarianceMatrix(n, covariance);
+        }
+
+        double[] centered = center(returns.values(), n, days);
+
+        int blocks = (n + BLOCK - 1) / BLOCK;
+        int[] tiles = new int[blocks * (blocks + 1) / 2];
+        int tileCount = 0;
+        for (int rowBlock = 0; rowBlock < blocks; rowBlock++) {
+            for (int columnBlock = 0; columnBlock <= rowBlock; columnBlock++) {
+                tiles[tileCount++] = rowBlock * blocks + columnBlock;
+            }
+        }
+
+        pool.invoke(new TileTask(centered, covariance, n, days, blocks, tiles, 0, tileCount));
+        return new CovarianceMatrix(n, covariance);
+    }
+
+    private static double[] center(double[] values, int n, int days) {
+        double[] centered = new double[values.length];
+        for (int i = 0; i < n; i++) {
+            int offset = i * days;
+            double sum = 0;
+            for (int t = 0; t < days; t++) {
+                sum += values[offset + t];
+            }
+            double mean = sum / days;
+            for (int t = 0; t < days; t++) {
+                centered[offset + t] = values[offset + t] - mean;
+            }
+        }
+        return centered;
+    }
+
+    /**
+     * 타일 구간 [from, to) 계산 (TILES_PER_TASK 이하가 될 때까지 반으로 나눈다)
+     */
+    private static final class TileTask extends RecursiveAction {
+
+        private final double[] centered;
+        private final double[] covariance;
+        private final int n;
+        private final int days;
+        private final int blocks;
+        private final int[] tiles;
+        private final int from;
+        private final int to;
+
+        TileTask(double[] centered, double[] covariance, int n, int days, int blocks, int[] tiles, int from, int to) {
+            this.centered = centered;
+            this.covariance = covariance;
+            this.n = n;
+            this.days = days;
+            this.blocks = blocks;
+            this.tiles = tiles;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TILES_PER_TASK) {
+                double[] sums = new double[BLOCK * BLOCK];
+                for (int tile = from; tile < to; tile++) {
+                    computeTile(tiles[tile] / blocks, tiles[tile] % blocks, sums);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new TileTask(centered, covariance, n, days, blocks, tiles, from, mid),
+                    new TileTask(centered, covariance, n, days, blocks, tiles, mid, to));
+        }
+
+        private void computeTile(int rowBlock, int columnBlock, double[] sums) {
+            int rowStart = rowBlock * BLOCK;
+            int rowEnd = Math.min(rowStart + BLOCK, n);
+            int columnStart = columnBlock * BLOCK;
+            int columnEnd = Math.min(columnStart + BLOCK, n);
+            Arrays.fill(sums, 0);
+
+            for (int dayStart = 0; dayStart < days; dayStart += DAY_BLOCK) {
+                int dayEnd = Math.min(dayStart + DAY_BLOCK, days);
+                for (int i = rowStart; i < rowEnd; i++) {
+                    int rowOffset = i * days;
+                    int sumOffset = (i - rowStart) * BLOCK - columnStart;
+                    int lastColumn = rowBlock == columnBlock ? i + 1 : columnEnd;
+                    for (int j = columnStart; j < lastColumn; j++) {
+                        int columnOffset = j * days;
+                        double dot = 0;
+                        for (int t = dayStart; t < dayEnd; t++) {
+                            dot += centered[rowOffset + t] * centered[columnOffset + t];
+                        }
+                        sums[sumOffset + j] += dot;
+                    }
+                }
+            }
+
+            double divisor = days - 1;
+            for (int i = rowStart; i < rowEnd; i++) {
+                int sumOffset = (i - rowStart) * BLOCK - columnStart;
+                int lastColumn = rowBlock == columnBlock ? i + 1 : columnEnd;
+                for (int j = columnStart; j < lastColumn; j++) {
+                    double value = sums[sumOffset + j] / divisor;
+                    covariance[i * n + j] = value;
+                    covariance[j * n + i] = value;
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double get(int i, int j) {
+        return values[i * size + j];
+    }
+
+    /**
+     * 포트폴리오 분산 wᵀΣw
+     */
+    public double variance(int[] symbolIndexes, double[] weights, int count) {
+        double variance = 0;
+        for (int a = 0; a < count; a++) {
+            variance += weights[a] * covarianceWith(symbolIndexes, weights, count, symbolIndexes[a]);
+        }
+        return Math.max(0, variance);
+    }
+
+    /**
+     * 포트폴리오와 종목 j의 공분산 (Σw)_j
+     */
+    public double covarianceWith(int[] symbolIndexes, double[] weights, int count, int j) {
+        int rowOffset = j * size;
+        double sum = 0;
+        for (int a = 0; a < count; a++) {
+            sum += weights[a] * values[rowOffset + symbolIndexes[a]];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,66 @@
+package com.truvis.portfolio.domain.risk;
+
+/**
+ * 종목별 일간 수익률 행렬 (종목 × 거래일, 단순 수익률)
+ *
+ * - 1차원 double[] 하나에 종목 순서대로 이어 붙인다 (returns[종목 × days + 일])
+ *   → 종목 하나의 시계열이 메모리에 연속 → 공분산 내적/포트폴리오 합산이 한 줄씩 순차 접근
+ * - 모든 종목이 같은 거래일 달력을 쓴다 (거래가 없던 날은 0)
+ */
+public final class ReturnMatrix {
+
+    private final String[] symbols;
+    private final double[] returns;
+    private final int days;
+
+    public ReturnMatrix(String[] symbols, double[] returns, int days) {
+        if (returns.length != symbols.length * days) {
+            throw new IllegalArgumentException("수익률 행렬 크기가 맞지 않습니다: symbols=" + symbols.length
+                    + ", days=" + days + ", length=" + returns.length);
+        }
+        this.symbols = symbols;
+        this.returns = returns;
+        this.days = days;
+    }
+
+    public int symbolCount() {
+        return symbols.length;
+    }
+
+    public int days() {
+        return days;
+    }
+
+    public String symbol(int index) {
+        return symbols[index];
+    }
+
+    public double get(int symbolIndex, int day) {
+        return returns[symbolIndex * days + day];
+    }
+
+    /**
+     * 행렬 원본 (같은 패키지의 계산용, 복사 없음)
+     */
+    double[] values() {
+        return returns;
+    }
+
+    /**
+     * 비중 고정 포트폴리오의 일간 수익률 (Σ w_i × r_i,t)
+     *
+     * @param symbolIndexes 종목 위치
+     * @param weights       비중 (합 1)
+     */
+    public double[] portfolioReturns(int[] symbolIndexes, double[] weights, int count) {
+        double[] result = new double[days];
+        for (int a = 0; a < count; a++) {
+            double weight = weights[a];
+            int offset = symbolIndexes[a] * days;
+            for (int t = 0; t < days; t++) {
+                result[t] += weight * returns[offset + t];
+            }
+        }
+        return result;
+    }
+}
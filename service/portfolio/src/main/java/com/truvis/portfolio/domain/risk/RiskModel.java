@@ -0,0 +1,70 @@
+package com.truvis.portfolio.domain.risk;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 하루 동안 모든 포트폴리오가 같이 쓰는 위험 모형 (불변)
+ * - 종목 수익률 행렬, 공분산 행렬, 종목별 마지막 종가, 시장 지표 종목 위치
+ */
+public final class RiskModel {
+
+    public static final int NO_SYMBOL = -1;
+
+    private final LocalDate tradingDay;
+    private final ReturnMatrix returns;
+    private final CovarianceMatrix covariance;
+    private final double[] lastCloses;
+    private final int benchmarkIndex;
+    private final Map<String, Integer> indexBySymbol;
+
+    public RiskModel(LocalDate tradingDay, ReturnMatrix returns, CovarianceMatrix covariance,
+                     double[] lastCloses, String benchmarkSymbol) {
+        this.tradingDay = tradingDay;
+        this.returns = returns;
+        this.covariance = covariance;
+        this.lastCloses = lastCloses;
+
+        this.indexBySymbol = new HashMap<>(returns.symbolCount() * 2);
+        for (int i = 0; i < returns.symbolCount(); i++) {
+            indexBySymbol.put(returns.symbol(i), i);
+        }
+        this.benchmarkIndex = indexOf(benchmarkSymbol);
+    }
+
+    /**
+     * 종목 위치 (모형에 없으면 NO_SYMBOL)
+     */
+    public int indexOf(String symbol) {
+        Integer index = symbol == null ? null : indexBySymbol.get(symbol);
+        return index == null ? NO_SYMBOL : index;
+    }
+
+    public LocalDate getTradingDay() {
+        return tradingDay;
+    }
+
+    public ReturnMatrix getReturns() {
+        return returns;
+    }
+
+    public CovarianceMatrix getCovariance() {
+        return covariance;
+    }
+
+    /**
+     * 마지막 종가 (원)
+     */
+    public double lastClose(int index) {
+        return lastCloses[index];
+    }
+
+    public int getBenchmarkIndex() {
+        return benchmarkIndex;
+    }
+
+    public int getSymbolCount() {
+        return returns.symbolCount();
+    }
+}
@@ -0,0 +1,46 @@
+package com.truvis.portfolio.domain.risk;
+
+import java.util.Arrays;
+
+/**
+ * 1일 VaR (신뢰수준 95%, 손실률로 반환 - 0.02 = 평가금액의 2%)
+ *
+ * - 역사적 VaR: 과거 일간 수익률 분포의 하위 5% 분위수 (분위수 사이는 선형 보간)
+ * - 모수적 VaR: 정규분포 가정, 평균 0으로 보고 z × σ (하루 단위에서는 평균이 σ에 비해 무시할 만큼 작다)
+ */
+public final class ValueAtRisk {
+
+    public static final double CONFIDENCE = 0.95;
+
+    // 표준정규분포 95% 분위수
+    private static final double Z_95 = 1.6448536269514722;
+
+    private ValueAtRisk() {
+    }
+
+    /**
+     * @param dailyReturns 일간 수익률 (정렬하지 않은 원본, 변경하지 않는다)
+     * @return 손실률 (이익 구간이면 0), 표본이 없으면 NaN
+     */
+    public static double historical(double[] dailyReturns) {
+        if (dailyReturns.length == 0) {
+            return Double.NaN;
+        }
+
+        double[] sorted = dailyReturns.clone();
+        Arrays.sort(sorted);
+
+        double position = (1 - CONFIDENCE) * (sorted.length - 1);
+        int lower = (int) Math.floor(position);
+        int upper = Math.min(lower + 1, sorted.length - 1);
+        double quantile = sorted[lower] + (sorted[upper] - sorted[lower]) * (position - lower);
+        return Math.max(0, -quantile);
+    }
+
+    /**
+     * @param dailyVolatility 일간 수익률 표준편차
+     */
+    public static double parametric(double dailyVolatility) {
+        return Z_95 * dailyVolatility;
+    }
+}
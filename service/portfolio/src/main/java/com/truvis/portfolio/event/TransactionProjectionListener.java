@@ -0,0 +1,58 @@
+package com.truvis.portfolio.event;
+
+import com.truvis.portfolio.application.HoldingsProjector;
+import com.truvis.portfolio.application.HoldingsRebuildJob;
+import com.truvis.portfolio.application.PortfolioWriteRetry;
+import com.truvis.portfolio.domain.TransactionRecord;
+import com.truvis.transaction.event.TransactionCompletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 거래 완료 → 포트폴리오 보유 종목 반영
+ * - 거래가 커밋된 뒤에만 반영 (롤백된 거래는 반영하지 않음, 재계산 시 이력 조회 가능)
+ * - 비동기로 처리해서 거래 응답을 늦추지 않는다
+ * - 같은 사용자 이벤트가 동시에 처리되면 버전 충돌 → 진 쪽만 재시도 (PortfolioWriteRetry)
+ * - 재시도를 다 써도 실패하면 그 사용자를 재구성 대기열에 올린다 (거래 이력으로 다시 계산해서 빠짐없이 반영)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class TransactionProjectionListener {
+
+    private final HoldingsProjector holdingsProjector;
+    private final PortfolioWriteRetry writeRetry;
+    private final HoldingsRebuildJob rebuildJob;
+
+    @Async
+    @TransactionalEventListener
+    public void handleTransactionCompleted(TransactionCompletedEvent event) {
+        if (event.getTransactionId() == null) {
+            log.warn("⚠️ 거래 ID 없는 이벤트는 반영하지 않습니다: {}", event.getDescription());
+            return;
+        }
+
+        TransactionRecord record = new TransactionRecord(
+                event.getTransactionId(),
+                event.getStockCode(),
+                event.getQuantityChange(),
+                event.getPrice(),
+                event.getExecutedAt()
+        );
+
+        try {
+            var result = writeRetry.execute(event.getUserId(),
+                    () -> holdingsProjector.apply(event.getUserId(), record));
+            log.info("📊 포트폴리오 반영: userId={}, stockCode={}, change={}, result={}",
+                    event.getUserId(), event.getStockCode(), event.getQuantityChange(),
+                    result != null ? result : "중복");
+        } catch (Exception e) {
+            log.error("❌ 포트폴리오 반영 실패 → 재구성 대기: transactionId={}, error={}",
+                    event.getTransactionId(), e.getMessage(), e);
+            rebuildJob.requestRebuild(event.getUserId());
+        }
+    }
+}
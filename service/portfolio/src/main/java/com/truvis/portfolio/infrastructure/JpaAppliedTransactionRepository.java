@@ -0,0 +1,43 @@
+package com.truvis.portfolio.infrastructure;
+
+import com.truvis.portfolio.domain.AppliedTransaction;
+import com.truvis.portfolio.repository.AppliedTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+interface AppliedTransactionJpaRepository extends JpaRepository<AppliedTransaction, Long> {
+}
+
+/**
+ * 반영 거래 ID 저장소 JPA 구현 (Adapter)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JpaAppliedTransactionRepository implements AppliedTransactionRepository {
+
+    private final AppliedTransactionJpaRepository jpaRepository;
+
+    @Override
+    public boolean isApplied(Long transactionId) {
+        return jpaRepository.existsById(transactionId);
+    }
+
+    @Override
+    public void markApplied(Long portfolioId, Collection<Long> transactionIds) {
+        Set<Long> existing = new HashSet<>();
+        jpaRepository.findAllById(transactionIds)
+                .forEach(applied -> existing.add(applied.getTransactionId()));
+
+        List<AppliedTransaction> created = transactionIds.stream()
+                .filter(id -> !existing.contains(id))
+                .map(id -> new AppliedTransaction(id, portfolioId))
+                .toList();
+        jpaRepository.saveAll(created);
+    }
+}
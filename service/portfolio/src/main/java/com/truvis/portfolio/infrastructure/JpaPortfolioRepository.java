@@ -1,14 +1,96 @@
 package com.truvis.portfolio.infrastructure;
 
+import com.truvis.portfolio.domain.Portfolio;
+import com.truvis.portfolio.repository.PortfolioRepository;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
 /**
- * 포트폴리오 리포지토리 JPA 구현
- * - PortfolioRepository 인터페이스 구현
- * 
- * TODO: 구현 필요
- * - JpaRepository 상속
- * - Entity ↔ Domain 변환 로직
+ * JPA Repository 인터페이스
+ * - Spring Data JPA가 자동으로 구현체 생성
  */
-public class JpaPortfolioRepository {
-    
-    // TODO: JPA Repository 구현
+interface PortfolioJpaRepository extends JpaRepository<Portfolio, Long> {
+
+    /**
+     * 사용자 포트폴리오 조회 (보유 종목까지 한 번에)
+     */
+    @EntityGraph(attributePaths = "holdings")
+    Optional<Portfolio> findByUserId(Long userId);
+
+    /**
+     * 갱신용 조회 - 바뀐 게 보유 종목 행뿐이어도 포트폴리오 버전을 올려서 동시 갱신을 감지
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @EntityGraph(attributePaths = "holdings")
+    Optional<Portfolio> findForWriteByUserId(Long userId);
+
+    @Query("SELECT p.userId FROM Portfolio p ORDER BY p.userId")
+    List<Long> findAllUserIds();
+
+    @EntityGraph(attributePaths = "holdings")
+    List<Portfolio> findByUserIdBetweenOrderByUserId(Long fromUserId, Long toUserId);
+
+    @Query("SELECT p.userId FROM Portfolio p WHERE p.masterStyle IS NOT NULL ORDER BY p.userId")
+    List<Long> findSubscribedUserIds();
+
+    @EntityGraph(attributePaths = "holdings")
+    List<Portfolio> findByUserIdBetweenAndMasterStyleIsNotNullOrderByUserId(Long fromUserId, Long toUserId);
+}
+
+/**
+ * 포트폴리오 리포지토리 JPA 구현 (Adapter)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JpaPortfolioRepository implements PortfolioRepository {
+
+    private final PortfolioJpaRepository jpaRepository;
+
+    @Override
+    public Portfolio save(Portfolio portfolio) {
+        return jpaRepository.save(portfolio);
+    }
+
+    @Override
+    public Optional<Portfolio> findById(Long portfolioId) {
+        return jpaRepository.findById(portfolioId);
+    }
+
+    @Override
+    public Optional<Portfolio> findByUserId(Long userId) {
+        return jpaRepository.findByUserId(userId);
+    }
+
+    @Override
+    public Optional<Portfolio> findByUserIdForWrite(Long userId) {
+        return jpaRepository.findForWriteByUserId(userId);
+    }
+
+    @Override
+    public List<Long> findAllUserIds() {
+        return jpaRepository.findAllUserIds();
+    }
+
+    @Override
+    public List<Portfolio> findByUserIdBetween(Long fromUserId, Long toUserId) {
+        return jpaRepository.findByUserIdBetweenOrderByUserId(fromUserId, toUserId);
+    }
+
+    @Override
+    public List<Long> findSubscribedUserIds() {
+        return jpaRepository.findSubscribedUserIds();
+    }
+
+    @Override
+    public List<Portfolio> findSubscribedByUserIdBetween(Long fromUserId, Long toUserId) {
+        return jpaRepository.findByUserIdBetweenAndMasterStyleIsNotNullOrderByUserId(fromUserId, toUserId);
+    }
 }
@@ -0,0 +1,178 @@
+package com.truvis.portfolio.infrastructure.leaderboard;
+
+import com.truvis.portfolio.domain.leaderboard.Leaderboard;
+import com.truvis.portfolio.domain.leaderboard.LeaderboardEntry;
+import com.truvis.portfolio.domain.leaderboard.LeaderboardUpdate;
+import com.truvis.portfolio.repository.LeaderboardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 수익률 순위표
+ * - 순위표마다 ZSET 하나 (member = 사용자 ID, score = 평가수익률 %)
+ *   leaderboard:return (전체), leaderboard:return:style:{스타일} (거장 스타일별)
+ * - 일괄 갱신은 순위표마다 ZADD/ZREM 한 번씩을 파이프라인으로 묶어 왕복 1번
+ * - 전체 교체(기동 시)는 기존 순위표 키 삭제 + 새 ZADD를 MULTI/EXEC 하나로 → 조회는 이전/새 순위표 중 하나만 본다
+ * - 내 순위/주변 순위는 ZREVRANK + ZREVRANGE를 Lua 한 번으로 처리 (1 RTT, O(log n + 주변 인원))
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class RedisLeaderboardRepository implements LeaderboardRepository {
+
+    private static final String KEY_PREFIX = "leaderboard:return";
+    private static final String STYLE_KEY_PREFIX = KEY_PREFIX + ":style:";
+    private static final int SCALE = 2;
+
+    /**
+     * KEYS[1] = 순위표 키, ARGV[1] = 사용자 ID, ARGV[2] = 위아래 인원
+     * 반환: {시작 순위(0부터), member1, score1, member2, score2, ...} (순위표에 없으면 빈 목록)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> AROUND_SCRIPT = new DefaultRedisScript<>("""
+            local rank = redis.call('ZREVRANK', KEYS[1], ARGV[1])
+            if not rank then
+                return {}
+            end
+            local radius = tonumber(ARGV[2])
+            local start = math.max(0, rank - radius)
+            local entries = redis.call('ZREVRANGE', KEYS[1], start, rank + radius, 'WITHSCORES')
+            table.insert(entries, 1, start)
+            return entries
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void apply(LeaderboardUpdate update) {
+        if (update.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                for (Map.Entry<Leaderboard, Map<Long, Double>> board : update.getChanges().entrySet()) {
+                    write(redis, key(board.getKey()), board.getValue());
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void replaceAll(LeaderboardUpdate snapshot) {
+        Set<String> existing = findBoardKeys();
+
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                redis.multi();
+                if (!existing.isEmpty()) {
+                    redis.delete(existing);
+                }
+                for (Map.Entry<Leaderboard, Map<Long, Double>> board : snapshot.getChanges().entrySet()) {
+                    write(redis, key(board.getKey()), board.getValue());
+                }
+                return redis.exec();
+            }
+        });
+        log.info("🏆 순위표 교체: 이전 키 {}개, 새 순위표 {}개", existing.size(), snapshot.getChanges().size());
+    }
+
+    /**
+     * 스타일별 순위표까지 모든 순위표 키 (KEYS 대신 SCAN - 다른 요청을 막지 않는다)
+     */
+    private Set<String> findBoardKeys() {
+        Set<String> keys = new HashSet<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(100).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
+
+    private static void write(RedisOperations<String, String> redis, String key, Map<Long, Double> scores) {
+        Set<TypedTuple<String>> added = new HashSet<>();
+        List<Object> removed = new ArrayList<>();
+        for (Map.Entry<Long, Double> score : scores.entrySet()) {
+            if (Double.isNaN(score.getValue())) {
+                removed.add(String.valueOf(score.getKey()));
+            } else {
+                added.add(TypedTuple.of(String.valueOf(score.getKey()), score.getValue()));
+            }
+        }
+
+        if (!added.isEmpty()) {
+            redis.opsForZSet().add(key, added);
+        }
+        if (!removed.isEmpty()) {
+            redis.opsForZSet().remove(key, removed.toArray());
+        }
+    }
+
+    @Override
+    public List<LeaderboardEntry> findTop(Leaderboard leaderboard, int limit) {
+        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(key(leaderboard), 0, limit - 1);
+        if (tuples == null) {
+            return List.of();
+        }
+
+        List<LeaderboardEntry> entries = new ArrayList<>(tuples.size());
+        long rank = 1;
+        for (TypedTuple<String> tuple : tuples) {
+            entries.add(new LeaderboardEntry(rank++, Long.valueOf(tuple.getValue()), toRate(tuple.getScore())));
+        }
+        return entries;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<LeaderboardEntry> findAround(Leaderboard leaderboard, Long userId, int radius) {
+        List<Object> result = redisTemplate.execute(
+                AROUND_SCRIPT, List.of(key(leaderboard)), String.valueOf(userId), String.valueOf(radius));
+        if (result == null || result.isEmpty()) {
+            return List.of();
+        }
+
+        long rank = ((Number) result.get(0)).longValue() + 1;
+        List<LeaderboardEntry> entries = new ArrayList<>(result.size() / 2);
+        for (int i = 1; i + 1 < result.size(); i += 2) {
+            entries.add(new LeaderboardEntry(
+                    rank++,
+                    Long.valueOf(String.valueOf(result.get(i))),
+                    toRate(Double.valueOf(String.valueOf(result.get(i + 1))))));
+        }
+        return entries;
+    }
+
+    private static String key(Leaderboard leaderboard) {
+        return leaderboard.isOverall() ? KEY_PREFIX : STYLE_KEY_PREFIX + leaderboard.masterStyle();
+    }
+
+    private static BigDecimal toRate(Double score) {
+        return BigDecimal.valueOf(score == null ? 0 : score).setScale(SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,184 @@
+package com.truvis.portfolio.infrastructure.risk;
+
+import com.truvis.portfolio.domain.risk.CovarianceMatrix;
+import com.truvis.portfolio.domain.risk.ReturnMatrix;
+import com.truvis.portfolio.domain.risk.RiskModel;
+import com.truvis.stock.domain.CandleInterval;
+import com.truvis.stock.domain.Stock;
+import com.truvis.stock.infrastructure.history.ColumnarSeries;
+import com.truvis.stock.infrastructure.history.HistoricalPriceStore;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import com.truvis.stock.repository.StockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 과거 일봉 저장소 → 위험 모형 (수익률 행렬 + 공분산)
+ *
+ * - 대상: 종목 마스터 전체 + 시장 지표 종목 (일봉이 있는 종목만)
+ * - 거래일 달력: 종목들의 최근 일봉 시각을 합쳐 마지막 lookback + 1일
+ * - 달력의 80% 이상 거래된 종목만 포함 (신규 상장, 장기 거래정지 종목 제외)
+ * - 거래가 없던 날은 직전 종가를 이어 쓴다 (수익률 0)
+ */
+@Component
+@Slf4j
+public class RiskModelLoader {
+
+    private static final double MIN_OBSERVATION_RATIO = 0.8;
+
+    private final HistoricalPriceStore historyStore;
+    private final StockRepository stockRepository;
+    private final int lookbackDays;
+    private final String benchmarkSymbol;
+    private final ZoneId zone;
+
+    public RiskModelLoader(
+            HistoricalPriceStore historyStore,
+            StockRepository stockRepository,
+            @Value("${portfolio.risk.lookback-days:250}") int lookbackDays,
+            @Value("${portfolio.risk.benchmark-symbol:069500}") String benchmarkSymbol,
+            @Value("${portfolio.snapshot.zone:Asia/Seoul}") String zone
+    ) {
+        this.historyStore = historyStore;
+        this.stockRepository = stockRepository;
+        this.lookbackDays = Math.max(2, lookbackDays);
+        this.benchmarkSymbol = benchmarkSymbol;
+        this.zone = ZoneId.of(zone);
+    }
+
+    /**
+     * tradingDay 종가까지의 일봉으로 위험 모형 생성
+     */
+    public RiskModel load(LocalDate tradingDay, ForkJoinPool pool) {
+        long start = System.currentTimeMillis();
+        long end = tradingDay.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+
+        List<String> symbols = new ArrayList<>();
+        List<ColumnarSeries> windows = new ArrayList<>();
+        for (String symbol : universe()) {
+            ColumnarSeries window = openWindow(symbol, end);
+            if (window != null && window.size() >= 2) {
+                symbols.add(symbol);
+                windows.add(window);
+            }
+        }
+
+        long[] calendar = calendar(windows);
+        int days = Math.max(0, calendar.length - 1);
+        int minObservations = (int) Math.ceil(calendar.length * MIN_OBSERVATION_RATIO);
+
+        List<String> included = new ArrayList<>();
+        double[] returns = new double[symbols.size() * days];
+        double[] lastCloses = new double[symbols.size()];
+        for (int s = 0; s < symbols.size(); s++) {
+            ColumnarSeries window = windows.get(s);
+            if (days == 0 || window.size() - window.lowerBound(calendar[0]) < minObservations) {
+                continue;
+            }
+            int row = included.size();
+            lastCloses[row] = fillReturns(window, calendar, returns, row * days);
+            included.add(symbols.get(s));
+        }
+
+        ReturnMatrix matrix = new ReturnMatrix(
+                included.toArray(String[]::new),
+                Arrays.copyOf(returns, included.size() * days),
+                days);
+        RiskModel model = new RiskModel(
+                tradingDay,
+                matrix,
+                CovarianceMatrix.estimate(matrix, pool),
+                Arrays.copyOf(lastCloses, included.size()),
+                benchmarkSymbol);
+
+        log.info("📐 위험 모형 생성: tradingDay={}, 종목 {}개, {}거래일, {}ms",
+                tradingDay, included.size(), days, System.currentTimeMillis() - start);
+        if (model.getBenchmarkIndex() == RiskModel.NO_SYMBOL) {
+            log.warn("⚠️ 시장 지표 종목 일봉이 없어 베타를 계산할 수 없습니다: symbol={}", benchmarkSymbol);
+        }
+        return model;
+    }
+
+    private Set<String> universe() {
+        Set<String> symbols = new LinkedHashSet<>();
+        for (Stock stock : stockRepository.findAll()) {
+            symbols.add(stock.getSymbol());
+        }
+        if (benchmarkSymbol != null && !benchmarkSymbol.isBlank()) {
+            symbols.add(benchmarkSymbol);
+        }
+        return symbols;
+    }
+
+    /**
+     * end 이전 최근 lookback + 2개 일봉 (달력 첫날의 직전 종가까지 포함, 저장소에 쓸 수 없는 코드면 null)
+     */
+    private ColumnarSeries openWindow(String symbol, long end) {
+        try {
+            return historyStore.open(symbol, CandleInterval.DAY_1)
+                    .slice(Long.MIN_VALUE, end)
+                    .tail(lookbackDays + 2);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 전 종목 일봉 시각의 합집합 중 마지막 lookback + 1일 (오름차순)
+     */
+    private long[] calendar(List<ColumnarSeries> windows) {
+        int total = 0;
+        for (ColumnarSeries window : windows) {
+            total += window.size();
+        }
+
+        long[] times = new long[total];
+        int length = 0;
+        for (ColumnarSeries window : windows) {
+            for (int i = 0; i < window.size(); i++) {
+                times[length++] = window.time(i);
+            }
+        }
+        Arrays.sort(times, 0, length);
+
+        int distinct = 0;
+        for (int i = 0; i < length; i++) {
+            if (distinct == 0 || times[distinct - 1] != times[i]) {
+                times[distinct++] = times[i];
+            }
+        }
+        int from = Math.max(0, distinct - (lookbackDays + 1));
+        return Arrays.copyOfRange(times, from, distinct);
+    }
+
+    /**
+     * 달력 기준 일간 수익률을 target[offset..offset + days)에 채운다
+     *
+     * @return 마지막 종가 (원)
+     */
+    private static double fillReturns(ColumnarSeries window, long[] calendar, double[] target, int offset) {
+        int cursor = 0;
+        long previous = 0;
+        for (int k = 0; k < calendar.length; k++) {
+            long close = previous;
+            while (cursor < window.size() && window.time(cursor) <= calendar[k]) {
+                close = window.close(cursor++);
+            }
+            if (k > 0) {
+                target[offset + k - 1] = previous > 0 && close > 0 ? (double) close / previous - 1 : 0;
+            }
+            previous = close;
+        }
+        return previous / (double) QuoteStore.PRICE_SCALE;
+    }
+}
@@ -0,0 +1,233 @@
+package com.truvis.portfolio.infrastructure.snapshot;
+
+import com.truvis.portfolio.domain.PortfolioSnapshot;
+import com.truvis.portfolio.domain.PortfolioValuation;
+import com.truvis.portfolio.domain.performance.DailyValues;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 포트폴리오 일별 평가 저장소
+ *
+ * 파일: {store-path}/{yyyy-MM-dd}.snap (하루 1개, 한 번 쓰면 바뀌지 않음)
+ * 헤더: MAGIC(int) | epochDay(long) | 건수(int) | 본문 길이(int)
+ * 본문: 사용자 ID 차분 | 평가금액 | 매입원가 (사용자 ID 오름차순, 가변 길이 정수, 금액은 원 × 100)
+ *
+ * - 메모리에는 포트폴리오별 차분 인코딩 시계열(SnapshotSeries)로 보관 → 조회는 파일을 읽지 않는다
+ * - 기동 시 날짜 순으로 파일을 통째로 읽어 시계열에 이어 붙인다 (레코드마다 객체를 만들지 않음)
+ * - 파일은 임시 파일에 쓴 뒤 이름을 바꿔서 반쯤 쓰인 파일이 남지 않게 한다
+ */
+@Component
+@Slf4j
+public class PortfolioSnapshotStore {
+
+    private static final int MAGIC = 0x50534E31;  // "PSN1"
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final String EXTENSION = ".snap";
+
+    private final Path basePath;
+
+    private final ConcurrentHashMap<Long, SnapshotSeries> seriesByUser = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Long> storedDays = new ConcurrentSkipListSet<>();
+
+    public PortfolioSnapshotStore(@Value("${portfolio.snapshot.store-path:./data/portfolio-snapshots}") String basePath) {
+        this.basePath = Path.of(basePath);
+    }
+
+    /**
+     * 📂 저장된 일별 파일 전체 적재
+     */
+    @PostConstruct
+    public void load() {
+        long start = System.currentTimeMillis();
+        List<Path> files = listDayFiles();
+        long records = 0;
+
+        for (Path file : files) {
+            try {
+                records += loadDay(file);
+            } catch (IOException | RuntimeException e) {
+                log.error("❌ 포트폴리오 스냅샷 파일 적재 실패, 건너뜀: file={}, error={}", file, e.getMessage());
+            }
+        }
+        seriesByUser.values().forEach(SnapshotSeries::trim);
+
+        log.info("📂 포트폴리오 스냅샷 적재 완료: {}일, 포트폴리오 {}개, {}건, {}KB, {}ms",
+                files.size(), seriesByUser.size(), records, getByteSize() / 1024,
+                System.currentTimeMillis() - start);
+    }
+
+    private List<Path> listDayFiles() {
+        if (!Files.isDirectory(basePath)) {
+            return List.of();
+        }
+
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(basePath, "*" + EXTENSION)) {
+            stream.forEach(files::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        files.sort(null);  // 파일 이름(yyyy-MM-dd) 순 = 날짜 순
+        return files;
+    }
+
+    private int loadDay(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+            throw new IllegalStateException("스냅샷 파일 형식이 아닙니다");
+        }
+
+        long epochDay = buffer.getLong();
+        int count = buffer.getInt();
+        int payloadBytes = buffer.getInt();
+        if (buffer.remaining() != payloadBytes) {
+            throw new IllegalStateException("본문 길이가 맞지 않습니다: expected=" + payloadBytes + ", actual=" + buffer.remaining());
+        }
+
+        VarLongs.Reader reader = new VarLongs.Reader(buffer.array(), buffer.position(), buffer.limit());
+        long userId = 0;
+        for (int i = 0; i < count; i++) {
+            userId += reader.read();
+            seriesOf(userId).append(epochDay, reader.readSigned(), reader.readSigned());
+        }
+        storedDays.add(epochDay);
+        return count;
+    }
+
+    /**
+     * 하루치 저장 (파일 기록 후 메모리 시계열에 추가)
+     *
+     * @param userIds     사용자 ID (오름차순)
+     * @param valueCents  평가금액 (원 × 100)
+     * @param costCents   매입원가 (원 × 100)
+     */
+    public void saveDay(LocalDate date, long[] userIds, long[] valueCents, long[] costCents, int count) throws IOException {
+        long epochDay = date.toEpochDay();
+
+        byte[] payload = new byte[Math.max(64, count * 12)];
+        int length = 0;
+        long previousUserId = 0;
+        for (int i = 0; i < count; i++) {
+            if (userIds[i] < previousUserId) {
+                throw new IllegalArgumentException("사용자 ID는 오름차순이어야 합니다: index=" + i);
+            }
+            payload = VarLongs.ensureCapacity(payload, length, VarLongs.MAX_BYTES * 3);
+            length = VarLongs.write(payload, length, userIds[i] - previousUserId);
+            length = VarLongs.writeSigned(payload, length, valueCents[i]);
+            length = VarLongs.writeSigned(payload, length, costCents[i]);
+            previousUserId = userIds[i];
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putLong(epochDay)
+                .putInt(count)
+                .putInt(length);
+
+        Files.createDirectories(basePath);
+        Path target = basePath.resolve(date + EXTENSION);
+        Path temp = basePath.resolve(date + EXTENSION + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            ByteBuffer body = ByteBuffer.wrap(payload, 0, length);
+            while (body.hasRemaining()) {
+                channel.write(body);
+            }
+            channel.force(false);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        for (int i = 0; i < count; i++) {
+            seriesOf(userIds[i]).append(epochDay, valueCents[i], costCents[i]);
+        }
+        storedDays.add(epochDay);
+    }
+
+    /**
+     * 포트폴리오 일별 평가 구간 조회 (날짜 오름차순)
+     */
+    public List<PortfolioSnapshot> findRange(Long userId, LocalDate from, LocalDate to) {
+        SnapshotSeries series = seriesByUser.get(userId);
+        if (series == null) {
+            return List.of();
+        }
+
+        List<PortfolioSnapshot> snapshots = new ArrayList<>();
+        series.forEach(from.toEpochDay(), to.toEpochDay(), (epochDay, valueCents, costCents) ->
+                snapshots.add(new PortfolioSnapshot(
+                        LocalDate.ofEpochDay(epochDay),
+                        PortfolioValuation.of(
+                                BigDecimal.valueOf(valueCents, 2),
+                                BigDecimal.valueOf(costCents, 2),
+                                true))));
+        return snapshots;
+    }
+
+    /**
+     * toDay까지의 일별 평가금액 (수익률 계산용, 객체를 만들지 않고 target에 채운다)
+     *
+     * @return 기록이 있는 포트폴리오면 true
+     */
+    public boolean readValues(Long userId, LocalDate to, DailyValues target) {
+        target.clear();
+        SnapshotSeries series = seriesByUser.get(userId);
+        if (series == null) {
+            return false;
+        }
+
+        series.forEach(Long.MIN_VALUE, to.toEpochDay(), (epochDay, valueCents, costCents) ->
+                target.add(epochDay, valueCents / 100.0));
+        return true;
+    }
+
+    /**
+     * 마지막 기록의 평가금액이 0보다 큰지 (전량 매도한 날 0원을 한 번 남기는 용도)
+     */
+    public boolean hasOpenValue(Long userId) {
+        SnapshotSeries series = seriesByUser.get(userId);
+        return series != null && series.lastValue() > 0;
+    }
+
+    public boolean hasDay(LocalDate date) {
+        return storedDays.contains(date.toEpochDay());
+    }
+
+    private SnapshotSeries seriesOf(long userId) {
+        return seriesByUser.computeIfAbsent(userId, id -> new SnapshotSeries());
+    }
+
+    public int getPortfolioCount() {
+        return seriesByUser.size();
+    }
+
+    public long getByteSize() {
+        long bytes = 0;
+        for (SnapshotSeries series : seriesByUser.values()) {
+            bytes += series.byteSize();
+        }
+        return bytes;
+    }
+}
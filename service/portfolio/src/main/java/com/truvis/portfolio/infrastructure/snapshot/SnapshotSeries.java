@@ -0,0 +1,97 @@
+package com.truvis.portfolio.infrastructure.snapshot;
+
+import java.util.Arrays;
+
+/**
+ * 포트폴리오 1개의 일별 평가 시계열 (차분 인코딩)
+ *
+ * 레코드 = 날짜 차분 | 평가금액 차분 | 매입원가 차분 (모두 가변 길이, 금액은 원 단위 × 100)
+ * - 첫 레코드는 직전 값을 0으로 보고 기록 (즉 날짜/금액 원래 값)
+ * - 객체 없이 byte[] 하나 → 포트폴리오-일 하나에 평균 5~7바이트
+ * - 날짜 순으로만 추가되므로 조회는 앞에서부터 풀면서 구간만 꺼낸다 (하루 1건 → 10년도 2,500건)
+ */
+final class SnapshotSeries {
+
+    private byte[] data = new byte[32];
+    private int length;
+    private int count;
+
+    // 마지막 레코드 (다음 차분의 기준)
+    private long lastDay;
+    private long lastValue;
+    private long lastCost;
+
+    /**
+     * 하루치 추가
+     *
+     * @return 마지막 날짜 이후가 아니면 false (같은 날 재실행 등)
+     */
+    synchronized boolean append(long epochDay, long valueCents, long costCents) {
+        if (count > 0 && epochDay <= lastDay) {
+            return false;
+        }
+
+        data = VarLongs.ensureCapacity(data, length, VarLongs.MAX_BYTES * 3);
+        length = VarLongs.write(data, length, epochDay - lastDay);
+        length = VarLongs.writeSigned(data, length, valueCents - lastValue);
+        length = VarLongs.writeSigned(data, length, costCents - lastCost);
+
+        lastDay = epochDay;
+        lastValue = valueCents;
+        lastCost = costCents;
+        count++;
+        return true;
+    }
+
+    /**
+     * [fromDay, toDay] 구간 레코드를 날짜 순으로 전달
+     */
+    synchronized void forEach(long fromDay, long toDay, Visitor visitor) {
+        VarLongs.Reader reader = new VarLongs.Reader(data, 0, length);
+        long day = 0;
+        long value = 0;
+        long cost = 0;
+
+        while (reader.hasRemaining()) {
+            day += reader.read();
+            value += reader.readSigned();
+            cost += reader.readSigned();
+
+            if (day > toDay) {
+                return;
+            }
+            if (day >= fromDay) {
+                visitor.visit(day, value, cost);
+            }
+        }
+    }
+
+    /**
+     * 마지막 평가금액 (기록이 없으면 0)
+     */
+    synchronized long lastValue() {
+        return lastValue;
+    }
+
+    synchronized int size() {
+        return count;
+    }
+
+    synchronized int byteSize() {
+        return length;
+    }
+
+    /**
+     * 적재가 끝난 뒤 남는 용량 반환
+     */
+    synchronized void trim() {
+        if (data.length > length) {
+            data = Arrays.copyOf(data, length);
+        }
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+        void visit(long epochDay, long valueCents, long costCents);
+    }
+}
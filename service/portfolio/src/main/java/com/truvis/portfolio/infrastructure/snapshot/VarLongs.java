@@ -0,0 +1,84 @@
+package com.truvis.portfolio.infrastructure.snapshot;
+
+import java.util.Arrays;
+
+/**
+ * 가변 길이 정수 인코딩 (LEB128)
+ * - 7비트씩 끊어서 기록, 최상위 비트 = 다음 바이트 있음
+ * - 음수가 될 수 있는 차분은 zigzag로 바꿔서 기록 (-1 → 1, 1 → 2, -2 → 3 ...)
+ * → 일별 평가금액 차분은 대부분 2~4바이트, 날짜 차분/원가 차분(대부분 0)은 1바이트
+ */
+final class VarLongs {
+
+    static final int MAX_BYTES = 10;
+
+    private VarLongs() {
+    }
+
+    /**
+     * @return 기록한 다음 위치
+     */
+    static int write(byte[] target, int offset, long value) {
+        while ((value & ~0x7FL) != 0) {
+            target[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        target[offset++] = (byte) value;
+        return offset;
+    }
+
+    static int writeSigned(byte[] target, int offset, long value) {
+        return write(target, offset, (value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * 최소 extra 바이트를 더 쓸 수 있게 배열 확장 (1.5배씩)
+     */
+    static byte[] ensureCapacity(byte[] data, int length, int extra) {
+        if (length + extra <= data.length) {
+            return data;
+        }
+        return Arrays.copyOf(data, Math.max(length + extra, data.length + (data.length >> 1)));
+    }
+
+    /**
+     * 순차 읽기 커서
+     */
+    static final class Reader {
+
+        private final byte[] data;
+        private final int limit;
+        private int position;
+
+        Reader(byte[] data, int position, int limit) {
+            this.data = data;
+            this.position = position;
+            this.limit = limit;
+        }
+
+        boolean hasRemaining() {
+            return position < limit;
+        }
+
+        long read() {
+            long value = 0;
+            int shift = 0;
+            while (true) {
+                if (position >= limit || shift >= 64) {
+                    throw new IllegalStateException("가변 길이 정수가 잘렸습니다: position=" + position);
+                }
+                byte b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+                shift += 7;
+            }
+        }
+
+        long readSigned() {
+            long value = read();
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
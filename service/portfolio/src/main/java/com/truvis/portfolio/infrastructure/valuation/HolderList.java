@@ -0,0 +1,112 @@
+package com.truvis.portfolio.infrastructure.valuation;
+
+import java.util.Arrays;
+
+/**
+ * 종목 1개를 보유한 포트폴리오 목록 (종목 → 보유자 역색인의 한 칸)
+ *
+ * - 틱이 오면 직전 가격과의 차이만큼 (Δ가격 × 수량)을 각 보유자 평가금액에 더한다
+ *   → 포트폴리오 평가금액을 다시 합산하지 않는다
+ * - 보유자 추가/수정/삭제도 같은 잠금 안에서 "현재 가격 × 수량 변화"를 반영
+ *   → 틱과 보유 종목 변경이 엇갈려도 평가금액 = Σ(현재가 × 수량) 이 유지된다
+ * - 잠금은 종목 단위라 다른 종목 틱과 경합하지 않는다 (틱은 파이프라인 스레드 하나에서만 온다)
+ */
+final class HolderList {
+
+    private Position[] positions = new Position[4];
+    private int size;
+
+    // PRICE_SCALE 배 정수, 0이면 아직 시세 없음
+    private long lastPrice;
+
+    HolderList(long initialPrice) {
+        this.lastPrice = initialPrice;
+    }
+
+    /**
+     * 🔥 틱 반영 (할당 없음)
+     */
+    synchronized void onPrice(long price) {
+        long delta = price - lastPrice;
+        if (delta == 0) {
+            return;
+        }
+
+        boolean firstPrice = lastPrice == 0;
+        lastPrice = price;
+        for (int i = 0; i < size; i++) {
+            Position position = positions[i];
+            position.account.addMarketValue(delta * position.quantity);
+            if (firstPrice) {
+                position.account.addUnpriced(-1);
+            }
+        }
+    }
+
+    /**
+     * 첫 가격 채우기 (아직 시세를 받지 못한 목록일 때만, 이미 등록된 보유자에게도 반영)
+     */
+    synchronized void seed(long price) {
+        if (lastPrice == 0) {
+            onPrice(price);
+        }
+    }
+
+    synchronized Position add(ValuationAccount account, long quantity) {
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+        }
+
+        Position position = new Position(account, quantity, size);
+        positions[size++] = position;
+
+        account.addMarketValue(lastPrice * quantity);
+        if (lastPrice == 0) {
+            account.addUnpriced(1);
+        }
+        return position;
+    }
+
+    synchronized void update(Position position, long quantity) {
+        position.account.addMarketValue(lastPrice * (quantity - position.quantity));
+        position.quantity = quantity;
+    }
+
+    synchronized void remove(Position position) {
+        position.account.addMarketValue(-lastPrice * position.quantity);
+        if (lastPrice == 0) {
+            position.account.addUnpriced(-1);
+        }
+
+        // 마지막 보유자를 빈 자리로 옮긴다 (순서 무관)
+        Position last = positions[--size];
+        positions[position.index] = last;
+        last.index = position.index;
+        positions[size] = null;
+    }
+
+    synchronized long getLastPrice() {
+        return lastPrice;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    static final class Position {
+
+        private final ValuationAccount account;
+        private long quantity;
+        private int index;
+
+        private Position(ValuationAccount account, long quantity, int index) {
+            this.account = account;
+            this.quantity = quantity;
+            this.index = index;
+        }
+
+        long getQuantity() {
+            return quantity;
+        }
+    }
+}
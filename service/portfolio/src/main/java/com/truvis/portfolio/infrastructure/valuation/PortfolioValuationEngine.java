@@ -0,0 +1,208 @@
+package com.truvis.portfolio.infrastructure.valuation;
+
+import com.truvis.portfolio.domain.Holding;
+import com.truvis.portfolio.domain.Portfolio;
+import com.truvis.portfolio.domain.PortfolioValuation;
+import com.truvis.stock.infrastructure.marketdata.TickListener;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 포트폴리오 실시간 평가 엔진
+ *
+ * - 포트폴리오마다 평가금액을 누계로 유지 (ValuationAccount)
+ * - 종목(슬롯) → 보유 포트폴리오 역색인 (HolderList)
+ *   → 틱이 오면 그 종목 보유자에게만 Δ가격 × 수량을 더한다
+ *   → 조회는 누계를 읽기만 한다 (보유 종목 수와 무관하게 O(1))
+ * - 보유 종목이 바뀌면 track()으로 수량/원가를 맞춘다
+ *   (같은 노드의 거래는 HoldingsProjector가, 다른 노드의 거래는 조회 시 수정 시각을 보고 반영)
+ * - 한 번도 조회/갱신되지 않은 포트폴리오는 추적하지 않는다 (틱 비용 없음)
+ * - 보유 종목이 모두 0이 된 포트폴리오는 추적을 멈춘다 (다시 조회/갱신되면 새로 만든다)
+ * - 평가가 바뀐 포트폴리오는 변경 큐에 모아 두고 drainChanged()로 한꺼번에 꺼내 간다 (순위표 갱신용)
+ */
+@Component
+public class PortfolioValuationEngine implements TickListener {
+
+    private final QuoteStore quoteStore;
+
+    // 슬롯 → 보유자 목록 (첫 보유자 등록 시 생성, 생성은 holdersOf 안에서 한 번만)
+    private final AtomicReferenceArray<HolderList> holdersBySlot;
+
+    // 사용자 ID → 평가 누계
+    private final ConcurrentHashMap<Long, ValuationAccount> accounts = new ConcurrentHashMap<>();
+
+    // 마지막으로 꺼내 간 뒤 평가가 바뀐 포트폴리오 (포트폴리오당 최대 1건)
+    private final ConcurrentLinkedQueue<ValuationAccount> changedAccounts = new ConcurrentLinkedQueue<>();
+
+    public PortfolioValuationEngine(QuoteStore quoteStore) {
+        this.quoteStore = quoteStore;
+        this.holdersBySlot = new AtomicReferenceArray<>(quoteStore.getCapacity());
+    }
+
+    @Override
+    public void onTick(int slot, long timestampMillis, long price, long volume) {
+        HolderList holders = holdersBySlot.get(slot);
+        if (holders != null) {
+            holders.onPrice(price);
+        }
+    }
+
+    /**
+     * 포트폴리오 평가 조회
+     * - 다른 노드에서 갱신된 포트폴리오면 보유 종목부터 맞춘 뒤 읽는다
+     */
+    public PortfolioValuation valuate(Portfolio portfolio) {
+        ValuationAccount account = accounts.get(portfolio.getUserId());
+        if (account == null || isNewer(portfolio, account)) {
+            account = sync(portfolio);
+        }
+
+        return PortfolioValuation.of(
+                QuoteStore.toPrice(account.getMarketValue()),
+                QuoteStore.toPrice(account.getCost()),
+                account.isFullyPriced());
+    }
+
+    /**
+     * 보유 종목 반영 (수량 변화분만 역색인에 적용)
+     * - 더 예전 상태의 포트폴리오는 무시 (조회와 갱신이 엇갈린 경우)
+     */
+    public void track(Portfolio portfolio) {
+        sync(portfolio);
+    }
+
+    private ValuationAccount sync(Portfolio portfolio) {
+        while (true) {
+            ValuationAccount account = accounts.computeIfAbsent(
+                    portfolio.getUserId(), userId -> new ValuationAccount(userId, changedAccounts));
+
+            synchronized (account) {
+                if (account.evicted) {
+                    continue;  // 잠금을 기다리는 사이 추적 중단됨 → 새 누계로 다시
+                }
+                sync(account, portfolio);
+            }
+            return account;
+        }
+    }
+
+    private void sync(ValuationAccount account, Portfolio portfolio) {
+        if (account.updatedAt != null && portfolio.getUpdatedAt().isBefore(account.updatedAt)) {
+            return;
+        }
+
+        // 1. 목표 상태 (슬롯 → 수량)
+        Map<Integer, Long> targets = new HashMap<>();
+        long cost = 0;
+        for (Holding holding : portfolio.getOpenHoldings()) {
+            targets.put(quoteStore.slotOf(holding.getStockCode()), holding.getQuantity());
+            cost += QuoteStore.toScaled(holding.getTotalCost());
+        }
+
+        // 2. 기존 보유 종목 수정/삭제
+        Iterator<Map.Entry<Integer, HolderList.Position>> iterator = account.positionsBySlot.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, HolderList.Position> entry = iterator.next();
+            HolderList holders = holdersBySlot.get(entry.getKey());
+            Long quantity = targets.remove(entry.getKey());
+
+            if (quantity == null) {
+                holders.remove(entry.getValue());
+                iterator.remove();
+            } else if (quantity != entry.getValue().getQuantity()) {
+                holders.update(entry.getValue(), quantity);
+            }
+        }
+
+        // 3. 새 보유 종목 추가
+        for (Map.Entry<Integer, Long> target : targets.entrySet()) {
+            HolderList.Position position = holdersOf(target.getKey()).add(account, target.getValue());
+            account.positionsBySlot.put(target.getKey(), position);
+        }
+
+        account.masterStyle = portfolio.getMasterStyle();
+        account.setCost(cost);
+        account.updatedAt = portfolio.getUpdatedAt();
+
+        // 4. 보유 종목이 없으면 추적 중단 (변경 큐에는 이미 들어갔으므로 순위표에서도 빠진다)
+        if (account.positionsBySlot.isEmpty()) {
+            account.evicted = true;
+            accounts.remove(account.getUserId(), account);
+        }
+    }
+
+    /**
+     * 마지막 호출 이후 평가가 바뀐 포트폴리오의 현재 수익률 전달
+     * - 그 사이 틱이 여러 번 와도 포트폴리오당 1번 (마지막 값)
+     * - 매입원가가 없거나(보유 종목 없음) 시세 없는 종목이 있으면 수익률은 NaN
+     *
+     * @return 전달한 포트폴리오 수
+     */
+    public int drainChanged(ReturnRateConsumer consumer) {
+        int drained = 0;
+        ValuationAccount account;
+        while ((account = changedAccounts.poll()) != null) {
+            // 읽기 전에 표시를 지워야 읽는 도중 들어온 틱이 다음 번에 빠지지 않는다
+            account.clearChanged();
+            consumer.accept(account.getUserId(), account.masterStyle, returnRate(account));
+            drained++;
+        }
+        return drained;
+    }
+
+    private static double returnRate(ValuationAccount account) {
+        long cost = account.getCost();
+        if (cost <= 0 || !account.isFullyPriced()) {
+            return Double.NaN;
+        }
+        return (account.getMarketValue() - cost) * 100.0 / cost;
+    }
+
+    private boolean isNewer(Portfolio portfolio, ValuationAccount account) {
+        return account.updatedAt == null || portfolio.getUpdatedAt().isAfter(account.updatedAt);
+    }
+
+    /**
+     * 슬롯 보유자 목록 (없으면 생성, computeIfAbsent와 같이 생성과 시세 채우기는 한 번만)
+     * - 먼저 시세 없는 목록을 등록한 뒤 현재가를 채운다
+     *   → 등록 전에 읽은 가격으로 채우면 그 사이 온 틱을 놓쳐 평가금액이 다음 틱까지 어긋난다
+     * - 그 사이 틱이 먼저 가격을 채웠으면 seed는 아무것도 하지 않는다
+     */
+    private HolderList holdersOf(int slot) {
+        HolderList holders = holdersBySlot.get(slot);
+        if (holders != null) {
+            return holders;
+        }
+
+        synchronized (holdersBySlot) {
+            holders = holdersBySlot.get(slot);
+            if (holders == null) {
+                holders = new HolderList(0);
+                holdersBySlot.set(slot, holders);
+                holders.seed(quoteStore.lastPrice(slot));
+            }
+        }
+        return holders;
+    }
+
+    public int getTrackedCount() {
+        return accounts.size();
+    }
+
+    @FunctionalInterface
+    public interface ReturnRateConsumer {
+
+        /**
+         * @param masterStyle 따르는 거장 스타일 (없으면 null)
+         * @param returnRate  평가수익률 (%, 순위에 넣을 수 없으면 NaN)
+         */
+        void accept(Long userId, String masterStyle, double returnRate);
+    }
+}
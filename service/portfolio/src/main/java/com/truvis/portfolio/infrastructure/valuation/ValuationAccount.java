@@ -0,0 +1,92 @@
+package com.truvis.portfolio.infrastructure.valuation;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 포트폴리오 1개의 평가금액 누계
+ * - marketValue: 틱마다 HolderList가 (가격 변화 × 수량)만 더한다 (PRICE_SCALE 배 정수)
+ * - positionsBySlot/cost/updatedAt/evicted: 보유 종목이 바뀔 때만 갱신 (this로 동기화)
+ * - 값이 바뀌면 변경 큐에 한 번만 들어간다 (꺼내 갈 때까지 다시 넣지 않음 → 틱이 몰려도 사용자당 1건)
+ */
+final class ValuationAccount {
+
+    private final Long userId;
+    private final Queue<ValuationAccount> changes;
+    private final AtomicBoolean changed = new AtomicBoolean();
+
+    private final AtomicLong marketValue = new AtomicLong();
+    private final AtomicInteger unpricedCount = new AtomicInteger();
+    private volatile long cost;
+
+    // 슬롯 → HolderList 안의 내 자리
+    final Map<Integer, HolderList.Position> positionsBySlot = new HashMap<>();
+
+    // 마지막으로 반영한 포트폴리오 수정 시각 (다른 노드에서 바뀐 포트폴리오 감지용)
+    volatile LocalDateTime updatedAt;
+
+    // 포트폴리오가 따르는 거장 스타일 (순위표 구분용)
+    volatile String masterStyle;
+
+    // 보유 종목이 없어져 엔진에서 빠졌는지 (빠진 누계는 다시 쓰지 않는다)
+    boolean evicted;
+
+    ValuationAccount(Long userId, Queue<ValuationAccount> changes) {
+        this.userId = userId;
+        this.changes = changes;
+    }
+
+    void addMarketValue(long delta) {
+        if (delta != 0) {
+            marketValue.addAndGet(delta);
+            markChanged();
+        }
+    }
+
+    void addUnpriced(int delta) {
+        unpricedCount.addAndGet(delta);
+        markChanged();
+    }
+
+    void setCost(long cost) {
+        this.cost = cost;
+        markChanged();
+    }
+
+    /**
+     * 🔥 틱 경로에서 호출 (이미 큐에 있으면 volatile 읽기 1번으로 끝)
+     */
+    void markChanged() {
+        if (!changed.get() && changed.compareAndSet(false, true)) {
+            changes.offer(this);
+        }
+    }
+
+    /**
+     * 큐에서 꺼낸 직후 호출 (이후 변경은 다시 큐에 들어간다)
+     */
+    void clearChanged() {
+        changed.set(false);
+    }
+
+    Long getUserId() {
+        return userId;
+    }
+
+    long getMarketValue() {
+        return marketValue.get();
+    }
+
+    long getCost() {
+        return cost;
+    }
+
+    boolean isFullyPriced() {
+        return unpricedCount.get() == 0;
+    }
+}
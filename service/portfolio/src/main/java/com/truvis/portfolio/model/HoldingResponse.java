@@ -0,0 +1,27 @@
+package com.truvis.portfolio.model;
+
+import com.truvis.portfolio.domain.Holding;
+
+import java.math.BigDecimal;
+
+/**
+ * 보유 종목 응답 DTO
+ */
+public record HoldingResponse(
+        String stockCode,
+        long quantity,
+        BigDecimal averagePrice,
+        BigDecimal totalCost,
+        BigDecimal realizedProfit
+) {
+
+    public static HoldingResponse from(Holding holding) {
+        return new HoldingResponse(
+                holding.getStockCode(),
+                holding.getQuantity(),
+                holding.getAveragePrice(),
+                holding.getTotalCost(),
+                holding.getRealizedProfit()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.truvis.portfolio.model;
+
+import com.truvis.portfolio.domain.leaderboard.LeaderboardEntry;
+
+import java.math.BigDecimal;
+
+/**
+ * 순위표 한 줄 응답 DTO
+ * - rank: 순위 (1부터)
+ * - returnRate: 평가수익률 (%)
+ */
+public record LeaderboardEntryResponse(
+        long rank,
+        Long userId,
+        BigDecimal returnRate
+) {
+
+    public static LeaderboardEntryResponse from(LeaderboardEntry entry) {
+        return new LeaderboardEntryResponse(entry.rank(), entry.userId(), entry.returnRate());
+    }
+}
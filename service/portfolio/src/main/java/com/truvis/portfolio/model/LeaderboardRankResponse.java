@@ -0,0 +1,16 @@
+package com.truvis.portfolio.model;
+
+import java.util.List;
+
+/**
+ * 내 순위 응답 DTO
+ * - masterStyle: 조회한 순위표 (null = 전체)
+ * - me: 내 순위 (순위표에 없으면 null)
+ * - around: 내 위아래 순위 (나 포함, 순위 오름차순)
+ */
+public record LeaderboardRankResponse(
+        String masterStyle,
+        LeaderboardEntryResponse me,
+        List<LeaderboardEntryResponse> around
+) {
+}
@@ -1,20 +1,70 @@
 package com.truvis.portfolio.model;
 
+import com.truvis.portfolio.domain.Portfolio;
+import com.truvis.portfolio.domain.PortfolioReturns;
+import com.truvis.portfolio.domain.PortfolioValuation;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * 포트폴리오 정보 응답 DTO
- * 
- * TODO: 구현 필요
- * - portfolioId (포트폴리오 ID)
- * - name (포트폴리오 이름)
- * - description (설명)
- * - totalValue (전체 가치)
- * - returnRate (수익률)
- * - holdings (보유 종목 목록)
- * - createdAt (생성일)
+ * - 보유 종목은 현재 보유 중인 것만 (전량 매도한 종목 제외)
+ * - 평가금액/평가손익/수익률은 현재가 기준 (fullyPriced=false면 시세 없는 종목을 0원으로 평가)
+ * - timeWeightedReturn/moneyWeightedReturn: 최초 매수부터 마지막 장 마감까지 (입출금 반영, 기록이 없으면 null)
  */
-public class PortfolioResponse {
-    
-    // TODO: 필드 추가
-    
-    // TODO: 생성자/Getter/Setter
+public record PortfolioResponse(
+        Long portfolioId,
+        String name,
+        String description,
+        BigDecimal totalCost,
+        BigDecimal marketValue,
+        BigDecimal unrealizedProfit,
+        BigDecimal returnRate,
+        boolean fullyPriced,
+        BigDecimal timeWeightedReturn,
+        BigDecimal moneyWeightedReturn,
+        List<HoldingResponse> holdings,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static PortfolioResponse from(Portfolio portfolio, PortfolioValuation valuation, PortfolioReturns returns) {
+        List<HoldingResponse> holdings = portfolio.getOpenHoldings().stream()
+                .map(HoldingResponse::from)
+                .toList();
+
+        return new PortfolioResponse(
+                portfolio.getId(),
+                portfolio.getName(),
+                portfolio.getDescription(),
+                valuation.totalCost(),
+                valuation.marketValue(),
+                valuation.unrealizedProfit(),
+                valuation.returnRate(),
+                valuation.fullyPriced(),
+                returns.timeWeightedReturn(),
+                returns.moneyWeightedReturn(),
+                holdings,
+                portfolio.getCreatedAt(),
+                portfolio.getUpdatedAt()
+        );
+    }
+
+    /**
+     * 거래가 없는 사용자 (빈 포트폴리오)
+     */
+    public static PortfolioResponse empty() {
+        PortfolioValuation valuation = PortfolioValuation.empty();
+        return new PortfolioResponse(
+                null, null, null,
+                valuation.totalCost(),
+                valuation.marketValue(),
+                valuation.unrealizedProfit(),
+                valuation.returnRate(),
+                valuation.fullyPriced(),
+                null, null,
+                List.of(), null, null);
+    }
 }
@@ -0,0 +1,28 @@
+package com.truvis.portfolio.model;
+
+import com.truvis.portfolio.domain.PortfolioReturns;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 포트폴리오 기간 수익률 응답 DTO
+ * - timeWeightedReturn: 시간가중수익률 (%, 기간 누적)
+ * - moneyWeightedReturn: 금액가중수익률 (%, 연율 XIRR, 계산 불가 시 null)
+ */
+public record PortfolioReturnsResponse(
+        LocalDate from,
+        LocalDate to,
+        BigDecimal timeWeightedReturn,
+        BigDecimal moneyWeightedReturn
+) {
+
+    public static PortfolioReturnsResponse from(PortfolioReturns returns) {
+        return new PortfolioReturnsResponse(
+                returns.from(),
+                returns.to(),
+                returns.timeWeightedReturn(),
+                returns.moneyWeightedReturn()
+        );
+    }
+}
@@ -0,0 +1,37 @@
+package com.truvis.portfolio.model;
+
+import com.truvis.portfolio.domain.PortfolioRisk;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 포트폴리오 위험 지표 응답 DTO
+ * - asOf: 위험 모형 기준일 (이날 종가까지의 일간 수익률 사용)
+ * - volatility: 연율 변동성 (%)
+ * - beta: 시장 지표 대비 베타 (계산 불가 시 null)
+ * - historicalVar / parametricVar: 1일 95% VaR (원, 하루에 이 금액 이상 잃을 확률 5%)
+ * - coverage: 위험 계산에 포함된 평가금액 비중 (%)
+ */
+public record PortfolioRiskResponse(
+        LocalDate asOf,
+        BigDecimal marketValue,
+        BigDecimal volatility,
+        BigDecimal beta,
+        BigDecimal historicalVar,
+        BigDecimal parametricVar,
+        BigDecimal coverage
+) {
+
+    public static PortfolioRiskResponse from(PortfolioRisk risk) {
+        return new PortfolioRiskResponse(
+                risk.asOf(),
+                risk.marketValue(),
+                risk.volatility(),
+                risk.beta(),
+                risk.historicalVar(),
+                risk.parametricVar(),
+                risk.coverage()
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.truvis.portfolio.model;
+
+import com.truvis.portfolio.domain.PortfolioSnapshot;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 일별 포트폴리오 평가 응답 DTO (장 마감 기준)
+ */
+public record PortfolioSnapshotResponse(
+        LocalDate date,
+        BigDecimal marketValue,
+        BigDecimal totalCost,
+        BigDecimal unrealizedProfit,
+        BigDecimal returnRate
+) {
+
+    public static PortfolioSnapshotResponse from(PortfolioSnapshot snapshot) {
+        return new PortfolioSnapshotResponse(
+                snapshot.date(),
+                snapshot.valuation().marketValue(),
+                snapshot.valuation().totalCost(),
+                snapshot.valuation().unrealizedProfit(),
+                snapshot.valuation().returnRate()
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.truvis.portfolio.model;
+
+import com.truvis.portfolio.domain.rebalance.RebalanceOrder;
+
+import java.math.BigDecimal;
+
+/**
+ * 리밸런싱 주문 응답 DTO
+ * - type: BUY / SELL
+ * - amount: 현재가 × 수량 (수수료 제외)
+ */
+public record RebalanceOrderResponse(
+        String stockCode,
+        String type,
+        long quantity,
+        BigDecimal price,
+        BigDecimal amount
+) {
+
+    public static RebalanceOrderResponse from(RebalanceOrder order) {
+        return new RebalanceOrderResponse(
+                order.stockCode(),
+                order.type().name(),
+                order.quantity(),
+                order.price(),
+                order.amount()
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package com.truvis.portfolio.model;
+
+import com.truvis.portfolio.domain.rebalance.RebalancePlan;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 리밸런싱 계획 응답 DTO
+ * - masterStyle: 목표 비중을 가져온 거장 스타일 (직접 정한 비중이면 null)
+ * - totalValue: 현재가 기준 보유 평가금액 + 주문 가능 현금
+ * - cashAfter: 주문을 모두 체결했을 때 남는 현금 (수수료/세금 차감 후)
+ * - deviationBefore / deviationAfter: 목표 대비 괴리 (%, 0이면 목표와 같음)
+ * - orders: 매도 먼저, 그다음 매수 (목표와 차이가 허용 범위 안인 종목은 주문 없음)
+ */
+public record RebalancePlanResponse(
+        Long userId,
+        String masterStyle,
+        BigDecimal totalValue,
+        BigDecimal cash,
+        BigDecimal cashAfter,
+        int holdingCount,
+        BigDecimal deviationBefore,
+        BigDecimal deviationAfter,
+        List<RebalanceOrderResponse> orders
+) {
+
+    public static RebalancePlanResponse from(RebalancePlan plan) {
+        return new RebalancePlanResponse(
+                plan.userId(),
+                plan.masterStyle(),
+                plan.totalValue(),
+                plan.cash(),
+                plan.cashAfter(),
+                plan.holdingCount(),
+                plan.deviationBefore(),
+                plan.deviationAfter(),
+                plan.orders().stream().map(RebalanceOrderResponse::from).toList()
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.truvis.portfolio.repository;
+
+import java.util.Collection;
+
+/**
+ * 포트폴리오에 반영한 거래 ID 저장소 (중복 반영 방지)
+ */
+public interface AppliedTransactionRepository {
+
+    boolean isApplied(Long transactionId);
+
+    /**
+     * 반영 완료 기록 (이미 기록된 ID는 건너뜀)
+     */
+    void markApplied(Long portfolioId, Collection<Long> transactionIds);
+}
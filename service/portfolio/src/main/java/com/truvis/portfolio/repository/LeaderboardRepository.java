@@ -0,0 +1,34 @@
+package com.truvis.portfolio.repository;
+
+import com.truvis.portfolio.domain.leaderboard.Leaderboard;
+import com.truvis.portfolio.domain.leaderboard.LeaderboardEntry;
+import com.truvis.portfolio.domain.leaderboard.LeaderboardUpdate;
+
+import java.util.List;
+
+/**
+ * 수익률 순위표 저장/조회 인터페이스 (조회는 모두 O(log n) 한 번)
+ */
+public interface LeaderboardRepository {
+
+    /**
+     * 일괄 갱신 (왕복 1번)
+     */
+    void apply(LeaderboardUpdate update);
+
+    /**
+     * 순위표 전체를 스냅샷으로 교체 (스냅샷에 없는 사용자/순위표는 지운다, 조회 쪽에서는 한 번에 바뀐다)
+     */
+    void replaceAll(LeaderboardUpdate snapshot);
+
+    /**
+     * 상위 limit명 (1위부터)
+     */
+    List<LeaderboardEntry> findTop(Leaderboard leaderboard, int limit);
+
+    /**
+     * 사용자 위아래 radius명까지 (사용자 포함, 순위표에 없으면 빈 목록)
+     * - radius = 0이면 사용자 순위만
+     */
+    List<LeaderboardEntry> findAround(Leaderboard leaderboard, Long userId, int radius);
+}
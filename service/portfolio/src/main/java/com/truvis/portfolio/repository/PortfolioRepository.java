@@ -1,15 +1,53 @@
 package com.truvis.portfolio.repository;
 
+import com.truvis.portfolio.domain.Portfolio;
+
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 포트폴리오 저장/조회 인터페이스
- * 
- * TODO: 구현 필요
- * - save() - 포트폴리오 저장
- * - findById() - ID로 조회
- * - findByUserId() - 사용자별 포트폴리오 조회
- * - delete() - 포트폴리오 삭제
  */
 public interface PortfolioRepository {
-    
-    // TODO: 메서드 정의
+
+    /**
+     * 포트폴리오 저장 (보유 종목 포함)
+     */
+    Portfolio save(Portfolio portfolio);
+
+    /**
+     * ID로 조회
+     */
+    Optional<Portfolio> findById(Long portfolioId);
+
+    /**
+     * 사용자 포트폴리오 조회 (사용자당 1개)
+     */
+    Optional<Portfolio> findByUserId(Long userId);
+
+    /**
+     * 갱신용 조회 (커밋 시 버전을 올린다 → 그 사이 다른 갱신이 커밋됐으면 충돌)
+     * - 보유 종목 반영과 매수 접수(보유 종목 수 한도 확인)가 함께 쓴다
+     */
+    Optional<Portfolio> findByUserIdForWrite(Long userId);
+
+    /**
+     * 포트폴리오가 있는 사용자 ID 전체 (오름차순)
+     */
+    List<Long> findAllUserIds();
+
+    /**
+     * 사용자 ID 구간 [fromUserId, toUserId]의 포트폴리오 (보유 종목 포함)
+     */
+    List<Portfolio> findByUserIdBetween(Long fromUserId, Long toUserId);
+
+    /**
+     * 거장 스타일을 따르는 포트폴리오의 사용자 ID (오름차순)
+     */
+    List<Long> findSubscribedUserIds();
+
+    /**
+     * 사용자 ID 구간 [fromUserId, toUserId]에서 거장 스타일을 따르는 포트폴리오 (보유 종목 포함)
+     */
+    List<Portfolio> findSubscribedByUserIdBetween(Long fromUserId, Long toUserId);
 }
@@ -0,0 +1,120 @@
+package com.truvis.portfolio.application;
+
+import com.truvis.common.exception.PortfolioException;
+import com.truvis.portfolio.domain.Portfolio;
+import com.truvis.portfolio.repository.InMemoryPortfolioRepository;
+import com.truvis.transaction.domain.Transaction;
+import com.truvis.transaction.domain.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HoldingLimitGuard 보유 종목 수 한도 테스트")
+class HoldingLimitGuardTest {
+
+    private InMemoryPortfolioRepository portfolioRepository;
+    private OpenStockTransactionRepository transactionRepository;
+    private HoldingLimitGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        portfolioRepository = new InMemoryPortfolioRepository();
+        transactionRepository = new OpenStockTransactionRepository();
+        guard = new HoldingLimitGuard(portfolioRepository, transactionRepository);
+    }
+
+    @Test
+    @DisplayName("보유 종목 50개에서 새 종목 매수는 거절, 보유 중인 종목 추가 매수는 허용")
+    void rejectNewStockAtLimit() {
+        // given
+        for (int i = 0; i < Portfolio.MAX_OPEN_HOLDINGS; i++) {
+            transactionRepository.openStockCodes.add(String.format("%06d", i));
+        }
+
+        // when & then
+        assertThatThrownBy(() -> guard.checkBuy(1L, "999999"))
+                .isInstanceOf(PortfolioException.class)
+                .hasMessageContaining("50");
+        assertThatCode(() -> guard.checkBuy(1L, "000000")).doesNotThrowAnyException();
+        assertThat(portfolioRepository.getWriteUserIds()).containsExactly(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("포트폴리오가 없으면 첫 매수에서 만들고, 다음 매수부터는 버전을 올리는 조회로 읽음")
+    void createPortfolioOnFirstBuy() {
+        // when
+        guard.checkBuy(1L, "005930");
+        guard.checkBuy(1L, "000660");
+
+        // then
+        assertThat(portfolioRepository.getSaveCount()).isEqualTo(1);
+        assertThat(portfolioRepository.findByUserId(1L)).isPresent();
+        assertThat(portfolioRepository.getWriteUserIds()).containsExactly(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("한 종목을 정리해 49개가 되면 새 종목 매수 허용")
+    void allowNewStockBelowLimit() {
+        // given
+        for (int i = 0; i < Portfolio.MAX_OPEN_HOLDINGS - 1; i++) {
+            transactionRepository.openStockCodes.add(String.format("%06d", i));
+        }
+
+        // when & then
+        assertThatCode(() -> guard.checkBuy(1L, "999999")).doesNotThrowAnyException();
+    }
+
+    /**
+     * 보유 중인 종목 코드만 돌려준다
+     */
+    private static final class OpenStockTransactionRepository implements TransactionRepository {
+
+        private final List<String> openStockCodes = new ArrayList<>();
+
+        @Override
+        public Transaction save(Transaction transaction) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Transaction> findById(Long id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Transaction> findByUserId(Long userId) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public List<Transaction> findByUserIdAndStockCode(Long userId, String stockCode) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public List<String> findOpenStockCodes(Long userId) {
+            return openStockCodes;
+        }
+
+        @Override
+        public List<Long> findDistinctUserIds() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public List<Transaction> findByUserIdBetween(Long fromUserId, Long toUserId) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public void delete(Transaction transaction) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
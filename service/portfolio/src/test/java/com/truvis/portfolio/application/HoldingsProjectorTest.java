@@ -0,0 +1,154 @@
+package com.truvis.portfolio.application;
+
+import com.truvis.portfolio.domain.ApplyResult;
+import com.truvis.portfolio.domain.Holding;
+import com.truvis.portfolio.domain.Portfolio;
+import com.truvis.portfolio.domain.TransactionRecord;
+import com.truvis.portfolio.infrastructure.valuation.PortfolioValuationEngine;
+import com.truvis.portfolio.repository.AppliedTransactionRepository;
+import com.truvis.portfolio.repository.InMemoryPortfolioRepository;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import com.truvis.transaction.domain.Transaction;
+import com.truvis.transaction.domain.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HoldingsProjector 보유 종목 반영 테스트")
+class HoldingsProjectorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 2, 9, 0);
+
+    private InMemoryPortfolioRepository portfolioRepository;
+    private InMemoryAppliedTransactionRepository appliedTransactionRepository;
+    private HoldingsProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        portfolioRepository = new InMemoryPortfolioRepository();
+        appliedTransactionRepository = new InMemoryAppliedTransactionRepository();
+        projector = new HoldingsProjector(
+                portfolioRepository,
+                appliedTransactionRepository,
+                new EmptyTransactionRepository(),
+                new PortfolioValuationEngine(new QuoteStore(16)));
+    }
+
+    @Test
+    @DisplayName("같은 거래 이벤트가 두 번 와도 보유 종목에는 한 번만 반영")
+    void applyDuplicateEventOnce() {
+        // given
+        TransactionRecord buy = new TransactionRecord(1, "005930", 10, new BigDecimal("70000"), NOW);
+
+        // when
+        ApplyResult first = projector.apply(1L, buy);
+        ApplyResult second = projector.apply(1L, buy);
+
+        // then
+        assertThat(first).isEqualTo(ApplyResult.APPLIED);
+        assertThat(second).isNull();
+
+        Holding holding = portfolioRepository.findByUserId(1L).orElseThrow()
+                .findHolding("005930").orElseThrow();
+        assertThat(holding.getQuantity()).isEqualTo(10);
+        assertThat(holding.getTotalCost()).isEqualByComparingTo("700000");
+        assertThat(appliedTransactionRepository.markedCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이후 거래가 반영된 뒤 앞선 이벤트가 다시 와도 중복으로 건너뜀")
+    void skipRedeliveryAfterLaterTransaction() {
+        // given
+        TransactionRecord buy = new TransactionRecord(1, "005930", 10, new BigDecimal("70000"), NOW);
+        TransactionRecord sell = new TransactionRecord(2, "005930", -4, new BigDecimal("75000"), NOW.plusMinutes(1));
+        projector.apply(1L, buy);
+        projector.apply(1L, sell);
+
+        // when
+        ApplyResult redelivered = projector.apply(1L, buy);
+
+        // then (재계산으로 가지 않고 그대로)
+        assertThat(redelivered).isNull();
+        Holding holding = portfolioRepository.findByUserId(1L).orElseThrow()
+                .findHolding("005930").orElseThrow();
+        assertThat(holding.getQuantity()).isEqualTo(6);
+        assertThat(holding.getRealizedProfit()).isEqualByComparingTo("20000");
+    }
+
+    private static final class InMemoryAppliedTransactionRepository implements AppliedTransactionRepository {
+
+        private final Set<Long> applied = new HashSet<>();
+        private int markedCount = 0;
+
+        @Override
+        public boolean isApplied(Long transactionId) {
+            return applied.contains(transactionId);
+        }
+
+        @Override
+        public void markApplied(Long portfolioId, Collection<Long> transactionIds) {
+            for (Long transactionId : transactionIds) {
+                if (applied.add(transactionId)) {
+                    markedCount++;
+                }
+            }
+        }
+    }
+
+    /**
+     * 증분 반영만 확인하므로 이력 조회는 쓰이지 않는다
+     */
+    private static final class EmptyTransactionRepository implements TransactionRepository {
+
+        @Override
+        public Transaction save(Transaction transaction) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Transaction> findById(Long id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Transaction> findByUserId(Long userId) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public List<Transaction> findByUserIdAndStockCode(Long userId, String stockCode) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public List<String> findOpenStockCodes(Long userId) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public List<Long> findDistinctUserIds() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public List<Transaction> findByUserIdBetween(Long fromUserId, Long toUserId) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public void delete(Transaction transaction) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
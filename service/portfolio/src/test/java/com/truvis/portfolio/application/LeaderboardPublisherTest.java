@@ -0,0 +1,223 @@
+package com.truvis.portfolio.application;
+
+import com.truvis.portfolio.domain.Portfolio;
+import com.truvis.portfolio.domain.leaderboard.Leaderboard;
+import com.truvis.portfolio.domain.leaderboard.LeaderboardEntry;
+import com.truvis.portfolio.domain.leaderboard.LeaderboardUpdate;
+import com.truvis.portfolio.infrastructure.valuation.PortfolioValuationEngine;
+import com.truvis.portfolio.repository.InMemoryPortfolioRepository;
+import com.truvis.portfolio.repository.LeaderboardRepository;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LeaderboardPublisher 순위표 일괄 갱신 테스트")
+class LeaderboardPublisherTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 2, 9, 0);
+    private static final Leaderboard VALUE = Leaderboard.of("VALUE");
+    private static final Leaderboard GROWTH = Leaderboard.of("GROWTH");
+
+    private QuoteStore quoteStore;
+    private PortfolioValuationEngine engine;
+    private InMemoryLeaderboardRepository repository;
+    private InMemoryPortfolioRepository portfolioRepository;
+    private LeaderboardPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        quoteStore = new QuoteStore(16);
+        engine = new PortfolioValuationEngine(quoteStore);
+        repository = new InMemoryLeaderboardRepository();
+        portfolioRepository = new InMemoryPortfolioRepository();
+        publisher = new LeaderboardPublisher(engine, repository, portfolioRepository);
+    }
+
+    @Test
+    @DisplayName("간격 사이 틱이 몰려도 사용자당 1건, Redis 쓰기 1번으로 마지막 수익률만 반영")
+    void coalesceTicks() {
+        // given (삼성전자 보유자 2명)
+        tick("005930", "70000");
+        engine.track(portfolio(1L, "005930", 10, "70000"));
+        engine.track(portfolio(2L, "005930", 10, "77000"));
+        publisher.flush();
+        repository.applyCount = 0;
+
+        // when (틱 1,000번 후 77,000원)
+        for (int i = 1; i <= 1000; i++) {
+            tick("005930", String.valueOf(70000 + i * 7));
+        }
+        int written = publisher.flush();
+
+        // then
+        assertThat(written).isEqualTo(2);
+        assertThat(repository.applyCount).isEqualTo(1);
+        assertThat(repository.findTop(Leaderboard.OVERALL, 10))
+                .extracting(LeaderboardEntry::userId)
+                .containsExactly(1L, 2L);
+        assertThat(repository.score(Leaderboard.OVERALL, 1L)).isEqualTo(10.0);
+        assertThat(repository.score(Leaderboard.OVERALL, 2L)).isEqualTo(0.0);
+
+        // 바뀐 게 없으면 쓰지 않음
+        assertThat(publisher.flush()).isZero();
+        assertThat(repository.applyCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("거장 스타일을 바꾸면 이전 스타일 순위표에서 빠지고, 전량 매도하면 모든 순위표에서 빠짐")
+    void moveBetweenStyleBoards() {
+        // given
+        tick("005930", "70000");
+        Portfolio portfolio = portfolio(1L, "005930", 10, "70000");
+        portfolio.followMasterStyle("VALUE");
+        engine.track(portfolio);
+        publisher.flush();
+        assertThat(repository.score(VALUE, 1L)).isEqualTo(0.0);
+
+        // when (스타일 변경)
+        portfolio.followMasterStyle("GROWTH");
+        engine.track(portfolio);
+        publisher.flush();
+
+        // then
+        assertThat(repository.score(VALUE, 1L)).isNull();
+        assertThat(repository.score(GROWTH, 1L)).isEqualTo(0.0);
+        assertThat(repository.findAround(GROWTH, 1L, 5)).hasSize(1);
+
+        // when (전량 매도)
+        portfolio.applyTransaction(2, "005930", -10, new BigDecimal("70000"), NOW.plusMinutes(1));
+        engine.track(portfolio);
+        publisher.flush();
+
+        // then
+        assertThat(repository.score(Leaderboard.OVERALL, 1L)).isNull();
+        assertThat(repository.score(GROWTH, 1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("기동 시 저장된 포트폴리오 전체로 순위표를 교체 - 이전 실행이 남긴 항목은 지워짐")
+    void seedReplacesStaleEntries() {
+        // given (이전 실행이 남긴 순위: 탈퇴/정리된 사용자 99, 스타일을 바꾼 사용자 1)
+        LeaderboardUpdate leftover = new LeaderboardUpdate();
+        leftover.put(Leaderboard.OVERALL, 99L, 50.0);
+        leftover.put(GROWTH, 99L, 50.0);
+        leftover.put(GROWTH, 1L, -3.0);
+        repository.apply(leftover);
+
+        tick("005930", "77000");
+        Portfolio value = portfolio(1L, "005930", 10, "70000");
+        value.followMasterStyle("VALUE");
+        Portfolio closed = portfolio(2L, "005930", 10, "70000");
+        closed.applyTransaction(2, "005930", -10, new BigDecimal("77000"), NOW.plusMinutes(1));
+        portfolioRepository.save(value);
+        portfolioRepository.save(closed);
+        portfolioRepository.save(portfolio(3L, "005930", 10, "77000"));
+
+        // when
+        int seeded = publisher.seed();
+
+        // then
+        assertThat(seeded).isEqualTo(2);
+        assertThat(repository.replaceCount).isEqualTo(1);
+        assertThat(repository.findTop(Leaderboard.OVERALL, 10))
+                .extracting(LeaderboardEntry::userId)
+                .containsExactly(1L, 3L);
+        assertThat(repository.score(VALUE, 1L)).isEqualTo(10.0);
+        assertThat(repository.findTop(GROWTH, 10)).isEmpty();
+
+        // 이후에는 바뀐 것만 증분으로
+        tick("005930", "84000");
+        assertThat(publisher.flush()).isEqualTo(3);  // 사용자 1 (전체 + VALUE), 사용자 3 (전체)
+        assertThat(repository.score(Leaderboard.OVERALL, 3L)).isCloseTo(9.09, within(0.001));
+    }
+
+    private Portfolio portfolio(Long userId, String stockCode, int quantity, String price) {
+        Portfolio portfolio = Portfolio.createDefault(userId);
+        portfolio.applyTransaction(1, stockCode, quantity, new BigDecimal(price), NOW);
+        return portfolio;
+    }
+
+    private void tick(String symbol, String price) {
+        int slot = quoteStore.slotOf(symbol);
+        long scaled = QuoteStore.toScaled(new BigDecimal(price));
+        quoteStore.update(slot, scaled, scaled, scaled, 1, 0);
+        engine.onTick(slot, 0, scaled, 1);
+    }
+
+    /**
+     * ZSET 대신 맵으로 순위표 흉내 (수익률 내림차순)
+     */
+    private static final class InMemoryLeaderboardRepository implements LeaderboardRepository {
+
+        private final Map<Leaderboard, Map<Long, Double>> boards = new HashMap<>();
+        private int applyCount;
+        private int replaceCount;
+
+        @Override
+        public void apply(LeaderboardUpdate update) {
+            applyCount++;
+            write(update);
+        }
+
+        @Override
+        public void replaceAll(LeaderboardUpdate snapshot) {
+            replaceCount++;
+            boards.clear();
+            write(snapshot);
+        }
+
+        private void write(LeaderboardUpdate update) {
+            update.getChanges().forEach((leaderboard, scores) -> scores.forEach((userId, score) -> {
+                Map<Long, Double> board = boards.computeIfAbsent(leaderboard, key -> new HashMap<>());
+                if (Double.isNaN(score)) {
+                    board.remove(userId);
+                } else {
+                    board.put(userId, score);
+                }
+            }));
+        }
+
+        @Override
+        public List<LeaderboardEntry> findTop(Leaderboard leaderboard, int limit) {
+            List<LeaderboardEntry> ranked = ranked(leaderboard);
+            return ranked.subList(0, Math.min(limit, ranked.size()));
+        }
+
+        @Override
+        public List<LeaderboardEntry> findAround(Leaderboard leaderboard, Long userId, int radius) {
+            List<LeaderboardEntry> ranked = ranked(leaderboard);
+            for (int i = 0; i < ranked.size(); i++) {
+                if (ranked.get(i).userId().equals(userId)) {
+                    return ranked.subList(Math.max(0, i - radius), Math.min(ranked.size(), i + radius + 1));
+                }
+            }
+            return List.of();
+        }
+
+        Double score(Leaderboard leaderboard, Long userId) {
+            return boards.getOrDefault(leaderboard, Map.of()).get(userId);
+        }
+
+        private List<LeaderboardEntry> ranked(Leaderboard leaderboard) {
+            List<Map.Entry<Long, Double>> scores = new ArrayList<>(boards.getOrDefault(leaderboard, Map.of()).entrySet());
+            scores.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()));
+
+            List<LeaderboardEntry> entries = new ArrayList<>();
+            for (int i = 0; i < scores.size(); i++) {
+                entries.add(new LeaderboardEntry(
+                        i + 1, scores.get(i).getKey(), BigDecimal.valueOf(scores.get(i).getValue())));
+            }
+            return entries;
+        }
+    }}
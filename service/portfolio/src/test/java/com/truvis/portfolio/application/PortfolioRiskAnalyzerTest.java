@@ -0,0 +1,127 @@
+package com.truvis.portfolio.application;
+
+import com.truvis.portfolio.domain.Portfolio;
+import com.truvis.portfolio.domain.risk.CovarianceMatrix;
+import com.truvis.portfolio.domain.risk.ReturnMatrix;
+import com.truvis.portfolio.domain.risk.RiskModel;
+import com.truvis.portfolio.infrastructure.risk.RiskModelLoader;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PortfolioRiskAnalyzer 위험 모형 교체 테스트")
+class PortfolioRiskAnalyzerTest {
+
+    private static final String ZONE = "Asia/Seoul";
+
+    private BlockingLoader loader;
+    private PortfolioRiskAnalyzer analyzer;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        loader = new BlockingLoader();
+        analyzer = new PortfolioRiskAnalyzer(loader, new QuoteStore(16), 2, ZONE);
+        today = LocalDate.now(ZoneId.of(ZONE));
+    }
+
+    @AfterEach
+    void tearDown() {
+        loader.release.countDown();
+        analyzer.shutdown();
+    }
+
+    @Test
+    @DisplayName("날짜가 지난 모형은 새 모형을 만드는 동안에도 기다리지 않고 그대로 쓰고, 다 만들어지면 교체")
+    void serveStaleModelWhileRebuilding() throws Exception {
+        // given: 어제 모형이 있는 상태
+        loader.modelDay = today.minusDays(1);
+        loader.release.countDown();
+        analyzer.refreshAsync(today.minusDays(1)).get(5, TimeUnit.SECONDS);
+        loader.blockNext();
+        loader.modelDay = today;
+
+        // when
+        LocalDate servedWhileBuilding = analyzer.analyze(Portfolio.createDefault(1L)).asOf();
+        LocalDate servedAgain = analyzer.analyze(Portfolio.createDefault(2L)).asOf();
+
+        // then (생성은 한 번만 걸리고, 그동안 조회는 어제 모형)
+        assertThat(servedWhileBuilding).isEqualTo(today.minusDays(1));
+        assertThat(servedAgain).isEqualTo(today.minusDays(1));
+        assertThat(loader.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        loader.release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!today.equals(analyzer.analyze(Portfolio.createDefault(1L)).asOf()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(analyzer.analyze(Portfolio.createDefault(1L)).asOf()).isEqualTo(today);
+        assertThat(loader.loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("모형이 아직 없으면 생성 중인 모형을 같이 기다리고, 같은 풀을 계속 쓴다")
+    void waitOnlyForFirstModel() {
+        // given
+        loader.modelDay = today;
+        loader.release.countDown();
+        analyzer.warmUp();
+
+        // when
+        LocalDate asOf = analyzer.analyze(Portfolio.createDefault(1L)).asOf();
+        analyzer.scheduledRefresh();
+        analyzer.refreshAsync(today).join();
+
+        // then
+        assertThat(asOf).isEqualTo(today);
+        assertThat(loader.pools).hasSize(1);
+    }
+
+    /**
+     * 호출마다 빈 모형을 돌려주는 로더 (release 전까지 막힘)
+     */
+    private static final class BlockingLoader extends RiskModelLoader {
+
+        private final AtomicInteger loads = new AtomicInteger();
+        private final Set<ForkJoinPool> pools = ConcurrentHashMap.newKeySet();
+        private volatile CountDownLatch release = new CountDownLatch(1);
+        private volatile CountDownLatch started = new CountDownLatch(1);
+        private volatile LocalDate modelDay;
+
+        BlockingLoader() {
+            super(null, null, 250, "069500", ZONE);
+        }
+
+        void blockNext() {
+            release = new CountDownLatch(1);
+            started = new CountDownLatch(1);
+        }
+
+        @Override
+        public RiskModel load(LocalDate tradingDay, ForkJoinPool pool) {
+            loads.incrementAndGet();
+            pools.add(pool);
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ReturnMatrix returns = new ReturnMatrix(new String[0], new double[0], 0);
+            return new RiskModel(modelDay, returns, CovarianceMatrix.estimate(returns, pool), new double[0], "069500");
+        }
+    }
+}
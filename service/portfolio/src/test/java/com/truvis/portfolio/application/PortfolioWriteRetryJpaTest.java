@@ -0,0 +1,236 @@
+package com.truvis.portfolio.application;
+
+import com.truvis.common.exception.PortfolioException;
+import com.truvis.portfolio.domain.Holding;
+import com.truvis.portfolio.domain.Portfolio;
+import com.truvis.portfolio.domain.TransactionRecord;
+import com.truvis.portfolio.event.TransactionProjectionListener;
+import com.truvis.portfolio.infrastructure.JpaAppliedTransactionRepository;
+import com.truvis.portfolio.infrastructure.JpaPortfolioRepository;
+import com.truvis.portfolio.infrastructure.valuation.PortfolioValuationEngine;
+import com.truvis.portfolio.repository.AppliedTransactionRepository;
+import com.truvis.portfolio.repository.PortfolioRepository;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import com.truvis.transaction.application.TransactionService;
+import com.truvis.transaction.domain.Price;
+import com.truvis.transaction.domain.Quantity;
+import com.truvis.transaction.domain.StockCode;
+import com.truvis.transaction.domain.Transaction;
+import com.truvis.transaction.domain.TransactionRepository;
+import com.truvis.transaction.domain.TransactionType;
+import com.truvis.transaction.event.TransactionCompletedEvent;
+import com.truvis.transaction.infrastructure.JpaTransactionRepositoryAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 실제 JPA 버전 검사(@Version + OPTIMISTIC_FORCE_INCREMENT)와 유일 제약으로 동시 갱신 확인
+ * - 테스트 트랜잭션을 끄고 시도마다 HoldingsProjector 트랜잭션이 따로 커밋되게 한다
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("PortfolioWriteRetry JPA 동시 갱신 테스트")
+class PortfolioWriteRetryJpaTest {
+
+    private static final int WRITERS = 64;
+    private static final int MAX_ATTEMPTS = 10;  // portfolio.projection.max-attempts 운영값
+    private static final long USER_ID = 1L;
+
+    @Autowired
+    private HoldingsProjector projector;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private AppliedTransactionRepository appliedTransactionRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    @DisplayName("첫 거래 64건이 동시에 포트폴리오를 만들고 갱신 - 재시도 초과 없이 모든 거래가 정확히 한 번씩 반영")
+    void concurrentWritersOnNewPortfolio() throws Exception {
+        // given: 각자 다른 종목 매수 (포트폴리오 생성 경쟁 + 버전 충돌)
+        List<TransactionRecord> records = saveBuys(USER_ID, WRITERS);
+        // 한 번 충돌할 때마다 다른 쓰기 하나가 커밋된 것 → 쓰기 수만큼 시도하면 재시도 초과가 나올 수 없다
+        PortfolioWriteRetry retry = new PortfolioWriteRetry(WRITERS, 5);
+
+        // when
+        runConcurrently(records, record -> retry.execute(USER_ID, () -> projector.apply(USER_ID, record)));
+
+        // then
+        PortfolioWriteRetry.Metrics metrics = retry.getMetrics();
+        assertThat(metrics.exhausted()).isZero();
+        assertThat(metrics.succeeded()).isEqualTo(WRITERS);
+        assertThat(metrics.attempts()).isEqualTo(metrics.succeeded() + metrics.conflicts());
+        assertThat(metrics.conflicts()).isPositive();
+        assertAllApplied(USER_ID, records);
+    }
+
+    @Test
+    @DisplayName("재시도를 다 쓴 이벤트는 사용자를 재구성 대기열에 올리고, 재구성하면 빠짐없이 반영")
+    void requeueExhaustedEvents() throws Exception {
+        // given: 한 번만 시도하는 반영 (충돌하면 바로 재시도 초과)
+        long userId = 3L;
+        List<TransactionRecord> records = saveBuys(userId, 16);
+        PortfolioWriteRetry oneShot = new PortfolioWriteRetry(1, 0);
+        HoldingsRebuildJob rebuildJob = new HoldingsRebuildJob(
+                transactionRepository, projector, new PortfolioWriteRetry(MAX_ATTEMPTS, 5), 1, false);
+        TransactionProjectionListener listener = new TransactionProjectionListener(projector, oneShot, rebuildJob);
+        Map<Long, Transaction> transactions = transactionRepository.findByUserId(userId).stream()
+                .collect(Collectors.toMap(Transaction::getId, transaction -> transaction));
+
+        // when
+        runConcurrently(records, record -> listener.handleTransactionCompleted(
+                TransactionCompletedEvent.of(transactions.get(record.transactionId()))));
+        long exhausted = oneShot.getMetrics().exhausted();
+        int pending = rebuildJob.getPendingCount();
+        rebuildJob.rebuildPending();
+
+        // then
+        assertThat(oneShot.getMetrics().succeeded() + exhausted).isEqualTo(records.size());
+        assertThat(pending).isEqualTo(exhausted > 0 ? 1 : 0);
+        assertThat(rebuildJob.getPendingCount()).isZero();
+        assertAllApplied(userId, records);
+    }
+
+    @Test
+    @DisplayName("포트폴리오 없이 49종목 보유 중 새 종목 매수 8건이 동시에 접수 - 한 건만 저장되고 나머지는 한도 초과")
+    void concurrentBuysRespectHoldingLimit() throws Exception {
+        // given: 프로젝션 전이라 포트폴리오 행이 없는 사용자 (첫 매수끼리 포트폴리오 생성 경쟁)
+        long userId = 2L;
+        for (int i = 0; i < Portfolio.MAX_OPEN_HOLDINGS - 1; i++) {
+            transactionRepository.save(Transaction.execute(userId, StockCode.of(String.format("%06d", i)),
+                    TransactionType.BUY, Quantity.of(1), Price.of("1000")));
+        }
+        int buyers = 8;
+        PortfolioWriteRetry retry = new PortfolioWriteRetry(MAX_ATTEMPTS, 5);
+        ExecutorService executor = Executors.newFixedThreadPool(buyers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < buyers; i++) {
+            String stockCode = String.format("9%05d", i);
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    retry.execute(userId, () -> transactionService.executeTransaction(
+                            userId, stockCode, TransactionType.BUY, 1, "1000"));
+                    accepted.incrementAndGet();
+                } catch (PortfolioException limitExceeded) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(accepted.get()).isEqualTo(1);
+        assertThat(rejected.get()).isEqualTo(buyers - 1);
+        assertThat(retry.getMetrics().exhausted()).isZero();
+        assertThat(transactionRepository.findOpenStockCodes(userId)).hasSize(Portfolio.MAX_OPEN_HOLDINGS);
+        assertThat(portfolioRepository.findByUserId(userId)).isPresent();
+    }
+
+    /**
+     * 사용자별로 다른 종목 매수 거래를 저장 (수량은 1, 2, 3, ...)
+     */
+    private List<TransactionRecord> saveBuys(long userId, int count) {
+        List<TransactionRecord> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String stockCode = String.format("%06d", i);
+            Transaction saved = transactionRepository.save(Transaction.execute(userId, StockCode.of(stockCode),
+                    TransactionType.BUY, Quantity.of(i + 1), Price.of("50000")));
+            records.add(new TransactionRecord(
+                    saved.getId(), stockCode, i + 1, new BigDecimal("50000"), saved.getExecutedAt()));
+        }
+        return records;
+    }
+
+    private static void runConcurrently(List<TransactionRecord> records, Consumer<TransactionRecord> action)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(records.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (TransactionRecord record : records) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                action.accept(record);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * 모든 거래가 한 번씩 반영되어 보유 수량이 거래 수량의 합과 같은지
+     */
+    private void assertAllApplied(long userId, List<TransactionRecord> records) {
+        Portfolio portfolio = portfolioRepository.findByUserId(userId).orElseThrow();
+        Map<String, Long> held = portfolio.getOpenHoldings().stream()
+                .collect(Collectors.toMap(Holding::getStockCode, Holding::getQuantity));
+        Map<String, Long> expected = records.stream()
+                .collect(Collectors.groupingBy(TransactionRecord::stockCode,
+                        Collectors.summingLong(TransactionRecord::quantityChange)));
+
+        assertThat(held).isEqualTo(expected);
+        for (TransactionRecord record : records) {
+            assertThat(appliedTransactionRepository.isApplied(record.transactionId())).isTrue();
+        }
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackages = {"com.truvis.portfolio.domain", "com.truvis.transaction.domain"})
+    @EnableJpaRepositories(basePackages = {"com.truvis.portfolio.infrastructure", "com.truvis.transaction.infrastructure"})
+    @Import({
+            JpaPortfolioRepository.class,
+            JpaAppliedTransactionRepository.class,
+            JpaTransactionRepositoryAdapter.class,
+            HoldingsProjector.class,
+            HoldingLimitGuard.class,
+            TransactionService.class,
+            PortfolioValuationEngine.class,
+            QuoteStore.class
+    })
+    static class JpaTestConfig {
+    }
+}
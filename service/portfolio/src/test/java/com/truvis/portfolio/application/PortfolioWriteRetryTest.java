@@ -0,0 +1,86 @@
+package com.truvis.portfolio.application;
+
+import com.truvis.portfolio.domain.Holding;
+import com.truvis.portfolio.domain.Portfolio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PortfolioWriteRetry 재시도 테스트")
+class PortfolioWriteRetryTest {
+
+    @Test
+    @DisplayName("재시도 횟수를 다 쓰면 충돌 예외를 그대로 던지고 지표에 남김")
+    void exhaustedRetries() {
+        // given
+        PortfolioWriteRetry retry = new PortfolioWriteRetry(3, 0);
+
+        // when & then
+        assertThatThrownBy(() -> retry.execute(1L, () -> {
+            throw new OptimisticLockingFailureException("충돌");
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+
+        PortfolioWriteRetry.Metrics metrics = retry.getMetrics();
+        assertThat(metrics.attempts()).isEqualTo(3);
+        assertThat(metrics.exhausted()).isEqualTo(1);
+        assertThat(metrics.conflictRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("포트폴리오/보유 종목 행을 동시에 만들다 걸린 유일 제약은 재시도")
+    void retryCreationRace() {
+        // given
+        PortfolioWriteRetry retry = new PortfolioWriteRetry(10, 0);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = retry.execute(1L, () -> {
+            switch (calls.incrementAndGet()) {
+                case 1 -> throw integrityViolation("Unique index or primary key violation: \"PUBLIC."
+                        + Portfolio.USER_ID_UNIQUE.toUpperCase() + "_INDEX_5 ON PUBLIC.PORTFOLIOS(USER_ID)\"");
+                case 2 -> throw integrityViolation("Duplicate entry '7-005930' for key 'holdings."
+                        + Holding.PORTFOLIO_STOCK_UNIQUE + "'");
+                default -> {
+                    return "커밋";
+                }
+            }
+        });
+
+        // then
+        PortfolioWriteRetry.Metrics metrics = retry.getMetrics();
+        assertThat(result).isEqualTo("커밋");
+        assertThat(metrics.attempts()).isEqualTo(3);
+        assertThat(metrics.conflicts()).isEqualTo(2);
+        assertThat(metrics.succeeded()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("행 생성 경쟁이 아닌 무결성 위반은 재시도하지 않고 바로 던짐")
+    void rethrowOtherIntegrityViolation() {
+        // given
+        PortfolioWriteRetry retry = new PortfolioWriteRetry(10, 0);
+        DataIntegrityViolationException notNull =
+                integrityViolation("NULL not allowed for column \"STOCK_CODE\"");
+
+        // when & then
+        assertThatThrownBy(() -> retry.execute(1L, () -> {
+            throw notNull;
+        })).isSameAs(notNull);
+
+        PortfolioWriteRetry.Metrics metrics = retry.getMetrics();
+        assertThat(metrics.attempts()).isEqualTo(1);
+        assertThat(metrics.conflicts()).isZero();
+        assertThat(metrics.exhausted()).isZero();
+    }
+
+    private static DataIntegrityViolationException integrityViolation(String databaseMessage) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException(databaseMessage));
+    }
+}
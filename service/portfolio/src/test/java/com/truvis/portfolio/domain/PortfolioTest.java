@@ -0,0 +1,133 @@
+package com.truvis.portfolio.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Portfolio 보유 종목 프로젝션 테스트")
+class PortfolioTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 2, 9, 0);
+
+    @Test
+    @DisplayName("매수/매도 증분 반영 - 이동평균 원가와 실현손익")
+    void applyBuyAndSell() {
+        // given
+        Portfolio portfolio = Portfolio.createDefault(1L);
+
+        // when
+        portfolio.applyTransaction(1, "005930", 10, new BigDecimal("70000"), NOW);
+        portfolio.applyTransaction(2, "005930", 10, new BigDecimal("80000"), NOW);
+        ApplyResult result = portfolio.applyTransaction(3, "005930", -5, new BigDecimal("90000"), NOW);
+
+        // then (평균 75,000원, 5주 매도 → 실현손익 75,000원)
+        Holding holding = portfolio.findHolding("005930").orElseThrow();
+        assertThat(result).isEqualTo(ApplyResult.APPLIED);
+        assertThat(holding.getQuantity()).isEqualTo(15);
+        assertThat(holding.getAveragePrice()).isEqualByComparingTo("75000");
+        assertThat(holding.getTotalCost()).isEqualByComparingTo("1125000");
+        assertThat(holding.getRealizedProfit()).isEqualByComparingTo("75000");
+    }
+
+    @Test
+    @DisplayName("이전 거래가 늦게 오면 순서 어긋남으로 감지하고 반영하지 않음")
+    void detectOutOfOrder() {
+        // given
+        Portfolio portfolio = Portfolio.createDefault(1L);
+        portfolio.applyTransaction(5, "005930", 10, new BigDecimal("70000"), NOW);
+
+        // when
+        ApplyResult result = portfolio.applyTransaction(4, "005930", 3, new BigDecimal("69000"), NOW);
+
+        // then
+        assertThat(result).isEqualTo(ApplyResult.OUT_OF_ORDER);
+        assertThat(portfolio.findHolding("005930").orElseThrow().getQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("매수보다 매도가 먼저 오면 초과 매도로 감지, 이력으로 재계산하면 정상")
+    void rebuildAfterOversold() {
+        // given
+        Portfolio portfolio = Portfolio.createDefault(1L);
+        ApplyResult result = portfolio.applyTransaction(2, "005930", -5, new BigDecimal("75000"), NOW);
+
+        // when
+        portfolio.rebuildHolding("005930", List.of(
+                new TransactionRecord(1, "005930", 10, new BigDecimal("70000"), NOW),
+                new TransactionRecord(2, "005930", -5, new BigDecimal("75000"), NOW)
+        ));
+
+        // then
+        Holding holding = portfolio.findHolding("005930").orElseThrow();
+        assertThat(result).isEqualTo(ApplyResult.OVERSOLD);
+        assertThat(holding.getQuantity()).isEqualTo(5);
+        assertThat(holding.getRealizedProfit()).isEqualByComparingTo("25000");
+        assertThat(holding.getLastTransactionId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("이력 자체에 초과 매도가 있으면 그 거래만 건너뛰고 나머지는 반영")
+    void skipOversoldSellInHistory() {
+        // given: 3주 보유 중 5주 매도가 저장된 이력
+        Portfolio portfolio = Portfolio.createDefault(1L);
+        List<TransactionRecord> history = List.of(
+                new TransactionRecord(1, "005930", 3, new BigDecimal("70000"), NOW),
+                new TransactionRecord(2, "005930", -5, new BigDecimal("75000"), NOW),
+                new TransactionRecord(3, "005930", 2, new BigDecimal("80000"), NOW),
+                new TransactionRecord(4, "005930", -1, new BigDecimal("90000"), NOW)
+        );
+
+        // when
+        List<Long> skipped = portfolio.rebuildAll(history);
+        List<Long> skippedAgain = portfolio.rebuildHolding("005930", history);
+
+        // then (평균 74,000원, 1주 매도 → 실현손익 16,000원 / 다시 계산해도 같은 결과)
+        Holding holding = portfolio.findHolding("005930").orElseThrow();
+        assertThat(skipped).containsExactly(2L);
+        assertThat(skippedAgain).containsExactly(2L);
+        assertThat(holding.getQuantity()).isEqualTo(4);
+        assertThat(holding.getRealizedProfit()).isEqualByComparingTo("16000");
+        assertThat(holding.getLastTransactionId()).isEqualTo(4L);
+
+        // 이후 거래도 막히지 않음
+        assertThat(portfolio.applyTransaction(5, "005930", -4, new BigDecimal("90000"), NOW))
+                .isEqualTo(ApplyResult.APPLIED);
+    }
+
+    @Test
+    @DisplayName("전량 매도한 종목은 보유 목록에서 빠지지만 실현손익은 남음")
+    void closedHoldingKeepsRealizedProfit() {
+        // given
+        Portfolio portfolio = Portfolio.createDefault(1L);
+        portfolio.applyTransaction(1, "000660", 3, new BigDecimal("100000"), NOW);
+
+        // when
+        portfolio.applyTransaction(2, "000660", -3, new BigDecimal("90000"), NOW);
+
+        // then
+        assertThat(portfolio.getOpenHoldings()).isEmpty();
+        assertThat(portfolio.findHolding("000660").orElseThrow().getRealizedProfit()).isEqualByComparingTo("-30000");
+    }
+
+    @Test
+    @DisplayName("보유 종목 한도는 매수 접수 때 확인 - 저장된 거래는 51번째 종목도 빠짐없이 반영")
+    void applyCommittedTransactionBeyondLimit() {
+        // given
+        Portfolio portfolio = Portfolio.createDefault(1L);
+        for (int i = 0; i < Portfolio.MAX_OPEN_HOLDINGS; i++) {
+            portfolio.applyTransaction(i + 1, String.format("%06d", i), 1, new BigDecimal("1000"), NOW);
+        }
+
+        // when
+        ApplyResult result = portfolio.applyTransaction(100, "999999", 1, new BigDecimal("1000"), NOW);
+
+        // then
+        assertThat(result).isEqualTo(ApplyResult.APPLIED);
+        assertThat(portfolio.countOpenHoldings()).isEqualTo(Portfolio.MAX_OPEN_HOLDINGS + 1);
+    }
+}
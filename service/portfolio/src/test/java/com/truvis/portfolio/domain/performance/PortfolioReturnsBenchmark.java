@@ -0,0 +1,77 @@
+package com.truvis.portfolio.domain.performance;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static com.truvis.common.benchmark.BenchmarkReporter.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 포트폴리오 10만 개 수익률 일괄 계산 벤치마크
+ * - 실행: ./gradlew :service:portfolio:test --tests '*PortfolioReturnsBenchmark' -Dbenchmark=true
+ * - 포트폴리오당 1년(250 거래일) 평가금액, 거래 20건 (매수 위주, 가끔 매도)
+ * - 포트폴리오별로 TWR + XIRR, 병렬 스트림 (공용 fork-join 풀)
+ */
+@DisplayName("PortfolioReturns 벤치마크")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PortfolioReturnsBenchmark {
+
+    private static final int PORTFOLIOS = 100_000;
+    private static final int DAYS = 250;
+    private static final int TRADES = 20;
+    private static final long FIRST_DAY = 19_724;
+
+    @Test
+    @DisplayName("10만 포트폴리오 TWR + XIRR")
+    void hundredThousandPortfolios() {
+        // given (입력 생성은 측정에서 제외)
+        DailyValues[] values = new DailyValues[PORTFOLIOS];
+        CashFlows[] flows = new CashFlows[PORTFOLIOS];
+        IntStream.range(0, PORTFOLIOS).parallel().forEach(i -> {
+            values[i] = new DailyValues(DAYS);
+            flows[i] = new CashFlows(TRADES);
+            generate(new SplittableRandom(i), values[i], flows[i]);
+        });
+
+        // when
+        LongAdder solved = new LongAdder();
+        for (int round = 0; round < 3; round++) {
+            solved.reset();
+            long start = System.nanoTime();
+            IntStream.range(0, PORTFOLIOS).parallel().forEach(i -> {
+                long lastDay = values[i].dayAt(values[i].size() - 1);
+                double twr = TimeWeightedReturn.compute(values[i], flows[i], FIRST_DAY, lastDay);
+                double xirr = Xirr.compute(values[i], flows[i], FIRST_DAY, lastDay);
+                if (!Double.isNaN(twr) && !Double.isNaN(xirr)) {
+                    solved.increment();
+                }
+            });
+            throughput("TWR+XIRR", start, PORTFOLIOS);
+        }
+
+        // then
+        assertThat(solved.sum()).isEqualTo(PORTFOLIOS);
+    }
+
+    private static void generate(SplittableRandom random, DailyValues values, CashFlows flows) {
+        double value = 0;
+        int nextTrade = 0;
+        for (int day = 0; day < DAYS; day++) {
+            value *= 1 + random.nextDouble(-0.03, 0.03);
+            if (day == 0 || (nextTrade < TRADES && random.nextInt(DAYS / TRADES) == 0)) {
+                double amount = random.nextInt(5) == 0 && value > 0
+                        ? -value * random.nextDouble(0.1, 0.5)
+                        : random.nextInt(100_000, 5_000_000);
+                flows.add(FIRST_DAY + day, amount);
+                value += amount;
+                nextTrade++;
+            }
+            values.add(FIRST_DAY + day, value);
+        }
+    }
+}
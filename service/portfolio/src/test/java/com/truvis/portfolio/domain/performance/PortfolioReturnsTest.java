@@ -0,0 +1,88 @@
+package com.truvis.portfolio.domain.performance;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TWR / XIRR 수익률 계산 테스트")
+class PortfolioReturnsTest {
+
+    private static final long DAY = LocalDate.of(2024, 1, 2).toEpochDay();
+
+    @Test
+    @DisplayName("TWR - 중간 추가 매수는 수익률에 영향 없음")
+    void timeWeightedIgnoresContributions() {
+        // given (100만원 매수 → +10% → 100만원 추가 매수 → +10%)
+        DailyValues values = new DailyValues();
+        values.add(DAY, 1_000_000);
+        values.add(DAY + 1, 1_100_000);
+        values.add(DAY + 2, 2_310_000);
+        CashFlows flows = new CashFlows();
+        flows.add(DAY, 1_000_000);
+        flows.add(DAY + 2, 1_000_000);
+
+        // when
+        double twr = TimeWeightedReturn.compute(values, flows, DAY, DAY + 2);
+
+        // then (1.1 × 1.1 - 1)
+        assertThat(twr).isCloseTo(0.21, within(1e-12));
+    }
+
+    @Test
+    @DisplayName("TWR - 전량 매도한 날의 차익도 반영, 다시 매수하면 새 구간 시작")
+    void timeWeightedAcrossFullExit() {
+        // given (100 → 110에 전량 매도 → 다음 날 200 매수 → 180)
+        DailyValues values = new DailyValues();
+        values.add(DAY, 100);
+        values.add(DAY + 1, 0);
+        values.add(DAY + 5, 180);
+        CashFlows flows = new CashFlows();
+        flows.add(DAY, 100);
+        flows.add(DAY + 1, -110);
+        flows.add(DAY + 5, 200);
+
+        // when
+        double twr = TimeWeightedReturn.compute(values, flows, DAY, DAY + 5);
+
+        // then (1.1 × 0.9 - 1)
+        assertThat(twr).isCloseTo(-0.01, within(1e-12));
+    }
+
+    @Test
+    @DisplayName("XIRR - 엑셀 XIRR 예제와 같은 결과")
+    void xirrMatchesSpreadsheet() {
+        // given
+        long[] days = {
+                LocalDate.of(2008, 1, 1).toEpochDay(),
+                LocalDate.of(2008, 3, 1).toEpochDay(),
+                LocalDate.of(2008, 10, 30).toEpochDay(),
+                LocalDate.of(2009, 2, 15).toEpochDay(),
+                LocalDate.of(2009, 4, 1).toEpochDay()
+        };
+        double[] amounts = {-10_000, 2_750, 4_250, 3_250, 2_750};
+
+        // when
+        double rate = Xirr.solve(days, amounts, days.length);
+
+        // then
+        assertThat(rate).isCloseTo(0.373362535, within(1e-8));
+    }
+
+    @Test
+    @DisplayName("XIRR - 평가금액 시계열과 거래로 계산, 손실도 수렴")
+    void xirrFromSeries() {
+        // given (1년 뒤 반토막)
+        DailyValues values = new DailyValues();
+        values.add(DAY, 1_000_000);
+        values.add(DAY + 365, 500_000);
+        CashFlows flows = new CashFlows();
+        flows.add(DAY, 1_000_000);
+
+        // when & then
+        assertThat(Xirr.compute(values, flows, DAY, DAY + 365)).isCloseTo(-0.5, within(1e-9));
+        assertThat(Xirr.solve(new long[]{DAY, DAY + 1}, new double[]{-100, -50}, 2)).isNaN();
+    }
+}
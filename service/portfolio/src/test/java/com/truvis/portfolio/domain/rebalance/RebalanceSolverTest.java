@@ -0,0 +1,98 @@
+package com.truvis.portfolio.domain.rebalance;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RebalanceSolver 리밸런싱 수량 계산 테스트")
+class RebalanceSolverTest {
+
+    @Test
+    @DisplayName("허용 범위 안인 종목은 주문하지 않고, 목표에서 빠진 종목을 팔아 부족한 종목을 산다")
+    void sellFirstThenBuyOutsideBand() {
+        // given (총액 10,000 + 5,000 + 5,000 = 20,000 / 목표 A 50%, C 25%, 나머지 현금)
+        RebalanceSolver solver = new RebalanceSolver(50, 0.01, 0, 0);
+        long[] shares = {100, 50, 0};                  // A, B, C
+        double[] prices = {101, 100, 1_000};
+        int[] lotSizes = {1, 1, 1};
+        double[] weights = {0.5, 0, 0.25};
+
+        // when
+        RebalanceSolver.Solution solution = solver.solve(shares, prices, lotSizes, weights, 4_900);
+
+        // then (A는 10,100 vs 목표 10,000 → 범위 안, B는 전량 매도, C는 5,000 → 5주)
+        assertThat(solution.totalValue()).isCloseTo(20_000, within(1e-6));
+        assertThat(solution.quantityChanges()).containsExactly(0L, -50L, 5L);
+        assertThat(solution.cash()).isCloseTo(4_900, within(1e-6));
+        assertThat(solution.holdingCount()).isEqualTo(2);
+        assertThat(solution.deviationAfter()).isCloseTo(100 / 20_000.0, within(1e-9));
+        assertThat(solution.deviationBefore()).isGreaterThan(solution.deviationAfter());
+    }
+
+    @Test
+    @DisplayName("목표 종목이 한도보다 많으면 비중이 큰 순으로 50개까지만, 주문 단위와 수수료 포함 현금 한도를 지킨다")
+    void holdingLimitLotSizeAndCash() {
+        // given (현금만 1억, 목표 60종목 - 앞쪽일수록 비중이 크다)
+        RebalanceSolver solver = new RebalanceSolver(50, 0.0, 0.00015, 0.00195);
+        int n = 60;
+        long[] shares = new long[n];
+        double[] prices = new double[n];
+        int[] lotSizes = new int[n];
+        double[] weights = new double[n];
+        double weightSum = 0;
+        for (int i = 0; i < n; i++) {
+            prices[i] = 1_000 + 137 * i;
+            lotSizes[i] = i % 3 == 0 ? 10 : 1;
+            weights[i] = n - i;
+            weightSum += n - i;
+        }
+        for (int i = 0; i < n; i++) {
+            weights[i] /= weightSum;
+        }
+
+        // when
+        RebalanceSolver.Solution solution = solver.solve(shares, prices, lotSizes, weights, 100_000_000);
+
+        // then
+        long[] changes = solution.quantityChanges();
+        assertThat(solution.holdingCount()).isEqualTo(50);
+        assertThat(Arrays.stream(changes, 50, n).allMatch(change -> change == 0)).isTrue();
+        for (int i = 0; i < n; i++) {
+            assertThat(changes[i] % lotSizes[i]).isZero();
+            assertThat(changes[i]).isGreaterThanOrEqualTo(0);
+        }
+
+        double spent = 0;
+        for (int i = 0; i < n; i++) {
+            spent += changes[i] * prices[i] * 1.00015;
+        }
+        assertThat(solution.cash()).isGreaterThanOrEqualTo(0);
+        assertThat(solution.cash()).isCloseTo(100_000_000 - spent, within(1e-3));
+        // 한도 밖 10종목 몫(55 / 1830 ≈ 3%)은 현금으로 남고, 목표 종목은 주문 단위 반올림 차이만 남는다
+        assertThat(solution.cash() / 100_000_000).isCloseTo(55 / 1830.0, within(0.005));
+        assertThat(solution.deviationAfter()).isLessThan(0.005);
+    }
+
+    @Test
+    @DisplayName("국소 개선 - 내림으로 남은 현금으로 한 단위 더 사서 목표에 더 가깝게")
+    void localImprovementUsesLeftoverCash() {
+        // given (총액 1,000 / A, B 각 50% = 500원씩, 주당 300원 → 내림이면 1주씩 사고 400원이 남는다)
+        RebalanceSolver solver = new RebalanceSolver(50, 0.0, 0, 0);
+        long[] shares = {0, 0};
+        double[] prices = {300, 300};
+        int[] lotSizes = {1, 1};
+        double[] weights = {0.5, 0.5};
+
+        // when
+        RebalanceSolver.Solution solution = solver.solve(shares, prices, lotSizes, weights, 1_000);
+
+        // then (한쪽을 2주로 → |600 - 500| + |300 - 500| = 300, 내림만 했을 때 400보다 작다)
+        long[] changes = solution.quantityChanges();
+        assertThat(changes[0] + changes[1]).isEqualTo(3);
+        assertThat(solution.cash()).isCloseTo(100, within(1e-6));
+        assertThat(solution.deviationAfter()).isCloseTo(0.3, within(1e-9));
+    }
+}
@@ -0,0 +1,58 @@
+package com.truvis.portfolio.domain.risk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.truvis.common.benchmark.BenchmarkReporter.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 2,000종목 공분산 행렬 벤치마크
+ * - 실행: ./gradlew :service:portfolio:test --tests '*CovarianceBenchmark' -Dbenchmark=true
+ * - 2,000종목 × 250거래일, 공통 시장 요인 + 개별 잡음
+ * - 블록 타일 + fork-join (코어 수만큼)
+ */
+@DisplayName("CovarianceMatrix 벤치마크")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CovarianceBenchmark {
+
+    private static final int SYMBOLS = 2_000;
+    private static final int DAYS = 250;
+
+    @Test
+    @DisplayName("2,000종목 × 250일 공분산")
+    void twoThousandSymbols() {
+        // given
+        SplittableRandom random = new SplittableRandom(42);
+        double[] values = new double[SYMBOLS * DAYS];
+        for (int t = 0; t < DAYS; t++) {
+            double market = random.nextDouble(-0.02, 0.02);
+            for (int i = 0; i < SYMBOLS; i++) {
+                values[i * DAYS + t] = market + random.nextDouble(-0.03, 0.03);
+            }
+        }
+        String[] symbols = new String[SYMBOLS];
+        for (int i = 0; i < SYMBOLS; i++) {
+            symbols[i] = String.format("%06d", i);
+        }
+        ReturnMatrix returns = new ReturnMatrix(symbols, values, DAYS);
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+        // when
+        CovarianceMatrix covariance = null;
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            covariance = CovarianceMatrix.estimate(returns, pool);
+            elapsed(String.format("공분산 %,d종목 × %d일", SYMBOLS, DAYS), start);
+        }
+        pool.shutdown();
+
+        // then (시장 분산 + 잡음 분산 ≈ 0.000133 + 0.0003)
+        assertThat(covariance.size()).isEqualTo(SYMBOLS);
+        assertThat(covariance.get(0, 0)).isBetween(0.0002, 0.0007);
+    }
+}
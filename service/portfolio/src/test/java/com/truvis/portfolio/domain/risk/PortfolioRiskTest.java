@@ -0,0 +1,115 @@
+package com.truvis.portfolio.domain.risk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("공분산 / 베타 / VaR 계산 테스트")
+class PortfolioRiskTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    @Test
+    @DisplayName("블록 공분산 = 단순 이중 루프 결과 (블록 경계에 걸리는 크기)")
+    void blockedCovarianceMatchesNaive() {
+        // given (130종목 × 300일 → 종목/거래일 모두 블록 크기의 배수가 아님)
+        int n = 130;
+        int days = 300;
+        ReturnMatrix returns = randomReturns(n, days, 7);
+
+        // when
+        CovarianceMatrix covariance = CovarianceMatrix.estimate(returns, pool);
+
+        // then
+        for (int i = 0; i < n; i += 7) {
+            for (int j = 0; j < n; j += 5) {
+                assertThat(covariance.get(i, j)).isCloseTo(naiveCovariance(returns, i, j), within(1e-15));
+                assertThat(covariance.get(i, j)).isEqualTo(covariance.get(j, i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("베타 - 시장의 2배로 움직이는 종목은 2, 반반 섞으면 1.5")
+    void betaAgainstBenchmark() {
+        // given
+        int days = 100;
+        double[] values = new double[2 * days];
+        SplittableRandom random = new SplittableRandom(1);
+        for (int t = 0; t < days; t++) {
+            values[t] = random.nextDouble(-0.02, 0.02);  // 시장
+            values[days + t] = values[t] * 2;
+        }
+        ReturnMatrix returns = new ReturnMatrix(new String[]{"069500", "000660"}, values, days);
+        RiskModel model = new RiskModel(LocalDate.of(2024, 1, 2), returns,
+                CovarianceMatrix.estimate(returns, pool), new double[]{30_000, 150_000}, "069500");
+
+        // when
+        int market = model.getBenchmarkIndex();
+        CovarianceMatrix covariance = model.getCovariance();
+        double stockBeta = covariance.covarianceWith(new int[]{1}, new double[]{1}, 1, market)
+                / covariance.get(market, market);
+        double mixedBeta = covariance.covarianceWith(new int[]{0, 1}, new double[]{0.5, 0.5}, 2, market)
+                / covariance.get(market, market);
+
+        // then
+        assertThat(stockBeta).isCloseTo(2.0, within(1e-12));
+        assertThat(mixedBeta).isCloseTo(1.5, within(1e-12));
+        assertThat(Math.sqrt(covariance.variance(new int[]{1}, new double[]{1}, 1)))
+                .isCloseTo(2 * Math.sqrt(covariance.get(market, market)), within(1e-12));
+    }
+
+    @Test
+    @DisplayName("VaR - 역사적은 하위 5% 분위수, 모수적은 1.645σ")
+    void valueAtRisk() {
+        // given (-10% ~ +90%, 1%p 간격 101일)
+        double[] returns = new double[101];
+        for (int i = 0; i < returns.length; i++) {
+            returns[returns.length - 1 - i] = -0.10 + i * 0.01;
+        }
+
+        // when & then
+        assertThat(ValueAtRisk.historical(returns)).isCloseTo(0.05, within(1e-12));
+        assertThat(ValueAtRisk.parametric(0.01)).isCloseTo(0.016449, within(1e-6));
+        assertThat(ValueAtRisk.historical(new double[]{0.01, 0.02})).isZero();
+    }
+
+    private static ReturnMatrix randomReturns(int n, int days, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        double[] values = new double[n * days];
+        for (int t = 0; t < days; t++) {
+            double market = random.nextDouble(-0.02, 0.02);
+            for (int i = 0; i < n; i++) {
+                values[i * days + t] = market * (0.5 + i % 3 * 0.5) + random.nextDouble(-0.01, 0.01);
+            }
+        }
+        String[] symbols = new String[n];
+        for (int i = 0; i < n; i++) {
+            symbols[i] = String.format("%06d", i);
+        }
+        return new ReturnMatrix(symbols, values, days);
+    }
+
+    private static double naiveCovariance(ReturnMatrix returns, int i, int j) {
+        int days = returns.days();
+        double meanI = 0;
+        double meanJ = 0;
+        for (int t = 0; t < days; t++) {
+            meanI += returns.get(i, t);
+            meanJ += returns.get(j, t);
+        }
+        meanI /= days;
+        meanJ /= days;
+
+        double sum = 0;
+        for (int t = 0; t < days; t++) {
+            sum += (returns.get(i, t) - meanI) * (returns.get(j, t) - meanJ);
+        }
+        return sum / (days - 1);
+    }
+}
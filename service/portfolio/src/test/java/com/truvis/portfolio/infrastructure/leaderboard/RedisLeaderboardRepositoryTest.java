@@ -0,0 +1,158 @@
+package com.truvis.portfolio.infrastructure.leaderboard;
+
+import com.truvis.portfolio.domain.leaderboard.Leaderboard;
+import com.truvis.portfolio.domain.leaderboard.LeaderboardEntry;
+import com.truvis.portfolio.domain.leaderboard.LeaderboardUpdate;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 실제 Redis로 ZSET/Lua 순위 조회 확인 (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RedisLeaderboardRepository 순위 조회 테스트")
+class RedisLeaderboardRepositoryTest {
+
+    private static final Leaderboard VALUE = Leaderboard.of("VALUE");
+    private static final Leaderboard GROWTH = Leaderboard.of("GROWTH");
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisLeaderboardRepository repository;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        repository = new RedisLeaderboardRepository(redisTemplate);
+
+        // 사용자 1~5 (수익률 50, 40, 30, 20, 10 → 1위부터 5위)
+        LeaderboardUpdate update = new LeaderboardUpdate();
+        for (long userId = 1; userId <= 5; userId++) {
+            update.put(Leaderboard.OVERALL, userId, 60 - userId * 10);
+        }
+        repository.apply(update);
+    }
+
+    @Test
+    @DisplayName("상위 조회는 1위부터, 인원보다 많이 요청하면 있는 만큼")
+    void findTop() {
+        assertThat(repository.findTop(Leaderboard.OVERALL, 3))
+                .extracting(LeaderboardEntry::rank, LeaderboardEntry::userId)
+                .containsExactly(tuple(1L, 1L), tuple(2L, 2L), tuple(3L, 3L));
+        assertThat(repository.findTop(Leaderboard.OVERALL, 100)).hasSize(5);
+        assertThat(repository.findTop(VALUE, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("1위 주변은 위쪽 없이 아래만, 꼴찌 주변은 아래쪽 없이 위만")
+    void findAroundTopAndBottom() {
+        assertThat(repository.findAround(Leaderboard.OVERALL, 1L, 2))
+                .extracting(LeaderboardEntry::rank, LeaderboardEntry::userId)
+                .containsExactly(tuple(1L, 1L), tuple(2L, 2L), tuple(3L, 3L));
+
+        assertThat(repository.findAround(Leaderboard.OVERALL, 5L, 2))
+                .extracting(LeaderboardEntry::rank, LeaderboardEntry::userId)
+                .containsExactly(tuple(3L, 3L), tuple(4L, 4L), tuple(5L, 5L));
+    }
+
+    @Test
+    @DisplayName("가운데는 위아래 radius명씩, radius 0이면 본인 순위와 수익률만")
+    void findAroundMiddle() {
+        assertThat(repository.findAround(Leaderboard.OVERALL, 3L, 1))
+                .extracting(LeaderboardEntry::rank, LeaderboardEntry::userId)
+                .containsExactly(tuple(2L, 2L), tuple(3L, 3L), tuple(4L, 4L));
+
+        assertThat(repository.findAround(Leaderboard.OVERALL, 4L, 0))
+                .singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.rank()).isEqualTo(4);
+                    assertThat(entry.returnRate()).isEqualByComparingTo(new BigDecimal("20.00"));
+                });
+    }
+
+    @Test
+    @DisplayName("순위표에 없는 사용자와 없는 순위표는 빈 목록")
+    void findAroundMissingMember() {
+        assertThat(repository.findAround(Leaderboard.OVERALL, 99L, 2)).isEmpty();
+        assertThat(repository.findAround(VALUE, 1L, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("NaN은 순위표에서 빼고, 같은 갱신의 다른 순위표 쓰기와 함께 반영")
+    void applyRemovals() {
+        // given
+        LeaderboardUpdate update = new LeaderboardUpdate();
+        update.remove(Leaderboard.OVERALL, 1L);
+        update.put(VALUE, 2L, 40);
+
+        // when
+        repository.apply(update);
+
+        // then
+        assertThat(repository.findAround(Leaderboard.OVERALL, 1L, 0)).isEmpty();
+        assertThat(repository.findTop(Leaderboard.OVERALL, 1))
+                .extracting(LeaderboardEntry::userId)
+                .containsExactly(2L);
+        assertThat(repository.findTop(VALUE, 10)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("전체 교체는 스냅샷에 없는 사용자와 스타일 순위표까지 지움")
+    void replaceAll() {
+        // given (이전 실행이 남긴 스타일 순위표)
+        LeaderboardUpdate leftover = new LeaderboardUpdate();
+        leftover.put(GROWTH, 4L, 20);
+        repository.apply(leftover);
+
+        LeaderboardUpdate snapshot = new LeaderboardUpdate();
+        snapshot.put(Leaderboard.OVERALL, 2L, 40);
+        snapshot.put(Leaderboard.OVERALL, 7L, 70);
+        snapshot.put(VALUE, 7L, 70);
+
+        // when
+        repository.replaceAll(snapshot);
+
+        // then
+        assertThat(repository.findTop(Leaderboard.OVERALL, 10))
+                .extracting(LeaderboardEntry::userId)
+                .containsExactly(7L, 2L);
+        assertThat(repository.findTop(VALUE, 10)).hasSize(1);
+        assertThat(repository.findTop(GROWTH, 10)).isEmpty();
+        assertThat(redisTemplate.hasKey("leaderboard:return:style:GROWTH")).isFalse();
+    }
+}
@@ -0,0 +1,76 @@
+package com.truvis.portfolio.infrastructure.snapshot;
+
+import com.truvis.portfolio.domain.PortfolioSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PortfolioSnapshotStore 일별 평가 저장소 테스트")
+class PortfolioSnapshotStoreTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 2);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("일별 저장 후 구간 조회 - 수익률은 매입원가 대비")
+    void saveAndFindRange() throws Exception {
+        // given
+        PortfolioSnapshotStore store = new PortfolioSnapshotStore(tempDir.toString());
+        store.saveDay(DAY, new long[]{1, 7}, new long[]{100_000_00, 50_000_00}, new long[]{100_000_00, 40_000_00}, 2);
+        store.saveDay(DAY.plusDays(1), new long[]{1}, new long[]{110_000_00}, new long[]{100_000_00}, 1);
+        store.saveDay(DAY.plusDays(4), new long[]{1}, new long[]{90_000_00}, new long[]{100_000_00}, 1);
+
+        // when
+        List<PortfolioSnapshot> snapshots = store.findRange(1L, DAY.plusDays(1), DAY.plusDays(10));
+
+        // then
+        assertThat(snapshots).extracting(PortfolioSnapshot::date)
+                .containsExactly(DAY.plusDays(1), DAY.plusDays(4));
+        assertThat(snapshots.get(0).valuation().returnRate()).isEqualByComparingTo("10.00");
+        assertThat(snapshots.get(1).valuation().unrealizedProfit()).isEqualByComparingTo("-10000");
+        assertThat(store.findRange(7L, DAY, DAY).get(0).valuation().marketValue()).isEqualByComparingTo("50000");
+    }
+
+    @Test
+    @DisplayName("재기동 시 파일에서 같은 시계열 복원, 같은 날짜는 한 번만")
+    void reloadFromFiles() throws Exception {
+        // given
+        PortfolioSnapshotStore store = new PortfolioSnapshotStore(tempDir.toString());
+        for (int day = 0; day < 30; day++) {
+            store.saveDay(DAY.plusDays(day), new long[]{3, 5}, new long[]{1_000_000_00L + day * 1_000_00L, 0},
+                    new long[]{1_000_000_00L, 0}, 2);
+        }
+
+        // when
+        PortfolioSnapshotStore reloaded = new PortfolioSnapshotStore(tempDir.toString());
+        reloaded.load();
+
+        // then
+        assertThat(reloaded.hasDay(DAY.plusDays(29))).isTrue();
+        assertThat(reloaded.findRange(3L, DAY, DAY.plusDays(29)))
+                .isEqualTo(store.findRange(3L, DAY, DAY.plusDays(29)))
+                .hasSize(30);
+        assertThat(reloaded.getByteSize()).isLessThan(60 * 8);  // 포트폴리오-일 평균 8바이트 미만
+    }
+
+    @Test
+    @DisplayName("같은 날짜를 다시 추가하면 무시")
+    void ignoreSameDay() {
+        // given
+        SnapshotSeries series = new SnapshotSeries();
+        series.append(DAY.toEpochDay(), 100, 100);
+
+        // when & then
+        assertThat(series.append(DAY.toEpochDay(), 200, 100)).isFalse();
+        assertThat(series.append(DAY.minusDays(1).toEpochDay(), 200, 100)).isFalse();
+        assertThat(series.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,189 @@
+package com.truvis.portfolio.infrastructure.valuation;
+
+import com.truvis.portfolio.domain.Portfolio;
+import com.truvis.portfolio.domain.PortfolioValuation;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PortfolioValuationEngine 실시간 평가 테스트")
+class PortfolioValuationEngineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 2, 9, 0);
+
+    private QuoteStore quoteStore;
+    private PortfolioValuationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        quoteStore = new QuoteStore(16);
+        engine = new PortfolioValuationEngine(quoteStore);
+    }
+
+    @Test
+    @DisplayName("틱마다 가격 변화분만큼 보유자 평가금액 갱신")
+    void applyPriceDelta() {
+        // given (삼성전자 10주 @70,000, 현재가 70,000)
+        tick("005930", "70000");
+        Portfolio first = portfolio(1L, "005930", 10, "70000");
+        Portfolio second = portfolio(2L, "005930", 3, "72000");
+        engine.track(first);
+        engine.track(second);
+
+        // when
+        tick("005930", "75000");
+
+        // then
+        PortfolioValuation valuation = engine.valuate(first);
+        assertThat(valuation.marketValue()).isEqualByComparingTo("750000");
+        assertThat(valuation.unrealizedProfit()).isEqualByComparingTo("50000");
+        assertThat(valuation.returnRate()).isEqualByComparingTo("7.14");
+        assertThat(engine.valuate(second).marketValue()).isEqualByComparingTo("225000");
+    }
+
+    @Test
+    @DisplayName("보유 수량이 바뀌면 현재가 기준으로 평가금액 조정, 전량 매도 시 제외")
+    void trackQuantityChange() {
+        // given
+        tick("005930", "70000");
+        tick("000660", "130000");
+        Portfolio portfolio = portfolio(1L, "005930", 10, "70000");
+        engine.track(portfolio);
+
+        // when (하이닉스 매수, 삼성전자 전량 매도 후 시세 변동)
+        portfolio.applyTransaction(2, "000660", 2, new BigDecimal("130000"), NOW);
+        engine.track(portfolio);
+        portfolio.applyTransaction(3, "005930", -10, new BigDecimal("71000"), NOW);
+        engine.track(portfolio);
+        tick("005930", "80000");
+        tick("000660", "140000");
+
+        // then
+        PortfolioValuation valuation = engine.valuate(portfolio);
+        assertThat(valuation.marketValue()).isEqualByComparingTo("280000");
+        assertThat(valuation.totalCost()).isEqualByComparingTo("260000");
+    }
+
+    @Test
+    @DisplayName("시세 없는 종목은 0원으로 평가하다가 첫 틱에 반영")
+    void unpricedUntilFirstTick() {
+        // given
+        Portfolio portfolio = portfolio(1L, "035720", 4, "50000");
+        engine.track(portfolio);
+        assertThat(engine.valuate(portfolio).fullyPriced()).isFalse();
+
+        // when
+        tick("035720", "52000");
+
+        // then
+        PortfolioValuation valuation = engine.valuate(portfolio);
+        assertThat(valuation.fullyPriced()).isTrue();
+        assertThat(valuation.marketValue()).isEqualByComparingTo("208000");
+    }
+
+    @Test
+    @DisplayName("보유 종목을 모두 팔면 추적을 멈추고, 순위표에는 수익률 없음(NaN)으로 한 번 알림")
+    void evictWhenAllHoldingsClosed() {
+        // given
+        tick("005930", "70000");
+        Portfolio portfolio = portfolio(1L, "005930", 10, "70000");
+        engine.track(portfolio);
+        engine.drainChanged((userId, masterStyle, returnRate) -> { });
+
+        // when
+        portfolio.applyTransaction(2, "005930", -10, new BigDecimal("71000"), NOW.plusMinutes(1));
+        engine.track(portfolio);
+
+        // then
+        List<Double> rates = new ArrayList<>();
+        engine.drainChanged((userId, masterStyle, returnRate) -> rates.add(returnRate));
+        assertThat(engine.getTrackedCount()).isZero();
+        assertThat(rates).hasSize(1);
+        assertThat(rates.get(0).isNaN()).isTrue();
+
+        // 이후 틱은 빠진 포트폴리오에 닿지 않는다
+        tick("005930", "72000");
+        assertThat(engine.drainChanged((userId, masterStyle, returnRate) -> { })).isZero();
+    }
+
+    @Test
+    @DisplayName("처음 보유하는 종목을 여러 스레드가 동시에 등록하는 중에 틱이 와도 평가금액이 현재가와 맞음")
+    void seedHolderListOnceUnderConcurrentTicks() throws Exception {
+        // given: 아직 아무도 보유하지 않은 종목 200개, 종목마다 두 사용자가 동시에 첫 매수
+        int symbols = 200;
+        quoteStore = new QuoteStore(256);
+        engine = new PortfolioValuationEngine(quoteStore);
+        AtomicBoolean running = new AtomicBoolean(true);
+        for (int i = 0; i < symbols; i++) {
+            tick(code(i), "10000");
+        }
+        Thread ticker = new Thread(() -> {
+            long price = 10_000;
+            while (running.get()) {
+                price++;
+                for (int i = 0; i < symbols; i++) {
+                    tick(code(i), String.valueOf(price));
+                }
+            }
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        ticker.start();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int worker = 0; worker < 2; worker++) {
+            long base = worker * 1_000L;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < symbols; i++) {
+                    engine.track(portfolio(base + i, code(i), 3, "10000"));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        ticker.join();
+        executor.shutdown();
+
+        // then (틱을 멈춘 뒤 평가금액 = 현재가 × 수량)
+        for (int worker = 0; worker < 2; worker++) {
+            for (int i = 0; i < symbols; i++) {
+                Portfolio portfolio = portfolio(worker * 1_000L + i, code(i), 3, "10000");
+                BigDecimal expected = quoteStore.findQuote(code(i)).orElseThrow().lastPrice()
+                        .multiply(BigDecimal.valueOf(3));
+                assertThat(engine.valuate(portfolio).marketValue()).isEqualByComparingTo(expected.toPlainString());
+            }
+        }
+    }
+
+    private static String code(int index) {
+        return String.format("A%05d", index);
+    }
+
+    private Portfolio portfolio(Long userId, String stockCode, int quantity, String price) {
+        Portfolio portfolio = Portfolio.createDefault(userId);
+        portfolio.applyTransaction(1, stockCode, quantity, new BigDecimal(price), NOW);
+        return portfolio;
+    }
+
+    private void tick(String symbol, String price) {
+        int slot = quoteStore.slotOf(symbol);
+        long scaled = QuoteStore.toScaled(new BigDecimal(price));
+        quoteStore.update(slot, scaled, scaled, scaled, 1, 0);
+        engine.onTick(slot, 0, scaled, 1);
+    }
+}
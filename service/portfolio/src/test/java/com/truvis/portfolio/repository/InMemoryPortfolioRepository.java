@@ -0,0 +1,80 @@
+package com.truvis.portfolio.repository;
+
+import com.truvis.portfolio.domain.Portfolio;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 테스트용 포트폴리오 저장소 (사용자 ID 순서로 보관)
+ * - 갱신용 조회(findByUserIdForWrite)와 저장 횟수를 기록해 둔다 (버전 충돌은 흉내 내지 않음)
+ */
+public class InMemoryPortfolioRepository implements PortfolioRepository {
+
+    private final TreeMap<Long, Portfolio> byUserId = new TreeMap<>();
+    private final List<Long> writeUserIds = new ArrayList<>();
+    private int saveCount = 0;
+
+    @Override
+    public Portfolio save(Portfolio portfolio) {
+        byUserId.put(portfolio.getUserId(), portfolio);
+        saveCount++;
+        return portfolio;
+    }
+
+    @Override
+    public Optional<Portfolio> findById(Long portfolioId) {
+        return byUserId.values().stream()
+                .filter(portfolio -> portfolioId.equals(portfolio.getId()))
+                .findFirst();
+    }
+
+    @Override
+    public Optional<Portfolio> findByUserId(Long userId) {
+        return Optional.ofNullable(byUserId.get(userId));
+    }
+
+    @Override
+    public Optional<Portfolio> findByUserIdForWrite(Long userId) {
+        writeUserIds.add(userId);
+        return findByUserId(userId);
+    }
+
+    @Override
+    public List<Long> findAllUserIds() {
+        return new ArrayList<>(byUserId.keySet());
+    }
+
+    @Override
+    public List<Portfolio> findByUserIdBetween(Long fromUserId, Long toUserId) {
+        return new ArrayList<>(byUserId.subMap(fromUserId, true, toUserId, true).values());
+    }
+
+    @Override
+    public List<Long> findSubscribedUserIds() {
+        return byUserId.values().stream()
+                .filter(portfolio -> portfolio.getMasterStyle() != null)
+                .map(Portfolio::getUserId)
+                .toList();
+    }
+
+    @Override
+    public List<Portfolio> findSubscribedByUserIdBetween(Long fromUserId, Long toUserId) {
+        return findByUserIdBetween(fromUserId, toUserId).stream()
+                .filter(portfolio -> portfolio.getMasterStyle() != null)
+                .toList();
+    }
+
+    /**
+     * 갱신용 조회를 요청한 사용자 ID (호출 순서)
+     */
+    public List<Long> getWriteUserIds() {
+        return writeUserIds;
+    }
+
+    public int getSaveCount() {
+        return saveCount;
+    }
+}
@@ -1,19 +1,243 @@
 package com.truvis.stock.application;
 
+import com.truvis.common.exception.StockException;
+import com.truvis.stock.domain.AlertDirection;
+import com.truvis.stock.domain.Candle;
+import com.truvis.stock.domain.CandleInterval;
+import com.truvis.stock.domain.PriceAlert;
+import com.truvis.stock.domain.Quote;
+import com.truvis.stock.domain.ScreenCriteria;
+import com.truvis.stock.domain.Stock;
+import com.truvis.stock.domain.StockFundamentals;
+import com.truvis.stock.infrastructure.alert.PriceAlertEngine;
+import com.truvis.stock.infrastructure.candle.CandleAggregator;
+import com.truvis.stock.infrastructure.candle.CandleFileStore;
+import com.truvis.stock.infrastructure.push.QuotePushHub;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import com.truvis.stock.infrastructure.screener.ScreenerIndex;
+import com.truvis.stock.infrastructure.screener.StockScreener;
+import com.truvis.stock.model.CandleResponse;
+import com.truvis.stock.model.PriceAlertResponse;
+import com.truvis.stock.model.ScreenResponse;
+import com.truvis.stock.model.ScreenedStockResponse;
+import com.truvis.stock.model.StockResponse;
+import com.truvis.stock.repository.PriceAlertRepository;
+import com.truvis.stock.repository.StockRepository;
+import com.truvis.stock.repository.WatchlistRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 종목 업무 흐름 처리
- * - 종목 검색, 상세 조회
- * - 관심 종목 등록/삭제
- * 
- * TODO: 구현 필요
- * - searchStocks() - 종목 검색 (자동완성)
- * - getStockDetail() - 종목 상세 조회
- * - addToWatchlist() - 관심 종목 추가
- * - removeFromWatchlist() - 관심 종목 제거
+ * - 종목 검색 (자동완성), 상세 조회
+ * - 봉(캔들) 조회
+ * - 관심 종목 등록/삭제, 실시간 시세 구독
+ * - 가격 알림 등록/취소
+ * - 조건 검색 (스크리너)
  */
+@Service
+@RequiredArgsConstructor
+@Slf4j
 public class StockApplicationService {
-    
-    // TODO: Repository 의존성 주입
-    
-    // TODO: 비즈니스 메서드 구현
+
+    private static final int MAX_CANDLES = 1000;
+    private static final int MAX_WATCHLIST_SIZE = 50;
+    private static final int MAX_ALERTS_PER_USER = 100;
+    private static final int MAX_SCREEN_RESULTS = 200;
+
+    private final StockRepository stockRepository;
+    private final QuoteStore quoteStore;
+    private final CandleAggregator candleAggregator;
+    private final CandleFileStore candleFileStore;
+    private final WatchlistRepository watchlistRepository;
+    private final QuotePushHub quotePushHub;
+    private final PriceAlertRepository priceAlertRepository;
+    private final PriceAlertEngine priceAlertEngine;
+    private final StockScreener stockScreener;
+
+    /**
+     * 종목 검색 (자동완성)
+     * - 종목명/코드 접두사, 초성(ㅅㅅㅈㅈ) 검색 지원
+     */
+    public List<StockResponse> searchStocks(String query, int limit) {
+        if (!StringUtils.hasText(query)) {
+            throw StockException.invalidSearchQuery();
+        }
+
+        return stockRepository.search(query, limit).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    /**
+     * 종목 상세 조회
+     */
+    public StockResponse getStockDetail(String symbol) {
+        return stockRepository.findBySymbol(symbol)
+                .map(this::toResponse)
+                .orElseThrow(() -> StockException.stockNotFound(symbol));
+    }
+
+    /**
+     * 봉 조회 (최근 limit 개, 과거 → 최근)
+     * - 최근 봉은 메모리, 모자라면 그 이전 봉을 파일 저장소에서 이어 붙인다
+     */
+    public List<CandleResponse> getCandles(String symbol, String intervalCode, int limit) {
+        Stock stock = stockRepository.findBySymbol(symbol)
+                .orElseThrow(() -> StockException.stockNotFound(symbol));
+        CandleInterval interval = CandleInterval.fromCode(intervalCode);
+        int size = Math.max(1, Math.min(limit, MAX_CANDLES));
+
+        List<Candle> recent = candleAggregator.recentCandles(stock.getSymbol(), interval);
+        List<Candle> candles;
+        if (recent.size() >= size) {
+            candles = recent.subList(recent.size() - size, recent.size());
+        } else {
+            long before = recent.isEmpty() ? Long.MAX_VALUE : recent.get(0).openTime();
+            candles = new ArrayList<>(size);
+            candles.addAll(candleFileStore.readBefore(stock.getSymbol(), interval, before, size - recent.size()));
+            candles.addAll(recent);
+        }
+
+        return candles.stream()
+                .map(CandleResponse::from)
+                .toList();
+    }
+
+    /**
+     * 관심 종목 목록
+     */
+    public List<StockResponse> getWatchlist(String owner) {
+        return watchlistRepository.findSymbols(owner).stream()
+                .map(stockRepository::findBySymbol)
+                .flatMap(Optional::stream)
+                .map(this::toResponse)
+                .toList();
+    }
+
+    /**
+     * 관심 종목 추가 (이미 있으면 그대로)
+     */
+    public void addToWatchlist(String owner, String symbol) {
+        Stock stock = stockRepository.findBySymbol(symbol)
+                .orElseThrow(() -> StockException.stockNotFound(symbol));
+
+        WatchlistRepository.AddResult result = watchlistRepository.add(owner, stock.getSymbol(), MAX_WATCHLIST_SIZE);
+        if (result == WatchlistRepository.AddResult.LIMIT_EXCEEDED) {
+            throw StockException.watchlistFull(MAX_WATCHLIST_SIZE);
+        }
+        if (result == WatchlistRepository.AddResult.ADDED) {
+            quotePushHub.subscribe(owner, stock.getSymbol());
+            log.info("⭐ 관심 종목 추가: owner={}, symbol={}", owner, stock.getSymbol());
+        }
+    }
+
+    /**
+     * 관심 종목 제거 (없으면 그대로)
+     */
+    public void removeFromWatchlist(String owner, String symbol) {
+        String normalized = symbol.trim().toUpperCase();
+        if (watchlistRepository.remove(owner, normalized)) {
+            quotePushHub.unsubscribe(owner, normalized);
+            log.info("⭐ 관심 종목 제거: owner={}, symbol={}", owner, normalized);
+        }
+    }
+
+    /**
+     * 관심 종목 실시간 시세 구독 (SSE)
+     */
+    public SseEmitter streamWatchlist(String owner) {
+        return quotePushHub.connect(owner, watchlistRepository.findSymbols(owner));
+    }
+
+    /**
+     * 가격 알림 목록 (등록순)
+     */
+    public List<PriceAlertResponse> getPriceAlerts(String owner) {
+        return priceAlertRepository.findByOwner(owner).stream()
+                .sorted(Comparator.comparingLong(PriceAlert::id))
+                .map(PriceAlertResponse::from)
+                .toList();
+    }
+
+    /**
+     * 가격 알림 등록
+     * - 방향은 현재가 기준으로 결정 (목표가가 현재가 이상이면 상향 돌파, 아래면 하향 돌파)
+     */
+    public PriceAlertResponse createPriceAlert(String owner, String symbol, BigDecimal targetPrice) {
+        Stock stock = stockRepository.findBySymbol(symbol)
+                .orElseThrow(() -> StockException.stockNotFound(symbol));
+        if (targetPrice == null || targetPrice.signum() <= 0) {
+            throw StockException.invalidAlertPrice();
+        }
+
+        BigDecimal currentPrice = quoteStore.findQuote(stock.getSymbol())
+                .map(Quote::lastPrice)
+                .orElse(null);
+        AlertDirection direction = AlertDirection.of(targetPrice, currentPrice);
+
+        PriceAlert alert = priceAlertRepository
+                .save(owner, stock.getSymbol(), direction, targetPrice, MAX_ALERTS_PER_USER)
+                .orElseThrow(() -> StockException.alertLimitExceeded(MAX_ALERTS_PER_USER));
+        priceAlertEngine.register(alert);
+
+        log.info("🔔 가격 알림 등록: owner={}, symbol={}, target={} {}",
+                owner, alert.symbol(), alert.targetPrice(), direction.getDescription());
+        return PriceAlertResponse.from(alert);
+    }
+
+    /**
+     * 가격 알림 취소 (본인 알림만)
+     */
+    public void cancelPriceAlert(String owner, long alertId) {
+        PriceAlert alert = priceAlertRepository.findById(alertId)
+                .filter(found -> found.owner().equals(owner))
+                .orElseThrow(() -> StockException.alertNotFound(alertId));
+
+        if (priceAlertRepository.delete(alert)) {
+            priceAlertEngine.unregister(alert);
+            log.info("🔕 가격 알림 취소: owner={}, alertId={}", owner, alertId);
+        }
+    }
+
+    /**
+     * 조건 검색 (시장/섹터/재무 지표 범위)
+     */
+    public ScreenResponse screenStocks(ScreenCriteria criteria) {
+        ScreenCriteria bounded = new ScreenCriteria(
+                criteria.markets(),
+                criteria.sectors(),
+                criteria.ranges(),
+                criteria.sortBy(),
+                criteria.ascending(),
+                Math.max(1, Math.min(criteria.limit(), MAX_SCREEN_RESULTS))
+        );
+
+        ScreenerIndex.ScreenResult result = stockScreener.screen(bounded);
+        List<ScreenedStockResponse> stocks = result.entries().stream()
+                .map(entry -> ScreenedStockResponse.of(
+                        entry.stock(),
+                        entry.fundamentals(),
+                        quoteStore.findQuote(entry.stock().getSymbol()).orElse(null)))
+                .toList();
+        return new ScreenResponse(result.totalCount(), stocks);
+    }
+
+    private StockResponse toResponse(Stock stock) {
+        StockFundamentals fundamentals = stockScreener.findFundamentals(stock.getSymbol());
+        return StockResponse.from(
+                stock,
+                quoteStore.findQuote(stock.getSymbol()).orElse(null),
+                fundamentals != null ? fundamentals.marketCap() : null
+        );
+    }
 }
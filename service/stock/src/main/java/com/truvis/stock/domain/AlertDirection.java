@@ -0,0 +1,40 @@
+package com.truvis.stock.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * 가격 알림 방향
+ * - 등록 시점 가격 기준으로 목표가가 위면 상향 돌파, 아래면 하향 돌파
+ */
+public enum AlertDirection {
+
+    ABOVE("이상"),
+    BELOW("이하");
+
+    private final String description;
+
+    AlertDirection(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 목표가에 도달했는지
+     */
+    public boolean isReached(long targetPrice, long price) {
+        return this == ABOVE ? price >= targetPrice : price <= targetPrice;
+    }
+
+    /**
+     * 현재가 기준 목표가의 방향 (현재가가 없으면 상향)
+     */
+    public static AlertDirection of(BigDecimal targetPrice, BigDecimal currentPrice) {
+        if (currentPrice == null || targetPrice.compareTo(currentPrice) >= 0) {
+            return ABOVE;
+        }
+        return BELOW;
+    }
+}
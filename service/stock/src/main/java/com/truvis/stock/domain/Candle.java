@@ -0,0 +1,18 @@
+package com.truvis.stock.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * OHLCV 봉 (불변)
+ *
+ * @param openTime 봉 시작 시각 (epoch ms)
+ */
+public record Candle(
+        long openTime,
+        BigDecimal open,
+        BigDecimal high,
+        BigDecimal low,
+        BigDecimal close,
+        long volume
+) {
+}
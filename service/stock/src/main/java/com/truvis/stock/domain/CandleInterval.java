@@ -0,0 +1,49 @@
+package com.truvis.stock.domain;
+
+import java.util.Arrays;
+
+/**
+ * 캔들(봉) 주기
+ * - 1일봉은 한국 시간(UTC+9) 자정 기준, 나머지는 UTC 기준으로 잘라도 경계가 같다
+ */
+public enum CandleInterval {
+
+    SECOND_1("1s", 1_000L),
+    MINUTE_1("1m", 60_000L),
+    MINUTE_5("5m", 5 * 60_000L),
+    HOUR_1("1h", 60 * 60_000L),
+    DAY_1("1d", 24 * 60 * 60_000L);
+
+    private static final long KST_OFFSET_MILLIS = 9 * 60 * 60_000L;
+
+    private final String code;
+    private final long millis;
+
+    CandleInterval(String code, long millis) {
+        this.code = code;
+        this.millis = millis;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public long getMillis() {
+        return millis;
+    }
+
+    /**
+     * 시각이 속한 봉의 시작 시각 (epoch ms)
+     */
+    public long bucketStart(long timestampMillis) {
+        long offset = this == DAY_1 ? KST_OFFSET_MILLIS : 0;
+        return timestampMillis - Math.floorMod(timestampMillis + offset, millis);
+    }
+
+    public static CandleInterval fromCode(String code) {
+        return Arrays.stream(values())
+                .filter(interval -> interval.code.equalsIgnoreCase(code))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 캔들 주기입니다: " + code));
+    }
+}
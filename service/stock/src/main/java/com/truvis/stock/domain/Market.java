@@ -0,0 +1,42 @@
+package com.truvis.stock.domain;
+
+import java.util.Arrays;
+
+/**
+ * 상장 시장
+ */
+public enum Market {
+    KOSPI("유가증권시장", "KRW"),
+    KOSDAQ("코스닥", "KRW"),
+    KONEX("코넥스", "KRW"),
+    NASDAQ("나스닥", "USD"),
+    NYSE("뉴욕증권거래소", "USD"),
+    AMEX("아멕스", "USD");
+
+    private final String description;
+    private final String currency;
+
+    Market(String description, String currency) {
+        this.description = description;
+        this.currency = currency;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public boolean isDomestic() {
+        return "KRW".equals(currency);
+    }
+
+    public static Market fromCode(String code) {
+        return Arrays.stream(values())
+                .filter(market -> market.name().equalsIgnoreCase(code == null ? "" : code.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 시장입니다: " + code));
+    }
+}
@@ -0,0 +1,17 @@
+package com.truvis.stock.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * 가격 알림 (한 번 울리면 삭제)
+ *
+ * @param owner 등록한 사용자 이메일 (알림 수신자)
+ */
+public record PriceAlert(
+        long id,
+        String owner,
+        String symbol,
+        AlertDirection direction,
+        BigDecimal targetPrice
+) {
+}
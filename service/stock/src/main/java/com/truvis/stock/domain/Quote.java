@@ -0,0 +1,34 @@
+package com.truvis.stock.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+
+/**
+ * 종목 현재 시세 스냅샷 (불변)
+ * - 시세 저장소에서 일관된 시점으로 읽어낸 값
+ *
+ * @param previousClose 전일 종가 (없으면 null)
+ */
+public record Quote(
+        String symbol,
+        BigDecimal lastPrice,
+        BigDecimal bidPrice,
+        BigDecimal askPrice,
+        long volume,
+        BigDecimal previousClose,
+        Instant updatedAt
+) {
+
+    /**
+     * 전일 대비 등락률 (%, 소수점 2자리)
+     */
+    public BigDecimal changeRate() {
+        if (previousClose == null || previousClose.signum() == 0) {
+            return null;
+        }
+        return lastPrice.subtract(previousClose)
+                .multiply(BigDecimal.valueOf(100))
+                .divide(previousClose, 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,40 @@
+package com.truvis.stock.domain;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 스크리너 조건
+ * - 같은 항목 안의 값은 OR (KOSPI 또는 KOSDAQ), 항목끼리는 AND
+ * - 숫자 범위는 양 끝 포함, 한쪽이 null이면 열린 범위
+ *
+ * @param sortBy 정렬 항목 (null이면 시가총액 순위순)
+ */
+public record ScreenCriteria(
+        Set<Market> markets,
+        Set<String> sectors,
+        List<Range> ranges,
+        ScreenerField sortBy,
+        boolean ascending,
+        int limit
+) {
+
+    public ScreenCriteria {
+        markets = markets == null ? Set.of() : Set.copyOf(markets);
+        sectors = sectors == null ? Set.of() : Set.copyOf(sectors);
+        ranges = ranges == null ? List.of() : List.copyOf(ranges);
+    }
+
+    public record Range(ScreenerField field, BigDecimal min, BigDecimal max) {
+
+        public Range {
+            if (field == null) {
+                throw new IllegalArgumentException("스크리너 항목은 필수입니다");
+            }
+            if (min != null && max != null && min.compareTo(max) > 0) {
+                throw new IllegalArgumentException("최솟값이 최댓값보다 큽니다: " + field.getCode());
+            }
+        }
+    }
+}
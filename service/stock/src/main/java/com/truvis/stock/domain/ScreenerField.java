@@ -0,0 +1,59 @@
+package com.truvis.stock.domain;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * 스크리너 숫자 조건 항목
+ * - scale: 색인에 정수로 저장할 때 남길 소수 자릿수
+ */
+public enum ScreenerField {
+
+    MARKET_CAP("marketCap", "시가총액", 0, fundamentals -> fundamentals.marketCap() == null
+            ? null : BigDecimal.valueOf(fundamentals.marketCap())),
+    PER("per", "PER", 2, StockFundamentals::per),
+    PBR("pbr", "PBR", 2, StockFundamentals::pbr),
+    ROE("roe", "ROE(%)", 2, StockFundamentals::roe),
+    DIVIDEND_YIELD("dividendYield", "배당수익률(%)", 2, StockFundamentals::dividendYield),
+    DEBT_RATIO("debtRatio", "부채비율(%)", 2, StockFundamentals::debtRatio),
+    EPS_GROWTH("epsGrowth", "10년 EPS 성장률(%)", 2, StockFundamentals::epsGrowth);
+
+    private final String code;
+    private final String description;
+    private final int scale;
+    private final Function<StockFundamentals, BigDecimal> extractor;
+
+    ScreenerField(String code, String description, int scale, Function<StockFundamentals, BigDecimal> extractor) {
+        this.code = code;
+        this.description = description;
+        this.scale = scale;
+        this.extractor = extractor;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * 재무 데이터에서 값 꺼내기 (없으면 null)
+     */
+    public BigDecimal valueOf(StockFundamentals fundamentals) {
+        return fundamentals == null ? null : extractor.apply(fundamentals);
+    }
+
+    public static ScreenerField fromCode(String code) {
+        return Arrays.stream(values())
+                .filter(field -> field.code.equalsIgnoreCase(code) || field.name().equalsIgnoreCase(code))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 스크리너 항목입니다: " + code));
+    }
+}
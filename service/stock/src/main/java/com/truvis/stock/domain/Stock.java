@@ -0,0 +1,65 @@
+package com.truvis.stock.domain;
+
+import java.util.Objects;
+
+/**
+ * 종목 마스터 정보 (불변)
+ * - 상장 목록 파일에서 읽어서 메모리 인덱스에 올린다
+ */
+public final class Stock {
+
+    private final String symbol;
+    private final String name;
+    private final Market market;
+    private final String sector;
+
+    private Stock(String symbol, String name, Market market, String sector) {
+        if (symbol == null || symbol.isBlank()) {
+            throw new IllegalArgumentException("종목 코드는 필수입니다");
+        }
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("종목명은 필수입니다: " + symbol);
+        }
+        this.symbol = symbol.trim().toUpperCase();
+        this.name = name.trim();
+        this.market = Objects.requireNonNull(market, "시장은 필수입니다");
+        this.sector = sector == null || sector.isBlank() ? null : sector.trim();
+    }
+
+    public static Stock of(String symbol, String name, Market market, String sector) {
+        return new Stock(symbol, name, market, sector);
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Market getMarket() {
+        return market;
+    }
+
+    public String getSector() {
+        return sector;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Stock stock)) return false;
+        return symbol.equals(stock.symbol);
+    }
+
+    @Override
+    public int hashCode() {
+        return symbol.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return symbol + "(" + name + ")";
+    }
+}
@@ -0,0 +1,33 @@
+package com.truvis.stock.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * 종목 재무 지표 (일 1회 갱신되는 스냅샷)
+ * - 적자 기업의 PER처럼 의미 없는 값은 null
+ *
+ * @param marketCap 시가총액 (상장 시장 통화 기준)
+ * @param roe 자기자본이익률 (%)
+ * @param dividendYield 배당수익률 (%)
+ * @param debtRatio 부채비율 (%, 부채 / 자본)
+ * @param epsGrowth 최근 10년 EPS 연평균 성장률 (%, 10년 치 이력이 없으면 null)
+ */
+public record StockFundamentals(
+        String symbol,
+        Long marketCap,
+        BigDecimal per,
+        BigDecimal pbr,
+        BigDecimal roe,
+        BigDecimal dividendYield,
+        BigDecimal debtRatio,
+        BigDecimal epsGrowth
+) {
+
+    /**
+     * 부채비율/EPS 성장률이 없는 재무 지표
+     */
+    public StockFundamentals(String symbol, Long marketCap, BigDecimal per, BigDecimal pbr,
+                             BigDecimal roe, BigDecimal dividendYield) {
+        this(symbol, marketCap, per, pbr, roe, dividendYield, null, null);
+    }
+}
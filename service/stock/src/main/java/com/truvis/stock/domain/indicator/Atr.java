@@ -0,0 +1,39 @@
+package com.truvis.stock.domain.indicator;
+
+/**
+ * 평균 실제 범위 (ATR, Wilder 평활)
+ * - 실제 범위 = max(고가 - 저가, |고가 - 전일 종가|, |저가 - 전일 종가|)
+ * - 첫 봉은 고가 - 저가
+ */
+public final class Atr implements Indicator {
+
+    private final int period;
+    private double previousClose = Double.NaN;
+    private int count = 0;
+    private double value = 0;
+
+    public Atr(int period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("기간은 1 이상이어야 합니다: " + period);
+        }
+        this.period = period;
+    }
+
+    @Override
+    public void update(double high, double low, double close) {
+        double trueRange = Indicators.trueRange(high, low, previousClose);
+        previousClose = close;
+
+        if (count < period) {
+            value += trueRange / period;
+            count++;
+            return;
+        }
+        value = (value * (period - 1) + trueRange) / period;
+    }
+
+    @Override
+    public double value() {
+        return count < period ? Double.NaN : value;
+    }
+}
@@ -0,0 +1,41 @@
+package com.truvis.stock.domain.indicator;
+
+/**
+ * 볼린저 밴드 (중심선 = SMA, 상/하단 = 중심선 ± k × 표준편차)
+ * - value()는 중심선
+ */
+public final class BollingerBands implements Indicator {
+
+    private final RollingWindow window;
+    private final double multiplier;
+
+    public BollingerBands(int period, double multiplier) {
+        this.window = new RollingWindow(period);
+        this.multiplier = multiplier;
+    }
+
+    /**
+     * 일반적인 (20, 2) 설정
+     */
+    public static BollingerBands standard() {
+        return new BollingerBands(20, 2.0);
+    }
+
+    @Override
+    public void update(double high, double low, double close) {
+        window.add(close);
+    }
+
+    @Override
+    public double value() {
+        return window.isFull() ? window.mean() : Double.NaN;
+    }
+
+    public double upper() {
+        return window.isFull() ? window.mean() + multiplier * window.standardDeviation() : Double.NaN;
+    }
+
+    public double lower() {
+        return window.isFull() ? window.mean() - multiplier * window.standardDeviation() : Double.NaN;
+    }
+}
@@ -0,0 +1,39 @@
+package com.truvis.stock.domain.indicator;
+
+/**
+ * 지수 이동평균 (EMA)
+ * - 처음 period 개의 단순 평균으로 시작한 뒤 α = 2 / (period + 1) 로 갱신
+ */
+public final class Ema implements Indicator {
+
+    private final int period;
+    private final double alpha;
+    private int count = 0;
+    private double seedSum = 0;
+    private double value = Double.NaN;
+
+    public Ema(int period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("기간은 1 이상이어야 합니다: " + period);
+        }
+        this.period = period;
+        this.alpha = 2.0 / (period + 1);
+    }
+
+    @Override
+    public void update(double high, double low, double close) {
+        if (count < period) {
+            seedSum += close;
+            if (++count == period) {
+                value = seedSum / period;
+            }
+            return;
+        }
+        value += alpha * (close - value);
+    }
+
+    @Override
+    public double value() {
+        return value;
+    }
+}
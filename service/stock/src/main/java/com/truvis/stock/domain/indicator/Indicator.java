@@ -0,0 +1,31 @@
+package com.truvis.stock.domain.indicator;
+
+/**
+ * 스트리밍 기술적 지표
+ * - 새 봉이 마감될 때마다 update() 한 번 → 창 전체를 다시 계산하지 않는다 (봉 1개당 O(1))
+ * - 준비 기간(워밍업) 동안 value()는 NaN
+ * - 스레드 안전하지 않음 (종목·주기마다 인스턴스 하나, 한 스레드에서 갱신)
+ */
+public interface Indicator {
+
+    /**
+     * 새 봉 반영 (종가만 쓰는 지표는 high/low를 무시)
+     */
+    void update(double high, double low, double close);
+
+    /**
+     * 종가만 쓰는 지표용
+     */
+    default void update(double close) {
+        update(close, close, close);
+    }
+
+    /**
+     * 현재 값 (준비 전이면 NaN)
+     */
+    double value();
+
+    default boolean isReady() {
+        return !Double.isNaN(value());
+    }
+}
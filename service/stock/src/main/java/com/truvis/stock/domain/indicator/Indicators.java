@@ -0,0 +1,220 @@
+package com.truvis.stock.domain.indicator;
+
+import java.util.Arrays;
+
+/**
+ * 기술적 지표 일괄 계산 (과거 시계열 전체를 한 번에)
+ *
+ * - 입력/출력 모두 double 배열, 출력 배열은 호출자가 준비 (재사용 가능, 길이 ≥ 입력)
+ * - 준비 기간(워밍업) 구간은 NaN
+ * - 배열을 한 번만 훑는다. 워밍업 구간과 본 구간 루프를 나눠서 본 구간 루프에는 분기/할당이 없다
+ * - 결과는 같은 입력을 스트리밍 지표(Sma, Ema ...)에 차례로 넣은 값과 같다 (부동소수점 오차 범위)
+ */
+public final class Indicators {
+
+    private Indicators() {
+    }
+
+    /**
+     * 단순 이동평균
+     */
+    public static void sma(double[] input, int period, double[] output) {
+        checkPeriod(period);
+        int length = input.length;
+        int warmup = Math.min(period - 1, length);
+        Arrays.fill(output, 0, warmup, Double.NaN);
+        if (length < period) {
+            return;
+        }
+
+        double sum = 0;
+        for (int i = 0; i < period; i++) {
+            sum += input[i];
+        }
+        output[period - 1] = sum / period;
+
+        for (int i = period; i < length; i++) {
+            sum += input[i] - input[i - period];
+            output[i] = sum / period;
+        }
+    }
+
+    /**
+     * 지수 이동평균 (처음 period 개 단순 평균으로 시작)
+     */
+    public static void ema(double[] input, int period, double[] output) {
+        checkPeriod(period);
+        emaFrom(input, 0, input.length, period, output);
+    }
+
+    /**
+     * RSI (Wilder 평활)
+     */
+    public static void rsi(double[] close, int period, double[] output) {
+        checkPeriod(period);
+        int length = close.length;
+        int warmup = Math.min(period, length);
+        Arrays.fill(output, 0, warmup, Double.NaN);
+        if (length <= period) {
+            return;
+        }
+
+        double averageGain = 0;
+        double averageLoss = 0;
+        for (int i = 1; i <= period; i++) {
+            double change = close[i] - close[i - 1];
+            averageGain += Math.max(change, 0) / period;
+            averageLoss += Math.max(-change, 0) / period;
+        }
+        output[period] = rsi(averageGain, averageLoss);
+
+        for (int i = period + 1; i < length; i++) {
+            double change = close[i] - close[i - 1];
+            averageGain = (averageGain * (period - 1) + Math.max(change, 0)) / period;
+            averageLoss = (averageLoss * (period - 1) + Math.max(-change, 0)) / period;
+            output[i] = rsi(averageGain, averageLoss);
+        }
+    }
+
+    /**
+     * MACD (MACD 선, 시그널, 히스토그램)
+     */
+    public static void macd(double[] close, int fastPeriod, int slowPeriod, int signalPeriod,
+                            double[] macdOut, double[] signalOut, double[] histogramOut) {
+        checkPeriod(fastPeriod);
+        checkPeriod(slowPeriod);
+        checkPeriod(signalPeriod);
+        int length = close.length;
+
+        // MACD 선 = fast EMA - slow EMA (signalOut을 임시 공간으로 사용)
+        ema(close, fastPeriod, macdOut);
+        ema(close, slowPeriod, signalOut);
+        for (int i = 0; i < length; i++) {
+            macdOut[i] -= signalOut[i];
+        }
+
+        // 시그널 = MACD 선이 나오기 시작한 지점부터의 EMA
+        Arrays.fill(signalOut, 0, length, Double.NaN);
+        int start = slowPeriod - 1;
+        if (start < length) {
+            emaFrom(macdOut, start, length, signalPeriod, signalOut);
+        }
+
+        for (int i = 0; i < length; i++) {
+            histogramOut[i] = macdOut[i] - signalOut[i];
+        }
+    }
+
+    /**
+     * 볼린저 밴드 (중심선, 상단, 하단)
+     */
+    public static void bollinger(double[] close, int period, double multiplier,
+                                 double[] middleOut, double[] upperOut, double[] lowerOut) {
+        checkPeriod(period);
+        int length = close.length;
+        int warmup = Math.min(period - 1, length);
+        Arrays.fill(middleOut, 0, warmup, Double.NaN);
+        Arrays.fill(upperOut, 0, warmup, Double.NaN);
+        Arrays.fill(lowerOut, 0, warmup, Double.NaN);
+        if (length < period) {
+            return;
+        }
+
+        double sum = 0;
+        double sumOfSquares = 0;
+        for (int i = 0; i < period - 1; i++) {
+            sum += close[i];
+            sumOfSquares += close[i] * close[i];
+        }
+
+        for (int i = period - 1; i < length; i++) {
+            double entering = close[i];
+            sum += entering;
+            sumOfSquares += entering * entering;
+
+            double mean = sum / period;
+            double deviation = Math.sqrt(Math.max(0, sumOfSquares / period - mean * mean));
+            middleOut[i] = mean;
+            upperOut[i] = mean + multiplier * deviation;
+            lowerOut[i] = mean - multiplier * deviation;
+
+            double leaving = close[i - period + 1];
+            sum -= leaving;
+            sumOfSquares -= leaving * leaving;
+        }
+    }
+
+    /**
+     * ATR (Wilder 평활)
+     */
+    public static void atr(double[] high, double[] low, double[] close, int period, double[] output) {
+        checkPeriod(period);
+        int length = close.length;
+        int warmup = Math.min(period - 1, length);
+        Arrays.fill(output, 0, warmup, Double.NaN);
+        if (length < period) {
+            return;
+        }
+
+        double value = 0;
+        for (int i = 0; i < period; i++) {
+            value += trueRange(high[i], low[i], i == 0 ? Double.NaN : close[i - 1]) / period;
+        }
+        output[period - 1] = value;
+
+        for (int i = period; i < length; i++) {
+            value = (value * (period - 1) + trueRange(high[i], low[i], close[i - 1])) / period;
+            output[i] = value;
+        }
+    }
+
+    static double rsi(double averageGain, double averageLoss) {
+        if (averageLoss == 0) {
+            return averageGain == 0 ? 50 : 100;
+        }
+        return 100 - 100 / (1 + averageGain / averageLoss);
+    }
+
+    /**
+     * 실제 범위 (전일 종가가 없으면 고가 - 저가)
+     */
+    static double trueRange(double high, double low, double previousClose) {
+        double range = high - low;
+        if (Double.isNaN(previousClose)) {
+            return range;
+        }
+        return Math.max(range, Math.max(Math.abs(high - previousClose), Math.abs(low - previousClose)));
+    }
+
+    /**
+     * input[from, to) 구간의 EMA를 output 같은 위치에 기록
+     */
+    private static void emaFrom(double[] input, int from, int to, int period, double[] output) {
+        if (to - from < period) {
+            Arrays.fill(output, from, to, Double.NaN);
+            return;
+        }
+
+        int seedEnd = from + period;
+        Arrays.fill(output, from, seedEnd - 1, Double.NaN);
+
+        double seed = 0;
+        for (int i = from; i < seedEnd; i++) {
+            seed += input[i];
+        }
+        double value = seed / period;
+        output[seedEnd - 1] = value;
+
+        double alpha = 2.0 / (period + 1);
+        for (int i = seedEnd; i < to; i++) {
+            value += alpha * (input[i] - value);
+            output[i] = value;
+        }
+    }
+
+    private static void checkPeriod(int period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("기간은 1 이상이어야 합니다: " + period);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.truvis.stock.domain.indicator;
+
+/**
+ * MACD (fast EMA - slow EMA, signal = MACD의 EMA)
+ * - value()는 MACD 선, signal()/histogram()으로 나머지 조회
+ */
+public final class Macd implements Indicator {
+
+    private final Ema fast;
+    private final Ema slow;
+    private final Ema signal;
+    private double macd = Double.NaN;
+
+    public Macd(int fastPeriod, int slowPeriod, int signalPeriod) {
+        if (fastPeriod >= slowPeriod) {
+            throw new IllegalArgumentException("fast 기간은 slow 기간보다 짧아야 합니다");
+        }
+        this.fast = new Ema(fastPeriod);
+        this.slow = new Ema(slowPeriod);
+        this.signal = new Ema(signalPeriod);
+    }
+
+    /**
+     * 일반적인 (12, 26, 9) 설정
+     */
+    public static Macd standard() {
+        return new Macd(12, 26, 9);
+    }
+
+    @Override
+    public void update(double high, double low, double close) {
+        fast.update(close);
+        slow.update(close);
+        if (slow.isReady()) {
+            macd = fast.value() - slow.value();
+            signal.update(macd);
+        }
+    }
+
+    @Override
+    public double value() {
+        return macd;
+    }
+
+    public double signal() {
+        return signal.value();
+    }
+
+    public double histogram() {
+        return macd - signal.value();
+    }
+
+    @Override
+    public boolean isReady() {
+        return signal.isReady();
+    }
+}
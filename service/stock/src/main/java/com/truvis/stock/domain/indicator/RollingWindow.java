@@ -0,0 +1,76 @@
+package com.truvis.stock.domain.indicator;
+
+/**
+ * 고정 크기 원형 버퍼 + 합/제곱합 유지
+ * - 추가 1번에 O(1) (빠지는 값을 빼고 들어오는 값을 더함)
+ * - 누적 오차가 쌓이지 않도록 일정 횟수마다 합을 다시 계산 (분할 상환 O(1))
+ */
+final class RollingWindow {
+
+    private static final int RESUM_INTERVAL = 4096;
+
+    private final double[] values;
+    private int next = 0;
+    private int count = 0;
+    private double sum = 0;
+    private double sumOfSquares = 0;
+    private int sinceResum = 0;
+
+    RollingWindow(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("기간은 1 이상이어야 합니다: " + size);
+        }
+        this.values = new double[size];
+    }
+
+    void add(double value) {
+        if (count == values.length) {
+            double evicted = values[next];
+            sum -= evicted;
+            sumOfSquares -= evicted * evicted;
+        } else {
+            count++;
+        }
+
+        values[next] = value;
+        sum += value;
+        sumOfSquares += value * value;
+        next = next + 1 == values.length ? 0 : next + 1;
+
+        if (++sinceResum >= RESUM_INTERVAL) {
+            resum();
+        }
+    }
+
+    boolean isFull() {
+        return count == values.length;
+    }
+
+    int size() {
+        return values.length;
+    }
+
+    double mean() {
+        return sum / count;
+    }
+
+    /**
+     * 모표준편차
+     */
+    double standardDeviation() {
+        double mean = mean();
+        return Math.sqrt(Math.max(0, sumOfSquares / count - mean * mean));
+    }
+
+    private void resum() {
+        double s = 0;
+        double sq = 0;
+        for (int i = 0; i < count; i++) {
+            s += values[i];
+            sq += values[i] * values[i];
+        }
+        sum = s;
+        sumOfSquares = sq;
+        sinceResum = 0;
+    }
+}
@@ -0,0 +1,51 @@
+package com.truvis.stock.domain.indicator;
+
+/**
+ * 상대강도지수 (RSI, Wilder 평활)
+ * - 처음 period 개 변화량의 평균으로 시작, 이후 avg = (avg × (period - 1) + 변화량) / period
+ */
+public final class Rsi implements Indicator {
+
+    private final int period;
+    private double previousClose = Double.NaN;
+    private int changes = 0;
+    private double averageGain = 0;
+    private double averageLoss = 0;
+
+    public Rsi(int period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("기간은 1 이상이어야 합니다: " + period);
+        }
+        this.period = period;
+    }
+
+    @Override
+    public void update(double high, double low, double close) {
+        if (Double.isNaN(previousClose)) {
+            previousClose = close;
+            return;
+        }
+
+        double change = close - previousClose;
+        double gain = Math.max(change, 0);
+        double loss = Math.max(-change, 0);
+        previousClose = close;
+
+        if (changes < period) {
+            averageGain += gain / period;
+            averageLoss += loss / period;
+            changes++;
+            return;
+        }
+        averageGain = (averageGain * (period - 1) + gain) / period;
+        averageLoss = (averageLoss * (period - 1) + loss) / period;
+    }
+
+    @Override
+    public double value() {
+        if (changes < period) {
+            return Double.NaN;
+        }
+        return Indicators.rsi(averageGain, averageLoss);
+    }
+}
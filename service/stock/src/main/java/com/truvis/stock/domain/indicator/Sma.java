@@ -0,0 +1,23 @@
+package com.truvis.stock.domain.indicator;
+
+/**
+ * 단순 이동평균 (SMA)
+ */
+public final class Sma implements Indicator {
+
+    private final RollingWindow window;
+
+    public Sma(int period) {
+        this.window = new RollingWindow(period);
+    }
+
+    @Override
+    public void update(double high, double low, double close) {
+        window.add(close);
+    }
+
+    @Override
+    public double value() {
+        return window.isFull() ? window.mean() : Double.NaN;
+    }
+}
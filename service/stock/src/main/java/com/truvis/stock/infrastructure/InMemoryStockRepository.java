@@ -0,0 +1,116 @@
+package com.truvis.stock.infrastructure;
+
+import com.truvis.stock.domain.Market;
+import com.truvis.stock.domain.Stock;
+import com.truvis.stock.infrastructure.index.StockMasterIndex;
+import com.truvis.stock.repository.StockRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 종목 마스터 메모리 저장소
+ *
+ * - 상장 목록 파일을 읽어 불변 인덱스(StockMasterIndex)를 만들고 volatile 참조로 공개
+ * - 재로딩은 새 인덱스를 다 만든 뒤 참조만 교체 → 읽는 쪽은 잠금 없이 항상 완전한 인덱스를 본다
+ * - 검색/조회에 DB를 사용하지 않는다
+ */
+@Repository
+@Slf4j
+public class InMemoryStockRepository implements StockRepository {
+
+    private final Resource listing;
+    private final int maxSearchResults;
+    private final StockListingParser parser = new StockListingParser();
+
+    private volatile StockMasterIndex index = StockMasterIndex.empty();
+
+    public InMemoryStockRepository(
+            @Value("${stock.master.listing-location:classpath:stock/listing.csv}") Resource listing,
+            @Value("${stock.master.max-search-results:20}") int maxSearchResults
+    ) {
+        this.listing = listing;
+        this.maxSearchResults = maxSearchResults;
+    }
+
+    /**
+     * 🔥 기동 시 로딩 (실패하면 빈 인덱스로 시작하고 다음 주기에 재시도)
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("❌ 종목 마스터 초기 로딩 실패: location={}", listing, e);
+        }
+    }
+
+    /**
+     * 🔄 주기적 재로딩 (기본 1시간) - 신규 상장/상장폐지 반영
+     */
+    @Scheduled(
+            fixedDelayString = "${stock.master.reload-interval-ms:3600000}",
+            initialDelayString = "${stock.master.reload-interval-ms:3600000}"
+    )
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("❌ 종목 마스터 재로딩 실패 (기존 인덱스 유지): location={}", listing, e);
+        }
+    }
+
+    /**
+     * 상장 목록 파일로 인덱스 재구성 후 원자적 교체
+     */
+    public synchronized void reload() throws Exception {
+        long startedAt = System.nanoTime();
+
+        List<Stock> stocks;
+        try (InputStream inputStream = listing.getInputStream()) {
+            stocks = parser.parse(inputStream);
+        }
+        StockMasterIndex next = StockMasterIndex.build(stocks, maxSearchResults);
+
+        index = next;
+
+        log.info("📈 종목 마스터 로딩 완료: {}개, {}ms",
+                next.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @Override
+    public Optional<Stock> findBySymbol(String symbol) {
+        return Optional.ofNullable(index.findBySymbol(symbol));
+    }
+
+    @Override
+    public List<Stock> search(String query, int limit) {
+        return index.search(query, Math.min(limit, maxSearchResults));
+    }
+
+    @Override
+    public List<Stock> findByMarket(Market market) {
+        return index.findByMarket(market);
+    }
+
+    @Override
+    public List<Stock> findBySector(String sector) {
+        return index.findBySector(sector);
+    }
+
+    @Override
+    public List<Stock> findAll() {
+        return index.getAll();
+    }
+
+    public int size() {
+        return index.size();
+    }
+}
@@ -0,0 +1,146 @@
+package com.truvis.stock.infrastructure;
+
+import com.truvis.stock.domain.AlertDirection;
+import com.truvis.stock.domain.PriceAlert;
+import com.truvis.stock.repository.PriceAlertRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Redis 가격 알림 저장소
+ * - price-alerts HASH: 알림 ID → "종목|방향|목표가|이메일"
+ * - price-alert:owner:{email} SET: 사용자별 알림 ID (목록 조회, 개수 제한)
+ * - 저장/삭제는 Lua 한 번으로 두 키를 함께 변경
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class RedisPriceAlertRepository implements PriceAlertRepository {
+
+    private static final String ALERTS_KEY = "price-alerts";
+    private static final String SEQUENCE_KEY = "price-alert:seq";
+    private static final String OWNER_KEY_PREFIX = "price-alert:owner:";
+    private static final String SEPARATOR = "|";
+
+    /**
+     * KEYS[1] = 사용자 키, KEYS[2] = 알림 HASH, KEYS[3] = ID 시퀀스
+     * ARGV[1] = 최대 개수, ARGV[2] = 알림 값
+     * 반환: 발급된 ID, -1 = 한도 초과
+     */
+    private static final DefaultRedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SCARD', KEYS[1]) >= tonumber(ARGV[1]) then
+                return -1
+            end
+            local id = redis.call('INCR', KEYS[3])
+            redis.call('HSET', KEYS[2], id, ARGV[2])
+            redis.call('SADD', KEYS[1], id)
+            return id
+            """, Long.class);
+
+    /**
+     * KEYS[1] = 알림 HASH, KEYS[2] = 사용자 키, ARGV[1] = 알림 ID
+     * 반환: 1 = 삭제, 0 = 이미 없음
+     */
+    private static final DefaultRedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>("""
+            local removed = redis.call('HDEL', KEYS[1], ARGV[1])
+            redis.call('SREM', KEYS[2], ARGV[1])
+            return removed
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public Optional<PriceAlert> save(String owner, String symbol, AlertDirection direction,
+                                     BigDecimal targetPrice, int maxPerOwner) {
+        String value = String.join(SEPARATOR, symbol, direction.name(), targetPrice.toPlainString(), owner);
+        Long id = redisTemplate.execute(
+                SAVE_SCRIPT,
+                List.of(ownerKey(owner), ALERTS_KEY, SEQUENCE_KEY),
+                String.valueOf(maxPerOwner),
+                value
+        );
+
+        if (id == null || id < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new PriceAlert(id, owner, symbol, direction, targetPrice));
+    }
+
+    @Override
+    public Optional<PriceAlert> findById(long id) {
+        Object value = redisTemplate.opsForHash().get(ALERTS_KEY, String.valueOf(id));
+        return Optional.ofNullable(value).map(raw -> parse(id, raw.toString()));
+    }
+
+    @Override
+    public List<PriceAlert> findByOwner(String owner) {
+        Set<String> ids = redisTemplate.opsForSet().members(ownerKey(owner));
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> fields = new ArrayList<>(ids);
+        List<Object> values = redisTemplate.opsForHash().multiGet(ALERTS_KEY, fields);
+
+        List<PriceAlert> alerts = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            if (values.get(i) != null) {
+                alerts.add(parse(Long.parseLong(fields.get(i).toString()), values.get(i).toString()));
+            }
+        }
+        return alerts;
+    }
+
+    @Override
+    public void forEach(Consumer<PriceAlert> consumer) {
+        ScanOptions options = ScanOptions.scanOptions().count(1000).build();
+        try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(ALERTS_KEY, options)) {
+            while (cursor.hasNext()) {
+                Map.Entry<Object, Object> entry = cursor.next();
+                try {
+                    consumer.accept(parse(Long.parseLong(entry.getKey().toString()), entry.getValue().toString()));
+                } catch (IllegalArgumentException e) {
+                    log.warn("⚠️ 잘못된 가격 알림 건너뜀: id={}, value={}", entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean delete(PriceAlert alert) {
+        Long removed = redisTemplate.execute(
+                DELETE_SCRIPT,
+                List.of(ALERTS_KEY, ownerKey(alert.owner())),
+                String.valueOf(alert.id())
+        );
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * "종목|방향|목표가|이메일" → 알림 (이메일은 마지막이라 구분자가 들어 있어도 안전)
+     */
+    private PriceAlert parse(long id, String value) {
+        String[] parts = value.split("\\|", 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("잘못된 가격 알림 값: " + value);
+        }
+        return new PriceAlert(id, parts[3], parts[0], AlertDirection.valueOf(parts[1]), new BigDecimal(parts[2]));
+    }
+
+    private String ownerKey(String owner) {
+        return OWNER_KEY_PREFIX + owner;
+    }
+}
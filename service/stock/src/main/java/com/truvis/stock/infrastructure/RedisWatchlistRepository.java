@@ -0,0 +1,67 @@
+package com.truvis.stock.infrastructure;
+
+import com.truvis.stock.repository.WatchlistRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis 관심 종목 저장소
+ * - watchlist:{email} SET 하나에 종목 코드 저장
+ * - 개수 확인 + 추가는 Lua 한 번으로 처리 (동시 추가로 한도를 넘지 않게)
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class RedisWatchlistRepository implements WatchlistRepository {
+
+    private static final String KEY_PREFIX = "watchlist:";
+
+    /**
+     * KEYS[1] = 관심 종목 키, ARGV[1] = 종목 코드, ARGV[2] = 최대 개수
+     * 반환: 1 = 추가, 0 = 이미 있음, -1 = 한도 초과
+     */
+    private static final DefaultRedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+                return 0
+            end
+            if redis.call('SCARD', KEYS[1]) >= tonumber(ARGV[2]) then
+                return -1
+            end
+            redis.call('SADD', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public AddResult add(String owner, String symbol, int maxSize) {
+        Long result = redisTemplate.execute(ADD_SCRIPT, List.of(key(owner)), symbol, String.valueOf(maxSize));
+
+        if (result == null || result < 0) {
+            return AddResult.LIMIT_EXCEEDED;
+        }
+        return result == 1 ? AddResult.ADDED : AddResult.ALREADY_EXISTS;
+    }
+
+    @Override
+    public boolean remove(String owner, String symbol) {
+        Long removed = redisTemplate.opsForSet().remove(key(owner), symbol);
+        return removed != null && removed > 0;
+    }
+
+    @Override
+    public Set<String> findSymbols(String owner) {
+        Set<String> symbols = redisTemplate.opsForSet().members(key(owner));
+        return symbols != null ? symbols : Set.of();
+    }
+
+    private String key(String owner) {
+        return KEY_PREFIX + owner;
+    }
+}
@@ -0,0 +1,88 @@
+package com.truvis.stock.infrastructure;
+
+import com.truvis.stock.domain.StockFundamentals;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 재무 지표 파일 파서
+ *
+ * 형식: symbol,market_cap,per,pbr,roe,dividend_yield[,debt_ratio,eps_growth_10y] (첫 줄 헤더, '#'으로 시작하는 줄은 주석)
+ * - 빈 칸은 값 없음 (적자 기업 PER 등), 뒤의 두 열은 없어도 된다 (이전 형식 파일)
+ * - 형식이 잘못된 줄은 건너뛰고 경고 로그
+ */
+@Slf4j
+public class StockFundamentalsParser {
+
+    private static final int FIELD_COUNT = 6;
+
+    /**
+     * @return 종목 코드 → 재무 지표 (코드 중복 시 뒤의 것)
+     */
+    public Map<String, StockFundamentals> parse(InputStream inputStream) throws IOException {
+        Map<String, StockFundamentals> fundamentals = new LinkedHashMap<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            boolean header = true;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                if (header) {
+                    header = false;
+                    continue;
+                }
+
+                try {
+                    StockFundamentals parsed = parseLine(line);
+                    fundamentals.put(parsed.symbol(), parsed);
+                } catch (IllegalArgumentException e) {
+                    log.warn("재무 지표 {}번째 줄 무시: {} ({})", lineNumber, line, e.getMessage());
+                }
+            }
+        }
+
+        return fundamentals;
+    }
+
+    private StockFundamentals parseLine(String line) {
+        String[] fields = line.split(",", -1);
+        if (fields.length < FIELD_COUNT) {
+            throw new IllegalArgumentException("필드 수 부족");
+        }
+
+        String symbol = fields[0].trim().toUpperCase();
+        if (symbol.isEmpty()) {
+            throw new IllegalArgumentException("종목 코드 없음");
+        }
+
+        BigDecimal marketCap = decimal(fields[1]);
+        return new StockFundamentals(
+                symbol,
+                marketCap != null ? marketCap.longValueExact() : null,
+                decimal(fields[2]),
+                decimal(fields[3]),
+                decimal(fields[4]),
+                decimal(fields[5]),
+                fields.length > 6 ? decimal(fields[6]) : null,
+                fields.length > 7 ? decimal(fields[7]) : null
+        );
+    }
+
+    private BigDecimal decimal(String field) {
+        String value = field.trim();
+        return value.isEmpty() ? null : new BigDecimal(value);  // NumberFormatException도 IllegalArgumentException
+    }
+}
@@ -0,0 +1,96 @@
+package com.truvis.stock.infrastructure;
+
+import com.truvis.stock.domain.Market;
+import com.truvis.stock.domain.Stock;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상장 목록 파일 파서 (KRX/NASDAQ 공용 CSV)
+ *
+ * 형식: symbol,name,market,sector (첫 줄 헤더, '#'으로 시작하는 줄은 주석)
+ * - 파일 순서가 검색 순위 (시가총액 내림차순으로 정렬된 파일 사용)
+ * - 쉼표가 들어간 종목명은 큰따옴표로 감싼다 ("Alphabet Inc., Class A")
+ * - 형식이 잘못된 줄은 건너뛰고 경고 로그
+ */
+@Slf4j
+public class StockListingParser {
+
+    public List<Stock> parse(InputStream inputStream) throws IOException {
+        List<Stock> stocks = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            boolean header = true;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                if (header) {
+                    header = false;
+                    continue;
+                }
+
+                try {
+                    stocks.add(parseLine(line));
+                } catch (IllegalArgumentException e) {
+                    log.warn("상장 목록 {}번째 줄 무시: {} ({})", lineNumber, line, e.getMessage());
+                }
+            }
+        }
+
+        return stocks;
+    }
+
+    private Stock parseLine(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() < 3) {
+            throw new IllegalArgumentException("필드 수 부족");
+        }
+
+        return Stock.of(
+                fields.get(0),
+                fields.get(1),
+                Market.valueOf(fields.get(2).trim().toUpperCase()),
+                fields.size() > 3 ? fields.get(3) : null
+        );
+    }
+
+    /**
+     * 큰따옴표를 지원하는 CSV 한 줄 분리
+     */
+    private List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');  // "" → "
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
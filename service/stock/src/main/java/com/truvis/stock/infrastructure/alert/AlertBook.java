@@ -0,0 +1,160 @@
+package com.truvis.stock.infrastructure.alert;
+
+import com.truvis.stock.domain.AlertDirection;
+
+import java.util.Arrays;
+
+/**
+ * 종목 1개의 가격 알림 색인 (상향/하향 각각 정렬 배열)
+ *
+ * - 상향 알림은 목표가 내림차순, 하향 알림은 오름차순으로 저장 → 배열 끝이 "다음에 울릴 알림"
+ * - 가격이 움직이면 끝에서부터 넘은 구간만 잘라낸다: 이진 탐색 O(log n) + 울린 k건
+ * - 대부분의 틱은 끝 원소 하나만 비교하고 끝난다
+ * - 틱(파이프라인 스레드)과 등록/취소(요청 스레드)가 겹치므로 모든 메서드는 synchronized
+ */
+class AlertBook {
+
+    private final Side above = new Side(AlertDirection.ABOVE);
+    private final Side below = new Side(AlertDirection.BELOW);
+
+    /**
+     * @return 새로 추가했으면 true (같은 알림이 이미 있으면 false)
+     */
+    synchronized boolean add(AlertDirection direction, long targetPrice, long alertId) {
+        return side(direction).add(targetPrice, alertId);
+    }
+
+    /**
+     * @return 색인에 있어서 제거했으면 true
+     */
+    synchronized boolean remove(AlertDirection direction, long targetPrice, long alertId) {
+        return side(direction).remove(targetPrice, alertId);
+    }
+
+    /**
+     * 가격에 도달한 알림을 꺼내서 fired에 담는다 (꺼낸 알림은 색인에서 제거)
+     *
+     * @return 울린 알림 수
+     */
+    synchronized int fire(long price, FiredAlerts fired) {
+        return above.fire(price, fired) + below.fire(price, fired);
+    }
+
+    synchronized int size() {
+        return above.size + below.size;
+    }
+
+    private Side side(AlertDirection direction) {
+        return direction == AlertDirection.ABOVE ? above : below;
+    }
+
+    /**
+     * 한 방향의 정렬 배열
+     * - 상향은 -목표가, 하향은 목표가를 키로 삼아 오름차순 저장
+     * - 어느 쪽이든 "키 ≥ 현재가의 키" 인 끝 구간이 울릴 알림
+     */
+    private static class Side {
+
+        private static final int INITIAL_CAPACITY = 4;
+
+        private final boolean negate;
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private int size = 0;
+
+        Side(AlertDirection direction) {
+            this.negate = direction == AlertDirection.ABOVE;
+        }
+
+        boolean add(long targetPrice, long alertId) {
+            long key = key(targetPrice);
+            int position = upperBound(key);  // 같은 목표가끼리는 등록 순서 유지
+            for (int i = position - 1; i >= 0 && keys[i] == key; i--) {
+                if (ids[i] == alertId) {
+                    return false;
+                }
+            }
+
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(keys, position, keys, position + 1, size - position);
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            keys[position] = key;
+            ids[position] = alertId;
+            size++;
+            return true;
+        }
+
+        boolean remove(long targetPrice, long alertId) {
+            long key = key(targetPrice);
+            for (int i = lowerBound(key); i < size && keys[i] == key; i++) {
+                if (ids[i] == alertId) {
+                    System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+                    System.arraycopy(ids, i + 1, ids, i, size - i - 1);
+                    size--;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int fire(long price, FiredAlerts fired) {
+            long key = key(price);
+            if (size == 0 || keys[size - 1] < key) {
+                return 0;  // 가장 가까운 알림도 아직
+            }
+
+            int from = lowerBound(key);
+            for (int i = from; i < size; i++) {
+                fired.add(ids[i], price);
+            }
+            int count = size - from;
+            size = from;
+            if (size == 0 && keys.length > INITIAL_CAPACITY) {
+                keys = new long[INITIAL_CAPACITY];
+                ids = new long[INITIAL_CAPACITY];
+            }
+            return count;
+        }
+
+        private long key(long price) {
+            return negate ? -price : price;
+        }
+
+        /**
+         * key 이상인 첫 위치
+         */
+        private int lowerBound(long key) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * key 초과인 첫 위치
+         */
+        private int upperBound(long key) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid] <= key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.truvis.stock.infrastructure.alert;
+
+import java.util.Arrays;
+
+/**
+ * 배치 안에서 울린 알림 모음 (알림 ID + 울린 시점 가격)
+ * - 파이프라인 스레드 전용, 배치 끝에 통째로 발송 스레드로 넘긴다
+ */
+class FiredAlerts {
+
+    private long[] ids;
+    private long[] prices;
+    private int count = 0;
+
+    FiredAlerts(int initialCapacity) {
+        this.ids = new long[initialCapacity];
+        this.prices = new long[initialCapacity];
+    }
+
+    void add(long alertId, long price) {
+        if (count == ids.length) {
+            ids = Arrays.copyOf(ids, count * 2);
+            prices = Arrays.copyOf(prices, count * 2);
+        }
+        ids[count] = alertId;
+        prices[count] = price;
+        count++;
+    }
+
+    int size() {
+        return count;
+    }
+
+    long idAt(int index) {
+        return ids[index];
+    }
+
+    long priceAt(int index) {
+        return prices[index];
+    }
+
+    /**
+     * 지금까지 모은 알림을 떼어내고 비운다
+     */
+    FiredAlerts drain() {
+        FiredAlerts drained = new FiredAlerts(Math.max(1, count));
+        System.arraycopy(ids, 0, drained.ids, 0, count);
+        System.arraycopy(prices, 0, drained.prices, 0, count);
+        drained.count = count;
+        count = 0;
+        return drained;
+    }
+}
@@ -0,0 +1,245 @@
+package com.truvis.stock.infrastructure.alert;
+
+import com.truvis.notification.domain.NotificationChannel;
+import com.truvis.notification.domain.NotificationType;
+import com.truvis.notification.event.NotificationRequestedEvent;
+import com.truvis.stock.domain.PriceAlert;
+import com.truvis.stock.domain.Stock;
+import com.truvis.stock.infrastructure.marketdata.TickListener;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import com.truvis.stock.repository.PriceAlertRepository;
+import com.truvis.stock.repository.StockRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.DecimalFormat;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가격 알림 엔진
+ *
+ * - 종목(슬롯)별 AlertBook에 목표가 정렬 색인을 유지 → 틱마다 넘은 구간만 꺼낸다 (전체 알림 순회 없음)
+ * - 울린 알림은 색인에서 바로 빠지고, 배치 끝에 발송 스레드로 넘어가서
+ *   Redis에서 삭제에 성공한 경우에만 NotificationRequestedEvent 발행
+ *   → 취소와 동시에 울리거나 여러 노드가 같은 알림을 울려도 알림은 한 번만 나간다
+ * - Redis 조회/삭제가 실패하면 잠시 뒤 Redis에 남아 있는 알림을 색인에 되돌린다
+ *   (색인과 Redis가 어긋나지 않게, 가격이 여전히 넘어 있으면 다음 틱에 다시 울림)
+ * - 기동 시 Redis의 알림 전체를 색인에 적재 (다른 노드에서 등록한 알림은 재기동 시 반영)
+ */
+@Component
+@Slf4j
+public class PriceAlertEngine implements TickListener {
+
+    private static final String REQUESTED_BY = "price-alert";
+
+    private final QuoteStore quoteStore;
+    private final PriceAlertRepository priceAlertRepository;
+    private final StockRepository stockRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 슬롯 → 알림 색인 (첫 알림 등록 시 생성)
+    private final AtomicReferenceArray<AlertBook> booksBySlot;
+
+    // 파이프라인 스레드 전용
+    private final FiredAlerts fired = new FiredAlerts(64);
+
+    // 발송은 Redis 왕복이 있으므로 파이프라인 밖에서 (실패한 알림 되돌리기도 같은 스레드)
+    private final ScheduledThreadPoolExecutor dispatcher = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "price-alert-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final long retryDelayMillis;
+
+    // 모니터링용 카운터
+    private final LongAdder activeCount = new LongAdder();
+    private final LongAdder triggeredCount = new LongAdder();
+    private final LongAdder notifiedCount = new LongAdder();
+
+    public PriceAlertEngine(
+            QuoteStore quoteStore,
+            PriceAlertRepository priceAlertRepository,
+            StockRepository stockRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${stock.alert.retry-delay-ms:5000}") long retryDelayMillis
+    ) {
+        this.quoteStore = quoteStore;
+        this.priceAlertRepository = priceAlertRepository;
+        this.stockRepository = stockRepository;
+        this.eventPublisher = eventPublisher;
+        this.retryDelayMillis = retryDelayMillis;
+        this.booksBySlot = new AtomicReferenceArray<>(quoteStore.getCapacity());
+        this.dispatcher.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);  // 종료 시 남은 알림은 재기동 적재로
+    }
+
+    /**
+     * 🔔 저장된 알림 전체를 색인에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAlerts() {
+        long start = System.currentTimeMillis();
+        try {
+            priceAlertRepository.forEach(this::register);
+            log.info("🔔 가격 알림 적재 완료: {}건, {}ms", getActiveCount(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("❌ 가격 알림 적재 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 색인에 알림 추가
+     * - 적재 중에 새로 등록된 알림처럼 같은 알림이 두 번 와도 색인과 개수에는 한 번만 들어간다
+     */
+    public void register(PriceAlert alert) {
+        int slot = quoteStore.slotOf(alert.symbol());
+        if (bookOf(slot).add(alert.direction(), QuoteStore.toScaled(alert.targetPrice()), alert.id())) {
+            activeCount.increment();
+        }
+    }
+
+    /**
+     * 색인에서 알림 제거
+     */
+    public void unregister(PriceAlert alert) {
+        int slot = quoteStore.findSlot(alert.symbol());
+        AlertBook book = slot == QuoteStore.NO_SLOT ? null : booksBySlot.get(slot);
+        if (book != null && book.remove(alert.direction(), QuoteStore.toScaled(alert.targetPrice()), alert.id())) {
+            activeCount.decrement();
+        }
+    }
+
+    @Override
+    public void onTick(int slot, long timestampMillis, long price, long volume) {
+        AlertBook book = booksBySlot.get(slot);
+        if (book != null) {
+            int count = book.fire(price, fired);
+            if (count > 0) {
+                activeCount.add(-count);
+                triggeredCount.add(count);
+            }
+        }
+    }
+
+    @Override
+    public void onBatchEnd() {
+        if (fired.size() == 0) {
+            return;
+        }
+
+        FiredAlerts batch = fired.drain();
+        try {
+            dispatcher.execute(() -> dispatch(batch));
+        } catch (RejectedExecutionException e) {
+            // 종료 중 (Redis에 남아 있으므로 재기동 후 다시 울린다)
+        }
+    }
+
+    private void dispatch(FiredAlerts batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            long alertId = batch.idAt(i);
+            Optional<PriceAlert> alert;
+            try {
+                alert = priceAlertRepository.findById(alertId);
+                if (alert.isEmpty() || !priceAlertRepository.delete(alert.get())) {
+                    continue;  // 이미 취소됐거나 다른 노드가 먼저 보냄
+                }
+            } catch (Exception e) {
+                // 색인에서는 빠졌지만 Redis에는 남아 있을 수 있음 → 잠시 뒤 색인에 되돌린다
+                log.error("❌ 가격 알림 발송 실패: alertId={}, error={}", alertId, e.getMessage());
+                scheduleRestore(alertId);
+                continue;
+            }
+
+            try {
+                notify(alert.get(), batch.priceAt(i));
+            } catch (Exception e) {
+                // Redis와 색인 모두에서 빠진 상태 (알림 이벤트만 유실)
+                log.error("❌ 가격 알림 이벤트 발행 실패: alertId={}, error={}", alertId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Redis에 남아 있는 알림을 색인에 되돌린다 (Redis가 계속 실패하면 다시 예약)
+     */
+    private void restore(long alertId) {
+        try {
+            priceAlertRepository.findById(alertId).ifPresent(this::register);
+        } catch (Exception e) {
+            log.warn("⚠️ 가격 알림 색인 복구 실패, 다시 시도: alertId={}, error={}", alertId, e.getMessage());
+            scheduleRestore(alertId);
+        }
+    }
+
+    private void scheduleRestore(long alertId) {
+        try {
+            dispatcher.schedule(() -> restore(alertId), retryDelayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중 (Redis에 남아 있으면 재기동 후 적재된다)
+        }
+    }
+
+    private void notify(PriceAlert alert, long price) {
+        String name = stockRepository.findBySymbol(alert.symbol())
+                .map(Stock::getName)
+                .orElse(alert.symbol());
+
+        DecimalFormat format = new DecimalFormat("#,##0.####");
+        String content = String.format("""
+                %s(%s) 가격이 설정하신 %s원 %s에 도달했습니다.
+
+                현재가: %s원
+                """,
+                name,
+                alert.symbol(),
+                format.format(alert.targetPrice()),
+                alert.direction().getDescription(),
+                format.format(QuoteStore.toPrice(price)));
+
+        eventPublisher.publishEvent(NotificationRequestedEvent.of(
+                alert.owner(),
+                NotificationChannel.EMAIL,
+                NotificationType.PRICE_ALERT,
+                content,
+                REQUESTED_BY
+        ));
+        notifiedCount.increment();
+        log.info("🔔 가격 알림 발송: alertId={}, symbol={}, owner={}", alert.id(), alert.symbol(), alert.owner());
+    }
+
+    private AlertBook bookOf(int slot) {
+        AlertBook book = booksBySlot.get(slot);
+        if (book == null) {
+            booksBySlot.compareAndSet(slot, null, new AlertBook());
+            book = booksBySlot.get(slot);
+        }
+        return book;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdown();
+    }
+
+    public long getActiveCount() {
+        return activeCount.sum();
+    }
+
+    public long getTriggeredCount() {
+        return triggeredCount.sum();
+    }
+
+    public long getNotifiedCount() {
+        return notifiedCount.sum();
+    }
+}
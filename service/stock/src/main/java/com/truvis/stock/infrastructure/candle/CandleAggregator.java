@@ -0,0 +1,139 @@
+package com.truvis.stock.infrastructure.candle;
+
+import com.truvis.stock.domain.Candle;
+import com.truvis.stock.domain.CandleInterval;
+import com.truvis.stock.infrastructure.marketdata.TickListener;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 다중 주기 OHLCV 봉 집계기
+ *
+ * - 틱 파이프라인 소비 스레드에서 틱마다 주기별로 현재 봉만 갱신 (틱 1건 × 주기 1개 = O(1))
+ * - 봉 경계를 넘는 틱이 오면 이전 봉을 마감해서 메모리 링에 남기고 배치 끝에 파일 저장소로 넘긴다
+ * - 틱이 없는 구간의 봉은 만들지 않는다 (빈 봉 없음)
+ * - 종료 시 진행 중인 봉도 저장 (재시작 후 같은 구간 봉은 읽을 때 합쳐짐)
+ */
+@Component
+@Slf4j
+public class CandleAggregator implements TickListener {
+
+    private static final CandleInterval[] INTERVALS = CandleInterval.values();
+
+    private final QuoteStore quoteStore;
+    private final CandleFileStore fileStore;
+    private final int memoryBars;
+
+    // 슬롯 → 주기별 시계열 (종목의 첫 틱에서 생성)
+    private final AtomicReferenceArray<CandleSeries[]> seriesBySlot;
+
+    // 파이프라인 스레드 전용 작업 공간
+    private final long[] closedScratch = new long[6];
+    private final List<ClosedCandle> pendingClosed = new ArrayList<>();
+
+    public CandleAggregator(
+            QuoteStore quoteStore,
+            CandleFileStore fileStore,
+            @Value("${stock.candle.memory-bars:120}") int memoryBars
+    ) {
+        this.quoteStore = quoteStore;
+        this.fileStore = fileStore;
+        this.memoryBars = memoryBars;
+        this.seriesBySlot = new AtomicReferenceArray<>(quoteStore.getCapacity());
+    }
+
+    @Override
+    public void onTick(int slot, long timestampMillis, long price, long volume) {
+        CandleSeries[] series = seriesBySlot.get(slot);
+        if (series == null) {
+            series = createSeries();
+            seriesBySlot.set(slot, series);
+        }
+
+        for (int i = 0; i < INTERVALS.length; i++) {
+            long bucketStart = INTERVALS[i].bucketStart(timestampMillis);
+            if (series[i].onTick(bucketStart, price, volume, closedScratch)) {
+                pendingClosed.add(toClosed(quoteStore.symbolOf(slot), INTERVALS[i], closedScratch));
+            }
+        }
+    }
+
+    @Override
+    public void onVolume(int slot, long timestampMillis, long volume) {
+        CandleSeries[] series = seriesBySlot.get(slot);
+        if (series == null) {
+            return;
+        }
+
+        for (int i = 0; i < INTERVALS.length; i++) {
+            series[i].addVolume(INTERVALS[i].bucketStart(timestampMillis), volume);
+        }
+    }
+
+    @Override
+    public void onBatchEnd() {
+        if (pendingClosed.isEmpty()) {
+            return;
+        }
+        for (ClosedCandle candle : pendingClosed) {
+            fileStore.append(candle);
+        }
+        pendingClosed.clear();
+    }
+
+    /**
+     * 메모리에 있는 최근 봉 (과거 → 최근, 진행 중인 봉 포함)
+     */
+    public List<Candle> recentCandles(String symbol, CandleInterval interval) {
+        int slot = quoteStore.findSlot(symbol);
+        if (slot == QuoteStore.NO_SLOT) {
+            return List.of();
+        }
+
+        CandleSeries[] series = seriesBySlot.get(slot);
+        return series != null ? series[interval.ordinal()].snapshot() : List.of();
+    }
+
+    /**
+     * 진행 중인 봉 저장 (틱 파이프라인이 먼저 멈춘 뒤 호출됨)
+     */
+    @PreDestroy
+    public void flushOpenCandles() {
+        onBatchEnd();
+
+        int flushed = 0;
+        long[] values = new long[6];
+        for (int slot = 0; slot < seriesBySlot.length(); slot++) {
+            CandleSeries[] series = seriesBySlot.get(slot);
+            if (series == null) {
+                continue;
+            }
+            for (int i = 0; i < INTERVALS.length; i++) {
+                if (series[i].currentBar(values)) {
+                    fileStore.append(toClosed(quoteStore.symbolOf(slot), INTERVALS[i], values));
+                    flushed++;
+                }
+            }
+        }
+        log.info("🕯️ 진행 중인 봉 저장: {}개", flushed);
+    }
+
+    private CandleSeries[] createSeries() {
+        CandleSeries[] series = new CandleSeries[INTERVALS.length];
+        for (int i = 0; i < INTERVALS.length; i++) {
+            series[i] = new CandleSeries(memoryBars);
+        }
+        return series;
+    }
+
+    private static ClosedCandle toClosed(String symbol, CandleInterval interval, long[] values) {
+        return new ClosedCandle(symbol, interval, values[0], values[1], values[2], values[3], values[4], values[5]);
+    }
+}
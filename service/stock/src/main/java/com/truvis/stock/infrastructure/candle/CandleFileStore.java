@@ -0,0 +1,287 @@
+package com.truvis.stock.infrastructure.candle;
+
+import com.truvis.stock.domain.Candle;
+import com.truvis.stock.domain.CandleInterval;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 마감된 봉 저장소 (추가 전용 파일)
+ *
+ * 파일: {store-path}/{주기}/{종목코드}.bin
+ * 레코드 (48바이트 고정): openTime | open | high | low | close | volume (long, 가격은 PRICE_SCALE 배)
+ *
+ * - 봉은 시간 순으로만 추가되므로 openTime 기준 이진 탐색으로 원하는 구간만 읽는다 (원본 틱 재계산 없음)
+ * - 쓰기는 전용 스레드 하나가 대기열을 비우며 처리 → 틱 파이프라인은 I/O를 기다리지 않는다
+ * - 재시작 전후로 같은 openTime 봉이 두 번 기록될 수 있어 읽을 때 합친다
+ */
+@Component
+@Slf4j
+public class CandleFileStore {
+
+    static final int RECORD_BYTES = 48;
+
+    private static final Pattern SAFE_SYMBOL = Pattern.compile("[A-Za-z0-9._-]+");
+    private static final int MAX_OPEN_FILES = 256;
+    private static final int WRITE_BATCH = 4096;
+
+    private final Path basePath;
+    private final BlockingQueue<ClosedCandle> queue;
+
+    // 쓰기 스레드 전용 (최근 사용 파일 유지)
+    private final Map<Path, FileChannel> openChannels = new LinkedHashMap<>(16, 0.75f, true);
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(RECORD_BYTES);
+
+    private volatile boolean running = false;
+    private Thread writerThread;
+
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+
+    public CandleFileStore(
+            @Value("${stock.candle.store-path:./data/candles}") String basePath,
+            @Value("${stock.candle.writer-queue-size:100000}") int queueSize
+    ) {
+        this.basePath = Path.of(basePath);
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::writeLoop, "candle-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 남은 대기열을 모두 기록하고 종료
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            try {
+                writerThread.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 마감된 봉 저장 요청 (대기열이 가득 차면 버림)
+     */
+    void append(ClosedCandle candle) {
+        if (!queue.offer(candle)) {
+            droppedCount.increment();
+            log.warn("⚠️ 봉 저장 대기열 가득 참, 버림: symbol={}, interval={}",
+                    candle.symbol(), candle.interval().getCode());
+        }
+    }
+
+    /**
+     * beforeOpenTime 이전 봉 최대 limit 개 (과거 → 최근)
+     */
+    public List<Candle> readBefore(String symbol, CandleInterval interval, long beforeOpenTime, int limit) {
+        Path file = resolve(symbol, interval);
+        if (file == null || limit <= 0) {
+            return List.of();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long records = channel.size() / RECORD_BYTES;  // 기록 중인 마지막 레코드는 제외
+            long end = lowerBound(channel, records, beforeOpenTime);
+            long start = Math.max(0, end - limit);
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) (end - start) * RECORD_BYTES);
+            readFully(channel, buffer, start * RECORD_BYTES);
+            buffer.flip();
+
+            return mergeDuplicates(buffer);
+        } catch (NoSuchFileException e) {
+            return List.of();
+        } catch (IOException e) {
+            log.error("❌ 봉 파일 읽기 실패: file={}", file, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * openTime >= target 인 첫 레코드 위치
+     */
+    private long lowerBound(FileChannel channel, long records, long target) throws IOException {
+        ByteBuffer timeBuffer = ByteBuffer.allocate(Long.BYTES);
+        long low = 0;
+        long high = records;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            timeBuffer.clear();
+            readFully(channel, timeBuffer, mid * RECORD_BYTES);
+            if (timeBuffer.getLong(0) < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private List<Candle> mergeDuplicates(ByteBuffer buffer) {
+        List<ClosedCandle> merged = new ArrayList<>(buffer.remaining() / RECORD_BYTES);
+        while (buffer.remaining() >= RECORD_BYTES) {
+            long openTime = buffer.getLong();
+            long open = buffer.getLong();
+            long high = buffer.getLong();
+            long low = buffer.getLong();
+            long close = buffer.getLong();
+            long volume = buffer.getLong();
+
+            int last = merged.size() - 1;
+            if (last >= 0 && merged.get(last).openTime() == openTime) {
+                ClosedCandle previous = merged.get(last);
+                merged.set(last, new ClosedCandle(null, null, openTime, previous.open(),
+                        Math.max(previous.high(), high), Math.min(previous.low(), low),
+                        close, previous.volume() + volume));
+            } else {
+                merged.add(new ClosedCandle(null, null, openTime, open, high, low, close, volume));
+            }
+        }
+
+        List<Candle> candles = new ArrayList<>(merged.size());
+        for (ClosedCandle candle : merged) {
+            candles.add(candle.toCandle());
+        }
+        return Collections.unmodifiableList(candles);
+    }
+
+    private void writeLoop() {
+        List<ClosedCandle> batch = new ArrayList<>(WRITE_BATCH);
+        while (running || !queue.isEmpty()) {
+            try {
+                ClosedCandle first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, WRITE_BATCH - 1);
+
+                for (ClosedCandle candle : batch) {
+                    write(candle);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("❌ 봉 저장 실패: {}건", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+        closeAll();
+    }
+
+    private void write(ClosedCandle candle) throws IOException {
+        Path file = resolve(candle.symbol(), candle.interval());
+        if (file == null) {
+            droppedCount.increment();
+            return;
+        }
+
+        writeBuffer.clear();
+        writeBuffer.putLong(candle.openTime())
+                .putLong(candle.open())
+                .putLong(candle.high())
+                .putLong(candle.low())
+                .putLong(candle.close())
+                .putLong(candle.volume())
+                .flip();
+
+        FileChannel channel = channelFor(file);
+        while (writeBuffer.hasRemaining()) {
+            channel.write(writeBuffer);
+        }
+        writtenCount.increment();
+    }
+
+    private FileChannel channelFor(Path file) throws IOException {
+        FileChannel channel = openChannels.get(file);
+        if (channel != null) {
+            return channel;
+        }
+
+        if (openChannels.size() >= MAX_OPEN_FILES) {
+            var eldest = openChannels.entrySet().iterator().next();
+            eldest.getValue().close();
+            openChannels.remove(eldest.getKey());
+        }
+
+        Files.createDirectories(file.getParent());
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        openChannels.put(file, channel);
+        return channel;
+    }
+
+    private void closeAll() {
+        for (FileChannel channel : openChannels.values()) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.debug("봉 파일 닫기 실패: {}", e.getMessage());
+            }
+        }
+        openChannels.clear();
+    }
+
+    /**
+     * 종목 코드로 파일 경로 결정 (경로 조작 방지를 위해 허용 문자만)
+     */
+    private Path resolve(String symbol, CandleInterval interval) {
+        if (symbol == null || !SAFE_SYMBOL.matcher(symbol).matches()) {
+            return null;
+        }
+        return basePath.resolve(interval.getCode()).resolve(symbol + ".bin");
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("봉 파일이 예상보다 짧습니다");
+            }
+        }
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+}
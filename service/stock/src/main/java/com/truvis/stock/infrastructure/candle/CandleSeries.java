@@ -0,0 +1,177 @@
+package com.truvis.stock.infrastructure.candle;
+
+import com.truvis.stock.domain.Candle;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 종목 1개 × 주기 1개의 봉 시계열 (메모리)
+ *
+ * - 진행 중인 봉 1개 + 최근 마감된 봉 N개 (원시 배열 링)
+ * - 쓰기는 틱 파이프라인 스레드 하나, 읽기는 API 스레드 → seqlock으로 일관된 스냅샷 보장
+ * - 틱 1건당 작업은 필드 몇 개 갱신 (봉이 바뀔 때만 링에 6개 값 복사)
+ */
+final class CandleSeries {
+
+    private static final int FIELDS = 6;
+    private static final int OPEN_TIME = 0;
+    private static final int OPEN = 1;
+    private static final int HIGH = 2;
+    private static final int LOW = 3;
+    private static final int CLOSE = 4;
+    private static final int VOLUME = 5;
+
+    private static final VarHandle SEQ;
+
+    static {
+        try {
+            SEQ = MethodHandles.lookup().findVarHandle(CandleSeries.class, "seq", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final int capacity;
+    private final long[] ring;
+    private final long[] current = new long[FIELDS];
+    private long closedCount = 0;
+    private boolean hasCurrent = false;
+
+    @SuppressWarnings("unused")  // VarHandle로만 접근
+    private long seq = 0;
+
+    CandleSeries(int capacity) {
+        this.capacity = capacity;
+        this.ring = new long[capacity * FIELDS];
+    }
+
+    /**
+     * 틱 반영 (파이프라인 스레드 전용)
+     * - 늦게 도착한 틱(현재 봉보다 이전 구간)은 현재 봉에 합산
+     *
+     * @param closedOut 봉이 마감되면 마감된 봉 값이 기록됨 [openTime, open, high, low, close, volume]
+     * @return 이번 틱으로 이전 봉이 마감되었으면 true
+     */
+    boolean onTick(long bucketStart, long price, long volume, long[] closedOut) {
+        long s = (long) SEQ.getOpaque(this);
+        SEQ.setOpaque(this, s + 1);
+        VarHandle.storeStoreFence();
+
+        boolean closed = false;
+        if (hasCurrent && bucketStart > current[OPEN_TIME]) {
+            System.arraycopy(current, 0, closedOut, 0, FIELDS);
+            System.arraycopy(current, 0, ring, (int) (closedCount % capacity) * FIELDS, FIELDS);
+            closedCount++;
+            hasCurrent = false;
+            closed = true;
+        }
+
+        if (!hasCurrent) {
+            current[OPEN_TIME] = bucketStart;
+            current[OPEN] = price;
+            current[HIGH] = price;
+            current[LOW] = price;
+            current[CLOSE] = price;
+            current[VOLUME] = volume;
+            hasCurrent = true;
+        } else {
+            if (price > current[HIGH]) {
+                current[HIGH] = price;
+            }
+            if (price < current[LOW]) {
+                current[LOW] = price;
+            }
+            current[CLOSE] = price;
+            current[VOLUME] += volume;
+        }
+
+        SEQ.setRelease(this, s + 2);
+        return closed;
+    }
+
+    /**
+     * 가격 없이 거래량만 반영 (파이프라인 스레드 전용)
+     * - 진행 중인 봉에만 더한다: 시세 틱으로 열린 봉이 없거나 새 구간이면 버림 (가격 없이 봉을 열거나 마감하지 않음)
+     *
+     * @return 반영했으면 true
+     */
+    boolean addVolume(long bucketStart, long volume) {
+        if (!hasCurrent || bucketStart > current[OPEN_TIME]) {
+            return false;
+        }
+
+        long s = (long) SEQ.getOpaque(this);
+        SEQ.setOpaque(this, s + 1);
+        VarHandle.storeStoreFence();
+
+        current[VOLUME] += volume;
+
+        SEQ.setRelease(this, s + 2);
+        return true;
+    }
+
+    /**
+     * 진행 중인 봉 꺼내기 (종료 시 저장용, 파이프라인 정지 후 호출)
+     *
+     * @return 진행 중인 봉이 있으면 true
+     */
+    boolean currentBar(long[] out) {
+        if (!hasCurrent) {
+            return false;
+        }
+        System.arraycopy(current, 0, out, 0, FIELDS);
+        return true;
+    }
+
+    /**
+     * 메모리에 있는 봉 전체 (과거 → 최근, 진행 중인 봉 포함)
+     */
+    List<Candle> snapshot() {
+        long[] ringCopy = new long[ring.length];
+        long[] currentCopy = new long[FIELDS];
+        long count;
+        boolean hasBar;
+
+        while (true) {
+            long before = (long) SEQ.getAcquire(this);
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            System.arraycopy(ring, 0, ringCopy, 0, ring.length);
+            System.arraycopy(current, 0, currentCopy, 0, FIELDS);
+            count = closedCount;
+            hasBar = hasCurrent;
+
+            VarHandle.loadLoadFence();
+            if ((long) SEQ.getOpaque(this) == before) {
+                break;
+            }
+        }
+
+        int stored = (int) Math.min(count, capacity);
+        List<Candle> candles = new ArrayList<>(stored + 1);
+        for (long i = count - stored; i < count; i++) {
+            candles.add(toCandle(ringCopy, (int) (i % capacity) * FIELDS));
+        }
+        if (hasBar) {
+            candles.add(toCandle(currentCopy, 0));
+        }
+        return candles;
+    }
+
+    private static Candle toCandle(long[] values, int offset) {
+        return ClosedCandle.toCandle(
+                values[offset + OPEN_TIME],
+                values[offset + OPEN],
+                values[offset + HIGH],
+                values[offset + LOW],
+                values[offset + CLOSE],
+                values[offset + VOLUME]
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.truvis.stock.infrastructure.candle;
+
+import com.truvis.stock.domain.Candle;
+import com.truvis.stock.domain.CandleInterval;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+
+/**
+ * 마감된 봉 (저장 대기열용, 가격은 PRICE_SCALE 배 정수)
+ */
+record ClosedCandle(
+        String symbol,
+        CandleInterval interval,
+        long openTime,
+        long open,
+        long high,
+        long low,
+        long close,
+        long volume
+) {
+
+    Candle toCandle() {
+        return toCandle(openTime, open, high, low, close, volume);
+    }
+
+    static Candle toCandle(long openTime, long open, long high, long low, long close, long volume) {
+        return new Candle(
+                openTime,
+                QuoteStore.toPrice(open),
+                QuoteStore.toPrice(high),
+                QuoteStore.toPrice(low),
+                QuoteStore.toPrice(close),
+                volume
+        );
+    }
+}
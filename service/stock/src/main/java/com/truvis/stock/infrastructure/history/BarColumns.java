@@ -0,0 +1,88 @@
+package com.truvis.stock.infrastructure.history;
+
+import java.util.Arrays;
+
+/**
+ * 봉 일괄 적재용 버퍼 (열 단위 원시 배열)
+ * - 가격은 QuoteStore.PRICE_SCALE 배 정수
+ * - clear() 후 재사용 가능
+ */
+public final class BarColumns {
+
+    private long[] times;
+    private long[] opens;
+    private long[] highs;
+    private long[] lows;
+    private long[] closes;
+    private long[] volumes;
+    private int size = 0;
+
+    private BarColumns(int capacity) {
+        this.times = new long[capacity];
+        this.opens = new long[capacity];
+        this.highs = new long[capacity];
+        this.lows = new long[capacity];
+        this.closes = new long[capacity];
+        this.volumes = new long[capacity];
+    }
+
+    public static BarColumns withCapacity(int capacity) {
+        return new BarColumns(Math.max(capacity, 16));
+    }
+
+    public BarColumns add(long time, long open, long high, long low, long close, long volume) {
+        if (size == times.length) {
+            grow();
+        }
+        times[size] = time;
+        opens[size] = open;
+        highs[size] = high;
+        lows[size] = low;
+        closes[size] = close;
+        volumes[size] = volume;
+        size++;
+        return this;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    long[] times() {
+        return times;
+    }
+
+    long[] opens() {
+        return opens;
+    }
+
+    long[] highs() {
+        return highs;
+    }
+
+    long[] lows() {
+        return lows;
+    }
+
+    long[] closes() {
+        return closes;
+    }
+
+    long[] volumes() {
+        return volumes;
+    }
+
+    private void grow() {
+        int capacity = times.length * 2;
+        times = Arrays.copyOf(times, capacity);
+        opens = Arrays.copyOf(opens, capacity);
+        highs = Arrays.copyOf(highs, capacity);
+        lows = Arrays.copyOf(lows, capacity);
+        closes = Arrays.copyOf(closes, capacity);
+        volumes = Arrays.copyOf(volumes, capacity);
+    }
+}
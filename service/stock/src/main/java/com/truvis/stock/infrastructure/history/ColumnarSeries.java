@@ -0,0 +1,175 @@
+package com.truvis.stock.infrastructure.history;
+
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+
+import java.nio.LongBuffer;
+
+/**
+ * 메모리 매핑된 봉 시계열 (읽기 전용 뷰)
+ *
+ * - 열마다 LongBuffer 뷰 하나 (파일 페이지를 그대로 보는 것, 힙 복사 없음)
+ * - 시각 열은 오름차순 → 이진 탐색으로 구간을 잘라도 새 뷰만 만든다 (zero-copy)
+ * - 절대 위치 get만 사용하므로 여러 스레드가 같은 인스턴스를 동시에 읽어도 된다
+ */
+public final class ColumnarSeries {
+
+    private static final ColumnarSeries EMPTY = new ColumnarSeries(
+            LongBuffer.allocate(0), LongBuffer.allocate(0), LongBuffer.allocate(0),
+            LongBuffer.allocate(0), LongBuffer.allocate(0), LongBuffer.allocate(0));
+
+    private final LongBuffer times;
+    private final LongBuffer opens;
+    private final LongBuffer highs;
+    private final LongBuffer lows;
+    private final LongBuffer closes;
+    private final LongBuffer volumes;
+    private final int size;
+
+    ColumnarSeries(LongBuffer times, LongBuffer opens, LongBuffer highs,
+                   LongBuffer lows, LongBuffer closes, LongBuffer volumes) {
+        this.times = times;
+        this.opens = opens;
+        this.highs = highs;
+        this.lows = lows;
+        this.closes = closes;
+        this.volumes = volumes;
+        this.size = times.limit();
+    }
+
+    static ColumnarSeries empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long time(int index) {
+        return times.get(index);
+    }
+
+    public long open(int index) {
+        return opens.get(index);
+    }
+
+    public long high(int index) {
+        return highs.get(index);
+    }
+
+    public long low(int index) {
+        return lows.get(index);
+    }
+
+    public long close(int index) {
+        return closes.get(index);
+    }
+
+    public long volume(int index) {
+        return volumes.get(index);
+    }
+
+    /**
+     * time >= target 인 첫 위치 (없으면 size)
+     */
+    public int lowerBound(long target) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times.get(mid) < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * [fromInclusive, toExclusive) 시각 구간 뷰 (복사 없음)
+     */
+    public ColumnarSeries slice(long fromInclusive, long toExclusive) {
+        int start = lowerBound(fromInclusive);
+        int end = Math.max(start, lowerBound(toExclusive));
+        return sliceByIndex(start, end);
+    }
+
+    /**
+     * 최근 count 개 뷰 (복사 없음)
+     */
+    public ColumnarSeries tail(int count) {
+        return sliceByIndex(Math.max(0, size - count), size);
+    }
+
+    private ColumnarSeries sliceByIndex(int start, int end) {
+        if (start == 0 && end == size) {
+            return this;
+        }
+        int length = end - start;
+        return new ColumnarSeries(
+                times.slice(start, length),
+                opens.slice(start, length),
+                highs.slice(start, length),
+                lows.slice(start, length),
+                closes.slice(start, length),
+                volumes.slice(start, length)
+        );
+    }
+
+    /**
+     * 전체 봉 순회 (객체 생성 없음)
+     */
+    public void forEach(BarVisitor visitor) {
+        for (int i = 0; i < size; i++) {
+            visitor.visit(times.get(i), opens.get(i), highs.get(i), lows.get(i), closes.get(i), volumes.get(i));
+        }
+    }
+
+    /**
+     * 열 단위 직접 접근용 (읽기 전용 뷰, 지표 계산처럼 한 열만 훑을 때)
+     */
+    public LongBuffer closes() {
+        return closes.asReadOnlyBuffer();
+    }
+
+    public LongBuffer volumes() {
+        return volumes.asReadOnlyBuffer();
+    }
+
+    public LongBuffer times() {
+        return times.asReadOnlyBuffer();
+    }
+
+    /**
+     * 가격 열을 지표 계산용 double 배열로 변환 (PRICE_SCALE 나눔, 한 번 훑기)
+     */
+    public double[] closePrices() {
+        return toPrices(closes);
+    }
+
+    public double[] highPrices() {
+        return toPrices(highs);
+    }
+
+    public double[] lowPrices() {
+        return toPrices(lows);
+    }
+
+    private double[] toPrices(LongBuffer column) {
+        double[] prices = new double[size];
+        double scale = QuoteStore.PRICE_SCALE;
+        for (int i = 0; i < size; i++) {
+            prices[i] = column.get(i) / scale;
+        }
+        return prices;
+    }
+
+    @FunctionalInterface
+    public interface BarVisitor {
+        void visit(long time, long open, long high, long low, long close, long volume);
+    }
+}
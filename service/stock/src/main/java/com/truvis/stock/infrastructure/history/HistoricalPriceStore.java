@@ -0,0 +1,200 @@
+package com.truvis.stock.infrastructure.history;
+
+import com.truvis.stock.domain.CandleInterval;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 열 지향 과거 봉 저장소 (메모리 매핑)
+ *
+ * 디렉터리: {store-path}/{주기}/{종목코드}/{time|open|high|low|close|volume}.col
+ * - 열 파일은 헤더 없는 long 배열 (little-endian, 가격은 PRICE_SCALE 배)
+ * - 행 수 = 가장 짧은 열의 길이 (쓰다가 중단된 행은 보이지 않음)
+ * - 읽기: 열마다 파일 전체를 READ_ONLY 매핑해서 캐시, 적재가 일어난 종목만 다시 매핑
+ * - 쓰기: 시각 오름차순 추가만 허용 (기존 마지막 시각 이후), 열마다 공통 행 수 위치부터 덮어쓴다
+ *   → 중단된 적재가 남긴 꼬리는 다음 적재가 덮어쓰므로 잘라낼 필요가 없다
+ * - 파일을 줄이는(truncate) 복구는 이 프로세스에서 한 번도 매핑하지 않은 종목에만 한다
+ *   (매핑을 넘겨준 뒤에는 조회 쪽이 옛 매핑을 계속 들고 있을 수 있고, 잘린 페이지에 접근하면 SIGBUS)
+ *
+ * 열 파일 하나는 2GB(약 2.6억 행) 이하여야 한다. 10년치 분봉이 열당 수십 MB 수준.
+ */
+@Component
+@Slf4j
+public class HistoricalPriceStore {
+
+    private static final Pattern SAFE_SYMBOL = Pattern.compile("[A-Za-z0-9._-]+");
+    private static final HistoryColumn[] COLUMNS = HistoryColumn.values();
+
+    private final Path basePath;
+    private final Map<Path, ColumnarSeries> mapped = new ConcurrentHashMap<>();
+    private final Set<Path> everMapped = ConcurrentHashMap.newKeySet();
+
+    public HistoricalPriceStore(@Value("${stock.history.store-path:./data/history}") String basePath) {
+        this.basePath = Path.of(basePath);
+    }
+
+    /**
+     * 종목·주기 전체 시계열 (없으면 빈 시계열)
+     */
+    public ColumnarSeries open(String symbol, CandleInterval interval) {
+        Path directory = resolve(symbol, interval);
+        return mapped.computeIfAbsent(directory, this::map);
+    }
+
+    /**
+     * [fromInclusive, toExclusive) 구간 (복사 없음)
+     */
+    public ColumnarSeries slice(String symbol, CandleInterval interval, long fromInclusive, long toExclusive) {
+        return open(symbol, interval).slice(fromInclusive, toExclusive);
+    }
+
+    /**
+     * 봉 일괄 추가
+     *
+     * @throws IllegalArgumentException 시각이 오름차순이 아니거나 기존 마지막 봉 이전인 경우
+     */
+    public synchronized void append(String symbol, CandleInterval interval, BarColumns bars) {
+        if (bars.size() == 0) {
+            return;
+        }
+
+        Path directory = resolve(symbol, interval);
+        try {
+            Files.createDirectories(directory);
+            long rows = repair(directory);
+
+            long[] times = bars.times();
+            long lastTime = rows > 0 ? readLastTime(directory, rows) : Long.MIN_VALUE;
+            for (int i = 0; i < bars.size(); i++) {
+                if (times[i] <= lastTime) {
+                    throw new IllegalArgumentException(String.format(
+                            "봉 시각은 오름차순이어야 합니다: symbol=%s, index=%d, time=%d, previous=%d",
+                            symbol, i, times[i], lastTime));
+                }
+                lastTime = times[i];
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(bars.size() * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            for (HistoryColumn column : COLUMNS) {
+                buffer.clear();
+                buffer.asLongBuffer().put(column.column(bars), 0, bars.size());
+                buffer.limit(bars.size() * Long.BYTES);
+
+                try (FileChannel channel = FileChannel.open(directory.resolve(column.getFileName()),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                    long position = rows * Long.BYTES;
+                    while (buffer.hasRemaining()) {
+                        position += channel.write(buffer, position);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("과거 봉 저장 실패: " + directory, e);
+        } finally {
+            mapped.remove(directory);  // 다음 조회 때 늘어난 크기로 다시 매핑
+        }
+    }
+
+    private ColumnarSeries map(Path directory) {
+        everMapped.add(directory);  // 행 수를 읽기 전에 표시 → 이후 적재는 이 종목 파일을 줄이지 않는다
+        try {
+            long rows = rowCount(directory);
+            if (rows == 0) {
+                return ColumnarSeries.empty();
+            }
+            if (rows > Integer.MAX_VALUE / Long.BYTES) {
+                throw new IllegalStateException("열 파일이 2GB를 넘습니다: " + directory);
+            }
+
+            Map<HistoryColumn, LongBuffer> buffers = new EnumMap<>(HistoryColumn.class);
+            for (HistoryColumn column : COLUMNS) {
+                try (FileChannel channel = FileChannel.open(directory.resolve(column.getFileName()), StandardOpenOption.READ)) {
+                    // 채널을 닫아도 매핑은 유지된다
+                    buffers.put(column, channel.map(FileChannel.MapMode.READ_ONLY, 0, rows * Long.BYTES)
+                            .order(ByteOrder.LITTLE_ENDIAN)
+                            .asLongBuffer());
+                }
+            }
+
+            return new ColumnarSeries(
+                    buffers.get(HistoryColumn.TIME),
+                    buffers.get(HistoryColumn.OPEN),
+                    buffers.get(HistoryColumn.HIGH),
+                    buffers.get(HistoryColumn.LOW),
+                    buffers.get(HistoryColumn.CLOSE),
+                    buffers.get(HistoryColumn.VOLUME)
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException("과거 봉 매핑 실패: " + directory, e);
+        }
+    }
+
+    /**
+     * 가장 짧은 열 기준 행 수 (열 파일이 하나라도 없으면 0)
+     */
+    private long rowCount(Path directory) throws IOException {
+        long rows = Long.MAX_VALUE;
+        for (HistoryColumn column : COLUMNS) {
+            Path file = directory.resolve(column.getFileName());
+            if (!Files.exists(file)) {
+                return 0;
+            }
+            rows = Math.min(rows, Files.size(file) / Long.BYTES);
+        }
+        return rows;
+    }
+
+    /**
+     * 중단된 적재로 길이가 어긋난 열을 공통 행 수로 잘라낸다
+     * - 이 프로세스에서 매핑한 적이 있는 종목은 자르지 않는다 (꼬리는 이어지는 적재가 덮어씀)
+     *
+     * @return 공통 행 수 (= 다음 적재 위치)
+     */
+    private long repair(Path directory) throws IOException {
+        long rows = rowCount(directory);
+        if (everMapped.contains(directory)) {
+            return rows;
+        }
+        for (HistoryColumn column : COLUMNS) {
+            Path file = directory.resolve(column.getFileName());
+            if (Files.exists(file) && Files.size(file) != rows * Long.BYTES) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(rows * Long.BYTES);
+                }
+                log.warn("⚠️ 과거 봉 열 길이 복구: file={}, rows={}", file, rows);
+            }
+        }
+        return rows;
+    }
+
+    private long readLastTime(Path directory, long rows) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(directory.resolve(HistoryColumn.TIME.getFileName()), StandardOpenOption.READ)) {
+            channel.read(buffer, (rows - 1) * Long.BYTES);
+        }
+        return buffer.getLong(0);
+    }
+
+    private Path resolve(String symbol, CandleInterval interval) {
+        if (symbol == null || !SAFE_SYMBOL.matcher(symbol).matches()) {
+            throw new IllegalArgumentException("잘못된 종목 코드입니다: " + symbol);
+        }
+        return basePath.resolve(interval.getCode()).resolve(symbol.toUpperCase());
+    }
+}
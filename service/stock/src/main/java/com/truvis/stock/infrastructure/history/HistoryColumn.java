@@ -0,0 +1,35 @@
+package com.truvis.stock.infrastructure.history;
+
+import java.util.function.Function;
+
+/**
+ * 열 파일 종류 (종목·주기마다 열 하나당 파일 하나)
+ */
+enum HistoryColumn {
+
+    TIME("time.col", BarColumns::times),
+    OPEN("open.col", BarColumns::opens),
+    HIGH("high.col", BarColumns::highs),
+    LOW("low.col", BarColumns::lows),
+    CLOSE("close.col", BarColumns::closes),
+    VOLUME("volume.col", BarColumns::volumes);
+
+    private final String fileName;
+    private final Function<BarColumns, long[]> extractor;
+
+    HistoryColumn(String fileName, Function<BarColumns, long[]> extractor) {
+        this.fileName = fileName;
+        this.extractor = extractor;
+    }
+
+    String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * 적재 버퍼에서 이 열의 값 배열
+     */
+    long[] column(BarColumns bars) {
+        return extractor.apply(bars);
+    }
+}
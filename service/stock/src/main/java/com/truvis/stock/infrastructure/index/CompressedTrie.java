@@ -0,0 +1,191 @@
+package com.truvis.stock.infrastructure.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 불변 압축 트라이 (Radix Tree) - 접두사 자동완성용
+ *
+ * - 자식이 하나뿐인 경로는 한 간선(label)으로 합쳐서 노드 수와 포인터 추적을 줄인다
+ * - 자식 간선은 첫 글자 기준 정렬 배열 + 이진 탐색 (HashMap 없이 조회)
+ * - 각 노드는 하위 트리 전체에서 순위가 높은 id를 최대 K개 미리 계산해 둔다
+ *   → 검색은 접두사 길이만큼 내려간 뒤 배열을 그대로 돌려주면 끝 (결과 수집/정렬 없음)
+ *
+ * id는 작을수록 순위가 높다 (상장 목록 파일 순서 = 시가총액 순).
+ */
+public final class CompressedTrie {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Node root;
+    private final int maxResultsPerNode;
+
+    private CompressedTrie(Node root, int maxResultsPerNode) {
+        this.root = root;
+        this.maxResultsPerNode = maxResultsPerNode;
+    }
+
+    public static Builder builder(int maxResultsPerNode) {
+        return new Builder(maxResultsPerNode);
+    }
+
+    /**
+     * 접두사로 시작하는 키의 id (순위순, 최대 maxResultsPerNode개)
+     * - 반환 배열은 내부 배열이므로 수정 금지
+     */
+    public int[] prefixSearch(String prefix) {
+        Node node = root;
+        int offset = 0;
+
+        while (offset < prefix.length()) {
+            int index = node.childIndex(prefix.charAt(offset));
+            if (index < 0) {
+                return EMPTY;
+            }
+
+            String label = node.labels[index];
+            int remaining = prefix.length() - offset;
+            int compareLength = Math.min(label.length(), remaining);
+            if (!prefix.regionMatches(offset, label, 0, compareLength)) {
+                return EMPTY;
+            }
+
+            node = node.children[index];
+            offset += compareLength;
+        }
+
+        return node.top;
+    }
+
+    public int getMaxResultsPerNode() {
+        return maxResultsPerNode;
+    }
+
+    private static final class Node {
+
+        private final char[] firstChars;
+        private final String[] labels;
+        private final Node[] children;
+        private final int[] top;
+
+        private Node(char[] firstChars, String[] labels, Node[] children, int[] top) {
+            this.firstChars = firstChars;
+            this.labels = labels;
+            this.children = children;
+            this.top = top;
+        }
+
+        private int childIndex(char c) {
+            return Arrays.binarySearch(firstChars, c);
+        }
+    }
+
+    /**
+     * 빌더 (단일 스레드에서 사용 후 build)
+     */
+    public static final class Builder {
+
+        private final int maxResultsPerNode;
+        private final MutableNode root = new MutableNode();
+
+        private Builder(int maxResultsPerNode) {
+            if (maxResultsPerNode <= 0) {
+                throw new IllegalArgumentException("maxResultsPerNode는 1 이상이어야 합니다");
+            }
+            this.maxResultsPerNode = maxResultsPerNode;
+        }
+
+        public Builder add(String key, int id) {
+            if (key.isEmpty()) {
+                return this;
+            }
+
+            MutableNode node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new MutableNode());
+            }
+            node.addId(id);
+            return this;
+        }
+
+        public CompressedTrie build() {
+            return new CompressedTrie(compress(root), maxResultsPerNode);
+        }
+
+        private Node compress(MutableNode node) {
+            Character[] keys = node.children.keySet().toArray(new Character[0]);
+            Arrays.sort(keys);
+
+            char[] firstChars = new char[keys.length];
+            String[] labels = new String[keys.length];
+            Node[] children = new Node[keys.length];
+
+            for (int i = 0; i < keys.length; i++) {
+                // 분기 없는 경로는 하나의 간선으로 합침
+                StringBuilder label = new StringBuilder().append(keys[i].charValue());
+                MutableNode child = node.children.get(keys[i]);
+                while (child.children.size() == 1 && child.idCount == 0) {
+                    Map.Entry<Character, MutableNode> only = child.children.entrySet().iterator().next();
+                    label.append(only.getKey().charValue());
+                    child = only.getValue();
+                }
+
+                firstChars[i] = keys[i];
+                labels[i] = label.toString();
+                children[i] = compress(child);
+            }
+
+            return new Node(firstChars, labels, children, mergeTop(node, children));
+        }
+
+        /**
+         * 자기 자신 + 자식들의 상위 id를 합쳐서 상위 K개 (정렬, 중복 제거)
+         */
+        private int[] mergeTop(MutableNode node, Node[] children) {
+            int total = node.idCount;
+            for (Node child : children) {
+                total += child.top.length;
+            }
+            if (total == 0) {
+                return EMPTY;
+            }
+
+            int[] merged = new int[total];
+            System.arraycopy(node.ids, 0, merged, 0, node.idCount);
+            int position = node.idCount;
+            for (Node child : children) {
+                System.arraycopy(child.top, 0, merged, position, child.top.length);
+                position += child.top.length;
+            }
+            Arrays.sort(merged);
+
+            int unique = 0;
+            for (int i = 0; i < merged.length && unique < maxResultsPerNode; i++) {
+                if (unique == 0 || merged[unique - 1] != merged[i]) {
+                    merged[unique++] = merged[i];
+                }
+            }
+            return Arrays.copyOf(merged, unique);
+        }
+    }
+
+    private static final class MutableNode {
+
+        private final Map<Character, MutableNode> children = new HashMap<>(4);
+        private int[] ids = EMPTY;
+        private int idCount = 0;
+
+        private void addId(int id) {
+            for (int i = 0; i < idCount; i++) {
+                if (ids[i] == id) {
+                    return;
+                }
+            }
+            if (idCount == ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(2, idCount * 2));
+            }
+            ids[idCount++] = id;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.truvis.stock.infrastructure.index;
+
+/**
+ * 한글 초성 처리
+ * - 완성형 음절(가~힣)은 초성 자모(ㄱ~ㅎ)로 변환
+ * - 영문/숫자는 소문자로, 공백과 기호는 제거 (검색 키 정규화)
+ */
+public final class HangulChosung {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;  // 중성 21 × 종성 28
+
+    // 초성 19자 (호환용 자모)
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ',
+            'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulChosung() {
+    }
+
+    /**
+     * 검색 키 정규화: 소문자 + 공백/기호 제거
+     * 예) "Apple Inc." → "appleinc", "삼성 전자" → "삼성전자"
+     */
+    public static String normalize(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 초성 키 생성 (정규화 포함)
+     * 예) "삼성전자" → "ㅅㅅㅈㅈ", "SK하이닉스" → "skㅎㅇㄴㅅ"
+     */
+    public static String toChosung(String text) {
+        String normalized = normalize(text);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            builder.append(isSyllable(c) ? CHOSUNG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG] : c);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 초성 자모(ㄱ~ㅎ)가 하나라도 있으면 초성 검색으로 처리
+     * 예) "ㅅㅅ", "삼ㅅ" → true / "삼성" → false
+     */
+    public static boolean containsChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
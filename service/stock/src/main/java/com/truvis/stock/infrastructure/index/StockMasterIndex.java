@@ -0,0 +1,159 @@
+package com.truvis.stock.infrastructure.index;
+
+import com.truvis.stock.domain.Market;
+import com.truvis.stock.domain.Stock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 종목 마스터 메모리 인덱스 (불변)
+ *
+ * - 이름/코드 트라이: 정규화된 종목명, 종목코드, 종목명의 각 단어
+ * - 초성 트라이: 종목명의 초성 ("ㅅㅅㅈㅈ" → 삼성전자)
+ * - 코드/시장/섹터별 조회용 맵
+ *
+ * 한 번 만들면 바뀌지 않으므로 여러 스레드가 잠금 없이 읽는다.
+ * 갱신은 새 인덱스를 만들어서 참조를 통째로 교체한다.
+ */
+public final class StockMasterIndex {
+
+    private final Stock[] stocks;  // 순위순 (배열 인덱스 = 트라이 id)
+    private final Map<String, Stock> bySymbol;
+    private final Map<Market, List<Stock>> byMarket;
+    private final Map<String, List<Stock>> bySector;
+    private final CompressedTrie nameTrie;
+    private final CompressedTrie chosungTrie;
+
+    private StockMasterIndex(
+            Stock[] stocks,
+            Map<String, Stock> bySymbol,
+            Map<Market, List<Stock>> byMarket,
+            Map<String, List<Stock>> bySector,
+            CompressedTrie nameTrie,
+            CompressedTrie chosungTrie) {
+        this.stocks = stocks;
+        this.bySymbol = bySymbol;
+        this.byMarket = byMarket;
+        this.bySector = bySector;
+        this.nameTrie = nameTrie;
+        this.chosungTrie = chosungTrie;
+    }
+
+    public static StockMasterIndex empty() {
+        return build(List.of(), 1);
+    }
+
+    /**
+     * 인덱스 생성
+     *
+     * @param rankedStocks 순위순 종목 목록 (앞에 있을수록 검색 결과 상단, 코드 중복 시 앞의 것만 사용)
+     * @param maxResults 검색 결과 최대 개수
+     */
+    public static StockMasterIndex build(List<Stock> rankedStocks, int maxResults) {
+        Map<String, Stock> bySymbol = new HashMap<>(rankedStocks.size() * 2);
+        List<Stock> unique = new ArrayList<>(rankedStocks.size());
+        for (Stock stock : rankedStocks) {
+            if (bySymbol.putIfAbsent(stock.getSymbol(), stock) == null) {
+                unique.add(stock);
+            }
+        }
+
+        Stock[] stocks = unique.toArray(new Stock[0]);
+        Map<Market, List<Stock>> byMarket = new EnumMap<>(Market.class);
+        Map<String, List<Stock>> bySector = new LinkedHashMap<>();
+        CompressedTrie.Builder nameTrie = CompressedTrie.builder(maxResults);
+        CompressedTrie.Builder chosungTrie = CompressedTrie.builder(maxResults);
+
+        for (int id = 0; id < stocks.length; id++) {
+            Stock stock = stocks[id];
+
+            byMarket.computeIfAbsent(stock.getMarket(), market -> new ArrayList<>()).add(stock);
+            if (stock.getSector() != null) {
+                bySector.computeIfAbsent(stock.getSector(), sector -> new ArrayList<>()).add(stock);
+            }
+
+            String normalizedName = HangulChosung.normalize(stock.getName());
+            nameTrie.add(normalizedName, id);
+            nameTrie.add(HangulChosung.normalize(stock.getSymbol()), id);
+            for (String word : stock.getName().split("\\s+")) {
+                nameTrie.add(HangulChosung.normalize(word), id);
+            }
+
+            String chosung = HangulChosung.toChosung(stock.getName());
+            if (!chosung.equals(normalizedName)) {
+                chosungTrie.add(chosung, id);
+            }
+        }
+
+        byMarket.replaceAll((market, list) -> List.copyOf(list));
+        bySector.replaceAll((sector, list) -> List.copyOf(list));
+
+        return new StockMasterIndex(
+                stocks,
+                Collections.unmodifiableMap(bySymbol),
+                Collections.unmodifiableMap(byMarket),
+                Collections.unmodifiableMap(bySector),
+                nameTrie.build(),
+                chosungTrie.build());
+    }
+
+    /**
+     * 자동완성 검색
+     * - 초성이 섞여 있으면 초성 검색 ("ㅅㅅ", "삼ㅅ" → 삼성전자)
+     * - 아니면 종목명/코드/단어 접두사 검색 (대소문자, 공백 무시)
+     * - 종목코드와 정확히 일치하는 종목은 맨 앞
+     */
+    public List<Stock> search(String query, int limit) {
+        if (query == null || limit <= 0) {
+            return List.of();
+        }
+
+        boolean chosungQuery = HangulChosung.containsChosung(query);
+        String key = chosungQuery ? HangulChosung.toChosung(query) : HangulChosung.normalize(query);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        int[] ids = (chosungQuery ? chosungTrie : nameTrie).prefixSearch(key);
+        Stock exact = chosungQuery ? null : findBySymbol(query);
+
+        int size = Math.min(limit, ids.length + (exact != null ? 1 : 0));
+        List<Stock> results = new ArrayList<>(size);
+        if (exact != null) {
+            results.add(exact);
+        }
+        for (int i = 0; i < ids.length && results.size() < size; i++) {
+            Stock stock = stocks[ids[i]];
+            if (stock != exact) {
+                results.add(stock);
+            }
+        }
+        return results;
+    }
+
+    public Stock findBySymbol(String symbol) {
+        return symbol == null ? null : bySymbol.get(symbol.trim().toUpperCase());
+    }
+
+    public List<Stock> findByMarket(Market market) {
+        return byMarket.getOrDefault(market, List.of());
+    }
+
+    public List<Stock> findBySector(String sector) {
+        return bySector.getOrDefault(sector, List.of());
+    }
+
+    public List<Stock> getAll() {
+        return List.of(stocks);
+    }
+
+    public int size() {
+        return stocks.length;
+    }
+}
@@ -0,0 +1,73 @@
+package com.truvis.stock.infrastructure.marketdata;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 녹화 틱 바이너리 파일 형식
+ *
+ * 헤더: magic(int "TICK") | version(short) | 종목 수(int) | [종목 코드 길이(short) + UTF-8 바이트] × 종목 수
+ * 레코드 (44바이트 고정, big-endian):
+ *   timestampMillis(long) | 종목 번호(int) | price(long) | bid(long) | ask(long) | volume(long)
+ * - 가격은 QuoteStore.PRICE_SCALE 배 정수
+ * - 종목 코드는 헤더에 한 번만 두고 레코드는 번호로 참조 → 재생 시 문자열 생성 없음
+ */
+public final class BinaryTickFile {
+
+    public static final int MAGIC = 0x5449434B;
+    public static final short VERSION = 1;
+    public static final int RECORD_BYTES = 44;
+
+    private BinaryTickFile() {
+    }
+
+    /**
+     * 녹화 파일 작성기 열기 (헤더까지 기록)
+     */
+    public static Writer create(Path path, List<String> symbols) throws IOException {
+        return new Writer(path, symbols);
+    }
+
+    public static final class Writer implements AutoCloseable {
+
+        private final DataOutputStream out;
+        private final int symbolCount;
+
+        private Writer(Path path, List<String> symbols) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 64 * 1024));
+            this.symbolCount = symbols.size();
+
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(symbols.size());
+            for (String symbol : symbols) {
+                byte[] bytes = symbol.getBytes(StandardCharsets.UTF_8);
+                out.writeShort(bytes.length);
+                out.write(bytes);
+            }
+        }
+
+        public void write(int symbolIndex, long timestampMillis, long price, long bid, long ask, long volume)
+                throws IOException {
+            if (symbolIndex < 0 || symbolIndex >= symbolCount) {
+                throw new IllegalArgumentException("헤더에 없는 종목 번호입니다: " + symbolIndex);
+            }
+            out.writeLong(timestampMillis);
+            out.writeInt(symbolIndex);
+            out.writeLong(price);
+            out.writeLong(bid);
+            out.writeLong(ask);
+            out.writeLong(volume);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
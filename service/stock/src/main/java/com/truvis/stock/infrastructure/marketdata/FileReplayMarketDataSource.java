@@ -0,0 +1,282 @@
+package com.truvis.stock.infrastructure.marketdata;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * 녹화 틱 파일 재생 공급원
+ *
+ * - 파일을 메모리 매핑해서 읽는다 (페이지 캐시 그대로 사용, 힙 복사 없음)
+ * - .csv 는 "timestampMillis,symbol,price,bid,ask,volume" 형식, 그 외는 BinaryTickFile 형식
+ * - speed 배속으로 원래 틱 간격을 재현 (0이면 최대 속도)
+ * - rebase-timestamps가 켜져 있으면 재생 시작 시각 기준으로 시각을 옮겨서 실시간처럼 보이게 한다
+ *
+ * 바이너리 재생 경로는 틱당 객체를 만들지 않는다. CSV는 줄마다 종목 코드 문자열을 만든다.
+ * 매핑 한 번으로 읽으므로 파일은 2GB 이하로 나눠서 녹화한다.
+ */
+@Component
+@Slf4j
+public class FileReplayMarketDataSource implements MarketDataSource {
+
+    private static final long MIN_PARK_NANOS = 50_000;
+
+    private final boolean enabled;
+    private final String path;
+    private final double speed;
+    private final boolean loop;
+    private final boolean rebaseTimestamps;
+
+    private volatile boolean running = false;
+    private Thread replayThread;
+
+    private volatile long replayedCount = 0;
+
+    public FileReplayMarketDataSource(
+            @Value("${stock.marketdata.replay.enabled:false}") boolean enabled,
+            @Value("${stock.marketdata.replay.path:}") String path,
+            @Value("${stock.marketdata.replay.speed:1.0}") double speed,
+            @Value("${stock.marketdata.replay.loop:false}") boolean loop,
+            @Value("${stock.marketdata.replay.rebase-timestamps:true}") boolean rebaseTimestamps
+    ) {
+        this.enabled = enabled;
+        this.path = path;
+        this.speed = speed;
+        this.loop = loop;
+        this.rebaseTimestamps = rebaseTimestamps;
+    }
+
+    @Override
+    public String getName() {
+        return "replay:" + path;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled && StringUtils.hasText(path);
+    }
+
+    @Override
+    public synchronized void start(TickSink sink) {
+        if (running) {
+            return;
+        }
+        running = true;
+        replayThread = new Thread(() -> replay(sink), "tick-replay");
+        replayThread.setDaemon(true);
+        replayThread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (replayThread != null) {
+            LockSupport.unpark(replayThread);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public long getReplayedCount() {
+        return replayedCount;
+    }
+
+    private void replay(TickSink sink) {
+        Path file = Path.of(path);
+        log.info("▶️ 틱 재생 시작: file={}, speed={}x, loop={}", file, speed, loop);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("2GB를 넘는 틱 파일은 나눠서 재생해주세요: " + size + " bytes");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            boolean csv = file.getFileName().toString().toLowerCase().endsWith(".csv");
+
+            do {
+                long startedAt = System.nanoTime();
+                long replayed = csv ? replayCsv(buffer.duplicate(), sink) : replayBinary(buffer.duplicate(), sink);
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                log.info("⏹️ 틱 재생 1회 완료: {}건, {}ms", replayed, elapsedMillis);
+            } while (running && loop);
+
+        } catch (Exception e) {
+            log.error("❌ 틱 재생 실패: file={}", file, e);
+        } finally {
+            running = false;
+        }
+    }
+
+    private long replayBinary(ByteBuffer buffer, TickSink sink) {
+        if (buffer.getInt() != BinaryTickFile.MAGIC) {
+            throw new IllegalStateException("틱 파일 형식이 아닙니다 (magic 불일치)");
+        }
+        short version = buffer.getShort();
+        if (version != BinaryTickFile.VERSION) {
+            throw new IllegalStateException("지원하지 않는 틱 파일 버전입니다: " + version);
+        }
+
+        // 종목 번호 → 슬롯 (파일당 한 번)
+        int symbolCount = buffer.getInt();
+        int[] slotByIndex = new int[symbolCount];
+        for (int i = 0; i < symbolCount; i++) {
+            byte[] bytes = new byte[buffer.getShort()];
+            buffer.get(bytes);
+            slotByIndex[i] = sink.resolveSlot(new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        Pacer pacer = new Pacer();
+        long count = 0;
+        while (running && buffer.remaining() >= BinaryTickFile.RECORD_BYTES) {
+            long timestamp = buffer.getLong();
+            int symbolIndex = buffer.getInt();
+            long price = buffer.getLong();
+            long bid = buffer.getLong();
+            long ask = buffer.getLong();
+            long volume = buffer.getLong();
+
+            sink.publish(slotByIndex[symbolIndex], pacer.await(timestamp), price, bid, ask, volume);
+            count++;
+        }
+
+        replayedCount += count;
+        return count;
+    }
+
+    private long replayCsv(ByteBuffer buffer, TickSink sink) {
+        Map<String, Integer> slots = new HashMap<>();
+        Function<String, Integer> resolver = sink::resolveSlot;
+        byte[] symbolBytes = new byte[64];
+
+        Pacer pacer = new Pacer();
+        long count = 0;
+        while (running && buffer.hasRemaining()) {
+            // 헤더/주석/빈 줄은 숫자로 시작하지 않으므로 건너뜀
+            byte first = buffer.get(buffer.position());
+            if (first < '0' || first > '9') {
+                skipLine(buffer);
+                continue;
+            }
+
+            long timestamp = parseDecimal(buffer, 0);
+            int length = 0;
+            while (buffer.hasRemaining()) {
+                byte b = buffer.get();
+                if (b == ',') {
+                    break;
+                }
+                if (length < symbolBytes.length) {
+                    symbolBytes[length++] = b;
+                }
+            }
+            long price = parseDecimal(buffer, 4);
+            long bid = parseDecimal(buffer, 4);
+            long ask = parseDecimal(buffer, 4);
+            long volume = parseDecimal(buffer, 0);
+
+            String symbol = new String(symbolBytes, 0, length, StandardCharsets.UTF_8).trim();
+            int slot = slots.computeIfAbsent(symbol, resolver);
+
+            sink.publish(slot, pacer.await(timestamp), price, bid, ask, volume);
+            count++;
+        }
+
+        replayedCount += count;
+        return count;
+    }
+
+    /**
+     * 구분자(',' 또는 줄바꿈)까지 읽어서 10^scale 배 정수로 변환 (빈 값은 0)
+     */
+    private static long parseDecimal(ByteBuffer buffer, int scale) {
+        long value = 0;
+        int fractionDigits = -1;
+        boolean negative = false;
+
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+            if (b == ',' || b == '\n') {
+                break;
+            }
+            if (b == '-') {
+                negative = true;
+            } else if (b == '.') {
+                fractionDigits = 0;
+            } else if (b >= '0' && b <= '9') {
+                if (fractionDigits < 0) {
+                    value = value * 10 + (b - '0');
+                } else if (fractionDigits < scale) {
+                    value = value * 10 + (b - '0');
+                    fractionDigits++;
+                }
+            }
+        }
+
+        for (int i = Math.max(fractionDigits, 0); i < scale; i++) {
+            value *= 10;
+        }
+        return negative ? -value : value;
+    }
+
+    private static void skipLine(ByteBuffer buffer) {
+        while (buffer.hasRemaining() && buffer.get() != '\n') {
+            // 줄 끝까지 이동
+        }
+    }
+
+    /**
+     * 원래 틱 간격을 speed 배속으로 재현
+     */
+    private class Pacer {
+
+        private long firstTimestamp = Long.MIN_VALUE;
+        private long startNanos;
+        private long startMillis;
+
+        /**
+         * 해당 틱의 재생 시각까지 대기
+         *
+         * @return 발행할 틱 시각
+         */
+        long await(long timestamp) {
+            if (firstTimestamp == Long.MIN_VALUE) {
+                firstTimestamp = timestamp;
+                startNanos = System.nanoTime();
+                startMillis = System.currentTimeMillis();
+            }
+
+            long offsetMillis = timestamp - firstTimestamp;
+            if (speed > 0) {
+                long targetNanos = startNanos + (long) (TimeUnit.MILLISECONDS.toNanos(offsetMillis) / speed);
+                long waitNanos;
+                while (running && (waitNanos = targetNanos - System.nanoTime()) > MIN_PARK_NANOS) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+            }
+
+            if (!rebaseTimestamps) {
+                return timestamp;
+            }
+            return speed > 0
+                    ? startMillis + (long) (offsetMillis / speed)
+                    : System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.truvis.stock.infrastructure.marketdata;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 시세 공급원 관리
+ * - 애플리케이션 준비가 끝나면 사용 설정된 공급원을 모두 파이프라인에 연결
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MarketDataFeedManager {
+
+    private final List<MarketDataSource> sources;
+    private final TickPipeline pipeline;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSources() {
+        for (MarketDataSource source : sources) {
+            if (!source.isEnabled()) {
+                continue;
+            }
+            log.info("📡 시세 공급원 시작: {}", source.getName());
+            source.start(pipeline);
+        }
+    }
+
+    @PreDestroy
+    public void stopSources() {
+        for (MarketDataSource source : sources) {
+            if (source.isRunning()) {
+                source.stop();
+            }
+        }
+    }
+}
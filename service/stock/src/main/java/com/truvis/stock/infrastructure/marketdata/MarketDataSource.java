@@ -0,0 +1,24 @@
+package com.truvis.stock.infrastructure.marketdata;
+
+/**
+ * 시세 공급원 (거래소 실시간 연결, 파일 재생 등)
+ * - start()는 바로 반환하고, 공급원이 자체 스레드에서 TickSink로 틱을 밀어 넣는다
+ */
+public interface MarketDataSource {
+
+    /**
+     * 공급원 이름 (로그/모니터링용)
+     */
+    String getName();
+
+    /**
+     * 설정상 사용 여부
+     */
+    boolean isEnabled();
+
+    void start(TickSink sink);
+
+    void stop();
+
+    boolean isRunning();
+}
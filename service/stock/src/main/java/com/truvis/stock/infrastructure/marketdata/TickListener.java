@@ -0,0 +1,24 @@
+package com.truvis.stock.infrastructure.marketdata;
+
+/**
+ * 틱 후속 처리기 (캔들 집계, 알림 등)
+ * - 파이프라인 소비 스레드 하나에서만 호출된다 → 구현체 내부 상태는 동기화 없이 다뤄도 된다
+ * - 시세 저장소 반영이 끝난 뒤 호출된다
+ * - 호출 경로에서 블로킹 I/O 금지 (전체 파이프라인이 멈춘다)
+ */
+public interface TickListener {
+
+    void onTick(int slot, long timestampMillis, long price, long volume);
+
+    /**
+     * 가격 없는 거래량 (시세 저장소에는 반영되지 않음, 거래량을 집계하는 처리기만 구현)
+     */
+    default void onVolume(int slot, long timestampMillis, long volume) {
+    }
+
+    /**
+     * 한 배치 처리가 끝났을 때 (모아둔 변경을 한 번에 내보내는 용도)
+     */
+    default void onBatchEnd() {
+    }
+}
@@ -0,0 +1,201 @@
+package com.truvis.stock.infrastructure.marketdata;
+
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 틱 수집 파이프라인
+ *
+ * 공급원(MarketDataSource) → 링 버퍼 → 소비 스레드 1개 → QuoteStore → TickListener들
+ *
+ * - 소비 스레드가 QuoteStore의 유일한 writer → seqlock 쓰기 경합 없음
+ * - 배치 단위로 처리하고 배치 끝에 onBatchEnd() 호출 (후속 처리기가 변경을 모아서 내보낼 수 있게)
+ * - 틱이 없으면 잠깐 스핀 → 짧게 park → 그래도 없으면 다음 틱이 발행될 때까지 잠든다
+ *   (공급원이 없거나 장이 닫혀 있을 때 코어를 쓰지 않음, 발행한 생산자가 깨운다)
+ */
+@Component
+@Slf4j
+public class TickPipeline implements TickSink {
+
+    private static final int IDLE_SPINS = 100;
+    private static final long IDLE_PARK_NANOS = 50_000;
+    private static final int IDLE_PARKS = 200;  // 약 10ms 동안 틱이 없으면 잠든다
+    private static final long VOLUME_ONLY = -1;  // 가격 자리 표시: 거래량만 있는 틱
+
+    private final QuoteStore quoteStore;
+    private final List<TickListener> listeners;
+    private final TickRingBuffer ringBuffer;
+    private final int maxBatchSize;
+
+    private final TickRingBuffer.Handler handler = this::onTick;
+    private final BooleanSupplier runningCheck = this::isRunning;
+
+    private volatile boolean running = false;
+    private Thread consumerThread;
+
+    // 모니터링용 카운터 (소비 스레드만 쓰는 값은 volatile long으로 충분)
+    private final LongAdder publishedCount = new LongAdder();
+    private volatile long processedCount = 0;
+    private volatile long batchCount = 0;
+    private volatile int maxObservedBatch = 0;
+    private final LongAdder listenerErrorCount = new LongAdder();
+
+    public TickPipeline(
+            QuoteStore quoteStore,
+            List<TickListener> listeners,
+            @Value("${stock.marketdata.ring-buffer-size:65536}") int ringBufferSize,
+            @Value("${stock.marketdata.max-batch-size:1024}") int maxBatchSize
+    ) {
+        this.quoteStore = quoteStore;
+        this.listeners = List.copyOf(listeners);
+        this.ringBuffer = new TickRingBuffer(ringBufferSize);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        consumerThread = new Thread(this::consumeLoop, "tick-pipeline");
+        consumerThread.setDaemon(true);
+        consumerThread.start();
+
+        log.info("📡 틱 파이프라인 시작: ringBuffer={}, maxBatch={}, listeners={}",
+                ringBuffer.getCapacity(), maxBatchSize, listeners.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (consumerThread != null) {
+            LockSupport.unpark(consumerThread);
+            try {
+                consumerThread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public int resolveSlot(String symbol) {
+        return quoteStore.slotOf(symbol);
+    }
+
+    @Override
+    public void publish(int slot, long timestampMillis, long price, long bidPrice, long askPrice, long volume) {
+        if (ringBuffer.publish(slot, timestampMillis, price, bidPrice, askPrice, volume, runningCheck)) {
+            publishedCount.increment();
+        }
+    }
+
+    /**
+     * 가격 없이 거래량만 발행 (시세 저장소의 현재가/호가는 건드리지 않는다)
+     */
+    public void publishVolume(int slot, long timestampMillis, long volume) {
+        publish(slot, timestampMillis, VOLUME_ONLY, 0, 0, volume);
+    }
+
+    private void consumeLoop() {
+        int idle = 0;
+        while (running) {
+            int drained = ringBuffer.drain(handler, maxBatchSize);
+            if (drained == 0) {
+                idle++;
+                if (idle <= IDLE_SPINS) {
+                    Thread.onSpinWait();
+                } else if (idle <= IDLE_SPINS + IDLE_PARKS) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                } else {
+                    ringBuffer.awaitPublished();
+                }
+                continue;
+            }
+
+            idle = 0;
+            endBatch(drained);
+        }
+    }
+
+    private void onTick(int slot, long timestampMillis, long price, long bid, long ask, long volume) {
+        if (price == VOLUME_ONLY) {
+            onVolume(slot, timestampMillis, volume);
+            return;
+        }
+        quoteStore.applyTrade(slot, price, bid, ask, volume, timestampMillis);
+
+        for (int i = 0; i < listeners.size(); i++) {
+            try {
+                listeners.get(i).onTick(slot, timestampMillis, price, volume);
+            } catch (Exception e) {
+                // 후속 처리기 하나의 실패가 시세 반영을 막지 않도록
+                listenerErrorCount.increment();
+                log.debug("틱 후속 처리 실패: listener={}, error={}", listeners.get(i).getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    private void onVolume(int slot, long timestampMillis, long volume) {
+        for (int i = 0; i < listeners.size(); i++) {
+            try {
+                listeners.get(i).onVolume(slot, timestampMillis, volume);
+            } catch (Exception e) {
+                listenerErrorCount.increment();
+                log.debug("거래량 후속 처리 실패: listener={}, error={}", listeners.get(i).getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    private void endBatch(int size) {
+        for (int i = 0; i < listeners.size(); i++) {
+            try {
+                listeners.get(i).onBatchEnd();
+            } catch (Exception e) {
+                listenerErrorCount.increment();
+                log.debug("배치 후속 처리 실패: listener={}, error={}", listeners.get(i).getClass().getSimpleName(), e.getMessage());
+            }
+        }
+
+        processedCount += size;
+        batchCount++;
+        if (size > maxObservedBatch) {
+            maxObservedBatch = size;
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.sum();
+    }
+
+    public long getProcessedCount() {
+        return processedCount;
+    }
+
+    public long getBatchCount() {
+        return batchCount;
+    }
+
+    public int getMaxObservedBatch() {
+        return maxObservedBatch;
+    }
+
+    public long getBacklog() {
+        return ringBuffer.backlog();
+    }
+
+    public long getListenerErrorCount() {
+        return listenerErrorCount.sum();
+    }
+}
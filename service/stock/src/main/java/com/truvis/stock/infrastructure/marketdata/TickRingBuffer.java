@@ -0,0 +1,167 @@
+package com.truvis.stock.infrastructure.marketdata;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 틱 링 버퍼 (다중 생산자, 단일 소비자)
+ *
+ * - 틱을 객체로 만들지 않고 필드별 원시 배열에 기록 (구조체 배열 대신 배열 구조체)
+ * - 생산자: 빈 칸이 있을 때만 시퀀스를 CAS로 할당받아 칸에 기록하고 published[칸]에 시퀀스를 발행
+ *   (원시 배열 기록은 실패할 수 없으므로 할당한 시퀀스는 항상 발행된다)
+ * - 소비자: 다음 시퀀스부터 published가 맞는 칸까지 한 번에 최대 maxBatch 개 처리
+ * - 오래 비어 있으면 소비자는 awaitPublished()로 잠들고, 발행한 생산자가 깨운다
+ * → 생산/소비 모두 잠금과 할당이 없다
+ */
+class TickRingBuffer {
+
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final long FULL_PARK_NANOS = 10_000;
+
+    private final int capacity;
+    private final int mask;
+
+    private final int[] slots;
+    private final long[] timestamps;
+    private final long[] prices;
+    private final long[] bids;
+    private final long[] asks;
+    private final long[] volumes;
+    private final long[] published;
+
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final AtomicLong consumed = new AtomicLong(-1);
+
+    // 잠든 소비자 (깨울 필요가 있을 때만 생산자가 unpark)
+    private volatile Thread parkedConsumer;
+
+    TickRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("링 버퍼 크기는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slots = new int[capacity];
+        this.timestamps = new long[capacity];
+        this.prices = new long[capacity];
+        this.bids = new long[capacity];
+        this.asks = new long[capacity];
+        this.volumes = new long[capacity];
+        this.published = new long[capacity];
+        Arrays.fill(published, -1);
+    }
+
+    /**
+     * 틱 1건 기록 (가득 차면 소비자가 비울 때까지 대기 = 역압)
+     * - 시퀀스는 칸이 비어 있을 때만 할당 → 대기를 포기해도 할당만 하고 발행하지 않은 시퀀스가 남지 않는다
+     * - 발행은 volatile 쓰기 → 잠들려는 소비자의 volatile 읽기와 순서가 보장되어 깨우기를 놓치지 않는다
+     *
+     * @param running false가 되면 대기를 멈추고 버린다 (종료 중)
+     * @return 기록했으면 true
+     */
+    boolean publish(int slot, long timestampMillis, long price, long bid, long ask, long volume,
+                    BooleanSupplier running) {
+        long sequence = claim(running);
+        if (sequence < 0) {
+            return false;
+        }
+
+        int index = (int) (sequence & mask);
+        slots[index] = slot;
+        timestamps[index] = timestampMillis;
+        prices[index] = price;
+        bids[index] = bid;
+        asks[index] = ask;
+        volumes[index] = volume;
+        LONGS.setVolatile(published, index, sequence);
+
+        Thread consumer = parkedConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+        return true;
+    }
+
+    /**
+     * 다음 시퀀스 할당 (한 바퀴 전 틱이 아직 소비되지 않았으면 대기)
+     *
+     * @return 할당한 시퀀스, 종료 중이라 포기했으면 -1
+     */
+    private long claim(BooleanSupplier running) {
+        while (true) {
+            long current = claimed.get();
+            long next = current + 1;
+            if (next - capacity > consumed.get()) {
+                if (!running.getAsBoolean()) {
+                    return -1;
+                }
+                LockSupport.parkNanos(FULL_PARK_NANOS);
+                continue;
+            }
+            if (claimed.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * 발행된 틱을 순서대로 최대 maxBatch 개 처리 (소비자 스레드 전용)
+     *
+     * @return 처리한 개수
+     */
+    int drain(Handler handler, int maxBatch) {
+        long next = consumed.get() + 1;
+        int count = 0;
+
+        while (count < maxBatch) {
+            int index = (int) (next & mask);
+            if ((long) LONGS.getAcquire(published, index) != next) {
+                break;  // 아직 기록 중이거나 발행된 틱 없음
+            }
+            handler.onTick(slots[index], timestamps[index], prices[index], bids[index], asks[index], volumes[index]);
+            next++;
+            count++;
+        }
+
+        if (count > 0) {
+            consumed.lazySet(next - 1);
+        }
+        return count;
+    }
+
+    /**
+     * 다음 틱이 발행될 때까지 잠든다 (소비자 스레드 전용, 이미 있으면 바로 반환)
+     * - 가짜로 깨거나 unpark(종료)로 깰 수 있으므로 호출한 쪽에서 다시 확인한다
+     */
+    void awaitPublished() {
+        parkedConsumer = Thread.currentThread();
+        try {
+            long next = consumed.get() + 1;
+            if ((long) LONGS.getVolatile(published, (int) (next & mask)) != next) {
+                LockSupport.park(this);
+            }
+        } finally {
+            parkedConsumer = null;
+        }
+    }
+
+    /**
+     * 대기 중인 틱 수 (대략값)
+     */
+    long backlog() {
+        return Math.max(0, claimed.get() - consumed.get());
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    @FunctionalInterface
+    interface Handler {
+        void onTick(int slot, long timestampMillis, long price, long bid, long ask, long volume);
+    }
+}
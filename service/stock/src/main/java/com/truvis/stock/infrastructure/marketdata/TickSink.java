@@ -0,0 +1,18 @@
+package com.truvis.stock.infrastructure.marketdata;
+
+/**
+ * 틱을 받는 쪽 (공급원 → 파이프라인)
+ * - 가격은 QuoteStore.PRICE_SCALE 배 정수
+ * - 종목 코드 → 슬롯 변환은 종목별로 한 번만 하고 슬롯으로 발행하는 것을 권장
+ */
+public interface TickSink {
+
+    int resolveSlot(String symbol);
+
+    /**
+     * 틱 1건 발행 (버퍼가 가득 차면 빌 때까지 대기)
+     *
+     * @param volume 이번 체결 수량
+     */
+    void publish(int slot, long timestampMillis, long price, long bidPrice, long askPrice, long volume);
+}
@@ -0,0 +1,55 @@
+package com.truvis.stock.infrastructure.marketdata;
+
+import com.truvis.stock.repository.StockRepository;
+import com.truvis.transaction.event.TransactionCompletedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.ZoneId;
+
+/**
+ * 체결된 거래의 수량을 봉 거래량에 반영
+ * - 거래 가격은 쓰지 않는다: 거래 등록은 사용자가 입력한 값이라 현재가/호가(알림, 평가, 순위의 기준)가 될 수 없음
+ * - 시세 틱으로 열린 진행 중인 봉에만 더한다 (봉을 새로 열거나 마감하지 않음)
+ * - 종목 마스터에 없는 종목은 버림 → 임의의 종목 코드로 시세 저장소 슬롯을 차지할 수 없다
+ * - 커밋된 거래만 반영 (롤백된 거래는 반영되지 않음)
+ */
+@Component
+@Slf4j
+public class TransactionTickPublisher {
+
+    private final TickPipeline pipeline;
+    private final StockRepository stockRepository;
+    private final boolean enabled;
+
+    public TransactionTickPublisher(
+            TickPipeline pipeline,
+            StockRepository stockRepository,
+            @Value("${stock.marketdata.transaction-ticks-enabled:false}") boolean enabled
+    ) {
+        this.pipeline = pipeline;
+        this.stockRepository = stockRepository;
+        this.enabled = enabled;
+    }
+
+    @TransactionalEventListener
+    public void onTransactionCompleted(TransactionCompletedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        String symbol = event.getStockCode().trim().toUpperCase();
+        if (stockRepository.findBySymbol(symbol).isEmpty()) {
+            log.debug("종목 마스터에 없는 거래 무시: stockCode={}", event.getStockCode());
+            return;
+        }
+
+        int slot = pipeline.resolveSlot(symbol);
+        long timestamp = event.getExecutedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        pipeline.publishVolume(slot, timestamp, event.getQuantity());
+        log.debug("거래 수량 반영: stockCode={}, quantity={}", symbol, event.getQuantity());
+    }
+}
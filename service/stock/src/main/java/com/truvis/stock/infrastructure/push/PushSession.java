@@ -0,0 +1,147 @@
+package com.truvis.stock.infrastructure.push;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 푸시 연결 1개 (SSE)
+ *
+ * 병합(conflation) 버퍼:
+ * - 보낼 값을 쌓지 않고 "바뀐 종목" 집합만 기록 → 보낼 때 저장소에서 최신 시세를 읽는다
+ * - 같은 종목이 여러 번 바뀌어도 한 번만 전송, 집합 크기는 maxPending 으로 제한 (넘치는 새 종목은 버림)
+ * - scheduled 플래그로 전송 예약은 세션당 최대 1개
+ * - sendingSince 로 전송 중인 시각을 기록 → 감시 작업이 오래 걸리는 전송을 찾아 연결을 끊는다
+ */
+class PushSession {
+
+    private static final long IDLE = Long.MIN_VALUE;
+    private static final long STALLED = Long.MIN_VALUE + 1;
+
+    private final String owner;
+    private final SseEmitter emitter;
+    private final int maxPending;
+    private final Set<Integer> subscribedSlots = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> dirtySlots = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final AtomicLong sendingSince = new AtomicLong(IDLE);
+    private final LongAdder droppedCount = new LongAdder();
+    private volatile long lastFlushNanos = 0;
+
+    PushSession(String owner, SseEmitter emitter, int maxPending) {
+        this.owner = owner;
+        this.emitter = emitter;
+        this.maxPending = maxPending;
+    }
+
+    String getOwner() {
+        return owner;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    Set<Integer> getSubscribedSlots() {
+        return subscribedSlots;
+    }
+
+    /**
+     * 종목 변경 표시
+     *
+     * - 대기 중인 종목이 maxPending 개면 새 종목은 버린다 (이미 대기 중인 종목은 병합)
+     *
+     * @return 전송 예약이 필요하면 true (이미 예약돼 있으면 false)
+     */
+    boolean markDirty(int slot) {
+        if (dirtySlots.size() >= maxPending && !dirtySlots.contains(slot)) {
+            droppedCount.increment();
+        } else {
+            dirtySlots.add(slot);
+        }
+        return !closed.get() && scheduled.compareAndSet(false, true);
+    }
+
+    /**
+     * 전송 중에 쌓인 변경이 있으면 다시 예약
+     *
+     * @return 전송 예약이 필요하면 true
+     */
+    boolean rescheduleIfPending() {
+        return !dirtySlots.isEmpty() && !closed.get() && scheduled.compareAndSet(false, true);
+    }
+
+    /**
+     * 바뀐 종목 꺼내기 (전송 스레드)
+     */
+    int[] drainDirty() {
+        scheduled.set(false);  // 꺼내는 도중 들어온 변경은 다음 예약으로
+        int[] slots = new int[dirtySlots.size()];
+        int count = 0;
+        for (Integer slot : dirtySlots) {
+            if (count == slots.length) {
+                break;
+            }
+            dirtySlots.remove(slot);
+            slots[count++] = slot;
+        }
+        return count == slots.length ? slots : Arrays.copyOf(slots, count);
+    }
+
+    /**
+     * 전송 시작 (전송 스레드)
+     */
+    void sendStarted(long nanos) {
+        sendingSince.set(nanos);
+    }
+
+    /**
+     * 전송 끝 (전송 스레드)
+     *
+     * @return 전송하는 동안 느린 연결로 판정됐으면 true
+     */
+    boolean sendFinished() {
+        return sendingSince.getAndSet(IDLE) == STALLED;
+    }
+
+    /**
+     * 전송이 timeoutNanos 넘게 끝나지 않았으면 느린 연결로 표시 (감시 스레드)
+     *
+     * @return 이번 호출로 표시했으면 true
+     */
+    boolean markStalledIfOverdue(long nowNanos, long timeoutNanos) {
+        long since = sendingSince.get();
+        return since != IDLE && since != STALLED
+                && nowNanos - since > timeoutNanos
+                && sendingSince.compareAndSet(since, STALLED);
+    }
+
+    long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    long getLastFlushNanos() {
+        return lastFlushNanos;
+    }
+
+    void flushed(long nanos) {
+        lastFlushNanos = nanos;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * @return 처음 닫는 호출이면 true
+     */
+    boolean close() {
+        return closed.compareAndSet(false, true);
+    }
+}
@@ -0,0 +1,29 @@
+package com.truvis.stock.infrastructure.push;
+
+import com.truvis.stock.domain.Quote;
+
+import java.math.BigDecimal;
+
+/**
+ * 실시간 시세 푸시 메시지
+ *
+ * @param time 체결 시각 (epoch ms)
+ */
+public record QuotePush(
+        String symbol,
+        BigDecimal price,
+        BigDecimal changeRate,
+        long volume,
+        long time
+) {
+
+    public static QuotePush from(Quote quote) {
+        return new QuotePush(
+                quote.symbol(),
+                quote.lastPrice(),
+                quote.changeRate(),
+                quote.volume(),
+                quote.updatedAt().toEpochMilli()
+        );
+    }
+}
@@ -0,0 +1,358 @@
+package com.truvis.stock.infrastructure.push;
+
+import com.truvis.stock.infrastructure.marketdata.TickListener;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 관심 종목 실시간 시세 푸시 (SSE)
+ *
+ * 역색인: 시세 슬롯 → 구독 세션 배열 (copy-on-write, 파이프라인 스레드는 잠금 없이 읽음)
+ * - 틱이 오면 배치 안에서 바뀐 슬롯만 모아두고, 배치 끝에 그 슬롯의 구독 세션에만 표시
+ *   → 비용은 "바뀐 종목의 구독자 수"에 비례, 전체 사용자 수와 무관
+ * - 세션마다 바뀐 종목 집합만 들고 있다가 최소 간격(push-interval-ms)마다 최신 시세를 한 번에 전송
+ *   → 느린 클라이언트는 중간 시세를 건너뛸 뿐 서버 쪽 대기열이 커지지 않는다 (세션당 max-pending 개 제한)
+ * - 예약(타이머 1개)과 전송(sender 풀)을 나눠, 전송이 막혀도 다른 세션의 예약은 계속 돈다
+ * - 전송 하나가 send-timeout-ms 를 넘기면 느린 연결로 보고 즉시 역색인에서 빼고,
+ *   막힌 전송 스레드 수만큼 sender 풀을 잠시 늘려 다른 구독자 전송이 밀리지 않게 한다
+ *   (막힌 send 가 끝나거나 실패하면 연결을 닫고 풀을 되돌림)
+ * - 전송 실패/타임아웃/종료 시 역색인에서 제거
+ *
+ * 관심 종목 변경은 이 노드에 연결된 세션에만 바로 반영된다 (다른 노드 세션은 재연결 시 반영).
+ */
+@Component
+@Slf4j
+public class QuotePushHub implements TickListener {
+
+    private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+
+    private final QuoteStore quoteStore;
+    private final long minIntervalNanos;
+    private final long emitterTimeoutMillis;
+    private final long sendTimeoutNanos;
+    private final int maxPending;
+    private final int senderThreads;
+
+    private final AtomicReferenceArray<PushSession[]> subscribersBySlot;
+    private final Map<String, Set<PushSession>> sessionsByOwner = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor timer;
+    private final ThreadPoolExecutor sender;
+    private final AtomicInteger stalledSenders = new AtomicInteger();
+
+    // 파이프라인 스레드 전용 (배치 안에서 바뀐 슬롯, 중복 제거)
+    private final boolean[] dirty;
+    private final int[] dirtySlots;
+    private int dirtyCount = 0;
+
+    // 모니터링용 카운터
+    private final LongAdder pushedCount = new LongAdder();
+    private final LongAdder disconnectedCount = new LongAdder();
+    private final LongAdder evictedCount = new LongAdder();
+
+    public QuotePushHub(
+            QuoteStore quoteStore,
+            @Value("${stock.watchlist.push-interval-ms:200}") long pushIntervalMillis,
+            @Value("${stock.watchlist.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+            @Value("${stock.watchlist.sender-threads:4}") int senderThreads,
+            @Value("${stock.watchlist.send-timeout-ms:5000}") long sendTimeoutMillis,
+            @Value("${stock.watchlist.max-pending:64}") int maxPending
+    ) {
+        this.quoteStore = quoteStore;
+        this.minIntervalNanos = TimeUnit.MILLISECONDS.toNanos(pushIntervalMillis);
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.maxPending = maxPending;
+        this.senderThreads = senderThreads;
+        this.subscribersBySlot = new AtomicReferenceArray<>(quoteStore.getCapacity());
+        this.dirty = new boolean[quoteStore.getCapacity()];
+        this.dirtySlots = new int[quoteStore.getCapacity()];
+
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "quote-push-" + THREAD_SEQUENCE.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.timer = new ScheduledThreadPoolExecutor(1, threadFactory);
+        this.timer.setRemoveOnCancelPolicy(true);
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads,
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+
+        long checkMillis = Math.max(1, sendTimeoutMillis / 2);
+        this.timer.scheduleWithFixedDelay(this::evictStalled, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 🔌 SSE 연결 생성 (현재 시세를 먼저 한 번 보낸다)
+     */
+    public SseEmitter connect(String owner, Collection<String> symbols) {
+        return connect(owner, symbols, new SseEmitter(emitterTimeoutMillis));
+    }
+
+    SseEmitter connect(String owner, Collection<String> symbols, SseEmitter emitter) {
+        PushSession session = new PushSession(owner, emitter, maxPending);
+
+        emitter.onCompletion(() -> disconnect(session));
+        emitter.onTimeout(() -> disconnect(session));
+        emitter.onError(error -> disconnect(session));
+
+        sessionsByOwner.computeIfAbsent(owner, key -> ConcurrentHashMap.newKeySet()).add(session);
+        boolean needsFlush = false;
+        for (String symbol : symbols) {
+            int slot = quoteStore.slotOf(symbol);
+            addSubscriber(slot, session);
+            needsFlush |= session.markDirty(slot);
+        }
+        if (needsFlush) {
+            schedule(session);
+        }
+
+        log.debug("🔌 시세 푸시 연결: owner={}, symbols={}", owner, symbols.size());
+        return emitter;
+    }
+
+    /**
+     * 관심 종목 추가 → 이 사용자의 연결 중인 세션에 구독 추가
+     */
+    public void subscribe(String owner, String symbol) {
+        Set<PushSession> sessions = sessionsByOwner.get(owner);
+        if (sessions == null) {
+            return;
+        }
+
+        int slot = quoteStore.slotOf(symbol);
+        for (PushSession session : sessions) {
+            addSubscriber(slot, session);
+            if (session.markDirty(slot)) {
+                schedule(session);
+            }
+        }
+    }
+
+    /**
+     * 관심 종목 제거 → 이 사용자의 연결 중인 세션에서 구독 해제
+     */
+    public void unsubscribe(String owner, String symbol) {
+        Set<PushSession> sessions = sessionsByOwner.get(owner);
+        int slot = quoteStore.findSlot(symbol);
+        if (sessions == null || slot == QuoteStore.NO_SLOT) {
+            return;
+        }
+
+        for (PushSession session : sessions) {
+            removeSubscriber(slot, session);
+        }
+    }
+
+    @Override
+    public void onTick(int slot, long timestampMillis, long price, long volume) {
+        if (!dirty[slot] && subscribersBySlot.get(slot) != null) {
+            dirty[slot] = true;
+            dirtySlots[dirtyCount++] = slot;
+        }
+    }
+
+    @Override
+    public void onBatchEnd() {
+        for (int i = 0; i < dirtyCount; i++) {
+            int slot = dirtySlots[i];
+            dirty[slot] = false;
+
+            PushSession[] subscribers = subscribersBySlot.get(slot);
+            if (subscribers == null) {
+                continue;
+            }
+            for (PushSession session : subscribers) {
+                if (session.markDirty(slot)) {
+                    schedule(session);
+                }
+            }
+        }
+        dirtyCount = 0;
+    }
+
+    /**
+     * 최소 간격을 지켜서 전송 예약 (시간이 되면 sender 풀로 넘김)
+     */
+    private void schedule(PushSession session) {
+        long waitNanos = session.getLastFlushNanos() + minIntervalNanos - System.nanoTime();
+        try {
+            if (waitNanos <= 0) {
+                sender.execute(() -> flush(session));
+            } else {
+                timer.schedule(() -> sender.execute(() -> flush(session)), waitNanos, TimeUnit.NANOSECONDS);
+            }
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    private void flush(PushSession session) {
+        if (session.isClosed()) {
+            return;
+        }
+
+        int[] slots = session.drainDirty();
+        session.flushed(System.nanoTime());
+
+        session.sendStarted(System.nanoTime());
+        try {
+            for (int slot : slots) {
+                if (!session.getSubscribedSlots().contains(slot)) {
+                    continue;  // 그 사이 구독 해제됨
+                }
+                var quote = quoteStore.findQuote(slot);
+                if (quote.isEmpty()) {
+                    continue;  // 아직 시세 없음
+                }
+                session.getEmitter().send(SseEmitter.event()
+                        .name("quote")
+                        .data(QuotePush.from(quote.get()), MediaType.APPLICATION_JSON));
+                pushedCount.increment();
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("시세 푸시 실패, 연결 종료: owner={}, error={}", session.getOwner(), e.getMessage());
+            session.getEmitter().completeWithError(e);
+            disconnect(session);
+            return;
+        } finally {
+            if (session.sendFinished()) {
+                // 느린 연결로 이미 쫓겨남 → 이 스레드가 풀려났으니 연결을 닫고 풀 크기 복원
+                session.getEmitter().complete();
+                stalledSenders.decrementAndGet();
+                resizeSender();
+            }
+        }
+
+        // 전송하는 동안 또 바뀐 종목이 있으면 다시 예약
+        if (session.rescheduleIfPending()) {
+            schedule(session);
+        }
+    }
+
+    /**
+     * 🐢 느린 연결 정리 (타이머 스레드)
+     * - send-timeout-ms 넘게 끝나지 않는 전송이 있는 세션은 역색인에서 바로 빼서 더 이상 예약하지 않는다
+     * - emitter 는 막힌 send 가 쥐고 있으므로 여기서 닫지 않고, 전송 스레드가 풀려날 때 닫는다
+     */
+    private void evictStalled() {
+        long now = System.nanoTime();
+        for (Set<PushSession> sessions : sessionsByOwner.values()) {
+            for (PushSession session : sessions) {
+                if (!session.markStalledIfOverdue(now, sendTimeoutNanos)) {
+                    continue;
+                }
+                log.warn("🐢 느린 푸시 연결 정리: owner={}", session.getOwner());
+                disconnect(session);
+                evictedCount.increment();
+                stalledSenders.incrementAndGet();
+                resizeSender();
+            }
+        }
+    }
+
+    /**
+     * 막힌 전송 스레드 수만큼 sender 풀 확장 (최대 sender-threads 배)
+     */
+    private synchronized void resizeSender() {
+        int target = senderThreads + Math.min(stalledSenders.get(), senderThreads);
+        if (target > sender.getMaximumPoolSize()) {
+            sender.setMaximumPoolSize(target);
+            sender.setCorePoolSize(target);
+        } else if (target < sender.getMaximumPoolSize()) {
+            sender.setCorePoolSize(target);
+            sender.setMaximumPoolSize(target);
+        }
+    }
+
+    private void disconnect(PushSession session) {
+        if (!session.close()) {
+            return;
+        }
+
+        for (Integer slot : session.getSubscribedSlots()) {
+            removeSubscriber(slot, session);
+        }
+        sessionsByOwner.computeIfPresent(session.getOwner(), (owner, sessions) -> {
+            sessions.remove(session);
+            return sessions.isEmpty() ? null : sessions;
+        });
+        disconnectedCount.increment();
+    }
+
+    private synchronized void addSubscriber(int slot, PushSession session) {
+        if (!session.getSubscribedSlots().add(slot)) {
+            return;
+        }
+        PushSession[] current = subscribersBySlot.get(slot);
+        if (current == null) {
+            subscribersBySlot.set(slot, new PushSession[]{session});
+            return;
+        }
+        PushSession[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = session;
+        subscribersBySlot.set(slot, next);
+    }
+
+    private synchronized void removeSubscriber(int slot, PushSession session) {
+        session.getSubscribedSlots().remove(slot);
+        PushSession[] current = subscribersBySlot.get(slot);
+        if (current == null) {
+            return;
+        }
+
+        PushSession[] next = Arrays.stream(current)
+                .filter(existing -> existing != session)
+                .toArray(PushSession[]::new);
+        subscribersBySlot.set(slot, next.length == 0 ? null : next);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        sender.shutdownNow();
+        sessionsByOwner.values().forEach(sessions -> sessions.forEach(session -> session.getEmitter().complete()));
+    }
+
+    public int getConnectedOwnerCount() {
+        return sessionsByOwner.size();
+    }
+
+    public int getSubscriberCount(String symbol) {
+        int slot = quoteStore.findSlot(symbol);
+        PushSession[] subscribers = slot == QuoteStore.NO_SLOT ? null : subscribersBySlot.get(slot);
+        return subscribers != null ? subscribers.length : 0;
+    }
+
+    public long getPushedCount() {
+        return pushedCount.sum();
+    }
+
+    public long getDisconnectedCount() {
+        return disconnectedCount.sum();
+    }
+
+    public long getEvictedCount() {
+        return evictedCount.sum();
+    }
+}
@@ -0,0 +1,250 @@
+package com.truvis.stock.infrastructure.quote;
+
+import com.truvis.stock.domain.Quote;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실시간 시세 저장소 (원시 배열 + seqlock)
+ *
+ * 구조:
+ * - 종목 코드마다 고정 슬롯(int)을 한 번 배정하고 재사용하지 않는다
+ * - 슬롯 하나 = long 8개 (64바이트, 캐시 라인 1개) → 다른 종목 갱신과 false sharing 없음
+ *   [0] seq  [1] 현재가  [2] 매수호가  [3] 매도호가  [4] 거래량  [5] 체결 시각(ms)  [6] 전일 종가  [7] 패딩
+ * - 가격은 PRICE_SCALE(10^4) 배 정수로 저장 (원화/달러 센트 모두 손실 없음)
+ *
+ * seqlock:
+ * - 쓰기: seq를 홀수로 CAS → 필드 기록 → seq를 짝수로 release
+ * - 읽기: seq(짝수) 읽기 → 필드 읽기 → seq 재확인, 바뀌었으면 재시도
+ * → 읽는 쪽은 잠금/CAS 없이 찢어진 시세(가격과 호가가 서로 다른 체결)를 보지 않는다
+ * → 갱신 경로는 객체를 만들지 않는다 (슬롯을 미리 받아두면 해시 조회도 없음)
+ */
+@Component
+@Slf4j
+public class QuoteStore {
+
+    public static final long PRICE_SCALE = 10_000L;
+    public static final int NO_SLOT = -1;
+
+    private static final int STRIDE = 8;
+    private static final int SEQ = 0;
+    private static final int LAST = 1;
+    private static final int BID = 2;
+    private static final int ASK = 3;
+    private static final int VOLUME = 4;
+    private static final int TIMESTAMP = 5;
+    private static final int PREV_CLOSE = 6;
+
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int capacity;
+    private final long[] data;
+    private final String[] symbols;
+    private final ConcurrentHashMap<String, Integer> slots = new ConcurrentHashMap<>();
+    private final AtomicInteger nextSlot = new AtomicInteger();
+
+    public QuoteStore(@Value("${stock.quote.capacity:16384}") int capacity) {
+        this.capacity = capacity;
+        this.data = new long[capacity * STRIDE];
+        this.symbols = new String[capacity];
+    }
+
+    /**
+     * 종목 슬롯 조회 (없으면 배정)
+     * - 시세 수신 쪽은 종목별로 한 번만 호출하고 슬롯을 들고 있는 것을 권장
+     */
+    public int slotOf(String symbol) {
+        Integer slot = slots.get(symbol);
+        if (slot != null) {
+            return slot;
+        }
+        return slots.computeIfAbsent(symbol, this::allocate);
+    }
+
+    /**
+     * 종목 슬롯 조회 (배정하지 않음)
+     *
+     * @return 슬롯, 시세가 한 번도 들어오지 않은 종목이면 NO_SLOT
+     */
+    public int findSlot(String symbol) {
+        Integer slot = slots.get(symbol);
+        return slot != null ? slot : NO_SLOT;
+    }
+
+    private int allocate(String symbol) {
+        int slot = nextSlot.getAndIncrement();
+        if (slot >= capacity) {
+            nextSlot.decrementAndGet();
+            throw new IllegalStateException("시세 저장소 용량 초과: capacity=" + capacity);
+        }
+        symbols[slot] = symbol;
+        return slot;
+    }
+
+    /**
+     * 🔥 체결/호가 갱신 (가격은 PRICE_SCALE 배 정수)
+     */
+    public void update(int slot, long lastPrice, long bidPrice, long askPrice, long volume, long timestampMillis) {
+        int base = slot * STRIDE;
+        long seq = beginWrite(base);
+
+        data[base + LAST] = lastPrice;
+        data[base + BID] = bidPrice;
+        data[base + ASK] = askPrice;
+        data[base + VOLUME] = volume;
+        data[base + TIMESTAMP] = timestampMillis;
+
+        LONGS.setRelease(data, base + SEQ, seq + 2);
+    }
+
+    /**
+     * 🔥 체결 반영 (틱 파이프라인용)
+     * - 거래량은 누적, 호가가 0이면 이전 호가 유지
+     */
+    public void applyTrade(int slot, long price, long bidPrice, long askPrice, long tradeVolume, long timestampMillis) {
+        int base = slot * STRIDE;
+        long seq = beginWrite(base);
+
+        data[base + LAST] = price;
+        if (bidPrice > 0) {
+            data[base + BID] = bidPrice;
+        }
+        if (askPrice > 0) {
+            data[base + ASK] = askPrice;
+        }
+        data[base + VOLUME] += tradeVolume;
+        data[base + TIMESTAMP] = timestampMillis;
+
+        LONGS.setRelease(data, base + SEQ, seq + 2);
+    }
+
+    /**
+     * 전일 종가 설정 (장 시작 전 1회)
+     */
+    public void updatePreviousClose(int slot, long previousClose) {
+        int base = slot * STRIDE;
+        long seq = beginWrite(base);
+
+        data[base + PREV_CLOSE] = previousClose;
+
+        LONGS.setRelease(data, base + SEQ, seq + 2);
+    }
+
+    /**
+     * seq를 짝수 → 홀수로 바꿔 쓰기 구간 진입 (동시 writer가 있어도 안전)
+     */
+    private long beginWrite(int base) {
+        while (true) {
+            long seq = (long) LONGS.getVolatile(data, base + SEQ);
+            if ((seq & 1) == 0 && LONGS.compareAndSet(data, base + SEQ, seq, seq + 1)) {
+                return seq;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 현재가만 조회 (할당 없음)
+     *
+     * @return PRICE_SCALE 배 정수, 시세 없으면 0
+     */
+    public long lastPrice(int slot) {
+        return (long) LONGS.getOpaque(data, slot * STRIDE + LAST);
+    }
+
+    /**
+     * 일관된 시세 읽기 (할당 없음)
+     * - target 배열에 [현재가, 매수호가, 매도호가, 거래량, 체결 시각, 전일 종가] 순으로 기록
+     *
+     * @return 한 번이라도 갱신된 슬롯이면 true
+     */
+    public boolean read(int slot, long[] target) {
+        int base = slot * STRIDE;
+        while (true) {
+            long before = (long) LONGS.getAcquire(data, base + SEQ);
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            target[0] = data[base + LAST];
+            target[1] = data[base + BID];
+            target[2] = data[base + ASK];
+            target[3] = data[base + VOLUME];
+            target[4] = data[base + TIMESTAMP];
+            target[5] = data[base + PREV_CLOSE];
+
+            VarHandle.loadLoadFence();
+            if ((long) LONGS.getOpaque(data, base + SEQ) == before) {
+                return before != 0;
+            }
+        }
+    }
+
+    /**
+     * 시세 스냅샷 조회 (API 응답용)
+     */
+    public Optional<Quote> findQuote(String symbol) {
+        int slot = findSlot(symbol);
+        return slot == NO_SLOT ? Optional.empty() : findQuote(slot);
+    }
+
+    /**
+     * 슬롯으로 시세 스냅샷 조회 (시세가 한 번도 들어오지 않았으면 empty)
+     */
+    public Optional<Quote> findQuote(int slot) {
+        long[] values = new long[6];
+        if (!read(slot, values)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new Quote(
+                symbols[slot],
+                toPrice(values[0]),
+                toPrice(values[1]),
+                toPrice(values[2]),
+                values[3],
+                values[5] != 0 ? toPrice(values[5]) : null,
+                Instant.ofEpochMilli(values[4])
+        ));
+    }
+
+    /**
+     * 슬롯의 종목 코드 (배정되지 않은 슬롯이면 null)
+     */
+    public String symbolOf(int slot) {
+        return slot >= 0 && slot < capacity ? symbols[slot] : null;
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public static long toScaled(BigDecimal price) {
+        return price.setScale(4, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * 정수 가격 → BigDecimal (정수 가격은 소수점 없이, 지수 표기 없이)
+     */
+    public static BigDecimal toPrice(long scaled) {
+        if (scaled % PRICE_SCALE == 0) {
+            return BigDecimal.valueOf(scaled / PRICE_SCALE);
+        }
+        return BigDecimal.valueOf(scaled, 4).stripTrailingZeros();
+    }
+}
@@ -0,0 +1,129 @@
+package com.truvis.stock.infrastructure.screener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * 숫자 항목 1개의 정렬 열 (불변)
+ * - 값이 있는 종목만 (값, 종목 id) 오름차순으로 저장
+ * - 범위 조건 = 이진 탐색 두 번 + 구간 안 id를 비트로 (O(log n + k))
+ */
+class NumericColumn {
+
+    private final int scale;
+    private final long[] sortedValues;
+    private final int[] sortedIds;
+    private final BitSet present;
+
+    private NumericColumn(int scale, long[] sortedValues, int[] sortedIds, BitSet present) {
+        this.scale = scale;
+        this.sortedValues = sortedValues;
+        this.sortedIds = sortedIds;
+        this.present = present;
+    }
+
+    /**
+     * @param values 종목 id별 값 (없으면 null)
+     */
+    static NumericColumn build(BigDecimal[] values, int scale) {
+        BitSet present = new BitSet(values.length);
+        long[] scaled = new long[values.length];
+        for (int id = 0; id < values.length; id++) {
+            if (values[id] != null) {
+                present.set(id);
+                scaled[id] = values[id].movePointRight(scale).setScale(0, RoundingMode.HALF_UP).longValueExact();
+            }
+        }
+
+        int[] sortedIds = IntStream.range(0, values.length)
+                .filter(present::get)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingLong(id -> scaled[id]).thenComparingInt(id -> id))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        long[] sortedValues = new long[sortedIds.length];
+        for (int i = 0; i < sortedIds.length; i++) {
+            sortedValues[i] = scaled[sortedIds[i]];
+        }
+        return new NumericColumn(scale, sortedValues, sortedIds, present);
+    }
+
+    /**
+     * min ≤ 값 ≤ max 인 종목 (null은 열린 끝)
+     */
+    BitSet range(BigDecimal min, BigDecimal max) {
+        long low = min == null ? Long.MIN_VALUE : toScaled(min, RoundingMode.CEILING);
+        long high = max == null ? Long.MAX_VALUE : toScaled(max, RoundingMode.FLOOR);
+
+        BitSet result = new BitSet();
+        if (low > high) {
+            return result;
+        }
+        int from = lowerBound(low);
+        int to = upperBound(high);
+        for (int i = from; i < to; i++) {
+            result.set(sortedIds[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 값 순서대로 matched에 속한 종목 id를 최대 limit개 (값 없는 종목은 제외)
+     */
+    int collectSorted(BitSet matched, boolean ascending, int[] target, int limit) {
+        int count = 0;
+        for (int i = 0; i < sortedIds.length && count < limit; i++) {
+            int id = sortedIds[ascending ? i : sortedIds.length - 1 - i];
+            if (matched.get(id)) {
+                target[count++] = id;
+            }
+        }
+        return count;
+    }
+
+    boolean hasValue(int id) {
+        return present.get(id);
+    }
+
+    private long toScaled(BigDecimal value, RoundingMode roundingMode) {
+        BigDecimal scaled = value.movePointRight(scale).setScale(0, roundingMode);
+        if (scaled.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0) {
+            return Long.MAX_VALUE;
+        }
+        if (scaled.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) < 0) {
+            return Long.MIN_VALUE;
+        }
+        return scaled.longValue();
+    }
+
+    private int lowerBound(long value) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedValues[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(long value) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedValues[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
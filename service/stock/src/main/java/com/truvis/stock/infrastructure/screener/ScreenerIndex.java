@@ -0,0 +1,184 @@
+package com.truvis.stock.infrastructure.screener;
+
+import com.truvis.stock.domain.Market;
+import com.truvis.stock.domain.ScreenCriteria;
+import com.truvis.stock.domain.ScreenerField;
+import com.truvis.stock.domain.Stock;
+import com.truvis.stock.domain.StockFundamentals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스크리너 색인 (불변)
+ *
+ * - 종목 id = 종목 마스터 순위 (시가총액 순)
+ * - 시장/섹터: 값마다 비트셋 1개 → 조건끼리 AND/OR 비트 연산
+ * - 숫자 항목: 항목마다 정렬 열(NumericColumn) → 범위를 비트셋으로 바꿔서 AND
+ *
+ * 상장 종목 수천 개 기준 비트셋 하나가 long 수십 개라 조건 조합은 캐시 안에서 끝난다.
+ * (RoaringBitmap 같은 압축 비트맵은 수백만 건 이상에서 의미가 있어 java.util.BitSet 사용)
+ */
+public final class ScreenerIndex {
+
+    private final Stock[] stocks;
+    private final StockFundamentals[] fundamentals;
+    private final Map<String, Integer> idBySymbol;
+    private final BitSet universe;
+    private final Map<Market, BitSet> byMarket;
+    private final Map<String, BitSet> bySector;
+    private final Map<ScreenerField, NumericColumn> columns;
+
+    private ScreenerIndex(
+            Stock[] stocks,
+            StockFundamentals[] fundamentals,
+            Map<String, Integer> idBySymbol,
+            Map<Market, BitSet> byMarket,
+            Map<String, BitSet> bySector,
+            Map<ScreenerField, NumericColumn> columns) {
+        this.stocks = stocks;
+        this.fundamentals = fundamentals;
+        this.idBySymbol = idBySymbol;
+        this.universe = new BitSet(stocks.length);
+        this.universe.set(0, stocks.length);
+        this.byMarket = byMarket;
+        this.bySector = bySector;
+        this.columns = columns;
+    }
+
+    public static ScreenerIndex empty() {
+        return build(List.of(), Map.of());
+    }
+
+    /**
+     * 색인 생성
+     *
+     * @param rankedStocks 순위순 종목 목록
+     * @param fundamentalsBySymbol 종목 코드 → 재무 지표 (없는 종목은 숫자 조건에서 제외)
+     */
+    public static ScreenerIndex build(List<Stock> rankedStocks, Map<String, StockFundamentals> fundamentalsBySymbol) {
+        Stock[] stocks = rankedStocks.toArray(new Stock[0]);
+        StockFundamentals[] fundamentals = new StockFundamentals[stocks.length];
+        Map<String, Integer> idBySymbol = new HashMap<>(stocks.length * 2);
+        Map<Market, BitSet> byMarket = new EnumMap<>(Market.class);
+        Map<String, BitSet> bySector = new HashMap<>();
+
+        for (int id = 0; id < stocks.length; id++) {
+            Stock stock = stocks[id];
+            fundamentals[id] = fundamentalsBySymbol.get(stock.getSymbol());
+            idBySymbol.put(stock.getSymbol(), id);
+
+            byMarket.computeIfAbsent(stock.getMarket(), market -> new BitSet(stocks.length)).set(id);
+            if (stock.getSector() != null) {
+                bySector.computeIfAbsent(stock.getSector(), sector -> new BitSet(stocks.length)).set(id);
+            }
+        }
+
+        Map<ScreenerField, NumericColumn> columns = new EnumMap<>(ScreenerField.class);
+        for (ScreenerField field : ScreenerField.values()) {
+            BigDecimal[] values = new BigDecimal[stocks.length];
+            for (int id = 0; id < stocks.length; id++) {
+                values[id] = field.valueOf(fundamentals[id]);
+            }
+            columns.put(field, NumericColumn.build(values, field.getScale()));
+        }
+
+        return new ScreenerIndex(
+                stocks,
+                fundamentals,
+                Collections.unmodifiableMap(idBySymbol),
+                Collections.unmodifiableMap(byMarket),
+                Collections.unmodifiableMap(bySector),
+                Collections.unmodifiableMap(columns));
+    }
+
+    /**
+     * 조건 검색
+     */
+    public ScreenResult screen(ScreenCriteria criteria) {
+        BitSet matched = (BitSet) universe.clone();
+
+        // 1. 범주 조건 (값끼리 OR → 결과에 AND)
+        if (!criteria.markets().isEmpty()) {
+            BitSet markets = new BitSet(stocks.length);
+            for (Market market : criteria.markets()) {
+                orIfPresent(markets, byMarket.get(market));
+            }
+            matched.and(markets);
+        }
+        if (!criteria.sectors().isEmpty()) {
+            BitSet sectors = new BitSet(stocks.length);
+            for (String sector : criteria.sectors()) {
+                orIfPresent(sectors, bySector.get(sector));
+            }
+            matched.and(sectors);
+        }
+
+        // 2. 숫자 범위 조건 (AND, 결과가 비면 중단)
+        for (ScreenCriteria.Range range : criteria.ranges()) {
+            if (matched.isEmpty()) {
+                break;
+            }
+            matched.and(columns.get(range.field()).range(range.min(), range.max()));
+        }
+
+        // 3. 정렬 + 개수 제한
+        int limit = Math.max(0, Math.min(criteria.limit(), stocks.length));
+        int[] ids = new int[limit];
+        int count;
+        if (criteria.sortBy() == null) {
+            count = 0;
+            for (int id = matched.nextSetBit(0); id >= 0 && count < limit; id = matched.nextSetBit(id + 1)) {
+                ids[count++] = id;
+            }
+        } else {
+            // 정렬 항목 값이 없는 종목은 뒤로 (순위순)
+            NumericColumn column = columns.get(criteria.sortBy());
+            count = column.collectSorted(matched, criteria.ascending(), ids, limit);
+            for (int id = matched.nextSetBit(0); id >= 0 && count < limit; id = matched.nextSetBit(id + 1)) {
+                if (!column.hasValue(id)) {
+                    ids[count++] = id;
+                }
+            }
+        }
+
+        List<Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(new Entry(stocks[ids[i]], fundamentals[ids[i]]));
+        }
+        return new ScreenResult(matched.cardinality(), entries);
+    }
+
+    public StockFundamentals findFundamentals(String symbol) {
+        Integer id = idBySymbol.get(symbol);
+        return id == null ? null : fundamentals[id];
+    }
+
+    public int size() {
+        return stocks.length;
+    }
+
+    private static void orIfPresent(BitSet target, BitSet bits) {
+        if (bits != null) {
+            target.or(bits);
+        }
+    }
+
+    /**
+     * @param totalCount 조건에 맞는 전체 종목 수 (limit 적용 전)
+     */
+    public record ScreenResult(int totalCount, List<Entry> entries) {
+    }
+
+    /**
+     * @param fundamentals 재무 지표 (없으면 null)
+     */
+    public record Entry(Stock stock, StockFundamentals fundamentals) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.truvis.stock.infrastructure.screener;
+
+import com.truvis.stock.domain.ScreenCriteria;
+import com.truvis.stock.domain.StockFundamentals;
+import com.truvis.stock.infrastructure.StockFundamentalsParser;
+import com.truvis.stock.repository.StockRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * 종목 스크리너
+ *
+ * - 종목 마스터 + 재무 지표 파일로 불변 색인(ScreenerIndex)을 만들고 volatile 참조로 공개
+ * - 재구성은 종목 마스터와 같은 주기로, 새 색인을 다 만든 뒤 참조만 교체
+ * - 조건 검색에 DB를 사용하지 않는다
+ */
+@Component
+@Slf4j
+public class StockScreener {
+
+    private final StockRepository stockRepository;
+    private final Resource fundamentalsLocation;
+    private final StockFundamentalsParser parser = new StockFundamentalsParser();
+
+    private volatile ScreenerIndex index = ScreenerIndex.empty();
+
+    public StockScreener(
+            StockRepository stockRepository,
+            @Value("${stock.screener.fundamentals-location:classpath:stock/fundamentals.csv}") Resource fundamentalsLocation
+    ) {
+        this.stockRepository = stockRepository;
+        this.fundamentalsLocation = fundamentalsLocation;
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("❌ 스크리너 색인 초기 생성 실패: location={}", fundamentalsLocation, e);
+        }
+    }
+
+    /**
+     * 🔄 주기적 재구성 - 신규 상장/재무 지표 갱신 반영
+     */
+    @Scheduled(
+            fixedDelayString = "${stock.master.reload-interval-ms:3600000}",
+            initialDelayString = "${stock.master.reload-interval-ms:3600000}"
+    )
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("❌ 스크리너 색인 재구성 실패 (기존 색인 유지): location={}", fundamentalsLocation, e);
+        }
+    }
+
+    public synchronized void rebuild() throws Exception {
+        long startedAt = System.nanoTime();
+
+        Map<String, StockFundamentals> fundamentals;
+        try (InputStream inputStream = fundamentalsLocation.getInputStream()) {
+            fundamentals = parser.parse(inputStream);
+        }
+        ScreenerIndex next = ScreenerIndex.build(stockRepository.findAll(), fundamentals);
+
+        index = next;
+
+        log.info("🔎 스크리너 색인 생성 완료: 종목 {}개, 재무 지표 {}개, {}ms",
+                next.size(), fundamentals.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    public ScreenerIndex.ScreenResult screen(ScreenCriteria criteria) {
+        return index.screen(criteria);
+    }
+
+    /**
+     * 종목 재무 지표 (없으면 null)
+     */
+    public StockFundamentals findFundamentals(String symbol) {
+        return index.findFundamentals(symbol);
+    }
+}
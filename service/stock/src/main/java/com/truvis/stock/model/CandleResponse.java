@@ -0,0 +1,31 @@
+package com.truvis.stock.model;
+
+import com.truvis.stock.domain.Candle;
+
+import java.math.BigDecimal;
+
+/**
+ * 봉 응답 DTO
+ *
+ * @param time 봉 시작 시각 (epoch ms)
+ */
+public record CandleResponse(
+        long time,
+        BigDecimal open,
+        BigDecimal high,
+        BigDecimal low,
+        BigDecimal close,
+        long volume
+) {
+
+    public static CandleResponse from(Candle candle) {
+        return new CandleResponse(
+                candle.openTime(),
+                candle.open(),
+                candle.high(),
+                candle.low(),
+                candle.close(),
+                candle.volume()
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.truvis.stock.model;
+
+import com.truvis.stock.domain.PriceAlert;
+
+import java.math.BigDecimal;
+
+/**
+ * 가격 알림 응답 DTO
+ */
+public record PriceAlertResponse(
+        long id,
+        String symbol,
+        String direction,
+        BigDecimal targetPrice
+) {
+
+    public static PriceAlertResponse from(PriceAlert alert) {
+        return new PriceAlertResponse(
+                alert.id(),
+                alert.symbol(),
+                alert.direction().name(),
+                alert.targetPrice()
+        );
+    }
+}
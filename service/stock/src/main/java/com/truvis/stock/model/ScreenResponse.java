@@ -0,0 +1,14 @@
+package com.truvis.stock.model;
+
+import java.util.List;
+
+/**
+ * 스크리너 응답 DTO
+ *
+ * @param totalCount 조건에 맞는 전체 종목 수 (stocks는 limit 만큼만)
+ */
+public record ScreenResponse(
+        int totalCount,
+        List<ScreenedStockResponse> stocks
+) {
+}
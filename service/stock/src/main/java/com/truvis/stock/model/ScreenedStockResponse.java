@@ -0,0 +1,44 @@
+package com.truvis.stock.model;
+
+import com.truvis.stock.domain.Quote;
+import com.truvis.stock.domain.Stock;
+import com.truvis.stock.domain.StockFundamentals;
+
+import java.math.BigDecimal;
+
+/**
+ * 스크리너 결과 종목 DTO
+ * - 재무 지표가 없는 항목은 null
+ */
+public record ScreenedStockResponse(
+        String symbol,
+        String name,
+        String market,
+        String sector,
+        BigDecimal currentPrice,
+        Long marketCap,
+        BigDecimal per,
+        BigDecimal pbr,
+        BigDecimal roe,
+        BigDecimal dividendYield,
+        BigDecimal debtRatio,
+        BigDecimal epsGrowth
+) {
+
+    public static ScreenedStockResponse of(Stock stock, StockFundamentals fundamentals, Quote quote) {
+        return new ScreenedStockResponse(
+                stock.getSymbol(),
+                stock.getName(),
+                stock.getMarket().name(),
+                stock.getSector(),
+                quote != null ? quote.lastPrice() : null,
+                fundamentals != null ? fundamentals.marketCap() : null,
+                fundamentals != null ? fundamentals.per() : null,
+                fundamentals != null ? fundamentals.pbr() : null,
+                fundamentals != null ? fundamentals.roe() : null,
+                fundamentals != null ? fundamentals.dividendYield() : null,
+                fundamentals != null ? fundamentals.debtRatio() : null,
+                fundamentals != null ? fundamentals.epsGrowth() : null
+        );
+    }
+}
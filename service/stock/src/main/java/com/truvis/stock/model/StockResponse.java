@@ -1,21 +1,43 @@
 package com.truvis.stock.model;
 
+import com.truvis.stock.domain.Quote;
+import com.truvis.stock.domain.Stock;
+
+import java.math.BigDecimal;
+
 /**
  * 종목 정보 응답 DTO
  * - 종목 검색/상세 조회 시 사용
- * 
- * TODO: 구현 필요
- * - symbol (종목 코드)
- * - name (종목명)
- * - currentPrice (현재가)
- * - changeRate (등락률)
- * - marketCap (시가총액)
- * - market (시장)
- * - sector (섹터)
+ * - 시세가 아직 들어오지 않은 종목은 currentPrice, changeRate가 null
+ * - marketCap은 재무 지표 파일에 없는 종목이면 null
  */
-public class StockResponse {
-    
-    // TODO: 필드 추가
-    
-    // TODO: 생성자/Getter/Setter
+public record StockResponse(
+        String symbol,
+        String name,
+        BigDecimal currentPrice,
+        BigDecimal changeRate,
+        Long marketCap,
+        String market,
+        String sector
+) {
+
+    public static StockResponse from(Stock stock) {
+        return from(stock, null);
+    }
+
+    public static StockResponse from(Stock stock, Quote quote) {
+        return from(stock, quote, null);
+    }
+
+    public static StockResponse from(Stock stock, Quote quote, Long marketCap) {
+        return new StockResponse(
+                stock.getSymbol(),
+                stock.getName(),
+                quote != null ? quote.lastPrice() : null,
+                quote != null ? quote.changeRate() : null,
+                marketCap,
+                stock.getMarket().name(),
+                stock.getSector()
+        );
+    }
 }
@@ -0,0 +1,37 @@
+package com.truvis.stock.repository;
+
+import com.truvis.stock.domain.AlertDirection;
+import com.truvis.stock.domain.PriceAlert;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 가격 알림 저장소
+ */
+public interface PriceAlertRepository {
+
+    /**
+     * 가격 알림 저장 (ID 발급)
+     *
+     * @return 사용자별 한도를 넘으면 empty
+     */
+    Optional<PriceAlert> save(String owner, String symbol, AlertDirection direction,
+                              BigDecimal targetPrice, int maxPerOwner);
+
+    Optional<PriceAlert> findById(long id);
+
+    List<PriceAlert> findByOwner(String owner);
+
+    /**
+     * 전체 알림 순회 (기동 시 색인 적재용)
+     */
+    void forEach(Consumer<PriceAlert> consumer);
+
+    /**
+     * @return 실제로 삭제되었으면 true (동시에 울림/취소된 경우 한쪽만 true)
+     */
+    boolean delete(PriceAlert alert);
+}
@@ -1,17 +1,44 @@
 package com.truvis.stock.repository;
 
+import com.truvis.stock.domain.Market;
+import com.truvis.stock.domain.Stock;
+
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 종목 저장/조회/검색 인터페이스
  * - 도메인 레이어의 Repository 정의
- * 
- * TODO: 구현 필요
- * - save() - 종목 정보 저장
- * - findBySymbol() - 종목 코드로 조회
- * - search() - 종목 검색 (이름, 코드)
- * - findByMarket() - 시장별 조회
- * - findBySector() - 섹터별 조회
+ * - 종목 마스터는 상장 목록 파일에서 일괄 로딩 (개별 저장 없음)
  */
 public interface StockRepository {
-    
-    // TODO: 메서드 정의
+
+    /**
+     * 종목 코드로 조회
+     */
+    Optional<Stock> findBySymbol(String symbol);
+
+    /**
+     * 종목 검색 (이름, 코드, 초성 접두사)
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 순위순 검색 결과
+     */
+    List<Stock> search(String query, int limit);
+
+    /**
+     * 시장별 조회
+     */
+    List<Stock> findByMarket(Market market);
+
+    /**
+     * 섹터별 조회
+     */
+    List<Stock> findBySector(String sector);
+
+    /**
+     * 전체 종목 (순위순)
+     */
+    List<Stock> findAll();
 }
@@ -0,0 +1,30 @@
+package com.truvis.stock.repository;
+
+import java.util.Set;
+
+/**
+ * 관심 종목 저장소
+ * - 사용자(이메일)별 종목 코드 집합
+ */
+public interface WatchlistRepository {
+
+    /**
+     * 관심 종목 추가
+     *
+     * @return ADDED, ALREADY_EXISTS, LIMIT_EXCEEDED 중 하나
+     */
+    AddResult add(String owner, String symbol, int maxSize);
+
+    /**
+     * @return 실제로 제거되었으면 true
+     */
+    boolean remove(String owner, String symbol);
+
+    Set<String> findSymbols(String owner);
+
+    enum AddResult {
+        ADDED,
+        ALREADY_EXISTS,
+        LIMIT_EXCEEDED
+    }
+}
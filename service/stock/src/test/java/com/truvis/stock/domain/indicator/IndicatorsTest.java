@@ -0,0 +1,133 @@
+package com.truvis.stock.domain.indicator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("기술적 지표 테스트")
+class IndicatorsTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    @DisplayName("SMA/EMA 기본 값")
+    void smaAndEma() {
+        // given
+        double[] close = {1, 2, 3, 4, 5, 6};
+        double[] sma = new double[close.length];
+        double[] ema = new double[close.length];
+
+        // when
+        Indicators.sma(close, 3, sma);
+        Indicators.ema(close, 3, ema);
+
+        // then
+        assertThat(sma).containsExactly(Double.NaN, Double.NaN, 2, 3, 4, 5);
+        assertThat(ema[2]).isEqualTo(2);             // 처음 3개 평균으로 시작
+        assertThat(ema[3]).isEqualTo(2 + 0.5 * 2);   // α = 2 / (3 + 1)
+    }
+
+    @Test
+    @DisplayName("계속 오르기만 하면 RSI 100, 변동이 없으면 50")
+    void rsiBounds() {
+        Rsi rising = new Rsi(3);
+        Rsi flat = new Rsi(3);
+        for (int i = 0; i < 10; i++) {
+            rising.update(100 + i);
+            flat.update(100);
+        }
+
+        assertThat(rising.value()).isEqualTo(100);
+        assertThat(flat.value()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("준비 기간에는 NaN")
+    void warmupIsNaN() {
+        Sma sma = new Sma(5);
+        Macd macd = Macd.standard();
+        for (int i = 0; i < 4; i++) {
+            sma.update(i);
+            macd.update(i);
+        }
+
+        assertThat(sma.isReady()).isFalse();
+        assertThat(macd.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("스트리밍 갱신 결과와 일괄 계산 결과가 같음")
+    void streamingMatchesBatch() {
+        // given: 임의 보행 가격 10,000개
+        int length = 10_000;
+        double[] close = new double[length];
+        double[] high = new double[length];
+        double[] low = new double[length];
+        Random random = new Random(42);
+        double price = 70_000;
+        for (int i = 0; i < length; i++) {
+            price = Math.max(1_000, price + random.nextGaussian() * 500);
+            close[i] = price;
+            high[i] = price + random.nextDouble() * 300;
+            low[i] = price - random.nextDouble() * 300;
+        }
+
+        double[] sma = new double[length];
+        double[] ema = new double[length];
+        double[] rsi = new double[length];
+        double[] macd = new double[length];
+        double[] signal = new double[length];
+        double[] histogram = new double[length];
+        double[] middle = new double[length];
+        double[] upper = new double[length];
+        double[] lower = new double[length];
+        double[] atr = new double[length];
+
+        // when
+        Indicators.sma(close, 20, sma);
+        Indicators.ema(close, 20, ema);
+        Indicators.rsi(close, 14, rsi);
+        Indicators.macd(close, 12, 26, 9, macd, signal, histogram);
+        Indicators.bollinger(close, 20, 2.0, middle, upper, lower);
+        Indicators.atr(high, low, close, 14, atr);
+
+        Sma streamingSma = new Sma(20);
+        Ema streamingEma = new Ema(20);
+        Rsi streamingRsi = new Rsi(14);
+        Macd streamingMacd = Macd.standard();
+        BollingerBands streamingBands = BollingerBands.standard();
+        Atr streamingAtr = new Atr(14);
+
+        // then
+        for (int i = 0; i < length; i++) {
+            streamingSma.update(high[i], low[i], close[i]);
+            streamingEma.update(high[i], low[i], close[i]);
+            streamingRsi.update(high[i], low[i], close[i]);
+            streamingMacd.update(high[i], low[i], close[i]);
+            streamingBands.update(high[i], low[i], close[i]);
+            streamingAtr.update(high[i], low[i], close[i]);
+
+            assertClose(streamingSma.value(), sma[i], i);
+            assertClose(streamingEma.value(), ema[i], i);
+            assertClose(streamingRsi.value(), rsi[i], i);
+            assertClose(streamingMacd.value(), macd[i], i);
+            assertClose(streamingMacd.signal(), signal[i], i);
+            assertClose(streamingMacd.histogram(), histogram[i], i);
+            assertClose(streamingBands.value(), middle[i], i);
+            assertClose(streamingBands.upper(), upper[i], i);
+            assertClose(streamingBands.lower(), lower[i], i);
+            assertClose(streamingAtr.value(), atr[i], i);
+        }
+    }
+
+    private static void assertClose(double streaming, double batch, int index) {
+        if (Double.isNaN(batch)) {
+            assertThat(streaming).as("index %d", index).isNaN();
+        } else {
+            assertThat(streaming).as("index %d", index).isCloseTo(batch, within(Math.abs(batch) * EPSILON + EPSILON));
+        }
+    }
+}
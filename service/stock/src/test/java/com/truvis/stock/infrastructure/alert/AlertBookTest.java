@@ -0,0 +1,100 @@
+package com.truvis.stock.infrastructure.alert;
+
+import com.truvis.stock.domain.AlertDirection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AlertBook 테스트")
+class AlertBookTest {
+
+    @Test
+    @DisplayName("상향 알림은 가격이 목표가 이상이 되면 넘은 구간만 울림")
+    void fireCrossedAboveRange() {
+        // given
+        AlertBook book = new AlertBook();
+        book.add(AlertDirection.ABOVE, 81_000, 1);
+        book.add(AlertDirection.ABOVE, 80_000, 2);
+        book.add(AlertDirection.ABOVE, 82_000, 3);
+        FiredAlerts fired = new FiredAlerts(4);
+
+        // when
+        int belowTarget = book.fire(79_900, fired);
+        int crossed = book.fire(81_000, fired);
+
+        // then
+        assertThat(belowTarget).isZero();
+        assertThat(crossed).isEqualTo(2);
+        assertThat(idsOf(fired)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(book.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("하향 알림은 가격이 목표가 이하가 되면 울림")
+    void fireCrossedBelowRange() {
+        // given
+        AlertBook book = new AlertBook();
+        book.add(AlertDirection.BELOW, 70_000, 1);
+        book.add(AlertDirection.BELOW, 75_000, 2);
+        book.add(AlertDirection.ABOVE, 90_000, 3);
+        FiredAlerts fired = new FiredAlerts(4);
+
+        // when
+        int crossed = book.fire(72_000, fired);
+
+        // then (상향 알림은 그대로)
+        assertThat(crossed).isEqualTo(1);
+        assertThat(idsOf(fired)).containsExactly(2L);
+        assertThat(fired.priceAt(0)).isEqualTo(72_000);
+        assertThat(book.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("취소한 알림은 울리지 않음 (같은 목표가 중 해당 알림만 제거)")
+    void removedAlertDoesNotFire() {
+        // given
+        AlertBook book = new AlertBook();
+        book.add(AlertDirection.ABOVE, 80_000, 1);
+        book.add(AlertDirection.ABOVE, 80_000, 2);
+        FiredAlerts fired = new FiredAlerts(4);
+
+        // when
+        boolean removed = book.remove(AlertDirection.ABOVE, 80_000, 1);
+        boolean removedAgain = book.remove(AlertDirection.ABOVE, 80_000, 1);
+        book.fire(80_000, fired);
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(removedAgain).isFalse();
+        assertThat(idsOf(fired)).containsExactly(2L);
+        assertThat(book.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 알림을 두 번 추가해도 한 번만 들어가고 한 번만 울림")
+    void duplicateAddIsIgnored() {
+        // given
+        AlertBook book = new AlertBook();
+        FiredAlerts fired = new FiredAlerts(4);
+
+        // when
+        boolean added = book.add(AlertDirection.BELOW, 70_000, 1);
+        boolean addedAgain = book.add(AlertDirection.BELOW, 70_000, 1);
+        book.add(AlertDirection.BELOW, 70_000, 2);
+        book.fire(70_000, fired);
+
+        // then
+        assertThat(added).isTrue();
+        assertThat(addedAgain).isFalse();
+        assertThat(idsOf(fired)).containsExactly(1L, 2L);
+    }
+
+    private static long[] idsOf(FiredAlerts fired) {
+        long[] ids = new long[fired.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = fired.idAt(i);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,71 @@
+package com.truvis.stock.infrastructure.alert;
+
+import com.truvis.stock.domain.AlertDirection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.SplittableRandom;
+
+import static com.truvis.common.benchmark.BenchmarkReporter.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 가격 알림 100만 건 벤치마크
+ * - 실행: ./gradlew :service:stock:test --tests '*PriceAlertBenchmark' -Dbenchmark=true
+ * - 2,000종목 × 500건, 목표가는 현재가 ±10% 안에 고르게 분포
+ * - 틱은 종목별로 ±0.05% 랜덤 워크 (대부분의 틱은 아무 알림도 넘지 않는다)
+ */
+@DisplayName("PriceAlert 벤치마크")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PriceAlertBenchmark {
+
+    private static final int SYMBOLS = 2_000;
+    private static final int ALERTS_PER_SYMBOL = 500;
+    private static final int TICKS = 20_000_000;
+    private static final long BASE_PRICE = 80_000L * 10_000;
+
+    @Test
+    @DisplayName("100만 건 등록 / 틱 처리")
+    void millionActiveAlerts() {
+        // given
+        SplittableRandom random = new SplittableRandom(42);
+        AlertBook[] books = new AlertBook[SYMBOLS];
+        long[] prices = new long[SYMBOLS];
+        long alertId = 0;
+
+        long start = System.nanoTime();
+        for (int symbol = 0; symbol < SYMBOLS; symbol++) {
+            books[symbol] = new AlertBook();
+            prices[symbol] = BASE_PRICE;
+            for (int i = 0; i < ALERTS_PER_SYMBOL; i++) {
+                long target = BASE_PRICE + random.nextLong(-BASE_PRICE / 10, BASE_PRICE / 10);
+                AlertDirection direction = target >= BASE_PRICE ? AlertDirection.ABOVE : AlertDirection.BELOW;
+                books[symbol].add(direction, target, ++alertId);
+            }
+        }
+        throughput("등록", start, alertId);
+
+        // when
+        FiredAlerts fired = new FiredAlerts(1024);
+        long triggered = 0;
+        start = System.nanoTime();
+        for (int tick = 0; tick < TICKS; tick++) {
+            int symbol = random.nextInt(SYMBOLS);
+            prices[symbol] += prices[symbol] * random.nextInt(-5, 6) / 10_000;
+            triggered += books[symbol].fire(prices[symbol], fired);
+            if (fired.size() >= 1024) {
+                fired.drain();
+            }
+        }
+        throughput("틱 처리", start, TICKS);
+
+        // then
+        long remaining = 0;
+        for (AlertBook book : books) {
+            remaining += book.size();
+        }
+        report("울린 알림 %,d건, 남은 알림 %,d건", triggered, remaining);
+        assertThat(triggered + remaining).isEqualTo(alertId);
+    }
+}
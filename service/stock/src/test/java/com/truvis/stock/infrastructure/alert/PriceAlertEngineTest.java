@@ -0,0 +1,124 @@
+package com.truvis.stock.infrastructure.alert;
+
+import com.truvis.stock.domain.AlertDirection;
+import com.truvis.stock.domain.PriceAlert;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import com.truvis.stock.repository.PriceAlertRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PriceAlertEngine 색인 테스트")
+class PriceAlertEngineTest {
+
+    private static final PriceAlert ALERT = new PriceAlert(
+            1L, "user@test.com", "005930", AlertDirection.ABOVE, new BigDecimal("80000"));
+
+    private QuoteStore quoteStore;
+    private FlakyPriceAlertRepository repository;
+    private PriceAlertEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        quoteStore = new QuoteStore(4);
+        repository = new FlakyPriceAlertRepository();
+        engine = new PriceAlertEngine(quoteStore, repository, null, event -> { }, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    @DisplayName("적재와 등록이 겹쳐 같은 알림이 두 번 와도 한 번만 센다")
+    void registerTwiceCountsOnce() {
+        // when
+        engine.register(ALERT);
+        engine.register(ALERT);
+
+        // then
+        assertThat(engine.getActiveCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 실패로 발송하지 못한 알림은 Redis가 돌아오면 색인에 되돌아온다")
+    void restoreAlertAfterDispatchFailure() throws Exception {
+        // given
+        repository.alerts.put(ALERT.id(), ALERT);
+        engine.register(ALERT);
+        int slot = quoteStore.findSlot(ALERT.symbol());
+        repository.failing = true;
+
+        // when: 울렸지만 조회가 실패
+        engine.onTick(slot, 0, QuoteStore.toScaled(new BigDecimal("80000")), 1);
+        engine.onBatchEnd();
+        waitUntil(() -> repository.lookups.get() >= 2);  // 발송 실패 + 복구 재시도
+        assertThat(engine.getActiveCount()).isZero();
+
+        repository.failing = false;
+        waitUntil(() -> engine.getActiveCount() == 1);
+
+        // then: Redis에도 색인에도 남아 있음
+        assertThat(repository.alerts).containsKey(ALERT.id());
+        assertThat(engine.getTriggeredCount()).isEqualTo(1);
+        assertThat(engine.getNotifiedCount()).isZero();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static class FlakyPriceAlertRepository implements PriceAlertRepository {
+
+        private final Map<Long, PriceAlert> alerts = new ConcurrentHashMap<>();
+        private final AtomicInteger lookups = new AtomicInteger();
+        private volatile boolean failing = false;
+
+        @Override
+        public Optional<PriceAlert> save(String owner, String symbol, AlertDirection direction,
+                                         BigDecimal targetPrice, int maxPerOwner) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<PriceAlert> findById(long id) {
+            lookups.incrementAndGet();
+            if (failing) {
+                throw new IllegalStateException("redis down");
+            }
+            return Optional.ofNullable(alerts.get(id));
+        }
+
+        @Override
+        public List<PriceAlert> findByOwner(String owner) {
+            return List.of();
+        }
+
+        @Override
+        public void forEach(Consumer<PriceAlert> consumer) {
+            alerts.values().forEach(consumer);
+        }
+
+        @Override
+        public boolean delete(PriceAlert alert) {
+            return alerts.remove(alert.id()) != null;
+        }
+    }
+}
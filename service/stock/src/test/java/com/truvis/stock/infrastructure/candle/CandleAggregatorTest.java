@@ -0,0 +1,143 @@
+package com.truvis.stock.infrastructure.candle;
+
+import com.truvis.stock.domain.Candle;
+import com.truvis.stock.domain.CandleInterval;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CandleAggregator 테스트")
+class CandleAggregatorTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long BASE = 1_700_000_040_000L - 1_700_000_040_000L % MINUTE;  // 분 경계
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("틱으로 1분봉 OHLCV 집계, 진행 중인 봉 포함")
+    void aggregateMinuteCandles() {
+        // given
+        QuoteStore quoteStore = new QuoteStore(4);
+        CandleFileStore fileStore = new CandleFileStore(tempDir.toString(), 100);
+        CandleAggregator aggregator = new CandleAggregator(quoteStore, fileStore, 10);
+        int slot = quoteStore.slotOf("005930");
+
+        // when: 첫 1분 동안 4틱, 다음 1분 1틱
+        aggregator.onTick(slot, BASE, price(100), 1);
+        aggregator.onTick(slot, BASE + 10_000, price(105), 2);
+        aggregator.onTick(slot, BASE + 20_000, price(98), 3);
+        aggregator.onTick(slot, BASE + 59_999, price(101), 4);
+        aggregator.onTick(slot, BASE + MINUTE, price(102), 5);
+        aggregator.onBatchEnd();
+
+        // then
+        List<Candle> candles = aggregator.recentCandles("005930", CandleInterval.MINUTE_1);
+        assertThat(candles).hasSize(2);
+        assertCandle(candles.get(0), BASE, 100, 105, 98, 101, 10);
+        assertCandle(candles.get(1), BASE + MINUTE, 102, 102, 102, 102, 5);
+
+        List<Candle> hourly = aggregator.recentCandles("005930", CandleInterval.HOUR_1);
+        assertThat(hourly).hasSize(1);
+        assertThat(hourly.get(0).volume()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("마감된 봉은 파일에 저장되고 이전 구간만 이진 탐색으로 읽음")
+    void closedCandlesGoToDisk() {
+        // given
+        QuoteStore quoteStore = new QuoteStore(4);
+        CandleFileStore fileStore = new CandleFileStore(tempDir.toString(), 1000);
+        CandleAggregator aggregator = new CandleAggregator(quoteStore, fileStore, 5);
+        int slot = quoteStore.slotOf("AAPL");
+        fileStore.start();
+
+        // when: 1분마다 1틱씩 20분 → 1분봉 19개 마감
+        for (int i = 0; i < 20; i++) {
+            aggregator.onTick(slot, BASE + i * MINUTE, price(100 + i), 1);
+        }
+        aggregator.onBatchEnd();
+        fileStore.stop();
+
+        // then: 메모리에는 최근 5개 + 진행 중 1개
+        List<Candle> recent = aggregator.recentCandles("AAPL", CandleInterval.MINUTE_1);
+        assertThat(recent).hasSize(6);
+        assertThat(recent.get(0).openTime()).isEqualTo(BASE + 14 * MINUTE);
+
+        // 파일에는 19개, 메모리 봉 이전 구간 조회
+        List<Candle> older = fileStore.readBefore("AAPL", CandleInterval.MINUTE_1, recent.get(0).openTime(), 3);
+        assertThat(older).extracting(Candle::openTime)
+                .containsExactly(BASE + 11 * MINUTE, BASE + 12 * MINUTE, BASE + 13 * MINUTE);
+        assertThat(older.get(2).close()).isEqualByComparingTo("113");
+    }
+
+    @Test
+    @DisplayName("거래량만 있는 틱은 진행 중인 봉의 거래량에만 더하고 가격은 바꾸지 않음")
+    void volumeOnlyTicksDoNotMovePrices() {
+        // given
+        QuoteStore quoteStore = new QuoteStore(4);
+        CandleAggregator aggregator = new CandleAggregator(quoteStore, new CandleFileStore(tempDir.toString(), 100), 10);
+        int slot = quoteStore.slotOf("005930");
+        int noTicks = quoteStore.slotOf("000660");
+        aggregator.onTick(slot, BASE, price(100), 1);
+
+        // when: 열린 봉에 2, 새 구간(열린 봉 없음)에 3, 시세 틱이 없던 종목에 4
+        aggregator.onVolume(slot, BASE + 10_000, 2);
+        aggregator.onVolume(slot, BASE + MINUTE, 3);
+        aggregator.onVolume(noTicks, BASE, 4);
+
+        // then
+        List<Candle> candles = aggregator.recentCandles("005930", CandleInterval.MINUTE_1);
+        assertThat(candles).hasSize(1);
+        assertCandle(candles.get(0), BASE, 100, 100, 100, 100, 3);
+        assertThat(aggregator.recentCandles("000660", CandleInterval.MINUTE_1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 구간 봉이 두 번 기록되면 읽을 때 합침 (재시작)")
+    void mergeDuplicatedCandlesOnRead() {
+        // given
+        CandleFileStore fileStore = new CandleFileStore(tempDir.toString(), 100);
+        fileStore.start();
+        fileStore.append(new ClosedCandle("AAPL", CandleInterval.MINUTE_1, BASE, price(100), price(110), price(95), price(105), 10));
+        fileStore.append(new ClosedCandle("AAPL", CandleInterval.MINUTE_1, BASE, price(104), price(108), price(90), price(107), 5));
+        fileStore.stop();
+
+        // when
+        List<Candle> candles = fileStore.readBefore("AAPL", CandleInterval.MINUTE_1, Long.MAX_VALUE, 10);
+
+        // then
+        assertThat(candles).hasSize(1);
+        assertCandle(candles.get(0), BASE, 100, 110, 90, 107, 15);
+    }
+
+    @Test
+    @DisplayName("1일봉은 한국 시간 자정 기준")
+    void dailyBucketUsesKst() {
+        long kstMidnight = 1_700_000_000_000L - (1_700_000_000_000L + 9 * 3_600_000L) % 86_400_000L;
+
+        assertThat(CandleInterval.DAY_1.bucketStart(kstMidnight + 1)).isEqualTo(kstMidnight);
+        assertThat(CandleInterval.DAY_1.bucketStart(kstMidnight - 1)).isEqualTo(kstMidnight - 86_400_000L);
+        assertThat(CandleInterval.fromCode("5m")).isEqualTo(CandleInterval.MINUTE_5);
+    }
+
+    private static long price(long value) {
+        return value * QuoteStore.PRICE_SCALE;
+    }
+
+    private static void assertCandle(Candle candle, long openTime, long open, long high, long low, long close, long volume) {
+        assertThat(candle.openTime()).isEqualTo(openTime);
+        assertThat(candle.open()).isEqualByComparingTo(String.valueOf(open));
+        assertThat(candle.high()).isEqualByComparingTo(String.valueOf(high));
+        assertThat(candle.low()).isEqualByComparingTo(String.valueOf(low));
+        assertThat(candle.close()).isEqualByComparingTo(String.valueOf(close));
+        assertThat(candle.volume()).isEqualTo(volume);
+    }
+}
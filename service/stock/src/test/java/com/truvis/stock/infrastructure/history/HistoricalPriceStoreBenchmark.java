@@ -0,0 +1,99 @@
+package com.truvis.stock.infrastructure.history;
+
+import com.truvis.stock.domain.CandleInterval;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+
+import static com.truvis.common.benchmark.BenchmarkReporter.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 10년치 분봉 읽기 벤치마크
+ * - 실행: ./gradlew :service:stock:test --tests '*HistoricalPriceStoreBenchmark' -Dbenchmark=true
+ * - 국내 정규장 기준 하루 381개 × 연 248일 × 10년 ≈ 94만 행 (열당 약 7.5MB)
+ */
+@DisplayName("HistoricalPriceStore 벤치마크")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class HistoricalPriceStoreBenchmark {
+
+    private static final int MINUTES_PER_DAY = 381;
+    private static final int DAYS = 248 * 10;
+    private static final long MINUTE = 60_000L;
+    private static final long DAY = 86_400_000L;
+    private static final int ROUNDS = 20;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("10년치 분봉 전체 순회 / 한 달 구간 자르기")
+    void readTenYearsOfMinuteBars() {
+        // given
+        HistoricalPriceStore store = new HistoricalPriceStore(tempDir.toString());
+        BarColumns bars = BarColumns.withCapacity(MINUTES_PER_DAY * 250);
+        long start = System.nanoTime();
+        for (int day = 0; day < DAYS; day++) {
+            long open = day * DAY + 9 * 3_600_000L;
+            for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+                long price = 700_000_000L + (day * 31L + minute * 7L) % 10_000_000L;
+                bars.add(open + minute * MINUTE, price, price + 1_000, price - 1_000, price, 100 + minute);
+            }
+            if (bars.size() >= MINUTES_PER_DAY * 248) {
+                store.append("005930", CandleInterval.MINUTE_1, bars);
+                bars.clear();
+            }
+        }
+        store.append("005930", CandleInterval.MINUTE_1, bars);
+        throughput("적재", start, (long) DAYS * MINUTES_PER_DAY);
+
+        ColumnarSeries series = store.open("005930", CandleInterval.MINUTE_1);
+        assertThat(series.size()).isEqualTo(DAYS * MINUTES_PER_DAY);
+
+        // when & then: 종가 열 전체 순회 (페이지 캐시 예열 후 측정)
+        long checksum = 0;
+        for (int round = 0; round < 3; round++) {
+            checksum += sumCloses(series);
+        }
+        start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            checksum += sumCloses(series);
+        }
+        throughput("종가 열 순회", start, (long) series.size() * ROUNDS);
+
+        // 전체 열 순회 (방문자)
+        long[] total = new long[1];
+        start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            series.forEach((time, open, high, low, close, volume) -> total[0] += close + volume);
+        }
+        throughput("6개 열 순회", start, (long) series.size() * ROUNDS);
+
+        // 한 달 구간 자르기 (이진 탐색 + 뷰 생성)
+        int slices = 100_000;
+        start = System.nanoTime();
+        long rows = 0;
+        for (int i = 0; i < slices; i++) {
+            long from = (i % (DAYS - 30)) * DAY;
+            rows += series.slice(from, from + 30 * DAY).size();
+        }
+        throughput("한 달 구간 자르기", start, slices);
+
+        assertThat(checksum).isPositive();
+        assertThat(total[0]).isPositive();
+        assertThat(rows).isPositive();
+    }
+
+    private static long sumCloses(ColumnarSeries series) {
+        LongBuffer closes = series.closes();
+        long sum = 0;
+        for (int i = 0, n = closes.limit(); i < n; i++) {
+            sum += closes.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,152 @@
+package com.truvis.stock.infrastructure.history;
+
+import com.truvis.stock.domain.CandleInterval;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HistoricalPriceStore 테스트")
+class HistoricalPriceStoreTest {
+
+    private static final long DAY = 86_400_000L;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("적재한 봉을 열 단위로 읽고 시각 구간으로 자름")
+    void appendAndSlice() {
+        // given: 일봉 10개
+        HistoricalPriceStore store = new HistoricalPriceStore(tempDir.toString());
+        store.append("005930", CandleInterval.DAY_1, bars(0, 10));
+
+        // when
+        ColumnarSeries series = store.open("005930", CandleInterval.DAY_1);
+        ColumnarSeries slice = store.slice("005930", CandleInterval.DAY_1, 3 * DAY, 6 * DAY);
+
+        // then
+        assertThat(series.size()).isEqualTo(10);
+        assertThat(slice.size()).isEqualTo(3);
+        assertThat(slice.time(0)).isEqualTo(3 * DAY);
+        assertThat(slice.close(2)).isEqualTo(1005);
+        assertThat(slice.tail(1).time(0)).isEqualTo(5 * DAY);
+
+        AtomicLong volume = new AtomicLong();
+        slice.forEach((time, open, high, low, close, v) -> volume.addAndGet(v));
+        assertThat(volume.get()).isEqualTo(3 + 4 + 5);
+    }
+
+    @Test
+    @DisplayName("이어서 적재하면 다시 매핑, 과거 시각은 거부")
+    void appendMoreAndRejectOutOfOrder() {
+        // given
+        HistoricalPriceStore store = new HistoricalPriceStore(tempDir.toString());
+        store.append("AAPL", CandleInterval.DAY_1, bars(0, 5));
+        assertThat(store.open("AAPL", CandleInterval.DAY_1).size()).isEqualTo(5);
+
+        // when
+        store.append("AAPL", CandleInterval.DAY_1, bars(5, 5));
+
+        // then
+        assertThat(store.open("AAPL", CandleInterval.DAY_1).size()).isEqualTo(10);
+        assertThatThrownBy(() -> store.append("AAPL", CandleInterval.DAY_1, bars(9, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("중단된 적재로 열 길이가 어긋나도 짧은 쪽 기준으로 읽고, 다음 적재 때 복구")
+    void repairTornAppend() throws Exception {
+        // given: close 열만 한 행 잘린 상태
+        HistoricalPriceStore store = new HistoricalPriceStore(tempDir.toString());
+        store.append("AAPL", CandleInterval.MINUTE_1, bars(0, 5));
+        Path close = tempDir.resolve("1m").resolve("AAPL").resolve("close.col");
+        try (FileChannel channel = FileChannel.open(close, StandardOpenOption.WRITE)) {
+            channel.truncate(4 * Long.BYTES);
+        }
+        HistoricalPriceStore reopened = new HistoricalPriceStore(tempDir.toString());
+        assertThat(reopened.open("AAPL", CandleInterval.MINUTE_1).size()).isEqualTo(4);
+
+        // when
+        reopened.append("AAPL", CandleInterval.MINUTE_1, bars(4, 2));
+
+        // then
+        ColumnarSeries series = reopened.open("AAPL", CandleInterval.MINUTE_1);
+        assertThat(series.size()).isEqualTo(6);
+        assertThat(series.close(5)).isEqualTo(1005);
+    }
+
+    @Test
+    @DisplayName("매핑을 넘겨준 종목은 어긋난 열을 잘라내지 않고 덮어써서, 기존 매핑이 계속 유효")
+    void repairKeepsHandedOutMappingsValid() throws Exception {
+        // given: close 열만 두 행 짧은 상태에서 조회 (4행 매핑을 넘겨줌)
+        HistoricalPriceStore store = new HistoricalPriceStore(tempDir.toString());
+        store.append("AAPL", CandleInterval.MINUTE_1, bars(0, 6));
+        Path directory = tempDir.resolve("1m").resolve("AAPL");
+        try (FileChannel channel = FileChannel.open(directory.resolve("close.col"), StandardOpenOption.WRITE)) {
+            channel.truncate(4 * Long.BYTES);
+        }
+        HistoricalPriceStore reopened = new HistoricalPriceStore(tempDir.toString());
+        ColumnarSeries handedOut = reopened.open("AAPL", CandleInterval.MINUTE_1);
+
+        // when: 한 행만 적재 (open 열의 옛 꼬리 6행째는 그대로 남음)
+        reopened.append("AAPL", CandleInterval.MINUTE_1, bars(4, 1));
+
+        // then
+        assertThat(Files.size(directory.resolve("open.col"))).isEqualTo(6 * Long.BYTES);
+        assertThat(handedOut.size()).isEqualTo(4);
+        assertThat(handedOut.close(3)).isEqualTo(1003);
+
+        ColumnarSeries series = reopened.open("AAPL", CandleInterval.MINUTE_1);
+        assertThat(series.size()).isEqualTo(5);
+        assertThat(series.time(4)).isEqualTo(4 * DAY);
+        assertThat(series.close(4)).isEqualTo(1004);
+    }
+
+    @Test
+    @DisplayName("매핑한 적 없는 종목은 적재 전에 어긋난 열을 공통 행 수로 잘라낸다")
+    void repairTruncatesBeforeAnyMapping() throws Exception {
+        // given
+        HistoricalPriceStore store = new HistoricalPriceStore(tempDir.toString());
+        store.append("AAPL", CandleInterval.MINUTE_1, bars(0, 6));
+        Path directory = tempDir.resolve("1m").resolve("AAPL");
+        try (FileChannel channel = FileChannel.open(directory.resolve("close.col"), StandardOpenOption.WRITE)) {
+            channel.truncate(4 * Long.BYTES);
+        }
+
+        // when
+        new HistoricalPriceStore(tempDir.toString()).append("AAPL", CandleInterval.MINUTE_1, bars(4, 1));
+
+        // then
+        assertThat(Files.size(directory.resolve("open.col"))).isEqualTo(5 * Long.BYTES);
+        assertThat(Files.size(directory.resolve("close.col"))).isEqualTo(5 * Long.BYTES);
+    }
+
+    @Test
+    @DisplayName("없는 종목은 빈 시계열, 경로 조작은 거부")
+    void emptyAndUnsafeSymbol() {
+        HistoricalPriceStore store = new HistoricalPriceStore(tempDir.toString());
+
+        assertThat(store.open("NONE", CandleInterval.DAY_1).isEmpty()).isTrue();
+        assertThatThrownBy(() -> store.open("../etc", CandleInterval.DAY_1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * from 번째 날부터 count 개 (종가 = 1000 + 날짜, 거래량 = 날짜)
+     */
+    private static BarColumns bars(int from, int count) {
+        BarColumns bars = BarColumns.withCapacity(count);
+        for (int day = from; day < from + count; day++) {
+            bars.add(day * DAY, 1000, 1010, 990, 1000 + day, day);
+        }
+        return bars;
+    }
+}
@@ -0,0 +1,84 @@
+package com.truvis.stock.infrastructure.index;
+
+import com.truvis.stock.domain.Market;
+import com.truvis.stock.domain.Stock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StockMasterIndex 테스트")
+class StockMasterIndexTest {
+
+    // 시가총액 순
+    private final StockMasterIndex index = StockMasterIndex.build(List.of(
+            Stock.of("AAPL", "Apple Inc.", Market.NASDAQ, "Technology"),
+            Stock.of("005930", "삼성전자", Market.KOSPI, "반도체"),
+            Stock.of("000660", "SK하이닉스", Market.KOSPI, "반도체"),
+            Stock.of("207940", "삼성바이오로직스", Market.KOSPI, "바이오"),
+            Stock.of("005935", "삼성전자우", Market.KOSPI, "반도체"),
+            Stock.of("006400", "삼성SDI", Market.KOSPI, "2차전지"),
+            Stock.of("035720", "카카오", Market.KOSPI, "인터넷"),
+            Stock.of("293490", "카카오게임즈", Market.KOSDAQ, "게임")
+    ), 20);
+
+    @Test
+    @DisplayName("종목명 접두사 검색은 시가총액 순으로 반환")
+    void searchByNamePrefix() {
+        // when
+        List<Stock> results = index.search("삼성", 10);
+
+        // then
+        assertThat(results).extracting(Stock::getSymbol)
+                .containsExactly("005930", "207940", "005935", "006400");
+    }
+
+    @Test
+    @DisplayName("초성 검색")
+    void searchByChosung() {
+        // when & then
+        assertThat(index.search("ㅅㅅㅈㅈ", 10)).extracting(Stock::getSymbol)
+                .containsExactly("005930", "005935");
+        assertThat(index.search("삼ㅅㅂ", 10)).extracting(Stock::getSymbol)
+                .containsExactly("207940");
+        assertThat(index.search("ㅋㅋㅇ", 10)).extracting(Stock::getSymbol)
+                .containsExactly("035720", "293490");
+    }
+
+    @Test
+    @DisplayName("대소문자/공백 무시, 단어 접두사 검색")
+    void searchIgnoresCaseAndWords() {
+        assertThat(index.search("sk하이", 10)).extracting(Stock::getSymbol).containsExactly("000660");
+        assertThat(index.search("apple inc", 10)).extracting(Stock::getSymbol).containsExactly("AAPL");
+        assertThat(index.search("게임즈", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("종목코드 정확히 일치하면 맨 앞")
+    void exactSymbolFirst() {
+        // when
+        List<Stock> results = index.search("005935", 10);
+
+        // then
+        assertThat(results).first().extracting(Stock::getSymbol).isEqualTo("005935");
+        assertThat(index.search("00593", 10)).extracting(Stock::getSymbol)
+                .containsExactly("005930", "005935");
+    }
+
+    @Test
+    @DisplayName("결과 수 제한")
+    void limitResults() {
+        assertThat(index.search("삼성", 2)).hasSize(2);
+        assertThat(index.search("없는종목", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("시장/섹터별 조회")
+    void findByMarketAndSector() {
+        assertThat(index.findByMarket(Market.KOSDAQ)).extracting(Stock::getSymbol).containsExactly("293490");
+        assertThat(index.findBySector("반도체")).hasSize(3);
+        assertThat(index.findBySymbol("aapl")).isNotNull();
+    }
+}
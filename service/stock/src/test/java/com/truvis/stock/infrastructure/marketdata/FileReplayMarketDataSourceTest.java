@@ -0,0 +1,111 @@
+package com.truvis.stock.infrastructure.marketdata;
+
+import com.truvis.stock.domain.Quote;
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("틱 재생 파이프라인 테스트")
+class FileReplayMarketDataSourceTest {
+
+    private static final int TICKS = 100_000;
+
+    @TempDir
+    Path tempDir;
+
+    private final QuoteStore quoteStore = new QuoteStore(16);
+    private final OrderCheckingListener listener = new OrderCheckingListener();
+    private final TickPipeline pipeline = new TickPipeline(quoteStore, List.of(listener), 1024, 256);
+
+    @AfterEach
+    void tearDown() {
+        pipeline.stop();
+    }
+
+    @Test
+    @DisplayName("바이너리 녹화 파일을 최대 속도로 재생하면 모든 틱이 순서대로 반영")
+    void replayBinary() throws Exception {
+        // given: 두 종목을 번갈아 가며 체결 (수량 1)
+        Path file = tempDir.resolve("ticks.bin");
+        try (BinaryTickFile.Writer writer = BinaryTickFile.create(file, List.of("005930", "AAPL"))) {
+            for (int i = 1; i <= TICKS; i++) {
+                writer.write(i % 2, 1_700_000_000_000L + i, i * QuoteStore.PRICE_SCALE, 0, 0, 1);
+            }
+        }
+        FileReplayMarketDataSource source = new FileReplayMarketDataSource(true, file.toString(), 0, false, false);
+
+        // when
+        pipeline.start();
+        source.start(pipeline);
+        awaitProcessed(TICKS);
+
+        // then
+        Quote samsung = quoteStore.findQuote("005930").orElseThrow();
+        Quote apple = quoteStore.findQuote("AAPL").orElseThrow();
+        assertThat(samsung.lastPrice()).isEqualByComparingTo(String.valueOf(TICKS));
+        assertThat(apple.lastPrice()).isEqualByComparingTo(String.valueOf(TICKS - 1));
+        assertThat(samsung.volume() + apple.volume()).isEqualTo(TICKS);
+        assertThat(listener.outOfOrder).isZero();
+        assertThat(pipeline.getMaxObservedBatch()).isLessThanOrEqualTo(256);
+    }
+
+    @Test
+    @DisplayName("CSV 녹화 파일 재생 (헤더 무시, 소수점 가격)")
+    void replayCsv() throws Exception {
+        // given
+        Path file = tempDir.resolve("ticks.csv");
+        Files.writeString(file, """
+                timestampMillis,symbol,price,bid,ask,volume
+                1700000000000,AAPL,189.5,189.49,189.51,100
+                1700000000001,005930,71400,71300,71400,10
+                1700000000002,AAPL,189.95,,,50
+                """);
+        FileReplayMarketDataSource source = new FileReplayMarketDataSource(true, file.toString(), 0, false, false);
+
+        // when
+        pipeline.start();
+        source.start(pipeline);
+        awaitProcessed(3);
+
+        // then
+        Quote apple = quoteStore.findQuote("AAPL").orElseThrow();
+        assertThat(apple.lastPrice()).isEqualByComparingTo("189.95");
+        assertThat(apple.bidPrice()).isEqualByComparingTo("189.49");  // 빈 호가는 이전 값 유지
+        assertThat(apple.volume()).isEqualTo(150);
+        assertThat(apple.updatedAt().toEpochMilli()).isEqualTo(1_700_000_000_002L);
+        assertThat(quoteStore.findQuote("005930").orElseThrow().lastPrice()).isEqualByComparingTo("71400");
+    }
+
+    private void awaitProcessed(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (pipeline.getProcessedCount() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(pipeline.getProcessedCount()).isEqualTo(expected);
+    }
+
+    /**
+     * 소비 스레드에서 틱 시각이 줄어드는지 확인
+     */
+    private static class OrderCheckingListener implements TickListener {
+
+        private long lastTimestamp = Long.MIN_VALUE;
+        private volatile long outOfOrder = 0;
+
+        @Override
+        public void onTick(int slot, long timestampMillis, long price, long volume) {
+            if (timestampMillis < lastTimestamp) {
+                outOfOrder++;
+            }
+            lastTimestamp = timestampMillis;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.truvis.stock.infrastructure.marketdata;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TickRingBuffer 테스트")
+class TickRingBufferTest {
+
+    @Test
+    @DisplayName("가득 찬 상태에서 종료로 대기를 포기한 생산자는 시퀀스를 남기지 않아, 이후 틱이 막히지 않는다")
+    void abortedPublishDoesNotStallConsumer() {
+        // given (칸 2개를 채운 상태)
+        TickRingBuffer ringBuffer = new TickRingBuffer(2);
+        List<Long> prices = new ArrayList<>();
+        assertThat(ringBuffer.publish(0, 1, 100, 0, 0, 1, () -> true)).isTrue();
+        assertThat(ringBuffer.publish(0, 2, 200, 0, 0, 1, () -> true)).isTrue();
+
+        // when (종료 중이라 대기를 포기)
+        boolean aborted = ringBuffer.publish(0, 3, 300, 0, 0, 1, () -> false);
+
+        // then
+        assertThat(aborted).isFalse();
+        assertThat(ringBuffer.drain((slot, timestamp, price, bid, ask, volume) -> prices.add(price), 10)).isEqualTo(2);
+
+        assertThat(ringBuffer.publish(0, 4, 400, 0, 0, 1, () -> true)).isTrue();
+        assertThat(ringBuffer.drain((slot, timestamp, price, bid, ask, volume) -> prices.add(price), 10)).isEqualTo(1);
+        assertThat(prices).containsExactly(100L, 200L, 400L);
+        assertThat(ringBuffer.backlog()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 발행해도 모든 틱이 빠짐없이 한 번씩 소비된다")
+    void concurrentProducers() throws Exception {
+        // given
+        TickRingBuffer ringBuffer = new TickRingBuffer(64);
+        int producers = 4;
+        int perProducer = 50_000;
+        long[] seen = new long[producers];
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            threads.add(new Thread(() -> {
+                for (int i = 1; i <= perProducer; i++) {
+                    ringBuffer.publish(producer, i, i, 0, 0, 1, () -> true);
+                }
+            }));
+        }
+
+        // when
+        threads.forEach(Thread::start);
+        long consumed = 0;
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (consumed < (long) producers * perProducer && System.currentTimeMillis() < deadline) {
+            consumed += ringBuffer.drain((slot, timestamp, price, bid, ask, volume) -> {
+                assertThat(price).isEqualTo(seen[slot] + 1);  // 생산자별 순서 유지
+                seen[slot] = price;
+            }, 128);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertThat(consumed).isEqualTo((long) producers * perProducer);
+        assertThat(seen).containsOnly((long) perProducer);
+    }
+
+    @Test
+    @DisplayName("비어 있어 잠든 소비자는 다음 틱이 발행되면 깨어난다")
+    void parkedConsumerWakesOnPublish() throws Exception {
+        // given
+        TickRingBuffer ringBuffer = new TickRingBuffer(4);
+        Thread consumer = new Thread(ringBuffer::awaitPublished);
+        consumer.start();
+        while (consumer.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+
+        // when
+        ringBuffer.publish(0, 1, 100, 0, 0, 1, () -> true);
+
+        // then
+        consumer.join(5_000);
+        assertThat(consumer.isAlive()).isFalse();
+        assertThat(ringBuffer.backlog()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 발행된 틱이 있으면 잠들지 않고 바로 반환한다")
+    void awaitReturnsWhenTickPending() {
+        // given
+        TickRingBuffer ringBuffer = new TickRingBuffer(4);
+        ringBuffer.publish(0, 1, 100, 0, 0, 1, () -> true);
+
+        // when
+        ringBuffer.awaitPublished();
+
+        // then
+        assertThat(ringBuffer.drain((slot, timestamp, price, bid, ask, volume) -> { }, 10)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,96 @@
+package com.truvis.stock.infrastructure.push;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PushSession 테스트")
+class PushSessionTest {
+
+    @Test
+    @DisplayName("같은 종목이 여러 번 바뀌어도 한 번만 전송 (병합)")
+    void conflateRepeatedUpdates() {
+        // given
+        PushSession session = new PushSession("user@test.com", new SseEmitter(), 64);
+
+        // when
+        boolean first = session.markDirty(3);
+        boolean second = session.markDirty(3);
+        boolean third = session.markDirty(7);
+
+        // then (예약은 한 번만, 꺼낼 때는 종목별 1건)
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(third).isFalse();
+        assertThat(session.drainDirty()).containsExactlyInAnyOrder(3, 7);
+        assertThat(session.drainDirty()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전송 중에 들어온 변경은 다시 예약")
+    void rescheduleWhenChangedDuringFlush() {
+        // given
+        PushSession session = new PushSession("user@test.com", new SseEmitter(), 64);
+        session.markDirty(1);
+        session.drainDirty();
+
+        // when (전송 도중 변경)
+        boolean scheduledByTick = session.markDirty(1);
+
+        // then (틱이 먼저 예약했으므로 전송 스레드는 다시 예약하지 않음)
+        assertThat(scheduledByTick).isTrue();
+        assertThat(session.rescheduleIfPending()).isFalse();
+        assertThat(session.drainDirty()).containsExactly(1);
+        assertThat(session.rescheduleIfPending()).isFalse();
+    }
+
+    @Test
+    @DisplayName("닫힌 세션은 예약하지 않음")
+    void closedSessionNotScheduled() {
+        // given
+        PushSession session = new PushSession("user@test.com", new SseEmitter(), 64);
+
+        // when
+        boolean firstClose = session.close();
+        boolean secondClose = session.close();
+
+        // then
+        assertThat(firstClose).isTrue();
+        assertThat(secondClose).isFalse();
+        assertThat(session.markDirty(1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기 중인 종목이 최대치면 새 종목은 버리고, 이미 대기 중인 종목은 병합")
+    void dropNewSlotsWhenPendingFull() {
+        // given
+        PushSession session = new PushSession("user@test.com", new SseEmitter(), 2);
+        session.markDirty(1);
+        session.markDirty(2);
+
+        // when
+        session.markDirty(3);
+        session.markDirty(1);
+
+        // then
+        assertThat(session.getDroppedCount()).isEqualTo(1);
+        assertThat(session.drainDirty()).containsExactlyInAnyOrder(1, 2);
+    }
+
+    @Test
+    @DisplayName("전송이 제한 시간을 넘기면 한 번만 느린 연결로 표시")
+    void markStalledOnlyWhenOverdue() {
+        // given
+        PushSession session = new PushSession("user@test.com", new SseEmitter(), 64);
+        session.sendStarted(1_000);
+
+        // when & then
+        assertThat(session.markStalledIfOverdue(1_500, 1_000)).isFalse();
+        assertThat(session.markStalledIfOverdue(2_500, 1_000)).isTrue();
+        assertThat(session.markStalledIfOverdue(3_500, 1_000)).isFalse();
+        assertThat(session.sendFinished()).isTrue();
+        assertThat(session.markStalledIfOverdue(9_000, 1_000)).isFalse();
+    }
+}
@@ -0,0 +1,187 @@
+package com.truvis.stock.infrastructure.push;
+
+import com.truvis.stock.infrastructure.quote.QuoteStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("QuotePushHub 테스트")
+class QuotePushHubTest {
+
+    private static final String SAMSUNG = "005930";
+    private static final String HYNIX = "000660";
+
+    private QuoteStore quoteStore;
+    private QuotePushHub hub;
+
+    @BeforeEach
+    void setUp() {
+        quoteStore = new QuoteStore(16);
+        // 전송 스레드 1개, 간격 없음, 200ms 넘게 걸리는 전송은 느린 연결
+        hub = new QuotePushHub(quoteStore, 0, 60_000, 1, 200, 64);
+        tick(SAMSUNG, 70_000);
+        tick(HYNIX, 180_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("연결하면 현재 시세를 먼저 보내고, 관심 종목 추가는 연결 중인 세션에 바로 반영")
+    void connectAndSubscribe() throws Exception {
+        // given
+        RecordingEmitter session = connect("a@test.com", List.of(SAMSUNG));
+        assertThat(session.next()).isEqualTo(SAMSUNG);
+
+        // when
+        hub.subscribe("a@test.com", HYNIX);
+
+        // then
+        assertThat(session.next()).isEqualTo(HYNIX);
+        assertThat(hub.getSubscriberCount(HYNIX)).isEqualTo(1);
+        assertThat(hub.getConnectedOwnerCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("틱이 오면 그 종목 구독자에게만 전송")
+    void fanOutToSubscribersOnly() throws Exception {
+        // given
+        RecordingEmitter first = connect("a@test.com", List.of(SAMSUNG));
+        RecordingEmitter second = connect("b@test.com", List.of(SAMSUNG));
+        RecordingEmitter other = connect("c@test.com", List.of(HYNIX));
+        first.next();
+        second.next();
+        other.next();
+
+        // when
+        tick(SAMSUNG, 70_100);
+
+        // then
+        assertThat(first.next()).isEqualTo(SAMSUNG);
+        assertThat(second.next()).isEqualTo(SAMSUNG);
+        assertThat(other.nextOrNull(100)).isNull();
+        assertThat(hub.getSubscriberCount(SAMSUNG)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전송이 막힌 느린 연결은 쫓아내고, 같은 전송 스레드를 쓰던 다른 구독자는 계속 받는다")
+    void evictSlowClient() throws Exception {
+        // given: 느린 연결이 하나뿐인 전송 스레드를 붙잡음
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = connect("slow@test.com", List.of(SAMSUNG), release);
+        assertThat(slow.next()).isEqualTo(SAMSUNG);
+
+        // when
+        RecordingEmitter fast = connect("fast@test.com", List.of(SAMSUNG));
+
+        // then
+        assertThat(fast.next()).isEqualTo(SAMSUNG);
+        assertThat(hub.getEvictedCount()).isEqualTo(1);
+        assertThat(hub.getSubscriberCount(SAMSUNG)).isEqualTo(1);
+
+        tick(SAMSUNG, 70_200);
+        assertThat(fast.next()).isEqualTo(SAMSUNG);
+
+        // 막힌 send 가 풀리면 느린 연결은 닫힌다
+        release.countDown();
+        assertThat(slow.awaitCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("관심 종목 제거 후에는 그 종목 틱을 보내지 않음")
+    void unsubscribe() throws Exception {
+        // given
+        RecordingEmitter session = connect("a@test.com", List.of(SAMSUNG, HYNIX));
+        session.next();
+        session.next();
+
+        // when
+        hub.unsubscribe("a@test.com", SAMSUNG);
+        tick(SAMSUNG, 70_300);
+        tick(HYNIX, 180_100);
+
+        // then
+        assertThat(session.next()).isEqualTo(HYNIX);
+        assertThat(session.nextOrNull(100)).isNull();
+        assertThat(hub.getSubscriberCount(SAMSUNG)).isEqualTo(0);
+    }
+
+    private void tick(String symbol, long price) {
+        int slot = quoteStore.slotOf(symbol);
+        long scaled = price * QuoteStore.PRICE_SCALE;
+        quoteStore.update(slot, scaled, scaled, scaled, 1, System.currentTimeMillis());
+        hub.onTick(slot, System.currentTimeMillis(), scaled, 1);
+        hub.onBatchEnd();
+    }
+
+    private RecordingEmitter connect(String owner, List<String> symbols) {
+        return connect(owner, symbols, null);
+    }
+
+    private RecordingEmitter connect(String owner, List<String> symbols, CountDownLatch blockUntil) {
+        RecordingEmitter emitter = new RecordingEmitter(blockUntil);
+        hub.connect(owner, symbols, emitter);
+        return emitter;
+    }
+
+    /**
+     * 받은 시세의 종목 코드를 기록 (blockUntil 이 있으면 기록한 뒤 send 가 그때까지 막힘 → 느린 연결)
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch blockUntil;
+
+        RecordingEmitter(CountDownLatch blockUntil) {
+            this.blockUntil = blockUntil;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof QuotePush push) {
+                    received.add(push.symbol());
+                }
+            }
+            if (blockUntil != null) {
+                try {
+                    blockUntil.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        String next() throws InterruptedException {
+            return received.poll(2, TimeUnit.SECONDS);
+        }
+
+        String nextOrNull(long millis) throws InterruptedException {
+            return received.poll(millis, TimeUnit.MILLISECONDS);
+        }
+
+        boolean awaitCompleted() throws InterruptedException {
+            return completed.await(2, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.truvis.stock.infrastructure.quote;
+
+import com.truvis.stock.domain.Quote;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("QuoteStore 테스트")
+class QuoteStoreTest {
+
+    @Test
+    @DisplayName("갱신한 시세를 그대로 조회")
+    void updateAndRead() {
+        // given
+        QuoteStore store = new QuoteStore(16);
+        int slot = store.slotOf("005930");
+        store.updatePreviousClose(slot, QuoteStore.toScaled(new BigDecimal("70000")));
+
+        // when
+        store.update(slot,
+                QuoteStore.toScaled(new BigDecimal("71400")),
+                QuoteStore.toScaled(new BigDecimal("71300")),
+                QuoteStore.toScaled(new BigDecimal("71400")),
+                1_234_567, 1_700_000_000_000L);
+
+        // then
+        Quote quote = store.findQuote("005930").orElseThrow();
+        assertThat(quote.lastPrice()).isEqualByComparingTo("71400");
+        assertThat(quote.lastPrice().toPlainString()).isEqualTo("71400");
+        assertThat(quote.bidPrice()).isEqualByComparingTo("71300");
+        assertThat(quote.volume()).isEqualTo(1_234_567);
+        assertThat(quote.changeRate()).isEqualByComparingTo("2.00");
+    }
+
+    @Test
+    @DisplayName("소수점 가격(달러)도 손실 없이 저장")
+    void fractionalPrice() {
+        QuoteStore store = new QuoteStore(16);
+        int slot = store.slotOf("AAPL");
+
+        store.update(slot, QuoteStore.toScaled(new BigDecimal("189.95")), 0, 0, 0, 1L);
+
+        assertThat(store.findQuote("AAPL").orElseThrow().lastPrice()).isEqualByComparingTo("189.95");
+    }
+
+    @Test
+    @DisplayName("슬롯은 종목마다 한 번만 배정되고, 시세 없는 종목은 비어 있음")
+    void slotAssignment() {
+        QuoteStore store = new QuoteStore(2);
+
+        assertThat(store.slotOf("A")).isEqualTo(store.slotOf("A"));
+        assertThat(store.findSlot("B")).isEqualTo(QuoteStore.NO_SLOT);
+        assertThat(store.findQuote("A")).isEmpty();
+
+        store.slotOf("B");
+        assertThatThrownBy(() -> store.slotOf("C")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("동시 갱신 중에도 찢어진 시세를 읽지 않음")
+    void noTornReads() throws InterruptedException {
+        // given: 모든 필드를 같은 값으로 갱신하는 writer
+        QuoteStore store = new QuoteStore(4);
+        int slot = store.slotOf("005930");
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        Thread writer = new Thread(() -> {
+            long i = 1;
+            while (running.get()) {
+                store.update(slot, i, i, i, i, i);
+                i++;
+            }
+        });
+
+        // when
+        AtomicLong torn = new AtomicLong();
+        writer.start();
+        long[] values = new long[6];
+        for (int n = 0; n < 1_000_000; n++) {
+            store.read(slot, values);
+            if (values[0] != values[1] || values[1] != values[2]
+                    || values[2] != values[3] || values[3] != values[4]) {
+                torn.incrementAndGet();
+            }
+        }
+        running.set(false);
+        writer.join();
+
+        // then
+        assertThat(torn.get()).isZero();
+    }
+}
@@ -0,0 +1,109 @@
+package com.truvis.stock.infrastructure.screener;
+
+import com.truvis.stock.domain.Market;
+import com.truvis.stock.domain.ScreenCriteria;
+import com.truvis.stock.domain.ScreenerField;
+import com.truvis.stock.domain.Stock;
+import com.truvis.stock.domain.StockFundamentals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ScreenerIndex 테스트")
+class ScreenerIndexTest {
+
+    private ScreenerIndex index;
+
+    @BeforeEach
+    void setUp() {
+        List<Stock> stocks = List.of(
+                Stock.of("005930", "삼성전자", Market.KOSPI, "반도체"),
+                Stock.of("000660", "SK하이닉스", Market.KOSPI, "반도체"),
+                Stock.of("005380", "현대차", Market.KOSPI, "자동차"),
+                Stock.of("105560", "KB금융", Market.KOSPI, "금융"),
+                Stock.of("247540", "에코프로비엠", Market.KOSDAQ, "2차전지"),
+                Stock.of("293490", "카카오게임즈", Market.KOSDAQ, "게임")
+        );
+        Map<String, StockFundamentals> fundamentals = Map.of(
+                "005930", fundamentals("005930", 430_000L, "15.20", "1.20", "8.60"),
+                "000660", fundamentals("000660", 130_000L, "8.10", "1.80", "24.10"),
+                "005380", fundamentals("005380", 50_000L, "4.60", "0.60", "13.20"),
+                "105560", fundamentals("105560", 32_000L, "6.80", "0.62", "9.40"),
+                "247540", fundamentals("247540", 15_000L, null, "5.90", "-5.60")
+                // 293490은 재무 지표 없음
+        );
+        index = ScreenerIndex.build(stocks, fundamentals);
+    }
+
+    @Test
+    @DisplayName("시장/섹터 조건은 값끼리 OR, 조건끼리 AND")
+    void combineCategoricalConditions() {
+        // given
+        ScreenCriteria criteria = new ScreenCriteria(
+                Set.of(Market.KOSPI, Market.KOSDAQ), Set.of("반도체", "게임"), null, null, false, 10);
+
+        // when
+        ScreenerIndex.ScreenResult result = index.screen(criteria);
+
+        // then (순위순)
+        assertThat(result.totalCount()).isEqualTo(3);
+        assertThat(symbols(result)).containsExactly("005930", "000660", "293490");
+    }
+
+    @Test
+    @DisplayName("숫자 범위는 양 끝 포함, 값이 없는 종목은 제외")
+    void numericRangesAreInclusive() {
+        // given (PER 10 이하 + ROE 9.4 이상)
+        ScreenCriteria criteria = new ScreenCriteria(null, null, List.of(
+                new ScreenCriteria.Range(ScreenerField.PER, null, new BigDecimal("10")),
+                new ScreenCriteria.Range(ScreenerField.ROE, new BigDecimal("9.4"), null)
+        ), null, false, 10);
+
+        // when
+        ScreenerIndex.ScreenResult result = index.screen(criteria);
+
+        // then
+        assertThat(symbols(result)).containsExactly("000660", "005380", "105560");
+    }
+
+    @Test
+    @DisplayName("정렬 항목 순서로 limit 만큼, 값이 없는 종목은 뒤로")
+    void sortByFieldWithLimit() {
+        // given
+        ScreenCriteria byPer = new ScreenCriteria(null, null, null, ScreenerField.PER, true, 10);
+        ScreenCriteria topTwoByRoe = new ScreenCriteria(null, null, null, ScreenerField.ROE, false, 2);
+
+        // when
+        ScreenerIndex.ScreenResult perResult = index.screen(byPer);
+        ScreenerIndex.ScreenResult roeResult = index.screen(topTwoByRoe);
+
+        // then
+        assertThat(symbols(perResult)).containsExactly("005380", "105560", "000660", "005930", "247540", "293490");
+        assertThat(roeResult.totalCount()).isEqualTo(6);
+        assertThat(symbols(roeResult)).containsExactly("000660", "005380");
+    }
+
+    private static StockFundamentals fundamentals(String symbol, long marketCap, String per, String pbr, String roe) {
+        return new StockFundamentals(
+                symbol,
+                marketCap,
+                per != null ? new BigDecimal(per) : null,
+                new BigDecimal(pbr),
+                new BigDecimal(roe),
+                null
+        );
+    }
+
+    private static List<String> symbols(ScreenerIndex.ScreenResult result) {
+        return result.entries().stream()
+                .map(entry -> entry.stock().getSymbol())
+                .toList();
+    }
+}
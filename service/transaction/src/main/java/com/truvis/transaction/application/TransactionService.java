@@ -19,6 +19,7 @@ import java.util.List;
 public class TransactionService {
 
     private final TransactionRepository transactionRepository;
+    private final HoldingLimitPolicy holdingLimitPolicy;
 
     /**
      * 거래 실행
@@ -47,7 +48,12 @@ public class TransactionService {
 
         log.debug("거래 객체 생성 완료: {}", transaction.getDescription());
 
-        // 2. 저장 (자동으로 도메인 이벤트 발행!)
+        // 2. 보유 종목 수 한도 확인 (한도를 넘는 새 종목 매수는 저장하지 않고 거절)
+        if (type.isBuy()) {
+            holdingLimitPolicy.checkBuy(userId, stockCode);
+        }
+
+        // 3. 저장 (자동으로 도메인 이벤트 발행!)
         Transaction saved = transactionRepository.save(transaction);
 
         log.info("✅ 거래 실행 완료: id={}, totalAmount={}원",
@@ -0,0 +1,15 @@
+package com.truvis.transaction.domain;
+
+/**
+ * 매수 접수 전 보유 종목 수 한도 확인 (포트폴리오 모듈이 구현)
+ * - 거래를 저장하는 트랜잭션 안에서 호출 → 한도를 넘는 새 종목 매수는 저장 전에 거절
+ * - 보유 종목 프로젝션은 비동기라 늦을 수 있으므로 구현체는 거래 내역 기준으로 센다
+ * - 구현체는 잠그지 않고 버전 검사로 동시 매수를 막는다 → 커밋 시 충돌할 수 있으므로 호출자가 트랜잭션을 통째로 재시도
+ */
+public interface HoldingLimitPolicy {
+
+    /**
+     * @throws com.truvis.common.exception.PortfolioException 보유 종목 수 한도 초과
+     */
+    void checkBuy(Long userId, String stockCode);
+}
@@ -112,6 +112,17 @@ public class Transaction extends AggregateRoot<Long> {
         return transaction;
     }
 
+    /**
+     * 저장 직후 거래 ID를 담아 완료 이벤트를 다시 만든다
+     * - execute() 시점에는 ID가 없어서 이벤트의 transactionId가 null
+     * - 포트폴리오 반영은 거래 ID로 중복/순서를 판단하므로 ID가 필수
+     */
+    @PostPersist
+    void refreshDomainEventsWithId() {
+        clearDomainEvents();
+        addDomainEvent(TransactionCompletedEvent.of(this));
+    }
+
     /**
      * 총액 계산 (단가 × 수량)
      */
@@ -24,6 +24,21 @@ public interface TransactionRepository {
      */
     List<Transaction> findByUserIdAndStockCode(Long userId, String stockCode);
 
+    /**
+     * 사용자가 현재 보유 중인 종목 코드 (매수 - 매도 수량 합계 > 0)
+     */
+    List<String> findOpenStockCodes(Long userId);
+
+    /**
+     * 거래가 있는 모든 사용자 ID (포트폴리오 재구성용)
+     */
+    List<Long> findDistinctUserIds();
+
+    /**
+     * 사용자 ID 구간 [fromUserId, toUserId]의 거래 (사용자 ID, 체결 시각 순 - 포트폴리오 일괄 수익률 계산용)
+     */
+    List<Transaction> findByUserIdBetween(Long fromUserId, Long toUserId);
+
     /**
      * 거래 삭제
      */
@@ -41,14 +41,7 @@ public class TransactionEventListener {
         try {
             // 실제 비즈니스 로직 처리
 
-            // 1. Portfolio 업데이트 (나중에 구현)
-            if (event.isBuyTransaction()) {
-                log.info("📊 [TODO] Portfolio 업데이트: 매수 {}주 추가", event.getQuantity());
-                // portfolioService.addHolding(event.getUserId(), event.getStockCode(), event.getQuantity());
-            } else {
-                log.info("📊 [TODO] Portfolio 업데이트: 매도 {}주 감소", event.getQuantity());
-                // portfolioService.removeHolding(event.getUserId(), event.getStockCode(), event.getQuantity());
-            }
+            // 1. Portfolio 업데이트 → portfolio 모듈(TransactionProjectionListener)이 커밋 후 반영
 
             // 2. 알림 발송 (나중에 구현)
             log.info("📬 [TODO] 거래 완료 알림 발송: {}", event.getDescription());
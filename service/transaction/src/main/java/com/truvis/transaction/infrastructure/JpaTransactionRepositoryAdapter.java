@@ -34,6 +34,20 @@ interface TransactionJpaRepository extends JpaRepository<Transaction, Long> {
             @Param("userId") Long userId,
             @Param("stockCode") String stockCode
     );
+
+    /**
+     * 수량 합계가 남아 있는 종목 (보유 종목 수 한도 확인용)
+     */
+    @Query("SELECT t.stockCode.value FROM Transaction t WHERE t.userId = :userId "
+            + "GROUP BY t.stockCode.value "
+            + "HAVING SUM(CASE WHEN t.type = com.truvis.transaction.domain.TransactionType.BUY "
+            + "THEN t.quantity.value ELSE -t.quantity.value END) > 0")
+    List<String> findOpenStockCodes(@Param("userId") Long userId);
+
+    @Query("SELECT DISTINCT t.userId FROM Transaction t")
+    List<Long> findDistinctUserIds();
+
+    List<Transaction> findByUserIdBetweenOrderByUserIdAscExecutedAtAscIdAsc(Long fromUserId, Long toUserId);
 }
 
 /**
@@ -92,6 +106,21 @@ public class JpaTransactionRepositoryAdapter implements TransactionRepository {
         return jpaRepository.findByUserIdAndStockCode(userId, stockCode);
     }
 
+    @Override
+    public List<String> findOpenStockCodes(Long userId) {
+        return jpaRepository.findOpenStockCodes(userId);
+    }
+
+    @Override
+    public List<Long> findDistinctUserIds() {
+        return jpaRepository.findDistinctUserIds();
+    }
+
+    @Override
+    public List<Transaction> findByUserIdBetween(Long fromUserId, Long toUserId) {
+        return jpaRepository.findByUserIdBetweenOrderByUserIdAscExecutedAtAscIdAsc(fromUserId, toUserId);
+    }
+
     @Override
     public void delete(Transaction transaction) {
         jpaRepository.delete(transaction);
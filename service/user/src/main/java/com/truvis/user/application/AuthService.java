@@ -2,13 +2,14 @@ package com.truvis.user.application;
 
 import com.truvis.common.exception.MemberException;
 import com.truvis.common.security.JwtTokenProvider;
+import com.truvis.common.security.RefreshTokenClaims;
 import com.truvis.common.security.TokenBlacklistService;
 import com.truvis.user.domain.User;
 import com.truvis.user.model.LoginRequest;
 import com.truvis.user.model.LoginResponse;
 import com.truvis.user.model.TokenResponse;
 import com.truvis.user.domain.UserRepository;
-import com.truvis.user.infrastructure.RedisRefreshTokenRepository;
+import com.truvis.user.infrastructure.RedisUserSessionRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -26,20 +27,20 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisRefreshTokenRepository refreshTokenRepository;
+    private final RedisUserSessionRepository sessionRepository;
     private final TokenBlacklistService tokenBlacklistService;
 
     public AuthService(
             UserRepository userRepository,
             PasswordEncoder passwordEncoder,
             JwtTokenProvider jwtTokenProvider,
-            RedisRefreshTokenRepository refreshTokenRepository,
+            RedisUserSessionRepository sessionRepository,
             TokenBlacklistService tokenBlacklistService
     ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
-        this.refreshTokenRepository = refreshTokenRepository;
+        this.sessionRepository = sessionRepository;
         this.tokenBlacklistService = tokenBlacklistService;
     }
 
@@ -60,12 +61,13 @@ public class AuthService {
         String accessToken = jwtTokenProvider.createToken(user.getEmailValue());
         Date accessTokenExpiresAt = jwtTokenProvider.getExpirationDate(accessToken);
         
-        // 5. RefreshToken 생성
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmailValue());
+        // 5. RefreshToken 생성 (기기별 세션)
+        String sessionId = sessionRepository.resolveSessionId(request.deviceId());
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmailValue(), user.getId(), sessionId);
         Date refreshTokenExpiresAt = jwtTokenProvider.getExpirationDate(refreshToken);
         
-        // 6. RefreshToken을 Redis에 저장
-        refreshTokenRepository.save(user.getId(), refreshToken);
+        // 6. 세션을 Redis에 저장 (동시 세션 수 초과 시 가장 오래된 세션 제거)
+        sessionRepository.save(user.getId(), user.getEmailValue(), sessionId, refreshToken, refreshTokenExpiresAt.getTime());
 
         // 7. 응답 반환
         return LoginResponse.of(
@@ -78,28 +80,20 @@ public class AuthService {
     
     /**
      * 토큰 갱신
+     * - 사용자 조회 없이 Redis 한 번으로 사용자 + 세션 + 토큰 검증
      */
     public TokenResponse refresh(String refreshToken) {
-        // 1. RefreshToken 유효성 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw MemberException.invalidRefreshToken();
-        }
-        
-        // 2. 토큰에서 email 추출
-        String email = jwtTokenProvider.getEmail(refreshToken);
-        
-        // 3. 사용자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> MemberException.userNotFoundByEmail(email));
+        // 1. RefreshToken 유효성 검증 + 클레임 추출 (한 번만 파싱)
+        RefreshTokenClaims claims = jwtTokenProvider.parseRefreshToken(refreshToken)
+                .orElseThrow(MemberException::invalidRefreshToken);
         
-        // 4. Redis에 저장된 RefreshToken과 비교
-        String savedToken = refreshTokenRepository.findByUserId(user.getId());
-        if (savedToken == null || !savedToken.equals(refreshToken)) {
+        // 2. Redis 세션과 비교 (삭제된 회원, 로그아웃/밀려난 세션, 재발급된 토큰은 거절)
+        if (!sessionRepository.isActive(claims.userId(), claims.email(), claims.sessionId(), refreshToken)) {
             throw MemberException.invalidRefreshToken();
         }
         
-        // 5. 새로운 AccessToken 발급
-        String newAccessToken = jwtTokenProvider.createToken(user.getEmailValue());
+        // 3. 새로운 AccessToken 발급
+        String newAccessToken = jwtTokenProvider.createToken(claims.email());
         Date expiresAt = jwtTokenProvider.getExpirationDate(newAccessToken);
         
         return TokenResponse.of(newAccessToken, toLocalDateTime(expiresAt));
@@ -119,25 +113,16 @@ public class AuthService {
             log.warn("AccessToken이 유효하지 않음");
         }
 
-        // 2. RefreshToken 검증 및 사용자 조회
-        log.info("RefreshToken 검증 시작");
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        // 2. RefreshToken 검증 및 세션 정보 추출
+        RefreshTokenClaims claims = jwtTokenProvider.parseRefreshToken(refreshToken).orElse(null);
+        if (claims == null) {
             log.warn("RefreshToken이 유효하지 않음");
             return;
         }
         
-        String email = jwtTokenProvider.getEmail(refreshToken);
-        log.info("RefreshToken에서 추출한 email: {}", email);
-        
-        User user = userRepository.findByEmail(email).orElse(null);
-        if (user == null) {
-            log.warn("사용자를 찾을 수 없음: {}", email);
-            return;
-        }
-        
-        // 3. Redis에서 RefreshToken 삭제
-        refreshTokenRepository.delete(user.getId());
-        log.info("로그아웃 완료");
+        // 3. Redis에서 해당 기기 세션만 삭제 (다른 기기는 유지)
+        sessionRepository.delete(claims.userId(), claims.sessionId());
+        log.info("로그아웃 완료: userId={}, sessionId={}", claims.userId(), claims.sessionId());
     }
     
     /**
@@ -8,9 +8,9 @@ import com.truvis.notification.event.NotificationRequestedEvent;
 import com.truvis.notification.infrastructure.NotificationStatusRepository;
 import com.truvis.user.domain.Email;
 import com.truvis.user.domain.EmailVerification;
+import com.truvis.user.domain.EmailVerificationAttemptResult;
 import com.truvis.user.domain.EmailVerificationRepository;
 import com.truvis.user.domain.UserRepository;
-import com.truvis.user.infrastructure.RedisEmailVerificationRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -70,97 +70,42 @@ public class EmailVerificationService {
 
     /**
      * 인증번호 검증
+     * - 비교/실패 횟수/인증 완료 처리를 저장소에서 한 번에 (Redis 1 RTT)
      */
     @Transactional
     public String verifyEmailCode(String emailValue, String codeValue) {
         // 1. Value Object 생성
         Email email = Email.of(emailValue);
 
-        // 2. 알림 발송 상태 확인 및 대기
-        waitForEmailSent(emailValue);
+        // 2. 검증 시도 (일치하면 인증 완료 마크까지 저장됨)
+        EmailVerificationAttemptResult result = verificationRepository.verifyCode(email, codeValue);
 
-
-        // 2. 도메인 객체 조회
-        EmailVerification verification = verificationRepository.findByEmail(email)
-                .orElseThrow(() -> EmailVerificationException.expiredCode());
-
-        // 3. 도메인 객체에게 검증 요청!
-        try {
-            verification.verify(codeValue);
-        } catch (IllegalStateException e) {
-            throw EmailVerificationException.expiredCode();
-        } catch (IllegalArgumentException e) {
-            throw EmailVerificationException.invalidCode();
-        }
-
-        // 4. 인증 완료 상태 저장 (VERIFIED로 변경)
-        verificationRepository.save(verification);
-
-        // ⭐ 5. 인증 완료 마크 저장
-        if (verificationRepository instanceof RedisEmailVerificationRepository) {
-            ((RedisEmailVerificationRepository) verificationRepository)
-                    .saveVerifiedStatus(email);
-            log.info("인증 완료 마크 저장: email={}", email.getValue());
+        // 3. 실패 시: 요청이 없다면 메일 발송 실패 여부를 먼저 확인해서 알려줌
+        if (!result.isVerified()) {
+            log.info("이메일 인증 실패: email={}, result={}", email.getValue(), result);
+            if (result == EmailVerificationAttemptResult.NOT_FOUND) {
+                checkEmailSendFailed(emailValue);
+            }
+            result.throwIfFailed();
         }
 
         log.info("이메일 인증 완료: email={}", email.getValue());
 
-        // 6. 이메일 반환
+        // 4. 이메일 반환
         return email.getValue();
     }
 
     /**
-     * 🎯 이메일 발송 완료 대기 (스마트 폴링)
-     * - 최대 5초 대기
-     * - 0.5초마다 상태 확인
+     * 🎯 이메일 발송 실패 확인
+     * - 인증 요청이 없을 때만 호출 (성공 경로에서는 조회하지 않음)
      */
-    private void waitForEmailSent(String email) {
-        final int MAX_ATTEMPTS = 10;  // 0.5초 * 10 = 5초
-        final long POLL_INTERVAL_MS = 500;  // 0.5초
-
-        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
-            // Redis에서 알림 상태 조회
-            Notification notification = notificationStatusRepository.findLatestByRecipient(email);
-
-            if (notification == null) {
-                // 알림이 없으면 바로 진행 (Redis에 없을 수도 있음)
-                log.debug("알림 상태 없음, 검증 진행: email={}", email);
-                return;
-            }
+    private void checkEmailSendFailed(String email) {
+        Notification notification = notificationStatusRepository.findLatestByRecipient(email);
 
-            if (notification.isSent()) {
-                // ✅ 발송 완료! 검증 진행
-                log.info("✅ 이메일 발송 완료 확인: email={}, attempt={}", email, attempt);
-                return;
-            }
-
-            if (notification.isFailed()) {
-                // ❌ 발송 실패
-                log.warn("❌ 이메일 발송 실패: email={}", email);
-                throw EmailVerificationException.emailSendFailed(email);
-            }
-
-            if (notification.isProcessing()) {
-                // ⏳ 발송 중... 대기
-                log.debug("⏳ 이메일 발송 중... 대기: email={}, status={}, attempt={}/{}",
-                        email, notification.getStatus(), attempt, MAX_ATTEMPTS);
-
-                try {
-                    Thread.sleep(POLL_INTERVAL_MS);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    log.error("대기 중 인터럽트: email={}", email, e);
-                    throw new RuntimeException("이메일 발송 대기 실패", e);
-                }
-            }
+        if (notification != null && notification.isFailed()) {
+            log.warn("❌ 이메일 발송 실패: email={}", email);
+            throw EmailVerificationException.emailSendFailed(email);
         }
-
-        // ⚠️ 5초 넘어도 발송 안 됨
-        log.warn("⚠️ 이메일 발송 타임아웃: email={}, maxWait={}초",
-                email, (MAX_ATTEMPTS * POLL_INTERVAL_MS) / 1000);
-
-        // 타임아웃이어도 검증은 시도 (Redis에 코드가 있을 수도)
-        // 사용자 경험을 위해 예외는 던지지 않음
     }
 
     /**
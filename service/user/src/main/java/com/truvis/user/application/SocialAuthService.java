@@ -3,17 +3,25 @@ package com.truvis.user.application;
 import com.truvis.common.exception.MemberException;
 import com.truvis.common.security.JwtTokenProvider;
 import com.truvis.user.domain.*;
-import com.truvis.user.infrastructure.RedisRefreshTokenRepository;
+import com.truvis.user.infrastructure.RedisOAuth2StateRepository;
+import com.truvis.user.infrastructure.RedisUserSessionRepository;
 import com.truvis.user.infrastructure.oauth.OAuth2ClientProvider;
 import com.truvis.user.model.LoginResponse;
+import com.truvis.user.model.SocialAuthStateResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @Slf4j
@@ -23,37 +31,96 @@ public class SocialAuthService {
     private final OAuth2ClientProvider oAuth2ClientProvider;
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisRefreshTokenRepository refreshTokenRepository;
+    private final RedisUserSessionRepository sessionRepository;
+    private final RedisOAuth2StateRepository stateRepository;
+    private final TransactionTemplate transactionTemplate;
 
     public SocialAuthService(
             OAuth2ClientProvider oAuth2ClientProvider,
             UserRepository userRepository,
             JwtTokenProvider jwtTokenProvider,
-            RedisRefreshTokenRepository refreshTokenRepository
+            RedisUserSessionRepository sessionRepository,
+            RedisOAuth2StateRepository stateRepository,
+            PlatformTransactionManager transactionManager
     ) {
         this.oAuth2ClientProvider = oAuth2ClientProvider;
         this.userRepository = userRepository;
         this.jwtTokenProvider = jwtTokenProvider;
-        this.refreshTokenRepository = refreshTokenRepository;
+        this.sessionRepository = sessionRepository;
+        this.stateRepository = stateRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 소셜 로그인 state 발급 (인가 요청을 시작할 때)
+     * - 로그인 요청에서 한 번만 쓸 수 있고, 발급한 프로바이더의 콜백에서만 유효
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SocialAuthStateResponse issueState(SignUpType provider) {
+        oAuth2ClientProvider.getClient(provider);
+
+        String state = stateRepository.issue(provider);
+        return new SocialAuthStateResponse(provider, state, stateRepository.getTtl().toSeconds());
     }
 
     /**
      * 소셜 로그인 (카카오/네이버/구글 통합)
+     *
+     * @param browserState state 발급 때 브라우저 쿠키에 심은 값 (요청의 state와 같아야 함)
      */
     @Transactional
-    public LoginResponse socialLogin(SignUpType provider, String authorizationCode) {
-        // 1. Authorization Code로 Access Token 받기
+    public LoginResponse socialLogin(SignUpType provider, String authorizationCode, String state,
+                                     String browserState, String deviceId) {
+        // 1. state 검증 (이 브라우저가 발급받은 값인지, 발급한 프로바이더와 같은지, 한 번만)
+        verifyState(provider, state, browserState);
+
+        // 2. 프로바이더별 클라이언트 조회
         OAuth2Client client = oAuth2ClientProvider.getClient(provider);
 
-        // 2. Access Token으로 사용자 정보 받기
-        String accessToken = client.getAccessToken(authorizationCode);
-        SocialUserInfo socialUserInfo = client.getUserInfo(accessToken);
+        // 3. Authorization Code로 사용자 정보 받기 (OIDC면 ID Token 검증으로 호출 1회)
+        SocialUserInfo socialUserInfo = client.fetchUserInfo(authorizationCode, state);
 
-        // 3. 회원 조회 또는 생성
+        // 4. 회원 조회 또는 생성
         User user = findOrCreateUser(socialUserInfo);
 
-        // 4. JWT 토큰 발급
-        return generateTokenResponse(user);
+        // 5. JWT 토큰 발급
+        return generateTokenResponse(user, deviceId);
+    }
+
+    /**
+     * 소셜 로그인 (논블로킹)
+     * - 프로바이더 응답을 기다리는 동안 요청 스레드를 반납한다
+     * - 응답이 오면 HTTP 클라이언트 스레드에서 회원 조회/생성 + 토큰 발급을 트랜잭션으로 처리
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<LoginResponse> socialLoginAsync(
+            SignUpType provider, String authorizationCode, String state, String browserState, String deviceId) {
+        verifyState(provider, state, browserState);
+        AsyncOAuth2Client client = oAuth2ClientProvider.getAsyncClient(provider);
+
+        return client.fetchUserInfo(authorizationCode, state)
+                .thenApply(socialUserInfo -> transactionTemplate.execute(status ->
+                        generateTokenResponse(findOrCreateUser(socialUserInfo), deviceId)));
+    }
+
+    /**
+     * state 확인 + 소비
+     * - 쿠키의 state와 다르면 거절 (다른 브라우저에서 발급받은 state로 로그인시키는 로그인 CSRF 방지)
+     * - 없거나, 이미 썼거나, 만료됐거나, 다른 프로바이더용이면 거절
+     */
+    private void verifyState(SignUpType provider, String state, String browserState) {
+        if (state == null || browserState == null || !MessageDigest.isEqual(
+                state.getBytes(StandardCharsets.US_ASCII), browserState.getBytes(StandardCharsets.US_ASCII))) {
+            log.warn("소셜 로그인 state가 브라우저 쿠키와 다름: provider={}", provider);
+            throw MemberException.invalidOAuthState();
+        }
+
+        SignUpType issuedFor = stateRepository.consume(state)
+                .orElseThrow(MemberException::invalidOAuthState);
+        if (issuedFor != provider) {
+            log.warn("소셜 로그인 state 프로바이더 불일치: issuedFor={}, provider={}", issuedFor, provider);
+            throw MemberException.invalidOAuthState();
+        }
     }
 
     /**
@@ -90,17 +157,18 @@ public class SocialAuthService {
     /**
      * JWT 토큰 생성 및 응답 반환
      */
-    private LoginResponse generateTokenResponse(User user) {
+    private LoginResponse generateTokenResponse(User user, String deviceId) {
         // AccessToken 생성
         String accessToken = jwtTokenProvider.createToken(user.getEmailValue());
         Date accessTokenExpiresAt = jwtTokenProvider.getExpirationDate(accessToken);
 
-        // RefreshToken 생성
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmailValue());
+        // RefreshToken 생성 (기기별 세션)
+        String sessionId = sessionRepository.resolveSessionId(deviceId);
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmailValue(), user.getId(), sessionId);
         Date refreshTokenExpiresAt = jwtTokenProvider.getExpirationDate(refreshToken);
 
-        // RefreshToken을 Redis에 저장
-        refreshTokenRepository.save(user.getId(), refreshToken);
+        // 세션을 Redis에 저장
+        sessionRepository.save(user.getId(), user.getEmailValue(), sessionId, refreshToken, refreshTokenExpiresAt.getTime());
 
         return LoginResponse.of(
                 accessToken,
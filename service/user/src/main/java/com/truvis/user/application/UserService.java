@@ -6,6 +6,7 @@ import com.truvis.user.model.SignUpRequest;
 import com.truvis.user.model.SignUpResponse;
 import com.truvis.user.domain.UserRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -62,7 +63,14 @@ public class UserService {
         );
 
         // 6. 저장
-        User savedUser = userRepository.save(user);
+        // - 중복 체크는 노드 로컬 Bloom Filter를 거치므로, 다른 노드에서 방금 가입한
+        //   이메일은 여기서 email unique 제약으로 걸러진다
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw MemberException.emailAlreadyExists(request.getEmail());
+        }
 
         // 7. 이메일 인증 정보 정리
         emailVerificationService.clearVerifiedEmail(request.getEmail());
@@ -83,6 +91,16 @@ public class UserService {
         );
     }
 
+    /**
+     * 로그인한 사용자 ID (JWT 주체는 이메일)
+     */
+    @Transactional(readOnly = true)
+    public Long getUserId(String email) {
+        return userRepository.findByEmail(email)
+                .map(User::getId)
+                .orElseThrow(() -> MemberException.userNotFoundByEmail(email));
+    }
+
     /**
      * 비밀번호 확인 검증
      */
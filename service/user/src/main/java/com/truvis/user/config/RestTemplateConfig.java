@@ -1,14 +1,120 @@
 package com.truvis.user.config;
 
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 HTTP 호출 설정 (소셜 로그인 프로바이더)
+ *
+ * - 동기: RestTemplate + Apache HttpClient 커넥션 풀 (keep-alive 재사용)
+ * - 비동기: JDK HttpClient (sendAsync, 전용 스레드 풀)
+ * - 연결/응답/풀 대기 시간을 모두 제한해서 느린 프로바이더가 요청 스레드를 붙잡지 않게 한다
+ */
 @Configuration
 public class RestTemplateConfig {
 
+    private final int connectTimeoutMillis;
+    private final int responseTimeoutMillis;
+    private final int poolTimeoutMillis;
+    private final int maxConnections;
+    private final int maxConnectionsPerRoute;
+    private final ExecutorService asyncExecutor;
+
+    public RestTemplateConfig(
+            @Value("${oauth2.http.connect-timeout-ms:1000}") int connectTimeoutMillis,
+            @Value("${oauth2.http.response-timeout-ms:3000}") int responseTimeoutMillis,
+            @Value("${oauth2.http.pool-timeout-ms:500}") int poolTimeoutMillis,
+            @Value("${oauth2.http.max-connections:100}") int maxConnections,
+            @Value("${oauth2.http.max-connections-per-route:20}") int maxConnectionsPerRoute,
+            @Value("${oauth2.http.async-threads:8}") int asyncThreads
+    ) {
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.responseTimeoutMillis = responseTimeoutMillis;
+        this.poolTimeoutMillis = poolTimeoutMillis;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.asyncExecutor = createAsyncExecutor(asyncThreads);
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient oAuth2HttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                        .setTimeToLive(TimeValue.ofMinutes(5))       // DNS 변경 반영
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMillis))  // 풀 대기
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient oAuth2HttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(oAuth2HttpClient));
+    }
+
+    /**
+     * 비동기 소셜 로그인용 HTTP 클라이언트
+     * - 응답 후속 처리(회원 조회/토큰 발급)도 이 스레드 풀에서 이어서 실행된다
+     */
+    @Bean
+    public HttpClient oAuth2AsyncHttpClient() {
+        return HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(asyncExecutor)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        asyncExecutor.shutdown();
+    }
+
+    private static ExecutorService createAsyncExecutor(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "oauth2-http-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
-}
\ No newline at end of file
+}
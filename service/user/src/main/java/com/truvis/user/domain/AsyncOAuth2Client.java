@@ -0,0 +1,47 @@
+package com.truvis.user.domain;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 소셜 로그인 OAuth2 클라이언트 (논블로킹)
+ * 응답을 기다리는 동안 요청 스레드를 점유하지 않는다
+ * 실제 구현은 Infrastructure 레이어
+ */
+public interface AsyncOAuth2Client {
+
+    /**
+     * 담당 소셜 프로바이더
+     */
+    SignUpType getProvider();
+
+    /**
+     * Authorization Code를 Access Token으로 교환
+     *
+     * @param code 프론트엔드로부터 받은 Authorization Code
+     * @return Access Token
+     */
+    CompletableFuture<String> getAccessToken(String code);
+
+    /**
+     * Access Token으로 사용자 정보 조회
+     *
+     * @param accessToken 소셜 Access Token
+     * @return 소셜 사용자 정보
+     */
+    CompletableFuture<SocialUserInfo> getUserInfo(String accessToken);
+
+    /**
+     * Authorization Code로 사용자 정보까지 이어서 조회
+     * OIDC를 지원하는 프로바이더는 ID Token을 검증해서 사용자 정보 조회 호출을 생략할 수 있다
+     */
+    default CompletableFuture<SocialUserInfo> fetchUserInfo(String code) {
+        return getAccessToken(code).thenCompose(this::getUserInfo);
+    }
+
+    /**
+     * Authorization Code로 사용자 정보까지 이어서 조회 (인가 요청의 state를 토큰 요청에 전달)
+     */
+    default CompletableFuture<SocialUserInfo> fetchUserInfo(String code, String state) {
+        return fetchUserInfo(code);
+    }
+}
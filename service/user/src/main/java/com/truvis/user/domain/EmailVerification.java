@@ -6,6 +6,10 @@ import lombok.Getter;
 import java.time.Duration;
 import java.time.LocalDateTime;
 
+/**
+ * 이메일 인증 요청 (조회용 스냅샷)
+ * - 검증(비교 + 실패 횟수 + 잠금 + 상태 변경)은 저장소에서 원자적으로 처리한다 (EmailVerificationRepository.verifyCode)
+ */
 @Getter
 public class EmailVerification {
 
@@ -13,9 +17,11 @@ public class EmailVerification {
     private final VerificationCode code;
     private final LocalDateTime createdAt;
     private final LocalDateTime expiresAt;
-    private EmailVerificationStatus status;
+    private final EmailVerificationStatus status;
+    private final int failedAttempts;
 
     public static final int EXPIRATION_MINUTES = 10;
+    public static final int MAX_FAILED_ATTEMPTS = 5;  // 6자리 코드 무작위 대입 방지
 
     @Builder
     private EmailVerification(
@@ -23,12 +29,14 @@ public class EmailVerification {
             VerificationCode code,
             LocalDateTime createdAt,
             LocalDateTime expiresAt,
-            EmailVerificationStatus status) {
+            EmailVerificationStatus status,
+            int failedAttempts) {
         this.email = email;
         this.code = code;
         this.createdAt = createdAt;
         this.expiresAt = expiresAt;
         this.status = status;
+        this.failedAttempts = failedAttempts;
     }
 
     /**
@@ -46,31 +54,6 @@ public class EmailVerification {
                 .build();
     }
 
-    /**
-     * 인증번호 검증 및 인증 완료 처리
-     *
-     * 이게 핵심 비즈니스 로직!
-     */
-    public void verify(String inputCode) {
-        // 1. 만료 확인
-        if (isExpired()) {
-            throw new IllegalStateException("인증번호가 만료되었습니다");
-        }
-
-        // 2. 이미 인증 완료된 경우
-        if (this.status == EmailVerificationStatus.VERIFIED) {
-            throw new IllegalStateException("이미 인증이 완료되었습니다");
-        }
-
-        // 3. 인증번호 일치 확인
-        if (!this.code.matches(inputCode)) {
-            throw new IllegalArgumentException("인증번호가 일치하지 않습니다");
-        }
-
-        // 4. 인증 완료 상태로 변경!
-        this.status = EmailVerificationStatus.VERIFIED;
-    }
-
     /**
      * 만료 여부 확인
      */
@@ -85,6 +68,13 @@ public class EmailVerification {
         return this.status == EmailVerificationStatus.VERIFIED;
     }
 
+    /**
+     * 실패 횟수 초과로 잠긴 상태인지
+     */
+    public boolean isLocked() {
+        return this.failedAttempts >= MAX_FAILED_ATTEMPTS;
+    }
+
     /**
      * 인증 대기 중인지
      */
@@ -0,0 +1,33 @@
+package com.truvis.user.domain;
+
+import com.truvis.common.exception.EmailVerificationException;
+
+/**
+ * 인증번호 검증 시도 결과
+ * - 저장소에서 비교/시도 횟수/상태 변경을 원자적으로 처리한 결과
+ */
+public enum EmailVerificationAttemptResult {
+    VERIFIED,            // 인증 완료
+    NOT_FOUND,           // 인증 요청 없음 (TTL 만료 포함)
+    EXPIRED,             // 인증번호 만료
+    ALREADY_VERIFIED,    // 이미 인증 완료된 요청
+    CODE_MISMATCH,       // 인증번호 불일치 (시도 횟수 증가)
+    TOO_MANY_ATTEMPTS;   // 실패 횟수 초과 (재발송 필요)
+
+    public boolean isVerified() {
+        return this == VERIFIED;
+    }
+
+    /**
+     * 실패 결과를 예외로 변환
+     */
+    public void throwIfFailed() {
+        switch (this) {
+            case VERIFIED -> {
+            }
+            case CODE_MISMATCH -> throw EmailVerificationException.invalidCode();
+            case TOO_MANY_ATTEMPTS -> throw EmailVerificationException.tooManyAttempts();
+            case NOT_FOUND, EXPIRED, ALREADY_VERIFIED -> throw EmailVerificationException.expiredCode();
+        }
+    }
+}
@@ -14,6 +14,13 @@ public interface EmailVerificationRepository {
      */
     Optional<EmailVerification> findByEmail(Email email);
 
+    /**
+     * 인증번호 검증 시도 (원자적 처리)
+     * - 일치하면 인증 완료 상태로 바꾸고 인증 완료 마크 저장
+     * - 불일치하면 실패 횟수 증가, MAX_FAILED_ATTEMPTS 이상이면 더 이상 비교하지 않음
+     */
+    EmailVerificationAttemptResult verifyCode(Email email, String inputCode);
+
     /**
      * 인증 완료된 이메일인지 확인
      */
@@ -7,6 +7,11 @@ package com.truvis.user.domain;
  */
 public interface OAuth2Client {
 
+    /**
+     * 담당 소셜 프로바이더
+     */
+    SignUpType getProvider();
+
     /**
      * Authorization Code를 Access Token으로 교환
      *
@@ -22,4 +27,20 @@ public interface OAuth2Client {
      * @return 소셜 사용자 정보
      */
     SocialUserInfo getUserInfo(String accessToken);
-}
\ No newline at end of file
+
+    /**
+     * Authorization Code로 사용자 정보까지 조회
+     * OIDC를 지원하는 프로바이더는 ID Token을 검증해서 사용자 정보 조회 호출을 생략할 수 있다
+     */
+    default SocialUserInfo fetchUserInfo(String code) {
+        return getUserInfo(getAccessToken(code));
+    }
+
+    /**
+     * Authorization Code로 사용자 정보까지 조회 (인가 요청의 state를 토큰 요청에 전달)
+     * state를 토큰 요청에 요구하는 프로바이더(네이버)는 구현에서 전달한다
+     */
+    default SocialUserInfo fetchUserInfo(String code, String state) {
+        return fetchUserInfo(code);
+    }
+}
@@ -0,0 +1,132 @@
+package com.truvis.user.infrastructure;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 가입된 이메일 Bloom Filter (노드 로컬)
+ * - mightContain() == false 이면 "확실히 없음" → DB 조회 생략
+ * - mightContain() == true 이면 "있을 수도 있음" → DB 조회로 확정
+ * - 삭제는 지원하지 않음 (탈퇴 이메일은 오탐으로 남고, 주기적 재구성 시 정리됨)
+ *
+ * 비트 배열은 AtomicLongArray라서 put/mightContain 모두 락 없이 동작한다.
+ */
+public final class EmailBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    private EmailBloomFilter(long bitSize, int hashCount) {
+        int words = (int) ((bitSize + 63) >>> 6);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words << 6;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 원소 수와 오탐률로 크기 결정
+     * - m = -n·ln(p) / (ln2)²
+     * - k = m/n · ln2
+     *
+     * @param expectedInsertions 예상 이메일 수
+     * @param falsePositiveRate 허용 오탐률 (0 ~ 1)
+     */
+    public static EmailBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("예상 원소 수는 0보다 커야 합니다");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다");
+        }
+
+        long bitSize = (long) Math.ceil(
+                -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        if (bitSize > (long) Integer.MAX_VALUE * 64) {
+            throw new IllegalArgumentException("Bloom Filter 크기가 너무 큽니다: " + bitSize + " bits");
+        }
+        int hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+
+        return new EmailBloomFilter(Math.max(64, bitSize), hashCount);
+    }
+
+    /**
+     * 이메일 추가
+     */
+    public void put(String email) {
+        long hash = hash64(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(h1 + i * h2));
+        }
+    }
+
+    /**
+     * 가입되어 있을 가능성이 있는지
+     *
+     * @return false면 확실히 없음, true면 DB 확인 필요
+     */
+    public boolean mightContain(String email) {
+        long hash = hash64(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            long bitIndex = index(h1 + i * h2);
+            if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Kirsch-Mitzenmacher 이중 해싱 결과를 비트 인덱스로 변환
+     */
+    private long index(int combinedHash) {
+        // 음수 해시는 비트 반전으로 양수화
+        int positive = combinedHash < 0 ? ~combinedHash : combinedHash;
+        return positive % bitSize;
+    }
+
+    private void setBit(long bitIndex) {
+        int wordIndex = (int) (bitIndex >>> 6);
+        long mask = 1L << bitIndex;
+
+        long current;
+        do {
+            current = bits.get(wordIndex);
+            if ((current & mask) != 0) {
+                return;  // 이미 설정됨 → CAS 생략
+            }
+        } while (!bits.compareAndSet(wordIndex, current, current | mask));
+    }
+
+    /**
+     * 문자열 64비트 해시 (FNV-1a + murmur3 fmix64 마무리)
+     * - String.hashCode()는 32비트라 이중 해싱 재료로 부족
+     */
+    private static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -2,12 +2,16 @@ package com.truvis.user.infrastructure;
 
 import com.truvis.user.domain.User;
 import com.truvis.user.domain.UserRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 interface UserJpaRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.email.value = :email")
@@ -15,15 +19,31 @@ interface UserJpaRepository extends JpaRepository<User, Long> {
     
     @Query("SELECT CASE WHEN COUNT(u) > 0 THEN true ELSE false END FROM User u WHERE u.email.value = :email")
     boolean existsByEmail(@Param("email") String email);
+
+    /**
+     * 전체 이메일 스트리밍 (Bloom Filter 워밍업용)
+     * - 엔티티 대신 이메일 컬럼만 조회
+     * - 트랜잭션 안에서 호출해야 함
+     */
+    @Query("SELECT u.email.value FROM User u")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamAllEmails();
 }
 
 @Repository
 public class JpaUserRepositoryAdapter implements UserRepository {
 
     private final UserJpaRepository jpaRepository;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final RedisUserSessionRepository sessionRepository;
 
-    public JpaUserRepositoryAdapter(UserJpaRepository jpaRepository) {
+    public JpaUserRepositoryAdapter(
+            UserJpaRepository jpaRepository,
+            RegisteredEmailFilter registeredEmailFilter,
+            RedisUserSessionRepository sessionRepository) {
         this.jpaRepository = jpaRepository;
+        this.registeredEmailFilter = registeredEmailFilter;
+        this.sessionRepository = sessionRepository;
     }
 
     @Override
@@ -33,16 +53,30 @@ public class JpaUserRepositoryAdapter implements UserRepository {
 
     @Override
     public User save(User user) {
-        return jpaRepository.save(user);
+        User saved = jpaRepository.save(user);
+
+        // 저장된 이메일을 Bloom Filter에 즉시 반영
+        registeredEmailFilter.register(saved.getEmailValue());
+
+        return saved;
     }
 
     @Override
     public void delete(User user) {
         jpaRepository.delete(user);
+
+        // 토큰 갱신은 DB를 보지 않으므로 세션도 함께 삭제 (삭제가 커밋된 뒤에)
+        sessionRepository.deleteAllAfterCommit(user.getId());
     }
 
     @Override
     public boolean existsByEmail(String email) {
+        // 확실히 미가입이면 DB 조회 생략
+        if (!registeredEmailFilter.mightBeRegistered(email)) {
+            return false;
+        }
+
+        // 있을 수도 있음 → 인덱스(email unique) 조회로 확정
         return jpaRepository.existsByEmail(email);
     }
 }
\ No newline at end of file
@@ -3,12 +3,26 @@ package com.truvis.user.infrastructure;
 import com.truvis.user.domain.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+/**
+ * 이메일 인증 저장소 (Redis Hash)
+ *
+ * email:code:{email}     → Hash (code, createdAt, expiresAt, status, attempts) - 10분 TTL
+ * email:verified:{email} → 인증 완료 마크 - 30분 TTL
+ *
+ * - 검증(비교 + 실패 횟수 + 상태 변경 + 완료 마크)은 Lua 한 번으로 처리 (1 RTT)
+ * - 두 키는 같은 해시 태그({email})를 써서 클러스터에서도 같은 슬롯에 위치
+ */
 @Repository
 @Slf4j
 public class RedisEmailVerificationRepository implements EmailVerificationRepository {
@@ -19,40 +33,104 @@ public class RedisEmailVerificationRepository implements EmailVerificationReposi
     private static final String VERIFIED_PREFIX = "email:verified:";
     private static final Duration VERIFIED_TTL = Duration.ofMinutes(30);
 
+    private static final String FIELD_CODE = "code";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FIELD_EXPIRES_AT = "expiresAt";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_ATTEMPTS = "attempts";
+
+    /**
+     * 인증 요청 저장 (기존 요청 덮어쓰기)
+     *
+     * KEYS[1] = 인증 키
+     * ARGV[1] = code, ARGV[2] = createdAt (ms), ARGV[3] = expiresAt (ms), ARGV[4] = status, ARGV[5] = TTL (ms)
+     */
+    private static final DefaultRedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'code', ARGV[1], 'createdAt', ARGV[2],
+                    'expiresAt', ARGV[3], 'status', ARGV[4], 'attempts', 0)
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            return 1
+            """, Long.class);
+
+    /**
+     * 인증번호 검증 시도
+     *
+     * KEYS[1] = 인증 키, KEYS[2] = 인증 완료 마크 키
+     * ARGV[1] = 입력한 인증번호, ARGV[2] = 현재 시각 (ms), ARGV[3] = 최대 실패 횟수, ARGV[4] = 완료 마크 TTL (ms)
+     * 반환: EmailVerificationAttemptResult 이름
+     */
+    private static final DefaultRedisScript<String> VERIFY_SCRIPT = new DefaultRedisScript<>("""
+            local values = redis.call('HMGET', KEYS[1], 'code', 'expiresAt', 'status', 'attempts')
+            if not values[1] then
+                return 'NOT_FOUND'
+            end
+            if tonumber(values[2]) < tonumber(ARGV[2]) then
+                return 'EXPIRED'
+            end
+            if values[3] == 'VERIFIED' then
+                return 'ALREADY_VERIFIED'
+            end
+
+            local maxAttempts = tonumber(ARGV[3])
+            if tonumber(values[4] or '0') >= maxAttempts then
+                return 'TOO_MANY_ATTEMPTS'
+            end
+
+            if values[1] ~= ARGV[1] then
+                local attempts = redis.call('HINCRBY', KEYS[1], 'attempts', 1)
+                if attempts >= maxAttempts then
+                    return 'TOO_MANY_ATTEMPTS'
+                end
+                return 'CODE_MISMATCH'
+            end
+
+            redis.call('HSET', KEYS[1], 'status', 'VERIFIED')
+            redis.call('SET', KEYS[2], 'verified', 'PX', ARGV[4])
+            return 'VERIFIED'
+            """, String.class);
+
     public RedisEmailVerificationRepository(RedisTemplate<String, String> redisTemplate) {
         this.redisTemplate = redisTemplate;
     }
 
     @Override
     public void save(EmailVerification verification) {
-        String key = CODE_PREFIX + verification.getEmail().getValue();
-
-        // 데이터 직렬화: code|expiresAt|status
-        String value = serialize(verification);
+        Email email = verification.getEmail();
 
         // 도메인에서 TTL 가져옴!
         Duration ttl = EmailVerification.defaultTimeToLive();
 
-        // Redis에 저장 (10분 TTL)
-        redisTemplate.opsForValue().set(key, value, ttl);
+        redisTemplate.execute(
+                SAVE_SCRIPT,
+                List.of(codeKey(email)),
+                verification.getCode().getValue(),
+                String.valueOf(toEpochMillis(verification.getCreatedAt())),
+                String.valueOf(toEpochMillis(verification.getExpiresAt())),
+                verification.getStatus().name(),
+                String.valueOf(ttl.toMillis())
+        );
 
-        log.debug("EmailVerification 저장: email={}, code={}",
-                verification.getEmail().getValue(),
-                verification.getCode().getValue());
+        log.debug("EmailVerification 저장: email={}", email.getValue());
     }
 
     @Override
     public Optional<EmailVerification> findByEmail(Email email) {
-        String key = CODE_PREFIX + email.getValue();
-        String value = redisTemplate.opsForValue().get(key);
+        Map<Object, Object> values = redisTemplate.opsForHash().entries(codeKey(email));
 
-        if (value == null) {
+        if (values.isEmpty()) {
             log.debug("EmailVerification 없음: email={}", email.getValue());
             return Optional.empty();
         }
 
-        // 역직렬화
-        EmailVerification verification = deserialize(email, value);
+        EmailVerification verification = EmailVerification.builder()
+                .email(email)
+                .code(VerificationCode.of((String) values.get(FIELD_CODE)))
+                .createdAt(toLocalDateTime((String) values.get(FIELD_CREATED_AT)))
+                .expiresAt(toLocalDateTime((String) values.get(FIELD_EXPIRES_AT)))
+                .status(EmailVerificationStatus.valueOf((String) values.get(FIELD_STATUS)))
+                .failedAttempts(Integer.parseInt((String) values.getOrDefault(FIELD_ATTEMPTS, "0")))
+                .build();
 
         log.debug("EmailVerification 조회: email={}, status={}",
                 email.getValue(),
@@ -61,68 +139,48 @@ public class RedisEmailVerificationRepository implements EmailVerificationReposi
         return Optional.of(verification);
     }
 
+    @Override
+    public EmailVerificationAttemptResult verifyCode(Email email, String inputCode) {
+        String result = redisTemplate.execute(
+                VERIFY_SCRIPT,
+                List.of(codeKey(email), verifiedKey(email)),
+                inputCode,
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(EmailVerification.MAX_FAILED_ATTEMPTS),
+                String.valueOf(VERIFIED_TTL.toMillis())
+        );
+
+        log.debug("인증번호 검증 시도: email={}, result={}", email.getValue(), result);
+        return EmailVerificationAttemptResult.valueOf(result);
+    }
+
     @Override
     public boolean existsVerifiedEmail(Email email) {
-        String key = VERIFIED_PREFIX + email.getValue();
-        Boolean exists = redisTemplate.hasKey(key);
+        Boolean exists = redisTemplate.hasKey(verifiedKey(email));
         return Boolean.TRUE.equals(exists);
     }
 
     @Override
     public void delete(Email email) {
-        String codeKey = CODE_PREFIX + email.getValue();
-        String verifiedKey = VERIFIED_PREFIX + email.getValue();
-
-        redisTemplate.delete(codeKey);
-        redisTemplate.delete(verifiedKey);
+        // 두 키를 한 번에 비동기 삭제
+        redisTemplate.unlink(List.of(codeKey(email), verifiedKey(email)));
 
         log.debug("EmailVerification 삭제: email={}", email.getValue());
     }
 
-    /**
-     * EmailVerification을 문자열로 직렬화
-     * 형식: code|expiresAt|status
-     */
-    private String serialize(EmailVerification verification) {
-        return String.format("%s|%s|%s",
-                verification.getCode().getValue(),
-                verification.getExpiresAt().toString(),
-                verification.getStatus().name());
+    private String codeKey(Email email) {
+        return CODE_PREFIX + "{" + email.getValue() + "}";
     }
 
-    /**
-     * 문자열을 EmailVerification으로 역직렬화
-     */
-    private EmailVerification deserialize(Email email, String value) {
-        String[] parts = value.split("\\|");
-
-        if (parts.length != 3) {
-            throw new IllegalStateException("Redis 데이터 형식이 올바르지 않습니다: " + value);
-        }
-
-        VerificationCode code = VerificationCode.of(parts[0]);
-        LocalDateTime expiresAt = LocalDateTime.parse(parts[1]);
-        EmailVerificationStatus status = EmailVerificationStatus.valueOf(parts[2]);
-
-        // createdAt은 expiresAt - 10분으로 추정
-        LocalDateTime createdAt = expiresAt.minusMinutes(10);
-
-        return EmailVerification.builder()
-                .email(email)
-                .code(code)
-                .createdAt(createdAt)
-                .expiresAt(expiresAt)
-                .status(status)
-                .build();
+    private String verifiedKey(Email email) {
+        return VERIFIED_PREFIX + "{" + email.getValue() + "}";
     }
 
-    /**
-     * 인증 완료 상태를 Redis에 저장 (30분 유효)
-     */
-    public void saveVerifiedStatus(Email email) {
-        String key = VERIFIED_PREFIX + email.getValue();
-        redisTemplate.opsForValue().set(key, "verified", VERIFIED_TTL);
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 
-        log.debug("인증 완료 상태 저장: email={}", email.getValue());
+    private LocalDateTime toLocalDateTime(String epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(epochMillis)), ZoneId.systemDefault());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,66 @@
+package com.truvis.user.infrastructure;
+
+import com.truvis.user.domain.SignUpType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 소셜 로그인 state 저장소 (CSRF 방지)
+ *
+ * oauth2:state:{state} → 프로바이더 이름 (TTL)
+ *
+ * - 인가 요청을 시작할 때 발급하고, 콜백(로그인)에서 GETDEL로 한 번만 꺼내 쓴다
+ * - 같은 state를 두 번 쓰거나, 다른 프로바이더 콜백에 쓰면 거절
+ * - 발급받은 브라우저와의 결합은 oauth2_state 쿠키로 확인한다 (SocialAuthService.verifyState)
+ */
+@Repository
+public class RedisOAuth2StateRepository {
+
+    private static final String STATE_KEY_PREFIX = "oauth2:state:";
+    private static final int STATE_BYTES = 32;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+    private final SecureRandom random = new SecureRandom();
+
+    public RedisOAuth2StateRepository(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${oauth2.state-ttl-ms:600000}") long ttlMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMillis(ttlMillis);
+    }
+
+    /**
+     * state 발급 + 저장
+     */
+    public String issue(SignUpType provider) {
+        byte[] bytes = new byte[STATE_BYTES];
+        random.nextBytes(bytes);
+        String state = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        redisTemplate.opsForValue().set(STATE_KEY_PREFIX + state, provider.name(), ttl);
+        return state;
+    }
+
+    /**
+     * state 소비 (있으면 삭제하면서 발급한 프로바이더 반환)
+     */
+    public Optional<SignUpType> consume(String state) {
+        if (state == null || state.isBlank()) {
+            return Optional.empty();
+        }
+        String provider = redisTemplate.opsForValue().getAndDelete(STATE_KEY_PREFIX + state);
+        return Optional.ofNullable(provider).map(SignUpType::valueOf);
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+}
@@ -0,0 +1,224 @@
+package com.truvis.user.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 사용자 세션 저장소 (기기별 RefreshToken)
+ *
+ * 사용자마다 Redis Hash 하나를 사용한다:
+ *   session:{userId}
+ *     @user       → 이메일 (사용자 검증용, 회원 삭제 시 키 전체 삭제)
+ *     {sessionId} → "토큰해시|생성시각(ms)|만료시각(ms)"
+ *
+ * - 기기마다 세션이 따로 있으므로 다른 기기에서 로그인해도 기존 세션이 유지된다
+ * - 동시 세션 수를 넘으면 가장 오래된 세션부터 제거
+ * - 토큰 원문 대신 SHA-256 해시만 저장
+ * - 토큰 갱신 시 HMGET 한 번으로 사용자 + 세션 + 토큰을 함께 검증 (DB 조회 없음)
+ */
+@Repository
+@Slf4j
+public class RedisUserSessionRepository {
+
+    private static final String SESSION_KEY_PREFIX = "session:";
+    private static final String USER_FIELD = "@user";
+    private static final Pattern DEVICE_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    /**
+     * 세션 저장 + 만료 세션 정리 + 동시 세션 수 제한을 원자적으로 처리
+     *
+     * KEYS[1] = session:{userId}
+     * ARGV[1] = 이메일, ARGV[2] = 세션 ID, ARGV[3] = 세션 값, ARGV[4] = 현재 시각 (ms),
+     * ARGV[5] = 최대 세션 수
+     * 반환: 제거된 세션 수
+     */
+    private static final DefaultRedisScript<Long> SAVE_SESSION_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[4])
+            local max = tonumber(ARGV[5])
+            redis.call('HSET', KEYS[1], '@user', ARGV[1], ARGV[2], ARGV[3])
+
+            local entries = redis.call('HGETALL', KEYS[1])
+            local sessions = {}
+            local removed = 0
+            local latestExpiry = 0
+            for i = 1, #entries, 2 do
+                local field = entries[i]
+                if field ~= '@user' then
+                    local createdAt, expiresAt = string.match(entries[i + 1], '^[^|]*|(%d+)|(%d+)$')
+                    createdAt = tonumber(createdAt) or 0
+                    expiresAt = tonumber(expiresAt) or 0
+                    if expiresAt <= now then
+                        redis.call('HDEL', KEYS[1], field)
+                        removed = removed + 1
+                    else
+                        table.insert(sessions, { field, createdAt })
+                        latestExpiry = math.max(latestExpiry, expiresAt)
+                    end
+                end
+            end
+
+            if #sessions > max then
+                table.sort(sessions, function(a, b) return a[2] < b[2] end)
+                local excess = #sessions - max
+                for i = 1, #sessions do
+                    if excess == 0 then break end
+                    if sessions[i][1] ~= ARGV[2] then
+                        redis.call('HDEL', KEYS[1], sessions[i][1])
+                        removed = removed + 1
+                        excess = excess - 1
+                    end
+                end
+            end
+
+            redis.call('PEXPIREAT', KEYS[1], latestExpiry)
+            return removed
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int maxSessionsPerUser;
+
+    public RedisUserSessionRepository(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${user.session.max-per-user:5}") int maxSessionsPerUser
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.maxSessionsPerUser = maxSessionsPerUser;
+    }
+
+    /**
+     * 세션 ID 결정
+     * - 클라이언트가 보낸 기기 ID가 올바르면 그대로 사용 (같은 기기 재로그인 시 세션 교체)
+     * - 없거나 형식이 맞지 않으면 새로 발급
+     */
+    public String resolveSessionId(String deviceId) {
+        if (StringUtils.hasText(deviceId) && DEVICE_ID_PATTERN.matcher(deviceId).matches()) {
+            return deviceId;
+        }
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * 세션 저장 (로그인)
+     * @param userId 사용자 ID
+     * @param email 사용자 이메일
+     * @param sessionId 세션(기기) ID
+     * @param refreshToken 리프레시 토큰 값
+     * @param expiresAtMillis 리프레시 토큰 만료 시각 (ms)
+     */
+    public void save(Long userId, String email, String sessionId, String refreshToken, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        String value = hash(refreshToken) + "|" + now + "|" + expiresAtMillis;
+
+        Long removed = redisTemplate.execute(
+                SAVE_SESSION_SCRIPT,
+                List.of(key(userId)),
+                email,
+                sessionId,
+                value,
+                String.valueOf(now),
+                String.valueOf(maxSessionsPerUser)
+        );
+
+        log.debug("세션 저장: userId={}, sessionId={}, removed={}", userId, sessionId, removed);
+    }
+
+    /**
+     * 세션 유효성 검증 (토큰 갱신)
+     * - HMGET 한 번으로 사용자 이메일과 세션 값을 함께 조회
+     *
+     * @return 사용자/세션이 존재하고 토큰 해시가 일치하며 만료되지 않았으면 true
+     */
+    public boolean isActive(Long userId, String email, String sessionId, String refreshToken) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(key(userId), List.of(USER_FIELD, sessionId));
+
+        Object storedEmail = values.get(0);
+        Object session = values.get(1);
+        if (storedEmail == null || !storedEmail.equals(email) || session == null) {
+            log.debug("세션 없음: userId={}, sessionId={}", userId, sessionId);
+            return false;
+        }
+
+        String[] parts = session.toString().split("\\|");
+        if (parts.length != 3) {
+            return false;
+        }
+
+        // 손상되었거나 이전 형식인 값은 만료된 세션으로 본다 (다시 로그인하면 덮어씀)
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(parts[2]);
+        } catch (NumberFormatException e) {
+            log.warn("⚠️ 세션 값 형식 오류: userId={}, sessionId={}", userId, sessionId);
+            return false;
+        }
+
+        boolean tokenMatches = MessageDigest.isEqual(
+                parts[0].getBytes(StandardCharsets.US_ASCII),
+                hash(refreshToken).getBytes(StandardCharsets.US_ASCII));
+        boolean notExpired = expiresAt > System.currentTimeMillis();
+
+        return tokenMatches && notExpired;
+    }
+
+    /**
+     * 세션 삭제 (로그아웃 - 해당 기기만)
+     */
+    public void delete(Long userId, String sessionId) {
+        redisTemplate.opsForHash().delete(key(userId), sessionId);
+
+        log.debug("세션 삭제: userId={}, sessionId={}", userId, sessionId);
+    }
+
+    /**
+     * 전체 세션 삭제 (회원 삭제 등)
+     */
+    public void deleteAll(Long userId) {
+        redisTemplate.unlink(key(userId));
+
+        log.debug("전체 세션 삭제: userId={}", userId);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 전체 세션 삭제 (트랜잭션 밖이면 바로 삭제)
+     * - 회원 삭제가 롤백되면 세션도 그대로 둔다 (남아 있는 회원이 로그아웃되지 않도록)
+     */
+    public void deleteAllAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteAll(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteAll(userId);
+            }
+        });
+    }
+
+    private String key(Long userId) {
+        return SESSION_KEY_PREFIX + userId;
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
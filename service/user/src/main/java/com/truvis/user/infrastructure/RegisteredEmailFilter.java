@@ -0,0 +1,153 @@
+package com.truvis.user.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 가입 이메일 존재 여부 사전 필터
+ * - 시작 시 users 테이블을 스트리밍해서 Bloom Filter 워밍업
+ * - User 저장 시 즉시 반영
+ * - 다른 노드에서 가입한 이메일을 반영하기 위해 주기적으로 재구성
+ *
+ * 워밍업이 끝나기 전에는 항상 "있을 수도 있음"으로 응답해서 DB 조회로 넘긴다.
+ */
+@Component
+@Slf4j
+public class RegisteredEmailFilter {
+
+    private final UserJpaRepository jpaRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile EmailBloomFilter current;
+    private volatile boolean ready = false;
+
+    // 재구성 중인 필터 (재구성 도중 가입한 이메일도 함께 반영)
+    private EmailBloomFilter building;
+
+    // 모니터링용 카운터
+    private final AtomicLong definiteNegatives = new AtomicLong();
+    private final AtomicLong possiblePositives = new AtomicLong();
+
+    public RegisteredEmailFilter(
+            UserJpaRepository jpaRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${user.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.jpaRepository = jpaRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.current = EmailBloomFilter.create(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 🔥 애플리케이션 기동 완료 후 워밍업
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * 🔄 주기적 재구성 (기본 10분)
+     * - 다른 노드에서 가입한 이메일 반영
+     * - 탈퇴한 이메일로 인한 오탐 정리
+     */
+    @Scheduled(
+            fixedDelayString = "${user.email-filter.rebuild-interval-ms:600000}",
+            initialDelayString = "${user.email-filter.rebuild-interval-ms:600000}"
+    )
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        EmailBloomFilter next = EmailBloomFilter.create(expectedInsertions, falsePositiveRate);
+
+        synchronized (this) {
+            building = next;
+        }
+
+        try {
+            Long loaded = readOnlyTransaction.execute(status -> {
+                try (Stream<String> emails = jpaRepository.streamAllEmails()) {
+                    long count = 0;
+                    for (String email : (Iterable<String>) emails::iterator) {
+                        next.put(email);
+                        count++;
+                    }
+                    return count;
+                }
+            });
+
+            synchronized (this) {
+                current = next;
+                building = null;
+            }
+            ready = true;
+
+            log.info("📧 가입 이메일 Bloom Filter 구성 완료: emails={}, bits={}, hashes={}, duration={}ms",
+                    loaded, next.getBitSize(), next.getHashCount(),
+                    System.currentTimeMillis() - startedAt);
+
+        } catch (Exception e) {
+            synchronized (this) {
+                building = null;
+            }
+            // 실패해도 기존 필터 유지 (워밍업 전이면 계속 DB 조회)
+            log.error("❌ 가입 이메일 Bloom Filter 구성 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 가입되어 있을 가능성이 있는지
+     *
+     * @return false면 확실히 미가입 (DB 조회 불필요)
+     */
+    public boolean mightBeRegistered(String email) {
+        if (!ready) {
+            return true;
+        }
+
+        if (current.mightContain(email)) {
+            possiblePositives.incrementAndGet();
+            return true;
+        }
+
+        definiteNegatives.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * 새로 저장된 이메일 반영
+     * - 가입 경로에서만 호출되므로 동기화 비용은 무시할 수준
+     */
+    public synchronized void register(String email) {
+        current.put(email);
+        if (building != null) {
+            building.put(email);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long getDefiniteNegativeCount() {
+        return definiteNegatives.get();
+    }
+
+    public long getPossiblePositiveCount() {
+        return possiblePositives.get();
+    }
+}
@@ -0,0 +1,187 @@
+package com.truvis.user.infrastructure.oauth;
+
+import com.truvis.common.exception.MemberException;
+import com.truvis.user.domain.OAuth2Client;
+import com.truvis.user.domain.SocialUserInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.*;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * OAuth2 Authorization Code 방식 공통 클라이언트 (동기)
+ *
+ * - 토큰 교환 → 사용자 정보 조회의 공통 흐름과 Bulkhead/예외 변환 담당
+ * - 프로바이더별 차이(엔드포인트, 응답 형식)는 설정과 하위 클래스의 변환 메서드로 처리
+ * - OIDC 프로바이더는 토큰 응답의 ID Token을 로컬 검증해서 사용자 정보 조회를 생략 (원격 호출 2회 → 1회)
+ */
+@Slf4j
+public abstract class AbstractOAuth2Client implements OAuth2Client {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final RestTemplate restTemplate;
+    private final OAuth2Bulkhead bulkhead;
+    private final OidcIdTokenVerifier idTokenVerifier;
+    private final OAuth2ProviderProperties properties;
+
+    protected AbstractOAuth2Client(
+            RestTemplate restTemplate,
+            OAuth2Bulkhead bulkhead,
+            OidcIdTokenVerifier idTokenVerifier,
+            OAuth2ProviderProperties properties
+    ) {
+        this.restTemplate = restTemplate;
+        this.bulkhead = bulkhead;
+        this.idTokenVerifier = idTokenVerifier;
+        this.properties = properties;
+    }
+
+    /**
+     * 사용자 정보 응답 → SocialUserInfo
+     */
+    protected abstract SocialUserInfo toSocialUserInfo(Map<String, Object> userInfo);
+
+    /**
+     * 검증된 ID Token 클레임 → SocialUserInfo
+     * - 필요한 클레임(이메일 등)이 없으면 null → 사용자 정보 API로 조회
+     */
+    protected SocialUserInfo fromIdTokenClaims(Map<String, Object> claims) {
+        return null;
+    }
+
+    /**
+     * 토큰 교환 요청에 인가 요청의 state를 함께 보내야 하는지 (네이버는 필수)
+     */
+    protected boolean requiresStateOnTokenRequest() {
+        return false;
+    }
+
+    @Override
+    public String getAccessToken(String code) {
+        return extractAccessToken(exchangeCode(code, null));
+    }
+
+    @Override
+    public SocialUserInfo getUserInfo(String accessToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+
+        HttpEntity<?> request = new HttpEntity<>(headers);
+
+        Map<String, Object> responseBody = call(() -> restTemplate.exchange(
+                properties.userInfoUri(),
+                HttpMethod.GET,
+                request,
+                MAP_TYPE
+        ));
+
+        return toSocialUserInfo(responseBody);
+    }
+
+    @Override
+    public SocialUserInfo fetchUserInfo(String code) {
+        return fetchUserInfo(code, null);
+    }
+
+    @Override
+    public SocialUserInfo fetchUserInfo(String code, String state) {
+        Map<String, Object> tokenResponse = exchangeCode(code, state);
+
+        SocialUserInfo fromIdToken = resolveFromIdToken(tokenResponse);
+        if (fromIdToken != null) {
+            return fromIdToken;
+        }
+
+        return getUserInfo(extractAccessToken(tokenResponse));
+    }
+
+    public OAuth2ProviderProperties getProperties() {
+        return properties;
+    }
+
+    /**
+     * 토큰 교환 요청 파라미터 (동기/비동기 공용)
+     *
+     * @param state 인가 요청의 state (requiresStateOnTokenRequest인 프로바이더만 전달, 없으면 null)
+     */
+    Map<String, String> tokenRequestParams(String code, String state) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("grant_type", "authorization_code");
+        params.put("client_id", properties.clientId());
+        params.put("client_secret", properties.clientSecret());
+        params.put("redirect_uri", properties.redirectUri());
+        params.put("code", code);
+        if (state != null && requiresStateOnTokenRequest()) {
+            params.put("state", state);
+        }
+        return params;
+    }
+
+    String extractAccessToken(Map<String, Object> tokenResponse) {
+        Object accessToken = tokenResponse.get("access_token");
+        if (accessToken == null) {
+            throw MemberException.invalidSocialAccount();
+        }
+        return accessToken.toString();
+    }
+
+    /**
+     * 토큰 응답에 ID Token이 있으면 로컬 검증해서 사용자 정보 생성
+     * @return OIDC 미지원, ID Token 없음, 필요한 클레임 없음이면 null
+     */
+    SocialUserInfo resolveFromIdToken(Map<String, Object> tokenResponse) {
+        Object idToken = tokenResponse.get("id_token");
+        if (idToken == null || !properties.supportsOidc()) {
+            return null;
+        }
+
+        Map<String, Object> claims = idTokenVerifier.verify(
+                properties.discoveryUri(), idToken.toString(), properties.clientId());
+        return fromIdTokenClaims(claims);
+    }
+
+    private Map<String, Object> exchangeCode(String code, String state) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        tokenRequestParams(code, state).forEach(params::add);
+
+        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
+
+        return call(() -> restTemplate.exchange(properties.tokenUri(), HttpMethod.POST, request, MAP_TYPE));
+    }
+
+    /**
+     * 프로바이더 API 호출 (Bulkhead 적용 + 예외 변환)
+     * - 4xx: 잘못된 인가 코드/토큰 → invalidSocialAccount
+     * - 타임아웃, 연결 실패, 5xx → socialProviderUnavailable
+     */
+    private Map<String, Object> call(Supplier<ResponseEntity<Map<String, Object>>> call) {
+        return bulkhead.execute(getProvider(), () -> {
+            try {
+                Map<String, Object> body = call.get().getBody();
+                if (body == null) {
+                    throw MemberException.invalidSocialAccount();
+                }
+                return body;
+            } catch (HttpClientErrorException e) {
+                log.warn("{} 요청 거절: status={}", getProvider(), e.getStatusCode());
+                throw MemberException.invalidSocialAccount();
+            } catch (RestClientException e) {
+                log.error("{} 호출 실패: {}", getProvider(), e.getMessage());
+                throw MemberException.socialProviderUnavailable(getProvider().getDescription());
+            }
+        });
+    }
+}
@@ -0,0 +1,62 @@
+package com.truvis.user.infrastructure.oauth;
+
+import com.truvis.common.exception.MemberException;
+import com.truvis.user.domain.SignUpType;
+import com.truvis.user.domain.SocialUserInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+
+/**
+ * 구글 로그인 (OIDC 지원 - scope에 openid email profile 포함)
+ */
+@Component
+public class GoogleOAuth2Client extends AbstractOAuth2Client {
+
+    public GoogleOAuth2Client(
+            RestTemplate restTemplate,
+            OAuth2Bulkhead bulkhead,
+            OidcIdTokenVerifier idTokenVerifier,
+            @Value("${oauth2.google.client-id:}") String clientId,
+            @Value("${oauth2.google.client-secret:}") String clientSecret,
+            @Value("${oauth2.google.redirect-uri:}") String redirectUri,
+            @Value("${oauth2.google.token-uri:https://oauth2.googleapis.com/token}") String tokenUri,
+            @Value("${oauth2.google.user-info-uri:https://openidconnect.googleapis.com/v1/userinfo}") String userInfoUri,
+            @Value("${oauth2.google.discovery-uri:https://accounts.google.com/.well-known/openid-configuration}") String discoveryUri
+    ) {
+        super(restTemplate, bulkhead, idTokenVerifier, new OAuth2ProviderProperties(
+                clientId, clientSecret, redirectUri, tokenUri, userInfoUri, discoveryUri));
+    }
+
+    @Override
+    public SignUpType getProvider() {
+        return SignUpType.GOOGLE;
+    }
+
+    /**
+     * 구글 응답: { "sub", "email", "name", ... } (ID Token 클레임과 같은 형식)
+     */
+    @Override
+    protected SocialUserInfo toSocialUserInfo(Map<String, Object> responseBody) {
+        // 확인되지 않은 이메일로는 기존 회원과 연결하지 않는다
+        if (responseBody.get("sub") == null || Boolean.FALSE.equals(responseBody.get("email_verified"))) {
+            throw MemberException.invalidSocialAccount();
+        }
+        return SocialUserInfo.of(
+                String.valueOf(responseBody.get("sub")),
+                (String) responseBody.get("email"),
+                (String) responseBody.get("name"),
+                SignUpType.GOOGLE
+        );
+    }
+
+    @Override
+    protected SocialUserInfo fromIdTokenClaims(Map<String, Object> claims) {
+        if (claims.get("email") == null) {
+            return null;
+        }
+        return toSocialUserInfo(claims);
+    }
+}
@@ -0,0 +1,148 @@
+package com.truvis.user.infrastructure.oauth;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.truvis.common.exception.MemberException;
+import com.truvis.user.domain.AsyncOAuth2Client;
+import com.truvis.user.domain.SignUpType;
+import com.truvis.user.domain.SocialUserInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * OAuth2 클라이언트 (논블로킹)
+ * - 동기 클라이언트의 설정/응답 변환을 그대로 쓰고 전송만 JDK HttpClient의 sendAsync로 처리
+ * - 요청마다 응답 타임아웃 적용, Bulkhead는 기다리지 않고 바로 거절
+ * - OIDC 프로바이더는 토큰 응답의 ID Token을 검증해서 사용자 정보 조회를 생략
+ */
+@Slf4j
+public class HttpAsyncOAuth2Client implements AsyncOAuth2Client {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final AbstractOAuth2Client delegate;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final OAuth2Bulkhead bulkhead;
+    private final URI tokenUri;
+    private final URI userInfoUri;
+    private final Duration responseTimeout;
+
+    public HttpAsyncOAuth2Client(
+            AbstractOAuth2Client delegate,
+            HttpClient httpClient,
+            ObjectMapper objectMapper,
+            OAuth2Bulkhead bulkhead,
+            Duration responseTimeout
+    ) {
+        this.delegate = delegate;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.bulkhead = bulkhead;
+        this.tokenUri = URI.create(delegate.getProperties().tokenUri());
+        this.userInfoUri = URI.create(delegate.getProperties().userInfoUri());
+        this.responseTimeout = responseTimeout;
+    }
+
+    @Override
+    public SignUpType getProvider() {
+        return delegate.getProvider();
+    }
+
+    @Override
+    public CompletableFuture<String> getAccessToken(String code) {
+        return exchangeCode(code, null).thenApply(delegate::extractAccessToken);
+    }
+
+    @Override
+    public CompletableFuture<SocialUserInfo> getUserInfo(String accessToken) {
+        HttpRequest request = HttpRequest.newBuilder(userInfoUri)
+                .timeout(responseTimeout)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .GET()
+                .build();
+
+        return send(request).thenApply(delegate::toSocialUserInfo);
+    }
+
+    @Override
+    public CompletableFuture<SocialUserInfo> fetchUserInfo(String code) {
+        return fetchUserInfo(code, null);
+    }
+
+    @Override
+    public CompletableFuture<SocialUserInfo> fetchUserInfo(String code, String state) {
+        return exchangeCode(code, state).thenCompose(tokenResponse -> {
+            SocialUserInfo fromIdToken = delegate.resolveFromIdToken(tokenResponse);
+            if (fromIdToken != null) {
+                return CompletableFuture.completedFuture(fromIdToken);
+            }
+            return getUserInfo(delegate.extractAccessToken(tokenResponse));
+        });
+    }
+
+    private CompletableFuture<Map<String, Object>> exchangeCode(String code, String state) {
+        HttpRequest request = HttpRequest.newBuilder(tokenUri)
+                .timeout(responseTimeout)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(toFormBody(delegate.tokenRequestParams(code, state))))
+                .build();
+
+        return send(request);
+    }
+
+    /**
+     * 요청 전송 + 응답 변환 (Bulkhead 적용)
+     * - 4xx: 잘못된 인가 코드/토큰 → invalidSocialAccount
+     * - 타임아웃, 연결 실패, 5xx → socialProviderUnavailable
+     */
+    private CompletableFuture<Map<String, Object>> send(HttpRequest request) {
+        return bulkhead.executeAsync(getProvider(), () ->
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                        .handle((response, error) -> {
+                            if (error != null) {
+                                log.error("{} 호출 실패: uri={}, error={}", getProvider(), request.uri(), error.toString());
+                                throw MemberException.socialProviderUnavailable(getProvider().getDescription());
+                            }
+                            return parse(request, response);
+                        }));
+    }
+
+    private Map<String, Object> parse(HttpRequest request, HttpResponse<byte[]> response) {
+        int status = response.statusCode();
+        if (status >= 400 && status < 500) {
+            log.warn("{} 요청 거절: uri={}, status={}", getProvider(), request.uri(), status);
+            throw MemberException.invalidSocialAccount();
+        }
+        if (status >= 500) {
+            log.error("{} 서버 오류: uri={}, status={}", getProvider(), request.uri(), status);
+            throw MemberException.socialProviderUnavailable(getProvider().getDescription());
+        }
+
+        try {
+            return objectMapper.readValue(response.body(), MAP_TYPE);
+        } catch (IOException e) {
+            throw MemberException.invalidSocialAccount();
+        }
+    }
+
+    private String toFormBody(Map<String, String> params) {
+        return params.entrySet().stream()
+                .map(entry -> URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8)
+                        + "=" + URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+    }
+}
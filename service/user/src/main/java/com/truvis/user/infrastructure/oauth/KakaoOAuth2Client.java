@@ -1,86 +1,71 @@
 package com.truvis.user.infrastructure.oauth;
 
-import com.truvis.user.domain.OAuth2Client;
+import com.truvis.common.exception.MemberException;
 import com.truvis.user.domain.SignUpType;
 import com.truvis.user.domain.SocialUserInfo;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Component;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Map;
 
-@Slf4j
+/**
+ * 카카오 로그인 (OIDC 지원 - 앱 설정에서 OpenID Connect 활성화 + scope=openid)
+ */
 @Component
-public class KakaoOAuth2Client implements OAuth2Client {
-
-    private final RestTemplate restTemplate;
-    private final String clientId;
-    private final String clientSecret;
-    private final String redirectUri;
+public class KakaoOAuth2Client extends AbstractOAuth2Client {
 
     public KakaoOAuth2Client(
             RestTemplate restTemplate,
-            @Value("${oauth2.kakao.client-id}") String clientId,
-            @Value("${oauth2.kakao.client-secret}") String clientSecret,
-            @Value("${oauth2.kakao.redirect-uri}") String redirectUri
+            OAuth2Bulkhead bulkhead,
+            OidcIdTokenVerifier idTokenVerifier,
+            @Value("${oauth2.kakao.client-id:}") String clientId,
+            @Value("${oauth2.kakao.client-secret:}") String clientSecret,
+            @Value("${oauth2.kakao.redirect-uri:}") String redirectUri,
+            @Value("${oauth2.kakao.token-uri:https://kauth.kakao.com/oauth/token}") String tokenUri,
+            @Value("${oauth2.kakao.user-info-uri:https://kapi.kakao.com/v2/user/me}") String userInfoUri,
+            @Value("${oauth2.kakao.discovery-uri:https://kauth.kakao.com/.well-known/openid-configuration}") String discoveryUri
     ) {
-        this.restTemplate = restTemplate;
-        this.clientId = clientId;
-        this.clientSecret = clientSecret;
-        this.redirectUri = redirectUri;
+        super(restTemplate, bulkhead, idTokenVerifier, new OAuth2ProviderProperties(
+                clientId, clientSecret, redirectUri, tokenUri, userInfoUri, discoveryUri));
     }
 
     @Override
-    public String getAccessToken(String code) {
-        String tokenUrl = "https://kauth.kakao.com/oauth/token";
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
-        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-        params.add("grant_type", "authorization_code");
-        params.add("client_id", clientId);
-        params.add("client_secret", clientSecret);
-        params.add("redirect_uri", redirectUri);
-        params.add("code", code);
-
-        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
-
-        ResponseEntity<Map> response = restTemplate.postForEntity(tokenUrl, request, Map.class);
-        Map<String, Object> responseBody = response.getBody();
-
-        return (String) responseBody.get("access_token");
+    public SignUpType getProvider() {
+        return SignUpType.KAKAO;
     }
 
     @Override
-    public SocialUserInfo getUserInfo(String accessToken) {
-        String userInfoUrl = "https://kapi.kakao.com/v2/user/me";
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(accessToken);
-
-        HttpEntity<?> request = new HttpEntity<>(headers);
-
-        ResponseEntity<Map> response = restTemplate.exchange(
-                userInfoUrl,
-                HttpMethod.GET,
-                request,
-                Map.class
-        );
-
-        Map<String, Object> responseBody = response.getBody();
+    @SuppressWarnings("unchecked")
+    protected SocialUserInfo toSocialUserInfo(Map<String, Object> responseBody) {
         String socialId = String.valueOf(responseBody.get("id"));
 
         Map<String, Object> kakaoAccount = (Map<String, Object>) responseBody.get("kakao_account");
+        if (kakaoAccount == null) {
+            throw MemberException.invalidSocialAccount();
+        }
         String email = (String) kakaoAccount.get("email");
 
         Map<String, Object> profile = (Map<String, Object>) kakaoAccount.get("profile");
-        String name = (String) profile.get("nickname");
+        String name = profile != null ? (String) profile.get("nickname") : null;
 
         return SocialUserInfo.of(socialId, email, name, SignUpType.KAKAO);
     }
-}
\ No newline at end of file
+
+    /**
+     * 카카오 ID Token: sub = 회원번호, email/nickname은 동의한 경우에만 포함
+     */
+    @Override
+    protected SocialUserInfo fromIdTokenClaims(Map<String, Object> claims) {
+        Object email = claims.get("email");
+        if (email == null) {
+            return null;
+        }
+        return SocialUserInfo.of(
+                String.valueOf(claims.get("sub")),
+                email.toString(),
+                (String) claims.get("nickname"),
+                SignUpType.KAKAO
+        );
+    }
+}
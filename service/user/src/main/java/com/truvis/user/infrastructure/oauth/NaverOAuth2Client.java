@@ -0,0 +1,66 @@
+package com.truvis.user.infrastructure.oauth;
+
+import com.truvis.common.exception.MemberException;
+import com.truvis.user.domain.SignUpType;
+import com.truvis.user.domain.SocialUserInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+
+/**
+ * 네이버 로그인 (OIDC 미지원 → 사용자 정보 API 호출)
+ * - 토큰 요청에 인가 요청의 state가 필수
+ */
+@Component
+public class NaverOAuth2Client extends AbstractOAuth2Client {
+
+    public NaverOAuth2Client(
+            RestTemplate restTemplate,
+            OAuth2Bulkhead bulkhead,
+            OidcIdTokenVerifier idTokenVerifier,
+            @Value("${oauth2.naver.client-id:}") String clientId,
+            @Value("${oauth2.naver.client-secret:}") String clientSecret,
+            @Value("${oauth2.naver.redirect-uri:}") String redirectUri,
+            @Value("${oauth2.naver.token-uri:https://nid.naver.com/oauth2.0/token}") String tokenUri,
+            @Value("${oauth2.naver.user-info-uri:https://openapi.naver.com/v1/nid/me}") String userInfoUri
+    ) {
+        super(restTemplate, bulkhead, idTokenVerifier, new OAuth2ProviderProperties(
+                clientId, clientSecret, redirectUri, tokenUri, userInfoUri, null));
+    }
+
+    @Override
+    public SignUpType getProvider() {
+        return SignUpType.NAVER;
+    }
+
+    @Override
+    protected boolean requiresStateOnTokenRequest() {
+        return true;
+    }
+
+    /**
+     * 네이버 응답: { "resultcode": "00", "response": { "id", "email", "name", "nickname" } }
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected SocialUserInfo toSocialUserInfo(Map<String, Object> responseBody) {
+        Map<String, Object> response = (Map<String, Object>) responseBody.get("response");
+        if (response == null || response.get("id") == null) {
+            throw MemberException.invalidSocialAccount();
+        }
+
+        String name = (String) response.get("name");
+        if (name == null) {
+            name = (String) response.get("nickname");
+        }
+
+        return SocialUserInfo.of(
+                String.valueOf(response.get("id")),
+                (String) response.get("email"),
+                name,
+                SignUpType.NAVER
+        );
+    }
+}
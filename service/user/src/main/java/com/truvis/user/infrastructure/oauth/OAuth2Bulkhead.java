@@ -0,0 +1,167 @@
+package com.truvis.user.infrastructure.oauth;
+
+import com.truvis.common.exception.MemberException;
+import com.truvis.user.domain.SignUpType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 소셜 프로바이더별 동시 호출 제한 (Bulkhead) + 호출 지표
+ *
+ * - 프로바이더마다 세마포어를 따로 두어 한 곳(예: 카카오)이 느려져도
+ *   다른 프로바이더와 나머지 API의 스레드를 잡아먹지 않게 한다
+ * - 동기 호출은 최대 maxWait 만큼만 자리를 기다리고, 비동기 호출은 기다리지 않는다
+ * - 자리가 없으면 바로 MemberException.socialProviderBusy
+ */
+@Component
+@Slf4j
+public class OAuth2Bulkhead {
+
+    private final Map<SignUpType, Compartment> compartments = new EnumMap<>(SignUpType.class);
+    private final int maxConcurrentCalls;
+    private final long maxWaitMillis;
+
+    public OAuth2Bulkhead(
+            @Value("${oauth2.http.max-concurrent-per-provider:20}") int maxConcurrentCalls,
+            @Value("${oauth2.http.bulkhead-wait-ms:100}") long maxWaitMillis
+    ) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitMillis = maxWaitMillis;
+        for (SignUpType provider : SignUpType.values()) {
+            compartments.put(provider, new Compartment(maxConcurrentCalls));
+        }
+    }
+
+    /**
+     * 동기 호출 실행
+     */
+    public <T> T execute(SignUpType provider, Supplier<T> call) {
+        Compartment compartment = compartments.get(provider);
+        if (!compartment.tryAcquire(maxWaitMillis)) {
+            throw reject(provider, compartment);
+        }
+
+        long startedAt = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = call.get();
+            success = true;
+            return result;
+        } finally {
+            compartment.release(startedAt, success);
+        }
+    }
+
+    /**
+     * 비동기 호출 실행 (자리가 없으면 기다리지 않고 실패한 Future 반환)
+     * - 자리는 Future가 완료될 때 반납
+     */
+    public <T> CompletableFuture<T> executeAsync(SignUpType provider, Supplier<CompletableFuture<T>> call) {
+        Compartment compartment = compartments.get(provider);
+        if (!compartment.tryAcquire(0)) {
+            return CompletableFuture.failedFuture(reject(provider, compartment));
+        }
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            compartment.release(startedAt, false);
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return future.whenComplete((result, error) -> compartment.release(startedAt, error == null));
+    }
+
+    /**
+     * 프로바이더별 호출 지표 조회
+     */
+    public Metrics getMetrics(SignUpType provider) {
+        return compartments.get(provider).snapshot(maxConcurrentCalls);
+    }
+
+    private MemberException reject(SignUpType provider, Compartment compartment) {
+        compartment.rejected.increment();
+        log.warn("🚧 소셜 로그인 동시 호출 한도 초과: provider={}, limit={}", provider, maxConcurrentCalls);
+        return MemberException.socialProviderBusy(provider.getDescription());
+    }
+
+    /**
+     * 프로바이더별 호출 지표 스냅샷
+     *
+     * @param inFlight 진행 중인 호출 수
+     * @param succeeded 성공 건수
+     * @param failed 실패 건수 (타임아웃, 오류 응답 포함)
+     * @param rejected 동시 호출 한도 초과로 거절된 건수
+     * @param averageLatencyMillis 평균 응답 시간 (ms)
+     * @param maxLatencyMillis 최대 응답 시간 (ms)
+     */
+    public record Metrics(
+            int inFlight,
+            long succeeded,
+            long failed,
+            long rejected,
+            double averageLatencyMillis,
+            double maxLatencyMillis
+    ) {
+    }
+
+    private static class Compartment {
+
+        private final Semaphore permits;
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder totalLatencyNanos = new LongAdder();
+        private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+        Compartment(int maxConcurrentCalls) {
+            this.permits = new Semaphore(maxConcurrentCalls);
+        }
+
+        boolean tryAcquire(long waitMillis) {
+            if (waitMillis <= 0) {
+                return permits.tryAcquire();
+            }
+            try {
+                return permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        void release(long startedAt, boolean success) {
+            permits.release();
+
+            long elapsed = System.nanoTime() - startedAt;
+            totalLatencyNanos.add(elapsed);
+            maxLatencyNanos.accumulate(elapsed);
+            (success ? succeeded : failed).increment();
+        }
+
+        Metrics snapshot(int maxConcurrentCalls) {
+            long completed = succeeded.sum() + failed.sum();
+            double averageNanos = completed == 0 ? 0 : (double) totalLatencyNanos.sum() / completed;
+            return new Metrics(
+                    maxConcurrentCalls - permits.availablePermits(),
+                    succeeded.sum(),
+                    failed.sum(),
+                    rejected.sum(),
+                    averageNanos / 1_000_000,
+                    maxLatencyNanos.get() / 1_000_000.0
+            );
+        }
+    }
+}
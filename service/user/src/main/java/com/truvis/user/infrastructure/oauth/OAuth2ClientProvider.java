@@ -1,22 +1,76 @@
 package com.truvis.user.infrastructure.oauth;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.truvis.common.exception.MemberException;
+import com.truvis.user.domain.AsyncOAuth2Client;
 import com.truvis.user.domain.OAuth2Client;
 import com.truvis.user.domain.SignUpType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * 소셜 로그인 클라이언트 레지스트리
+ * - OAuth2Client 빈을 모두 찾아서 프로바이더별로 등록 (클라이언트 ID가 설정된 것만)
+ * - 공통 클라이언트(AbstractOAuth2Client)는 같은 설정으로 논블로킹 클라이언트도 함께 만든다
+ * - 기동 후 OIDC 프로바이더의 메타데이터/서명 키를 미리 받아둔다
+ */
 @Component
+@Slf4j
 public class OAuth2ClientProvider {
 
-    private final Map<SignUpType, OAuth2Client> clients;
+    private final Map<SignUpType, OAuth2Client> clients = new EnumMap<>(SignUpType.class);
+    private final Map<SignUpType, AsyncOAuth2Client> asyncClients = new EnumMap<>(SignUpType.class);
+    private final OidcProviderMetadataCache metadataCache;
 
-    public OAuth2ClientProvider(KakaoOAuth2Client kakaoClient) {
-        this.clients = Map.of(
-                SignUpType.KAKAO, kakaoClient
-                // 나중에 네이버, 구글 추가
-        );
+    public OAuth2ClientProvider(
+            List<OAuth2Client> discoveredClients,
+            @Qualifier("oAuth2AsyncHttpClient") HttpClient httpClient,
+            ObjectMapper objectMapper,
+            OAuth2Bulkhead bulkhead,
+            OidcProviderMetadataCache metadataCache,
+            @Value("${oauth2.http.response-timeout-ms:3000}") long responseTimeoutMillis
+    ) {
+        this.metadataCache = metadataCache;
+
+        for (OAuth2Client client : discoveredClients) {
+            SignUpType provider = client.getProvider();
+
+            if (client instanceof AbstractOAuth2Client standard && !standard.getProperties().isConfigured()) {
+                log.info("소셜 로그인 미설정 (건너뜀): provider={}", provider);
+                continue;
+            }
+            if (clients.putIfAbsent(provider, client) != null) {
+                throw new IllegalStateException("소셜 로그인 클라이언트가 중복 등록되었습니다: " + provider);
+            }
+            if (client instanceof AbstractOAuth2Client standard) {
+                asyncClients.put(provider, new HttpAsyncOAuth2Client(
+                        standard, httpClient, objectMapper, bulkhead, Duration.ofMillis(responseTimeoutMillis)));
+            }
+        }
+
+        log.info("🔐 소셜 로그인 클라이언트 등록: {}", clients.keySet());
+    }
+
+    /**
+     * 🔥 OIDC 메타데이터 워밍업 (첫 로그인에서 Discovery/JWKS 조회를 기다리지 않도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (OAuth2Client client : clients.values()) {
+            if (client instanceof AbstractOAuth2Client standard && standard.getProperties().supportsOidc()) {
+                metadataCache.refreshAsync(standard.getProperties().discoveryUri());
+            }
+        }
     }
 
     public OAuth2Client getClient(SignUpType provider) {
@@ -28,4 +82,14 @@ public class OAuth2ClientProvider {
 
         return client;
     }
-}
\ No newline at end of file
+
+    public AsyncOAuth2Client getAsyncClient(SignUpType provider) {
+        AsyncOAuth2Client client = asyncClients.get(provider);
+
+        if (client == null) {
+            throw MemberException.unsupportedSocialProvider(provider.name());
+        }
+
+        return client;
+    }
+}
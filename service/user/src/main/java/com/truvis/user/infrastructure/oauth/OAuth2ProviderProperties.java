@@ -0,0 +1,34 @@
+package com.truvis.user.infrastructure.oauth;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * 소셜 프로바이더 연동 설정
+ *
+ * @param clientId 클라이언트 ID (OIDC ID Token의 aud)
+ * @param clientSecret 클라이언트 시크릿
+ * @param redirectUri 리다이렉트 URI
+ * @param tokenUri 토큰 발급 URI
+ * @param userInfoUri 사용자 정보 URI
+ * @param discoveryUri OIDC Discovery 문서 URI (OIDC 미지원이면 빈 값)
+ */
+public record OAuth2ProviderProperties(
+        String clientId,
+        String clientSecret,
+        String redirectUri,
+        String tokenUri,
+        String userInfoUri,
+        String discoveryUri
+) {
+
+    /**
+     * 클라이언트 ID가 설정된 프로바이더만 레지스트리에 등록
+     */
+    public boolean isConfigured() {
+        return StringUtils.hasText(clientId);
+    }
+
+    public boolean supportsOidc() {
+        return StringUtils.hasText(discoveryUri);
+    }
+}
@@ -0,0 +1,126 @@
+package com.truvis.user.infrastructure.oauth;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.truvis.common.exception.MemberException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * OIDC ID Token 로컬 검증 (RS256)
+ * - 서명: 캐시된 JWKS 공개키로 검증 (프로바이더 호출 없음)
+ * - 클레임: iss, aud(= client id), exp 확인
+ */
+@Component
+@Slf4j
+public class OidcIdTokenVerifier {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+    private static final long CLOCK_SKEW_SECONDS = 60;
+
+    private final OidcProviderMetadataCache metadataCache;
+    private final ObjectMapper objectMapper;
+
+    public OidcIdTokenVerifier(OidcProviderMetadataCache metadataCache, ObjectMapper objectMapper) {
+        this.metadataCache = metadataCache;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * ID Token 검증 후 클레임 반환
+     *
+     * @param discoveryUri 프로바이더 Discovery 문서 URI
+     * @param idToken ID Token
+     * @param audience 기대하는 aud (클라이언트 ID)
+     * @throws MemberException 서명/클레임 검증 실패 시 invalidSocialAccount
+     */
+    public Map<String, Object> verify(String discoveryUri, String idToken, String audience) {
+        String[] parts = idToken.split("\\.");
+        if (parts.length != 3) {
+            throw MemberException.invalidSocialAccount();
+        }
+
+        Map<String, Object> header = decode(parts[0]);
+        Map<String, Object> claims = decode(parts[1]);
+        if (!"RS256".equals(header.get("alg"))) {
+            log.warn("지원하지 않는 ID Token 알고리즘: {}", header.get("alg"));
+            throw MemberException.invalidSocialAccount();
+        }
+
+        // 1. 서명 키 조회 (모르는 kid면 키 교체로 보고 한 번 다시 로딩)
+        String keyId = (String) header.get("kid");
+        OidcProviderMetadata metadata = metadataCache.get(discoveryUri);
+        PublicKey key = metadata.findKey(keyId);
+        if (key == null) {
+            metadata = metadataCache.reloadForUnknownKey(discoveryUri);
+            key = metadata.findKey(keyId);
+        }
+        if (key == null) {
+            log.warn("ID Token 서명 키를 찾을 수 없음: kid={}", keyId);
+            throw MemberException.invalidSocialAccount();
+        }
+
+        // 2. 서명 검증
+        if (!verifySignature(parts, key)) {
+            log.warn("ID Token 서명 불일치: kid={}", keyId);
+            throw MemberException.invalidSocialAccount();
+        }
+
+        // 3. 클레임 검증
+        validateClaims(claims, metadata.issuer(), audience);
+        return claims;
+    }
+
+    private boolean verifySignature(String[] parts, PublicKey key) {
+        try {
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initVerify(key);
+            signature.update((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+            return signature.verify(Base64.getUrlDecoder().decode(parts[2]));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void validateClaims(Map<String, Object> claims, String issuer, String audience) {
+        long now = Instant.now().getEpochSecond();
+
+        boolean issuerMatches = issuer.equals(claims.get("iss"));
+        boolean audienceMatches = containsAudience(claims.get("aud"), audience);
+        boolean notExpired = claims.get("exp") instanceof Number exp
+                && exp.longValue() + CLOCK_SKEW_SECONDS > now;
+
+        if (!issuerMatches || !audienceMatches || !notExpired) {
+            log.warn("ID Token 클레임 검증 실패: iss={}, aud={}, exp={}",
+                    claims.get("iss"), claims.get("aud"), claims.get("exp"));
+            throw MemberException.invalidSocialAccount();
+        }
+    }
+
+    private boolean containsAudience(Object aud, String audience) {
+        if (aud instanceof String value) {
+            return value.equals(audience);
+        }
+        if (aud instanceof Collection<?> values) {
+            return values.contains(audience);
+        }
+        return false;
+    }
+
+    private Map<String, Object> decode(String part) {
+        try {
+            return objectMapper.readValue(Base64.getUrlDecoder().decode(part), MAP_TYPE);
+        } catch (Exception e) {
+            throw MemberException.invalidSocialAccount();
+        }
+    }
+}
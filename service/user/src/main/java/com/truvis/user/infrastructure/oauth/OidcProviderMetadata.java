@@ -0,0 +1,29 @@
+package com.truvis.user.infrastructure.oauth;
+
+import java.security.PublicKey;
+import java.util.Map;
+
+/**
+ * OIDC 프로바이더 메타데이터 (Discovery 문서 + 서명 키)
+ *
+ * @param issuer ID Token의 iss 기대값
+ * @param signingKeys kid → 공개키
+ * @param fetchedAtMillis 조회 시각 (ms)
+ */
+public record OidcProviderMetadata(
+        String issuer,
+        Map<String, PublicKey> signingKeys,
+        long fetchedAtMillis
+) {
+
+    /**
+     * kid로 서명 키 조회
+     * - 헤더에 kid가 없으면 키가 하나뿐일 때만 그 키를 사용
+     */
+    public PublicKey findKey(String keyId) {
+        if (keyId == null) {
+            return signingKeys.size() == 1 ? signingKeys.values().iterator().next() : null;
+        }
+        return signingKeys.get(keyId);
+    }
+}
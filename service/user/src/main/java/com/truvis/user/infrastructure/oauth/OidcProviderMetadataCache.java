@@ -0,0 +1,211 @@
+package com.truvis.user.infrastructure.oauth;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OIDC Discovery 문서 + JWKS 캐시 (Refresh-Ahead)
+ *
+ * - TTL의 일정 비율이 지나면 조회는 캐시로 응답하고, 백그라운드에서 미리 갱신
+ * - TTL이 지났거나 처음 조회하면 동기 로딩 (같은 URI는 한 번만)
+ * - 갱신이 실패하면 만료된 메타데이터라도 계속 사용 (프로바이더 장애 시 로그인 유지)
+ * - 모르는 kid가 오면 키 교체로 보고 즉시 다시 로딩 (최소 간격 제한)
+ */
+@Component
+@Slf4j
+public class OidcProviderMetadataCache {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final RestTemplate restTemplate;
+    private final long ttlMillis;
+    private final long refreshAheadMillis;
+    private final long minReloadIntervalMillis;
+
+    private final Map<String, OidcProviderMetadata> entries = new ConcurrentHashMap<>();
+    private final Map<String, Object> loadLocks = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "oidc-metadata-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 모니터링용 카운터
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong loadFailureCount = new AtomicLong();
+
+    public OidcProviderMetadataCache(
+            RestTemplate restTemplate,
+            @Value("${oauth2.oidc.cache-ttl-ms:3600000}") long ttlMillis,
+            @Value("${oauth2.oidc.refresh-ahead-ratio:0.8}") double refreshAheadRatio,
+            @Value("${oauth2.oidc.min-reload-interval-ms:60000}") long minReloadIntervalMillis
+    ) {
+        this.restTemplate = restTemplate;
+        this.ttlMillis = ttlMillis;
+        this.refreshAheadMillis = (long) (ttlMillis * refreshAheadRatio);
+        this.minReloadIntervalMillis = minReloadIntervalMillis;
+    }
+
+    /**
+     * 메타데이터 조회
+     */
+    public OidcProviderMetadata get(String discoveryUri) {
+        OidcProviderMetadata cached = entries.get(discoveryUri);
+        if (cached == null) {
+            return loadOnce(discoveryUri, null);
+        }
+
+        long age = System.currentTimeMillis() - cached.fetchedAtMillis();
+        if (age >= ttlMillis) {
+            return loadOnce(discoveryUri, cached);
+        }
+        if (age >= refreshAheadMillis) {
+            refreshAsync(discoveryUri);
+        }
+        return cached;
+    }
+
+    /**
+     * 모르는 kid를 만났을 때 다시 로딩 (키 교체 대응)
+     * - 최근에 로딩했다면 그대로 반환 (위조 토큰으로 프로바이더를 두드리는 것 방지)
+     */
+    public OidcProviderMetadata reloadForUnknownKey(String discoveryUri) {
+        OidcProviderMetadata cached = entries.get(discoveryUri);
+        if (cached != null && System.currentTimeMillis() - cached.fetchedAtMillis() < minReloadIntervalMillis) {
+            return cached;
+        }
+        return loadOnce(discoveryUri, cached);
+    }
+
+    /**
+     * 백그라운드 갱신 (같은 URI는 동시에 하나만)
+     */
+    public void refreshAsync(String discoveryUri) {
+        if (!refreshing.add(discoveryUri)) {
+            return;
+        }
+
+        refresher.execute(() -> {
+            try {
+                load(discoveryUri);
+            } catch (Exception e) {
+                log.warn("OIDC 메타데이터 갱신 실패 (기존 값 유지): uri={}, error={}", discoveryUri, e.getMessage());
+            } finally {
+                refreshing.remove(discoveryUri);
+            }
+        });
+    }
+
+    private OidcProviderMetadata loadOnce(String discoveryUri, OidcProviderMetadata stale) {
+        synchronized (loadLocks.computeIfAbsent(discoveryUri, uri -> new Object())) {
+            // 기다리는 동안 다른 스레드가 로딩했으면 그 결과 사용
+            OidcProviderMetadata current = entries.get(discoveryUri);
+            if (current != null && current != stale) {
+                return current;
+            }
+
+            try {
+                return load(discoveryUri);
+            } catch (Exception e) {
+                if (stale == null) {
+                    throw e;
+                }
+                log.warn("OIDC 메타데이터 로딩 실패 (만료된 값 사용): uri={}, error={}", discoveryUri, e.getMessage());
+                return stale;
+            }
+        }
+    }
+
+    private OidcProviderMetadata load(String discoveryUri) {
+        try {
+            Map<String, Object> discovery = fetchJson(discoveryUri);
+            String issuer = (String) discovery.get("issuer");
+            String jwksUri = (String) discovery.get("jwks_uri");
+            if (issuer == null || jwksUri == null) {
+                throw new IllegalStateException("issuer 또는 jwks_uri가 없는 Discovery 문서입니다: " + discoveryUri);
+            }
+
+            Map<String, PublicKey> keys = parseJwks(fetchJson(jwksUri));
+            OidcProviderMetadata metadata = new OidcProviderMetadata(issuer, keys, System.currentTimeMillis());
+            entries.put(discoveryUri, metadata);
+            loadCount.incrementAndGet();
+
+            log.info("🔑 OIDC 메타데이터 로딩: issuer={}, keys={}", issuer, keys.keySet());
+            return metadata;
+        } catch (RuntimeException e) {
+            loadFailureCount.incrementAndGet();
+            throw e;
+        }
+    }
+
+    private Map<String, Object> fetchJson(String uri) {
+        Map<String, Object> body = restTemplate.exchange(uri, HttpMethod.GET, null, MAP_TYPE).getBody();
+        if (body == null) {
+            throw new IllegalStateException("빈 응답: " + uri);
+        }
+        return body;
+    }
+
+    /**
+     * JWKS에서 RSA 서명 키만 추출
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, PublicKey> parseJwks(Map<String, Object> jwks) {
+        Map<String, PublicKey> keys = new HashMap<>();
+        List<Map<String, Object>> jwkList = (List<Map<String, Object>>) jwks.getOrDefault("keys", List.of());
+
+        for (Map<String, Object> jwk : jwkList) {
+            if (!"RSA".equals(jwk.get("kty")) || "enc".equals(jwk.get("use"))) {
+                continue;
+            }
+            try {
+                keys.put(String.valueOf(jwk.get("kid")), toRsaPublicKey((String) jwk.get("n"), (String) jwk.get("e")));
+            } catch (Exception e) {
+                log.warn("잘못된 JWK 무시: kid={}, error={}", jwk.get("kid"), e.getMessage());
+            }
+        }
+        return Map.copyOf(keys);
+    }
+
+    private PublicKey toRsaPublicKey(String modulus, String exponent) throws Exception {
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        RSAPublicKeySpec spec = new RSAPublicKeySpec(
+                new BigInteger(1, decoder.decode(modulus)),
+                new BigInteger(1, decoder.decode(exponent)));
+        return KeyFactory.getInstance("RSA").generatePublic(spec);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdown();
+    }
+
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailureCount.get();
+    }
+}
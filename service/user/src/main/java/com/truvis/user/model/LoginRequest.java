@@ -9,6 +9,8 @@ public record LoginRequest(
         String email,
 
         @NotBlank(message = "비밀번호는 필수입니다.")
-        String password
+        String password,
+
+        String deviceId  // 선택: 기기 식별자 (없으면 새 세션 발급)
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.truvis.user.model;
+
+import com.truvis.user.domain.SignUpType;
+
+/**
+ * 소셜 로그인 state 발급 응답
+ * - 프론트엔드는 인가 요청 URL에 state를 붙이고, 콜백으로 받은 state를 로그인 요청에 그대로 보낸다
+ */
+public record SocialAuthStateResponse(
+        SignUpType provider,
+        String state,
+        long expiresInSeconds
+) {
+}
@@ -12,6 +12,11 @@ public record SocialLoginRequest(
         SignUpType provider,  // KAKAO, NAVER, GOOGLE
 
         @NotBlank(message = "Authorization Code는 필수입니다")
-        String code
+        String code,
+
+        @NotBlank(message = "state는 필수입니다")
+        String state,  // 인가 요청 시작 때 발급받은 state (콜백으로 돌아온 값, oauth2_state 쿠키와 같아야 함)
+
+        String deviceId  // 선택: 기기 식별자 (없으면 새 세션 발급)
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.truvis.user.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("EmailBloomFilter 테스트")
+class EmailBloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 이메일은 항상 있을 수도 있음으로 응답")
+    void noFalseNegative() {
+        // given
+        EmailBloomFilter filter = EmailBloomFilter.create(10_000, 0.01);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@truvis.com");
+        }
+
+        // then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i + "@truvis.com")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("오탐률은 설정값 근처로 유지")
+    void falsePositiveRateWithinBound() {
+        // given
+        EmailBloomFilter filter = EmailBloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@truvis.com");
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("bot" + i + "@spam.com")) {
+                falsePositives++;
+            }
+        }
+
+        // then (1% 설정, 여유를 두고 2% 이하)
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("잘못된 오탐률은 예외")
+    void invalidFalsePositiveRate() {
+        assertThatThrownBy(() -> EmailBloomFilter.create(100, 1.5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("오탐률");
+    }
+}
@@ -0,0 +1,158 @@
+package com.truvis.user.infrastructure;
+
+import com.truvis.user.domain.Email;
+import com.truvis.user.domain.EmailVerification;
+import com.truvis.user.domain.EmailVerificationAttemptResult;
+import com.truvis.user.domain.EmailVerificationStatus;
+import com.truvis.user.domain.VerificationCode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 실제 Redis로 인증번호 검증 Lua 스크립트 확인 (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RedisEmailVerificationRepository 인증번호 검증 테스트")
+class RedisEmailVerificationRepositoryTest {
+
+    private static final Email EMAIL = Email.of("user@truvis.com");
+    private static final String CODE = "123456";
+    private static final String WRONG_CODE = "654321";
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisEmailVerificationRepository repository;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        repository = new RedisEmailVerificationRepository(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("맞는 인증번호는 한 번만 인증 완료, 완료 마크 저장")
+    void verifyOnce() {
+        // given
+        repository.save(verification(LocalDateTime.now().plusMinutes(10)));
+
+        // when & then
+        assertThat(repository.verifyCode(EMAIL, CODE)).isEqualTo(EmailVerificationAttemptResult.VERIFIED);
+        assertThat(repository.existsVerifiedEmail(EMAIL)).isTrue();
+        assertThat(repository.findByEmail(EMAIL).orElseThrow().isVerified()).isTrue();
+        assertThat(repository.verifyCode(EMAIL, CODE)).isEqualTo(EmailVerificationAttemptResult.ALREADY_VERIFIED);
+    }
+
+    @Test
+    @DisplayName("MAX_FAILED_ATTEMPTS번 틀리면 잠금 - 이후에는 맞는 인증번호도 거절")
+    void lockAfterMaxFailedAttempts() {
+        // given
+        repository.save(verification(LocalDateTime.now().plusMinutes(10)));
+
+        // when
+        for (int i = 1; i < EmailVerification.MAX_FAILED_ATTEMPTS; i++) {
+            assertThat(repository.verifyCode(EMAIL, WRONG_CODE)).isEqualTo(EmailVerificationAttemptResult.CODE_MISMATCH);
+            assertThat(repository.findByEmail(EMAIL).orElseThrow().getFailedAttempts()).isEqualTo(i);
+        }
+        EmailVerificationAttemptResult last = repository.verifyCode(EMAIL, WRONG_CODE);
+
+        // then
+        assertThat(last).isEqualTo(EmailVerificationAttemptResult.TOO_MANY_ATTEMPTS);
+        assertThat(repository.findByEmail(EMAIL).orElseThrow().isLocked()).isTrue();
+        assertThat(repository.verifyCode(EMAIL, CODE)).isEqualTo(EmailVerificationAttemptResult.TOO_MANY_ATTEMPTS);
+        assertThat(repository.existsVerifiedEmail(EMAIL)).isFalse();
+
+        // 잠긴 뒤에는 실패 횟수도 더 늘지 않음
+        assertThat(repository.findByEmail(EMAIL).orElseThrow().getFailedAttempts())
+                .isEqualTo(EmailVerification.MAX_FAILED_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("재발송(다시 저장)하면 실패 횟수와 잠금이 풀림")
+    void resendResetsAttempts() {
+        // given
+        repository.save(verification(LocalDateTime.now().plusMinutes(10)));
+        for (int i = 0; i < EmailVerification.MAX_FAILED_ATTEMPTS; i++) {
+            repository.verifyCode(EMAIL, WRONG_CODE);
+        }
+
+        // when
+        repository.save(verification(LocalDateTime.now().plusMinutes(10)));
+
+        // then
+        assertThat(repository.findByEmail(EMAIL).orElseThrow().getFailedAttempts()).isZero();
+        assertThat(repository.verifyCode(EMAIL, CODE)).isEqualTo(EmailVerificationAttemptResult.VERIFIED);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 인증번호는 맞아도 만료, 요청이 없으면 없음")
+    void expiredAndMissing() {
+        // given (키 TTL은 남아 있지만 만료 시각은 지남)
+        repository.save(verification(LocalDateTime.now().minusSeconds(1)));
+
+        // when & then
+        assertThat(repository.verifyCode(EMAIL, CODE)).isEqualTo(EmailVerificationAttemptResult.EXPIRED);
+        assertThat(repository.existsVerifiedEmail(EMAIL)).isFalse();
+        assertThat(repository.verifyCode(Email.of("none@truvis.com"), CODE))
+                .isEqualTo(EmailVerificationAttemptResult.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("삭제하면 인증 요청과 완료 마크가 함께 사라짐")
+    void deleteBothKeys() {
+        // given
+        repository.save(verification(LocalDateTime.now().plusMinutes(10)));
+        repository.verifyCode(EMAIL, CODE);
+
+        // when
+        repository.delete(EMAIL);
+
+        // then
+        assertThat(repository.findByEmail(EMAIL)).isEmpty();
+        assertThat(repository.existsVerifiedEmail(EMAIL)).isFalse();
+    }
+
+    private static EmailVerification verification(LocalDateTime expiresAt) {
+        return EmailVerification.builder()
+                .email(EMAIL)
+                .code(VerificationCode.of(CODE))
+                .createdAt(LocalDateTime.now())
+                .expiresAt(expiresAt)
+                .status(EmailVerificationStatus.PENDING)
+                .build();
+    }
+}
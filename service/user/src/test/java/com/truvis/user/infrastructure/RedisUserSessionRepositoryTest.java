@@ -0,0 +1,166 @@
+package com.truvis.user.infrastructure;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 실제 Redis로 세션 저장 스크립트와 검증 확인 (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RedisUserSessionRepository 세션 테스트")
+class RedisUserSessionRepositoryTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String EMAIL = "user@truvis.com";
+    private static final long HOUR = 3_600_000L;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisUserSessionRepository repository;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        repository = new RedisUserSessionRepository(redisTemplate, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("저장한 세션은 같은 사용자/기기/토큰으로만 유효")
+    void saveAndValidate() {
+        // given
+        repository.save(USER_ID, EMAIL, "phone", "token-1", System.currentTimeMillis() + HOUR);
+
+        // then
+        assertThat(repository.isActive(USER_ID, EMAIL, "phone", "token-1")).isTrue();
+        assertThat(repository.isActive(USER_ID, EMAIL, "phone", "token-2")).isFalse();
+        assertThat(repository.isActive(USER_ID, "other@truvis.com", "phone", "token-1")).isFalse();
+        assertThat(repository.isActive(USER_ID, EMAIL, "laptop", "token-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시 세션 수를 넘으면 가장 오래된 기기부터 제거")
+    void evictOldestSession() throws InterruptedException {
+        // given (최대 2개)
+        long expiresAt = System.currentTimeMillis() + HOUR;
+        repository.save(USER_ID, EMAIL, "phone", "token-1", expiresAt);
+        Thread.sleep(2);
+        repository.save(USER_ID, EMAIL, "laptop", "token-2", expiresAt);
+        Thread.sleep(2);
+
+        // when
+        repository.save(USER_ID, EMAIL, "tablet", "token-3", expiresAt);
+
+        // then
+        assertThat(repository.isActive(USER_ID, EMAIL, "phone", "token-1")).isFalse();
+        assertThat(repository.isActive(USER_ID, EMAIL, "laptop", "token-2")).isTrue();
+        assertThat(repository.isActive(USER_ID, EMAIL, "tablet", "token-3")).isTrue();
+    }
+
+    @Test
+    @DisplayName("손상되었거나 이전 형식인 세션 값은 예외 없이 무효")
+    void rejectCorruptedValue() {
+        // given
+        repository.save(USER_ID, EMAIL, "phone", "token-1", System.currentTimeMillis() + HOUR);
+        redisTemplate.opsForHash().put("session:" + USER_ID, "phone", "hash|123|not-a-number");
+        redisTemplate.opsForHash().put("session:" + USER_ID, "legacy", "hash-only");
+
+        // then
+        assertThat(repository.isActive(USER_ID, EMAIL, "phone", "token-1")).isFalse();
+        assertThat(repository.isActive(USER_ID, EMAIL, "legacy", "token-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 전체 삭제는 커밋된 뒤에만 반영")
+    void deleteAllAfterCommit() {
+        // given
+        repository.save(USER_ID, EMAIL, "phone", "token-1", System.currentTimeMillis() + HOUR);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        repository.deleteAllAfterCommit(USER_ID);
+
+        // then
+        assertThat(repository.isActive(USER_ID, EMAIL, "phone", "token-1")).isTrue();
+        completeTransaction(TransactionSynchronization::afterCommit);
+        assertThat(repository.isActive(USER_ID, EMAIL, "phone", "token-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 세션 유지")
+    void keepSessionsOnRollback() {
+        // given
+        repository.save(USER_ID, EMAIL, "phone", "token-1", System.currentTimeMillis() + HOUR);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        repository.deleteAllAfterCommit(USER_ID);
+        completeTransaction(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        assertThat(repository.isActive(USER_ID, EMAIL, "phone", "token-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 바로 삭제")
+    void deleteAllWithoutTransaction() {
+        // given
+        repository.save(USER_ID, EMAIL, "phone", "token-1", System.currentTimeMillis() + HOUR);
+
+        // when
+        repository.deleteAllAfterCommit(USER_ID);
+
+        // then
+        assertThat(repository.isActive(USER_ID, EMAIL, "phone", "token-1")).isFalse();
+    }
+
+    private static void completeTransaction(Consumer<TransactionSynchronization> completion) {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(completion);
+    }
+}
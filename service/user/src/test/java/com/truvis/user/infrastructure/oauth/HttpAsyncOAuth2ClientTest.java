@@ -0,0 +1,306 @@
+package com.truvis.user.infrastructure.oauth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.truvis.common.exception.MemberException;
+import com.truvis.user.domain.SignUpType;
+import com.truvis.user.domain.SocialUserInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HttpAsyncOAuth2Client 테스트 (로컬 스텁 서버)")
+class HttpAsyncOAuth2ClientTest {
+
+    private static final String USER_INFO_JSON = """
+            {"id":1234567890,"kakao_account":{"email":"kakao@test.com","profile":{"nickname":"트루비스"}}}
+            """;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private HttpServer server;
+    private String baseUrl;
+    private KeyPair signingKey;
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger userInfoCalls = new AtomicInteger();
+    private volatile int tokenStatus = 200;
+    private volatile boolean slowToken = false;
+    private volatile String idToken = null;
+    private volatile String naverTokenRequest = null;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        signingKey = generator.generateKeyPair();
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        server.createContext("/oauth/token", exchange -> {
+            if (slowToken) {
+                await(release);
+            }
+            String body = idToken == null
+                    ? "{\"access_token\":\"kakao-access-token\"}"
+                    : "{\"access_token\":\"kakao-access-token\",\"id_token\":\"" + idToken + "\"}";
+            respond(exchange, tokenStatus, body);
+        });
+        server.createContext("/v2/user/me", exchange -> {
+            userInfoCalls.incrementAndGet();
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            boolean authorized = "Bearer kakao-access-token".equals(authorization);
+            respond(exchange, authorized ? 200 : 401, authorized ? USER_INFO_JSON : "{}");
+        });
+        server.createContext("/naver/token", exchange -> {
+            naverTokenRequest = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            respond(exchange, 200, "{\"access_token\":\"naver-access-token\"}");
+        });
+        server.createContext("/naver/me", exchange -> respond(exchange, 200,
+                "{\"resultcode\":\"00\",\"response\":{\"id\":\"naver-1\",\"email\":\"naver@test.com\",\"name\":\"트루비스\"}}"));
+        server.createContext("/.well-known/openid-configuration", exchange ->
+                respond(exchange, 200, OBJECT_MAPPER.writeValueAsString(Map.of(
+                        "issuer", baseUrl,
+                        "jwks_uri", baseUrl + "/jwks"))));
+        server.createContext("/jwks", exchange -> {
+            RSAPublicKey publicKey = (RSAPublicKey) signingKey.getPublic();
+            respond(exchange, 200, OBJECT_MAPPER.writeValueAsString(Map.of("keys", new Object[]{Map.of(
+                    "kty", "RSA",
+                    "kid", "test-key",
+                    "use", "sig",
+                    "n", base64Url(publicKey.getModulus().toByteArray()),
+                    "e", base64Url(publicKey.getPublicExponent().toByteArray()))})));
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("인가 코드로 토큰 발급 후 사용자 정보 조회")
+    void fetchUserInfo() throws Exception {
+        // given
+        HttpAsyncOAuth2Client client = createClient(new OAuth2Bulkhead(10, 0), 1000);
+
+        // when
+        SocialUserInfo userInfo = client.fetchUserInfo("auth-code").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(userInfo.getSocialId()).isEqualTo("1234567890");
+        assertThat(userInfo.getEmail()).isEqualTo("kakao@test.com");
+        assertThat(userInfo.getName()).isEqualTo("트루비스");
+        assertThat(userInfo.getProvider()).isEqualTo(SignUpType.KAKAO);
+        assertThat(userInfoCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ID Token이 오면 로컬 검증으로 사용자 정보 조회 호출 생략")
+    void fetchUserInfoFromIdToken() throws Exception {
+        // given
+        idToken = signIdToken(Map.of(
+                "iss", baseUrl,
+                "aud", "client-id",
+                "sub", "1234567890",
+                "email", "kakao@test.com",
+                "nickname", "트루비스",
+                "exp", Instant.now().plusSeconds(300).getEpochSecond()));
+        HttpAsyncOAuth2Client client = createClient(new OAuth2Bulkhead(10, 0), 1000);
+
+        // when
+        SocialUserInfo userInfo = client.fetchUserInfo("auth-code").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(userInfo.getSocialId()).isEqualTo("1234567890");
+        assertThat(userInfo.getEmail()).isEqualTo("kakao@test.com");
+        assertThat(userInfoCalls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 aud로 발급된 ID Token은 거절")
+    void rejectIdTokenForOtherAudience() {
+        // given
+        idToken = signIdToken(Map.of(
+                "iss", baseUrl,
+                "aud", "other-client",
+                "sub", "1234567890",
+                "email", "kakao@test.com",
+                "exp", Instant.now().plusSeconds(300).getEpochSecond()));
+        HttpAsyncOAuth2Client client = createClient(new OAuth2Bulkhead(10, 0), 1000);
+
+        // when & then
+        assertThatThrownBy(() -> client.fetchUserInfo("auth-code").get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(MemberException.class)
+                .hasMessageContaining("유효하지 않은 소셜 계정");
+    }
+
+    @Test
+    @DisplayName("네이버 토큰 요청에는 인가 요청의 state를 함께 보낸다")
+    void naverTokenRequestCarriesState() throws Exception {
+        // given
+        OAuth2Bulkhead bulkhead = new OAuth2Bulkhead(10, 0);
+        NaverOAuth2Client naverClient = new NaverOAuth2Client(
+                new RestTemplate(), bulkhead, null, "client-id", "client-secret", "http://localhost/callback",
+                baseUrl + "/naver/token", baseUrl + "/naver/me");
+        HttpAsyncOAuth2Client client = new HttpAsyncOAuth2Client(
+                naverClient, HttpClient.newHttpClient(), OBJECT_MAPPER, bulkhead, Duration.ofSeconds(1));
+
+        // when
+        SocialUserInfo userInfo = client.fetchUserInfo("auth-code", "issued-state").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(userInfo.getSocialId()).isEqualTo("naver-1");
+        assertThat(naverTokenRequest).contains("code=auth-code").contains("state=issued-state");
+    }
+
+    @Test
+    @DisplayName("state를 요구하지 않는 프로바이더의 토큰 요청에는 state를 보내지 않는다")
+    void stateIsOnlySentWhenRequired() {
+        // given
+        KakaoOAuth2Client kakaoClient = new KakaoOAuth2Client(
+                new RestTemplate(), new OAuth2Bulkhead(10, 0), null, "client-id", "client-secret",
+                "http://localhost/callback", baseUrl + "/oauth/token", baseUrl + "/v2/user/me", "");
+
+        // when & then
+        assertThat(kakaoClient.tokenRequestParams("auth-code", "issued-state")).doesNotContainKey("state");
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 유효하지 않은 소셜 계정 예외")
+    void clientErrorIsInvalidSocialAccount() {
+        // given
+        tokenStatus = 400;
+        HttpAsyncOAuth2Client client = createClient(new OAuth2Bulkhead(10, 0), 1000);
+
+        // when & then
+        assertThatThrownBy(() -> client.getAccessToken("wrong-code").get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(MemberException.class)
+                .hasMessageContaining("유효하지 않은 소셜 계정");
+    }
+
+    @Test
+    @DisplayName("응답이 타임아웃을 넘기면 프로바이더 응답 없음 예외")
+    void timeoutIsProviderUnavailable() {
+        // given
+        slowToken = true;
+        HttpAsyncOAuth2Client client = createClient(new OAuth2Bulkhead(10, 0), 200);
+
+        // when & then
+        assertThatThrownBy(() -> client.getAccessToken("auth-code").get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(MemberException.class)
+                .hasMessageContaining("응답이 없습니다");
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 기다리지 않고 바로 거절, 완료 후 자리 반납")
+    void bulkheadRejectsWhenFull() throws Exception {
+        // given (동시 1건)
+        slowToken = true;
+        OAuth2Bulkhead bulkhead = new OAuth2Bulkhead(1, 0);
+        HttpAsyncOAuth2Client client = createClient(bulkhead, 5000);
+        CompletableFuture<String> first = client.getAccessToken("first");
+
+        // when
+        CompletableFuture<String> second = client.getAccessToken("second");
+
+        // then
+        assertThatThrownBy(() -> second.get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(MemberException.class)
+                .hasMessageContaining("요청이 많습니다");
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("kakao-access-token");
+
+        OAuth2Bulkhead.Metrics metrics = bulkhead.getMetrics(SignUpType.KAKAO);
+        assertThat(metrics.inFlight()).isZero();
+        assertThat(metrics.succeeded()).isEqualTo(1);
+        assertThat(metrics.rejected()).isEqualTo(1);
+    }
+
+    private HttpAsyncOAuth2Client createClient(OAuth2Bulkhead bulkhead, long responseTimeoutMillis) {
+        RestTemplate restTemplate = new RestTemplate();
+        OidcIdTokenVerifier verifier = new OidcIdTokenVerifier(
+                new OidcProviderMetadataCache(restTemplate, 3_600_000, 0.8, 60_000), OBJECT_MAPPER);
+
+        KakaoOAuth2Client kakaoClient = new KakaoOAuth2Client(
+                restTemplate,
+                bulkhead,
+                verifier,
+                "client-id",
+                "client-secret",
+                "http://localhost/callback",
+                baseUrl + "/oauth/token",
+                baseUrl + "/v2/user/me",
+                baseUrl + "/.well-known/openid-configuration"
+        );
+
+        return new HttpAsyncOAuth2Client(
+                kakaoClient, HttpClient.newHttpClient(), OBJECT_MAPPER, bulkhead, Duration.ofMillis(responseTimeoutMillis));
+    }
+
+    private String signIdToken(Map<String, Object> claims) {
+        try {
+            String header = base64Url(OBJECT_MAPPER.writeValueAsBytes(Map.of("alg", "RS256", "kid", "test-key")));
+            String payload = base64Url(OBJECT_MAPPER.writeValueAsBytes(claims));
+
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initSign(signingKey.getPrivate());
+            signature.update((header + "." + payload).getBytes(StandardCharsets.US_ASCII));
+            return header + "." + payload + "." + base64Url(signature.sign());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}